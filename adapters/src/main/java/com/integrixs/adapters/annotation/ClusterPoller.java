@@ -0,0 +1,15 @@
+package com.integrixs.adapters.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a scheduled method that polls an external system and must run on a single cluster member at a time.
+ * Node - local housekeeping(cache cleanup, metrics) must not carry this annotation.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ClusterPoller {
+}
@@ -6,6 +6,7 @@ import org.slf4j.LoggerFactory;
 import com.integrixs.adapters.core.AbstractInboundAdapter;
 import com.integrixs.adapters.domain.model.AdapterConfiguration;
 import com.integrixs.shared.dto.MessageDTO;
+import com.integrixs.shared.util.JsonCodec;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.Map;
 
@@ -16,7 +17,7 @@ import java.util.Map;
 public abstract class AbstractCollaborationInboundAdapter extends AbstractInboundAdapter {
     private static final Logger log = LoggerFactory.getLogger(AbstractCollaborationInboundAdapter.class);
 
-    protected final ObjectMapper objectMapper = new ObjectMapper();
+    protected final ObjectMapper objectMapper = JsonCodec.mapper();
 
 
     protected AbstractCollaborationInboundAdapter() {
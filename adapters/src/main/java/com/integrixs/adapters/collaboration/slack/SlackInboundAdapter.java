@@ -16,6 +16,7 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
+import com.integrixs.adapters.annotation.ClusterPoller;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
@@ -618,6 +619,7 @@ public class SlackInboundAdapter extends AbstractSocialMediaInboundAdapter {
     }
 
     // Polling methods for workspace data
+    @ClusterPoller
     @Scheduled(fixedDelayString = "${integrixs.adapters.slack.polling.users:3600000}")
     public void pollUsers() {
         if(!config.getFeatures().isEnableMessaging()) {
@@ -648,6 +650,7 @@ public class SlackInboundAdapter extends AbstractSocialMediaInboundAdapter {
         }
     }
 
+    @ClusterPoller
     @Scheduled(fixedDelayString = "${integrixs.adapters.slack.polling.channels:1800000}")
     public void pollChannels() {
         if(!config.getFeatures().isEnableChannels()) {
@@ -680,6 +683,7 @@ public class SlackInboundAdapter extends AbstractSocialMediaInboundAdapter {
         }
     }
 
+    @ClusterPoller
     @Scheduled(fixedDelayString = "${integrixs.adapters.slack.polling.team:86400000}")
     public void pollTeamInfo() {
         try {
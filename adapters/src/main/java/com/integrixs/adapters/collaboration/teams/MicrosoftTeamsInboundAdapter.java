@@ -18,6 +18,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
+import com.integrixs.adapters.annotation.ClusterPoller;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
@@ -485,6 +486,7 @@ public class MicrosoftTeamsInboundAdapter extends AbstractSocialMediaInboundAdap
     }
 
     // Polling methods
+    @ClusterPoller
     @Scheduled(fixedDelayString = "${integrixs.adapters.teams.polling.teams:3600000}")
     public void pollTeams() {
         if(!config.getFeatures().isEnableTeams()) {
@@ -517,6 +519,7 @@ public class MicrosoftTeamsInboundAdapter extends AbstractSocialMediaInboundAdap
         }
     }
 
+    @ClusterPoller
     @Scheduled(fixedDelayString = "${integrixs.adapters.teams.polling.channels:1800000}")
     public void pollChannels() {
         if(!config.getFeatures().isEnableChannels()) {
@@ -546,6 +549,7 @@ public class MicrosoftTeamsInboundAdapter extends AbstractSocialMediaInboundAdap
         }
     }
 
+    @ClusterPoller
     @Scheduled(fixedDelayString = "${integrixs.adapters.teams.polling.users:3600000}")
     public void pollUsers() {
         try {
@@ -573,6 +577,7 @@ public class MicrosoftTeamsInboundAdapter extends AbstractSocialMediaInboundAdap
         }
     }
 
+    @ClusterPoller
     @Scheduled(fixedDelayString = "${integrixs.adapters.teams.polling.meetings:900000}")
     public void pollMeetings() {
         if(!config.getFeatures().isEnableMeetings()) {
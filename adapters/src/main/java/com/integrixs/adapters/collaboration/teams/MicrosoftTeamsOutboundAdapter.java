@@ -8,6 +8,7 @@ import com.integrixs.adapters.social.base.SocialMediaAdapterConfig;
 import com.integrixs.adapters.collaboration.teams.MicrosoftTeamsApiConfig.*;
 import com.integrixs.adapters.core.AdapterResult;
 import com.integrixs.adapters.domain.model.AdapterConfiguration;
+import com.integrixs.adapters.infrastructure.service.OAuth2Credential;
 import com.integrixs.shared.dto.MessageDTO;
 import com.integrixs.shared.exceptions.AdapterException;
 import com.integrixs.shared.services.RateLimiterService;
@@ -43,7 +44,6 @@ public class MicrosoftTeamsOutboundAdapter extends AbstractSocialMediaOutboundAd
     }
 
     private static final String LOGIN_URL = "https://login.microsoftonline.com/%s/oauth2/v2.0/token";
-    private static final long TOKEN_REFRESH_BUFFER = 300000; // 5 minutes before expiry
     private static final int MAX_BATCH_REQUESTS = 20;
 
     @Autowired
@@ -56,9 +56,7 @@ public class MicrosoftTeamsOutboundAdapter extends AbstractSocialMediaOutboundAd
     private ObjectMapper objectMapper;
 
     // Authentication
-    private String accessToken;
-    private long tokenExpiry;
-    private final Object tokenLock = new Object();
+    private volatile OAuth2Credential credential;
 
     @Override
     public AdapterConfiguration.AdapterTypeEnum getAdapterType() {
@@ -264,48 +262,23 @@ public class MicrosoftTeamsOutboundAdapter extends AbstractSocialMediaOutboundAd
     }
 
     // Token management
-    private void refreshAccessToken() {
-        try {
-            synchronized(tokenLock) {
-                log.info("Refreshing Microsoft Teams access token");
-
-                String tokenUrl = String.format(LOGIN_URL, config.getTenantId());
-
-                MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
-                params.add("client_id", config.getClientId());
-                params.add("client_secret", config.getClientSecret());
-                params.add("scope", "https://graph.microsoft.com/.default");
-                params.add("grant_type", "client_credentials");
-
-                HttpHeaders headers = new HttpHeaders();
-                headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
-
-                HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(params, headers);
-
-                ResponseEntity<JsonNode> response = restTemplate.exchange(
-                    tokenUrl, HttpMethod.POST, request, JsonNode.class
-               );
-
-                JsonNode tokenResponse = response.getBody();
-                accessToken = tokenResponse.get("access_token").asText();
-                long expiresIn = tokenResponse.get("expires_in").asLong();
-                tokenExpiry = System.currentTimeMillis() + (expiresIn * 1000);
-
-                log.info("Successfully refreshed access token");
-            }
-        } catch(Exception e) {
-            log.error("Error refreshing access token", e);
-            throw new RuntimeException("Failed to refresh access token", e);
+    private OAuth2Credential getCredential() {
+        OAuth2Credential current = credential;
+        if(current == null) {
+            current = OAuth2Credential.builder()
+                .tokenUrl(String.format(LOGIN_URL, config.getTenantId()))
+                .clientId(config.getClientId())
+                .clientSecret(config.getClientSecret())
+                .scope("https://graph.microsoft.com/.default")
+                .basicClientAuthentication(false)
+                .build();
+            credential = current;
         }
+        return current;
     }
 
     private String getValidAccessToken() {
-        synchronized(tokenLock) {
-            if(accessToken == null || System.currentTimeMillis() >(tokenExpiry - TOKEN_REFRESH_BUFFER)) {
-                refreshAccessToken();
-            }
-            return accessToken;
-        }
+        return getTokenManager().getAccessToken(getCredential());
     }
 
     // Messaging methods
@@ -1362,12 +1335,9 @@ public class MicrosoftTeamsOutboundAdapter extends AbstractSocialMediaOutboundAd
             log.error("Graph API error: {} - {}", e.getStatusCode(), e.getResponseBodyAsString());
 
             if(e.getStatusCode() == HttpStatus.UNAUTHORIZED) {
-                // Force token refresh
-                synchronized(tokenLock) {
-                    accessToken = null;
-                }
-                // Retry once
-                headers = createAuthHeaders();
+                // Re - fetch the rejected token once and retry
+                String rejectedToken = headers.getFirst(HttpHeaders.AUTHORIZATION).substring("Bearer ".length());
+                headers.setBearerAuth(getTokenManager().onUnauthorized(getCredential(), rejectedToken));
                 entity = body != null ?
                     new HttpEntity<>(body, headers) : new HttpEntity<>(headers);
 
@@ -31,6 +31,8 @@ public class FileInboundAdapterConfig {
     private boolean enablePolling = true;
     private String pollingSchedule; // Cron expression for scheduled polling
     private int maxFilesPerPoll = 100; // Maximum files to process per poll
+    private String detectionMode = "polling"; // polling, watch
+    private long reconciliationIntervalMs = 300000; // Full directory scan interval in watch mode
 
     // Processing Configuration
     private String processingMode = "delete"; // delete, archive, move, copy
@@ -66,6 +68,14 @@ public class FileInboundAdapterConfig {
     private String lastProcessedFile; // Last processed file name
     private long lastProcessedTimestamp; // Last processed timestamp
     private boolean resetIncrementalOnStart = false;
+    private boolean persistProcessedIndex = true; // Keep the processed - file index on disk across restarts
+    private String processedIndexDirectory; // Defaults to the shared checkpoint directory
+    private int processedIndexMaxEntries = 1000000; // Oldest entries are evicted beyond this size
+
+    // Large File Handling
+    private boolean streamLargeFiles = false; // Pass large files by path, consumers must read contentPath
+    private long streamingThreshold = 10 * 1024 * 1024; // Larger files are passed by path instead of content
+    private String spoolDirectory; // Streamed files removed by the delete mode are kept here, defaults to the system temp directory
 
     // Error Handling
     private String errorHandlingStrategy = "FAIL_FAST";
@@ -144,6 +154,12 @@ public class FileInboundAdapterConfig {
     public int getMaxFilesPerPoll() { return maxFilesPerPoll; }
     public void setMaxFilesPerPoll(int maxFilesPerPoll) { this.maxFilesPerPoll = maxFilesPerPoll; }
 
+    public String getDetectionMode() { return detectionMode; }
+    public void setDetectionMode(String detectionMode) { this.detectionMode = detectionMode; }
+
+    public long getReconciliationIntervalMs() { return reconciliationIntervalMs; }
+    public void setReconciliationIntervalMs(long reconciliationIntervalMs) { this.reconciliationIntervalMs = reconciliationIntervalMs; }
+
     public String getProcessingMode() { return processingMode; }
     public void setProcessingMode(String processingMode) { this.processingMode = processingMode; }
 
@@ -213,6 +229,24 @@ public class FileInboundAdapterConfig {
     public boolean isResetIncrementalOnStart() { return resetIncrementalOnStart; }
     public void setResetIncrementalOnStart(boolean resetIncrementalOnStart) { this.resetIncrementalOnStart = resetIncrementalOnStart; }
 
+    public boolean isPersistProcessedIndex() { return persistProcessedIndex; }
+    public void setPersistProcessedIndex(boolean persistProcessedIndex) { this.persistProcessedIndex = persistProcessedIndex; }
+
+    public String getProcessedIndexDirectory() { return processedIndexDirectory; }
+    public void setProcessedIndexDirectory(String processedIndexDirectory) { this.processedIndexDirectory = processedIndexDirectory; }
+
+    public int getProcessedIndexMaxEntries() { return processedIndexMaxEntries; }
+    public void setProcessedIndexMaxEntries(int processedIndexMaxEntries) { this.processedIndexMaxEntries = processedIndexMaxEntries; }
+
+    public boolean isStreamLargeFiles() { return streamLargeFiles; }
+    public void setStreamLargeFiles(boolean streamLargeFiles) { this.streamLargeFiles = streamLargeFiles; }
+
+    public long getStreamingThreshold() { return streamingThreshold; }
+    public void setStreamingThreshold(long streamingThreshold) { this.streamingThreshold = streamingThreshold; }
+
+    public String getSpoolDirectory() { return spoolDirectory; }
+    public void setSpoolDirectory(String spoolDirectory) { this.spoolDirectory = spoolDirectory; }
+
     public String getErrorHandlingStrategy() { return errorHandlingStrategy; }
     public void setErrorHandlingStrategy(String errorHandlingStrategy) { this.errorHandlingStrategy = errorHandlingStrategy; }
 
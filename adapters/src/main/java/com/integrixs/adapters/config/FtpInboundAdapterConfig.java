@@ -50,6 +50,13 @@ public class FtpInboundAdapterConfig {
     private boolean useConnectionPool = false; // FTP typically doesn't use pools
     private boolean enablePassiveMode = true; // Use passive mode for firewalls
 
+    // Streaming and Parallel Transfers
+    private int parallelDownloads = 1; // Files downloaded concurrently over pooled sessions
+    private boolean streamLargeFiles = false; // Spool large files to disk, consumers must read contentPath
+    private long streamingThreshold = 10 * 1024 * 1024; // Larger files are spooled to disk instead of heap
+    private String spoolDirectory; // Defaults to the system temp directory
+    private long poolIdleTimeoutMs = 60000; // Idle pooled sessions are closed after this time
+
     // Error Handling and Retry
     private String errorHandlingStrategy = "FAIL_FAST";
     private boolean continueOnError = false;
@@ -182,6 +189,21 @@ public class FtpInboundAdapterConfig {
     public boolean isEnablePassiveMode() { return enablePassiveMode; }
     public void setEnablePassiveMode(boolean enablePassiveMode) { this.enablePassiveMode = enablePassiveMode; }
 
+    public int getParallelDownloads() { return parallelDownloads; }
+    public void setParallelDownloads(int parallelDownloads) { this.parallelDownloads = parallelDownloads; }
+
+    public boolean isStreamLargeFiles() { return streamLargeFiles; }
+    public void setStreamLargeFiles(boolean streamLargeFiles) { this.streamLargeFiles = streamLargeFiles; }
+
+    public long getStreamingThreshold() { return streamingThreshold; }
+    public void setStreamingThreshold(long streamingThreshold) { this.streamingThreshold = streamingThreshold; }
+
+    public String getSpoolDirectory() { return spoolDirectory; }
+    public void setSpoolDirectory(String spoolDirectory) { this.spoolDirectory = spoolDirectory; }
+
+    public long getPoolIdleTimeoutMs() { return poolIdleTimeoutMs; }
+    public void setPoolIdleTimeoutMs(long poolIdleTimeoutMs) { this.poolIdleTimeoutMs = poolIdleTimeoutMs; }
+
     public String getErrorHandlingStrategy() { return errorHandlingStrategy; }
     public void setErrorHandlingStrategy(String errorHandlingStrategy) { this.errorHandlingStrategy = errorHandlingStrategy; }
 
@@ -42,6 +42,7 @@ public class HttpOutboundAdapterConfig {
     private String oauthClientId;
     private String oauthClientSecret;
     private String oauthTokenUrl;
+    private String oauthScope;
     private String jwtToken;
 
     // Request Configuration
@@ -159,6 +160,9 @@ public class HttpOutboundAdapterConfig {
     public String getOauthTokenUrl() { return oauthTokenUrl; }
     public void setOauthTokenUrl(String oauthTokenUrl) { this.oauthTokenUrl = oauthTokenUrl; }
 
+    public String getOauthScope() { return oauthScope; }
+    public void setOauthScope(String oauthScope) { this.oauthScope = oauthScope; }
+
     // Convenience methods for adapter compatibility
     public String getClientId() { return oauthClientId; }
     public String getClientSecret() { return oauthClientSecret; }
@@ -45,6 +45,7 @@ public class IbmmqInboundAdapterConfig {
     private String consumerType = "SYNC"; // SYNC, ASYNC
     private boolean enableBatchProcessing = false; // Enable batch message processing
     private Integer batchSize = 10; // Messages per batch
+    private long batchWaitMs = 500; // Maximum time to fill a batch before it is committed(ms)
     private long receiveTimeout = 5000L; // Timeout for receiving messages(ms)
 
     // Connection Pool Settings for Consumer
@@ -160,6 +161,14 @@ public class IbmmqInboundAdapterConfig {
     public String getConsumerType() { return consumerType; }
     public void setConsumerType(String consumerType) { this.consumerType = consumerType; }
 
+    public boolean isEnableBatchProcessing() { return enableBatchProcessing; }
+    public void setEnableBatchProcessing(boolean enableBatchProcessing) { this.enableBatchProcessing = enableBatchProcessing; }
+
+    public void setBatchSize(Integer batchSize) { this.batchSize = batchSize; }
+
+    public long getBatchWaitMs() { return batchWaitMs; }
+    public void setBatchWaitMs(long batchWaitMs) { this.batchWaitMs = batchWaitMs; }
+
     public int getMaxConnections() { return maxConnections; }
     public void setMaxConnections(int maxConnections) { this.maxConnections = maxConnections; }
 
@@ -41,6 +41,14 @@ public class JdbcInboundAdapterConfig {
     private Object lastProcessedValue; // Last processed value for incremental polling
     private boolean resetIncrementalOnStart = false;
 
+    // Extraction Engine
+    private boolean checkpointEnabled = true; // Persist the watermark across restarts and failover
+    private String checkpointDirectory; // Defaults to the shared checkpoint directory
+    private boolean autoCommitOnFetch = true; // Commit watermark when fetch returns(otherwise call commitWatermark())
+    private int chunkSize = 500; // Rows handed downstream per chunk in polling mode
+    private int parallelPartitions = 1; // Number of incremental key sub - ranges read concurrently
+    private long minRowsPerPartition = 10000; // Below this range size extraction stays sequential
+
     // Polling Configuration
     private Long pollingInterval = 30000L; // 30 seconds default polling interval
     private boolean enablePolling = true;
@@ -148,6 +156,24 @@ public class JdbcInboundAdapterConfig {
     public boolean isResetIncrementalOnStart() { return resetIncrementalOnStart; }
     public void setResetIncrementalOnStart(boolean resetIncrementalOnStart) { this.resetIncrementalOnStart = resetIncrementalOnStart; }
 
+    public boolean isCheckpointEnabled() { return checkpointEnabled; }
+    public void setCheckpointEnabled(boolean checkpointEnabled) { this.checkpointEnabled = checkpointEnabled; }
+
+    public String getCheckpointDirectory() { return checkpointDirectory; }
+    public void setCheckpointDirectory(String checkpointDirectory) { this.checkpointDirectory = checkpointDirectory; }
+
+    public boolean isAutoCommitOnFetch() { return autoCommitOnFetch; }
+    public void setAutoCommitOnFetch(boolean autoCommitOnFetch) { this.autoCommitOnFetch = autoCommitOnFetch; }
+
+    public int getChunkSize() { return chunkSize; }
+    public void setChunkSize(int chunkSize) { this.chunkSize = chunkSize; }
+
+    public int getParallelPartitions() { return parallelPartitions; }
+    public void setParallelPartitions(int parallelPartitions) { this.parallelPartitions = parallelPartitions; }
+
+    public long getMinRowsPerPartition() { return minRowsPerPartition; }
+    public void setMinRowsPerPartition(long minRowsPerPartition) { this.minRowsPerPartition = minRowsPerPartition; }
+
     public Long getPollingInterval() { return pollingInterval; }
     public void setPollingInterval(Long pollingInterval) { this.pollingInterval = pollingInterval; }
 
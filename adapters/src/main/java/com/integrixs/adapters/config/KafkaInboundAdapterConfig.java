@@ -22,6 +22,15 @@ public class KafkaInboundAdapterConfig implements Serializable {
     private int maxPollRecords = 500;
     private long pollTimeoutMs = 1000;
 
+    // Parallel processing(listening mode commits offsets only after processing)
+    private String orderingMode = "PARTITION"; // PARTITION, KEY
+    private int workerThreads = 4;
+    private int maxPendingPerPartition = 1000; // pause a partition above this many unprocessed records
+    private long commitIntervalMs = 5000;
+    private int maxProcessingAttempts = 3;
+    private long retryBackoffMs = 500;
+    private long revokeDrainTimeoutMs = 10000;
+
     // Security properties
     private String securityProtocol; // PLAINTEXT, SSL, SASL_PLAINTEXT, SASL_SSL
     private String saslMechanism; // PLAIN, SCRAM - SHA-256, SCRAM - SHA-512
@@ -168,4 +177,46 @@ public class KafkaInboundAdapterConfig implements Serializable {
     public void setSslKeyPassword(String sslKeyPassword) {
         this.sslKeyPassword = sslKeyPassword;
     }
+    public String getOrderingMode() {
+        return orderingMode;
+    }
+    public void setOrderingMode(String orderingMode) {
+        this.orderingMode = orderingMode;
+    }
+    public int getWorkerThreads() {
+        return workerThreads;
+    }
+    public void setWorkerThreads(int workerThreads) {
+        this.workerThreads = workerThreads;
+    }
+    public int getMaxPendingPerPartition() {
+        return maxPendingPerPartition;
+    }
+    public void setMaxPendingPerPartition(int maxPendingPerPartition) {
+        this.maxPendingPerPartition = maxPendingPerPartition;
+    }
+    public long getCommitIntervalMs() {
+        return commitIntervalMs;
+    }
+    public void setCommitIntervalMs(long commitIntervalMs) {
+        this.commitIntervalMs = commitIntervalMs;
+    }
+    public int getMaxProcessingAttempts() {
+        return maxProcessingAttempts;
+    }
+    public void setMaxProcessingAttempts(int maxProcessingAttempts) {
+        this.maxProcessingAttempts = maxProcessingAttempts;
+    }
+    public long getRetryBackoffMs() {
+        return retryBackoffMs;
+    }
+    public void setRetryBackoffMs(long retryBackoffMs) {
+        this.retryBackoffMs = retryBackoffMs;
+    }
+    public long getRevokeDrainTimeoutMs() {
+        return revokeDrainTimeoutMs;
+    }
+    public void setRevokeDrainTimeoutMs(long revokeDrainTimeoutMs) {
+        this.revokeDrainTimeoutMs = revokeDrainTimeoutMs;
+    }
 }
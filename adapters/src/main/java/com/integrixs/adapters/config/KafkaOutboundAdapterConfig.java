@@ -21,6 +21,15 @@ public class KafkaOutboundAdapterConfig implements Serializable {
     private Long bufferMemory;
     private String compressionType; // none, gzip, snappy, lz4, zstd
 
+    // Delivery guarantees
+    private Boolean enableIdempotence;
+    private String transactionalId; // enables transactional(exactly - once) batch handoff
+    private Integer maxInFlightRequestsPerConnection;
+    private Long deliveryTimeoutMs;
+
+    // Pipelined sends
+    private Integer maxInFlightRecords = 10000; // records awaiting acknowledgement per adapter
+
     // Security properties
     private String securityProtocol; // PLAINTEXT, SSL, SASL_PLAINTEXT, SASL_SSL
     private String saslMechanism; // PLAIN, SCRAM - SHA-256, SCRAM - SHA-512
@@ -175,4 +184,34 @@ public class KafkaOutboundAdapterConfig implements Serializable {
     public void setRequestTimeoutMs(Long requestTimeoutMs) {
         this.requestTimeoutMs = requestTimeoutMs;
     }
+    public Boolean getEnableIdempotence() {
+        return enableIdempotence;
+    }
+    public void setEnableIdempotence(Boolean enableIdempotence) {
+        this.enableIdempotence = enableIdempotence;
+    }
+    public String getTransactionalId() {
+        return transactionalId;
+    }
+    public void setTransactionalId(String transactionalId) {
+        this.transactionalId = transactionalId;
+    }
+    public Integer getMaxInFlightRequestsPerConnection() {
+        return maxInFlightRequestsPerConnection;
+    }
+    public void setMaxInFlightRequestsPerConnection(Integer maxInFlightRequestsPerConnection) {
+        this.maxInFlightRequestsPerConnection = maxInFlightRequestsPerConnection;
+    }
+    public Long getDeliveryTimeoutMs() {
+        return deliveryTimeoutMs;
+    }
+    public void setDeliveryTimeoutMs(Long deliveryTimeoutMs) {
+        this.deliveryTimeoutMs = deliveryTimeoutMs;
+    }
+    public Integer getMaxInFlightRecords() {
+        return maxInFlightRecords;
+    }
+    public void setMaxInFlightRecords(Integer maxInFlightRecords) {
+        this.maxInFlightRecords = maxInFlightRecords;
+    }
 }
@@ -27,6 +27,8 @@ public class MailInboundAdapterConfig {
     private boolean enablePolling = true;
     private String pollingSchedule; // Cron expression for scheduled polling
     private String maxMessages = "100"; // Maximum messages per poll
+    private boolean useIdle = true; // IMAP: wait for new mail with IDLE instead of polling when the server supports it
+    private long idleRefreshMs = 1500000L; // Re - issue IDLE before servers drop idle connections(29 minutes)
 
     // Message Selection and Filtering
     private String searchCriteria; // Search criteria for filtering messages
@@ -43,6 +45,8 @@ public class MailInboundAdapterConfig {
     private String mailEncoding = "UTF-8";
     private boolean includeAttachments = true;
     private String attachmentDirectory; // Directory to save attachments
+    private boolean spoolLargeAttachments = false; // Pass large attachments by path, consumers must read contentPath
+    private long attachmentInlineThresholdBytes = 1048576L; // Larger attachments are spooled to a file when spooling is enabled
     private boolean deleteAfterFetch = false;
     private boolean markAsRead = true;
     private String processedFolder; // Folder to move processed messages
@@ -55,6 +59,7 @@ public class MailInboundAdapterConfig {
     private String lastProcessedMessageId; // Last processed message ID
     private long lastProcessedTimestamp; // Last processed timestamp
     private boolean resetIncrementalOnStart = false;
+    private boolean uidIncrementalFetch = true; // IMAP: only fetch messages above the persisted UID high - water mark
 
     // Error Handling
     private String errorHandlingStrategy = "FAIL_FAST";
@@ -135,6 +140,12 @@ public class MailInboundAdapterConfig {
     public String getMaxMessages() { return maxMessages; }
     public void setMaxMessages(String maxMessages) { this.maxMessages = maxMessages; }
 
+    public boolean isUseIdle() { return useIdle; }
+    public void setUseIdle(boolean useIdle) { this.useIdle = useIdle; }
+
+    public long getIdleRefreshMs() { return idleRefreshMs; }
+    public void setIdleRefreshMs(long idleRefreshMs) { this.idleRefreshMs = idleRefreshMs; }
+
     public String getSearchCriteria() { return searchCriteria; }
     public void setSearchCriteria(String searchCriteria) { this.searchCriteria = searchCriteria; }
 
@@ -171,6 +182,12 @@ public class MailInboundAdapterConfig {
     public String getAttachmentDirectory() { return attachmentDirectory; }
     public void setAttachmentDirectory(String attachmentDirectory) { this.attachmentDirectory = attachmentDirectory; }
 
+    public boolean isSpoolLargeAttachments() { return spoolLargeAttachments; }
+    public void setSpoolLargeAttachments(boolean spoolLargeAttachments) { this.spoolLargeAttachments = spoolLargeAttachments; }
+
+    public long getAttachmentInlineThresholdBytes() { return attachmentInlineThresholdBytes; }
+    public void setAttachmentInlineThresholdBytes(long attachmentInlineThresholdBytes) { this.attachmentInlineThresholdBytes = attachmentInlineThresholdBytes; }
+
     public boolean isDeleteAfterFetch() { return deleteAfterFetch; }
     public void setDeleteAfterFetch(boolean deleteAfterFetch) { this.deleteAfterFetch = deleteAfterFetch; }
 
@@ -195,6 +212,9 @@ public class MailInboundAdapterConfig {
     public boolean isResetIncrementalOnStart() { return resetIncrementalOnStart; }
     public void setResetIncrementalOnStart(boolean resetIncrementalOnStart) { this.resetIncrementalOnStart = resetIncrementalOnStart; }
 
+    public boolean isUidIncrementalFetch() { return uidIncrementalFetch; }
+    public void setUidIncrementalFetch(boolean uidIncrementalFetch) { this.uidIncrementalFetch = uidIncrementalFetch; }
+
     public String getErrorHandlingStrategy() { return errorHandlingStrategy; }
     public void setErrorHandlingStrategy(String errorHandlingStrategy) { this.errorHandlingStrategy = errorHandlingStrategy; }
 
@@ -2,6 +2,8 @@ package com.integrixs.adapters.config;
 
 import java.util.Map;
 import java.util.HashMap;
+import java.util.List;
+import java.util.ArrayList;
 
 /**
  * Configuration for OData Sender Adapter(Backend).
@@ -77,6 +79,7 @@ public class OdataInboundAdapterConfig {
     private String lastPolledTimestamp; // ISO timestamp of last successful poll
     private String lastDeltaToken; // OData delta token for change tracking
     private boolean resetIncrementalOnStart = false;
+    private boolean autoCommitOnFetch = true; // Commit delta / next link checkpoints when fetch returns(otherwise call commitCheckpoints())
     private String timestampField; // Field to use for incremental processing
 
     // Error Handling for Polling
@@ -93,6 +96,8 @@ public class OdataInboundAdapterConfig {
     private boolean logRequestResponse = false;
     private int pageSize = 100; // OData $top parameter
     private boolean enablePaging = true;
+    private int prefetchDepth = 1; // Pages fetched ahead while the current page is processed, 0 disables prefetch
+    private List<String> batchEntitySets = new ArrayList<>(); // Additional entity sets read in the same $batch
 
     // Certificate and SSL
     private String sslConfig;
@@ -253,6 +258,9 @@ public class OdataInboundAdapterConfig {
     public boolean isResetIncrementalOnStart() { return resetIncrementalOnStart; }
     public void setResetIncrementalOnStart(boolean resetIncrementalOnStart) { this.resetIncrementalOnStart = resetIncrementalOnStart; }
 
+    public boolean isAutoCommitOnFetch() { return autoCommitOnFetch; }
+    public void setAutoCommitOnFetch(boolean autoCommitOnFetch) { this.autoCommitOnFetch = autoCommitOnFetch; }
+
     public String getTimestampField() { return timestampField; }
     public void setTimestampField(String timestampField) { this.timestampField = timestampField; }
 
@@ -289,6 +297,12 @@ public class OdataInboundAdapterConfig {
     public boolean isEnablePaging() { return enablePaging; }
     public void setEnablePaging(boolean enablePaging) { this.enablePaging = enablePaging; }
 
+    public int getPrefetchDepth() { return prefetchDepth; }
+    public void setPrefetchDepth(int prefetchDepth) { this.prefetchDepth = prefetchDepth; }
+
+    public List<String> getBatchEntitySets() { return batchEntitySets; }
+    public void setBatchEntitySets(List<String> batchEntitySets) { this.batchEntitySets = batchEntitySets; }
+
     public String getSslConfig() { return sslConfig; }
     public void setSslConfig(String sslConfig) { this.sslConfig = sslConfig; }
 
@@ -31,6 +31,13 @@ public class SftpInboundAdapterConfig {
     private boolean enableConnectionPooling = false;
     private long connectionPoolTimeout = 30000L;
 
+    // Streaming and Parallel Transfers
+    private int parallelDownloads = 1; // Files downloaded concurrently over pooled sessions
+    private boolean streamLargeFiles = false; // Spool large files to disk, consumers must read contentPath
+    private long streamingThreshold = 10 * 1024 * 1024; // Larger files are spooled to disk instead of heap
+    private String spoolDirectory; // Defaults to the system temp directory
+    private long poolIdleTimeoutMs = 60000; // Idle pooled sessions are closed after this time
+
     // File Retrieval Configuration
     private String sourceDirectory = "/"; // Source directory to monitor
     private String fileName = "*"; // File name pattern to retrieve
@@ -181,6 +188,21 @@ public class SftpInboundAdapterConfig {
     public long getConnectionPoolTimeout() { return connectionPoolTimeout; }
     public void setConnectionPoolTimeout(long connectionPoolTimeout) { this.connectionPoolTimeout = connectionPoolTimeout; }
 
+    public int getParallelDownloads() { return parallelDownloads; }
+    public void setParallelDownloads(int parallelDownloads) { this.parallelDownloads = parallelDownloads; }
+
+    public boolean isStreamLargeFiles() { return streamLargeFiles; }
+    public void setStreamLargeFiles(boolean streamLargeFiles) { this.streamLargeFiles = streamLargeFiles; }
+
+    public long getStreamingThreshold() { return streamingThreshold; }
+    public void setStreamingThreshold(long streamingThreshold) { this.streamingThreshold = streamingThreshold; }
+
+    public String getSpoolDirectory() { return spoolDirectory; }
+    public void setSpoolDirectory(String spoolDirectory) { this.spoolDirectory = spoolDirectory; }
+
+    public long getPoolIdleTimeoutMs() { return poolIdleTimeoutMs; }
+    public void setPoolIdleTimeoutMs(long poolIdleTimeoutMs) { this.poolIdleTimeoutMs = poolIdleTimeoutMs; }
+
     public String getSourceDirectory() { return sourceDirectory; }
     public void setSourceDirectory(String sourceDirectory) { this.sourceDirectory = sourceDirectory; }
 
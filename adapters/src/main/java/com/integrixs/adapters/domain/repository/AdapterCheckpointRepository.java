@@ -0,0 +1,47 @@
+package com.integrixs.adapters.domain.repository;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Domain repository interface for durable per-adapter checkpoints
+ * (watermarks, delta tokens, high-water marks) that must survive restarts and failover.
+ */
+public interface AdapterCheckpointRepository {
+
+    /**
+     * Load a checkpoint value
+     * @param adapterKey Stable adapter key
+     * @param name Checkpoint name
+     * @return Optional checkpoint value
+     */
+    Optional<String> load(String adapterKey, String name);
+
+    /**
+     * Load all checkpoint values of an adapter
+     * @param adapterKey Stable adapter key
+     * @return Checkpoint values by name
+     */
+    Map<String, String> loadAll(String adapterKey);
+
+    /**
+     * Atomically store a checkpoint value
+     * @param adapterKey Stable adapter key
+     * @param name Checkpoint name
+     * @param value Checkpoint value
+     */
+    void save(String adapterKey, String name, String value);
+
+    /**
+     * Remove a single checkpoint value
+     * @param adapterKey Stable adapter key
+     * @param name Checkpoint name
+     */
+    void delete(String adapterKey, String name);
+
+    /**
+     * Remove every checkpoint of an adapter
+     * @param adapterKey Stable adapter key
+     */
+    void deleteAll(String adapterKey);
+}
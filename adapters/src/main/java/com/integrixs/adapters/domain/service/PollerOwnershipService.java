@@ -0,0 +1,57 @@
+package com.integrixs.adapters.domain.service;
+
+import com.integrixs.adapters.domain.repository.AdapterCheckpointRepository;
+import com.integrixs.adapters.infrastructure.service.LocalPollerOwnershipService;
+
+/**
+ * Domain service interface for cluster - wide poller ownership.
+ * Every node runs the same inbound pollers; each poller is owned by exactly one node and the other nodes skip
+ * their cycles. Adapters are plain objects created outside Spring, so the active implementation is installed
+ * globally(single node default: {@link LocalPollerOwnershipService}).
+ */
+public interface PollerOwnershipService {
+
+    /**
+     * Whether this node currently owns a poller
+     * @param pollerId Stable poller ID, identical on all nodes
+     * @return true if this node should poll
+     */
+    boolean isOwner(String pollerId);
+
+    /**
+     * Run one polling cycle if this node owns the poller.
+     * Cycles of one poller never overlap across nodes, and a cycle is skipped when another node already polled
+     * within the interval(e.g. right after ownership moved).
+     * @param pollerId Stable poller ID, identical on all nodes
+     * @param intervalMillis Polling interval, 0 if unknown
+     * @param cycle Polling cycle
+     * @return true if the cycle ran on this node
+     */
+    boolean runIfOwner(String pollerId, long intervalMillis, Runnable cycle);
+
+    /**
+     * Checkpoint store visible to all nodes, so a new owner resumes where the previous owner stopped
+     */
+    AdapterCheckpointRepository getCheckpointRepository();
+
+    /**
+     * Currently installed implementation
+     */
+    static PollerOwnershipService current() {
+        return Holder.instance;
+    }
+
+    /**
+     * Install the implementation used by all adapters, null restores the single node default
+     */
+    static void install(PollerOwnershipService service) {
+        Holder.instance = service != null ? service : LocalPollerOwnershipService.INSTANCE;
+    }
+
+    final class Holder {
+        private static volatile PollerOwnershipService instance = LocalPollerOwnershipService.INSTANCE;
+
+        private Holder() {
+        }
+    }
+}
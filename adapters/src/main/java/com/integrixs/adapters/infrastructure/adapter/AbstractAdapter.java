@@ -4,6 +4,7 @@ import com.integrixs.adapters.domain.model.AdapterConfiguration;
 import com.integrixs.adapters.domain.model.AdapterOperationResult;
 import com.integrixs.adapters.domain.model.AdapterMetadata;
 import com.integrixs.adapters.domain.port.AdapterPort;
+import com.integrixs.adapters.domain.service.PollerOwnershipService;
 import com.integrixs.shared.exceptions.AdapterException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,6 +28,9 @@ public abstract class AbstractAdapter implements AdapterPort {
     protected int messagesProcessed;
     protected int errorCount;
 
+    // Whether the previous polling cycle ran on this node, a false -> true transition means ownership moved here
+    private volatile boolean pollerOwned = true;
+
     // Getters
     public AdapterConfiguration getConfiguration() {
         return configuration;
@@ -272,6 +276,51 @@ public abstract class AbstractAdapter implements AdapterPort {
         this.errorCount++;
     }
 
+    /**
+     * Run one polling cycle if this node owns the poller in the cluster
+     * @param intervalMillis Polling interval
+     * @param cycle Polling cycle
+     * @return true if the cycle ran on this node
+     */
+    protected boolean runPollingCycle(long intervalMillis, Runnable cycle) {
+        String pollerId = getPollerId();
+        if(pollerId == null) {
+            cycle.run();
+            return true;
+        }
+        boolean ran = PollerOwnershipService.current().runIfOwner(pollerId, intervalMillis, () -> {
+            if(!pollerOwned) {
+                log.info("Poller {} is now owned by this node", pollerId);
+                onPollerOwnershipAcquired();
+                pollerOwned = true;
+            }
+            cycle.run();
+        });
+        if(!ran && pollerOwned) {
+            log.info("Poller {} is owned by another node, skipping polling cycles", pollerId);
+            pollerOwned = false;
+        }
+        return ran;
+    }
+
+    /**
+     * Cluster - wide poller ID, identical on every node running this adapter.
+     * Null disables sharding and the adapter polls on every node.
+     */
+    protected String getPollerId() {
+        if(configuration == null || configuration.getAdapterId() == null) {
+            return null;
+        }
+        return getAdapterType().name().toLowerCase() + "-" + configuration.getAdapterId();
+    }
+
+    /**
+     * Called before the first cycle after ownership of the poller moved to this node,
+     * adapters reload their checkpoints here so they resume where the previous owner stopped
+     */
+    protected void onPollerOwnershipAcquired() {
+    }
+
     // Abstract methods to be implemented by concrete adapters
 
     /**
@@ -8,13 +8,21 @@ import com.integrixs.shared.exceptions.AdapterException;
 import com.integrixs.adapters.domain.model.*;
 import com.integrixs.adapters.domain.port.InboundAdapterPort;
 import com.integrixs.adapters.config.FileInboundAdapterConfig;
+import com.integrixs.adapters.infrastructure.connection.SpooledContent;
+import com.integrixs.adapters.infrastructure.persistence.FileAdapterCheckpointRepository;
+import com.integrixs.adapters.infrastructure.persistence.ProcessedFileIndex;
 import java.io.*;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.security.MessageDigest;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -22,17 +30,32 @@ import java.util.stream.Collectors;
  * File Sender Adapter implementation for file system monitoring and processing(INBOUND).
  * Follows middleware convention: Inbound = receives data FROM external systems.
  * Supports directory polling, file filtering, duplicate detection, and incremental processing.
+ * In watch mode new files are detected through a {@link WatchService} with periodic reconciliation scans,
+ * so a poll only looks at new files. Processed files are tracked in a bounded, persistent
+ * {@link ProcessedFileIndex} and large files are passed on by path instead of being read into memory.
  */
 public class FileInboundAdapter extends AbstractAdapter implements InboundAdapterPort {
     private static final Logger log = LoggerFactory.getLogger(FileInboundAdapter.class);
+    private static final long MAPPED_REGION_SIZE = 256L * 1024 * 1024;
+    private static final long LISTEN_POLL_TIMEOUT_MS = 1000;
 
 
     private final FileInboundAdapterConfig config;
-    private final Map<String, String> processedFiles = new ConcurrentHashMap<>();
+    private ProcessedFileIndex processedIndex;
     private Pattern filePattern;
+    private Pattern fileNameGlob;
     private Pattern exclusionPattern;
     private Path sourceDirectory;
 
+    // Watch mode fields
+    private WatchService watchService;
+    private final Set<Path> pendingFiles = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean reconciliationRequested = new AtomicBoolean(false);
+    private volatile long lastReconciliation;
+    private final AtomicBoolean listening = new AtomicBoolean(false);
+    private Thread listenerThread;
+    private InboundAdapterPort.DataReceivedCallback dataCallback;
+
     public FileInboundAdapter(FileInboundAdapterConfig config) {
         super();
         this.config = config;
@@ -46,6 +69,11 @@ public class FileInboundAdapter extends AbstractAdapter implements InboundAdapte
             validateConfiguration();
             initializeDirectory();
             initializePatterns();
+            initializeProcessedIndex();
+
+            if("watch".equalsIgnoreCase(config.getDetectionMode())) {
+                initializeWatchService();
+            }
         } catch(Exception e) {
             log.error("Failed to initialize File inbound adapter", e);
             return AdapterOperationResult.failure("Initialization failed: " + e.getMessage());
@@ -58,7 +86,9 @@ public class FileInboundAdapter extends AbstractAdapter implements InboundAdapte
     @Override
     protected AdapterOperationResult performShutdown() {
         log.info("Destroying File inbound adapter");
-        processedFiles.clear();
+        stopListening();
+        closeWatchService();
+        pendingFiles.clear();
         return AdapterOperationResult.success("File inbound adapter shutdown successfully");
     }
 
@@ -170,74 +200,173 @@ public class FileInboundAdapter extends AbstractAdapter implements InboundAdapte
     private AdapterOperationResult pollForFiles() throws Exception {
         List<Map<String, Object>> processedFilesList = new ArrayList<>();
 
-        try(DirectoryStream<Path> stream = Files.newDirectoryStream(sourceDirectory)) {
-            List<Path> availableFiles = new ArrayList<>();
-            for(Path path : stream) {
-                if(matchesFilePattern(path)) {
-                    availableFiles.add(path);
-                }
-            }
+        List<FileCandidate> availableFiles = collectCandidates();
 
-            // Sort files based on configuration
-            sortFiles(availableFiles);
+        // Sort files based on configuration
+        sortFiles(availableFiles);
 
-            // Apply file limits
-            int maxFiles = Math.min(availableFiles.size(), config.getMaxFilesPerPoll());
+        // Apply file limits, files beyond the limit stay pending in watch mode
+        int maxFiles = Math.min(availableFiles.size(), config.getMaxFilesPerPoll());
+        if(watchService != null) {
+            for(int i = maxFiles; i < availableFiles.size(); i++) {
+                pendingFiles.add(availableFiles.get(i).path);
+            }
+        }
 
-            for(int i = 0; i < maxFiles; i++) {
-                Path file = availableFiles.get(i);
+        for(int i = 0; i < maxFiles; i++) {
+            FileCandidate candidate = availableFiles.get(i);
+            Path file = candidate.path;
 
-                try {
-                    if(shouldProcessFile(file)) {
-                        Map<String, Object> fileData = processFile(file);
-                        if(fileData != null) {
-                            processedFilesList.add(fileData);
-                            handlePostProcessing(file);
-                        }
+            try {
+                if(isTooYoung(candidate.attributes)) {
+                    log.debug("File {} is too young, skipping", file);
+                    if(watchService != null) {
+                        pendingFiles.add(file);
                     }
-                } catch(Exception e) {
-                    log.error("Error processing file: {}", file, e);
-                    handleFileError(file, e);
+                    continue;
+                }
 
-                    if(!config.isContinueOnError()) {
-                        throw new AdapterException("File processing failed: " + e.getMessage(), e);
+                Map<String, Object> fileData = processFile(candidate);
+                if(fileData != null) {
+                    boolean streamed = Boolean.TRUE.equals(fileData.get("streamed"));
+                    Path location = handlePostProcessing(file, streamed);
+                    if(streamed && location != null) {
+                        fileData.put(SpooledContent.CONTENT_PATH, location.toAbsolutePath().toString());
+                        // A file moved out of the source directory by the delete mode belongs to the receiver
+                        fileData.put(SpooledContent.SPOOLED, "delete".equalsIgnoreCase(config.getProcessingMode()));
                     }
+                    processedFilesList.add(fileData);
+                }
+            } catch(Exception e) {
+                log.error("Error processing file: {}", file, e);
+                handleFileError(file, e);
+
+                if(!config.isContinueOnError()) {
+                    // Files already spooled in this poll are never handed on
+                    SpooledContent.release(processedFilesList);
+                    throw new AdapterException("File processing failed: " + e.getMessage(), e);
                 }
             }
         }
 
         log.info("File inbound adapter polled {} files from directory", processedFilesList.size());
-        return AdapterOperationResult.success(
+        return AdapterOperationResult.success(processedFilesList,
                 String.format("Retrieved %d files from directory", processedFilesList.size()));
     }
 
-    private Map<String, Object> processFile(Path file) throws Exception {
-        if(!Files.exists(file)) {
-            return null; // File may have been processed by another instance
+    /**
+     * Collect unprocessed files. In watch mode only the files reported by the watch service are checked,
+     * with a full directory scan on overflow and every reconciliation interval.
+     */
+    private List<FileCandidate> collectCandidates() throws IOException {
+        List<FileCandidate> candidates = new ArrayList<>();
+
+        if(watchService != null) {
+            drainWatchEvents();
+            long now = System.currentTimeMillis();
+            if(!reconciliationRequested.getAndSet(false) && now - lastReconciliation < config.getReconciliationIntervalMs()) {
+                List<Path> pending = new ArrayList<>(pendingFiles);
+                pendingFiles.removeAll(pending);
+                for(Path path : pending) {
+                    addCandidate(path, candidates);
+                }
+                return candidates;
+            }
+            lastReconciliation = now;
+            pendingFiles.clear();
         }
 
-        // Check file age
-        if(config.getMinFileAge() > 0) {
-            long fileAge = System.currentTimeMillis() - Files.getLastModifiedTime(file).toMillis();
-            if(fileAge < config.getMinFileAge() * 1000L) {
-                log.debug("File {} is too young, skipping", file);
-                return null;
+        try(DirectoryStream<Path> stream = Files.newDirectoryStream(sourceDirectory)) {
+            for(Path path : stream) {
+                addCandidate(path, candidates);
+            }
+        }
+        return candidates;
+    }
+
+    private void addCandidate(Path path, List<FileCandidate> candidates) {
+        // Name checks first, they do not touch the file system
+        String fileName = path.getFileName().toString();
+        if(!matchesFileName(fileName)) {
+            return;
+        }
+        if(exclusionPattern != null && exclusionPattern.matcher(fileName).matches()) {
+            return;
+        }
+
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            if(!attributes.isRegularFile()) {
+                return;
+            }
+            // Check if already processed(incremental processing)
+            if(processedIndex.contains(fingerprint(path, attributes))) {
+                return;
+            }
+            candidates.add(new FileCandidate(path, attributes));
+        } catch(NoSuchFileException e) {
+            // Removed between listing and stat
+        } catch(IOException e) {
+            log.warn("Cannot read attributes of file: {}", path, e);
+        }
+    }
+
+    private void drainWatchEvents() {
+        WatchKey key;
+        while((key = watchService.poll()) != null) {
+            for(WatchEvent<?> event : key.pollEvents()) {
+                if(event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                    reconciliationRequested.set(true);
+                } else {
+                    pendingFiles.add(sourceDirectory.resolve((Path) event.context()));
+                }
+            }
+            if(!key.reset()) {
+                log.warn("Watch key for {} is no longer valid, falling back to directory scans", sourceDirectory);
+                closeWatchService();
+                return;
             }
         }
+    }
+
+    private boolean isTooYoung(BasicFileAttributes attributes) {
+        if(config.getMinFileAge() <= 0) {
+            return false;
+        }
+        long fileAge = System.currentTimeMillis() - attributes.lastModifiedTime().toMillis();
+        return fileAge < config.getMinFileAge() * 1000L;
+    }
+
+    private static String fingerprint(Path file, BasicFileAttributes attributes) {
+        return ProcessedFileIndex.fingerprint(file, attributes.size(), attributes.lastModifiedTime().toMillis());
+    }
+
+    private Map<String, Object> processFile(FileCandidate candidate) throws Exception {
+        Path file = candidate.path;
+        if(!Files.exists(file)) {
+            return null; // File may have been processed by another instance
+        }
 
         // Acquire file lock if configured
         if(config.isUseFileLocking()) {
             if(!acquireFileLock(file)) {
                 log.debug("Could not acquire lock for file {}, skipping", file);
+                if(watchService != null) {
+                    pendingFiles.add(file);
+                }
                 return null;
             }
         }
 
         try {
             // Handle empty files
-            long fileSize = Files.size(file);
+            long fileSize = candidate.attributes.size();
             if(fileSize == 0) {
-                return handleEmptyFile(file);
+                Map<String, Object> fileData = handleEmptyFile(file);
+                if(fileData != null) {
+                    processedIndex.record(fingerprint(file, candidate.attributes), file.getFileName().toString(), null);
+                }
+                return fileData;
             }
 
             // Size validation
@@ -251,24 +380,30 @@ public class FileInboundAdapter extends AbstractAdapter implements InboundAdapte
             fileData.put("fileName", file.getFileName().toString());
             fileData.put("filePath", file.toAbsolutePath().toString());
             fileData.put("fileSize", fileSize);
-            fileData.put("lastModified", Files.getLastModifiedTime(file).toInstant());
+            fileData.put("lastModified", candidate.attributes.lastModifiedTime().toInstant());
 
             // Read content based on configuration
-            if(config.isLogFileContent()) {
-                String content = Files.readString(file,
-                        config.getFileEncoding() != null ?
-                                java.nio.charset.Charset.forName(config.getFileEncoding()) :
-                                java.nio.charset.StandardCharsets.UTF_8);
-                fileData.put("content", content);
+            byte[] content = null;
+            if(config.isStreamLargeFiles() && fileSize > config.getStreamingThreshold()) {
+                // Large files are handed on by path and read as a stream by the next stage
+                fileData.put(SpooledContent.CONTENT_PATH, file.toAbsolutePath().toString());
+                fileData.put("streamed", true);
             } else {
-                // For large files, just read as byte array or provide stream
-                byte[] content = Files.readAllBytes(file);
-                fileData.put("content", content);
+                content = Files.readAllBytes(file);
+                if(config.isLogFileContent()) {
+                    fileData.put("content", new String(content,
+                            config.getFileEncoding() != null ?
+                                    java.nio.charset.Charset.forName(config.getFileEncoding()) :
+                                    java.nio.charset.StandardCharsets.UTF_8));
+                } else {
+                    fileData.put("content", content);
+                }
             }
 
             // Generate checksum if configured
+            String checksum = null;
             if(config.isValidateFileIntegrity()) {
-                String checksum = generateChecksum(file);
+                checksum = content != null ? generateChecksum(content) : generateChecksum(file, fileSize);
                 fileData.put("checksum", checksum);
 
                 // Check for duplicates
@@ -281,9 +416,7 @@ public class FileInboundAdapter extends AbstractAdapter implements InboundAdapte
             }
 
             // Mark as processed
-            this.processedFiles.put(file.toString(),
-                    config.isValidateFileIntegrity() ? (String) fileData.get("checksum") :
-                            String.valueOf(System.currentTimeMillis()));
+            processedIndex.record(fingerprint(file, candidate.attributes), file.getFileName().toString(), checksum);
 
             return fileData;
 
@@ -294,14 +427,31 @@ public class FileInboundAdapter extends AbstractAdapter implements InboundAdapte
         }
     }
 
-    private void handlePostProcessing(Path file) throws Exception {
+    /**
+     * Apply the configured processing mode
+     * @param file Processed file
+     * @param streamed Whether the content is passed on by path
+     * @return New location of the file, null when it was deleted
+     */
+    private Path handlePostProcessing(Path file, boolean streamed) throws Exception {
         String processingMode = config.getProcessingMode();
 
         switch(processingMode.toLowerCase()) {
             case "delete":
+                if(streamed) {
+                    // Keep the content readable for the next stage, but out of the source directory
+                    Path spoolDir = config.getSpoolDirectory() != null ?
+                            Paths.get(config.getSpoolDirectory()) :
+                            Paths.get(System.getProperty("java.io.tmpdir"), "integrix - spool");
+                    Files.createDirectories(spoolDir);
+                    Path targetPath = spoolDir.resolve(UUID.randomUUID() + "-" + file.getFileName());
+                    Files.move(file, targetPath, StandardCopyOption.REPLACE_EXISTING);
+                    log.debug("Moved streamed file to spool: {}", targetPath);
+                    return targetPath;
+                }
                 Files.deleteIfExists(file);
                 log.debug("Deleted processed file: {}", file);
-                break;
+                return null;
 
             case "archive":
                 if(config.getArchiveDirectory() != null) {
@@ -310,8 +460,9 @@ public class FileInboundAdapter extends AbstractAdapter implements InboundAdapte
                     Path targetPath = archiveDir.resolve(file.getFileName());
                     Files.move(file, targetPath, StandardCopyOption.REPLACE_EXISTING);
                     log.debug("Archived file to: {}", targetPath);
+                    return targetPath;
                 }
-                break;
+                return file;
 
             case "move":
                 if(config.getMoveDirectory() != null) {
@@ -320,8 +471,9 @@ public class FileInboundAdapter extends AbstractAdapter implements InboundAdapte
                     Path targetPath = moveDir.resolve(file.getFileName());
                     Files.move(file, targetPath, StandardCopyOption.REPLACE_EXISTING);
                     log.debug("Moved file to: {}", targetPath);
+                    return targetPath;
                 }
-                break;
+                return file;
 
             case "copy":
                 if(config.getBackupDirectory() != null) {
@@ -331,48 +483,23 @@ public class FileInboundAdapter extends AbstractAdapter implements InboundAdapte
                     Files.copy(file, targetPath, StandardCopyOption.REPLACE_EXISTING);
                     log.debug("Copied file to: {}", targetPath);
                 }
-                break;
+                return file;
 
             default:
                 log.debug("No post - processing configured for file: {}", file);
+                return file;
         }
     }
 
-    private boolean shouldProcessFile(Path file) throws Exception {
-        // Basic file checks
-        if(!Files.isRegularFile(file)) {
-            return false;
-        }
-
-        // Check if already processed(incremental processing)
-        if(processedFiles.containsKey(file.toString())) {
-            return false;
-        }
-
-        // Check exclusion patterns
-        if(exclusionPattern != null && exclusionPattern.matcher(file.getFileName().toString()).matches()) {
-            return false;
-        }
-
-        return true;
-    }
-
     private boolean matchesFilePattern(Path file) {
-        if(!Files.isRegularFile(file)) {
-            return false;
-        }
-
-        String fileName = file.getFileName().toString();
+        return Files.isRegularFile(file) && matchesFileName(file.getFileName().toString());
+    }
 
+    private boolean matchesFileName(String fileName) {
         // Simple file name match
         if(config.getFileName() != null && !config.getFileName().isEmpty()) {
-            if(config.getFileName().contains("*") || config.getFileName().contains("?")) {
-                // Simple glob pattern
-                String regex = config.getFileName()
-                        .replace(".", "\\.")
-                        .replace("*", ".*")
-                        .replace("?", ".");
-                return fileName.matches(regex);
+            if(fileNameGlob != null) {
+                return fileNameGlob.matcher(fileName).matches();
             } else {
                 return fileName.equals(config.getFileName());
             }
@@ -386,35 +513,24 @@ public class FileInboundAdapter extends AbstractAdapter implements InboundAdapte
         return true; // If no pattern specified, match all files
     }
 
-    private void sortFiles(List<Path> files) throws Exception {
+    private void sortFiles(List<FileCandidate> files) {
         String sorting = config.getSorting();
         if(sorting == null || "none".equals(sorting)) {
             return;
         }
 
+        // Attributes were read once while collecting, sorting does not touch the file system
         switch(sorting.toLowerCase()) {
             case "name":
-                files.sort(Comparator.comparing(path -> path.getFileName().toString()));
+                files.sort(Comparator.comparing(candidate -> candidate.path.getFileName().toString()));
                 break;
 
             case "date":
-                files.sort(Comparator.comparing(path -> {
-                    try {
-                        return Files.getLastModifiedTime(path);
-                    } catch(IOException e) {
-                        return null;
-                    }
-                }));
+                files.sort(Comparator.comparing(candidate -> candidate.attributes.lastModifiedTime()));
                 break;
 
             case "size":
-                files.sort(Comparator.comparing(path -> {
-                    try {
-                        return Files.size(path);
-                    } catch(IOException e) {
-                        return 0L;
-                    }
-                }));
+                files.sort(Comparator.comparingLong(candidate -> candidate.attributes.size()));
                 break;
         }
     }
@@ -441,37 +557,40 @@ public class FileInboundAdapter extends AbstractAdapter implements InboundAdapte
                 return fileData;
         }
     }
-    private String generateChecksum(Path file) throws Exception {
+    private String generateChecksum(byte[] content) throws Exception {
+        MessageDigest digest = MessageDigest.getInstance(config.getChecksumAlgorithm());
+        return HexFormat.of().formatHex(digest.digest(content));
+    }
+
+    private String generateChecksum(Path file, long fileSize) throws Exception {
         MessageDigest digest = MessageDigest.getInstance(config.getChecksumAlgorithm());
 
-        try(InputStream is = Files.newInputStream(file)) {
-            byte[] buffer = new byte[8192];
-            int bytesRead;
-            while((bytesRead = is.read(buffer)) != -1) {
-                digest.update(buffer, 0, bytesRead);
+        // Memory - map large files region by region instead of copying them through heap buffers
+        try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long position = 0;
+            while(position < fileSize) {
+                long regionSize = Math.min(MAPPED_REGION_SIZE, fileSize - position);
+                MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, position, regionSize);
+                digest.update(region);
+                position += regionSize;
             }
         }
 
-        StringBuilder result = new StringBuilder();
-        for(byte b : digest.digest()) {
-            result.append(String.format("%02x", b));
-        }
-        return result.toString();
+        return HexFormat.of().formatHex(digest.digest());
     }
 
     private boolean isDuplicate(Path file, String checksum) {
         String strategy = config.getDuplicateDetectionStrategy();
 
         switch(strategy.toLowerCase()) {
+            case "name":
             case "filename":
-                return processedFiles.containsKey(file.getFileName().toString());
+                return processedIndex.containsName(file.getFileName().toString());
 
             case "checksum":
-                return processedFiles.containsValue(checksum);
-
             case "content":
             default:
-                return processedFiles.containsValue(checksum);
+                return processedIndex.containsChecksum(checksum);
         }
     }
 
@@ -564,6 +683,15 @@ public class FileInboundAdapter extends AbstractAdapter implements InboundAdapte
             }
         }
 
+        // Initialize simple file name glob
+        if(config.getFileName() != null && (config.getFileName().contains("*") || config.getFileName().contains("?"))) {
+            String regex = config.getFileName()
+                    .replace(".", "\\.")
+                    .replace("*", ".*")
+                    .replace("?", ".");
+            fileNameGlob = Pattern.compile(regex);
+        }
+
         // Initialize exclusion pattern
         if(config.getExclusionMask() != null && !config.getExclusionMask().trim().isEmpty()) {
             try {
@@ -574,6 +702,46 @@ public class FileInboundAdapter extends AbstractAdapter implements InboundAdapte
         }
     }
 
+    private void initializeProcessedIndex() throws Exception {
+        if(!config.isPersistProcessedIndex()) {
+            processedIndex = ProcessedFileIndex.inMemory(config.getProcessedIndexMaxEntries());
+            return;
+        }
+
+        Path indexDirectory = config.getProcessedIndexDirectory() != null ?
+                Paths.get(config.getProcessedIndexDirectory()) :
+                FileAdapterCheckpointRepository.getDefault().getDirectory().resolve("processed-files");
+
+        // One index per source directory and file selection
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        String selection = sourceDirectory.toAbsolutePath().normalize() + "|" + config.getFileName() + "|" + config.getFilePattern();
+        String indexName = "file-" + HexFormat.of().formatHex(digest.digest(selection.getBytes(StandardCharsets.UTF_8)), 0, 12);
+
+        processedIndex = ProcessedFileIndex.open(indexDirectory.resolve(indexName + ".idx"), config.getProcessedIndexMaxEntries());
+        if(config.isResetIncrementalOnStart()) {
+            processedIndex.clear();
+        }
+        log.debug("Using processed - file index {} with {} entries", indexName, processedIndex.size());
+    }
+
+    private void initializeWatchService() throws IOException {
+        watchService = sourceDirectory.getFileSystem().newWatchService();
+        sourceDirectory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        // First poll performs a full scan to pick up files that arrived while not watching
+        lastReconciliation = 0;
+        log.info("Watching directory {} for new files", sourceDirectory);
+    }
+
+    private void closeWatchService() {
+        if(watchService != null) {
+            try {
+                watchService.close();
+            } catch(IOException e) {
+                log.warn("Error closing watch service for {}", sourceDirectory, e);
+            }
+            watchService = null;
+        }
+    }
 
     private void validateProcessingDirectories() throws Exception {
         String[] dirs = {
@@ -639,17 +807,102 @@ public class FileInboundAdapter extends AbstractAdapter implements InboundAdapte
 
     @Override
     public void startListening(InboundAdapterPort.DataReceivedCallback callback) {
-        // Not implemented for this adapter type
-        log.debug("Push-based listening not supported by this adapter type");
+        if(watchService == null) {
+            // Push - based listening needs the watch detection mode
+            log.debug("Push-based listening not supported by this adapter type");
+            return;
+        }
+        if(!listening.compareAndSet(false, true)) {
+            log.warn("File watch listener already active");
+            return;
+        }
+
+        this.dataCallback = callback;
+        listenerThread = new Thread(this::listen, "file - watch-" + sourceDirectory.getFileName());
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+        log.info("File watch listener started for {}", sourceDirectory);
+    }
+
+    private void listen() {
+        while(listening.get()) {
+            try {
+                WatchService service = watchService;
+                if(service == null) {
+                    break;
+                }
+                // Wake up at least every second so deferred files(too young, locked, over the per - poll limit)
+                // are revisited and stopListening never has to interrupt file I/O
+                WatchKey key = service.poll(LISTEN_POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if(key != null) {
+                    for(WatchEvent<?> event : key.pollEvents()) {
+                        if(event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                            reconciliationRequested.set(true);
+                        } else {
+                            pendingFiles.add(sourceDirectory.resolve((Path) event.context()));
+                        }
+                    }
+                    key.reset();
+                }
+
+                if(key == null && pendingFiles.isEmpty() && !reconciliationRequested.get()
+                        && System.currentTimeMillis() - lastReconciliation < config.getReconciliationIntervalMs()) {
+                    continue;
+                }
+
+                AdapterOperationResult result = pollForFiles();
+                @SuppressWarnings("unchecked")
+                List<Map<String, Object>> files = (List<Map<String, Object>>) result.getData();
+                try {
+                    if(dataCallback != null && files != null && !files.isEmpty()) {
+                        dataCallback.onDataReceived(files, result);
+                    }
+                } finally {
+                    // Spooled content is only valid for the duration of the callback
+                    SpooledContent.release(files);
+                }
+            } catch(InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch(ClosedWatchServiceException e) {
+                break;
+            } catch(Exception e) {
+                log.error("Error during file watch cycle", e);
+                if(dataCallback != null) {
+                    dataCallback.onDataReceived(null, AdapterOperationResult.failure("Watch error: " + e.getMessage()));
+                }
+            }
+        }
+        listening.set(false);
     }
 
     @Override
     public void stopListening() {
-        // Not implemented for this adapter type
+        if(listening.compareAndSet(true, false)) {
+            if(listenerThread != null) {
+                try {
+                    listenerThread.join(5000);
+                } catch(InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                listenerThread = null;
+            }
+            log.info("File watch listener stopped for {}", sourceDirectory);
+        }
     }
 
     @Override
     public boolean isListening() {
-        return false;
+        return listening.get();
+    }
+
+    private static final class FileCandidate {
+        private final Path path;
+        private final BasicFileAttributes attributes;
+
+        FileCandidate(Path path, BasicFileAttributes attributes) {
+            this.path = path;
+            this.attributes = attributes;
+        }
     }
 }
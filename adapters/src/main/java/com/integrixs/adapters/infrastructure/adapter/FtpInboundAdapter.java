@@ -6,6 +6,10 @@ import org.slf4j.LoggerFactory;
 import com.integrixs.shared.exceptions.AdapterException;
 
 import com.integrixs.adapters.config.FtpInboundAdapterConfig;
+import com.integrixs.adapters.infrastructure.connection.FtpClientFactory;
+import com.integrixs.adapters.infrastructure.connection.RemoteSessionPool;
+import com.integrixs.adapters.infrastructure.connection.SpooledContent;
+import com.integrixs.adapters.infrastructure.connection.TransferSpool;
 
 import org.apache.commons.net.ftp.FTP;
 import org.apache.commons.net.ftp.FTPClient;
@@ -13,10 +17,12 @@ import org.apache.commons.net.ftp.FTPFile;
 import org.apache.commons.net.ftp.FTPReply;
 
 import java.io.*;
-import java.security.MessageDigest;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import com.integrixs.adapters.domain.model.*;
@@ -30,6 +36,8 @@ import java.util.concurrent.TimeUnit;
  * FTP Sender Adapter implementation for FTP file polling and retrieval(INBOUND).
  * Follows middleware convention: Inbound = receives data FROM external systems.
  * Supports FTP connections, file polling, pattern matching, and post - processing.
+ * With connection pooling enabled, sessions come from the shared {@link RemoteSessionPool} and files can be
+ * downloaded in parallel. Large files are streamed to a spool file instead of being buffered in memory.
  */
 public class FtpInboundAdapter extends AbstractAdapter implements com.integrixs.adapters.domain.port.InboundAdapterPort {
     private static final Logger log = LoggerFactory.getLogger(FtpInboundAdapter.class);
@@ -40,6 +48,9 @@ public class FtpInboundAdapter extends AbstractAdapter implements com.integrixs.
     private Pattern filePattern;
     private Pattern exclusionPattern;
     private FTPClient ftpClient;
+    private FtpClientFactory clientFactory;
+    private String poolKey;
+    private ExecutorService downloadExecutor;
 
     // Polling mechanism fields
     private final AtomicBoolean polling = new AtomicBoolean(false);
@@ -79,6 +90,11 @@ public class FtpInboundAdapter extends AbstractAdapter implements com.integrixs.
         // Stop polling if active
         stopPolling();
 
+        if(downloadExecutor != null) {
+            downloadExecutor.shutdownNow();
+            downloadExecutor = null;
+        }
+
         disconnectFromFtp();
         processedFiles.clear();
         return AdapterOperationResult.success("FTP inbound adapter destroyed");
@@ -92,8 +108,7 @@ public class FtpInboundAdapter extends AbstractAdapter implements com.integrixs.
         testResults.add(executeTest(() -> {
             FTPClient testClient = null;
             try {
-                testClient = createFtpClient();
-                connectClient(testClient);
+                testClient = clientFactory().create();
 
                 if(testClient.isConnected() && FTPReply.isPositiveCompletion(testClient.getReplyCode())) {
                     return AdapterOperationResult.success("FTP Connection: Successfully connected to FTP server");
@@ -113,8 +128,7 @@ public class FtpInboundAdapter extends AbstractAdapter implements com.integrixs.
         testResults.add(executeTest(() -> {
             FTPClient testClient = null;
             try {
-                testClient = createFtpClient();
-                connectClient(testClient);
+                testClient = clientFactory().create();
 
                 // Test directory access
                 boolean dirExists = testClient.changeWorkingDirectory(config.getSourceDirectory());
@@ -140,8 +154,7 @@ public class FtpInboundAdapter extends AbstractAdapter implements com.integrixs.
         testResults.add(executeTest(() -> {
             FTPClient testClient = null;
             try {
-                testClient = createFtpClient();
-                connectClient(testClient);
+                testClient = clientFactory().create();
                 testClient.changeWorkingDirectory(config.getSourceDirectory());
 
                 FTPFile[] files = testClient.listFiles();
@@ -181,11 +194,12 @@ public class FtpInboundAdapter extends AbstractAdapter implements com.integrixs.
     }
 
     private AdapterOperationResult pollForFiles() throws Exception {
-        List<Map<String, Object>> processedFiles = new ArrayList<>();
+        List<Map<String, Object>> retrievedFiles = Collections.synchronizedList(new ArrayList<>());
         FTPClient client = null;
+        boolean broken = false;
 
         try {
-            client = getOrCreateConnection();
+            client = acquireClient();
 
             // Change to source directory
             if(!client.changeWorkingDirectory(config.getSourceDirectory())) {
@@ -197,7 +211,7 @@ public class FtpInboundAdapter extends AbstractAdapter implements com.integrixs.
             FTPFile[] files = client.listFiles();
             if(files == null) {
                 log.warn("No files returned from FTP server directory listing");
-                return AdapterOperationResult.success("No files found in directory");
+                return AdapterOperationResult.success(retrievedFiles, "No files found in directory");
             }
 
             // Filter and sort files
@@ -209,38 +223,118 @@ public class FtpInboundAdapter extends AbstractAdapter implements com.integrixs.
 
             sortFiles(eligibleFiles);
 
-            // Process files(respecting any configured limits)
-            for(FTPFile file : eligibleFiles) {
-                try {
-                    if(shouldProcessFile(file)) {
-                        Map<String, Object> fileData = processFile(client, file);
-                        if(fileData != null) {
-                            processedFiles.add(fileData);
-                            handlePostProcessing(client, file);
-
-                            // Mark as processed
-                            this.processedFiles.put(file.getName(), String.valueOf(System.currentTimeMillis()));
+            if(canDownloadInParallel(eligibleFiles.size())) {
+                // Hand the listing session back so a download worker can reuse it
+                releaseClient(client, false);
+                client = null;
+                downloadInParallel(eligibleFiles, retrievedFiles);
+            } else {
+                // Process files(respecting any configured limits)
+                for(FTPFile file : eligibleFiles) {
+                    try {
+                        retrieveFile(client, file, retrievedFiles);
+                    } catch(Exception e) {
+                        log.error("Error processing FTP file: {}", file.getName(), e);
+
+                        if(!config.isContinueOnError()) {
+                            throw new AdapterException(
+                                    "FTP file processing failed for " + file.getName() + ": " + e.getMessage(), e);
                         }
                     }
-                } catch(Exception e) {
-                    log.error("Error processing FTP file: {}", file.getName(), e);
+                }
+            }
+        } catch(IOException e) {
+            broken = true;
+            SpooledContent.release(retrievedFiles);
+            throw e;
+        } catch(Exception e) {
+            // Files spooled before the failure are never handed on
+            SpooledContent.release(retrievedFiles);
+            throw e;
+        } finally {
+            releaseClient(client, broken);
+        }
+
+        log.info("FTP inbound adapter polled {} files from server", retrievedFiles.size());
+
+        return AdapterOperationResult.success(new ArrayList<>(retrievedFiles),
+                String.format("Retrieved %d files from FTP server", retrievedFiles.size()));
+    }
 
-                    if(!config.isContinueOnError()) {
+    private void retrieveFile(FTPClient client, FTPFile file, List<Map<String, Object>> retrievedFiles) throws Exception {
+        if(shouldProcessFile(file)) {
+            Map<String, Object> fileData = processFile(client, file);
+            if(fileData != null) {
+                retrievedFiles.add(fileData);
+                handlePostProcessing(client, file);
+
+                // Mark as processed
+                this.processedFiles.put(file.getName(), String.valueOf(System.currentTimeMillis()));
+            }
+        }
+    }
+
+    private boolean canDownloadInParallel(int fileCount) {
+        // A single permanent connection cannot be shared between download workers
+        return config.getParallelDownloads() > 1 && fileCount > 1
+                && (config.isUseConnectionPool() || !"permanently".equals(config.getConnectionMode()));
+    }
+
+    /**
+     * Download files concurrently, each worker on its own session.
+     * Completion order is not guaranteed, so configured sorting only affects the submission order.
+     */
+    private void downloadInParallel(List<FTPFile> files, List<Map<String, Object>> retrievedFiles) throws Exception {
+        ExecutorService executor = getDownloadExecutor();
+        List<Future<?>> futures = new ArrayList<>();
+        for(FTPFile file : files) {
+            futures.add(executor.submit(() -> {
+                FTPClient client = null;
+                boolean broken = false;
+                try {
+                    client = acquireClient();
+                    if(!client.changeWorkingDirectory(config.getSourceDirectory())) {
                         throw new AdapterException(
-                                "FTP file processing failed for " + file.getName() + ": " + e.getMessage(), e);
+                                "Cannot access source directory: " + config.getSourceDirectory());
                     }
+                    retrieveFile(client, file, retrievedFiles);
+                } catch(IOException e) {
+                    broken = true;
+                    throw e;
+                } finally {
+                    releaseClient(client, broken);
                 }
-            }
+                return null;
+            }));
+        }
 
-        } finally {
-            if("per - file - transfer".equals(config.getConnectionMode()) && client != null) {
-                disconnectClient(client);
+        Exception firstFailure = null;
+        for(int i = 0; i < futures.size(); i++) {
+            try {
+                futures.get(i).get();
+            } catch(ExecutionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                log.error("Error processing FTP file: {}", files.get(i).getName(), cause);
+                if(!config.isContinueOnError() && firstFailure == null) {
+                    firstFailure = new AdapterException(
+                            "FTP file processing failed for " + files.get(i).getName() + ": " + cause.getMessage(), cause);
+                }
             }
         }
+        if(firstFailure != null) {
+            throw firstFailure;
+        }
+    }
 
-        log.info("FTP inbound adapter polled {} files from server", processedFiles.size());
-
-        return AdapterOperationResult.success(String.format("Retrieved %d files from FTP server", processedFiles.size()));
+    private synchronized ExecutorService getDownloadExecutor() {
+        if(downloadExecutor == null) {
+            downloadExecutor = Executors.newFixedThreadPool(config.getParallelDownloads(), r -> {
+                Thread t = new Thread(r, "ftp - download-" + config.getServerAddress());
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        return downloadExecutor;
     }
 
     private Map<String, Object> processFile(FTPClient client, FTPFile file) throws Exception {
@@ -273,45 +367,55 @@ public class FtpInboundAdapter extends AbstractAdapter implements com.integrixs.
         fileData.put("lastModified", file.getTimestamp().getTime());
         fileData.put("ftpPath", config.getSourceDirectory() + "/" + file.getName());
 
-        // Download file content
-        try(ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-            client.setFileType(FTP.BINARY_FILE_TYPE);
-
-            boolean success = client.retrieveFile(file.getName(), baos);
-            if(!success) {
+        // Stream the download, large files go to a spool file instead of memory
+        client.setFileType(FTP.BINARY_FILE_TYPE);
+        long started = System.nanoTime();
+        TransferSpool.Download download = TransferSpool.download(out -> {
+            if(!client.retrieveFile(file.getName(), out)) {
                 throw new AdapterException(
                         "Failed to download file: " + file.getName() + ", FTP reply: " + client.getReplyString());
             }
+        }, fileSize, streamingThreshold(), config.getSpoolDirectory(), file.getName(),
+                config.isValidateFileIntegrity() ? config.getChecksumAlgorithm() : null);
+        if(config.isUseConnectionPool()) {
+            RemoteSessionPool.ftp().recordTransfer(poolKey(), download.getBytes(), System.nanoTime() - started);
+        }
 
-            byte[] content = baos.toByteArray();
-
-            if(config.isLogFileContent()) {
-                // Convert to string for logging
-                String contentStr = new String(content,
-                        config.getFileEncoding() != null ?
-                                config.getFileEncoding() : "UTF-8");
-                fileData.put("content", contentStr);
-            } else {
-                fileData.put("content", content);
-            }
+        if(download.isSpooled()) {
+            fileData.put(SpooledContent.CONTENT_PATH, download.getSpoolFile().toString());
+            fileData.put(SpooledContent.SPOOLED, true);
+        } else if(config.isLogFileContent()) {
+            // Convert to string for logging
+            String contentStr = new String(download.getContent(),
+                    config.getFileEncoding() != null ?
+                            config.getFileEncoding() : "UTF-8");
+            fileData.put("content", contentStr);
+        } else {
+            fileData.put("content", download.getContent());
+        }
 
-            // Generate checksum if configured
-            if(config.isValidateFileIntegrity()) {
-                String checksum = generateChecksum(content);
-                fileData.put("checksum", checksum);
+        // Checksum is computed while streaming if configured
+        if(config.isValidateFileIntegrity()) {
+            fileData.put("checksum", download.getChecksum());
 
-                // Check for duplicates
-                if(config.isEnableDuplicateHandling()) {
-                    if(isDuplicate(file.getName(), checksum)) {
-                        log.debug("FTP file {} is a duplicate, skipping", file.getName());
-                        return null;
-                    }
+            // Check for duplicates
+            if(config.isEnableDuplicateHandling() && isDuplicate(file.getName(), download.getChecksum())) {
+                log.debug("FTP file {} is a duplicate, skipping", file.getName());
+                if(download.isSpooled()) {
+                    java.nio.file.Files.deleteIfExists(download.getSpoolFile());
                 }
+                return null;
             }
         }
 
         return fileData;
     }
+
+    private long streamingThreshold() {
+        // Spooling is opt - in, by default every file is delivered inline as before
+        return config.isStreamLargeFiles() ? config.getStreamingThreshold() : Long.MAX_VALUE;
+    }
+
     private void handlePostProcessing(FTPClient client, FTPFile file) throws Exception {
         String processingMode = config.getProcessingMode();
 
@@ -433,20 +537,28 @@ public class FtpInboundAdapter extends AbstractAdapter implements com.integrixs.
         }
     }
 
-    private String generateChecksum(byte[] content) throws Exception {
-        MessageDigest digest = MessageDigest.getInstance(config.getChecksumAlgorithm());
-        digest.update(content);
+    private boolean isDuplicate(String fileName, String checksum) {
+        // Simple duplicate detection based on checksum
+        return processedFiles.containsValue(checksum);
+    }
 
-        StringBuilder result = new StringBuilder();
-        for(byte b : digest.digest()) {
-            result.append(String.format("%02x", b));
+    private FTPClient acquireClient() throws Exception {
+        if(config.isUseConnectionPool()) {
+            return RemoteSessionPool.ftp().borrow(poolKey(), clientFactory(), maxConcurrentConnections(),
+                    config.getPoolIdleTimeoutMs(), Long.parseLong(config.getTimeout()));
         }
-        return result.toString();
+        return getOrCreateConnection();
     }
 
-    private boolean isDuplicate(String fileName, String checksum) {
-        // Simple duplicate detection based on checksum
-        return processedFiles.containsValue(checksum);
+    private void releaseClient(FTPClient client, boolean broken) {
+        if(client == null) {
+            return;
+        }
+        if(config.isUseConnectionPool()) {
+            RemoteSessionPool.ftp().release(poolKey(), client, broken);
+        } else if(!"permanently".equals(config.getConnectionMode())) {
+            disconnectClient(client);
+        }
     }
 
     private FTPClient getOrCreateConnection() throws Exception {
@@ -457,9 +569,7 @@ public class FtpInboundAdapter extends AbstractAdapter implements com.integrixs.
             return ftpClient;
         } else {
             // Create new connection for each operation
-            FTPClient client = createFtpClient();
-            connectClient(client);
-            return client;
+            return clientFactory().create();
         }
     }
 
@@ -468,55 +578,43 @@ public class FtpInboundAdapter extends AbstractAdapter implements com.integrixs.
             disconnectFromFtp();
         }
 
-        ftpClient = createFtpClient();
-        connectClient(ftpClient);
-    }
-
-    private FTPClient createFtpClient() throws Exception {
-        FTPClient client = new FTPClient();
-
-        // Configure timeouts
-        int timeout = Integer.parseInt(config.getTimeout());
-        client.setConnectTimeout(timeout);
-        client.setDataTimeout(timeout);
-        client.setDefaultTimeout(timeout);
-
-        return client;
+        ftpClient = clientFactory().create();
+        log.debug("Successfully connected to FTP server: {}: {}",
+                config.getServerAddress(), config.getPort());
     }
 
-    private void connectClient(FTPClient client) throws Exception {
-        // Connect to server
-        int port = Integer.parseInt(config.getPort());
-        client.connect(config.getServerAddress(), port);
-
-        // Check connection reply
-        int reply = client.getReplyCode();
-        if(!FTPReply.isPositiveCompletion(reply)) {
-            client.disconnect();
-            throw new AdapterException(
-                    "FTP server refused connection: " + client.getReplyString());
+    private synchronized FtpClientFactory clientFactory() {
+        if(clientFactory == null) {
+            clientFactory = new FtpClientFactory(config.getServerAddress(), Integer.parseInt(config.getPort()),
+                    config.getUserName(), config.getPassword(), Integer.parseInt(config.getTimeout()),
+                    config.getConnectionSecurity(), config.isEnablePassiveMode());
         }
+        return clientFactory;
+    }
 
-        // Login
-        boolean loginSuccess = client.login(config.getUserName(), config.getPassword());
-        if(!loginSuccess) {
-            client.disconnect();
-            throw new AdapterException(
-                    "FTP login failed: " + client.getReplyString());
+    private synchronized String poolKey() {
+        if(poolKey == null) {
+            poolKey = RemoteSessionPool.key(config.getServerAddress(), config.getPort(), config.getUserName(), config.getPassword(),
+                    config.getConnectionSecurity(), config.isEnablePassiveMode(), config.getTimeout(),
+                    maxConcurrentConnections(), config.getPoolIdleTimeoutMs());
         }
+        return poolKey;
+    }
 
-        // Configure passive mode
-        if(config.isEnablePassiveMode()) {
-            client.enterLocalPassiveMode();
-        } else {
-            client.enterLocalActiveMode();
+    private int maxConcurrentConnections() {
+        try {
+            return Integer.parseInt(config.getMaxConcurrentConnections());
+        } catch(NumberFormatException e) {
+            return 5;
         }
+    }
 
-        // Set binary mode for file transfers
-        client.setFileType(FTP.BINARY_FILE_TYPE);
-
-        log.debug("Successfully connected to FTP server: {}: {}",
-                config.getServerAddress(), config.getPort());
+    /**
+     * Pool and per - host throughput metrics of the shared FTP session pool
+     * @return Metrics per host
+     */
+    public Map<String, Object> getTransferMetrics() {
+        return RemoteSessionPool.ftp().getMetrics();
     }
 
     private void disconnectFromFtp() {
@@ -661,33 +759,45 @@ public class FtpInboundAdapter extends AbstractAdapter implements com.integrixs.
             if(!polling.get()) {
                 return;
             }
-
-            try {
-                log.debug("Executing FTP polling cycle");
-                AdapterOperationResult result = pollForFiles();
-
-                // If we have a callback and found files, notify
-                if(dataCallback != null && result.isSuccess() && result.getData() != null) {
-                    List<Map<String, Object>> files = (List<Map<String, Object>>) result.getData();
-                    if(!files.isEmpty()) {
-                        log.info("FTP polling found {} files", files.size());
-                        dataCallback.onDataReceived(files, result);
-                    }
-                }
-            } catch(Exception e) {
-                log.error("Error during FTP polling", e);
-                if(dataCallback != null) {
-                    AdapterOperationResult errorResult = AdapterOperationResult.failure(
-                        "Polling error: " + e.getMessage()
-                   );
-                    dataCallback.onDataReceived(null, errorResult);
-                }
-            }
+            runPollingCycle(intervalMillis, this::executePollingCycle);
         }, 0, intervalMillis, TimeUnit.MILLISECONDS);
 
         log.info("FTP polling started successfully");
     }
 
+    /**
+     * Single FTP polling cycle, runs only on the node owning this poller
+     */
+    private void executePollingCycle() {
+        AdapterOperationResult result = null;
+        try {
+            log.debug("Executing FTP polling cycle");
+            result = pollForFiles();
+
+            // If we have a callback and found files, notify
+            if(dataCallback != null && result.isSuccess() && result.getData() != null) {
+                List<Map<String, Object>> files = (List<Map<String, Object>>) result.getData();
+                if(!files.isEmpty()) {
+                    log.info("FTP polling found {} files", files.size());
+                    dataCallback.onDataReceived(files, result);
+                }
+            }
+        } catch(Exception e) {
+            log.error("Error during FTP polling", e);
+            if(dataCallback != null) {
+                AdapterOperationResult errorResult = AdapterOperationResult.failure(
+                    "Polling error: " + e.getMessage()
+               );
+                dataCallback.onDataReceived(null, errorResult);
+            }
+        } finally {
+            // Spooled content is only valid for the duration of the callback
+            if(result != null) {
+                SpooledContent.release(result.getData());
+            }
+        }
+    }
+
     public void stopPolling() {
         if(polling.compareAndSet(true, false)) {
             log.info("Stopping FTP polling");
@@ -738,6 +848,12 @@ public class FtpInboundAdapter extends AbstractAdapter implements com.integrixs.
 
 
 
+    @Override
+    protected String getPollerId() {
+        String pollerId = super.getPollerId();
+        return pollerId != null ? pollerId : "ftp-" + config.getServerAddress() + ":" + config.getSourceDirectory();
+    }
+
     @Override
     protected AdapterConfiguration.AdapterTypeEnum getAdapterType() {
         return AdapterConfiguration.AdapterTypeEnum.FTP;
@@ -8,6 +8,8 @@ import com.integrixs.shared.exceptions.AdapterException;
 import com.integrixs.adapters.domain.model.*;
 import com.integrixs.adapters.domain.port.OutboundAdapterPort;
 import com.integrixs.adapters.config.FtpOutboundAdapterConfig;
+import com.integrixs.adapters.infrastructure.connection.FtpClientFactory;
+import com.integrixs.adapters.infrastructure.connection.RemoteSessionPool;
 import org.apache.commons.net.ftp.FTP;
 import org.apache.commons.net.ftp.FTPClient;
 import org.apache.commons.net.ftp.FTPReply;
@@ -25,13 +27,17 @@ import java.util.Map;
  * FTP Receiver Adapter implementation for FTP file upload and transfer(OUTBOUND).
  * Follows middleware convention: Outbound = sends data TO external systems.
  * Supports FTP connections, file uploads, batching, and validation.
+ * With connection pooling enabled, clients are borrowed from the shared {@link RemoteSessionPool}.
  */
 public class FtpOutboundAdapter extends AbstractAdapter implements OutboundAdapterPort {
     private static final Logger log = LoggerFactory.getLogger(FtpOutboundAdapter.class);
+    private static final long POOL_IDLE_TIMEOUT_MS = 60000;
 
 
     private final FtpOutboundAdapterConfig config;
     private FTPClient ftpClient;
+    private FtpClientFactory clientFactory;
+    private String poolKey;
     private final AtomicInteger batchCounter = new AtomicInteger(0);
     private final List<Object> batchBuffer = new ArrayList<>();
     private long lastBatchFlush = System.currentTimeMillis();
@@ -99,8 +105,7 @@ public class FtpOutboundAdapter extends AbstractAdapter implements OutboundAdapt
 
             FTPClient testClient = null;
             try {
-                testClient = createFtpClient();
-                connectClient(testClient);
+                testClient = clientFactory().create();
 
                 if(testClient.isConnected() && FTPReply.isPositiveCompletion(testClient.getReplyCode())) {
                     return AdapterOperationResult.success("FTP Connection: Successfully connected to FTP server");
@@ -125,8 +130,7 @@ public class FtpOutboundAdapter extends AbstractAdapter implements OutboundAdapt
 
             FTPClient testClient = null;
             try {
-                testClient = createFtpClient();
-                connectClient(testClient);
+                testClient = clientFactory().create();
 
                 // Test directory access
                 boolean dirExists = testClient.changeWorkingDirectory(config.getTargetDirectory());
@@ -163,8 +167,7 @@ public class FtpOutboundAdapter extends AbstractAdapter implements OutboundAdapt
 
             FTPClient testClient = null;
             try {
-                testClient = createFtpClient();
-                connectClient(testClient);
+                testClient = clientFactory().create();
                 testClient.changeWorkingDirectory(config.getTargetDirectory());
 
                 // Test file upload
@@ -333,10 +336,12 @@ public class FtpOutboundAdapter extends AbstractAdapter implements OutboundAdapt
 
     private AdapterOperationResult uploadContentToFtp(String fileName, byte[] content, boolean isBatch, int itemCount) throws Exception {
         FTPClient client = null;
+        boolean broken = false;
         String uploadPath = null;
+        long started = System.nanoTime();
 
         try {
-            client = getOrCreateConnection();
+            client = acquireClient();
 
             // Change to target directory
             if(!client.changeWorkingDirectory(config.getTargetDirectory())) {
@@ -358,6 +363,7 @@ public class FtpOutboundAdapter extends AbstractAdapter implements OutboundAdapt
 
             // Upload file
             client.setFileType(FTP.BINARY_FILE_TYPE);
+            client.setBufferSize(config.getTransferBufferSize());
             long bytesUploaded = 0;
 
             try(ByteArrayInputStream bais = new ByteArrayInputStream(content)) {
@@ -387,6 +393,9 @@ public class FtpOutboundAdapter extends AbstractAdapter implements OutboundAdapt
                 validateUpload(client, fileName, content.length);
             }
 
+            if(config.isUseConnectionPool()) {
+                RemoteSessionPool.ftp().recordTransfer(poolKey(), bytesUploaded, System.nanoTime() - started);
+            }
             log.info("FTP outbound adapter uploaded {} bytes to file: {}", bytesUploaded, uploadPath);
 
             String message = isBatch ?
@@ -397,12 +406,11 @@ public class FtpOutboundAdapter extends AbstractAdapter implements OutboundAdapt
             // Data would be included here
 
             return result;
-        } catch(Exception e) {
-            // Clean up on error
-            if(ftpClient == null || ftpClient != client) {
-                disconnectClient(client);
-            }
+        } catch(IOException e) {
+            broken = true;
             throw e;
+        } finally {
+            releaseClient(client, broken);
         }
     }
 
@@ -604,6 +612,25 @@ public class FtpOutboundAdapter extends AbstractAdapter implements OutboundAdapt
         return result.toString();
     }
 
+    private FTPClient acquireClient() throws Exception {
+        if(config.isUseConnectionPool()) {
+            return RemoteSessionPool.ftp().borrow(poolKey(), clientFactory(), maxConcurrentConnections(),
+                    POOL_IDLE_TIMEOUT_MS, Long.parseLong(config.getTimeout()));
+        }
+        return getOrCreateConnection();
+    }
+
+    private void releaseClient(FTPClient client, boolean broken) {
+        if(client == null) {
+            return;
+        }
+        if(config.isUseConnectionPool()) {
+            RemoteSessionPool.ftp().release(poolKey(), client, broken);
+        } else if(client != ftpClient) {
+            disconnectClient(client);
+        }
+    }
+
     private FTPClient getOrCreateConnection() throws Exception {
         if("permanently".equals(config.getConnectionMode())) {
             if(ftpClient == null || !ftpClient.isConnected()) {
@@ -612,9 +639,7 @@ public class FtpOutboundAdapter extends AbstractAdapter implements OutboundAdapt
             return ftpClient;
         } else {
             // Create new connection for each operation
-            FTPClient client = createFtpClient();
-            connectClient(client);
-            return client;
+            return clientFactory().create();
         }
     }
 
@@ -623,56 +648,43 @@ public class FtpOutboundAdapter extends AbstractAdapter implements OutboundAdapt
             disconnectFromFtp();
         }
 
-        ftpClient = createFtpClient();
-        connectClient(ftpClient);
-    }
-
-    private FTPClient createFtpClient() throws Exception {
-        FTPClient client = new FTPClient();
-
-        // Configure timeouts
-        int timeout = Integer.parseInt(config.getTimeout());
-        client.setConnectTimeout(timeout);
-        client.setDataTimeout(timeout);
-        client.setDefaultTimeout(timeout);
-
-        // Configure buffer size
-        client.setBufferSize(config.getTransferBufferSize());
-
-        return client;
+        ftpClient = clientFactory().create();
+        log.debug("Successfully connected to FTP server: {}: {}",
+                config.getServerAddress(), config.getPort());
     }
 
-    private void connectClient(FTPClient client) throws Exception {
-        // Connect to server
-        int port = Integer.parseInt(config.getPort());
-        client.connect(config.getServerAddress(), port);
-
-        // Check connection reply
-        int reply = client.getReplyCode();
-        if(!FTPReply.isPositiveCompletion(reply)) {
-            client.disconnect();
-            throw new AdapterException("FTP server refused connection: " + client.getReplyString());
+    private synchronized FtpClientFactory clientFactory() {
+        if(clientFactory == null) {
+            clientFactory = new FtpClientFactory(config.getServerAddress(), Integer.parseInt(config.getPort()),
+                    config.getUserName(), config.getPassword(), Integer.parseInt(config.getTimeout()),
+                    config.getConnectionSecurity(), config.isEnablePassiveMode());
         }
+        return clientFactory;
+    }
 
-        // Login
-        boolean loginSuccess = client.login(config.getUserName(), config.getPassword());
-        if(!loginSuccess) {
-            client.disconnect();
-            throw new AdapterException("FTP login failed: " + client.getReplyString());
+    private synchronized String poolKey() {
+        if(poolKey == null) {
+            poolKey = RemoteSessionPool.key(config.getServerAddress(), config.getPort(), config.getUserName(), config.getPassword(),
+                    config.getConnectionSecurity(), config.isEnablePassiveMode(), config.getTimeout(),
+                    maxConcurrentConnections(), POOL_IDLE_TIMEOUT_MS);
         }
+        return poolKey;
+    }
 
-        // Configure passive mode
-        if(config.isEnablePassiveMode()) {
-            client.enterLocalPassiveMode();
-        } else {
-            client.enterLocalActiveMode();
+    private int maxConcurrentConnections() {
+        try {
+            return Integer.parseInt(config.getMaxConcurrentConnections());
+        } catch(NumberFormatException e) {
+            return 5;
         }
+    }
 
-        // Set binary mode for file transfers
-        client.setFileType(FTP.BINARY_FILE_TYPE);
-
-        log.debug("Successfully connected to FTP server: {}: {}",
-                config.getServerAddress(), config.getPort());
+    /**
+     * Pool and per - host throughput metrics of the shared FTP session pool
+     * @return Metrics per host
+     */
+    public Map<String, Object> getTransferMetrics() {
+        return RemoteSessionPool.ftp().getMetrics();
     }
 
     private void disconnectFromFtp() {
@@ -9,6 +9,8 @@ import com.integrixs.shared.exceptions.AdapterException;
 import com.integrixs.adapters.domain.model.*;
 import com.integrixs.adapters.domain.port.OutboundAdapterPort;
 import com.integrixs.adapters.config.HttpOutboundAdapterConfig;
+import com.integrixs.adapters.infrastructure.service.OAuth2Credential;
+import com.integrixs.adapters.infrastructure.service.OAuth2TokenManager;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.net.http.HttpClient;
@@ -33,6 +35,7 @@ public class HttpOutboundAdapter extends AbstractAdapter implements OutboundAdap
 
     private final HttpOutboundAdapterConfig config;
     private HttpClient httpClient;
+    private volatile OAuth2Credential oauthCredential;
 
     public HttpOutboundAdapter(HttpOutboundAdapterConfig config) {
         this.config = config;
@@ -197,6 +200,15 @@ public class HttpOutboundAdapter extends AbstractAdapter implements OutboundAdap
 
             HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
 
+            OAuth2Credential credential = oauthCredential;
+            if(response.statusCode() == 401 && credential != null) {
+                // Token rejected before its expiry(e.g. revoked): re - fetch it once and retry
+                String rejectedToken = request.headers().firstValue("Authorization").orElse("").replaceFirst("^Bearer ", "");
+                String token = OAuth2TokenManager.shared().onUnauthorized(credential, rejectedToken);
+                requestBuilder.setHeader("Authorization", "Bearer " + token);
+                response = httpClient.send(requestBuilder.build(), HttpResponse.BodyHandlers.ofString());
+            }
+
             return processSendResponse(response);
         } catch(Exception e) {
             log.error("HTTP send operation failed", e);
@@ -302,7 +314,32 @@ public class HttpOutboundAdapter extends AbstractAdapter implements OutboundAdap
             String keyHeader = config.getApiKeyHeaderName() != null ?
                     config.getApiKeyHeaderName() : "X - API - Key";
             builder.header(keyHeader, config.getApiKey());
+        } else if("oauth2".equalsIgnoreCase(authType) || "oauth".equalsIgnoreCase(authType)) {
+            OAuth2Credential credential = getOAuthCredential();
+            String token = credential != null
+                    ? OAuth2TokenManager.shared().getAccessToken(credential) : config.getOauthAccessToken();
+            builder.header("Authorization", "Bearer " + token);
+        }
+    }
+
+    /**
+     * Client credential of the token endpoint, null when only a static access token is configured
+     */
+    private OAuth2Credential getOAuthCredential() {
+        if(config.getOauthTokenUrl() == null || config.getOauthTokenUrl().isBlank()) {
+            return null;
+        }
+        OAuth2Credential credential = oauthCredential;
+        if(credential == null) {
+            credential = OAuth2Credential.builder()
+                    .tokenUrl(config.getOauthTokenUrl())
+                    .clientId(config.getOauthClientId())
+                    .clientSecret(config.getOauthClientSecret())
+                    .scope(config.getOauthScope())
+                    .build();
+            oauthCredential = credential;
         }
+        return credential;
     }
 
     private AdapterOperationResult processSendResponse(HttpResponse<String> response) throws Exception {
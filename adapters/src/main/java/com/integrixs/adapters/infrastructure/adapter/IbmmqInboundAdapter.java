@@ -7,6 +7,7 @@ import com.integrixs.shared.exceptions.AdapterException;
 
 import com.integrixs.adapters.domain.port.InboundAdapterPort;
 import com.integrixs.adapters.config.IbmmqInboundAdapterConfig;
+import com.integrixs.adapters.infrastructure.connection.JmsSessionPool;
 import jakarta.jms.*;
 import javax.naming.Context;
 import javax.naming.InitialContext;
@@ -20,6 +21,7 @@ import java.util.List;import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 /**
  * IBM MQ Inbound Adapter implementation for IBM MQ message consumption(INBOUND).
  * Follows middleware convention: Inbound = receives data FROM external systems.
@@ -32,9 +34,10 @@ public class IbmmqInboundAdapter extends AbstractAdapter implements InboundAdapt
 
     private final IbmmqInboundAdapterConfig config;
     private Connection connection;
-    private Session session;
-    private MessageConsumer consumer;
+    private JmsSessionPool<MessageConsumer> consumerPool;
     private ConnectionFactory connectionFactory;
+    // Messages still to be received one per transaction after a batch was rolled back
+    private final AtomicInteger safePointRemaining = new AtomicInteger();
     private final Map<String, Object> receivedMessages = new ConcurrentHashMap<>();
 
     // Polling mechanism fields
@@ -67,11 +70,8 @@ public class IbmmqInboundAdapter extends AbstractAdapter implements InboundAdapt
         stopPolling();
 
         try {
-            if(consumer != null) {
-                consumer.close();
-            }
-            if(session != null) {
-                session.close();
+            if(consumerPool != null) {
+                consumerPool.close();
             }
             if(connection != null) {
                 connection.stop();
@@ -105,47 +105,124 @@ public class IbmmqInboundAdapter extends AbstractAdapter implements InboundAdapt
 
 
     private AdapterOperationResult receiveIbmmqMessages() throws Exception {
+        return receiveIbmmqMessages(null);
+    }
+
+    /**
+     * Receive one unit of work on a pooled consumer session.
+     * In batch mode up to batchSize messages, or what arrives within batchWaitMs of the first one, are received
+     * under a single transacted session commit; MQ throughput is bound by the syncpoint, not by the messages.
+     * The batch is handed to the callback before the commit, so a failed batch is rolled back and redelivered
+     * as a whole. The messages of a rolled back batch are then received one per transaction, which lets the good
+     * ones through and isolates the failing one for the queue's backout handling or the dead letter queue.
+     * @param callback Receives the messages before they are committed, may be null
+     */
+    private AdapterOperationResult receiveIbmmqMessages(DataReceivedCallback callback) throws Exception {
         List<Map<String, Object>> messages = new ArrayList<>();
+        JmsSessionPool.PooledSession<MessageConsumer> pooled = consumerPool.borrow(config.getConnectionTimeout());
+        Session session = pooled.getSession();
+        boolean transacted = consumerPool.isTransacted();
+        boolean broken = false;
+        int limit = resolveBatchLimit();
+        int received = 0;
+        Message lastMessage = null;
         try {
-            // Receive messages based on configuration
-            if(config.isEnableBatchReceive() && config.getBatchSize() > 0) {
-                // Batch receive
-                for(int i = 0; i < config.getBatchSize(); i++) {
-                    Message message = consumer.receive(config.getReceiveTimeout());
-                    if(message == null) {
-                        break; // No more messages
-                    }
-
-                    Map<String, Object> messageData = processIbmmqMessage(message);
-                    messages.add(messageData);
-                    // Acknowledge if configured
-                    if(config.getAcknowledgementMode() == Session.CLIENT_ACKNOWLEDGE) {
-                        message.acknowledge();
-                    }
-                }
-            } else {
-                // Single message receive
-                Message message = consumer.receive(config.getReceiveTimeout());
-                if(message != null) {
-                    Map<String, Object> messageData = processIbmmqMessage(message);
-                    messages.add(messageData);
-                    if(config.getAcknowledgementMode() == Session.CLIENT_ACKNOWLEDGE) {
-                        message.acknowledge();
-                    }
+            MessageConsumer consumer = pooled.getEndpoint();
+            Message message = consumer.receive(config.getReceiveTimeout());
+            long deadline = System.currentTimeMillis() + config.getBatchWaitMs();
+            while(message != null) {
+                received++;
+                lastMessage = message;
+                messages.add(processIbmmqMessage(message));
+                long remaining = deadline - System.currentTimeMillis();
+                if(received >= limit || remaining <= 0) {
+                    break;
                 }
+                message = consumer.receive(remaining);
             }
 
-            if(messages.isEmpty()) {
-                return AdapterOperationResult.success(messages, "No messages available");
+            AdapterOperationResult result = messages.isEmpty()
+                    ? AdapterOperationResult.success(messages, "No messages available")
+                    : AdapterOperationResult.success(messages,
+                            String.format("Successfully received %d IBM MQ messages", messages.size()));
+            if(callback != null && !messages.isEmpty()) {
+                callback.onDataReceived(messages, result);
+            }
+            if(transacted) {
+                session.commit();
+                if(received > 0 && limit == 1) {
+                    safePointRemaining.updateAndGet(remainingMessages -> Math.max(0, remainingMessages - 1));
+                }
+            } else if(lastMessage != null && config.getAcknowledgementMode() == Session.CLIENT_ACKNOWLEDGE) {
+                // Acknowledges every message consumed by the session so far
+                lastMessage.acknowledge();
             }
 
-            log.info("IBM MQ inbound adapter received {} messages", messages.size());
-            return AdapterOperationResult.success(messages,
-                    String.format("Successfully received %d IBM MQ messages", messages.size()));
+            if(!messages.isEmpty()) {
+                log.info("IBM MQ inbound adapter received {} messages", messages.size());
+            }
+            return result;
         } catch(Exception e) {
+            if(transacted) {
+                if(limit == 1 && lastMessage != null && deadLetterIfExhausted(session, lastMessage)) {
+                    safePointRemaining.updateAndGet(remainingMessages -> Math.max(0, remainingMessages - 1));
+                    return AdapterOperationResult.success(new ArrayList<>(), "Message moved to dead letter queue");
+                }
+                broken = !rollback(session);
+                if(limit > 1 && received > 0) {
+                    safePointRemaining.set(received);
+                    log.warn("Rolled back batch of {} IBM MQ messages, receiving them one at a time", received);
+                }
+            }
+            broken = broken || e instanceof JMSException;
             log.error("Error receiving IBM MQ messages", e);
             throw new AdapterException(
                     "Failed to receive IBM MQ messages: " + e.getMessage(), e);
+        } finally {
+            consumerPool.release(pooled, broken);
+        }
+    }
+
+    private int resolveBatchLimit() {
+        if(!config.isEnableBatchReceive() || config.getBatchSize() == null || config.getBatchSize() <= 1) {
+            return 1;
+        }
+        return safePointRemaining.get() > 0 ? 1 : config.getBatchSize();
+    }
+
+    private boolean rollback(Session session) {
+        try {
+            session.rollback();
+            return true;
+        } catch(JMSException rollbackEx) {
+            log.warn("Failed to rollback IBM MQ transaction", rollbackEx);
+            return false;
+        }
+    }
+
+    /**
+     * Move a message that keeps failing on its own to the dead letter queue, in the transaction that received it
+     * @return Whether the message was moved and committed, otherwise the caller rolls back
+     */
+    private boolean deadLetterIfExhausted(Session session, Message message) {
+        if(!config.isEnableDeadLetterQueue() || config.getDeadLetterQueue() == null || config.getDeadLetterQueue().isEmpty()) {
+            return false;
+        }
+        try {
+            int deliveryCount = message.propertyExists("JMSXDeliveryCount") ? message.getIntProperty("JMSXDeliveryCount") : 1;
+            if(deliveryCount <= config.getMaxRetryAttempts()) {
+                return false;
+            }
+            try(MessageProducer producer = session.createProducer(session.createQueue(config.getDeadLetterQueue()))) {
+                producer.send(message);
+            }
+            session.commit();
+            log.warn("Moved IBM MQ message {} to dead letter queue {} after {} deliveries",
+                    message.getJMSMessageID(), config.getDeadLetterQueue(), deliveryCount);
+            return true;
+        } catch(JMSException e) {
+            log.error("Failed to move IBM MQ message to dead letter queue", e);
+            return false;
         }
     }
 
@@ -204,25 +281,28 @@ public class IbmmqInboundAdapter extends AbstractAdapter implements InboundAdapt
         if(config.getClientId() != null && !config.getClientId().isEmpty()) {
             connection.setClientID(config.getClientId());
         }
-        // Create session
-        session = connection.createSession(config.isTransacted(), config.getAcknowledgementMode());
-        // Create destination
-        Destination destination;
+        // Batches are received under transacted sessions
+        boolean transacted = config.isTransacted() || config.isEnableBatchReceive();
+        // A durable subscription admits a single consumer
+        int sessions = "topic".equalsIgnoreCase(config.getDestinationType()) && config.isDurableSubscription()
+                ? 1 : Math.max(1, config.getConcurrentConsumers());
+        consumerPool = new JmsSessionPool<>(connection, transacted, config.getAcknowledgementMode(), sessions, this::createConsumer);
+        // Start connection
+        connection.start();
+        // Open the first session now so destination problems surface during initialization
+        consumerPool.release(consumerPool.borrow(config.getConnectionTimeout()), false);
+    }
+
+    private MessageConsumer createConsumer(Session session) throws JMSException {
         if("topic".equalsIgnoreCase(config.getDestinationType())) {
-            destination = session.createTopic(config.getDestinationName());
+            Topic topic = session.createTopic(config.getDestinationName());
             // Create durable subscriber if configured
             if(config.isDurableSubscription() && config.getSubscriptionName() != null) {
-                consumer = session.createDurableSubscriber((Topic) destination,
-                        config.getSubscriptionName(), config.getMessageSelector(), false);
-            } else {
-                consumer = session.createConsumer(destination, config.getMessageSelector());
+                return session.createDurableSubscriber(topic, config.getSubscriptionName(), config.getMessageSelector(), false);
             }
-        } else {
-            destination = session.createQueue(config.getDestinationName());
-            consumer = session.createConsumer(destination, config.getMessageSelector());
+            return session.createConsumer(topic, config.getMessageSelector());
         }
-        // Start connection
-        connection.start();
+        return session.createConsumer(session.createQueue(config.getDestinationName()), config.getMessageSelector());
     }
 
     private void initializeConnectionFactory() throws Exception {
@@ -311,30 +391,40 @@ public class IbmmqInboundAdapter extends AbstractAdapter implements InboundAdapt
         log.info("Starting IBM MQ polling with interval: {} ms", intervalMillis);
         polling.set(true);
 
-        // Create scheduled executor for polling
-        pollingExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
-            Thread t = new Thread(r, "ibmmq - polling-" + config.getDestinationName());
+        // One polling task per pooled consumer session
+        int consumers = consumerPool.getMaxSessions();
+        AtomicInteger threadNumber = new AtomicInteger();
+        pollingExecutor = Executors.newScheduledThreadPool(consumers, r -> {
+            Thread t = new Thread(r, "ibmmq - polling-" + config.getDestinationName() + "-" + threadNumber.incrementAndGet());
             t.setDaemon(true);
             return t;
         });
 
-        // Schedule polling task
-        pollingExecutor.scheduleWithFixedDelay(() -> {
+        for(int i = 0; i < consumers; i++) {
+            pollingExecutor.scheduleWithFixedDelay(this::executePollingCycle, 0, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+
+        log.info("IBM MQ polling started successfully");
+    }
+
+    /**
+     * Receive until the queue is drained, i.e. until a cycle returns less than a full batch
+     */
+    private void executePollingCycle() {
+        boolean fullBatch;
+        do {
             if(!polling.get()) {
                 return;
             }
-
+            fullBatch = false;
             try {
                 log.debug("Executing IBM MQ polling cycle");
-                AdapterOperationResult result = receiveIbmmqMessages();
-
-                // If we have a callback and found messages, notify
-                if(dataCallback != null && result.isSuccess() && result.getData() != null) {
-                    List<Map<String, Object>> messages = (List<Map<String, Object>>) result.getData();
-                    if(!messages.isEmpty()) {
-                        log.info("IBM MQ polling received {} messages", messages.size());
-                        dataCallback.onDataReceived(messages, result);
-                    }
+                int limit = resolveBatchLimit();
+                AdapterOperationResult result = receiveIbmmqMessages(dataCallback);
+                List<Map<String, Object>> messages = (List<Map<String, Object>>) result.getData();
+                if(messages != null && !messages.isEmpty()) {
+                    log.info("IBM MQ polling received {} messages", messages.size());
+                    fullBatch = messages.size() >= limit;
                 }
             } catch(Exception e) {
                 log.error("Error during IBM MQ polling", e);
@@ -343,9 +433,7 @@ public class IbmmqInboundAdapter extends AbstractAdapter implements InboundAdapt
                         AdapterOperationResult.failure("Polling error: " + e.getMessage()));
                 }
             }
-        }, 0, intervalMillis, TimeUnit.MILLISECONDS);
-
-        log.info("IBM MQ polling started successfully");
+        } while(fullBatch);
     }
 
     public void stopPolling() {
@@ -384,7 +472,7 @@ public class IbmmqInboundAdapter extends AbstractAdapter implements InboundAdapt
                 .adapterMode(AdapterConfiguration.AdapterModeEnum.INBOUND)
                 .description("Inbound adapter implementation")
                 .version("1.0.0")
-                .supportsBatch(false)
+                .supportsBatch(true)
                 .supportsAsync(true)
                 .build();
     }
@@ -7,6 +7,7 @@ import com.integrixs.shared.exceptions.AdapterException;
 
 import com.integrixs.adapters.domain.port.OutboundAdapterPort;
 import com.integrixs.adapters.config.IbmmqOutboundAdapterConfig;
+import com.integrixs.adapters.infrastructure.connection.JmsSessionPool;
 import jakarta.jms.*;
 import javax.naming.Context;
 import javax.naming.InitialContext;
@@ -18,6 +19,14 @@ import java.util.HashMap;import java.util.List;import com.integrixs.adapters.dom
 import java.util.HashMap;import java.util.Map;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 /**
  * IBM MQ Outbound Adapter implementation for IBM MQ message publishing(OUTBOUND).
  * Follows middleware convention: Outbound = sends data TO external systems.
@@ -30,10 +39,13 @@ public class IbmmqOutboundAdapter extends AbstractAdapter implements OutboundAda
 
     private final IbmmqOutboundAdapterConfig config;
     private Connection connection;
-    private Session session;
-    private MessageProducer producer;
-    private Destination destination;
+    private JmsSessionPool<MessageProducer> producerPool;
     private ConnectionFactory connectionFactory;
+
+    // Group commit of single sends when batching is enabled
+    private final BlockingQueue<PendingSend> pendingSends = new LinkedBlockingQueue<>();
+    private final AtomicBoolean flushing = new AtomicBoolean(false);
+    private ExecutorService sendFlusher;
     public IbmmqOutboundAdapter(IbmmqOutboundAdapterConfig config) {
         super();
         this.config = config;
@@ -55,12 +67,10 @@ public class IbmmqOutboundAdapter extends AbstractAdapter implements OutboundAda
     @Override
     protected AdapterOperationResult performShutdown() {
         log.info("Destroying IBM MQ outbound adapter");
+        stopSendFlusher();
         try {
-            if(producer != null) {
-                producer.close();
-            }
-            if(session != null) {
-                session.close();
+            if(producerPool != null) {
+                producerPool.close();
             }
             if(connection != null) {
                 connection.stop();
@@ -93,122 +103,175 @@ public class IbmmqOutboundAdapter extends AbstractAdapter implements OutboundAda
     @Override
     public AdapterOperationResult send(SendRequest request) {
         try {
-            return sendIbmmqMessage(request.getPayload());
+            if(sendFlusher != null) {
+                PendingSend pending = new PendingSend(request.getPayload());
+                pendingSends.put(pending);
+                try {
+                    return pending.result.get(config.getTransactionTimeout(), TimeUnit.MILLISECONDS);
+                } catch(TimeoutException e) {
+                    if(pending.cancel()) {
+                        // Not picked up by a flusher yet, it is never sent and the caller may retry safely
+                        pendingSends.remove(pending);
+                        return AdapterOperationResult.failure("Timed out waiting to send IBM MQ message");
+                    }
+                    // Already being sent, report the real outcome so a retry cannot duplicate it
+                    return pending.result.get();
+                }
+            }
+            return sendGroup(Collections.singletonList(request.getPayload())).get(0);
         } catch(Exception e) {
             return AdapterOperationResult.failure("Failed to send IBM MQ message: " + e.getMessage());
         }
     }
 
-    private AdapterOperationResult sendIbmmqMessage(Object payload) throws Exception {
+    /**
+     * Send a group of messages, under one transacted session commit when the session is transacted.
+     * A group that fails is rolled back and its messages are sent again one per transaction, so a single bad
+     * message only fails itself.
+     * @return One result per payload
+     */
+    private List<AdapterOperationResult> sendGroup(List<Object> payloads) throws Exception {
         try {
-            Message message;
-
-            // Create appropriate IBM MQ message based on payload type
-            if(payload instanceof String) {
-                message = session.createTextMessage((String) payload);
-            } else if(payload instanceof byte[]) {
-                BytesMessage bytesMessage = session.createBytesMessage();
-                bytesMessage.writeBytes((byte[]) payload);
-                message = bytesMessage;
-            } else if(payload instanceof Map) {
-                MapMessage mapMessage = session.createMapMessage();
-                Map<String, Object> map = (Map<String, Object>) payload;
-                // Check for special fields
-                Object body = map.get("body");
-                Map<String, Object> properties = (Map<String, Object>) map.get("properties");
-                Map<String, Object> headers = (Map<String, Object>) map.get("headers");
-                if(body != null) {
-                    // Body is provided separately
-                    if(body instanceof String) {
-                        message = session.createTextMessage((String) body);
-                    } else if(body instanceof Map) {
-                        // Create map message from body
-                        Map<String, Object> bodyMap = (Map<String, Object>) body;
-                        for(Map.Entry<String, Object> entry : bodyMap.entrySet()) {
-                            mapMessage.setObject(entry.getKey(), entry.getValue());
-                        }
-                        message = mapMessage;
-                    } else {
-                        message = session.createObjectMessage((Serializable) body);
-                    }
-                } else {
-                    // Use entire map as message content
-                    for(Map.Entry<String, Object> entry : map.entrySet()) {
-                        mapMessage.setObject(entry.getKey(), entry.getValue());
-                    }
-                    message = mapMessage;
-                }
-                // Set properties if provided
-                if(properties != null) {
-                    for(Map.Entry<String, Object> entry : properties.entrySet()) {
-                        message.setObjectProperty(entry.getKey(), entry.getValue());
-                    }
-                }
-                // Set headers if provided
-                if(headers != null) {
-                    String correlationId = (String) headers.get("correlationId");
-                    if(correlationId != null) {
-                        message.setJMSCorrelationID(correlationId);
-                    }
-
-                    String replyTo = (String) headers.get("replyTo");
-                    if(replyTo != null) {
-                        Destination replyToDestination = session.createQueue(replyTo);
-                        message.setJMSReplyTo(replyToDestination);
-                    }
-                }
-            } else if(payload instanceof Serializable) {
-                message = session.createObjectMessage((Serializable) payload);
-            } else {
-                throw new AdapterException(
-                        "Unsupported payload type: " + payload.getClass().getName());
+            return sendInTransaction(payloads);
+        } catch(Exception e) {
+            if(payloads.size() == 1 || !producerPool.isTransacted()) {
+                throw e;
             }
-
-            // Set message properties from configuration
-            if(config.getMessageProperties() != null && !config.getMessageProperties().isEmpty()) {
-                String[] props = config.getMessageProperties().split(",");
-                for(String prop : props) {
-                    String[] keyValue = prop.split(" = ");
-                    if(keyValue.length == 2) {
-                        message.setStringProperty(keyValue[0].trim(), keyValue[1].trim());
-                    }
+            log.warn("Rolled back group of {} IBM MQ messages, sending them one at a time: {}", payloads.size(), e.getMessage());
+            List<AdapterOperationResult> results = new ArrayList<>();
+            for(Object payload : payloads) {
+                try {
+                    results.addAll(sendInTransaction(Collections.singletonList(payload)));
+                } catch(Exception single) {
+                    results.add(AdapterOperationResult.failure("Failed to send IBM MQ message: " + single.getMessage()));
                 }
             }
+            return results;
+        }
+    }
 
-            // Send the message
-            if(config.isPersistent()) {
-                producer.setDeliveryMode(DeliveryMode.PERSISTENT);
-            } else {
-                producer.setDeliveryMode(DeliveryMode.NON_PERSISTENT);
+    private List<AdapterOperationResult> sendInTransaction(List<Object> payloads) throws Exception {
+        JmsSessionPool.PooledSession<MessageProducer> pooled = producerPool.borrow(config.getConnectionTimeout());
+        Session session = pooled.getSession();
+        boolean broken = false;
+        try {
+            List<Message> messages = new ArrayList<>();
+            for(Object payload : payloads) {
+                Message message = createIbmmqMessage(session, payload);
+                pooled.getEndpoint().send(message);
+                messages.add(message);
             }
-            producer.setPriority(config.getPriority());
-            producer.setTimeToLive(config.getTimeToLive());
-            producer.send(message);
             // Commit if transacted
-            if(config.isTransacted()) {
+            if(producerPool.isTransacted()) {
                 session.commit();
             }
 
-            log.info("IBM MQ outbound adapter sent message with ID: {}", message.getJMSMessageID());
-            Map<String, Object> result = new HashMap<>();
-            result.put("messageId", message.getJMSMessageID());
-            result.put("timestamp", new Date(message.getJMSTimestamp()));
-            result.put("destination", destination.toString());
-            return AdapterOperationResult.success(result,
-                    String.format("Successfully sent IBM MQ message: %s", message.getJMSMessageID()));
+            List<AdapterOperationResult> results = new ArrayList<>();
+            for(Message message : messages) {
+                Map<String, Object> result = new HashMap<>();
+                result.put("messageId", message.getJMSMessageID());
+                result.put("timestamp", new Date(message.getJMSTimestamp()));
+                result.put("destination", config.getDestinationName());
+                results.add(AdapterOperationResult.success(result,
+                        String.format("Successfully sent IBM MQ message: %s", message.getJMSMessageID())));
+            }
+            log.info("IBM MQ outbound adapter sent {} messages", messages.size());
+            return results;
         } catch(Exception e) {
             // Rollback if transacted
-            if(config.isTransacted() && session != null) {
+            if(producerPool.isTransacted()) {
                 try {
                     session.rollback();
                 } catch(JMSException rollbackEx) {
                     log.warn("Failed to rollback transaction", rollbackEx);
+                    broken = true;
                 }
             }
+            broken = broken || e instanceof JMSException;
             log.error("Error sending IBM MQ message", e);
             throw new AdapterException(
                     "Failed to send IBM MQ message: " + e.getMessage(), e);
+        } finally {
+            producerPool.release(pooled, broken);
+        }
+    }
+
+    private Message createIbmmqMessage(Session session, Object payload) throws Exception {
+        Message message;
+
+        // Create appropriate IBM MQ message based on payload type
+        if(payload instanceof String) {
+            message = session.createTextMessage((String) payload);
+        } else if(payload instanceof byte[]) {
+            BytesMessage bytesMessage = session.createBytesMessage();
+            bytesMessage.writeBytes((byte[]) payload);
+            message = bytesMessage;
+        } else if(payload instanceof Map) {
+            MapMessage mapMessage = session.createMapMessage();
+            Map<String, Object> map = (Map<String, Object>) payload;
+            // Check for special fields
+            Object body = map.get("body");
+            Map<String, Object> properties = (Map<String, Object>) map.get("properties");
+            Map<String, Object> headers = (Map<String, Object>) map.get("headers");
+            if(body != null) {
+                // Body is provided separately
+                if(body instanceof String) {
+                    message = session.createTextMessage((String) body);
+                } else if(body instanceof Map) {
+                    // Create map message from body
+                    Map<String, Object> bodyMap = (Map<String, Object>) body;
+                    for(Map.Entry<String, Object> entry : bodyMap.entrySet()) {
+                        mapMessage.setObject(entry.getKey(), entry.getValue());
+                    }
+                    message = mapMessage;
+                } else {
+                    message = session.createObjectMessage((Serializable) body);
+                }
+            } else {
+                // Use entire map as message content
+                for(Map.Entry<String, Object> entry : map.entrySet()) {
+                    mapMessage.setObject(entry.getKey(), entry.getValue());
+                }
+                message = mapMessage;
+            }
+            // Set properties if provided
+            if(properties != null) {
+                for(Map.Entry<String, Object> entry : properties.entrySet()) {
+                    message.setObjectProperty(entry.getKey(), entry.getValue());
+                }
+            }
+            // Set headers if provided
+            if(headers != null) {
+                String correlationId = (String) headers.get("correlationId");
+                if(correlationId != null) {
+                    message.setJMSCorrelationID(correlationId);
+                }
+
+                String replyTo = (String) headers.get("replyTo");
+                if(replyTo != null) {
+                    Destination replyToDestination = session.createQueue(replyTo);
+                    message.setJMSReplyTo(replyToDestination);
+                }
+            }
+        } else if(payload instanceof Serializable) {
+            message = session.createObjectMessage((Serializable) payload);
+        } else {
+            throw new AdapterException(
+                    "Unsupported payload type: " + payload.getClass().getName());
+        }
+
+        // Set message properties from configuration
+        if(config.getMessageProperties() != null && !config.getMessageProperties().isEmpty()) {
+            String[] props = config.getMessageProperties().split(",");
+            for(String prop : props) {
+                String[] keyValue = prop.split(" = ");
+                if(keyValue.length == 2) {
+                    message.setStringProperty(keyValue[0].trim(), keyValue[1].trim());
+                }
+            }
         }
+
+        return message;
     }
 
     private void initializeIbmmqConnection() throws Exception {
@@ -221,18 +284,106 @@ public class IbmmqOutboundAdapter extends AbstractAdapter implements OutboundAda
             connection.setClientID(config.getClientId());
         }
 
-        // Create session
-        session = connection.createSession(config.isTransacted(), config.getAcknowledgementMode());
-        // Create destination
-        if("topic".equalsIgnoreCase(config.getDestinationType())) {
-            destination = session.createTopic(config.getDestinationName());
-        } else {
-            destination = session.createQueue(config.getDestinationName());
-        }
-        // Create producer
-        producer = session.createProducer(destination);
+        // Batched sends are committed as a group
+        boolean transacted = config.isTransacted() || config.isEnableBatching();
+        producerPool = new JmsSessionPool<>(connection, transacted, config.getAcknowledgementMode(),
+                Math.max(1, config.getConcurrentProducers()), this::createProducer);
         // Start connection
         connection.start();
+        // Open the first session now so destination problems surface during initialization
+        producerPool.release(producerPool.borrow(config.getConnectionTimeout()), false);
+        if(config.isEnableBatching()) {
+            startSendFlusher();
+        }
+    }
+
+    private MessageProducer createProducer(Session session) throws JMSException {
+        Destination destination = "topic".equalsIgnoreCase(config.getDestinationType())
+                ? session.createTopic(config.getDestinationName())
+                : session.createQueue(config.getDestinationName());
+        MessageProducer producer = session.createProducer(destination);
+        producer.setDeliveryMode(config.isPersistent() ? DeliveryMode.PERSISTENT : DeliveryMode.NON_PERSISTENT);
+        producer.setPriority(config.getPriority());
+        producer.setTimeToLive(config.getTimeToLive());
+        return producer;
+    }
+
+    /**
+     * Group commit for single sends: every flusher thread takes the sends queued while the previous commit was
+     * in progress, up to batchSize, and commits them together. A lone send is committed right away, under load
+     * the groups grow and the syncpoint cost is shared.
+     */
+    private void startSendFlusher() {
+        flushing.set(true);
+        int flushers = producerPool.getMaxSessions();
+        AtomicInteger threadNumber = new AtomicInteger();
+        sendFlusher = Executors.newFixedThreadPool(flushers, r -> {
+            Thread t = new Thread(r, "ibmmq - send-" + config.getDestinationName() + "-" + threadNumber.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        for(int i = 0; i < flushers; i++) {
+            sendFlusher.execute(this::flushPendingSends);
+        }
+    }
+
+    private void flushPendingSends() {
+        while(flushing.get()) {
+            List<PendingSend> group = new ArrayList<>();
+            try {
+                PendingSend first = pendingSends.poll(1, TimeUnit.SECONDS);
+                if(first == null) {
+                    continue;
+                }
+                List<PendingSend> drained = new ArrayList<>();
+                drained.add(first);
+                pendingSends.drainTo(drained, getBatchSize() - 1);
+                // Sends whose caller timed out are skipped, the rest can no longer be cancelled
+                for(PendingSend pending : drained) {
+                    if(pending.claim()) {
+                        group.add(pending);
+                    }
+                }
+                if(group.isEmpty()) {
+                    continue;
+                }
+
+                List<Object> payloads = new ArrayList<>();
+                group.forEach(pending -> payloads.add(pending.payload));
+                List<AdapterOperationResult> results = sendGroup(payloads);
+                for(int i = 0; i < group.size(); i++) {
+                    group.get(i).result.complete(results.get(i));
+                }
+            } catch(InterruptedException e) {
+                Thread.currentThread().interrupt();
+                group.forEach(pending -> pending.result.complete(AdapterOperationResult.failure("IBM MQ adapter is shutting down")));
+                return;
+            } catch(Exception e) {
+                group.forEach(pending -> pending.result.complete(
+                        AdapterOperationResult.failure("Failed to send IBM MQ message: " + e.getMessage())));
+            }
+        }
+    }
+
+    private void stopSendFlusher() {
+        if(sendFlusher == null) {
+            return;
+        }
+        flushing.set(false);
+        sendFlusher.shutdown();
+        try {
+            if(!sendFlusher.awaitTermination(5, TimeUnit.SECONDS)) {
+                sendFlusher.shutdownNow();
+            }
+        } catch(InterruptedException e) {
+            sendFlusher.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        sendFlusher = null;
+        PendingSend pending;
+        while((pending = pendingSends.poll()) != null) {
+            pending.result.complete(AdapterOperationResult.failure("IBM MQ adapter is shutting down"));
+        }
     }
 
     private void initializeConnectionFactory() throws Exception {
@@ -340,12 +491,22 @@ public class IbmmqOutboundAdapter extends AbstractAdapter implements OutboundAda
     @Override
     public AdapterOperationResult sendBatch(List<SendRequest> requests) {
         List<AdapterOperationResult> results = new ArrayList<>();
-        for(SendRequest request : requests) {
-            results.add(send(request));
+        // Chunks of batchSize messages, one commit per chunk on a transacted session
+        int chunkSize = producerPool.isTransacted() ? getBatchSize() : 1;
+        for(int start = 0; start < requests.size(); start += chunkSize) {
+            List<Object> payloads = new ArrayList<>();
+            for(SendRequest request : requests.subList(start, Math.min(requests.size(), start + chunkSize))) {
+                payloads.add(request.getPayload());
+            }
+            try {
+                results.addAll(sendGroup(payloads));
+            } catch(Exception e) {
+                payloads.forEach(payload -> results.add(AdapterOperationResult.failure("Failed to send IBM MQ message: " + e.getMessage())));
+            }
         }
 
         long successCount = results.stream().filter(AdapterOperationResult::isSuccess).count();
-        return AdapterOperationResult.success(
+        return AdapterOperationResult.success(results,
                 String.format("Batch sent %d/%d messages successfully", successCount, results.size()));
     }
 
@@ -401,4 +562,32 @@ public class IbmmqOutboundAdapter extends AbstractAdapter implements OutboundAda
     public int getMaxBatchSize() {
         return config.getMaxBatchSize(); // Already returns int from config
     }
+
+    private static final class PendingSend {
+        private static final int QUEUED = 0;
+        private static final int IN_FLIGHT = 1;
+        private static final int CANCELLED = 2;
+
+        private final Object payload;
+        private final CompletableFuture<AdapterOperationResult> result = new CompletableFuture<>();
+        private final AtomicInteger state = new AtomicInteger(QUEUED);
+
+        PendingSend(Object payload) {
+            this.payload = payload;
+        }
+
+        /**
+         * Take the send for a flusher, fails if the caller cancelled it
+         */
+        boolean claim() {
+            return state.compareAndSet(QUEUED, IN_FLIGHT);
+        }
+
+        /**
+         * Withdraw the send, fails if a flusher already took it
+         */
+        boolean cancel() {
+            return state.compareAndSet(QUEUED, CANCELLED);
+        }
+    }
 }
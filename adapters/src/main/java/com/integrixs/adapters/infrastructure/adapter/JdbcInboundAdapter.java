@@ -9,7 +9,18 @@ import com.integrixs.adapters.domain.model.*;
 import java.util.concurrent.CompletableFuture;
 import com.integrixs.adapters.domain.port.InboundAdapterPort;
 import com.integrixs.adapters.config.JdbcInboundAdapterConfig;
+import com.integrixs.adapters.domain.repository.AdapterCheckpointRepository;
+import com.integrixs.adapters.domain.service.PollerOwnershipService;
+import com.integrixs.adapters.infrastructure.persistence.FileAdapterCheckpointRepository;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
 import java.sql.*;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.HexFormat;
 import java.util.Map;
 import java.util.List;
 import java.util.ArrayList;
@@ -18,6 +29,9 @@ import java.util.Properties;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -26,14 +40,26 @@ import java.util.concurrent.TimeUnit;
  * JDBC Sender Adapter implementation for database polling and data retrieval(INBOUND).
  * Follows middleware convention: Inbound = receives data FROM external systems.
  * Supports SELECT operations with polling, pagination, and incremental data processing.
+ *
+ * Incremental extraction keeps a durable watermark per adapter which is only committed after the
+ * downstream consumer accepted the rows. In polling mode rows are streamed from the ResultSet in
+ * fixed - size chunks, and the incremental key range can optionally be split into sub - ranges that
+ * are read concurrently from the connection pool.
  */
 public class JdbcInboundAdapter extends AbstractAdapter implements InboundAdapterPort {
     private static final Logger log = LoggerFactory.getLogger(JdbcInboundAdapter.class);
 
 
     private final JdbcInboundAdapterConfig config;
+    private static final String WATERMARK_CHECKPOINT = "watermark";
+
     private HikariDataSource dataSource;
-    private Object lastProcessedValue; // For incremental polling
+    private volatile Object lastProcessedValue; // Committed watermark for incremental polling
+    private volatile Object pendingWatermark; // Extracted but not yet acknowledged watermark
+    private AdapterCheckpointRepository checkpointRepository;
+    private String checkpointKey;
+    private ExecutorService partitionExecutor;
+    private final Object chunkDeliveryLock = new Object();
 
     // Polling mechanism fields
     private final AtomicBoolean polling = new AtomicBoolean(false);
@@ -52,6 +78,15 @@ public class JdbcInboundAdapter extends AbstractAdapter implements InboundAdapte
         try {
             validateConfiguration();
             dataSource = createDataSource();
+            initializeWatermark();
+            if(config.getIncrementalColumn() != null && config.getParallelPartitions() > 1) {
+                int threads = Math.min(config.getParallelPartitions(), config.getMaxPoolSize());
+                partitionExecutor = Executors.newFixedThreadPool(threads, r -> {
+                    Thread t = new Thread(r, "jdbc - partition-" + checkpointKey);
+                    t.setDaemon(true);
+                    return t;
+                });
+            }
         } catch(Exception e) {
             log.error("Error during initialization", e);
             return AdapterOperationResult.failure("Initialization error: " + e.getMessage());
@@ -68,6 +103,11 @@ public class JdbcInboundAdapter extends AbstractAdapter implements InboundAdapte
         // Stop polling if active
         stopPolling();
 
+        if(partitionExecutor != null) {
+            partitionExecutor.shutdownNow();
+            partitionExecutor = null;
+        }
+
         if(dataSource != null && !dataSource.isClosed()) {
             dataSource.close();
             dataSource = null;
@@ -145,78 +185,471 @@ public class JdbcInboundAdapter extends AbstractAdapter implements InboundAdapte
         }
 
         List<Map<String, Object>> results = new ArrayList<>();
-        try(Connection conn = dataSource.getConnection()) {
-            conn.setReadOnly(config.isReadOnly());
-            conn.setAutoCommit(config.isAutoCommit());
+        Object[] watermark = new Object[1];
+        extract((rows, chunkWatermark) -> {
+            results.addAll(rows);
+            if(chunkWatermark != null) {
+                watermark[0] = chunkWatermark;
+            }
+        }, false);
 
-            String query = buildIncrementalQuery();
-            try(PreparedStatement stmt = conn.prepareStatement(query)) {
-                stmt.setQueryTimeout(config.getQueryTimeoutSeconds());
+        if(watermark[0] != null) {
+            pendingWatermark = watermark[0];
+            if(config.isAutoCommitOnFetch()) {
+                commitWatermark(watermark[0]);
+            }
+        }
 
-                if(config.getFetchSize() != null) {
-                    stmt.setFetchSize(config.getFetchSize());
-                }
+        log.info("JDBC inbound adapter polled {} records from database", results.size());
+        AdapterOperationResult result = AdapterOperationResult.success(results,
+                String.format("Retrieved %d records from database", results.size()));
+        if(watermark[0] != null) {
+            result.addMetadata("watermark", watermark[0]);
+        }
+        return result;
+    }
 
-                if(config.getMaxResults() != null) {
-                    stmt.setMaxRows(config.getMaxResults());
+    /**
+     * Handler for a chunk of extracted rows. Throwing signals downstream failure and stops the extraction
+     * before the chunk's watermark is committed.
+     */
+    @FunctionalInterface
+    private interface ChunkHandler {
+        void onChunk(List<Map<String, Object>> rows, Object chunkWatermark) throws Exception;
+    }
+
+    /**
+     * Extract all rows above the committed watermark, either sequentially or range - partitioned.
+     * @param handler Chunk handler
+     * @param commitPerChunk Commit the watermark after every accepted chunk
+     * @return Number of rows extracted
+     */
+    private long extract(ChunkHandler handler, boolean commitPerChunk) throws Exception {
+        Object lowerBound = lastProcessedValue;
+
+        if(partitionExecutor != null) {
+            KeyRange range = resolveKeyRange(lowerBound);
+            if(range == null) {
+                return 0;
+            }
+            List<Object> boundaries = range.split(config.getParallelPartitions(), config.getMinRowsPerPartition());
+            if(boundaries.size() > 1) {
+                return extractPartitioned(lowerBound, boundaries, handler, commitPerChunk);
+            }
+        }
+
+        return streamRange(lowerBound, null, (rows, chunkWatermark) -> {
+            handler.onChunk(rows, chunkWatermark);
+            if(commitPerChunk && chunkWatermark != null) {
+                commitWatermark(chunkWatermark);
+            }
+        }, isOrderedByIncrementalColumn()).rows;
+    }
+
+    /**
+     * Read the sub - ranges(lowerBound, b1], (b1, b2] ... (bn - 1, bn] concurrently, each on its own pooled connection.
+     * The watermark only moves to the upper bound once every partition has been delivered.
+     */
+    private long extractPartitioned(Object lowerBound, List<Object> boundaries, ChunkHandler handler,
+                                    boolean commitPerChunk) throws Exception {
+        log.info("Extracting {} key partitions above watermark {}", boundaries.size(), lowerBound);
+
+        AtomicBoolean aborted = new AtomicBoolean(false);
+        List<Future<RangeResult>> futures = new ArrayList<>();
+        Object previous = lowerBound;
+        for(Object upper : boundaries) {
+            Object lower = previous;
+            futures.add(partitionExecutor.submit(() -> streamRange(lower, upper, (rows, chunkWatermark) -> {
+                if(aborted.get()) {
+                    throw new AdapterException("Partitioned extraction aborted", null);
                 }
-                // Set incremental parameter if configured
-                if(config.getIncrementalColumn() != null && lastProcessedValue != null) {
-                    stmt.setObject(1, lastProcessedValue);
+                // Downstream consumers are not required to be thread safe
+                synchronized(chunkDeliveryLock) {
+                    handler.onChunk(rows, null);
                 }
+            }, true)));
+            previous = upper;
+        }
 
-                try(ResultSet rs = stmt.executeQuery()) {
-                    ResultSetMetaData metaData = rs.getMetaData();
-                    int columnCount = metaData.getColumnCount();
+        long total = 0;
+        Exception failure = null;
+        List<RangeResult> results = new ArrayList<>();
+        for(Future<RangeResult> future : futures) {
+            try {
+                RangeResult result = future.get();
+                results.add(result);
+                total += result.rows;
+            } catch(ExecutionException e) {
+                aborted.set(true);
+                if(failure == null) {
+                    failure = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                }
+            }
+        }
+        if(failure != null) {
+            throw failure;
+        }
+
+        // The watermark may only pass the last row read of the first partition cut short by max results,
+        // rows of later partitions above it are read again by the next extraction
+        Object watermark = boundaries.get(boundaries.size() - 1);
+        Object partitionLower = lowerBound;
+        for(int i = 0; i < results.size(); i++) {
+            RangeResult result = results.get(i);
+            if(result.truncated) {
+                watermark = result.watermark != null ? result.watermark : partitionLower;
+                log.info("Partition({}, {}] was cut short by max results, watermark capped at {}",
+                        partitionLower, boundaries.get(i), watermark);
+                break;
+            }
+            partitionLower = boundaries.get(i);
+        }
+        if(watermark == null || watermark.equals(lowerBound)) {
+            return total;
+        }
+        synchronized(chunkDeliveryLock) {
+            handler.onChunk(List.of(), watermark);
+        }
+        if(commitPerChunk) {
+            commitWatermark(watermark);
+        }
+        return total;
+    }
+
+    /**
+     * Outcome of reading one key range
+     */
+    private static final class RangeResult {
+        private final long rows;
+        // Highest incremental value whose rows were all read, null if none
+        private final Object watermark;
+        // Max results stopped the read before the end of the range
+        private final boolean truncated;
+
+        RangeResult(long rows, Object watermark, boolean truncated) {
+            this.rows = rows;
+            this.watermark = watermark;
+            this.truncated = truncated;
+        }
+    }
+
+    /**
+     * Stream the rows of(lowerBound, upperBound] from the ResultSet in chunks of the configured size.
+     * A chunk only reports a watermark up to the last incremental value whose rows were all read: rows sharing
+     * a value may straddle a chunk boundary or be cut off by max results, and the next extraction reads
+     * strictly above the watermark.
+     * @param ordered Rows arrive in incremental key order; otherwise the watermark is only reported at the end
+     * @return Rows read and the watermark reached
+     */
+    private RangeResult streamRange(Object lowerBound, Object upperBound, ChunkHandler handler, boolean ordered) throws Exception {
+        int chunkSize = Math.max(1, config.getChunkSize());
+        long total = 0;
+        long started = System.currentTimeMillis();
+        Object completeWatermark = null;
+        boolean truncated = false;
+
+        try(Connection conn = dataSource.getConnection()) {
+            conn.setReadOnly(config.isReadOnly());
+            // Cursor based fetching needs auto - commit off(PostgreSQL ignores the fetch size in auto - commit mode),
+            // whatever the adapter's auto - commit setting; the pooled connection gets its previous mode back
+            boolean previousAutoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try {
+                String query = buildIncrementalQuery(lowerBound != null, upperBound != null, true);
+                try(PreparedStatement stmt = conn.prepareStatement(query, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                    stmt.setQueryTimeout(config.getQueryTimeoutSeconds());
+
+                    if(config.getFetchSize() != null) {
+                        stmt.setFetchSize(config.getFetchSize());
+                    }
+
+                    if(config.getMaxResults() != null) {
+                        stmt.setMaxRows(config.getMaxResults());
+                    }
+                    // Set incremental parameters if configured
+                    int parameterIndex = 1;
+                    if(lowerBound != null) {
+                        stmt.setObject(parameterIndex++, lowerBound);
+                    }
+                    if(upperBound != null) {
+                        stmt.setObject(parameterIndex, upperBound);
+                    }
 
-                    while(rs.next()) {
-                        Map<String, Object> row = new HashMap<>();
+                    try(ResultSet rs = stmt.executeQuery()) {
+                        ResultSetMetaData metaData = rs.getMetaData();
+                        int columnCount = metaData.getColumnCount();
+                        String[] columnNames = new String[columnCount];
+                        int incrementalIndex = -1;
                         for(int i = 1; i <= columnCount; i++) {
-                            String columnName = metaData.getColumnName(i);
-                            Object value = rs.getObject(i);
-                            row.put(columnName, value);
+                            columnNames[i - 1] = metaData.getColumnName(i);
+                            if(config.getIncrementalColumn() != null
+                                    && (config.getIncrementalColumn().equalsIgnoreCase(columnNames[i - 1])
+                                    || config.getIncrementalColumn().equalsIgnoreCase(metaData.getColumnLabel(i)))) {
+                                incrementalIndex = i;
+                            }
                         }
-                        results.add(row);
 
-                        // Update last processed value for incremental polling
-                        if(config.getIncrementalColumn() != null) {
-                            Object incrementalValue = row.get(config.getIncrementalColumn());
-                            if(incrementalValue != null) {
-                                lastProcessedValue = incrementalValue;
+                        List<Map<String, Object>> chunk = new ArrayList<>(chunkSize);
+                        Object maxSeen = null;
+                        Object currentValue = null;
+                        while(rs.next()) {
+                            Map<String, Object> row = new HashMap<>(columnCount * 2);
+                            for(int i = 1; i <= columnCount; i++) {
+                                row.put(columnNames[i - 1], rs.getObject(i));
+                            }
+                            chunk.add(row);
+                            total++;
+
+                            if(incrementalIndex > 0) {
+                                Object value = rs.getObject(incrementalIndex);
+                                maxSeen = maxWatermark(maxSeen, value);
+                                // In key order a new value means every row of the previous value has been read
+                                if(ordered && value != null && currentValue != null && !value.equals(currentValue)) {
+                                    completeWatermark = currentValue;
+                                }
+                                if(value != null) {
+                                    currentValue = value;
+                                }
+                            }
+
+                            if(chunk.size() >= chunkSize) {
+                                handler.onChunk(chunk, ordered ? completeWatermark : null);
+                                chunk = new ArrayList<>(chunkSize);
                             }
                         }
+
+                        truncated = config.getMaxResults() != null && total >= config.getMaxResults();
+                        if(!truncated) {
+                            // End of the range, every value seen is complete
+                            completeWatermark = maxSeen;
+                        } else if(!ordered) {
+                            log.warn("Max results reached on a query with its own ORDER BY, rows sharing the last "
+                                    + "incremental value may be skipped; order by {} to avoid this", config.getIncrementalColumn());
+                            completeWatermark = maxSeen;
+                        } else if(completeWatermark == null) {
+                            log.warn("All {} rows read share incremental value {}, raise max results to make progress",
+                                    total, currentValue);
+                        }
+                        if(!chunk.isEmpty() || completeWatermark != null) {
+                            handler.onChunk(chunk, completeWatermark);
+                        }
                     }
                 }
+                conn.commit();
+            } catch(Exception e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(previousAutoCommit);
             }
         }
 
-        log.info("JDBC inbound adapter polled {} records from database", results.size());
-        return AdapterOperationResult.success(results,
-                String.format("Retrieved %d records from database", results.size()));
+        long elapsed = System.currentTimeMillis() - started;
+        if(config.isLogSlowQueries() && elapsed > config.getSlowQueryThresholdMs()) {
+            log.warn("Slow JDBC extraction of range({}, {}]: {} rows in {} ms", lowerBound, upperBound, total, elapsed);
+        }
+        return new RangeResult(total, completeWatermark, truncated);
     }
 
-    private String buildIncrementalQuery() {
+    private String buildIncrementalQuery(boolean lowerBound, boolean upperBound, boolean ordered) {
         String baseQuery = config.getSelectQuery();
+        String column = config.getIncrementalColumn();
 
-        if(config.getIncrementalColumn() != null && lastProcessedValue != null) {
+        if(column != null && (lowerBound || upperBound)) {
             // Add WHERE clause for incremental processing
+            String condition = lowerBound && upperBound
+                    ? column + " > ? AND " + column + " <= ?"
+                    : column + (lowerBound ? " > ?" : " <= ?");
             if(baseQuery.toUpperCase().contains("WHERE")) {
-                baseQuery += " AND " + config.getIncrementalColumn() + " > ?";
+                baseQuery += " AND " + condition;
             } else {
-                baseQuery += " WHERE " + config.getIncrementalColumn() + " > ?";
+                baseQuery += " WHERE " + condition;
             }
         }
 
         // Add ORDER BY for incremental column
-        if(config.getIncrementalColumn() != null) {
+        if(ordered && column != null) {
             if(!baseQuery.toUpperCase().contains("ORDER BY")) {
-                baseQuery += " ORDER BY " + config.getIncrementalColumn() + " ASC";
+                baseQuery += " ORDER BY " + column + " ASC";
             }
         }
 
         return baseQuery;
     }
 
+    private boolean isOrderedByIncrementalColumn() {
+        return !config.getSelectQuery().toUpperCase().contains("ORDER BY");
+    }
+
+    /**
+     * Determine the incremental key range above the watermark, or null when there is nothing to extract
+     */
+    private KeyRange resolveKeyRange(Object lowerBound) throws SQLException {
+        if(!isOrderedByIncrementalColumn()) {
+            log.debug("Select query defines its own ORDER BY, partitioned extraction disabled");
+            return new KeyRange(null, null);
+        }
+        String column = config.getIncrementalColumn();
+        String rangeQuery = "SELECT MIN(" + column + "), MAX(" + column + ") FROM("
+                + buildIncrementalQuery(lowerBound != null, false, false) + ") range_src";
+
+        try(Connection conn = dataSource.getConnection()) {
+            conn.setReadOnly(config.isReadOnly());
+            try(PreparedStatement stmt = conn.prepareStatement(rangeQuery)) {
+                stmt.setQueryTimeout(config.getQueryTimeoutSeconds());
+                if(lowerBound != null) {
+                    stmt.setObject(1, lowerBound);
+                }
+                try(ResultSet rs = stmt.executeQuery()) {
+                    if(!rs.next() || rs.getObject(2) == null) {
+                        return null;
+                    }
+                    return new KeyRange(rs.getObject(1), rs.getObject(2));
+                }
+            }
+        }
+    }
+
+    /**
+     * Incremental key range [min, max] which can be split into contiguous sub - ranges
+     */
+    private static final class KeyRange {
+        private final Object min;
+        private final Object max;
+
+        KeyRange(Object min, Object max) {
+            this.min = min;
+            this.max = max;
+        }
+
+        /**
+         * @return Inclusive upper bounds of each partition, the last one always being max
+         */
+        List<Object> split(int partitions, long minRowsPerPartition) {
+            List<Object> boundaries = new ArrayList<>();
+            if(max == null) {
+                return boundaries;
+            }
+            if(min instanceof Number && max instanceof Number) {
+                BigDecimal low = new BigDecimal(min.toString());
+                BigDecimal span = new BigDecimal(max.toString()).subtract(low);
+                int count = (int) Math.max(1, Math.min(partitions,
+                        span.divide(BigDecimal.valueOf(Math.max(1, minRowsPerPartition)), 0, RoundingMode.DOWN).longValue()));
+                BigDecimal step = span.divide(BigDecimal.valueOf(count), 0, RoundingMode.DOWN);
+                for(int i = 1; i < count && step.signum() > 0; i++) {
+                    boundaries.add(low.add(step.multiply(BigDecimal.valueOf(i))));
+                }
+            } else if(min instanceof java.util.Date && max instanceof java.util.Date) {
+                long low = ((java.util.Date) min).getTime();
+                long step = (((java.util.Date) max).getTime() - low) / Math.max(1, partitions);
+                for(int i = 1; i < partitions && step > 0; i++) {
+                    boundaries.add(new Timestamp(low + step * i));
+                }
+            }
+            boundaries.add(max);
+            return boundaries;
+        }
+    }
+
+    private void initializeWatermark() {
+        checkpointKey = resolveCheckpointKey();
+        if(config.getIncrementalColumn() == null) {
+            return;
+        }
+
+        if(config.isCheckpointEnabled()) {
+            checkpointRepository = config.getCheckpointDirectory() != null && !config.getCheckpointDirectory().isBlank()
+                    ? FileAdapterCheckpointRepository.forDirectory(Paths.get(config.getCheckpointDirectory()))
+                    : PollerOwnershipService.current().getCheckpointRepository();
+
+            if(config.isResetIncrementalOnStart()) {
+                checkpointRepository.delete(checkpointKey, WATERMARK_CHECKPOINT);
+            } else {
+                lastProcessedValue = checkpointRepository.load(checkpointKey, WATERMARK_CHECKPOINT)
+                        .map(JdbcInboundAdapter::decodeWatermark)
+                        .orElse(null);
+            }
+        }
+
+        if(lastProcessedValue == null && !config.isResetIncrementalOnStart()) {
+            lastProcessedValue = config.getLastProcessedValue();
+        }
+        log.info("JDBC inbound adapter {} resumes from watermark {}", checkpointKey, lastProcessedValue);
+    }
+
+    private void commitWatermark(Object watermark) {
+        lastProcessedValue = watermark;
+        if(checkpointRepository != null) {
+            checkpointRepository.save(checkpointKey, WATERMARK_CHECKPOINT, encodeWatermark(watermark));
+        }
+        log.debug("Committed JDBC watermark {} for {}", watermark, checkpointKey);
+    }
+
+    private String resolveCheckpointKey() {
+        if(configuration != null && configuration.getAdapterId() != null) {
+            return "jdbc-" + configuration.getAdapterId();
+        }
+        // Stable key derived from the source definition when no adapter id is known
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            String source = config.getJdbcUrl() + "|" + config.getSelectQuery() + "|" + config.getIncrementalColumn();
+            return "jdbc-" + HexFormat.of().formatHex(digest.digest(source.getBytes(StandardCharsets.UTF_8))).substring(0, 24);
+        } catch(Exception e) {
+            throw new IllegalStateException("Unable to derive checkpoint key", e);
+        }
+    }
+
+    @SuppressWarnings( {"unchecked", "rawtypes"})
+    private static Object maxWatermark(Object current, Object candidate) {
+        if(candidate == null) {
+            return current;
+        }
+        if(current == null) {
+            return candidate;
+        }
+        if(current instanceof Comparable && current.getClass().isInstance(candidate)) {
+            return((Comparable) current).compareTo(candidate) >= 0 ? current : candidate;
+        }
+        return candidate;
+    }
+
+    private static String encodeWatermark(Object value) {
+        if(value instanceof Long || value instanceof Integer || value instanceof Short) {
+            return "L:" + ((Number) value).longValue();
+        }
+        if(value instanceof Number) {
+            return "D:" + new BigDecimal(value.toString()).toPlainString();
+        }
+        if(value instanceof Timestamp) {
+            return "T:" + value;
+        }
+        if(value instanceof java.sql.Date) {
+            return "DT:" + value;
+        }
+        if(value instanceof LocalDateTime) {
+            return "LT:" + value;
+        }
+        if(value instanceof OffsetDateTime) {
+            return "OT:" + value;
+        }
+        return "S:" + value;
+    }
+
+    private static Object decodeWatermark(String encoded) {
+        int separator = encoded.indexOf(':');
+        String type = encoded.substring(0, separator);
+        String value = encoded.substring(separator + 1);
+        return switch(type) {
+            case "L" -> Long.valueOf(value);
+            case "D" -> new BigDecimal(value);
+            case "T" -> Timestamp.valueOf(value);
+            case "DT" -> java.sql.Date.valueOf(value);
+            case "LT" -> LocalDateTime.parse(value);
+            case "OT" -> OffsetDateTime.parse(value);
+            default -> value;
+        };
+    }
+
     private String addLimitToQuery(String query, int limit) {
         // Simple LIMIT addition - this would need to be database - specific in production
         return query + " LIMIT " + limit;
@@ -332,32 +765,48 @@ public class JdbcInboundAdapter extends AbstractAdapter implements InboundAdapte
             if(!polling.get()) {
                 return;
             }
+            runPollingCycle(intervalMillis, this::executePollingCycle);
+        }, 0, intervalMillis, TimeUnit.MILLISECONDS);
 
-            try {
-                log.debug("Executing JDBC polling cycle");
-                AdapterOperationResult result = pollForData();
-
-                // If we have a callback and found records, notify
-                if(dataCallback != null && result.isSuccess() && result.getData() != null) {
-                    @SuppressWarnings("unchecked")
-					List<Map<String, Object>> records = (List<Map<String, Object>>) result.getData();
-                    if(!records.isEmpty()) {
-                        log.info("JDBC polling found {} records", records.size());
-                        dataCallback.onDataReceived(records, result);
-                    }
+        log.info("JDBC polling started successfully");
+    }
+
+    /**
+     * Single JDBC polling cycle, runs only on the node owning this poller
+     */
+    private void executePollingCycle() {
+        try {
+            log.debug("Executing JDBC polling cycle");
+            if(dataCallback == null) {
+                // Without a consumer the watermark must not move
+                log.debug("No data callback registered, skipping JDBC polling cycle");
+                return;
+            }
+
+            // Stream chunks downstream; the watermark is committed after each accepted chunk
+            long records = extract((rows, chunkWatermark) -> {
+                if(rows.isEmpty()) {
+                    return;
                 }
-            } catch(Exception e) {
-                log.error("Error during JDBC polling", e);
-                if(dataCallback != null) {
-                    AdapterOperationResult errorResult = AdapterOperationResult.failure(
-                        "Polling error: " + e.getMessage()
-                   );
-                    dataCallback.onDataReceived(null, errorResult);
+                AdapterOperationResult chunkResult = AdapterOperationResult.success(rows,
+                        String.format("Retrieved %d records from database", rows.size()));
+                if(chunkWatermark != null) {
+                    chunkResult.addMetadata("watermark", chunkWatermark);
                 }
+                dataCallback.onDataReceived(rows, chunkResult);
+            }, true);
+            if(records > 0) {
+                log.info("JDBC polling delivered {} records", records);
             }
-        }, 0, intervalMillis, TimeUnit.MILLISECONDS);
-
-        log.info("JDBC polling started successfully");
+        } catch(Exception e) {
+            log.error("Error during JDBC polling", e);
+            if(dataCallback != null) {
+                AdapterOperationResult errorResult = AdapterOperationResult.failure(
+                    "Polling error: " + e.getMessage()
+               );
+                dataCallback.onDataReceived(null, errorResult);
+            }
+        }
     }
 
     public void stopPolling() {
@@ -390,6 +839,33 @@ public class JdbcInboundAdapter extends AbstractAdapter implements InboundAdapte
     public boolean isPolling() {
         return polling.get();
     }
+
+    /**
+     * Commit the watermark of the last fetch once the caller processed its rows successfully.
+     * Only needed when autoCommitOnFetch is disabled.
+     */
+    public void commitWatermark() {
+        Object watermark = pendingWatermark;
+        if(watermark != null) {
+            commitWatermark(watermark);
+        }
+    }
+
+    public Object getWatermark() {
+        return lastProcessedValue;
+    }
+
+    /**
+     * Discard the persisted watermark so the next extraction starts from the beginning
+     */
+    public void resetWatermark() {
+        lastProcessedValue = null;
+        pendingWatermark = null;
+        if(checkpointRepository != null) {
+            checkpointRepository.delete(checkpointKey, WATERMARK_CHECKPOINT);
+        }
+        log.info("Reset JDBC watermark for {}", checkpointKey);
+    }
     public AdapterMetadata getMetadata() {
         return AdapterMetadata.builder()
                 .adapterType(AdapterConfiguration.AdapterTypeEnum.JDBC)
@@ -419,6 +895,21 @@ public class JdbcInboundAdapter extends AbstractAdapter implements InboundAdapte
         }
     }
 
+    @Override
+    protected String getPollerId() {
+        return checkpointKey;
+    }
+
+    @Override
+    protected void onPollerOwnershipAcquired() {
+        // Resume from the watermark the previous owner committed
+        if(checkpointRepository != null) {
+            checkpointRepository.load(checkpointKey, WATERMARK_CHECKPOINT)
+                    .map(JdbcInboundAdapter::decodeWatermark)
+                    .ifPresent(watermark -> lastProcessedValue = watermark);
+        }
+    }
+
     @Override
     protected AdapterConfiguration.AdapterTypeEnum getAdapterType() {
         return AdapterConfiguration.AdapterTypeEnum.JDBC;
@@ -0,0 +1,426 @@
+package com.integrixs.adapters.infrastructure.adapter;
+
+import com.integrixs.adapters.config.KafkaInboundAdapterConfig;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Poll loop for the Kafka inbound adapter that processes records in parallel while keeping ordering
+ * per partition(or per key within a partition).
+ *
+ * Records are dispatched to single threaded lanes selected by partition or key hash. Offsets are only
+ * committed up to the lowest record still in flight, so a crash never skips an unprocessed record.
+ * Partitions with too many unprocessed records are paused until their lanes catch up.
+ * The KafkaConsumer itself is only touched from the polling thread.
+ */
+public class KafkaConsumerEngine {
+    private static final Logger log = LoggerFactory.getLogger(KafkaConsumerEngine.class);
+
+    /**
+     * Processes a single record. Throwing marks the attempt as failed.
+     */
+    @FunctionalInterface
+    public interface RecordProcessor {
+        void process(ConsumerRecord<String, String> record) throws Exception;
+    }
+
+    /**
+     * Receives records that still failed after all processing attempts
+     */
+    @FunctionalInterface
+    public interface FailureHandler {
+        void onFailure(ConsumerRecord<String, String> record, Exception error);
+    }
+
+    private final Consumer<String, String> consumer;
+    private final List<String> topics;
+    private final KafkaInboundAdapterConfig config;
+    private final RecordProcessor processor;
+    private final FailureHandler failureHandler;
+    private final ExecutorService[] lanes;
+    private final boolean keyOrdering;
+    private final Map<TopicPartition, PartitionTracker> trackers = new ConcurrentHashMap<>();
+    // Lowest offset per partition whose processing was interrupted, re - fetched by the poll thread
+    private final Map<TopicPartition, Long> redeliveries = new ConcurrentHashMap<>();
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private long lastCommitTime;
+
+    public KafkaConsumerEngine(Consumer<String, String> consumer, List<String> topics, KafkaInboundAdapterConfig config,
+                               RecordProcessor processor, FailureHandler failureHandler) {
+        this.consumer = consumer;
+        this.topics = topics;
+        this.config = config;
+        this.processor = processor;
+        this.failureHandler = failureHandler;
+        this.keyOrdering = "KEY".equalsIgnoreCase(config.getOrderingMode());
+        this.lanes = new ExecutorService[Math.max(1, config.getWorkerThreads())];
+        for(int i = 0; i < lanes.length; i++) {
+            int laneIndex = i;
+            lanes[i] = Executors.newSingleThreadExecutor(r -> {
+                Thread t = new Thread(r, "kafka - worker-" + config.getGroupId() + "-" + laneIndex);
+                t.setDaemon(true);
+                return t;
+            });
+        }
+    }
+
+    /**
+     * Run the poll loop on the calling thread until {@link #stop()} is called
+     * @param pollTimeoutMs Poll timeout in milliseconds
+     */
+    public void run(long pollTimeoutMs) {
+        running.set(true);
+        lastCommitTime = System.currentTimeMillis();
+        consumer.subscribe(topics, new RebalanceListener());
+        log.info("Kafka consumer engine started for topics {} with {} {} lanes",
+                topics, lanes.length, keyOrdering ? "key ordered" : "partition ordered");
+
+        try {
+            while(running.get()) {
+                seekRedeliveries();
+                ConsumerRecords<String, String> records = consumer.poll(Duration.ofMillis(pollTimeoutMs));
+                for(ConsumerRecord<String, String> record : records) {
+                    dispatch(record);
+                }
+                applyBackPressure();
+                updateLag();
+                if(System.currentTimeMillis() - lastCommitTime >= config.getCommitIntervalMs()) {
+                    commit(false);
+                }
+            }
+        } catch(WakeupException e) {
+            if(running.get()) {
+                throw e;
+            }
+        } finally {
+            shutdownLanes();
+            try {
+                commit(true);
+            } catch(Exception e) {
+                log.warn("Final Kafka offset commit failed: {}", e.getMessage());
+            }
+            log.info("Kafka consumer engine stopped");
+        }
+    }
+
+    /**
+     * Stop the poll loop. Safe to call from any thread.
+     */
+    public void stop() {
+        if(running.compareAndSet(true, false)) {
+            consumer.wakeup();
+        }
+    }
+
+    /**
+     * Consumer lag and processing statistics per partition
+     * @return Metrics keyed by topic - partition
+     */
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        long totalLag = 0;
+        long totalPending = 0;
+        for(Map.Entry<TopicPartition, PartitionTracker> entry : trackers.entrySet()) {
+            PartitionTracker tracker = entry.getValue();
+            Map<String, Object> partition = new HashMap<>();
+            long processed = tracker.processed.sum();
+            partition.put("lag", tracker.lag);
+            partition.put("pending", tracker.pendingCount());
+            partition.put("processed", processed);
+            partition.put("failed", tracker.failed.sum());
+            partition.put("committedOffset", tracker.lastCommitted);
+            partition.put("paused", tracker.paused);
+            partition.put("avgLatencyMs", processed > 0 ? tracker.latencyNanos.sum() / processed / 1_000_000.0 : 0.0);
+            partition.put("maxLatencyMs", tracker.maxLatencyNanos.get() / 1_000_000.0);
+            metrics.put(entry.getKey().toString(), partition);
+            totalLag += Math.max(0, tracker.lag);
+            totalPending += tracker.pendingCount();
+        }
+        metrics.put("totalLag", totalLag);
+        metrics.put("totalPending", totalPending);
+        return metrics;
+    }
+
+    private void dispatch(ConsumerRecord<String, String> record) {
+        TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+        PartitionTracker tracker = trackers.computeIfAbsent(partition, tp -> new PartitionTracker());
+        tracker.dispatched(record.offset());
+        lanes[laneFor(record)].execute(() -> processWithRetry(record, tracker));
+    }
+
+    private int laneFor(ConsumerRecord<String, String> record) {
+        int hash = keyOrdering && record.key() != null
+                ? Objects.hash(record.topic(), record.partition(), record.key())
+                : Objects.hash(record.topic(), record.partition());
+        return Math.floorMod(hash, lanes.length);
+    }
+
+    private void processWithRetry(ConsumerRecord<String, String> record, PartitionTracker tracker) {
+        long started = System.nanoTime();
+        int attempts = Math.max(1, config.getMaxProcessingAttempts());
+        for(int attempt = 1; attempt <= attempts && !tracker.revoked; attempt++) {
+            try {
+                processor.process(record);
+                tracker.completed(record.offset(), System.nanoTime() - started, false);
+                return;
+            } catch(Exception e) {
+                if(attempt == attempts) {
+                    log.error("Kafka record {}-{}@{} failed after {} attempts: {}",
+                            record.topic(), record.partition(), record.offset(), attempts, e.getMessage());
+                    // Hand the record over so a poison message cannot stall its partition forever
+                    failureHandler.onFailure(record, e);
+                    tracker.completed(record.offset(), System.nanoTime() - started, true);
+                    return;
+                }
+                log.warn("Kafka record {}-{}@{} failed(attempt {}/{}): {}",
+                        record.topic(), record.partition(), record.offset(), attempt, attempts, e.getMessage());
+                try {
+                    Thread.sleep(config.getRetryBackoffMs() * attempt);
+                } catch(InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    // The record stays pending so its offset is not committed; while running it is fetched
+                    // again, on shutdown the next consumer starts from it
+                    if(running.get() && !tracker.revoked) {
+                        redeliveries.merge(new TopicPartition(record.topic(), record.partition()),
+                                record.offset(), Math::min);
+                    }
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Rewind partitions to records whose processing was interrupted. Later records of the partition are
+     * delivered again as well, processing is at least once.
+     */
+    private void seekRedeliveries() {
+        if(redeliveries.isEmpty()) {
+            return;
+        }
+        Set<TopicPartition> assigned = consumer.assignment();
+        for(TopicPartition partition : new ArrayList<>(redeliveries.keySet())) {
+            Long offset = redeliveries.remove(partition);
+            if(offset != null && assigned.contains(partition) && trackers.containsKey(partition)) {
+                log.info("Re - fetching Kafka partition {} from interrupted offset {}", partition, offset);
+                consumer.seek(partition, offset);
+            }
+        }
+    }
+
+    private void applyBackPressure() {
+        int maxPending = Math.max(1, config.getMaxPendingPerPartition());
+        List<TopicPartition> toPause = new ArrayList<>();
+        List<TopicPartition> toResume = new ArrayList<>();
+        Set<TopicPartition> assigned = consumer.assignment();
+        for(Map.Entry<TopicPartition, PartitionTracker> entry : trackers.entrySet()) {
+            if(!assigned.contains(entry.getKey())) {
+                continue;
+            }
+            PartitionTracker tracker = entry.getValue();
+            int pending = tracker.pendingCount();
+            if(!tracker.paused && pending >= maxPending) {
+                toPause.add(entry.getKey());
+                tracker.paused = true;
+            } else if(tracker.paused && pending <= maxPending / 2) {
+                toResume.add(entry.getKey());
+                tracker.paused = false;
+            }
+        }
+        if(!toPause.isEmpty()) {
+            log.debug("Pausing Kafka partitions {} for back - pressure", toPause);
+            consumer.pause(toPause);
+        }
+        if(!toResume.isEmpty()) {
+            log.debug("Resuming Kafka partitions {}", toResume);
+            consumer.resume(toResume);
+        }
+    }
+
+    private void updateLag() {
+        for(Map.Entry<TopicPartition, PartitionTracker> entry : trackers.entrySet()) {
+            OptionalLong lag = consumer.currentLag(entry.getKey());
+            if(lag.isPresent()) {
+                entry.getValue().lag = lag.getAsLong();
+            }
+        }
+    }
+
+    private void commit(boolean sync) {
+        commit(trackers.keySet(), sync);
+    }
+
+    private void commit(Collection<TopicPartition> partitions, boolean sync) {
+        lastCommitTime = System.currentTimeMillis();
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        for(TopicPartition partition : partitions) {
+            PartitionTracker tracker = trackers.get(partition);
+            if(tracker == null) {
+                continue;
+            }
+            long committable = tracker.committableOffset();
+            if(committable > tracker.lastCommitted) {
+                offsets.put(partition, new OffsetAndMetadata(committable));
+                tracker.lastCommitted = committable;
+            }
+        }
+        if(offsets.isEmpty()) {
+            return;
+        }
+
+        if(sync) {
+            consumer.commitSync(offsets);
+        } else {
+            consumer.commitAsync(offsets, (committed, exception) -> {
+                if(exception != null) {
+                    log.warn("Kafka offset commit failed, retrying with next commit: {}", exception.getMessage());
+                    committed.keySet().forEach(tp -> {
+                        PartitionTracker tracker = trackers.get(tp);
+                        if(tracker != null) {
+                            tracker.lastCommitted = -1;
+                        }
+                    });
+                }
+            });
+        }
+        log.debug("Committed Kafka offsets {}", offsets);
+    }
+
+    private void shutdownLanes() {
+        for(ExecutorService lane : lanes) {
+            lane.shutdown();
+        }
+        long deadline = System.currentTimeMillis() + config.getRevokeDrainTimeoutMs();
+        for(ExecutorService lane : lanes) {
+            try {
+                if(!lane.awaitTermination(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS)) {
+                    lane.shutdownNow();
+                }
+            } catch(InterruptedException e) {
+                lane.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Commits what has been processed before partitions move to another group member
+     */
+    private class RebalanceListener implements ConsumerRebalanceListener {
+
+        @Override
+        public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+            long deadline = System.currentTimeMillis() + config.getRevokeDrainTimeoutMs();
+            for(TopicPartition partition : partitions) {
+                PartitionTracker tracker = trackers.get(partition);
+                while(tracker != null && tracker.pendingCount() > 0 && System.currentTimeMillis() < deadline) {
+                    try {
+                        Thread.sleep(10);
+                    } catch(InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
+                }
+            }
+            try {
+                commit(partitions, true);
+            } catch(Exception e) {
+                log.warn("Kafka offset commit on revoke failed: {}", e.getMessage());
+            }
+            partitions.forEach(this::forget);
+            log.info("Kafka partitions revoked: {}", partitions);
+        }
+
+        @Override
+        public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
+            log.info("Kafka partitions assigned: {}", partitions);
+        }
+
+        @Override
+        public void onPartitionsLost(Collection<TopicPartition> partitions) {
+            // Another member already owns these, committing would be rejected
+            partitions.forEach(this::forget);
+            log.warn("Kafka partitions lost: {}", partitions);
+        }
+
+        private void forget(TopicPartition partition) {
+            PartitionTracker tracker = trackers.remove(partition);
+            if(tracker != null) {
+                tracker.revoked = true;
+            }
+        }
+    }
+
+    /**
+     * In - flight offsets and statistics of one partition
+     */
+    private static final class PartitionTracker {
+        private final TreeSet<Long> pending = new TreeSet<>();
+        private long highestDispatched = -1;
+        private volatile long lastCommitted = -1;
+        private volatile long lag = -1;
+        private volatile boolean paused;
+        private volatile boolean revoked;
+        private final LongAdder processed = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder latencyNanos = new LongAdder();
+        private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+        synchronized void dispatched(long offset) {
+            pending.add(offset);
+            highestDispatched = Math.max(highestDispatched, offset);
+        }
+
+        void completed(long offset, long elapsedNanos, boolean failure) {
+            synchronized(this) {
+                pending.remove(offset);
+            }
+            processed.increment();
+            if(failure) {
+                failed.increment();
+            }
+            latencyNanos.add(elapsedNanos);
+            maxLatencyNanos.accumulateAndGet(elapsedNanos, Math::max);
+        }
+
+        synchronized int pendingCount() {
+            return pending.size();
+        }
+
+        /**
+         * @return Next offset to consume: everything below it has been processed
+         */
+        synchronized long committableOffset() {
+            if(!pending.isEmpty()) {
+                return pending.first();
+            }
+            return highestDispatched >= 0 ? highestDispatched + 1 : -1;
+        }
+    }
+}
@@ -24,16 +24,22 @@ import java.util.Map;
 /**
  * Kafka implementation of inbound adapter(consumes messages from Kafka topics)
  * Follows middleware convention: Inbound = receives data FROM external systems.
+ * In listening mode records are processed in parallel by {@link KafkaConsumerEngine} and offsets are
+ * committed only after the data callback completed.
  */
 public class KafkaInboundAdapter extends AbstractAdapter implements InboundAdapterPort {
     private static final Logger log = LoggerFactory.getLogger(KafkaInboundAdapter.class);
 
 
     private final KafkaInboundAdapterConfig config;
+    // Consumer of fetch(), closed while the engine listens with its own consumer; KafkaConsumer is not thread safe
     private KafkaConsumer<String, String> consumer;
+    private final Object fetchLock = new Object();
     private final AtomicBoolean polling = new AtomicBoolean(false);
     private Thread pollingThread;
-    private final CountDownLatch shutdownLatch = new CountDownLatch(1);
+    private CountDownLatch shutdownLatch = new CountDownLatch(0);
+    private volatile KafkaConsumerEngine engine;
+    private DataReceivedCallback dataCallback;
 
     public KafkaInboundAdapter(KafkaInboundAdapterConfig config) {
         super();
@@ -58,11 +64,11 @@ public class KafkaInboundAdapter extends AbstractAdapter implements InboundAdapt
     @Override
     protected AdapterOperationResult performStart() {
         try {
-            consumer = createConsumer();
-            List<String> topicList = Arrays.asList(config.getTopics().split(","));
-            consumer.subscribe(topicList);
+            synchronized(fetchLock) {
+                fetchConsumer();
+            }
 
-            log.info("Kafka consumer started for topics: {}", topicList);
+            log.info("Kafka consumer started for topics: {}", config.getTopics());
             return AdapterOperationResult.success("Started successfully");
         } catch(Exception e) {
             log.error("Failed to start Kafka adapter: {}", e.getMessage(), e);
@@ -73,15 +79,8 @@ public class KafkaInboundAdapter extends AbstractAdapter implements InboundAdapt
     @Override
     protected AdapterOperationResult performStop() {
         stopPolling();
-
-        if(consumer != null) {
-            try {
-                consumer.close(Duration.ofSeconds(10));
-                log.info("Kafka consumer closed");
-        } catch(Exception e) {
-                log.warn("Error closing Kafka consumer: {}", e.getMessage());
-            }
-            consumer = null;
+        synchronized(fetchLock) {
+            closeFetchConsumer();
         }
 
         return AdapterOperationResult.success("Stopped successfully");
@@ -111,7 +110,7 @@ public class KafkaInboundAdapter extends AbstractAdapter implements InboundAdapt
 
     @Override
     public AdapterOperationResult fetch(FetchRequest request) {
-        if(!isReady() || consumer == null) {
+        if(!isReady()) {
             return AdapterOperationResult.failure("Adapter not ready");
         }
 
@@ -123,7 +122,13 @@ public class KafkaInboundAdapter extends AbstractAdapter implements InboundAdapt
                     request.getParameters().containsKey("pollTimeout") ?
                     Long.parseLong(String.valueOf(request.getParameters().get("pollTimeout"))) : 1000;
 
-            ConsumerRecords<String, String> records = consumer.poll(Duration.ofMillis(pollTimeout));
+            ConsumerRecords<String, String> records;
+            synchronized(fetchLock) {
+                if(polling.get()) {
+                    return AdapterOperationResult.failure("Fetch not available while the adapter is listening");
+                }
+                records = fetchConsumer().poll(Duration.ofMillis(pollTimeout));
+            }
 
             for(ConsumerRecord<String, String> record : records) {
                 Map<String, Object> messageData = extractMessageData(record);
@@ -151,9 +156,31 @@ public class KafkaInboundAdapter extends AbstractAdapter implements InboundAdapt
         return CompletableFuture.supplyAsync(() -> fetch(request));
     }
 
+    /**
+     * Fetch each request in turn, the records of all requests are returned together. Records already polled
+     * are returned even if a later request fails, they may have been committed already
+     */
     public AdapterOperationResult fetchBatch(List<FetchRequest> requests) {
-        // For Kafka, batch fetch is same as single fetch
-        return fetch(requests.get(0));
+        List<Map<String, Object>> messages = new ArrayList<>();
+        for(FetchRequest request : requests) {
+            AdapterOperationResult result = fetch(request);
+            if(!result.isSuccess()) {
+                if(messages.isEmpty()) {
+                    return result;
+                }
+                log.warn("Kafka batch fetch stopped after {} messages: {}", messages.size(), result.getMessage());
+                break;
+            }
+            if(result.getData() != null) {
+                messages.addAll((List<Map<String, Object>>) result.getData());
+            }
+        }
+        return AdapterOperationResult.builder()
+                .success(true)
+                .message(String.format("Fetched %d messages for %d requests", messages.size(), requests.size()))
+                .data(messages)
+                .recordsProcessed(messages.size())
+                .build();
     }
 
     public CompletableFuture<AdapterOperationResult> fetchBatchAsync(List<FetchRequest> requests) {
@@ -173,31 +200,41 @@ public class KafkaInboundAdapter extends AbstractAdapter implements InboundAdapt
             log.warn("Polling already active");
             return;
         }
+        if(dataCallback == null) {
+            log.warn("No data callback registered, Kafka polling not started");
+            return;
+        }
+
+        // The engine polls its own consumer, the fetch consumer would share the group's partitions with it
+        synchronized(fetchLock) {
+            polling.set(true);
+            closeFetchConsumer();
+        }
+
+        // Offsets are committed by the engine after processing, never automatically
+        KafkaConsumer<String, String> engineConsumer = createConsumer(false);
+        List<String> topicList = Arrays.asList(config.getTopics().split(","));
+        KafkaConsumerEngine consumerEngine = new KafkaConsumerEngine(engineConsumer, topicList, config,
+                this::deliverRecord, this::deliverFailure);
+        engine = consumerEngine;
+        shutdownLatch = new CountDownLatch(1);
 
-        polling.set(true);
         pollingThread = new Thread(() -> {
             log.info("Starting Kafka polling");
 
             try {
-                while(polling.get() && consumer != null) {
-                    ConsumerRecords<String, String> records = consumer.poll(Duration.ofMillis(intervalMillis));
-
-                    if(!records.isEmpty()) {
-                        List<Map<String, Object>> messages = new ArrayList<>();
-                        for(ConsumerRecord<String, String> record : records) {
-                            messages.add(extractMessageData(record));
-                        }
-                        log.debug("Polled {} messages from Kafka", messages.size());
-
-                        // Process messages as needed
-                        // This could invoke callbacks or queue messages for processing
-                    }
-                }
+                consumerEngine.run(intervalMillis);
             } catch(WakeupException e) {
                 log.info("Kafka polling interrupted");
             } catch(Exception e) {
                 log.error("Error during Kafka polling", e);
             } finally {
+                try {
+                    engineConsumer.close(Duration.ofSeconds(10));
+                } catch(Exception e) {
+                    log.warn("Error closing Kafka consumer: {}", e.getMessage());
+                }
+                polling.set(false);
                 shutdownLatch.countDown();
             }
         }, "kafka - sender - polling");
@@ -208,8 +245,9 @@ public class KafkaInboundAdapter extends AbstractAdapter implements InboundAdapt
 
     public void stopPolling() {
         if(polling.compareAndSet(true, false)) {
-            if(consumer != null) {
-                consumer.wakeup();
+            KafkaConsumerEngine consumerEngine = engine;
+            if(consumerEngine != null) {
+                consumerEngine.stop();
             }
 
             try {
@@ -223,8 +261,79 @@ public class KafkaInboundAdapter extends AbstractAdapter implements InboundAdapt
         }
     }
 
+    /**
+     * Consumer lag and per - partition processing latency of the listening engine
+     * @return Metrics keyed by topic - partition, empty when not listening
+     */
+    public Map<String, Object> getConsumerMetrics() {
+        KafkaConsumerEngine consumerEngine = engine;
+        return consumerEngine != null ? consumerEngine.getMetrics() : Collections.emptyMap();
+    }
+
+    private void deliverRecord(ConsumerRecord<String, String> record) {
+        Map<String, Object> messageData = extractMessageData(record);
+        AdapterOperationResult result = AdapterOperationResult.builder()
+                .success(true)
+                .message("Received Kafka message")
+                .data(messageData)
+                .recordsProcessed(1)
+                .build();
+        // Exceptions propagate so the engine retries and holds back the offset commit
+        dataCallback.onDataReceived(List.of(messageData), result);
+        incrementMessageCount();
+    }
+
+    private void deliverFailure(ConsumerRecord<String, String> record, Exception error) {
+        incrementErrorCount();
+        AdapterOperationResult result = AdapterOperationResult.failure("Processing failed: " + error.getMessage());
+        result.addMetadata("topic", record.topic());
+        result.addMetadata("partition", record.partition());
+        result.addMetadata("offset", record.offset());
+        try {
+            // Callbacks read the data of every result, hand over the failed record like a received one
+            dataCallback.onDataReceived(List.of(extractMessageData(record)), result);
+        } catch(Exception e) {
+            log.error("Failure callback for Kafka record {}-{}@{} failed: {}",
+                    record.topic(), record.partition(), record.offset(), e.getMessage());
+        }
+    }
+
+    /**
+     * Consumer of fetch(), subscribed on first use; the caller holds the fetch lock
+     */
+    private KafkaConsumer<String, String> fetchConsumer() {
+        if(consumer == null) {
+            consumer = createConsumer();
+            consumer.subscribe(Arrays.asList(config.getTopics().split(",")));
+        }
+        return consumer;
+    }
+
+    /**
+     * The caller holds the fetch lock
+     */
+    private void closeFetchConsumer() {
+        if(consumer != null) {
+            try {
+                consumer.close(Duration.ofSeconds(10));
+                log.info("Kafka consumer closed");
+            } catch(Exception e) {
+                log.warn("Error closing Kafka consumer: {}", e.getMessage());
+            }
+            consumer = null;
+        }
+    }
+
     private KafkaConsumer<String, String> createConsumer() {
+        return createConsumer(config.isEnableAutoCommit());
+    }
+
+    private KafkaConsumer<String, String> createConsumer(boolean autoCommit) {
         Properties props = createConsumerProperties();
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, autoCommit);
+        if(!autoCommit) {
+            props.remove(ConsumerConfig.AUTO_COMMIT_INTERVAL_MS_CONFIG);
+        }
         return new KafkaConsumer<>(props);
     }
 
@@ -343,8 +452,8 @@ public class KafkaInboundAdapter extends AbstractAdapter implements InboundAdapt
 
     @Override
     public void startListening(DataReceivedCallback callback) {
-        // Not implemented for polling - based consumer
-        log.debug("Push-based listening not supported by this adapter type");
+        this.dataCallback = callback;
+        startPolling(config.getPollTimeoutMs());
     }
 
     @Override
@@ -357,7 +466,7 @@ public class KafkaInboundAdapter extends AbstractAdapter implements InboundAdapt
         return polling.get();
     }
     public void setDataReceivedCallback(DataReceivedCallback callback) {
-        // Not implemented
+        this.dataCallback = callback;
     }
 
     @Override
@@ -7,25 +7,45 @@ import org.slf4j.LoggerFactory;
 import com.integrixs.adapters.domain.model.*;
 import com.integrixs.adapters.domain.port.OutboundAdapterPort;
 import com.integrixs.adapters.config.KafkaOutboundAdapterConfig;
+import org.apache.kafka.clients.producer.Callback;
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.errors.AuthorizationException;
+import org.apache.kafka.common.errors.OutOfOrderSequenceException;
+import org.apache.kafka.common.errors.ProducerFencedException;
 
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Future;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Kafka Receiver Adapter - sends messages to Kafka topics
  * In middleware terminology: Outbound = sends data TO external systems
+ *
+ * Sends are pipelined: records are handed to the producer with a completion callback, a bounded
+ * window limits records awaiting acknowledgement, and batches are flushed once at the end so the
+ * producer can apply linger / batch size / compression. With a transactional id configured a batch
+ * is committed atomically(exactly - once handoff).
  */
 public class KafkaOutboundAdapter extends AbstractAdapter implements OutboundAdapterPort {
     private static final Logger log = LoggerFactory.getLogger(KafkaOutboundAdapter.class);
+    private static final long MIN_RECREATE_BACKOFF_MS = 1000;
+    private static final long MAX_RECREATE_BACKOFF_MS = 60000;
 
 
     private final KafkaOutboundAdapterConfig config;
     private KafkaProducer<String, String> producer;
+    private Properties producerProperties;
+    private Semaphore inFlightWindow;
+    private final Object transactionLock = new Object();
+    // Recreation of a transactional producer closed after a fatal error, guarded by the transaction lock
+    private long recreateBackoffMs = MIN_RECREATE_BACKOFF_MS;
+    private long nextRecreateAt;
 
     public KafkaOutboundAdapter(KafkaOutboundAdapterConfig config) {
         super();
@@ -63,6 +83,19 @@ public class KafkaOutboundAdapter extends AbstractAdapter implements OutboundAda
             if(config.getCompressionType() != null) {
                 producerProperties.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, config.getCompressionType());
             }
+            if(config.getEnableIdempotence() != null) {
+                producerProperties.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, config.getEnableIdempotence());
+            }
+            if(config.getMaxInFlightRequestsPerConnection() != null) {
+                producerProperties.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, config.getMaxInFlightRequestsPerConnection());
+            }
+            if(config.getDeliveryTimeoutMs() != null) {
+                producerProperties.put(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG, config.getDeliveryTimeoutMs().intValue());
+            }
+            if(isTransactional()) {
+                producerProperties.put(ProducerConfig.TRANSACTIONAL_ID_CONFIG, config.getTransactionalId());
+                producerProperties.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+            }
 
             // Security configuration
             if(config.getSecurityProtocol() != null) {
@@ -70,7 +103,13 @@ public class KafkaOutboundAdapter extends AbstractAdapter implements OutboundAda
             }
 
             // Create producer
+            this.producerProperties = producerProperties;
             producer = new KafkaProducer<>(producerProperties);
+            if(isTransactional()) {
+                producer.initTransactions();
+            }
+            int window = config.getMaxInFlightRecords() != null ? config.getMaxInFlightRecords() : 10000;
+            inFlightWindow = new Semaphore(Math.max(1, window));
 
             log.info("Kafka outbound adapter initialized successfully");
             return AdapterOperationResult.success("Initialized successfully");
@@ -82,6 +121,8 @@ public class KafkaOutboundAdapter extends AbstractAdapter implements OutboundAda
 
     @Override
     protected AdapterOperationResult performShutdown() {
+        // A shut down adapter must not recreate its producer
+        producerProperties = null;
         if(producer != null) {
             producer.close();
             producer = null;
@@ -106,19 +147,11 @@ public class KafkaOutboundAdapter extends AbstractAdapter implements OutboundAda
 
     @Override
     public AdapterOperationResult send(SendRequest request) {
+        if(isTransactional()) {
+            return unwrapSingle(sendBatch(List.of(request)));
+        }
         try {
-            ProducerRecord<String, String> record = new ProducerRecord<>(
-                    config.getTopic(),
-                    request.getPayload().toString()
-           );
-
-            Future<RecordMetadata> future = producer.send(record);
-            RecordMetadata metadata = future.get();
-
-            return AdapterOperationResult.success(
-                    String.format("Message sent to topic %s, partition %d, offset %d",
-                            metadata.topic(), metadata.partition(), metadata.offset())
-           );
+            return sendAsync(request).get(config.getTimeout(), TimeUnit.MILLISECONDS);
         } catch(Exception e) {
             return AdapterOperationResult.failure("Send failed: " + e.getMessage());
         }
@@ -126,17 +159,233 @@ public class KafkaOutboundAdapter extends AbstractAdapter implements OutboundAda
 
     @Override
     public CompletableFuture<AdapterOperationResult> sendAsync(SendRequest request) {
-        return CompletableFuture.supplyAsync(() -> send(request));
+        if(isTransactional()) {
+            return CompletableFuture.supplyAsync(() -> send(request));
+        }
+        CompletableFuture<AdapterOperationResult> future = new CompletableFuture<>();
+        try {
+            dispatch(buildRecord(request), (metadata, exception) -> future.complete(toResult(metadata, exception)));
+        } catch(Exception e) {
+            future.complete(AdapterOperationResult.failure("Send failed: " + e.getMessage()));
+        }
+        return future;
     }
 
+    /**
+     * Send a batch without waiting for each record: all records are dispatched with callbacks, the producer
+     * is flushed once and the per - record results are returned in request order.
+     */
     @Override
     public AdapterOperationResult sendBatch(List<SendRequest> requests) {
-        List<AdapterOperationResult> results = new ArrayList<>();
-        for(SendRequest request : requests) {
-            results.add(send(request));
+        if(isTransactional()) {
+            return sendTransactionalBatch(requests);
+        }
+
+        long started = System.currentTimeMillis();
+        AdapterOperationResult[] results = new AdapterOperationResult[requests.size()];
+        CountDownLatch completed = new CountDownLatch(requests.size());
+        for(int i = 0; i < requests.size(); i++) {
+            int index = i;
+            try {
+                dispatch(buildRecord(requests.get(i)), (metadata, exception) -> {
+                    results[index] = toResult(metadata, exception);
+                    completed.countDown();
+                });
+            } catch(Exception e) {
+                results[index] = AdapterOperationResult.failure("Send failed: " + e.getMessage());
+                completed.countDown();
+            }
         }
-        long successCount = results.stream().filter(AdapterOperationResult::isSuccess).count();
-        return AdapterOperationResult.success("Sent " + successCount + "/" + requests.size() + " messages");
+
+        producer.flush();
+        awaitCompletion(completed, results);
+        return toBatchResult(results, started);
+    }
+
+    private AdapterOperationResult sendTransactionalBatch(List<SendRequest> requests) {
+        long started = System.currentTimeMillis();
+        AdapterOperationResult[] results = new AdapterOperationResult[requests.size()];
+
+        // A transactional producer runs one transaction at a time
+        synchronized(transactionLock) {
+            if(producer == null && !recreateTransactionalProducer()) {
+                return failBatch(results, "Transactional producer closed after a fatal error", started);
+            }
+            try {
+                producer.beginTransaction();
+                for(int i = 0; i < requests.size(); i++) {
+                    int index = i;
+                    producer.send(buildRecord(requests.get(i)),
+                            (metadata, exception) -> results[index] = toResult(metadata, exception));
+                }
+                // Commit flushes outstanding records and fails if any of them failed
+                producer.commitTransaction();
+            } catch(ProducerFencedException | OutOfOrderSequenceException | AuthorizationException e) {
+                // Fatal for this producer instance, it cannot be used any more
+                log.error("Kafka transactional producer failed fatally", e);
+                closeTransactionalProducer();
+                return failBatch(results, "Transaction failed: " + e.getMessage(), started);
+            } catch(RuntimeException e) {
+                // Any other failure, e.g. a serializer error or an interrupt while sending, leaves the transaction
+                // open and the next beginTransaction would fail
+                log.warn("Aborting Kafka transaction of {} records: {}", requests.size(), e.getMessage());
+                abortTransaction();
+                return failBatch(results, "Transaction aborted: " + e.getMessage(), started);
+            }
+        }
+        return toBatchResult(results, started);
+    }
+
+    /**
+     * Abort the open transaction; the caller holds the transaction lock
+     */
+    private void abortTransaction() {
+        // A pending interrupt would fail the abort as well, it is restored afterwards
+        boolean interrupted = Thread.interrupted();
+        try {
+            producer.abortTransaction();
+        } catch(RuntimeException e) {
+            // The transaction state is unknown, the producer cannot be used any more
+            log.error("Failed to abort Kafka transaction, closing the producer", e);
+            closeTransactionalProducer();
+        } finally {
+            if(interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Replace a transactional producer closed after a fatal error; attempts back off exponentially so a broker
+     * that keeps fencing the transactional id is not hammered. The caller holds the transaction lock
+     */
+    private boolean recreateTransactionalProducer() {
+        if(producerProperties == null || System.currentTimeMillis() < nextRecreateAt) {
+            return false;
+        }
+        KafkaProducer<String, String> recreated = null;
+        try {
+            recreated = new KafkaProducer<>(producerProperties);
+            recreated.initTransactions();
+            producer = recreated;
+            recreateBackoffMs = MIN_RECREATE_BACKOFF_MS;
+            log.info("Kafka transactional producer recreated");
+            return true;
+        } catch(RuntimeException e) {
+            if(recreated != null) {
+                try {
+                    recreated.close();
+                } catch(RuntimeException closeError) {
+                    log.debug("Error closing Kafka producer: {}", closeError.getMessage());
+                }
+            }
+            nextRecreateAt = System.currentTimeMillis() + recreateBackoffMs;
+            log.warn("Failed to recreate Kafka transactional producer, retrying in {} ms: {}", recreateBackoffMs, e.getMessage());
+            recreateBackoffMs = Math.min(MAX_RECREATE_BACKOFF_MS, recreateBackoffMs * 2);
+            return false;
+        }
+    }
+
+    private void closeTransactionalProducer() {
+        try {
+            producer.close();
+        } catch(RuntimeException e) {
+            log.warn("Error closing Kafka producer: {}", e.getMessage());
+        }
+        producer = null;
+    }
+
+    /**
+     * Hand a record to the producer once a slot in the in - flight window is available
+     */
+    private void dispatch(ProducerRecord<String, String> record, Callback callback) throws Exception {
+        if(!inFlightWindow.tryAcquire(config.getTimeout(), TimeUnit.MILLISECONDS)) {
+            throw new IllegalStateException("Timed out waiting for in-flight window");
+        }
+        try {
+            producer.send(record, (metadata, exception) -> {
+                inFlightWindow.release();
+                callback.onCompletion(metadata, exception);
+            });
+        } catch(RuntimeException e) {
+            inFlightWindow.release();
+            throw e;
+        }
+    }
+
+    private ProducerRecord<String, String> buildRecord(SendRequest request) {
+        String key = null;
+        if(config.getPartitionKey() != null) {
+            Object keyValue = request.getParameters() != null ? request.getParameters().get(config.getPartitionKey()) : null;
+            if(keyValue == null && request.getHeaders() != null) {
+                keyValue = request.getHeaders().get(config.getPartitionKey());
+            }
+            key = keyValue != null ? keyValue.toString() : null;
+        }
+
+        ProducerRecord<String, String> record = new ProducerRecord<>(config.getTopic(), key, request.getPayload().toString());
+        if(Boolean.TRUE.equals(config.isIncludeHeaders()) && request.getHeaders() != null) {
+            request.getHeaders().forEach((name, value) -> {
+                if(value != null) {
+                    record.headers().add(name, value.getBytes(StandardCharsets.UTF_8));
+                }
+            });
+        }
+        return record;
+    }
+
+    private void awaitCompletion(CountDownLatch completed, AdapterOperationResult[] results) {
+        try {
+            if(!completed.await(config.getTimeout(), TimeUnit.MILLISECONDS)) {
+                log.warn("Timed out waiting for {} Kafka acknowledgements", completed.getCount());
+            }
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for(int i = 0; i < results.length; i++) {
+            if(results[i] == null) {
+                results[i] = AdapterOperationResult.failure("Send not acknowledged within " + config.getTimeout() + " ms");
+            }
+        }
+    }
+
+    private AdapterOperationResult toResult(RecordMetadata metadata, Exception exception) {
+        if(exception != null) {
+            return AdapterOperationResult.failure("Send failed: " + exception.getMessage());
+        }
+        AdapterOperationResult result = AdapterOperationResult.success(
+                String.format("Message sent to topic %s, partition %d, offset %d",
+                        metadata.topic(), metadata.partition(), metadata.offset())
+       );
+        result.addMetadata("partition", metadata.partition());
+        result.addMetadata("offset", metadata.offset());
+        return result;
+    }
+
+    private AdapterOperationResult failBatch(AdapterOperationResult[] results, String message, long started) {
+        Arrays.fill(results, AdapterOperationResult.failure(message));
+        return toBatchResult(results, started);
+    }
+
+    private AdapterOperationResult toBatchResult(AdapterOperationResult[] results, long started) {
+        List<AdapterOperationResult> ordered = Arrays.asList(results);
+        int successCount = (int) ordered.stream().filter(AdapterOperationResult::isSuccess).count();
+        AdapterOperationResult result = AdapterOperationResult.success(ordered,
+                "Sent " + successCount + "/" + results.length + " messages");
+        result.setSuccess(successCount == results.length);
+        result.setRecordsProcessed(successCount);
+        result.setRecordsFailed(results.length - successCount);
+        result.setExecutionTimeMs(System.currentTimeMillis() - started);
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private AdapterOperationResult unwrapSingle(AdapterOperationResult batchResult) {
+        return((List<AdapterOperationResult>) batchResult.getData()).get(0);
+    }
+
+    private boolean isTransactional() {
+        return config.getTransactionalId() != null && !config.getTransactionalId().isBlank();
     }
 
     @Override
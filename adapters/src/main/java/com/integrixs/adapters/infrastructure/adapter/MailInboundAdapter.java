@@ -10,11 +10,19 @@ import java.util.concurrent.CompletableFuture;
 import com.integrixs.adapters.domain.port.InboundAdapterPort;
 import java.util.Map;
 import com.integrixs.adapters.config.MailInboundAdapterConfig;
+import com.integrixs.adapters.domain.repository.AdapterCheckpointRepository;
+import com.integrixs.adapters.domain.service.PollerOwnershipService;
+import com.integrixs.adapters.infrastructure.connection.SpooledContent;
+import com.sun.mail.imap.IMAPFolder;
+import com.sun.mail.imap.IMAPStore;
 import jakarta.mail.*;
 import jakarta.mail.internet.MimeBodyPart;
+import jakarta.mail.internet.MimeMessage;
 import jakarta.mail.internet.MimeMultipart;
 import jakarta.mail.search.*;
 import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.text.SimpleDateFormat;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
@@ -40,6 +48,14 @@ public class MailInboundAdapter extends AbstractAdapter implements InboundAdapte
     private final AtomicBoolean polling = new AtomicBoolean(false);
     private ScheduledExecutorService pollingExecutor;
     private DataReceivedCallback dataCallback;
+    private volatile boolean idleActive;
+
+    // UID high - water mark for incremental IMAP fetches, valid only for one UIDVALIDITY of the folder
+    private static final String UID_VALIDITY_CHECKPOINT = "uidValidity";
+    private static final String LAST_UID_CHECKPOINT = "lastUid";
+    private volatile long uidValidity = -1;
+    private volatile long lastUid;
+    private volatile boolean uidCheckpointLoaded;
     public MailInboundAdapter(MailInboundAdapterConfig config) {
         super();
         this.config = config;
@@ -52,6 +68,9 @@ public class MailInboundAdapter extends AbstractAdapter implements InboundAdapte
 
         try {
             validateConfiguration();
+            if(config.isResetIncrementalOnStart()) {
+                getCheckpointRepository().deleteAll(getPollerId());
+            }
             // For per - poll mode, we don't maintain persistent connection
             if("permanently".equals(config.getConnectionMode())) {
                 connectToMailServer();
@@ -98,11 +117,13 @@ public class MailInboundAdapter extends AbstractAdapter implements InboundAdapte
 
     private AdapterOperationResult pollForEmails() throws Exception {
         List<Map<String, Object>> processedEmails = new ArrayList<>();
+        // IDLE keeps its connection open between cycles
+        boolean permanent = "permanently".equals(config.getConnectionMode()) || idleActive;
         Store store = null;
         Folder folder = null;
         try {
             // Get or create connection
-            if("permanently".equals(config.getConnectionMode())) {
+            if(permanent) {
                 store = mailStore;
                 folder = mailFolder;
                 if(store == null || !store.isConnected() || folder == null || !folder.isOpen()) {
@@ -117,18 +138,13 @@ public class MailInboundAdapter extends AbstractAdapter implements InboundAdapte
                 folder.open(Folder.READ_WRITE); // Need write access for marking as read/moving
             }
 
-            // Build search criteria
-            SearchTerm searchTerm = buildSearchCriteria();
-            // Get messages
-            Message[] messages = searchTerm != null ?
-                    folder.search(searchTerm) : folder.getMessages();
-            // Apply max messages limit
-            int maxMessages = config.getMaxMessages() != null ?
-                    Integer.parseInt(config.getMaxMessages()) : messages.length;
-            int messagesToProcess = Math.min(messages.length, maxMessages);
+            UIDFolder uidFolder = config.isUidIncrementalFetch() && folder instanceof UIDFolder ? (UIDFolder) folder : null;
+            MessageBatch batch = uidFolder != null ? selectNewMessages(folder, uidFolder) : selectMessages(folder);
+            long highWaterUid = uidFolder != null ? lastUid : -1;
+            // The mark only advances through messages processed in order, a failed message is read again next cycle
+            boolean failed = false;
             // Process messages
-            for(int i = 0; i < messagesToProcess; i++) {
-                Message message = messages[i];
+            for(Message message : batch.messages) {
                 try {
                     if(shouldProcessMessage(message)) {
                         Map<String, Object> emailData = processMessage(message);
@@ -136,20 +152,36 @@ public class MailInboundAdapter extends AbstractAdapter implements InboundAdapte
                             processedEmails.add(emailData);
                             handlePostProcessing(folder, message);
 
-                            // Mark as processed
-                            processedMessages.put(getMessageId(message), String.valueOf(System.currentTimeMillis()));
+                            // Mark as processed, the UID high - water mark covers incremental fetches up to a failure;
+                            // messages after it are read again and must be skipped
+                            if(uidFolder == null || failed) {
+                                processedMessages.put(getMessageId(message), String.valueOf(System.currentTimeMillis()));
+                            }
                         }
                     }
                 } catch(Exception e) {
                     log.error("Error processing email message: {}", getMessageId(message), e);
+                    failed = true;
 
                     if(!config.isContinueOnError()) {
+                        if(uidFolder != null) {
+                            commitUid(highWaterUid);
+                        }
                         throw new AdapterException("Email processing failed for message " + getMessageId(message) + ": " + e.getMessage(), e);
                     }
                 }
+                if(uidFolder != null && !failed) {
+                    highWaterUid = uidFolder.getUID(message);
+                }
+            }
+            if(uidFolder != null) {
+                commitUid(failed ? highWaterUid : Math.max(highWaterUid, batch.scannedUpToUid));
             }
+        } catch(Exception e) {
+            releaseAttachments(processedEmails);
+            throw e;
         } finally {
-            if("per - poll".equals(config.getConnectionMode())) {
+            if(!permanent) {
                 if(folder != null && folder.isOpen()) {
                     folder.close(false);
                 }
@@ -162,6 +194,117 @@ public class MailInboundAdapter extends AbstractAdapter implements InboundAdapte
         return AdapterOperationResult.success(processedEmails,
                 String.format("Retrieved %d emails from mail server", processedEmails.size()));
     }
+
+    /**
+     * Messages above the UID high - water mark that match the search criteria, with envelope and size prefetched
+     */
+    private MessageBatch selectNewMessages(Folder folder, UIDFolder uidFolder) throws Exception {
+        loadUidCheckpoint();
+        long folderValidity = uidFolder.getUIDValidity();
+        if(uidValidity != folderValidity) {
+            if(uidValidity != -1) {
+                log.warn("UIDVALIDITY of mail folder {} changed from {} to {}, re - reading the folder",
+                        config.getFolderName(), uidValidity, folderValidity);
+            }
+            uidValidity = folderValidity;
+            lastUid = 0;
+            getCheckpointRepository().save(getPollerId(), UID_VALIDITY_CHECKPOINT, String.valueOf(folderValidity));
+        }
+
+        // "n:*" always returns at least the newest message, even when its UID is below n
+        List<Message> candidates = new ArrayList<>();
+        long scannedUpToUid = lastUid;
+        for(Message message : uidFolder.getMessagesByUID(lastUid + 1, UIDFolder.LASTUID)) {
+            long uid = uidFolder.getUID(message);
+            if(uid > lastUid) {
+                candidates.add(message);
+                scannedUpToUid = Math.max(scannedUpToUid, uid);
+            }
+        }
+        if(candidates.isEmpty()) {
+            return new MessageBatch(new Message[0], scannedUpToUid);
+        }
+
+        Message[] messages = candidates.toArray(new Message[0]);
+        SearchTerm searchTerm = buildSearchCriteria();
+        if(searchTerm != null) {
+            messages = folder.search(searchTerm, messages);
+        }
+        int maxMessages = config.getMaxMessages() != null ? Integer.parseInt(config.getMaxMessages()) : messages.length;
+        if(messages.length > maxMessages) {
+            // The rest is picked up by the next cycle, so the mark may only advance to the last processed message
+            messages = Arrays.copyOf(messages, maxMessages);
+            scannedUpToUid = lastUid;
+        }
+        prefetch(folder, messages);
+        return new MessageBatch(messages, scannedUpToUid);
+    }
+
+    /**
+     * Messages matching the search criteria, for folders without UIDs(POP3)
+     */
+    private MessageBatch selectMessages(Folder folder) throws Exception {
+        // Build search criteria
+        SearchTerm searchTerm = buildSearchCriteria();
+        // Get messages
+        Message[] messages = searchTerm != null ?
+                folder.search(searchTerm) : folder.getMessages();
+        // Apply max messages limit
+        int maxMessages = config.getMaxMessages() != null ?
+                Integer.parseInt(config.getMaxMessages()) : messages.length;
+        messages = Arrays.copyOf(messages, Math.min(messages.length, maxMessages));
+        prefetch(folder, messages);
+        return new MessageBatch(messages, -1);
+    }
+
+    /**
+     * Fetch envelope, structure, size and headers of all messages in one round - trip instead of one per message
+     */
+    private void prefetch(Folder folder, Message[] messages) throws MessagingException {
+        if(messages.length == 0) {
+            return;
+        }
+        FetchProfile profile = new FetchProfile();
+        profile.add(FetchProfile.Item.ENVELOPE);
+        profile.add(FetchProfile.Item.CONTENT_INFO);
+        profile.add(FetchProfile.Item.SIZE);
+        if(folder instanceof UIDFolder) {
+            profile.add(UIDFolder.FetchProfileItem.UID);
+        }
+        if(config.isIncludeHeaders() && folder instanceof IMAPFolder) {
+            profile.add(IMAPFolder.FetchProfileItem.HEADERS);
+        }
+        folder.fetch(messages, profile);
+    }
+
+    private void loadUidCheckpoint() {
+        if(uidCheckpointLoaded) {
+            return;
+        }
+        AdapterCheckpointRepository checkpoints = getCheckpointRepository();
+        uidValidity = checkpoints.load(getPollerId(), UID_VALIDITY_CHECKPOINT).map(Long::parseLong).orElse(-1L);
+        lastUid = checkpoints.load(getPollerId(), LAST_UID_CHECKPOINT).map(Long::parseLong).orElse(0L);
+        uidCheckpointLoaded = true;
+        log.info("Mail inbound adapter {} resumes after UID {}(UIDVALIDITY {})", getPollerId(), lastUid, uidValidity);
+    }
+
+    private void commitUid(long uid) {
+        if(uid > lastUid) {
+            lastUid = uid;
+            getCheckpointRepository().save(getPollerId(), LAST_UID_CHECKPOINT, String.valueOf(uid));
+        }
+    }
+
+    private AdapterCheckpointRepository getCheckpointRepository() {
+        return PollerOwnershipService.current().getCheckpointRepository();
+    }
+
+    @Override
+    protected void onPollerOwnershipAcquired() {
+        // Resume from the UID the previous owner committed
+        uidCheckpointLoaded = false;
+    }
+
     private Map<String, Object> processMessage(Message message) throws Exception {
         Map<String, Object> emailData = new HashMap<>();
         // Basic message properties
@@ -239,36 +382,85 @@ public class MailInboundAdapter extends AbstractAdapter implements InboundAdapte
         Object content = message.getContent();
         if(content instanceof MimeMultipart) {
             MimeMultipart multipart = (MimeMultipart) content;
-            for(int i = 0; i < multipart.getCount(); i++) {
-                BodyPart bodyPart = multipart.getBodyPart(i);
-                if(Part.ATTACHMENT.equalsIgnoreCase(bodyPart.getDisposition()) ||
-                    (bodyPart.getFileName() != null && !bodyPart.getFileName().isEmpty())) {
-                    Map<String, Object> attachment = new HashMap<>();
-                    attachment.put("fileName", bodyPart.getFileName());
-                    attachment.put("contentType", bodyPart.getContentType());
-                    attachment.put("size", bodyPart.getSize());
-                    // Save attachment to directory if configured
-                    if(config.getAttachmentDirectory() != null) {
-                        String savedPath = saveAttachment(bodyPart);
-                        attachment.put("savedPath", savedPath);
-                    } else {
-                        // Include content directly
-                        try(InputStream is = bodyPart.getInputStream();
-                             ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-                            byte[] buffer = new byte[8192];
-                            int bytesRead;
-                            while((bytesRead = is.read(buffer)) != -1) {
-                                baos.write(buffer, 0, bytesRead);
-                            }
-                            attachment.put("content", baos.toByteArray());
+            try {
+                for(int i = 0; i < multipart.getCount(); i++) {
+                    BodyPart bodyPart = multipart.getBodyPart(i);
+                    if(Part.ATTACHMENT.equalsIgnoreCase(bodyPart.getDisposition()) ||
+                        (bodyPart.getFileName() != null && !bodyPart.getFileName().isEmpty())) {
+                        Map<String, Object> attachment = new HashMap<>();
+                        attachment.put("fileName", bodyPart.getFileName());
+                        attachment.put("contentType", bodyPart.getContentType());
+                        attachment.put("size", bodyPart.getSize());
+                        // Save attachment to directory if configured
+                        if(config.getAttachmentDirectory() != null) {
+                            String savedPath = saveAttachment(bodyPart);
+                            attachment.put("savedPath", savedPath);
+                        } else {
+                            readAttachment(bodyPart, attachment);
                         }
+                        attachments.add(attachment);
                     }
-                    attachments.add(attachment);
                 }
+            } catch(Exception e) {
+                SpooledContent.release(attachments);
+                throw e;
             }
         }
         return attachments;
     }
+    /**
+     * Include attachments inline. With spooling enabled, larger ones go to a temporary file so they stream to the
+     * pipeline instead of being held in memory
+     */
+    private void readAttachment(BodyPart bodyPart, Map<String, Object> attachment) throws Exception {
+        long threshold = config.isSpoolLargeAttachments() ? config.getAttachmentInlineThresholdBytes() : Long.MAX_VALUE;
+        try(InputStream is = bodyPart.getInputStream()) {
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int bytesRead;
+            while((bytesRead = is.read(buffer)) != -1) {
+                if(baos.size() + bytesRead > threshold) {
+                    Path spooled = Files.createTempFile("mail - attachment-", ".part");
+                    try(OutputStream out = Files.newOutputStream(spooled)) {
+                        baos.writeTo(out);
+                        out.write(buffer, 0, bytesRead);
+                        is.transferTo(out);
+                    } catch(IOException e) {
+                        Files.deleteIfExists(spooled);
+                        throw e;
+                    }
+                    attachment.put(SpooledContent.CONTENT_PATH, spooled.toAbsolutePath().toString());
+                    attachment.put(SpooledContent.SPOOLED, true);
+                    attachment.put("size", Files.size(spooled));
+                    return;
+                }
+                baos.write(buffer, 0, bytesRead);
+            }
+            attachment.put(SpooledContent.CONTENT, baos.toByteArray());
+        }
+    }
+
+    /**
+     * Delete the spool files of the attachments of the given emails
+     */
+    private void releaseAttachments(List<Map<String, Object>> emails) {
+        for(Map<String, Object> email : emails) {
+            SpooledContent.release(email.get("attachments"));
+        }
+    }
+
+    /**
+     * Read spooled attachments back into memory for callers that only get the fetch result and cannot release them
+     */
+    private void inlineAttachments(List<Map<String, Object>> emails) {
+        for(Map<String, Object> email : emails) {
+            Object attachments = email.get("attachments");
+            if(attachments != null) {
+                email.put("attachments", SpooledContent.inline(attachments));
+            }
+        }
+    }
+
     private String saveAttachment(BodyPart bodyPart) throws Exception {
         String fileName = bodyPart.getFileName();
         if(fileName == null) {
@@ -320,6 +512,10 @@ public class MailInboundAdapter extends AbstractAdapter implements InboundAdapte
     }
 
     private String getMessageId(Message message) throws Exception {
+        // Served from the prefetched envelope, no extra round - trip
+        if(message instanceof MimeMessage && ((MimeMessage) message).getMessageID() != null) {
+            return ((MimeMessage) message).getMessageID();
+        }
         String[] messageIds = message.getHeader("Message - ID");
         if(messageIds != null && messageIds.length > 0) {
             return messageIds[0];
@@ -397,6 +593,8 @@ public class MailInboundAdapter extends AbstractAdapter implements InboundAdapte
             }
             props.setProperty("mail.imap.connectiontimeout", config.getConnectionTimeout());
             props.setProperty("mail.imap.timeout", config.getReadTimeout());
+            // Larger partial fetches stream message bodies and attachments in fewer round - trips
+            props.setProperty("mail.imap.fetchsize", "262144");
         } else if("pop3".equals(protocol)) {
             props.setProperty("mail.store.protocol", "pop3");
             props.setProperty("mail.pop3.host", config.getMailServerHost());
@@ -455,7 +653,11 @@ public class MailInboundAdapter extends AbstractAdapter implements InboundAdapte
     @Override
     public AdapterOperationResult fetch(FetchRequest request) {
         try {
-            return pollForEmails();
+            AdapterOperationResult result = pollForEmails();
+            if(result.getData() != null) {
+                inlineAttachments((List<Map<String, Object>>) result.getData());
+            }
+            return result;
         } catch(Exception e) {
             return AdapterOperationResult.failure("Fetch failed: " + e.getMessage());
         }
@@ -489,46 +691,125 @@ public class MailInboundAdapter extends AbstractAdapter implements InboundAdapte
         log.info("Starting Mail polling with interval: {} ms", intervalMillis);
         polling.set(true);
 
-        // Create scheduled executor for polling
-        pollingExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+        // Create scheduled executor for polling, IDLE needs a second thread to refresh the blocked IDLE command
+        pollingExecutor = Executors.newScheduledThreadPool(2, r -> {
             Thread t = new Thread(r, "mail - polling-" + config.getMailServerHost());
             t.setDaemon(true);
             return t;
         });
 
+        if(config.isUseIdle() && "imap".equalsIgnoreCase(config.getMailProtocol())) {
+            idleActive = true;
+            pollingExecutor.execute(() -> runIdleLoop(intervalMillis));
+            pollingExecutor.scheduleAtFixedRate(this::wakeIdle, config.getIdleRefreshMs(), config.getIdleRefreshMs(), TimeUnit.MILLISECONDS);
+            log.info("Mail polling started with IMAP IDLE");
+            return;
+        }
+        schedulePolling(intervalMillis);
+        log.info("Mail polling started successfully");
+    }
+
+    private void schedulePolling(long intervalMillis) {
         // Schedule polling task
         pollingExecutor.scheduleWithFixedDelay(() -> {
             if(!polling.get()) {
                 return;
             }
+            runPollingCycle(intervalMillis, this::executePollingCycle);
+        }, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
 
+    /**
+     * Push - style retrieval: drain new mail, then block in IMAP IDLE until the server announces more.
+     * Falls back to fixed - interval polling when the server does not support IDLE.
+     */
+    private void runIdleLoop(long intervalMillis) {
+        while(polling.get()) {
             try {
-                log.debug("Executing Mail polling cycle");
-                AdapterOperationResult result = pollForEmails();
-
-                // If we have a callback and found emails, notify
-                if(dataCallback != null && result.isSuccess() && result.getData() != null) {
-                    List<Map<String, Object>> emails = (List<Map<String, Object>>) result.getData();
-                    if(!emails.isEmpty()) {
-                        log.info("Mail polling retrieved {} emails", emails.size());
-                        dataCallback.onDataReceived(emails, result);
-                    }
+                if(mailStore == null || !mailStore.isConnected() || mailFolder == null || !mailFolder.isOpen()) {
+                    connectToMailServer();
+                }
+                if(!(mailStore instanceof IMAPStore) || !((IMAPStore) mailStore).hasCapability("IDLE")) {
+                    log.info("Mail server {} does not support IDLE, polling every {} ms", config.getMailServerHost(), intervalMillis);
+                    idleActive = false;
+                    disconnectFromMailServer();
+                    schedulePolling(intervalMillis);
+                    return;
+                }
+                if(!runPollingCycle(intervalMillis, this::executePollingCycle)) {
+                    // Another node owns this mailbox, check again after one interval
+                    Thread.sleep(intervalMillis);
+                    continue;
+                }
+                if(polling.get()) {
+                    ((IMAPFolder) mailFolder).idle(true);
                 }
+            } catch(InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
             } catch(Exception e) {
-                log.error("Error during Mail polling", e);
-                if(dataCallback != null) {
-                    dataCallback.onDataReceived(null,
-                        AdapterOperationResult.failure("Polling error: " + e.getMessage()));
+                if(!polling.get()) {
+                    break;
+                }
+                log.warn("IMAP IDLE connection to {} failed, reconnecting: {}", config.getMailServerHost(), e.getMessage());
+                disconnectFromMailServer();
+                try {
+                    Thread.sleep(config.getRetryDelayMs());
+                } catch(InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    break;
                 }
             }
-        }, 0, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+        idleActive = false;
+    }
 
-        log.info("Mail polling started successfully");
+    /**
+     * End a blocked IDLE command; any folder operation from another thread makes idle() return
+     */
+    private void wakeIdle() {
+        Folder folder = mailFolder;
+        if(idleActive && folder != null && folder.isOpen()) {
+            try {
+                folder.getMessageCount();
+            } catch(Exception e) {
+                log.debug("Could not wake IMAP IDLE: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Single Mail polling cycle, runs only on the node owning this poller
+     */
+    private void executePollingCycle() {
+        try {
+            log.debug("Executing Mail polling cycle");
+            AdapterOperationResult result = pollForEmails();
+            List<Map<String, Object>> emails = result.getData() != null ?
+                    (List<Map<String, Object>>) result.getData() : Collections.emptyList();
+            try {
+                // If we have a callback and found emails, notify
+                if(dataCallback != null && result.isSuccess() && !emails.isEmpty()) {
+                    log.info("Mail polling retrieved {} emails", emails.size());
+                    dataCallback.onDataReceived(emails, result);
+                }
+            } finally {
+                // Spooled attachments live only until the callback has handed them on
+                releaseAttachments(emails);
+            }
+        } catch(Exception e) {
+            log.error("Error during Mail polling", e);
+            if(dataCallback != null) {
+                dataCallback.onDataReceived(null,
+                    AdapterOperationResult.failure("Polling error: " + e.getMessage()));
+            }
+        }
     }
 
     public void stopPolling() {
         if(polling.compareAndSet(true, false)) {
             log.info("Stopping Mail polling");
+            wakeIdle();
 
             if(pollingExecutor != null) {
                 pollingExecutor.shutdown();
@@ -653,6 +934,12 @@ public class MailInboundAdapter extends AbstractAdapter implements InboundAdapte
         return interval != null && !interval.isEmpty() ? Long.parseLong(interval) : 30000L;
     }
 
+    @Override
+    protected String getPollerId() {
+        String pollerId = super.getPollerId();
+        return pollerId != null ? pollerId : "mail-" + config.getMailUsername() + "@" + config.getMailServerHost() + "/" + config.getFolderName();
+    }
+
     protected AdapterConfiguration.AdapterTypeEnum getAdapterType() {
         return AdapterConfiguration.AdapterTypeEnum.MAIL;
     }
@@ -661,4 +948,14 @@ public class MailInboundAdapter extends AbstractAdapter implements InboundAdapte
     protected AdapterConfiguration.AdapterModeEnum getAdapterMode() {
         return AdapterConfiguration.AdapterModeEnum.INBOUND;
     }
+
+    private static final class MessageBatch {
+        private final Message[] messages;
+        private final long scannedUpToUid;
+
+        MessageBatch(Message[] messages, long scannedUpToUid) {
+            this.messages = messages;
+            this.scannedUpToUid = scannedUpToUid;
+        }
+    }
 }
@@ -10,9 +10,19 @@ import java.util.concurrent.CompletableFuture;
 import com.integrixs.adapters.domain.port.InboundAdapterPort;
 import java.util.Map;
 import com.integrixs.adapters.config.OdataInboundAdapterConfig;
+import com.integrixs.adapters.domain.repository.AdapterCheckpointRepository;
+import com.integrixs.adapters.domain.service.PollerOwnershipService;
 import org.apache.olingo.client.api.ODataClient;
-import org.apache.olingo.client.api.communication.request.retrieve.ODataEntitySetRequest;
+import org.apache.olingo.client.api.communication.request.ODataRequest;
+import org.apache.olingo.client.api.communication.request.batch.BatchManager;
+import org.apache.olingo.client.api.communication.request.batch.ODataBatchRequest;
+import org.apache.olingo.client.api.communication.request.batch.ODataBatchResponseItem;
+import org.apache.olingo.client.api.communication.request.retrieve.ODataRetrieveRequest;
+import org.apache.olingo.client.api.communication.response.ODataBatchResponse;
+import org.apache.olingo.client.api.communication.response.ODataResponse;
 import org.apache.olingo.client.api.communication.response.ODataRetrieveResponse;
+import org.apache.olingo.client.api.domain.ClientDeletedEntity;
+import org.apache.olingo.client.api.domain.ClientDelta;
 import org.apache.olingo.client.api.domain.ClientEntity;
 import org.apache.olingo.client.api.domain.ClientEntitySet;
 import org.apache.olingo.client.api.domain.ClientProperty;
@@ -21,7 +31,14 @@ import org.apache.olingo.commons.api.format.ContentType;
 import java.net.URI;
 import java.net.URL;
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 /**
  * OData Sender Adapter implementation for OData service consumption(INBOUND).
  * Follows middleware convention: Inbound = receives data FROM external systems.
@@ -34,7 +51,12 @@ public class OdataInboundAdapter extends AbstractAdapter implements InboundAdapt
     private final OdataInboundAdapterConfig config;
     private ODataClient client;
     private final Map<String, String> processedEntities = new ConcurrentHashMap<>();
-    private String lastDeltaToken;
+    private ExecutorService prefetchExecutor;
+    private volatile Map<String, String> pendingCheckpoints; // Fetched but not yet acknowledged checkpoints
+
+    // Per entity set checkpoints: the delta link of the last complete sync and the next link of an interrupted one
+    private static final String DELTA_LINK_CHECKPOINT = "deltaLink.";
+    private static final String NEXT_LINK_CHECKPOINT = "nextLink.";
     public OdataInboundAdapter(OdataInboundAdapterConfig config) {
         super();
         this.config = config;
@@ -48,6 +70,15 @@ public class OdataInboundAdapter extends AbstractAdapter implements InboundAdapt
             validateConfiguration();
             // Initialize OData client
             client = ODataClientFactory.getClient();
+            if(config.isResetIncrementalOnStart()) {
+                getCheckpointRepository().deleteAll(getPollerId());
+            }
+            AtomicInteger threadNumber = new AtomicInteger();
+            prefetchExecutor = Executors.newCachedThreadPool(r -> {
+                Thread t = new Thread(r, "odata - prefetch-" + threadNumber.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
             // Configure client settings
             if(config.getUsername() != null && !config.getUsername().isEmpty()) {
                 // Basic authentication would be configured here
@@ -66,6 +97,10 @@ public class OdataInboundAdapter extends AbstractAdapter implements InboundAdapt
     protected AdapterOperationResult performShutdown() {
         log.info("Destroying OData inbound adapter");
         processedEntities.clear();
+        if(prefetchExecutor != null) {
+            prefetchExecutor.shutdownNow();
+            prefetchExecutor = null;
+        }
         client = null;
         return AdapterOperationResult.success("OData inbound adapter destroyed");
     }
@@ -91,52 +126,41 @@ public class OdataInboundAdapter extends AbstractAdapter implements InboundAdapt
     }
 
 
+    /**
+     * One polling cycle over the configured entity sets.
+     * A set with a persisted delta link only reads the changes since the last sync, otherwise it is read in full
+     * with change tracking requested. The first page of every set is read in one $batch request, further pages
+     * follow the server's @odata.nextLink while the next page is prefetched. The checkpoints of the cycle are
+     * the delta link when a set was read to the end and the next link when the cycle stopped at maxRecordsPerPoll;
+     * they are committed when fetch returns, or by commitCheckpoints() once the caller processed the entities.
+     */
     private AdapterOperationResult pollODataService() throws Exception {
         List<Map<String, Object>> entities = new ArrayList<>();
         try {
-            // Build OData URI
-            String serviceUrl = config.getServiceUrl();
-
-            // Create entity set request
-            ODataEntitySetRequest<ClientEntitySet> request = client.getRetrieveRequestFactory()
-                    .getEntitySetRequest(client.newURIBuilder(serviceUrl)
-                            .appendEntitySetSegment(config.getEntitySetName())
-                            .build());
-            // Set format
-            request.setFormat(ContentType.APPLICATION_JSON);
-            // Add query options
-            URI requestUri = addQueryOptions(request.getURI());
-            request = client.getRetrieveRequestFactory().getEntitySetRequest(requestUri);
-            // Add authentication headers if configured
-            if(config.getUsername() != null && !config.getUsername().isEmpty()) {
-                String credentials = config.getUsername() + ":" + config.getPassword();
-                String encodedCredentials = Base64.getEncoder().encodeToString(credentials.getBytes());
-                request.addCustomHeader("Authorization", "Basic " + encodedCredentials);
+            List<String> entitySets = getEntitySets();
+            Map<String, PageLink> startLinks = new LinkedHashMap<>();
+            for(String entitySet : entitySets) {
+                startLinks.put(entitySet, resolveStartLink(entitySet));
             }
-            // Add custom headers if configured
-            if(config.getCustomHeaders() != null && !config.getCustomHeaders().isEmpty()) {
-                for(Map.Entry<String, String> header : config.getCustomHeaders().entrySet()) {
-                    request.addCustomHeader(header.getKey(), header.getValue());
+
+            Map<String, ClientEntitySet> firstPages = readFirstPages(startLinks);
+            Map<String, String> checkpoints = new LinkedHashMap<>();
+            for(String entitySet : entitySets) {
+                if(entities.size() >= config.getMaxRecordsPerPoll()) {
+                    break;
                 }
-            }
-            // Execute request
-            ODataRetrieveResponse<ClientEntitySet> response = request.execute();
-            ClientEntitySet entitySet = response.getBody();
-            // Process entities
-            for(ClientEntity entity : entitySet.getEntities()) {
-                Map<String, Object> entityData = processEntity(entity);
-                if(entityData != null) {
-                    entities.add(entityData);
+                ClientEntitySet lastPage = drainPages(entitySet, firstPages.get(entitySet), entities);
+                if(lastPage.getNext() != null) {
+                    checkpoints.put(NEXT_LINK_CHECKPOINT + entitySet, lastPage.getNext().toString());
+                } else if(lastPage.getDeltaLink() != null) {
+                    checkpoints.put(DELTA_LINK_CHECKPOINT + entitySet, lastPage.getDeltaLink().toString());
                 }
             }
-            // Handle delta token for change tracking
-            if(config.isEnableChangeTracking() && response.getHeader("DataServiceVersion") != null) {
-                String deltaLink = entitySet.getDeltaLink() != null ? entitySet.getDeltaLink().toString() : null;
-                if(deltaLink != null) {
-                    lastDeltaToken = extractDeltaToken(deltaLink);
-                    log.debug("Updated delta token: {}", lastDeltaToken);
-                }
+            pendingCheckpoints = checkpoints;
+            if(config.isAutoCommitOnFetch()) {
+                commitCheckpoints();
             }
+
             log.info("OData inbound adapter retrieved {} entities", entities.size());
             return AdapterOperationResult.success(entities,
                     String.format("Successfully retrieved %d entities from OData service", entities.size()));
@@ -146,6 +170,218 @@ public class OdataInboundAdapter extends AbstractAdapter implements InboundAdapt
         }
     }
 
+    private List<String> getEntitySets() {
+        List<String> entitySets = new ArrayList<>();
+        entitySets.add(config.getEntitySetName());
+        if(config.getBatchEntitySets() != null) {
+            for(String entitySet : config.getBatchEntitySets()) {
+                if(entitySet != null && !entitySet.isBlank() && !entitySets.contains(entitySet.trim())) {
+                    entitySets.add(entitySet.trim());
+                }
+            }
+        }
+        return entitySets;
+    }
+
+    /**
+     * Where an entity set continues: an interrupted sync resumes at its next link, an incremental sync starts at
+     * the delta link and anything else is a full read
+     */
+    private PageLink resolveStartLink(String entitySet) throws Exception {
+        AdapterCheckpointRepository checkpoints = getCheckpointRepository();
+        Optional<String> deltaLink = config.isEnableChangeTracking()
+                ? checkpoints.load(getPollerId(), DELTA_LINK_CHECKPOINT + entitySet)
+                : Optional.empty();
+        Optional<String> nextLink = checkpoints.load(getPollerId(), NEXT_LINK_CHECKPOINT + entitySet);
+        if(nextLink.isPresent()) {
+            // With a delta link on record the interrupted sync was an incremental one
+            return new PageLink(URI.create(nextLink.get()), deltaLink.isPresent());
+        }
+        if(deltaLink.isPresent()) {
+            return new PageLink(URI.create(deltaLink.get()), true);
+        }
+        return new PageLink(addQueryOptions(client.newURIBuilder(config.getServiceUrl())
+                .appendEntitySetSegment(entitySet)
+                .build()), false);
+    }
+
+    /**
+     * Read the first page of every entity set, in a single $batch request when there is more than one.
+     * Falls back to individual requests when the service rejects the batch.
+     */
+    private Map<String, ClientEntitySet> readFirstPages(Map<String, PageLink> startLinks) {
+        Map<String, ClientEntitySet> firstPages = new LinkedHashMap<>();
+        if(startLinks.size() > 1) {
+            try {
+                ODataBatchRequest batchRequest = client.getBatchRequestFactory().getBatchRequest(config.getServiceUrl());
+                applyHeaders(batchRequest);
+                BatchManager batch = batchRequest.payloadManager();
+                for(PageLink link : startLinks.values()) {
+                    batch.addRequest(newPageRequest(link.uri, link.delta));
+                }
+                ODataBatchResponse response = batch.getResponse();
+                Iterator<String> entitySets = startLinks.keySet().iterator();
+                Iterator<ODataBatchResponseItem> items = response.getBody();
+                while(items.hasNext()) {
+                    ODataBatchResponseItem item = items.next();
+                    while(item.hasNext() && entitySets.hasNext()) {
+                        ODataResponse itemResponse = item.next();
+                        String entitySet = entitySets.next();
+                        if(itemResponse instanceof ODataRetrieveResponse && itemResponse.getStatusCode() < 300) {
+                            firstPages.put(entitySet, ((ODataRetrieveResponse<ClientEntitySet>) itemResponse).getBody());
+                        } else {
+                            log.warn("Batched read of entity set {} failed with status {}", entitySet, itemResponse.getStatusCode());
+                        }
+                    }
+                    item.close();
+                }
+                log.debug("Read the first page of {} entity sets in one batch", firstPages.size());
+            } catch(Exception e) {
+                log.warn("OData $batch request failed, reading entity sets individually: {}", e.getMessage());
+            }
+        }
+        for(Map.Entry<String, PageLink> startLink : startLinks.entrySet()) {
+            if(!firstPages.containsKey(startLink.getKey())) {
+                firstPages.put(startLink.getKey(), readPage(startLink.getValue().uri, startLink.getValue().delta));
+            }
+        }
+        return firstPages;
+    }
+
+    /**
+     * Collect the entities of a page and the pages following it until the set is exhausted or maxRecordsPerPoll
+     * is reached. Up to prefetchDepth pages are fetched ahead on a background thread while the current page is
+     * processed.
+     * @return The last page that was collected
+     */
+    private ClientEntitySet drainPages(String entitySet, ClientEntitySet firstPage, List<Map<String, Object>> entities) throws Exception {
+        ClientEntitySet page = firstPage;
+        // Continuation pages of a delta response are delta pages as well
+        boolean delta = firstPage instanceof ClientDelta;
+        PagePrefetcher prefetcher = null;
+        try {
+            if(page.getNext() != null && config.getPrefetchDepth() > 0) {
+                prefetcher = new PagePrefetcher(page.getNext(), delta, config.getPrefetchDepth());
+            }
+            int pages = 1;
+            while(true) {
+                collectEntities(entitySet, page, entities);
+                if(page.getNext() == null || entities.size() >= config.getMaxRecordsPerPoll()) {
+                    log.debug("Read {} pages of entity set {}", pages, entitySet);
+                    return page;
+                }
+                page = prefetcher != null ? prefetcher.take() : readPage(page.getNext(), delta);
+                pages++;
+            }
+        } finally {
+            if(prefetcher != null) {
+                prefetcher.close();
+            }
+        }
+    }
+
+    private void collectEntities(String entitySet, ClientEntitySet page, List<Map<String, Object>> entities) {
+        boolean multipleSets = config.getBatchEntitySets() != null && !config.getBatchEntitySets().isEmpty();
+        for(ClientEntity entity : page.getEntities()) {
+            Map<String, Object> entityData = processEntity(entity);
+            if(entityData != null) {
+                if(multipleSets) {
+                    entityData.put("@odata.entitySet", entitySet);
+                }
+                entities.add(entityData);
+            }
+        }
+        if(page instanceof ClientDelta) {
+            for(ClientDeletedEntity deleted : ((ClientDelta) page).getDeletedEntities()) {
+                Map<String, Object> entityData = new HashMap<>();
+                entityData.put("@odata.id", deleted.getId() != null ? deleted.getId().toString() : null);
+                entityData.put("@odata.removed", deleted.getReason() != null ? deleted.getReason().name() : "deleted");
+                if(multipleSets) {
+                    entityData.put("@odata.entitySet", entitySet);
+                }
+                entities.add(entityData);
+            }
+        }
+    }
+
+    private ClientEntitySet readPage(URI link, boolean delta) {
+        ODataRetrieveRequest<? extends ClientEntitySet> request = newPageRequest(link, delta);
+        applyHeaders(request);
+        return request.execute().getBody();
+    }
+
+    /**
+     * Entity set request for a page. Delta links and their continuation pages are read as delta responses, a
+     * full read asks the service to page with odata.maxpagesize and to track changes from here on.
+     */
+    private ODataRetrieveRequest<? extends ClientEntitySet> newPageRequest(URI link, boolean delta) {
+        ODataRetrieveRequest<? extends ClientEntitySet> request = delta
+                ? client.getRetrieveRequestFactory().getDeltaRequest(link)
+                : client.getRetrieveRequestFactory().getEntitySetRequest(link);
+        request.setFormat(ContentType.APPLICATION_JSON);
+        List<String> preferences = new ArrayList<>();
+        if(config.isEnablePaging() && config.getPageSize() > 0) {
+            preferences.add("odata.maxpagesize=" + config.getPageSize());
+        }
+        if(config.isEnableChangeTracking() && !delta) {
+            preferences.add("odata.track-changes");
+        }
+        if(!preferences.isEmpty()) {
+            request.setPrefer(String.join(",", preferences));
+        }
+        return request;
+    }
+
+    private void applyHeaders(ODataRequest request) {
+        if(config.getUsername() != null && !config.getUsername().isEmpty()) {
+            String credentials = config.getUsername() + ":" + config.getPassword();
+            String encodedCredentials = Base64.getEncoder().encodeToString(credentials.getBytes());
+            request.addCustomHeader("Authorization", "Basic " + encodedCredentials);
+        }
+        if(config.getCustomHeaders() != null && !config.getCustomHeaders().isEmpty()) {
+            for(Map.Entry<String, String> header : config.getCustomHeaders().entrySet()) {
+                request.addCustomHeader(header.getKey(), header.getValue());
+            }
+        }
+    }
+
+    /**
+     * Commit the checkpoints of the last fetch once the caller processed its entities successfully.
+     * Only needed when autoCommitOnFetch is disabled.
+     */
+    public void commitCheckpoints() {
+        Map<String, String> checkpoints = pendingCheckpoints;
+        if(checkpoints != null) {
+            commitCheckpoints(checkpoints);
+            pendingCheckpoints = null;
+        }
+    }
+
+    private void commitCheckpoints(Map<String, String> checkpoints) {
+        AdapterCheckpointRepository repository = getCheckpointRepository();
+        for(Map.Entry<String, String> checkpoint : checkpoints.entrySet()) {
+            String name = checkpoint.getKey();
+            repository.save(getPollerId(), name, checkpoint.getValue());
+            if(name.startsWith(DELTA_LINK_CHECKPOINT)) {
+                // The sync completed, it no longer resumes from a next link
+                repository.delete(getPollerId(), NEXT_LINK_CHECKPOINT + name.substring(DELTA_LINK_CHECKPOINT.length()));
+            }
+        }
+        if(!checkpoints.isEmpty()) {
+            log.debug("Committed OData checkpoints {} for {}", checkpoints.keySet(), getPollerId());
+        }
+    }
+
+    private AdapterCheckpointRepository getCheckpointRepository() {
+        return PollerOwnershipService.current().getCheckpointRepository();
+    }
+
+    @Override
+    protected String getPollerId() {
+        String pollerId = super.getPollerId();
+        return pollerId != null ? pollerId : "odata-" + config.getServiceUrl() + "/" + config.getEntitySetName();
+    }
+
     private Map<String, Object> processEntity(ClientEntity entity) {
         Map<String, Object> entityData = new HashMap<>();
         // Extract entity ID
@@ -186,35 +422,27 @@ public class OdataInboundAdapter extends AbstractAdapter implements InboundAdapt
         List<String> queryOptions = new ArrayList<>();
         // Add filter
         if(config.getFilter() != null && !config.getFilter().isEmpty()) {
-            queryOptions.add("$filter = " + encodeQueryParam(config.getFilter()));
+            queryOptions.add("$filter=" + encodeQueryParam(config.getFilter()));
         }
         // Add select
         if(config.getSelect() != null && !config.getSelect().isEmpty()) {
-            queryOptions.add("$select = " + encodeQueryParam(config.getSelect()));
+            queryOptions.add("$select=" + encodeQueryParam(config.getSelect()));
         }
         // Add expand
         if(config.getExpand() != null && !config.getExpand().isEmpty()) {
-            queryOptions.add("$expand = " + encodeQueryParam(config.getExpand()));
+            queryOptions.add("$expand=" + encodeQueryParam(config.getExpand()));
         }
         // Add orderby
         if(config.getOrderBy() != null && !config.getOrderBy().isEmpty()) {
-            queryOptions.add("$orderby = " + encodeQueryParam(config.getOrderBy()));
+            queryOptions.add("$orderby=" + encodeQueryParam(config.getOrderBy()));
         }
-        // Add top
-        if(config.getTop() > 0) {
-            queryOptions.add("$top = " + config.getTop());
-        }
-        // Add skip for pagination
-        if(config.getSkip() > 0) {
-            queryOptions.add("$skip = " + config.getSkip());
+        // Without paging the page size caps the result, otherwise the service pages with @odata.nextLink
+        if(!config.isEnablePaging() && config.getTop() > 0) {
+            queryOptions.add("$top=" + config.getTop());
         }
         // Add count
         if(config.isIncludeCount()) {
-            queryOptions.add("$count = true");
-        }
-        // Add delta token for change tracking
-        if(config.isEnableChangeTracking() && lastDeltaToken != null) {
-            queryOptions.add("$deltatoken = " + lastDeltaToken);
+            queryOptions.add("$count=true");
         }
         // Append query options
         if(!queryOptions.isEmpty()) {
@@ -225,16 +453,7 @@ public class OdataInboundAdapter extends AbstractAdapter implements InboundAdapt
     }
 
     private String encodeQueryParam(String param) throws Exception {
-        return java.net.URLEncoder.encode(param, "UTF-8");
-    }
-
-    private String extractDeltaToken(String deltaLink) {
-        // Extract delta token from delta link
-        int tokenIndex = deltaLink.indexOf("$deltatoken = ");
-        if(tokenIndex >= 0) {
-            return deltaLink.substring(tokenIndex + 12);
-        }
-        return null;
+        return java.net.URLEncoder.encode(param, "UTF-8").replace("+", "%20");
     }
 
     private void validateConfiguration() throws AdapterException {
@@ -302,7 +521,7 @@ public class OdataInboundAdapter extends AbstractAdapter implements InboundAdapt
                 .adapterMode(AdapterConfiguration.AdapterModeEnum.INBOUND)
                 .description("Inbound adapter implementation")
                 .version("1.0.0")
-                .supportsBatch(false)
+                .supportsBatch(true)
                 .supportsAsync(true)
                 .build();
     }
@@ -361,4 +580,68 @@ public class OdataInboundAdapter extends AbstractAdapter implements InboundAdapt
         return AdapterConfiguration.AdapterModeEnum.INBOUND;
     }
 
+
+    /**
+     * Fetches the pages following a link on the prefetch executor into a bounded queue, so the next page is
+     * already on its way while the current one is processed
+     */
+    private final class PagePrefetcher implements AutoCloseable {
+        private final BlockingQueue<PrefetchedPage> pages;
+        private final Future<?> producer;
+
+        PagePrefetcher(URI firstLink, boolean delta, int depth) {
+            this.pages = new ArrayBlockingQueue<>(depth);
+            this.producer = prefetchExecutor.submit(() -> {
+                URI link = firstLink;
+                try {
+                    while(link != null && !Thread.currentThread().isInterrupted()) {
+                        ClientEntitySet page = readPage(link, delta);
+                        pages.put(new PrefetchedPage(page, null));
+                        link = page.getNext();
+                    }
+                } catch(InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch(Exception e) {
+                    pages.offer(new PrefetchedPage(null, e));
+                }
+            });
+        }
+
+        ClientEntitySet take() throws Exception {
+            PrefetchedPage page = pages.poll(config.getReadTimeout() * 2L, TimeUnit.MILLISECONDS);
+            if(page == null) {
+                throw new AdapterException("Timed out waiting for the next OData page", null);
+            }
+            if(page.failure != null) {
+                throw page.failure;
+            }
+            return page.entitySet;
+        }
+
+        @Override
+        public void close() {
+            producer.cancel(true);
+            pages.clear();
+        }
+    }
+
+    private static final class PageLink {
+        private final URI uri;
+        private final boolean delta;
+
+        PageLink(URI uri, boolean delta) {
+            this.uri = uri;
+            this.delta = delta;
+        }
+    }
+
+    private static final class PrefetchedPage {
+        private final ClientEntitySet entitySet;
+        private final Exception failure;
+
+        PrefetchedPage(ClientEntitySet entitySet, Exception failure) {
+            this.entitySet = entitySet;
+            this.failure = failure;
+        }
+    }
 }
@@ -5,10 +5,13 @@ import com.integrixs.shared.exceptions.AdapterException;
 import com.integrixs.adapters.domain.model.*;
 import com.integrixs.adapters.domain.port.InboundAdapterPort;
 import com.integrixs.adapters.config.SftpInboundAdapterConfig;
+import com.integrixs.adapters.infrastructure.connection.RemoteSessionPool;
+import com.integrixs.adapters.infrastructure.connection.SftpChannelFactory;
+import com.integrixs.adapters.infrastructure.connection.SpooledContent;
+import com.integrixs.adapters.infrastructure.connection.TransferSpool;
 
 import com.jcraft.jsch.*;
 import java.io.*;
-import java.security.MessageDigest;
 import java.util.*;
 import java.util.List;import java.util.concurrent.ConcurrentHashMap;
 import java.util.List;import java.util.regex.Pattern;
@@ -20,11 +23,16 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 /**
  * SFTP Sender Adapter implementation for SFTP file polling and retrieval(INBOUND).
  * Follows middleware convention: Inbound = receives data FROM external systems.
  * Supports SFTP connections, file polling, pattern matching, and SSH authentication.
+ * With connection pooling enabled, channels come from the shared {@link RemoteSessionPool} and files can be
+ * downloaded in parallel. Large files are streamed to a spool file instead of being buffered in memory.
  */
 public class SftpInboundAdapter extends AbstractAdapter implements InboundAdapterPort {
 
@@ -34,6 +42,9 @@ public class SftpInboundAdapter extends AbstractAdapter implements InboundAdapte
     private Pattern exclusionPattern;
     private Session sshSession;
     private ChannelSftp sftpChannel;
+    private final SftpChannelFactory channelFactory = new SftpChannelFactory(this::createSession);
+    private String poolKey;
+    private ExecutorService downloadExecutor;
 
     // Polling mechanism fields
     private final AtomicBoolean polling = new AtomicBoolean(false);
@@ -74,6 +85,11 @@ public class SftpInboundAdapter extends AbstractAdapter implements InboundAdapte
         // Stop polling if active
         stopPolling();
 
+        if(downloadExecutor != null) {
+            downloadExecutor.shutdownNow();
+            downloadExecutor = null;
+        }
+
         disconnectFromSftp();
         processedFiles.clear();
         return AdapterOperationResult.success("Shutdown successfully");
@@ -240,26 +256,13 @@ public class SftpInboundAdapter extends AbstractAdapter implements InboundAdapte
     }
 
     private AdapterOperationResult pollForFiles() throws Exception {
-        List<Map<String, Object>> processedFiles = new ArrayList<>();
-        Session session = null;
+        List<Map<String, Object>> retrievedFiles = Collections.synchronizedList(new ArrayList<>());
         ChannelSftp channel = null;
+        boolean broken = false;
 
         try {
             // Get or create connection
-            if("permanently".equals(config.getConnectionMode())) {
-                session = sshSession;
-                channel = sftpChannel;
-                if(session == null || !session.isConnected() || channel == null || !channel.isConnected()) {
-                    connectToSftp();
-                    session = sshSession;
-                    channel = sftpChannel;
-                }
-            } else {
-                session = createSession();
-                session.connect();
-                channel = (ChannelSftp) session.openChannel("sftp");
-                channel.connect();
-            }
+            channel = acquireChannel();
 
             // Change to source directory
             channel.cd(config.getSourceDirectory());
@@ -282,44 +285,116 @@ public class SftpInboundAdapter extends AbstractAdapter implements InboundAdapte
 
             sortFiles(eligibleFiles);
 
-            // Process files
-            for(ChannelSftp.LsEntry entry : eligibleFiles) {
-                try {
-                    if(shouldProcessFile(entry)) {
-                        Map<String, Object> fileData = processFile(channel, entry);
-                        if(fileData != null) {
-                            processedFiles.add(fileData);
-                            handlePostProcessing(channel, entry);
-
-                            // Mark as processed
-                            this.processedFiles.put(entry.getFilename(), String.valueOf(System.currentTimeMillis()));
+            if(canDownloadInParallel(eligibleFiles.size())) {
+                // Hand the listing channel back so a download worker can reuse it
+                releaseChannel(channel, false);
+                channel = null;
+                downloadInParallel(eligibleFiles, retrievedFiles);
+            } else {
+                // Process files
+                for(ChannelSftp.LsEntry entry : eligibleFiles) {
+                    try {
+                        retrieveFile(channel, entry, retrievedFiles);
+                    } catch(Exception e) {
+                        log.error("Error processing SFTP file: {}", entry.getFilename(), e);
+
+                        if(!config.isContinueOnError()) {
+                            throw new AdapterException("SFTP file processing failed for " + entry.getFilename() + ": " + e.getMessage(), e);
                         }
                     }
-                } catch(Exception e) {
-                    log.error("Error processing SFTP file: {}", entry.getFilename(), e);
-
-                    if(!config.isContinueOnError()) {
-                        throw new AdapterException("SFTP file processing failed for " + entry.getFilename() + ": " + e.getMessage(), e);
-                    }
                 }
             }
-
+        } catch(JSchException e) {
+            broken = true;
+            SpooledContent.release(retrievedFiles);
+            throw e;
+        } catch(Exception e) {
+            // Files spooled before the failure are never handed on
+            SpooledContent.release(retrievedFiles);
+            throw e;
         } finally {
-            if("per - file - transfer".equals(config.getConnectionMode())) {
-                if(channel != null && channel.isConnected()) {
-                    channel.disconnect();
+            releaseChannel(channel, broken);
+        }
+
+        log.info("SFTP inbound adapter polled {} files from server", retrievedFiles.size());
+
+        return AdapterOperationResult.success(new ArrayList<>(retrievedFiles),
+                String.format("Retrieved %d files from SFTP server", retrievedFiles.size()));
+    }
+
+    private void retrieveFile(ChannelSftp channel, ChannelSftp.LsEntry entry, List<Map<String, Object>> retrievedFiles) throws Exception {
+        if(shouldProcessFile(entry)) {
+            Map<String, Object> fileData = processFile(channel, entry);
+            if(fileData != null) {
+                retrievedFiles.add(fileData);
+                handlePostProcessing(channel, entry);
+
+                // Mark as processed
+                this.processedFiles.put(entry.getFilename(), String.valueOf(System.currentTimeMillis()));
+            }
+        }
+    }
+
+    private boolean canDownloadInParallel(int fileCount) {
+        // A single permanent channel cannot be shared between download workers
+        return config.getParallelDownloads() > 1 && fileCount > 1
+                && (config.isEnableConnectionPooling() || !"permanently".equals(config.getConnectionMode()));
+    }
+
+    /**
+     * Download files concurrently, each worker on its own channel.
+     * Completion order is not guaranteed, so configured sorting only affects the submission order.
+     */
+    private void downloadInParallel(List<ChannelSftp.LsEntry> entries, List<Map<String, Object>> retrievedFiles) throws Exception {
+        ExecutorService executor = getDownloadExecutor();
+        List<Future<?>> futures = new ArrayList<>();
+        for(ChannelSftp.LsEntry entry : entries) {
+            futures.add(executor.submit(() -> {
+                ChannelSftp channel = null;
+                boolean broken = false;
+                try {
+                    channel = acquireChannel();
+                    channel.cd(config.getSourceDirectory());
+                    retrieveFile(channel, entry, retrievedFiles);
+                } catch(JSchException e) {
+                    broken = true;
+                    throw e;
+                } finally {
+                    releaseChannel(channel, broken);
                 }
-                if(session != null && session.isConnected()) {
-                    session.disconnect();
+                return null;
+            }));
+        }
+
+        Exception firstFailure = null;
+        for(int i = 0; i < futures.size(); i++) {
+            try {
+                futures.get(i).get();
+            } catch(ExecutionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                log.error("Error processing SFTP file: {}", entries.get(i).getFilename(), cause);
+                if(!config.isContinueOnError() && firstFailure == null) {
+                    firstFailure = new AdapterException(
+                            "SFTP file processing failed for " + entries.get(i).getFilename() + ": " + cause.getMessage(), cause);
                 }
             }
         }
+        if(firstFailure != null) {
+            throw firstFailure;
+        }
+    }
 
-        log.info("SFTP inbound adapter polled {} files from server", processedFiles.size());
-
-        return AdapterOperationResult.success(processedFiles,
-                String.format("Retrieved %d files from SFTP server", processedFiles.size()));
+    private synchronized ExecutorService getDownloadExecutor() {
+        if(downloadExecutor == null) {
+            downloadExecutor = Executors.newFixedThreadPool(config.getParallelDownloads(), r -> {
+                Thread t = new Thread(r, "sftp - download-" + config.getServerAddress());
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        return downloadExecutor;
     }
+
     private Map<String, Object> processFile(ChannelSftp channel, ChannelSftp.LsEntry entry) throws Exception {
         SftpATTRS attrs = entry.getAttrs();
 
@@ -353,40 +428,50 @@ public class SftpInboundAdapter extends AbstractAdapter implements InboundAdapte
         fileData.put("sftpPath", config.getSourceDirectory() + "/" + entry.getFilename());
         fileData.put("permissions", attrs.getPermissionsString());
 
-        // Download file content
-        try(ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-            channel.get(entry.getFilename(), baos);
-
-            byte[] content = baos.toByteArray();
-
-            if(config.isLogFileContent()) {
-                // Convert to string for logging
-                String contentStr = new String(content,
-                        config.getFileEncoding() != null ?
-                                config.getFileEncoding() : "UTF-8");
-                fileData.put("content", contentStr);
-            } else {
-                fileData.put("content", content);
-            }
+        // Stream the download, large files go to a spool file instead of memory
+        long started = System.nanoTime();
+        TransferSpool.Download download = TransferSpool.download(out -> channel.get(entry.getFilename(), out),
+                fileSize, streamingThreshold(), config.getSpoolDirectory(), entry.getFilename(),
+                config.isValidateFileIntegrity() ? config.getChecksumAlgorithm() : null);
+        if(config.isEnableConnectionPooling()) {
+            RemoteSessionPool.sftp().recordTransfer(poolKey(), download.getBytes(), System.nanoTime() - started);
+        }
+
+        if(download.isSpooled()) {
+            fileData.put(SpooledContent.CONTENT_PATH, download.getSpoolFile().toString());
+            fileData.put(SpooledContent.SPOOLED, true);
+        } else if(config.isLogFileContent()) {
+            // Convert to string for logging
+            String contentStr = new String(download.getContent(),
+                    config.getFileEncoding() != null ?
+                            config.getFileEncoding() : "UTF-8");
+            fileData.put("content", contentStr);
+        } else {
+            fileData.put("content", download.getContent());
+        }
 
-            // Generate checksum if configured
-            if(config.isValidateFileIntegrity()) {
-                String checksum = generateChecksum(content);
-                fileData.put("checksum", checksum);
+        // Checksum is computed while streaming if configured
+        if(config.isValidateFileIntegrity()) {
+            fileData.put("checksum", download.getChecksum());
 
-                // Check for duplicates
-                if(config.isEnableDuplicateHandling()) {
-                    if(isDuplicate(entry.getFilename(), checksum)) {
-                        log.debug("SFTP file {} is a duplicate, skipping", entry.getFilename());
-                        return null;
-                    }
+            // Check for duplicates
+            if(config.isEnableDuplicateHandling() && isDuplicate(entry.getFilename(), download.getChecksum())) {
+                log.debug("SFTP file {} is a duplicate, skipping", entry.getFilename());
+                if(download.isSpooled()) {
+                    java.nio.file.Files.deleteIfExists(download.getSpoolFile());
                 }
+                return null;
             }
         }
 
         return fileData;
     }
 
+    private long streamingThreshold() {
+        // Spooling is opt - in, by default every file is delivered inline as before
+        return config.isStreamLargeFiles() ? config.getStreamingThreshold() : Long.MAX_VALUE;
+    }
+
     private void handlePostProcessing(ChannelSftp channel, ChannelSftp.LsEntry entry) throws Exception {
         String processingMode = config.getProcessingMode();
         String fileName = entry.getFilename();
@@ -493,20 +578,60 @@ public class SftpInboundAdapter extends AbstractAdapter implements InboundAdapte
         }
     }
 
-    private String generateChecksum(byte[] content) throws Exception {
-        MessageDigest digest = MessageDigest.getInstance(config.getChecksumAlgorithm());
-        digest.update(content);
+    private boolean isDuplicate(String fileName, String checksum) {
+        // Simple duplicate detection based on checksum
+        return processedFiles.containsValue(checksum);
+    }
 
-        StringBuilder result = new StringBuilder();
-        for(byte b : digest.digest()) {
-            result.append(String.format("%02x", b));
+    private ChannelSftp acquireChannel() throws Exception {
+        if(config.isEnableConnectionPooling()) {
+            return RemoteSessionPool.sftp().borrow(poolKey(), channelFactory, maxConcurrentConnections(),
+                    config.getPoolIdleTimeoutMs(), config.getConnectionPoolTimeout());
         }
-        return result.toString();
+        if("permanently".equals(config.getConnectionMode())) {
+            if(sshSession == null || !sshSession.isConnected() || sftpChannel == null || !sftpChannel.isConnected()) {
+                connectToSftp();
+            }
+            return sftpChannel;
+        }
+        return channelFactory.create();
     }
 
-    private boolean isDuplicate(String fileName, String checksum) {
-        // Simple duplicate detection based on checksum
-        return processedFiles.containsValue(checksum);
+    private void releaseChannel(ChannelSftp channel, boolean broken) {
+        if(channel == null) {
+            return;
+        }
+        if(config.isEnableConnectionPooling()) {
+            RemoteSessionPool.sftp().release(poolKey(), channel, broken);
+        } else if(!"permanently".equals(config.getConnectionMode())) {
+            channelFactory.destroy(channel);
+        }
+    }
+
+    private synchronized String poolKey() {
+        if(poolKey == null) {
+            String secret = config.getPassword() + "|" + config.getPrivateKey() + "|" + config.getPassphrase();
+            poolKey = RemoteSessionPool.key(config.getServerAddress(), config.getPort(), config.getUserName(), secret,
+                    config.getAuthenticationType(), config.getPreferredAuthentications(), config.getKnownHostsFile(),
+                    config.getHostKeyVerification(), config.getSshCompression(), maxConcurrentConnections(), config.getPoolIdleTimeoutMs());
+        }
+        return poolKey;
+    }
+
+    private int maxConcurrentConnections() {
+        try {
+            return Integer.parseInt(config.getMaxConcurrentConnections());
+        } catch(NumberFormatException e) {
+            return 5;
+        }
+    }
+
+    /**
+     * Pool and per - host throughput metrics of the shared SFTP session pool
+     * @return Metrics per host
+     */
+    public Map<String, Object> getTransferMetrics() {
+        return RemoteSessionPool.sftp().getMetrics();
     }
 
     private void connectToSftp() throws Exception {
@@ -695,6 +820,12 @@ public class SftpInboundAdapter extends AbstractAdapter implements InboundAdapte
     }
 
 
+    @Override
+    protected String getPollerId() {
+        String pollerId = super.getPollerId();
+        return pollerId != null ? pollerId : "sftp-" + config.getServerAddress() + ":" + config.getSourceDirectory();
+    }
+
     @Override
     protected AdapterConfiguration.AdapterTypeEnum getAdapterType() {
         return AdapterConfiguration.AdapterTypeEnum.SFTP;
@@ -742,33 +873,45 @@ public class SftpInboundAdapter extends AbstractAdapter implements InboundAdapte
             if(!polling.get()) {
                 return;
             }
-
-            try {
-                log.debug("Executing SFTP polling cycle");
-                AdapterOperationResult result = pollForFiles();
-
-                // If we have a callback and found files, notify
-                if(dataCallback != null && result.isSuccess() && result.getData() != null) {
-                    List<Map<String, Object>> files = (List<Map<String, Object>>) result.getData();
-                    if(!files.isEmpty()) {
-                        log.info("SFTP polling found {} files", files.size());
-                        dataCallback.onDataReceived(files, result);
-                    }
-                }
-            } catch(Exception e) {
-                log.error("Error during SFTP polling", e);
-                if(dataCallback != null) {
-                    AdapterOperationResult errorResult = AdapterOperationResult.failure(
-                        "Polling error: " + e.getMessage()
-                   );
-                    dataCallback.onDataReceived(null, errorResult);
-                }
-            }
+            runPollingCycle(intervalMillis, this::executePollingCycle);
         }, 0, intervalMillis, TimeUnit.MILLISECONDS);
 
         log.info("SFTP polling started successfully");
     }
 
+    /**
+     * Single SFTP polling cycle, runs only on the node owning this poller
+     */
+    private void executePollingCycle() {
+        AdapterOperationResult result = null;
+        try {
+            log.debug("Executing SFTP polling cycle");
+            result = pollForFiles();
+
+            // If we have a callback and found files, notify
+            if(dataCallback != null && result.isSuccess() && result.getData() != null) {
+                List<Map<String, Object>> files = (List<Map<String, Object>>) result.getData();
+                if(!files.isEmpty()) {
+                    log.info("SFTP polling found {} files", files.size());
+                    dataCallback.onDataReceived(files, result);
+                }
+            }
+        } catch(Exception e) {
+            log.error("Error during SFTP polling", e);
+            if(dataCallback != null) {
+                AdapterOperationResult errorResult = AdapterOperationResult.failure(
+                    "Polling error: " + e.getMessage()
+               );
+                dataCallback.onDataReceived(null, errorResult);
+            }
+        } finally {
+            // Spooled content is only valid for the duration of the callback
+            if(result != null) {
+                SpooledContent.release(result.getData());
+            }
+        }
+    }
+
     public void stopPolling() {
         if(polling.compareAndSet(true, false)) {
             log.info("Stopping SFTP polling");
@@ -5,6 +5,8 @@ import com.integrixs.shared.exceptions.AdapterException;
 import com.integrixs.adapters.domain.model.*;
 import com.integrixs.adapters.domain.port.OutboundAdapterPort;
 import com.integrixs.adapters.config.SftpOutboundAdapterConfig;
+import com.integrixs.adapters.infrastructure.connection.RemoteSessionPool;
+import com.integrixs.adapters.infrastructure.connection.SftpChannelFactory;
 
 import com.jcraft.jsch.*;
 import java.io.*;
@@ -20,12 +22,15 @@ import java.util.stream.Collectors;
  * SFTP Receiver Adapter implementation for SFTP file upload and transfer(OUTBOUND).
  * Follows middleware convention: Outbound = sends data TO external systems.
  * Supports SFTP connections, file uploads, batching, and SSH authentication.
+ * With connection pooling enabled, channels are borrowed from the shared {@link RemoteSessionPool}.
  */
 public class SftpOutboundAdapter extends AbstractAdapter implements OutboundAdapterPort {
 
     private final SftpOutboundAdapterConfig config;
     private Session sshSession;
     private ChannelSftp sftpChannel;
+    private final SftpChannelFactory channelFactory = new SftpChannelFactory(this::createSession);
+    private String poolKey;
     private final AtomicInteger batchCounter = new AtomicInteger(0);
     private final List<Object> batchBuffer = new ArrayList<>();
     private long lastBatchFlush = System.currentTimeMillis();
@@ -332,26 +337,14 @@ public class SftpOutboundAdapter extends AbstractAdapter implements OutboundAdap
     }
 
     private AdapterOperationResult uploadContentToSftp(String fileName, byte[] content, boolean isBatch, int itemCount) throws Exception {
-        Session session = null;
         ChannelSftp channel = null;
+        boolean broken = false;
         String uploadPath = null;
+        long started = System.nanoTime();
 
         try {
             // Get or create connection
-            if("permanently".equals(config.getConnectionMode())) {
-                session = sshSession;
-                channel = sftpChannel;
-                if(session == null || !session.isConnected() || channel == null || !channel.isConnected()) {
-                    connectToSftp();
-                    session = sshSession;
-                    channel = sftpChannel;
-                }
-            } else {
-                session = createSession();
-                session.connect();
-                channel = (ChannelSftp) session.openChannel("sftp");
-                channel.connect();
-            }
+            channel = acquireChannel();
 
             // Change to target directory
             try {
@@ -410,6 +403,9 @@ public class SftpOutboundAdapter extends AbstractAdapter implements OutboundAdap
                 validateUpload(channel, fileName, content.length);
             }
 
+            if(config.isEnableConnectionPooling()) {
+                RemoteSessionPool.sftp().recordTransfer(poolKey(), bytesUploaded, System.nanoTime() - started);
+            }
             log.info("SFTP outbound adapter uploaded {} bytes to file: {}", bytesUploaded, uploadPath);
 
             String message = isBatch ?
@@ -421,18 +417,57 @@ public class SftpOutboundAdapter extends AbstractAdapter implements OutboundAdap
 
             return result;
 
+        } catch(JSchException e) {
+            broken = true;
+            throw e;
         } finally {
-            if("per - file - transfer".equals(config.getConnectionMode())) {
-                if(channel != null && channel.isConnected()) {
-                    channel.disconnect();
-                }
-                if(session != null && session.isConnected()) {
-                    session.disconnect();
-                }
+            releaseChannel(channel, broken);
+        }
+    }
+
+    private ChannelSftp acquireChannel() throws Exception {
+        if(config.isEnableConnectionPooling()) {
+            return RemoteSessionPool.sftp().borrow(poolKey(), channelFactory, config.getMaxConcurrentConnections(),
+                    config.getConnectionIdleTime(), config.getConnectionTimeout());
+        }
+        if("permanently".equals(config.getConnectionMode())) {
+            if(sshSession == null || !sshSession.isConnected() || sftpChannel == null || !sftpChannel.isConnected()) {
+                connectToSftp();
             }
+            return sftpChannel;
+        }
+        return channelFactory.create();
+    }
+
+    private void releaseChannel(ChannelSftp channel, boolean broken) {
+        if(channel == null) {
+            return;
+        }
+        if(config.isEnableConnectionPooling()) {
+            RemoteSessionPool.sftp().release(poolKey(), channel, broken);
+        } else if(!"permanently".equals(config.getConnectionMode())) {
+            channelFactory.destroy(channel);
         }
     }
 
+    private synchronized String poolKey() {
+        if(poolKey == null) {
+            String secret = config.getPassword() + "|" + config.getPrivateKey() + "|" + config.getPassphrase();
+            poolKey = RemoteSessionPool.key(config.getServerAddress(), config.getPort(), config.getUserName(), secret,
+                    config.getAuthenticationType(), config.getPreferredAuthentications(), config.getKnownHostsFile(),
+                    config.getHostKeyVerification(), config.getSshCompression(), config.getMaxConcurrentConnections(), config.getConnectionIdleTime());
+        }
+        return poolKey;
+    }
+
+    /**
+     * Pool and per - host throughput metrics of the shared SFTP session pool
+     * @return Metrics per host
+     */
+    public Map<String, Object> getTransferMetrics() {
+        return RemoteSessionPool.sftp().getMetrics();
+    }
+
     private byte[] convertToBytes(Object payload) throws Exception {
         if(payload == null) {
             return handleEmptyMessage();
@@ -12,7 +12,6 @@ import javax.xml.namespace.QName;
 import jakarta.xml.soap.*;
 import javax.xml.transform.Source;
 import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMResult;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamSource;
@@ -23,6 +22,7 @@ import java.io.StringReader;
 import java.net.URL;
 import java.util.*;
 import com.integrixs.adapters.domain.model.*;
+import com.integrixs.shared.util.XmlToolkit;
 /**
  * SOAP Receiver Adapter implementation for SOAP service calls(OUTBOUND).
  * Follows middleware convention: Outbound = sends data TO external systems.
@@ -192,8 +192,7 @@ public class SoapOutboundAdapter extends AbstractAdapter implements OutboundAdap
             // Parse XML string to SOAP body
             String xmlPayload = (String) payload;
             Source xmlSource = new StreamSource(new StringReader(xmlPayload));
-            TransformerFactory transformerFactory = TransformerFactory.newInstance();
-            Transformer transformer = transformerFactory.newTransformer();
+            Transformer transformer = XmlToolkit.transformer();
             DOMResult result = new DOMResult(soapBody);
             transformer.transform(xmlSource, result);
         } else if(payload instanceof Map) {
@@ -0,0 +1,119 @@
+package com.integrixs.adapters.infrastructure.connection;
+
+import com.integrixs.shared.exceptions.AdapterException;
+import org.apache.commons.net.ftp.FTP;
+import org.apache.commons.net.ftp.FTPClient;
+import org.apache.commons.net.ftp.FTPReply;
+import org.apache.commons.net.ftp.FTPSClient;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Session factory for plain FTP and explicit / implicit FTPS clients
+ */
+public class FtpClientFactory implements RemoteSessionPool.SessionFactory<FTPClient> {
+
+    private final String host;
+    private final int port;
+    private final String userName;
+    private final String password;
+    private final int timeoutMs;
+    private final String connectionSecurity;
+    private final boolean passiveMode;
+    private final Map<FTPClient, String> homeDirectories = new ConcurrentHashMap<>();
+
+    public FtpClientFactory(String host, int port, String userName, String password, int timeoutMs,
+                            String connectionSecurity, boolean passiveMode) {
+        this.host = host;
+        this.port = port;
+        this.userName = userName;
+        this.password = password;
+        this.timeoutMs = timeoutMs;
+        this.connectionSecurity = connectionSecurity;
+        this.passiveMode = passiveMode;
+    }
+
+    @Override
+    public FTPClient create() throws Exception {
+        FTPClient client = isFtps() ? new FTPSClient(isImplicitFtps()) : new FTPClient();
+        client.setConnectTimeout(timeoutMs);
+        client.setDataTimeout(timeoutMs);
+        client.setDefaultTimeout(timeoutMs);
+
+        client.connect(host, port);
+        if(!FTPReply.isPositiveCompletion(client.getReplyCode())) {
+            client.disconnect();
+            throw new AdapterException("FTP server refused connection: " + client.getReplyString());
+        }
+
+        if(!client.login(userName, password)) {
+            client.disconnect();
+            throw new AdapterException("FTP login failed: " + client.getReplyString());
+        }
+
+        if(client instanceof FTPSClient) {
+            // Protect the data channel as well as the control channel
+            ((FTPSClient) client).execPBSZ(0);
+            ((FTPSClient) client).execPROT("P");
+        }
+
+        if(passiveMode) {
+            client.enterLocalPassiveMode();
+        } else {
+            client.enterLocalActiveMode();
+        }
+        client.setFileType(FTP.BINARY_FILE_TYPE);
+        String home = client.printWorkingDirectory();
+        if(home != null) {
+            homeDirectories.put(client, home);
+        }
+        return client;
+    }
+
+    @Override
+    public boolean isValid(FTPClient client) {
+        try {
+            return client.isConnected() && client.sendNoOp();
+        } catch(IOException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public boolean reset(FTPClient client) {
+        // The next borrower must not inherit the working directory of the previous one
+        String home = homeDirectories.get(client);
+        try {
+            return home != null && client.changeWorkingDirectory(home);
+        } catch(IOException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void destroy(FTPClient client) {
+        homeDirectories.remove(client);
+        if(client.isConnected()) {
+            try {
+                client.logout();
+            } catch(IOException ignored) {
+                // Server may already have closed the connection
+            }
+            try {
+                client.disconnect();
+            } catch(IOException ignored) {
+                // Nothing left to release
+            }
+        }
+    }
+
+    private boolean isFtps() {
+        return connectionSecurity != null && connectionSecurity.toLowerCase().contains("ftps");
+    }
+
+    private boolean isImplicitFtps() {
+        return connectionSecurity != null && connectionSecurity.toLowerCase().contains("implicit");
+    }
+}
@@ -0,0 +1,193 @@
+package com.integrixs.adapters.infrastructure.connection;
+
+import jakarta.jms.Connection;
+import jakarta.jms.JMSException;
+import jakarta.jms.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pool of JMS sessions on one connection, each with its consumer or producer.
+ * JMS sessions are single threaded and with IBM MQ every session holds its own queue manager connection, so an
+ * adapter borrows a session per receive or send unit of work instead of opening one per message or sharing one
+ * across threads. Sessions that failed are destroyed instead of returned.
+ *
+ * @param <E> Session endpoint, a MessageConsumer or MessageProducer
+ */
+public final class JmsSessionPool<E extends AutoCloseable> implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(JmsSessionPool.class);
+
+    /**
+     * Creates the consumer or producer of a new session
+     */
+    public interface EndpointFactory<E> {
+        E create(Session session) throws JMSException;
+    }
+
+    /**
+     * Borrowed session and its endpoint
+     */
+    public static final class PooledSession<E> {
+        private final Session session;
+        private final E endpoint;
+
+        PooledSession(Session session, E endpoint) {
+            this.session = session;
+            this.endpoint = endpoint;
+        }
+
+        public Session getSession() {
+            return session;
+        }
+
+        public E getEndpoint() {
+            return endpoint;
+        }
+    }
+
+    private final Connection connection;
+    private final boolean transacted;
+    private final int acknowledgeMode;
+    private final int maxSessions;
+    private final EndpointFactory<E> endpointFactory;
+    private final Semaphore permits;
+    private final Deque<PooledSession<E>> idle = new ArrayDeque<>();
+    private final AtomicInteger active = new AtomicInteger();
+    private final LongAdder created = new LongAdder();
+    private final LongAdder destroyed = new LongAdder();
+    private final LongAdder borrowed = new LongAdder();
+    private volatile boolean closed;
+
+    public JmsSessionPool(Connection connection, boolean transacted, int acknowledgeMode, int maxSessions,
+                          EndpointFactory<E> endpointFactory) {
+        this.connection = connection;
+        this.transacted = transacted;
+        this.acknowledgeMode = transacted ? Session.SESSION_TRANSACTED : acknowledgeMode;
+        this.maxSessions = Math.max(1, maxSessions);
+        this.endpointFactory = endpointFactory;
+        this.permits = new Semaphore(this.maxSessions, true);
+    }
+
+    /**
+     * Borrow a session, creating one when below the limit
+     * @param timeoutMs Maximum time to wait for a free session
+     * @return Session that must be returned with {@link #release}
+     */
+    public PooledSession<E> borrow(long timeoutMs) throws JMSException, InterruptedException {
+        if(closed) {
+            throw new IllegalStateException("JMS session pool is closed");
+        }
+        if(!permits.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS)) {
+            throw new IllegalStateException("Timed out waiting for a JMS session");
+        }
+        try {
+            PooledSession<E> pooled;
+            synchronized(idle) {
+                pooled = idle.pollLast();
+            }
+            if(pooled == null) {
+                Session session = connection.createSession(transacted, acknowledgeMode);
+                try {
+                    pooled = new PooledSession<>(session, endpointFactory.create(session));
+                } catch(JMSException | RuntimeException e) {
+                    closeQuietly(session);
+                    throw e;
+                }
+                created.increment();
+            }
+            borrowed.increment();
+            active.incrementAndGet();
+            return pooled;
+        } catch(JMSException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Return a session to the pool
+     * @param pooled Borrowed session
+     * @param broken Destroy the session instead of pooling it
+     */
+    public void release(PooledSession<E> pooled, boolean broken) {
+        if(pooled == null) {
+            return;
+        }
+        active.decrementAndGet();
+        try {
+            if(broken || closed) {
+                destroy(pooled);
+            } else {
+                synchronized(idle) {
+                    idle.addLast(pooled);
+                }
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    public boolean isTransacted() {
+        return transacted;
+    }
+
+    public int getMaxSessions() {
+        return maxSessions;
+    }
+
+    /**
+     * Pool usage metrics
+     */
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new HashMap<>();
+        synchronized(idle) {
+            metrics.put("idle", idle.size());
+        }
+        metrics.put("active", active.get());
+        metrics.put("maxSessions", maxSessions);
+        metrics.put("transacted", transacted);
+        metrics.put("created", created.sum());
+        metrics.put("destroyed", destroyed.sum());
+        metrics.put("borrowed", borrowed.sum());
+        return metrics;
+    }
+
+    /**
+     * Close all idle sessions; sessions still borrowed are closed when they are released
+     */
+    @Override
+    public void close() {
+        closed = true;
+        synchronized(idle) {
+            idle.forEach(this::destroy);
+            idle.clear();
+        }
+    }
+
+    private void destroy(PooledSession<E> pooled) {
+        destroyed.increment();
+        try {
+            pooled.endpoint.close();
+        } catch(Exception e) {
+            log.debug("Error closing pooled JMS endpoint: {}", e.getMessage());
+        }
+        closeQuietly(pooled.session);
+    }
+
+    private static void closeQuietly(Session session) {
+        try {
+            session.close();
+        } catch(Exception e) {
+            log.debug("Error closing pooled JMS session: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,320 @@
+package com.integrixs.adapters.infrastructure.connection;
+
+import com.jcraft.jsch.ChannelSftp;
+import org.apache.commons.net.ftp.FTPClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keyed pool of remote file transfer sessions(FTP / FTPS clients, SFTP channels).
+ * Sessions are keyed by host, credentials and session settings and shared by every adapter connecting to the same
+ * endpoint with the same configuration. Sessions are reset to their login directory when returned.
+ * Each host is limited to a maximum number of sessions, sessions are validated on borrow and idle sessions
+ * are evicted in the background. Per - host pool usage and transfer throughput are tracked.
+ *
+ * @param <S> Session type
+ */
+public final class RemoteSessionPool<S> {
+    private static final Logger log = LoggerFactory.getLogger(RemoteSessionPool.class);
+
+    private static final RemoteSessionPool<FTPClient> FTP = new RemoteSessionPool<>("ftp");
+    private static final RemoteSessionPool<ChannelSftp> SFTP = new RemoteSessionPool<>("sftp");
+
+    private static final ScheduledExecutorService EVICTOR = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "remote - session - evictor");
+        t.setDaemon(true);
+        return t;
+    });
+
+    static {
+        EVICTOR.scheduleWithFixedDelay(() -> {
+            FTP.evictIdle();
+            SFTP.evictIdle();
+        }, 30, 30, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Creates, validates and destroys sessions for one host
+     */
+    public interface SessionFactory<S> {
+        S create() throws Exception;
+
+        boolean isValid(S session);
+
+        /**
+         * Undo per - borrower session state before the session is pooled again
+         * @return false if the session cannot be reused
+         */
+        default boolean reset(S session) {
+            return true;
+        }
+
+        void destroy(S session);
+    }
+
+    private final String protocol;
+    private final Map<String, HostPool<S>> hosts = new ConcurrentHashMap<>();
+
+    private RemoteSessionPool(String protocol) {
+        this.protocol = protocol;
+    }
+
+    public static RemoteSessionPool<FTPClient> ftp() {
+        return FTP;
+    }
+
+    public static RemoteSessionPool<ChannelSftp> sftp() {
+        return SFTP;
+    }
+
+    /**
+     * Build a pool key from host, credentials and session settings without keeping the secret in memory.
+     * Adapters only share sessions when every setting that affects how a session is created or limited matches.
+     * @param settings Session settings, e.g. security mode, authentication options, session limit
+     */
+    public static String key(String host, Object port, String user, String secret, Object... settings) {
+        return user + "@" + host + ":" + port + "/" + digest(Arrays.toString(settings), 8)
+                + "#" + digest(String.valueOf(secret), 16);
+    }
+
+    private static String digest(String value, int length) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8))).substring(0, length);
+        } catch(Exception e) {
+            throw new IllegalStateException("Unable to build session pool key", e);
+        }
+    }
+
+    /**
+     * Borrow a session, creating one when below the host limit
+     * @param key Pool key(see {@link #key})
+     * @param factory Session factory for the host
+     * @param maxSessions Maximum sessions for the host
+     * @param idleTimeoutMs Idle time after which a session is evicted
+     * @param borrowTimeoutMs Maximum time to wait for a free session
+     * @return Session that must be returned with {@link #release}
+     */
+    public S borrow(String key, SessionFactory<S> factory, int maxSessions, long idleTimeoutMs, long borrowTimeoutMs) throws Exception {
+        HostPool<S> host = hosts.computeIfAbsent(key, k -> new HostPool<>(factory, maxSessions, idleTimeoutMs));
+        if(host.maxSessions != Math.max(1, maxSessions) || host.idleTimeoutMs != idleTimeoutMs) {
+            // The session limit must be part of the key, otherwise the first adapter's limit would silently win
+            throw new IllegalStateException("Session pool " + protocol + "://" + label(key) + " already exists with "
+                    + host.maxSessions + " sessions and " + host.idleTimeoutMs + " ms idle timeout");
+        }
+        long waitStarted = System.nanoTime();
+        if(!host.permits.tryAcquire(borrowTimeoutMs, TimeUnit.MILLISECONDS)) {
+            host.timeouts.increment();
+            throw new IllegalStateException("Timed out waiting for " + protocol + " session to " + key);
+        }
+        host.waitNanos.add(System.nanoTime() - waitStarted);
+
+        try {
+            IdleSession<S> idle;
+            while((idle = host.pollIdle()) != null) {
+                if(host.factory.isValid(idle.session)) {
+                    host.borrowed.increment();
+                    host.active.incrementAndGet();
+                    return idle.session;
+                }
+                host.destroy(idle.session);
+            }
+            S session = host.factory.create();
+            host.created.increment();
+            host.borrowed.increment();
+            host.active.incrementAndGet();
+            return session;
+        } catch(Exception e) {
+            host.permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Return a session to the pool
+     * @param key Pool key
+     * @param session Borrowed session
+     * @param broken Destroy the session instead of pooling it
+     */
+    public void release(String key, S session, boolean broken) {
+        HostPool<S> host = hosts.get(key);
+        if(host == null || session == null) {
+            return;
+        }
+        host.active.decrementAndGet();
+        try {
+            if(broken || !resetSession(host, session)) {
+                host.destroy(session);
+            } else {
+                host.offerIdle(session);
+            }
+        } finally {
+            host.permits.release();
+        }
+    }
+
+    private boolean resetSession(HostPool<S> host, S session) {
+        try {
+            return host.factory.reset(session);
+        } catch(Exception e) {
+            log.debug("Failed to reset pooled {} session: {}", protocol, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Record a completed transfer for per - host throughput metrics
+     */
+    public void recordTransfer(String key, long bytes, long elapsedNanos) {
+        HostPool<S> host = hosts.get(key);
+        if(host != null) {
+            host.transfers.increment();
+            host.bytes.add(bytes);
+            host.transferNanos.add(elapsedNanos);
+        }
+    }
+
+    /**
+     * Pool and throughput metrics per host
+     */
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        hosts.forEach((key, host) -> {
+            Map<String, Object> hostMetrics = new HashMap<>();
+            long transferNanos = host.transferNanos.sum();
+            long bytes = host.bytes.sum();
+            long borrowed = host.borrowed.sum();
+            hostMetrics.put("active", host.active.get());
+            hostMetrics.put("idle", host.idleCount());
+            hostMetrics.put("maxSessions", host.maxSessions);
+            hostMetrics.put("created", host.created.sum());
+            hostMetrics.put("destroyed", host.destroyed.sum());
+            hostMetrics.put("borrowed", borrowed);
+            hostMetrics.put("borrowTimeouts", host.timeouts.sum());
+            hostMetrics.put("avgBorrowWaitMs", borrowed > 0 ? host.waitNanos.sum() / borrowed / 1_000_000.0 : 0.0);
+            hostMetrics.put("transfers", host.transfers.sum());
+            hostMetrics.put("bytesTransferred", bytes);
+            hostMetrics.put("throughputBytesPerSec", transferNanos > 0 ? bytes * 1_000_000_000.0 / transferNanos : 0.0);
+            metrics.put(protocol + "://" + label(key), hostMetrics);
+        });
+        return metrics;
+    }
+
+    /**
+     * Destroy every idle session of a host, e.g. when its configuration changed
+     */
+    public void invalidate(String key) {
+        HostPool<S> host = hosts.get(key);
+        if(host != null) {
+            IdleSession<S> idle;
+            while((idle = host.pollIdle()) != null) {
+                host.destroy(idle.session);
+            }
+        }
+    }
+
+    private void evictIdle() {
+        long now = System.currentTimeMillis();
+        hosts.forEach((key, host) -> {
+            int evicted = host.evictOlderThan(now - host.idleTimeoutMs);
+            if(evicted > 0) {
+                log.debug("Evicted {} idle {} sessions for {}", evicted, protocol, label(key));
+            }
+        });
+    }
+
+    private static String label(String key) {
+        // Never expose the credential digest part of the key
+        return key.substring(0, key.indexOf('#'));
+    }
+
+    private static final class IdleSession<S> {
+        private final S session;
+        private final long idleSince;
+
+        IdleSession(S session, long idleSince) {
+            this.session = session;
+            this.idleSince = idleSince;
+        }
+    }
+
+    private static final class HostPool<S> {
+        private final SessionFactory<S> factory;
+        private final int maxSessions;
+        private final long idleTimeoutMs;
+        private final Semaphore permits;
+        private final Deque<IdleSession<S>> idle = new ArrayDeque<>();
+        private final AtomicInteger active = new AtomicInteger();
+        private final LongAdder created = new LongAdder();
+        private final LongAdder destroyed = new LongAdder();
+        private final LongAdder borrowed = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+        private final LongAdder waitNanos = new LongAdder();
+        private final LongAdder transfers = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+        private final LongAdder transferNanos = new LongAdder();
+
+        HostPool(SessionFactory<S> factory, int maxSessions, long idleTimeoutMs) {
+            this.factory = factory;
+            this.maxSessions = Math.max(1, maxSessions);
+            this.idleTimeoutMs = idleTimeoutMs;
+            this.permits = new Semaphore(this.maxSessions, true);
+        }
+
+        synchronized IdleSession<S> pollIdle() {
+            // Most recently used first keeps the remaining sessions eligible for eviction
+            return idle.pollLast();
+        }
+
+        synchronized void offerIdle(S session) {
+            idle.addLast(new IdleSession<>(session, System.currentTimeMillis()));
+        }
+
+        synchronized int idleCount() {
+            return idle.size();
+        }
+
+        int evictOlderThan(long threshold) {
+            Deque<S> expired = new ArrayDeque<>();
+            synchronized(this) {
+                Iterator<IdleSession<S>> iterator = idle.iterator();
+                while(iterator.hasNext()) {
+                    IdleSession<S> candidate = iterator.next();
+                    if(candidate.idleSince < threshold) {
+                        iterator.remove();
+                        expired.add(candidate.session);
+                    }
+                }
+            }
+            expired.forEach(this::destroy);
+            return expired.size();
+        }
+
+        void destroy(S session) {
+            destroyed.increment();
+            try {
+                factory.destroy(session);
+            } catch(Exception e) {
+                log.debug("Error destroying pooled session: {}", e.getMessage());
+            }
+        }
+    }
+}
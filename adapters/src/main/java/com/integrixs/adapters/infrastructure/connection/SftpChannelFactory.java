@@ -0,0 +1,71 @@
+package com.integrixs.adapters.infrastructure.connection;
+
+import com.jcraft.jsch.ChannelSftp;
+import com.jcraft.jsch.Session;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Session factory for SFTP channels. Every pooled channel owns its SSH session, so closing the channel
+ * releases the session as well.
+ */
+public class SftpChannelFactory implements RemoteSessionPool.SessionFactory<ChannelSftp> {
+
+    private final Callable<Session> sessionSupplier;
+
+    /**
+     * @param sessionSupplier Creates a configured, not yet connected SSH session
+     */
+    public SftpChannelFactory(Callable<Session> sessionSupplier) {
+        this.sessionSupplier = sessionSupplier;
+    }
+
+    @Override
+    public ChannelSftp create() throws Exception {
+        Session session = sessionSupplier.call();
+        session.connect();
+        try {
+            ChannelSftp channel = (ChannelSftp) session.openChannel("sftp");
+            channel.connect();
+            return channel;
+        } catch(Exception e) {
+            session.disconnect();
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean isValid(ChannelSftp channel) {
+        try {
+            if(!channel.isConnected() || !channel.getSession().isConnected()) {
+                return false;
+            }
+            channel.pwd();
+            return true;
+        } catch(Exception e) {
+            return false;
+        }
+    }
+
+    @Override
+    public boolean reset(ChannelSftp channel) {
+        // The next borrower must not inherit the working directory of the previous one
+        try {
+            channel.cd(channel.getHome());
+            return true;
+        } catch(Exception e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void destroy(ChannelSftp channel) {
+        try {
+            Session session = channel.getSession();
+            channel.disconnect();
+            session.disconnect();
+        } catch(Exception e) {
+            channel.disconnect();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.integrixs.adapters.infrastructure.connection;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Access to inbound file records whose content is passed on by path instead of in memory.
+ * Such a record carries {@code contentPath} instead of {@code content}. When {@code spooled} is set the file is
+ * a local spool copy(see {@link TransferSpool}) owned by whoever receives the record, and it must be released
+ * once the content has been handed on.
+ */
+public final class SpooledContent {
+
+    private static final Logger log = LoggerFactory.getLogger(SpooledContent.class);
+
+    public static final String CONTENT = "content";
+    public static final String CONTENT_PATH = "contentPath";
+    public static final String SPOOLED = "spooled";
+
+    private SpooledContent() {
+    }
+
+    /**
+     * Check whether the content of a record is passed on by path
+     */
+    public static boolean isSpooled(Map<?, ?> record) {
+        return record != null && record.get(CONTENT_PATH) != null;
+    }
+
+    /**
+     * File holding the content of a record, or null if the content is inline
+     */
+    public static Path spoolFile(Map<?, ?> record) {
+        return isSpooled(record) ? Paths.get(record.get(CONTENT_PATH).toString()) : null;
+    }
+
+    /**
+     * Open the content of a record, inline or spooled
+     */
+    public static InputStream open(Map<?, ?> record) throws IOException {
+        if(isSpooled(record)) {
+            return Files.newInputStream(spoolFile(record));
+        }
+        Object content = record.get(CONTENT);
+        if(content instanceof byte[]) {
+            return new ByteArrayInputStream((byte[]) content);
+        }
+        return new ByteArrayInputStream(content != null ? content.toString().getBytes(StandardCharsets.UTF_8) : new byte[0]);
+    }
+
+    /**
+     * Read the content of a record into memory
+     */
+    public static byte[] readContent(Map<?, ?> record) throws IOException {
+        try(InputStream in = open(record)) {
+            return in.readAllBytes();
+        }
+    }
+
+    /**
+     * Replace records passed on by path in the fetched data(a record or a list of records) by in - memory copies
+     * and delete their spool files. Data without such records is returned unchanged.
+     */
+    public static Object inline(Object data) {
+        if(data instanceof Map && isSpooled((Map<?, ?>) data)) {
+            return inlineRecord((Map<?, ?>) data);
+        }
+        if(data instanceof List && ((List<?>) data).stream().anyMatch(item -> item instanceof Map && isSpooled((Map<?, ?>) item))) {
+            List<Object> inlined = new ArrayList<>(((List<?>) data).size());
+            for(Object item : (List<?>) data) {
+                inlined.add(item instanceof Map && isSpooled((Map<?, ?>) item) ? inlineRecord((Map<?, ?>) item) : item);
+            }
+            return inlined;
+        }
+        return data;
+    }
+
+    /**
+     * Delete the spool files referenced by the fetched data(a record or a list of records).
+     * Files that are merely referenced by path, e.g. a source file left in place, are not touched.
+     */
+    public static void release(Object data) {
+        if(data instanceof Map) {
+            releaseRecord((Map<?, ?>) data);
+        } else if(data instanceof List) {
+            for(Object item : (List<?>) data) {
+                if(item instanceof Map) {
+                    releaseRecord((Map<?, ?>) item);
+                }
+            }
+        }
+    }
+
+    private static Map<String, Object> inlineRecord(Map<?, ?> record) {
+        Map<String, Object> inlined = new HashMap<>();
+        record.forEach((key, value) -> inlined.put(String.valueOf(key), value));
+        try {
+            inlined.put(CONTENT, readContent(record));
+        } catch(IOException e) {
+            throw new UncheckedIOException("Failed to read spooled content " + record.get(CONTENT_PATH), e);
+        } finally {
+            releaseRecord(record);
+        }
+        inlined.remove(CONTENT_PATH);
+        inlined.remove(SPOOLED);
+        return inlined;
+    }
+
+    private static void releaseRecord(Map<?, ?> record) {
+        Path spoolFile = spoolFile(record);
+        if(spoolFile == null || !Boolean.TRUE.equals(record.get(SPOOLED))) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(spoolFile);
+        } catch(IOException e) {
+            log.warn("Failed to delete spool file {}: {}", spoolFile, e.getMessage());
+        }
+    }
+}
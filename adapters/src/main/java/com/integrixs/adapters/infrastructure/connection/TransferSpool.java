@@ -0,0 +1,154 @@
+package com.integrixs.adapters.infrastructure.connection;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+/**
+ * Streams remote file downloads either into memory(small files) or into a spool file on local disk(large files),
+ * computing the checksum on the fly so the content is never held twice.
+ */
+public final class TransferSpool {
+
+    private static final long MAX_INITIAL_BUFFER = 64 * 1024;
+
+    private TransferSpool() {
+    }
+
+    /**
+     * Writes the remote content to the given stream
+     */
+    @FunctionalInterface
+    public interface Transfer {
+        void writeTo(OutputStream out) throws Exception;
+    }
+
+    /**
+     * Result of a download: either in - memory content or a spool file
+     */
+    public static final class Download {
+        private final byte[] content;
+        private final Path spoolFile;
+        private final long bytes;
+        private final String checksum;
+
+        private Download(byte[] content, Path spoolFile, long bytes, String checksum) {
+            this.content = content;
+            this.spoolFile = spoolFile;
+            this.bytes = bytes;
+            this.checksum = checksum;
+        }
+
+        public byte[] getContent() {
+            return content;
+        }
+
+        public Path getSpoolFile() {
+            return spoolFile;
+        }
+
+        public boolean isSpooled() {
+            return spoolFile != null;
+        }
+
+        public long getBytes() {
+            return bytes;
+        }
+
+        public String getChecksum() {
+            return checksum;
+        }
+    }
+
+    /**
+     * Download a file
+     * @param transfer Remote transfer
+     * @param expectedSize Size reported by the server listing
+     * @param streamingThreshold Files larger than this are spooled to disk
+     * @param spoolDirectory Spool directory, defaults to the system temp directory
+     * @param fileName Remote file name(used as spool file prefix)
+     * @param checksumAlgorithm Checksum algorithm or null
+     * @return Download result
+     */
+    public static Download download(Transfer transfer, long expectedSize, long streamingThreshold, String spoolDirectory,
+                                    String fileName, String checksumAlgorithm) throws Exception {
+        MessageDigest digest = checksumAlgorithm != null ? MessageDigest.getInstance(checksumAlgorithm) : null;
+
+        if(expectedSize > streamingThreshold) {
+            Path directory = spoolDirectory != null && !spoolDirectory.isBlank()
+                    ? Paths.get(spoolDirectory)
+                    : Paths.get(System.getProperty("java.io.tmpdir"), "integrix - spool");
+            Files.createDirectories(directory);
+            Path spoolFile = Files.createTempFile(directory, sanitize(fileName) + "-", ".spool");
+            try(CountingOutputStream out = new CountingOutputStream(
+                    wrap(new BufferedOutputStream(Files.newOutputStream(spoolFile), 64 * 1024), digest))) {
+                transfer.writeTo(out);
+                out.flush();
+                return new Download(null, spoolFile, out.count, checksum(digest));
+            } catch(Exception e) {
+                Files.deleteIfExists(spoolFile);
+                throw e;
+            }
+        }
+
+        // The reported size only sizes the initial buffer up to a cap, servers may report sizes that are wrong or
+        // beyond an int
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream((int) Math.max(32, Math.min(expectedSize, MAX_INITIAL_BUFFER)));
+        try(OutputStream out = wrap(buffer, digest)) {
+            transfer.writeTo(out);
+        }
+        byte[] content = buffer.toByteArray();
+        return new Download(content, null, content.length, checksum(digest));
+    }
+
+    private static OutputStream wrap(OutputStream out, MessageDigest digest) {
+        return digest != null ? new DigestOutputStream(out, digest) : out;
+    }
+
+    private static String checksum(MessageDigest digest) {
+        return digest != null ? HexFormat.of().formatHex(digest.digest()) : null;
+    }
+
+    private static String sanitize(String fileName) {
+        String sanitized = fileName.replaceAll("[^A-Za-z0-9._-]", "_");
+        return sanitized.length() > 64 ? sanitized.substring(0, 64) : sanitized;
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+        private final OutputStream delegate;
+        private long count;
+
+        CountingOutputStream(OutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            count += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+}
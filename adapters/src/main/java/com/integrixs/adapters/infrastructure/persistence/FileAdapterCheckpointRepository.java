@@ -0,0 +1,159 @@
+package com.integrixs.adapters.infrastructure.persistence;
+
+import com.integrixs.adapters.domain.repository.AdapterCheckpointRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * File based implementation of the adapter checkpoint repository.
+ * Each adapter gets one properties file which is replaced atomically(write to temp file, fsync, rename),
+ * so a crash never leaves a half written checkpoint behind.
+ * Adapters are plain objects that are frequently re - created, so instances are shared per directory.
+ */
+public class FileAdapterCheckpointRepository implements AdapterCheckpointRepository {
+    private static final Logger log = LoggerFactory.getLogger(FileAdapterCheckpointRepository.class);
+
+    public static final String DIRECTORY_PROPERTY = "integrix.checkpoint.directory";
+
+    private static final Map<Path, FileAdapterCheckpointRepository> INSTANCES = new ConcurrentHashMap<>();
+
+    private final Path directory;
+    private final Map<String, Object> locks = new ConcurrentHashMap<>();
+
+    private FileAdapterCheckpointRepository(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Get the repository for the default checkpoint directory
+     * @return Shared repository instance
+     */
+    public static FileAdapterCheckpointRepository getDefault() {
+        String configured = System.getProperty(DIRECTORY_PROPERTY);
+        Path directory = configured != null && !configured.isBlank()
+                ? Paths.get(configured)
+                : Paths.get(System.getProperty("user.home"), ".integrix", "checkpoints");
+        return forDirectory(directory);
+    }
+
+    /**
+     * Get the repository for a specific checkpoint directory
+     * @param directory Checkpoint directory
+     * @return Shared repository instance
+     */
+    public static FileAdapterCheckpointRepository forDirectory(Path directory) {
+        return INSTANCES.computeIfAbsent(directory.toAbsolutePath().normalize(), FileAdapterCheckpointRepository::new);
+    }
+
+    @Override
+    public Optional<String> load(String adapterKey, String name) {
+        return Optional.ofNullable(loadAll(adapterKey).get(name));
+    }
+
+    @Override
+    public Map<String, String> loadAll(String adapterKey) {
+        synchronized(lockFor(adapterKey)) {
+            Properties properties = read(adapterKey);
+            Map<String, String> values = new HashMap<>();
+            for(String name : properties.stringPropertyNames()) {
+                values.put(name, properties.getProperty(name));
+            }
+            return values;
+        }
+    }
+
+    @Override
+    public void save(String adapterKey, String name, String value) {
+        synchronized(lockFor(adapterKey)) {
+            Properties properties = read(adapterKey);
+            properties.setProperty(name, value);
+            write(adapterKey, properties);
+        }
+    }
+
+    @Override
+    public void delete(String adapterKey, String name) {
+        synchronized(lockFor(adapterKey)) {
+            Properties properties = read(adapterKey);
+            if(properties.remove(name) != null) {
+                write(adapterKey, properties);
+            }
+        }
+    }
+
+    @Override
+    public void deleteAll(String adapterKey) {
+        synchronized(lockFor(adapterKey)) {
+            try {
+                Files.deleteIfExists(fileFor(adapterKey));
+            } catch(IOException e) {
+                throw new UncheckedIOException("Failed to delete checkpoints for " + adapterKey, e);
+            }
+        }
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    private Object lockFor(String adapterKey) {
+        return locks.computeIfAbsent(adapterKey, k -> new Object());
+    }
+
+    private Path fileFor(String adapterKey) {
+        return directory.resolve(adapterKey.replaceAll("[^A-Za-z0-9._-]", "_") + ".properties");
+    }
+
+    private Properties read(String adapterKey) {
+        Properties properties = new Properties();
+        Path file = fileFor(adapterKey);
+        if(Files.exists(file)) {
+            try(InputStream in = Files.newInputStream(file)) {
+                properties.load(in);
+            } catch(IOException e) {
+                throw new UncheckedIOException("Failed to read checkpoints for " + adapterKey, e);
+            }
+        }
+        return properties;
+    }
+
+    private void write(String adapterKey, Properties properties) {
+        Path file = fileFor(adapterKey);
+        try {
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try(FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE);
+                OutputStream out = Channels.newOutputStream(channel)) {
+                properties.store(out, "Adapter checkpoints: " + adapterKey);
+                out.flush();
+                channel.force(true);
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch(AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            log.debug("Stored {} checkpoint values for {}", properties.size(), adapterKey);
+        } catch(IOException e) {
+            throw new UncheckedIOException("Failed to write checkpoints for " + adapterKey, e);
+        }
+    }
+}
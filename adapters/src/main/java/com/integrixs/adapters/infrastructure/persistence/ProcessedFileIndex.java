@@ -0,0 +1,265 @@
+package com.integrixs.adapters.infrastructure.persistence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded index of processed files keyed by a digest of path, size and modification time.
+ * A re - delivered file with the same name but different content(size or mtime) gets a new fingerprint and is
+ * processed again. Entries are kept in insertion order and the oldest entries are evicted beyond the
+ * configured maximum.
+ *
+ * Persistent indexes are backed by an append - only log that is compacted(temp file, fsync, rename) once it
+ * holds twice as many records as live entries. Appends are written straight to the file channel, so they
+ * survive a process crash. Adapters are frequently re - created, so persistent instances are shared per file.
+ */
+public class ProcessedFileIndex {
+    private static final Logger log = LoggerFactory.getLogger(ProcessedFileIndex.class);
+
+    private static final Map<Path, ProcessedFileIndex> INSTANCES = new ConcurrentHashMap<>();
+    private static final String NO_CHECKSUM = "-";
+
+    private final Path file;
+    private final int maxEntries;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+    private final Map<String, Integer> checksums = new HashMap<>();
+    private final Map<String, Integer> names = new HashMap<>();
+    private FileChannel journal;
+    private long records;
+
+    private ProcessedFileIndex(Path file, int maxEntries) {
+        this.file = file;
+        this.maxEntries = Math.max(1, maxEntries);
+    }
+
+    /**
+     * Open (or share) the persistent index stored in the given file
+     * @param file Index file
+     * @param maxEntries Maximum entries kept
+     * @return Shared index instance
+     */
+    public static ProcessedFileIndex open(Path file, int maxEntries) {
+        return INSTANCES.computeIfAbsent(file.toAbsolutePath().normalize(), path -> {
+            ProcessedFileIndex index = new ProcessedFileIndex(path, maxEntries);
+            index.load();
+            return index;
+        });
+    }
+
+    /**
+     * Create an index that only lives in memory
+     * @param maxEntries Maximum entries kept
+     * @return New index instance
+     */
+    public static ProcessedFileIndex inMemory(int maxEntries) {
+        return new ProcessedFileIndex(null, maxEntries);
+    }
+
+    /**
+     * Fingerprint of a file version
+     * @param path File path
+     * @param size File size in bytes
+     * @param lastModifiedMillis Last modification time
+     * @return Hex digest
+     */
+    public static String fingerprint(Path path, long size, long lastModifiedMillis) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest((path.toAbsolutePath() + "|" + size + "|" + lastModifiedMillis)
+                    .getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch(Exception e) {
+            throw new IllegalStateException("Unable to fingerprint file " + path, e);
+        }
+    }
+
+    public synchronized boolean contains(String fingerprint) {
+        return entries.containsKey(fingerprint);
+    }
+
+    public synchronized boolean containsChecksum(String checksum) {
+        return checksum != null && checksums.containsKey(checksum);
+    }
+
+    public synchronized boolean containsName(String fileName) {
+        return names.containsKey(fileName);
+    }
+
+    /**
+     * Record a processed file
+     * @param fingerprint File fingerprint
+     * @param fileName File name(without directory)
+     * @param checksum Content checksum or null
+     */
+    public synchronized void record(String fingerprint, String fileName, String checksum) {
+        // Tabs and line breaks would break the record format
+        Entry entry = new Entry(fileName.replaceAll("[\t\r\n]", "_"), checksum != null ? checksum : NO_CHECKSUM,
+                System.currentTimeMillis());
+        Entry previous = put(fingerprint, entry);
+        if(previous != null) {
+            return;
+        }
+        evictOverflow();
+
+        if(file != null) {
+            append(fingerprint, entry);
+            if(records > 2L * Math.max(entries.size(), 1000)) {
+                compact();
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Remove all entries, e.g. when incremental processing is reset
+     */
+    public synchronized void clear() {
+        entries.clear();
+        checksums.clear();
+        names.clear();
+        if(file != null) {
+            compact();
+        }
+    }
+
+    private Entry put(String fingerprint, Entry entry) {
+        Entry previous = entries.putIfAbsent(fingerprint, entry);
+        if(previous == null) {
+            checksums.merge(entry.checksum, 1, Integer::sum);
+            names.merge(entry.fileName, 1, Integer::sum);
+        }
+        return previous;
+    }
+
+    private void evictOverflow() {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while(entries.size() > maxEntries && iterator.hasNext()) {
+            Entry evicted = iterator.next();
+            iterator.remove();
+            decrement(checksums, evicted.checksum);
+            decrement(names, evicted.fileName);
+        }
+    }
+
+    private static void decrement(Map<String, Integer> counts, String key) {
+        counts.computeIfPresent(key, (k, count) -> count > 1 ? count - 1 : null);
+    }
+
+    private void load() {
+        if(Files.exists(file)) {
+            try(BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                String line;
+                while((line = reader.readLine()) != null) {
+                    String[] parts = line.split("\t", 4);
+                    if(parts.length == 4) {
+                        try {
+                            put(parts[0], new Entry(parts[1], parts[2], Long.parseLong(parts[3])));
+                            records++;
+                        } catch(NumberFormatException e) {
+                            // Torn last line after a crash
+                            log.debug("Skipping malformed processed - file index record in {}", file);
+                        }
+                    }
+                }
+            } catch(IOException e) {
+                throw new UncheckedIOException("Failed to read processed - file index " + file, e);
+            }
+            evictOverflow();
+            log.info("Loaded processed - file index {} with {} entries", file, entries.size());
+        }
+        compact();
+    }
+
+    private void append(String fingerprint, Entry entry) {
+        try {
+            if(!journal.isOpen()) {
+                // Closed by an interrupted writer, the file itself is intact
+                journal = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(format(fingerprint, entry).getBytes(StandardCharsets.UTF_8));
+            while(buffer.hasRemaining()) {
+                journal.write(buffer);
+            }
+            records++;
+        } catch(IOException e) {
+            throw new UncheckedIOException("Failed to append to processed - file index " + file, e);
+        }
+    }
+
+    private void compact() {
+        try {
+            if(journal != null) {
+                journal.close();
+            }
+            Files.createDirectories(file.getParent());
+            Path temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            try(FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                StringBuilder chunk = new StringBuilder();
+                for(Map.Entry<String, Entry> entry : entries.entrySet()) {
+                    chunk.append(format(entry.getKey(), entry.getValue()));
+                    if(chunk.length() > 64 * 1024) {
+                        write(channel, chunk);
+                    }
+                }
+                write(channel, chunk);
+                channel.force(true);
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch(AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            records = entries.size();
+            journal = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } catch(IOException e) {
+            throw new UncheckedIOException("Failed to compact processed - file index " + file, e);
+        }
+    }
+
+    private static void write(FileChannel channel, StringBuilder chunk) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(chunk.toString().getBytes(StandardCharsets.UTF_8));
+        while(buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        chunk.setLength(0);
+    }
+
+    private static String format(String fingerprint, Entry entry) {
+        return fingerprint + "\t" + entry.fileName + "\t" + entry.checksum
+                + "\t" + entry.processedAt + "\n";
+    }
+
+    private static final class Entry {
+        private final String fileName;
+        private final String checksum;
+        private final long processedAt;
+
+        Entry(String fileName, String checksum, long processedAt) {
+            this.fileName = fileName;
+            this.checksum = checksum;
+            this.processedAt = processedAt;
+        }
+    }
+}
@@ -441,6 +441,9 @@ public class AdapterRegistryServiceImpl implements AdapterRegistryService {
         config.setSelectQuery((String) props.get("query"));
         config.setPollingInterval((Long) props.getOrDefault("pollingInterval", 60000L));
         config.setFetchSize((Integer) props.getOrDefault("fetchSize", 1000));
+        config.setIncrementalColumn((String) props.get("incrementalColumn"));
+        config.setChunkSize((Integer) props.getOrDefault("chunkSize", 500));
+        config.setParallelPartitions((Integer) props.getOrDefault("parallelPartitions", 1));
 
         return config;
     }
@@ -515,6 +518,7 @@ public class AdapterRegistryServiceImpl implements AdapterRegistryService {
 
         config.setSourceDirectory((String) props.getOrDefault("directory", "/"));
         config.setFileName((String) props.getOrDefault("filePattern", "*"));
+        config.setDetectionMode((String) props.getOrDefault("detectionMode", "polling"));
 
         return config;
     }
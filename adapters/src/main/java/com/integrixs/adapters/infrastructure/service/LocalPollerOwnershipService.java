@@ -0,0 +1,32 @@
+package com.integrixs.adapters.infrastructure.service;
+
+import com.integrixs.adapters.domain.repository.AdapterCheckpointRepository;
+import com.integrixs.adapters.domain.service.PollerOwnershipService;
+import com.integrixs.adapters.infrastructure.persistence.FileAdapterCheckpointRepository;
+
+/**
+ * Single node poller ownership: this node owns every poller and checkpoints stay on the local disk
+ */
+public final class LocalPollerOwnershipService implements PollerOwnershipService {
+
+    public static final LocalPollerOwnershipService INSTANCE = new LocalPollerOwnershipService();
+
+    private LocalPollerOwnershipService() {
+    }
+
+    @Override
+    public boolean isOwner(String pollerId) {
+        return true;
+    }
+
+    @Override
+    public boolean runIfOwner(String pollerId, long intervalMillis, Runnable cycle) {
+        cycle.run();
+        return true;
+    }
+
+    @Override
+    public AdapterCheckpointRepository getCheckpointRepository() {
+        return FileAdapterCheckpointRepository.getDefault();
+    }
+}
@@ -0,0 +1,170 @@
+package com.integrixs.adapters.infrastructure.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * OAuth2 client credential used to obtain access tokens from a token endpoint.
+ * Credentials that describe the same client, grant and scope share one cached token.
+ */
+public final class OAuth2Credential {
+
+    private final String tokenUrl;
+    private final String clientId;
+    private final String clientSecret;
+    private final String grantType;
+    private final String scope;
+    private final String refreshToken;
+    private final String username;
+    private final String password;
+    private final boolean basicClientAuthentication;
+    private final Map<String, String> additionalParameters;
+    private final Map<String, String> headers;
+    private final String cacheKey;
+
+    private OAuth2Credential(Builder builder) {
+        if(builder.tokenUrl == null || builder.tokenUrl.isBlank()) {
+            throw new IllegalArgumentException("OAuth2 token URL is required");
+        }
+        this.tokenUrl = builder.tokenUrl;
+        this.clientId = builder.clientId;
+        this.clientSecret = builder.clientSecret;
+        this.grantType = builder.grantType;
+        this.scope = builder.scope;
+        this.refreshToken = builder.refreshToken;
+        this.username = builder.username;
+        this.password = builder.password;
+        this.basicClientAuthentication = builder.basicClientAuthentication;
+        this.additionalParameters = Collections.unmodifiableMap(new LinkedHashMap<>(builder.additionalParameters));
+        this.headers = Collections.unmodifiableMap(new LinkedHashMap<>(builder.headers));
+        this.cacheKey = digest(tokenUrl, clientId, clientSecret, grantType, scope, refreshToken, username, password,
+            additionalParameters.toString());
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public String getTokenUrl() { return tokenUrl; }
+    public String getClientId() { return clientId; }
+    public String getClientSecret() { return clientSecret; }
+    public String getGrantType() { return grantType; }
+    public String getScope() { return scope; }
+    public String getRefreshToken() { return refreshToken; }
+    public String getUsername() { return username; }
+    public String getPassword() { return password; }
+    public boolean isBasicClientAuthentication() { return basicClientAuthentication; }
+    public Map<String, String> getAdditionalParameters() { return additionalParameters; }
+    public Map<String, String> getHeaders() { return headers; }
+
+    /**
+     * Stable key of the client, grant and scope; secrets only enter as part of a hash
+     */
+    public String getCacheKey() {
+        return cacheKey;
+    }
+
+    private static String digest(String... parts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for(String part : parts) {
+                digest.update((part != null ? part : "").getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(digest.digest(), 0, 16);
+        } catch(NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public static final class Builder {
+        private String tokenUrl;
+        private String clientId;
+        private String clientSecret;
+        private String grantType = "client_credentials";
+        private String scope;
+        private String refreshToken;
+        private String username;
+        private String password;
+        private boolean basicClientAuthentication = true;
+        private final Map<String, String> additionalParameters = new LinkedHashMap<>();
+        private final Map<String, String> headers = new LinkedHashMap<>();
+
+        private Builder() {
+        }
+
+        public Builder tokenUrl(String tokenUrl) {
+            this.tokenUrl = tokenUrl;
+            return this;
+        }
+
+        public Builder clientId(String clientId) {
+            this.clientId = clientId;
+            return this;
+        }
+
+        public Builder clientSecret(String clientSecret) {
+            this.clientSecret = clientSecret;
+            return this;
+        }
+
+        public Builder grantType(String grantType) {
+            this.grantType = grantType;
+            return this;
+        }
+
+        public Builder scope(String scope) {
+            this.scope = scope;
+            return this;
+        }
+
+        /**
+         * Initial refresh token; rotated refresh tokens returned by the endpoint take over from it
+         */
+        public Builder refreshToken(String refreshToken) {
+            this.refreshToken = refreshToken;
+            return this;
+        }
+
+        public Builder username(String username) {
+            this.username = username;
+            return this;
+        }
+
+        public Builder password(String password) {
+            this.password = password;
+            return this;
+        }
+
+        /**
+         * Send the client credentials as HTTP Basic authentication(default) instead of form parameters
+         */
+        public Builder basicClientAuthentication(boolean basicClientAuthentication) {
+            this.basicClientAuthentication = basicClientAuthentication;
+            return this;
+        }
+
+        public Builder parameter(String name, String value) {
+            if(value != null) {
+                additionalParameters.put(name, value);
+            }
+            return this;
+        }
+
+        public Builder header(String name, String value) {
+            if(value != null) {
+                headers.put(name, value);
+            }
+            return this;
+        }
+
+        public OAuth2Credential build() {
+            return new OAuth2Credential(this);
+        }
+    }
+}
@@ -0,0 +1,440 @@
+package com.integrixs.adapters.infrastructure.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.integrixs.adapters.domain.repository.AdapterCheckpointRepository;
+import com.integrixs.adapters.domain.service.PollerOwnershipService;
+import com.integrixs.shared.services.CredentialEncryptionService;
+import com.integrixs.shared.util.JsonCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Shared OAuth2 access token manager for the outbound adapters.
+ *
+ * Tokens are cached per credential and refreshed in the background ahead of their expiry, with a random jitter
+ * so tokens obtained together do not all refresh at the same moment. Callers keep using the current token while
+ * it refreshes; only a missing or expired token makes them wait. At most one token request per credential is in
+ * flight, concurrent callers join it. A 401 response re-fetches the token once, however many requests were
+ * rejected with it. Tokens are persisted encrypted in the adapter checkpoint store so a restart or another
+ * cluster member does not need a new token; without encryption nothing is persisted.
+ */
+@Component
+public class OAuth2TokenManager implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(OAuth2TokenManager.class);
+
+    private static final String CHECKPOINT_PREFIX = "oauth2-token-";
+    private static final long EXPIRY_MARGIN_MS = 5000;
+    private static final long DEFAULT_EXPIRES_IN_SECONDS = 3600;
+    private static final long FAILED_REFRESH_RETRY_MS = 30000;
+
+    private static volatile OAuth2TokenManager shared;
+
+    private final CredentialEncryptionService encryptionService;
+    private final long refreshAheadMs;
+    private final long refreshJitterMs;
+    private final long requestTimeoutMs;
+    private final HttpClient httpClient;
+    private final ExecutorService refreshExecutor;
+    private final ObjectMapper objectMapper = JsonCodec.mapper();
+
+    private final Map<String, CachedToken> tokens = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<CachedToken>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder tokenRequests = new LongAdder();
+    private final LongAdder proactiveRefreshes = new LongAdder();
+    private final LongAdder joinedRefreshes = new LongAdder();
+    private final LongAdder unauthorizedResponses = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    @Autowired
+    public OAuth2TokenManager(ObjectProvider<CredentialEncryptionService> encryptionService,
+                              @Value("${integrixs.adapters.oauth2.refresh-ahead-ms:300000}") long refreshAheadMs,
+                              @Value("${integrixs.adapters.oauth2.refresh-jitter-ms:30000}") long refreshJitterMs,
+                              @Value("${integrixs.adapters.oauth2.request-timeout-ms:30000}") long requestTimeoutMs) {
+        this(encryptionService.getIfUnique(), refreshAheadMs, refreshJitterMs, requestTimeoutMs);
+    }
+
+    OAuth2TokenManager(CredentialEncryptionService encryptionService, long refreshAheadMs, long refreshJitterMs,
+                       long requestTimeoutMs) {
+        this.encryptionService = encryptionService;
+        this.refreshAheadMs = refreshAheadMs;
+        this.refreshJitterMs = refreshJitterMs;
+        this.requestTimeoutMs = requestTimeoutMs;
+        this.httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(requestTimeoutMs))
+            .build();
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.refreshExecutor = Executors.newCachedThreadPool(r -> {
+            Thread t = new Thread(r, "oauth2 - refresh-" + threadNumber.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Get the shared manager, for adapters that are not Spring managed.
+     * Until the Spring managed manager is installed this is a manager without persistence.
+     */
+    public static OAuth2TokenManager shared() {
+        OAuth2TokenManager manager = shared;
+        if(manager == null) {
+            synchronized(OAuth2TokenManager.class) {
+                if(shared == null) {
+                    shared = new OAuth2TokenManager((CredentialEncryptionService) null, 300000, 30000, 30000);
+                }
+                manager = shared;
+            }
+        }
+        return manager;
+    }
+
+    @PostConstruct
+    public void install() {
+        shared = this;
+    }
+
+    /**
+     * Get a valid access token, requesting one only when none is cached or the cached token expired
+     * @param credential Client credential
+     * @return Access token
+     */
+    public String getAccessToken(OAuth2Credential credential) {
+        String key = credential.getCacheKey();
+        CachedToken token = tokens.get(key);
+        if(token == null) {
+            token = loadPersisted(credential);
+            if(token != null) {
+                CachedToken existing = tokens.putIfAbsent(key, token);
+                token = existing != null ? existing : token;
+            }
+        }
+
+        long now = System.currentTimeMillis();
+        if(token != null && token.isValid(now)) {
+            if(now >= token.refreshAt && !inFlight.containsKey(key)) {
+                proactiveRefreshes.increment();
+                refresh(credential, token);
+            }
+            cacheHits.increment();
+            return token.accessToken;
+        }
+        return await(refresh(credential, token)).accessToken;
+    }
+
+    /**
+     * Handle a 401 response: re-fetch the token unless the rejected token was already replaced
+     * @param credential Client credential
+     * @param rejectedToken Access token the request was sent with
+     * @return Access token to retry the request with
+     */
+    public String onUnauthorized(OAuth2Credential credential, String rejectedToken) {
+        String key = credential.getCacheKey();
+        CachedToken token = tokens.get(key);
+        if(token != null && !token.accessToken.equals(rejectedToken) && token.isValid(System.currentTimeMillis())) {
+            return token.accessToken;
+        }
+        if(token != null && token.accessToken.equals(rejectedToken)) {
+            unauthorizedResponses.increment();
+            tokens.remove(key, token);
+            deletePersisted(credential);
+        }
+        return await(refresh(credential, token)).accessToken;
+    }
+
+    /**
+     * Drop the cached token of a credential
+     */
+    public void invalidate(OAuth2Credential credential) {
+        tokens.remove(credential.getCacheKey());
+        deletePersisted(credential);
+    }
+
+    /**
+     * Get token manager statistics
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("cachedTokens", tokens.size());
+        stats.put("inFlightRefreshes", inFlight.size());
+        stats.put("cacheHits", cacheHits.sum());
+        stats.put("tokenRequests", tokenRequests.sum());
+        stats.put("proactiveRefreshes", proactiveRefreshes.sum());
+        stats.put("joinedRefreshes", joinedRefreshes.sum());
+        stats.put("unauthorizedResponses", unauthorizedResponses.sum());
+        stats.put("failures", failures.sum());
+        stats.put("persistent", encryptionService != null);
+        return stats;
+    }
+
+    @Override
+    public void destroy() {
+        refreshExecutor.shutdownNow();
+    }
+
+    /**
+     * Start a token request, or join the one already in flight for the credential
+     * @param stale Token the caller saw, a newer cached token is returned without a request
+     */
+    private CompletableFuture<CachedToken> refresh(OAuth2Credential credential, CachedToken stale) {
+        String key = credential.getCacheKey();
+        CompletableFuture<CachedToken> pending = inFlight.get(key);
+        if(pending == null) {
+            CompletableFuture<CachedToken> created = new CompletableFuture<>();
+            pending = inFlight.putIfAbsent(key, created);
+            if(pending == null) {
+                startRefresh(credential, stale, created);
+                return created;
+            }
+        }
+        joinedRefreshes.increment();
+        return pending;
+    }
+
+    private void startRefresh(OAuth2Credential credential, CachedToken stale, CompletableFuture<CachedToken> future) {
+        String key = credential.getCacheKey();
+        CachedToken current = tokens.get(key);
+        if(current != null && current != stale && current.isValid(System.currentTimeMillis())) {
+            // A refresh completed between the caller reading the cache and claiming the refresh
+            inFlight.remove(key, future);
+            future.complete(current);
+            return;
+        }
+
+        CachedToken previous = current != null ? current : stale;
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    CachedToken token = requestToken(credential, previous);
+                    tokens.put(key, token);
+                    persist(credential, token);
+                    inFlight.remove(key, future);
+                    future.complete(token);
+                } catch(Exception e) {
+                    failures.increment();
+                    log.warn("OAuth2 token request to {} failed: {}", credential.getTokenUrl(), e.getMessage());
+                    if(previous != null && previous.isValid(System.currentTimeMillis())) {
+                        // Keep using the current token, retry the refresh later
+                        tokens.replace(key, previous,
+                            previous.withRefreshAt(System.currentTimeMillis() + FAILED_REFRESH_RETRY_MS));
+                    }
+                    inFlight.remove(key, future);
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch(RejectedExecutionException e) {
+            inFlight.remove(key, future);
+            future.completeExceptionally(e);
+        }
+    }
+
+    private CachedToken await(CompletableFuture<CachedToken> future) {
+        try {
+            return future.get(requestTimeoutMs * 2, TimeUnit.MILLISECONDS);
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for OAuth2 token", e);
+        } catch(ExecutionException e) {
+            throw new IllegalStateException("Failed to obtain OAuth2 token: " + e.getCause().getMessage(), e.getCause());
+        } catch(TimeoutException e) {
+            throw new IllegalStateException("Timed out waiting for OAuth2 token", e);
+        }
+    }
+
+    private CachedToken requestToken(OAuth2Credential credential, CachedToken previous) throws IOException, InterruptedException {
+        tokenRequests.increment();
+        String refreshToken = previous != null && previous.refreshToken != null
+            ? previous.refreshToken : credential.getRefreshToken();
+
+        Map<String, String> form = new LinkedHashMap<>();
+        if(refreshToken != null) {
+            form.put("grant_type", "refresh_token");
+            form.put("refresh_token", refreshToken);
+        } else {
+            form.put("grant_type", credential.getGrantType());
+            if("password".equals(credential.getGrantType())) {
+                form.put("username", credential.getUsername());
+                form.put("password", credential.getPassword());
+            }
+        }
+        if(credential.getScope() != null) {
+            form.put("scope", credential.getScope());
+        }
+        form.putAll(credential.getAdditionalParameters());
+
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(credential.getTokenUrl()))
+            .timeout(Duration.ofMillis(requestTimeoutMs))
+            .header("Content-Type", "application/x-www-form-urlencoded")
+            .header("Accept", "application/json");
+        if(credential.getClientId() != null) {
+            if(credential.isBasicClientAuthentication() && credential.getClientSecret() != null) {
+                String basic = credential.getClientId() + ":" + credential.getClientSecret();
+                builder.header("Authorization",
+                    "Basic " + Base64.getEncoder().encodeToString(basic.getBytes(StandardCharsets.UTF_8)));
+            } else {
+                form.put("client_id", credential.getClientId());
+                if(credential.getClientSecret() != null) {
+                    form.put("client_secret", credential.getClientSecret());
+                }
+            }
+        }
+        credential.getHeaders().forEach(builder::header);
+        builder.POST(HttpRequest.BodyPublishers.ofString(encodeForm(form)));
+
+        long requestedAt = System.currentTimeMillis();
+        HttpResponse<String> response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+        if(response.statusCode() / 100 != 2) {
+            if(refreshToken != null && credential.getRefreshToken() == null && response.statusCode() == 400) {
+                // Rotated refresh token no longer accepted, start over with the configured grant
+                log.info("OAuth2 refresh token rejected by {}, requesting a new token", credential.getTokenUrl());
+                return requestToken(credential, null);
+            }
+            throw new IOException("Token endpoint returned HTTP " + response.statusCode());
+        }
+
+        JsonNode json = objectMapper.readTree(response.body());
+        String accessToken = json.path("access_token").asText(null);
+        if(accessToken == null) {
+            throw new IOException("Token endpoint response has no access_token");
+        }
+        long expiresIn = json.path("expires_in").asLong(DEFAULT_EXPIRES_IN_SECONDS);
+        if(expiresIn <= 0) {
+            expiresIn = DEFAULT_EXPIRES_IN_SECONDS;
+        }
+        String rotatedRefreshToken = json.path("refresh_token").asText(null);
+        log.debug("Obtained OAuth2 token from {} valid for {} s", credential.getTokenUrl(), expiresIn);
+        return newToken(accessToken, rotatedRefreshToken != null ? rotatedRefreshToken : refreshToken,
+            requestedAt, requestedAt + expiresIn * 1000);
+    }
+
+    private CachedToken newToken(String accessToken, String refreshToken, long issuedAt, long expiresAt) {
+        long lifetime = Math.max(0, expiresAt - issuedAt);
+        long ahead = Math.min(refreshAheadMs, lifetime / 2);
+        long jitterBound = Math.min(refreshJitterMs, lifetime / 10);
+        long jitter = jitterBound > 0 ? ThreadLocalRandom.current().nextLong(jitterBound + 1) : 0;
+        return new CachedToken(accessToken, refreshToken, expiresAt, expiresAt - ahead - jitter);
+    }
+
+    private void persist(OAuth2Credential credential, CachedToken token) {
+        if(encryptionService == null) {
+            return;
+        }
+        try {
+            String accessToken = encryptionService.encrypt(token.accessToken);
+            if(!encryptionService.isEncrypted(accessToken)) {
+                // Encryption disabled: tokens are never written in plain text
+                return;
+            }
+            AdapterCheckpointRepository repository = PollerOwnershipService.current().getCheckpointRepository();
+            String key = CHECKPOINT_PREFIX + credential.getCacheKey();
+            repository.save(key, "accessToken", accessToken);
+            if(token.refreshToken != null) {
+                repository.save(key, "refreshToken", encryptionService.encrypt(token.refreshToken));
+            } else {
+                repository.delete(key, "refreshToken");
+            }
+            repository.save(key, "expiresAt", String.valueOf(token.expiresAt));
+        } catch(Exception e) {
+            log.warn("Could not persist OAuth2 token: {}", e.getMessage());
+        }
+    }
+
+    private CachedToken loadPersisted(OAuth2Credential credential) {
+        if(encryptionService == null) {
+            return null;
+        }
+        try {
+            Map<String, String> stored = PollerOwnershipService.current().getCheckpointRepository()
+                .loadAll(CHECKPOINT_PREFIX + credential.getCacheKey());
+            String accessToken = stored.get("accessToken");
+            String expiresAt = stored.get("expiresAt");
+            if(accessToken == null || expiresAt == null) {
+                return null;
+            }
+            String refreshToken = stored.get("refreshToken");
+            long now = System.currentTimeMillis();
+            return newToken(encryptionService.decrypt(accessToken),
+                refreshToken != null ? encryptionService.decrypt(refreshToken) : null,
+                now, Long.parseLong(expiresAt));
+        } catch(Exception e) {
+            log.warn("Could not load persisted OAuth2 token: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void deletePersisted(OAuth2Credential credential) {
+        if(encryptionService == null) {
+            return;
+        }
+        try {
+            PollerOwnershipService.current().getCheckpointRepository()
+                .deleteAll(CHECKPOINT_PREFIX + credential.getCacheKey());
+        } catch(Exception e) {
+            log.debug("Could not delete persisted OAuth2 token: {}", e.getMessage());
+        }
+    }
+
+    private static String encodeForm(Map<String, String> form) {
+        return form.entrySet().stream()
+            .filter(entry -> entry.getValue() != null)
+            .map(entry -> URLEncoder.encode(entry.getKey(), StandardCharsets.UTF_8) + "="
+                + URLEncoder.encode(entry.getValue(), StandardCharsets.UTF_8))
+            .collect(Collectors.joining("&"));
+    }
+
+    private static final class CachedToken {
+        private final String accessToken;
+        private final String refreshToken;
+        private final long expiresAt;
+        private final long refreshAt;
+
+        CachedToken(String accessToken, String refreshToken, long expiresAt, long refreshAt) {
+            this.accessToken = accessToken;
+            this.refreshToken = refreshToken;
+            this.expiresAt = expiresAt;
+            this.refreshAt = refreshAt;
+        }
+
+        boolean isValid(long now) {
+            return now < expiresAt - EXPIRY_MARGIN_MS;
+        }
+
+        CachedToken withRefreshAt(long refreshAt) {
+            return new CachedToken(accessToken, refreshToken, expiresAt, Math.min(refreshAt, expiresAt));
+        }
+    }
+}
@@ -10,9 +10,11 @@ import java.time.LocalDateTime;
 import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 /**
@@ -23,6 +25,9 @@ public class SLAMonitoringService {
 
     private static final Logger logger = LoggerFactory.getLogger(SLAMonitoringService.class);
 
+    // Minimum time between violation checks triggered by recorded operations
+    private static final long VIOLATION_CHECK_INTERVAL_MS = 1000;
+
     private final PerformanceMetricsCollector metricsCollector;
 
     // SLA definitions
@@ -32,7 +37,7 @@ public class SLAMonitoringService {
     private final Map<String, SLAComplianceTracker> complianceTrackers = new ConcurrentHashMap<>();
 
     // Alert callbacks
-    private final List<SLAAlertHandler> alertHandlers = new ArrayList<>();
+    private final List<SLAAlertHandler> alertHandlers = new CopyOnWriteArrayList<>();
 
     private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
 
@@ -113,8 +118,10 @@ public class SLAMonitoringService {
 
         tracker.recordOperation(durationMs, success);
 
-        // Check for violations
-        checkSLAViolations(tracker);
+        // Check for violations, throttled so the hot path does not build a report per operation
+        if(tracker.shouldEvaluate(VIOLATION_CHECK_INTERVAL_MS)) {
+            checkSLAViolations(tracker);
+        }
     }
 
     /**
@@ -280,16 +287,19 @@ public class SLAMonitoringService {
     }
 
     /**
-     * SLA compliance tracker.
+     * SLA compliance tracker over a sliding one hour window of five minute intervals.
      */
     private static class SLAComplianceTracker {
+        private static final long INTERVAL_MS = 300000;
+        private static final int INTERVAL_COUNT = 12;
+
         private final String adapterType;
         private final String adapterMode;
         private final String operationName;
         private final SLADefinition sla;
 
-        private final List<OperationRecord> operations = Collections.synchronizedList(new ArrayList<>());
-        private final long windowSizeMs = 3600000; // 1 hour window
+        private final SlidingWindowHistogram histogram = new SlidingWindowHistogram(INTERVAL_MS, INTERVAL_COUNT);
+        private final AtomicLong lastEvaluated = new AtomicLong();
 
         public SLAComplianceTracker(String adapterType, String adapterMode,
                                    String operationName, SLADefinition sla) {
@@ -300,69 +310,49 @@ public class SLAMonitoringService {
         }
 
         public void recordOperation(long durationMs, boolean success) {
-            operations.add(new OperationRecord(durationMs, success));
-            cleanupOldRecords();
+            histogram.record(durationMs, success, durationMs > sla.maxResponseTimeMs);
+        }
+
+        /**
+         * Whether violations should be evaluated now, at most once per given interval across threads
+         */
+        public boolean shouldEvaluate(long minIntervalMs) {
+            long now = System.currentTimeMillis();
+            long last = lastEvaluated.get();
+            return now - last >= minIntervalMs && lastEvaluated.compareAndSet(last, now);
         }
 
         public SLAComplianceReport generateReport() {
-            List<OperationRecord> currentOps = getRecentOperations();
+            SlidingWindowHistogram.Snapshot snapshot = histogram.snapshot();
 
-            if(currentOps.isEmpty()) {
+            if(snapshot.getCount() == 0) {
                 return new SLAComplianceReport(adapterType, adapterMode, operationName,
                     0, 100.0, 100.0, 100.0, 0.0, 0.0);
             }
 
-            long totalOps = currentOps.size();
-            long successfulOps = currentOps.stream().filter(op -> op.success).count();
-            long compliantOps = currentOps.stream()
-                .filter(op -> op.durationMs <= sla.maxResponseTimeMs)
-                .count();
-
-            double avgResponseTime = currentOps.stream()
-                .mapToLong(op -> op.durationMs)
-                .average()
-                .orElse(0.0);
-
-            double maxResponseTime = currentOps.stream()
-                .mapToLong(op -> op.durationMs)
-                .max()
-                .orElse(0);
-
-            double successRate = (double) successfulOps / totalOps * 100;
-            double responseTimeCompliance = (double) compliantOps / totalOps * 100;
-            double availability = calculateAvailability();
-
             return new SLAComplianceReport(
                 adapterType, adapterMode, operationName,
-                totalOps, successRate, responseTimeCompliance, availability,
-                avgResponseTime, maxResponseTime
+                snapshot.getCount(), snapshot.getSuccessRate(), 100.0 - snapshot.getBreachRate(),
+                calculateAvailability(snapshot.getCount()),
+                snapshot.getMean(), snapshot.getMax(),
+                snapshot.getValueAtPercentile(50), snapshot.getValueAtPercentile(95),
+                snapshot.getValueAtPercentile(99)
            );
         }
 
         public double calculateAvailability() {
-            // Simple availability calculation based on recent operations
-            List<OperationRecord> recentOps = getRecentOperations();
-            if(recentOps.isEmpty()) {
+            return calculateAvailability(histogram.snapshot().getCount());
+        }
+
+        private double calculateAvailability(long actualOps) {
+            if(actualOps == 0) {
                 return 100.0;
             }
 
             // Check for extended periods without operations(potential downtime)
-            long expectedOpsPerHour = 60; // Assume at least 1 operation per minute
-            long actualOps = recentOps.size();
-
-            return Math.min(100.0, (double) actualOps / expectedOpsPerHour * 100);
-        }
-
-        private List<OperationRecord> getRecentOperations() {
-            long cutoff = System.currentTimeMillis() - windowSizeMs;
-            return operations.stream()
-                .filter(op -> op.timestamp > cutoff)
-                .collect(Collectors.toList());
-        }
+            long expectedOps = histogram.getWindowMillis() / 60000; // Assume at least 1 operation per minute
 
-        private void cleanupOldRecords() {
-            long cutoff = System.currentTimeMillis() - windowSizeMs;
-            operations.removeIf(op -> op.timestamp <= cutoff);
+            return Math.min(100.0, (double) actualOps / expectedOps * 100);
         }
 
         // Getters
@@ -372,21 +362,6 @@ public class SLAMonitoringService {
         public SLADefinition getSla() { return sla; }
     }
 
-    /**
-     * Operation record.
-     */
-    private static class OperationRecord {
-        private final long timestamp;
-        private final long durationMs;
-        private final boolean success;
-
-        public OperationRecord(long durationMs, boolean success) {
-            this.timestamp = System.currentTimeMillis();
-            this.durationMs = durationMs;
-            this.success = success;
-        }
-    }
-
     /**
      * SLA compliance report.
      */
@@ -400,12 +375,24 @@ public class SLAMonitoringService {
         private final double availability;
         private final double avgResponseTimeMs;
         private final double maxResponseTimeMs;
+        private final double p50ResponseTimeMs;
+        private final double p95ResponseTimeMs;
+        private final double p99ResponseTimeMs;
         private final LocalDateTime reportTime;
 
         public SLAComplianceReport(String adapterType, String adapterMode, String operationName,
                                  long totalOperations, double successRate,
                                  double responseTimeCompliance, double availability,
                                  double avgResponseTimeMs, double maxResponseTimeMs) {
+            this(adapterType, adapterMode, operationName, totalOperations, successRate, responseTimeCompliance,
+                availability, avgResponseTimeMs, maxResponseTimeMs, 0.0, 0.0, 0.0);
+        }
+
+        public SLAComplianceReport(String adapterType, String adapterMode, String operationName,
+                                 long totalOperations, double successRate,
+                                 double responseTimeCompliance, double availability,
+                                 double avgResponseTimeMs, double maxResponseTimeMs,
+                                 double p50ResponseTimeMs, double p95ResponseTimeMs, double p99ResponseTimeMs) {
             this.adapterType = adapterType;
             this.adapterMode = adapterMode;
             this.operationName = operationName;
@@ -415,6 +402,9 @@ public class SLAMonitoringService {
             this.availability = availability;
             this.avgResponseTimeMs = avgResponseTimeMs;
             this.maxResponseTimeMs = maxResponseTimeMs;
+            this.p50ResponseTimeMs = p50ResponseTimeMs;
+            this.p95ResponseTimeMs = p95ResponseTimeMs;
+            this.p99ResponseTimeMs = p99ResponseTimeMs;
             this.reportTime = LocalDateTime.now();
         }
 
@@ -428,6 +418,9 @@ public class SLAMonitoringService {
         public double getAvailability() { return availability; }
         public double getAvgResponseTimeMs() { return avgResponseTimeMs; }
         public double getMaxResponseTimeMs() { return maxResponseTimeMs; }
+        public double getP50ResponseTimeMs() { return p50ResponseTimeMs; }
+        public double getP95ResponseTimeMs() { return p95ResponseTimeMs; }
+        public double getP99ResponseTimeMs() { return p99ResponseTimeMs; }
         public LocalDateTime getReportTime() { return reportTime; }
     }
 
@@ -0,0 +1,266 @@
+package com.integrixs.adapters.monitoring;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock - free latency histogram over a sliding time window.
+ *
+ * Values are counted in HDR - style log - linear buckets: values below 32 are exact, larger values keep their
+ * 5 most significant bits, so every recorded value is within about 3% of its bucket. The window is a ring of
+ * fixed - size intervals; an interval is cleared when the ring wraps around to it, so memory does not grow with
+ * traffic. Bucket counts are striped by thread to keep concurrent writers off the same cache lines.
+ *
+ * Recording is wait - free except for the first write of each new interval. A write racing with the rotation of
+ * its interval may be counted in the new interval, which is acceptable for monitoring.
+ */
+public class SlidingWindowHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF = SUB_BUCKET_COUNT / 2;
+    private static final long MAX_VALUE = Integer.MAX_VALUE;
+
+    /** Exact buckets plus one half - range per power of two up to {@link #MAX_VALUE} */
+    static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (31 - SUB_BUCKET_BITS) * SUB_BUCKET_HALF;
+
+    private static final int DEFAULT_STRIPES = stripeCount();
+
+    private final long intervalMillis;
+    private final int stripeMask;
+    private final Interval[] intervals;
+
+    /**
+     * @param intervalMillis Length of one interval
+     * @param intervalCount Number of intervals in the window
+     */
+    public SlidingWindowHistogram(long intervalMillis, int intervalCount) {
+        this(intervalMillis, intervalCount, DEFAULT_STRIPES);
+    }
+
+    /**
+     * @param intervalMillis Length of one interval
+     * @param intervalCount Number of intervals in the window
+     * @param stripes Number of bucket stripes(rounded down to a power of two), fewer stripes use less memory
+     */
+    public SlidingWindowHistogram(long intervalMillis, int intervalCount, int stripes) {
+        int stripeCount = Integer.highestOneBit(Math.max(1, stripes));
+        this.intervalMillis = Math.max(1, intervalMillis);
+        this.stripeMask = stripeCount - 1;
+        this.intervals = new Interval[Math.max(1, intervalCount)];
+        for(int i = 0; i < intervals.length; i++) {
+            intervals[i] = new Interval(stripeCount);
+        }
+    }
+
+    /**
+     * Record one value
+     * @param value Value, e.g. a duration in milliseconds(negative values count as 0)
+     * @param success Whether the operation succeeded
+     * @param breach Whether the value breached its threshold
+     */
+    public void record(long value, boolean success, boolean breach) {
+        long clamped = Math.max(0, Math.min(MAX_VALUE, value));
+        Interval interval = current(System.currentTimeMillis() / intervalMillis);
+        interval.buckets[stripe()].incrementAndGet(bucketIndex(clamped));
+        interval.count.increment();
+        interval.sum.add(clamped);
+        interval.max.accumulate(clamped);
+        if(!success) {
+            interval.failures.increment();
+        }
+        if(breach) {
+            interval.breaches.increment();
+        }
+    }
+
+    /**
+     * Merge the intervals of the window into a snapshot
+     */
+    public Snapshot snapshot() {
+        return snapshot(intervals.length);
+    }
+
+    /**
+     * Merge the most recent intervals into a snapshot
+     * @param intervalCount Number of intervals, including the current one
+     */
+    public Snapshot snapshot(int intervalCount) {
+        long now = System.currentTimeMillis() / intervalMillis;
+        long oldest = now - Math.min(intervalCount, intervals.length) + 1;
+        long[] counts = new long[BUCKET_COUNT];
+        long count = 0;
+        long sum = 0;
+        long max = 0;
+        long failures = 0;
+        long breaches = 0;
+        for(Interval interval : intervals) {
+            long index = interval.index;
+            if(index < oldest || index > now) {
+                continue;
+            }
+            for(AtomicLongArray stripe : interval.buckets) {
+                for(int i = 0; i < BUCKET_COUNT; i++) {
+                    counts[i] += stripe.get(i);
+                }
+            }
+            count += interval.count.sum();
+            sum += interval.sum.sum();
+            max = Math.max(max, interval.max.get());
+            failures += interval.failures.sum();
+            breaches += interval.breaches.sum();
+        }
+        return new Snapshot(counts, count, sum, max, failures, breaches);
+    }
+
+    public long getWindowMillis() {
+        return intervalMillis * intervals.length;
+    }
+
+    public long getIntervalMillis() {
+        return intervalMillis;
+    }
+
+    public int getIntervalCount() {
+        return intervals.length;
+    }
+
+    private Interval current(long index) {
+        Interval interval = intervals[(int) (index % intervals.length)];
+        if(interval.index != index) {
+            synchronized(interval) {
+                if(interval.index != index) {
+                    interval.reset(index);
+                }
+            }
+        }
+        return interval;
+    }
+
+    static int bucketIndex(long value) {
+        if(value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - (SUB_BUCKET_BITS - 1);
+        int subBucket = (int) (value >>> shift);
+        return SUB_BUCKET_COUNT + (shift - 1) * SUB_BUCKET_HALF + (subBucket - SUB_BUCKET_HALF);
+    }
+
+    /**
+     * Representative(mid - point) value of a bucket
+     */
+    static long bucketValue(int index) {
+        if(index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_HALF + 1;
+        long subBucket = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_HALF + SUB_BUCKET_HALF;
+        return (subBucket << shift) + (1L << (shift - 1));
+    }
+
+    private int stripe() {
+        return (int) (Thread.currentThread().getId() & stripeMask);
+    }
+
+    private static int stripeCount() {
+        int processors = Math.min(Runtime.getRuntime().availableProcessors(), 8);
+        return Integer.highestOneBit(Math.max(1, processors));
+    }
+
+    private static final class Interval {
+        private volatile long index = Long.MIN_VALUE;
+        private final AtomicLongArray[] buckets;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder sum = new LongAdder();
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder breaches = new LongAdder();
+
+        Interval(int stripes) {
+            buckets = new AtomicLongArray[stripes];
+            for(int i = 0; i < stripes; i++) {
+                buckets[i] = new AtomicLongArray(BUCKET_COUNT);
+            }
+        }
+
+        void reset(long newIndex) {
+            for(AtomicLongArray stripe : buckets) {
+                for(int i = 0; i < BUCKET_COUNT; i++) {
+                    stripe.set(i, 0);
+                }
+            }
+            count.reset();
+            sum.reset();
+            max.reset();
+            failures.reset();
+            breaches.reset();
+            index = newIndex;
+        }
+    }
+
+    /**
+     * Immutable merged view of a window
+     */
+    public static final class Snapshot {
+        private final long[] counts;
+        private final long count;
+        private final long sum;
+        private final long max;
+        private final long failures;
+        private final long breaches;
+
+        private Snapshot(long[] counts, long count, long sum, long max, long failures, long breaches) {
+            this.counts = counts;
+            this.count = count;
+            this.sum = sum;
+            this.max = max;
+            this.failures = failures;
+            this.breaches = breaches;
+        }
+
+        /**
+         * Value at the given percentile
+         * @param percentile Percentile between 0 and 100
+         * @return Value, 0 for an empty snapshot
+         */
+        public long getValueAtPercentile(double percentile) {
+            long total = 0;
+            for(long bucket : counts) {
+                total += bucket;
+            }
+            if(total == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(total * Math.min(100.0, Math.max(0.0, percentile)) / 100.0));
+            long seen = 0;
+            for(int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if(seen >= rank) {
+                    return Math.min(bucketValue(i), max);
+                }
+            }
+            return max;
+        }
+
+        /**
+         * Smallest recorded value(bucket precision), 0 for an empty snapshot
+         */
+        public long getMin() {
+            for(int i = 0; i < counts.length; i++) {
+                if(counts[i] > 0) {
+                    return Math.min(bucketValue(i), max);
+                }
+            }
+            return 0;
+        }
+
+        public long getCount() { return count; }
+        public long getMax() { return max; }
+        public long getFailures() { return failures; }
+        public long getBreaches() { return breaches; }
+        public double getMean() { return count == 0 ? 0.0 : (double) sum / count; }
+        public double getSuccessRate() { return count == 0 ? 100.0 : (double) (count - failures) / count * 100; }
+        public double getBreachRate() { return count == 0 ? 0.0 : (double) breaches / count * 100; }
+    }
+}
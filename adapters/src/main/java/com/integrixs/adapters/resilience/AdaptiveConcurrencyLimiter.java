@@ -0,0 +1,378 @@
+package com.integrixs.adapters.resilience;
+
+import com.integrixs.shared.exceptions.BaseIntegrationException;
+
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.http.HttpTimeoutException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Concurrency limiter whose limit follows the observed latency and errors of the protected resource.
+ * The limit grows while latency stays near the no - load latency and shrinks when latency rises or calls fail,
+ * so a slow backend gets fewer concurrent callers instead of a queue of requests that time out.
+ *
+ * Supported algorithms:
+ * AIMD - additive increase, multiplicative decrease on errors and on latency above a threshold
+ * VEGAS - estimates the queue from minimum vs. current latency and keeps it between alpha and beta
+ * GRADIENT - scales the limit by the ratio of long - term to short - term latency
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    public enum Algorithm {
+        AIMD,
+        VEGAS,
+        GRADIENT
+    }
+
+    /**
+     * Thrown when a call is rejected because the current limit is reached
+     */
+    public static class LimitExceededException extends RuntimeException {
+        public LimitExceededException(String name, int limit) {
+            super("Concurrency limit " + limit + " reached for " + name, null, false, false);
+        }
+    }
+
+    /**
+     * Permit for one call, exactly one of the completion methods must be called
+     */
+    public interface Permit {
+        /** The call completed, its latency is used to adjust the limit */
+        void onSuccess();
+
+        /** The call failed or timed out because the resource is overloaded */
+        void onDropped();
+
+        /** The call completed without a meaningful latency(e.g. a client error) */
+        void onIgnore();
+    }
+
+    // Minimum RTT is re - probed after this many samples so the baseline can follow a slower backend
+    private static final int NO_LOAD_RTT_RESET_SAMPLES = 1000;
+
+    private final String name;
+    private final Algorithm algorithm;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private final Predicate<Throwable> dropClassifier;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    private volatile double limit;
+
+    // Latency state, guarded by this
+    private long noLoadRttNanos = Long.MAX_VALUE;
+    private int samplesSinceReset;
+    private double shortRttNanos;
+    private double longRttNanos;
+
+    private AdaptiveConcurrencyLimiter(Builder builder) {
+        this.name = builder.name;
+        this.algorithm = builder.algorithm;
+        this.minLimit = Math.max(1, builder.minLimit);
+        this.maxLimit = Math.max(this.minLimit, builder.maxLimit);
+        this.latencyThresholdNanos = builder.latencyThresholdMillis * 1_000_000L;
+        this.backoffRatio = builder.backoffRatio;
+        this.dropClassifier = builder.dropClassifier;
+        this.limit = Math.max(this.minLimit, Math.min(this.maxLimit, builder.initialLimit));
+    }
+
+    public static Builder builder(String name) {
+        return new Builder(name);
+    }
+
+    /**
+     * Try to start a call
+     * @return Permit, or null when the limit is reached
+     */
+    public Permit tryAcquire() {
+        while(true) {
+            int current = inFlight.get();
+            if(current >= (int) limit) {
+                rejected.increment();
+                return null;
+            }
+            if(inFlight.compareAndSet(current, current + 1)) {
+                accepted.increment();
+                return new CallPermit(current + 1);
+            }
+        }
+    }
+
+    /**
+     * Run an operation under the limit. Exceptions accepted by the drop classifier count as dropped calls,
+     * any other exception(e.g. a validation or client error) leaves the limit unchanged.
+     * @throws LimitExceededException when the limit is reached
+     */
+    public <T> T execute(Supplier<T> operation) {
+        Permit permit = tryAcquire();
+        if(permit == null) {
+            throw new LimitExceededException(name, getLimit());
+        }
+        try {
+            T result = operation.get();
+            permit.onSuccess();
+            return result;
+        } catch(RuntimeException e) {
+            if(dropClassifier.test(e)) {
+                permit.onDropped();
+            } else {
+                permit.onIgnore();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Default drop classifier: timeouts, refused connections, rejected work and overload status codes
+     * anywhere in the cause chain indicate an overloaded resource
+     */
+    public static boolean isOverload(Throwable error) {
+        for(Throwable current = error; current != null; current = current.getCause()) {
+            if(current instanceof TimeoutException || current instanceof InterruptedIOException
+                    || current instanceof HttpTimeoutException || current instanceof ConnectException
+                    || current instanceof RejectedExecutionException || current instanceof LimitExceededException) {
+                return true;
+            }
+            if(current instanceof BaseIntegrationException) {
+                int status = ((BaseIntegrationException) current).getHttpStatusCode();
+                if(status == 429 || status == 503 || status == 504) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Algorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public int getAvailable() {
+        return Math.max(0, getLimit() - getInFlight());
+    }
+
+    public long getAccepted() {
+        return accepted.sum();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * Minimum observed latency in milliseconds, -1 before the first sample
+     */
+    public synchronized double getNoLoadLatencyMillis() {
+        return noLoadRttNanos == Long.MAX_VALUE ? -1 : noLoadRttNanos / 1_000_000.0;
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightAtStart, boolean didDrop) {
+        if(didDrop) {
+            dropped.increment();
+        }
+        double current = limit;
+        double next;
+        switch(algorithm) {
+            case AIMD:
+                next = aimd(current, rttNanos, inFlightAtStart, didDrop);
+                break;
+            case VEGAS:
+                next = vegas(current, rttNanos, inFlightAtStart, didDrop);
+                break;
+            default:
+                next = gradient(current, rttNanos, inFlightAtStart, didDrop);
+                break;
+        }
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+
+    private double aimd(double current, long rttNanos, int inFlightAtStart, boolean didDrop) {
+        if(didDrop || (latencyThresholdNanos > 0 && rttNanos > latencyThresholdNanos)) {
+            return current * backoffRatio;
+        }
+        // Only grow while the limit is actually used, an idle resource says nothing about its capacity
+        if(inFlightAtStart * 2 >= current) {
+            return current + 1.0 / current;
+        }
+        return current;
+    }
+
+    private double vegas(double current, long rttNanos, int inFlightAtStart, boolean didDrop) {
+        updateNoLoadRtt(rttNanos);
+        double log = Math.max(1, Math.log10(current));
+        if(didDrop) {
+            return current - log;
+        }
+        // Estimated number of calls queued at the resource
+        double queue = current * (1 - (double) noLoadRttNanos / Math.max(rttNanos, 1));
+        double alpha = 3 * log;
+        double beta = 6 * log;
+        if(queue >= beta) {
+            return current - log;
+        }
+        if(queue <= alpha && inFlightAtStart * 2 >= current) {
+            return current + log;
+        }
+        return current;
+    }
+
+    private double gradient(double current, long rttNanos, int inFlightAtStart, boolean didDrop) {
+        if(shortRttNanos == 0) {
+            shortRttNanos = rttNanos;
+            longRttNanos = rttNanos;
+        }
+        shortRttNanos = shortRttNanos + (rttNanos - shortRttNanos) * 0.1;
+        longRttNanos = longRttNanos + (rttNanos - longRttNanos) / 600.0;
+        if(longRttNanos / shortRttNanos > 2) {
+            // Latency dropped a lot, let the long - term average recover faster
+            longRttNanos *= 0.95;
+        }
+
+        if(!didDrop && inFlightAtStart * 2 < current) {
+            return current;
+        }
+        double gradient = didDrop ? 0.5 : Math.max(0.5, Math.min(1.0, longRttNanos / shortRttNanos));
+        double queueSize = Math.sqrt(current);
+        double next = current * gradient + queueSize;
+        // Smooth the change, a single slow call should not halve the limit
+        return current * 0.8 + next * 0.2;
+    }
+
+    private void updateNoLoadRtt(long rttNanos) {
+        if(++samplesSinceReset >= NO_LOAD_RTT_RESET_SAMPLES) {
+            samplesSinceReset = 0;
+            noLoadRttNanos = rttNanos;
+        } else if(rttNanos < noLoadRttNanos) {
+            noLoadRttNanos = rttNanos;
+        }
+    }
+
+    private final class CallPermit implements Permit {
+        private final long startNanos = System.nanoTime();
+        private final int inFlightAtStart;
+        private boolean completed;
+
+        CallPermit(int inFlightAtStart) {
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        @Override
+        public void onSuccess() {
+            if(complete()) {
+                onSample(System.nanoTime() - startNanos, inFlightAtStart, false);
+            }
+        }
+
+        @Override
+        public void onDropped() {
+            if(complete()) {
+                onSample(System.nanoTime() - startNanos, inFlightAtStart, true);
+            }
+        }
+
+        @Override
+        public void onIgnore() {
+            complete();
+        }
+
+        private boolean complete() {
+            if(completed) {
+                return false;
+            }
+            completed = true;
+            inFlight.decrementAndGet();
+            return true;
+        }
+    }
+
+    public static class Builder {
+        private final String name;
+        private Algorithm algorithm = Algorithm.GRADIENT;
+        private int initialLimit = 20;
+        private int minLimit = 1;
+        private int maxLimit = 200;
+        private long latencyThresholdMillis = 0;
+        private double backoffRatio = 0.9;
+        private Predicate<Throwable> dropClassifier = AdaptiveConcurrencyLimiter::isOverload;
+
+        private Builder(String name) {
+            this.name = name;
+        }
+
+        public Builder algorithm(Algorithm algorithm) {
+            this.algorithm = algorithm;
+            return this;
+        }
+
+        public Builder initialLimit(int initialLimit) {
+            this.initialLimit = initialLimit;
+            return this;
+        }
+
+        public Builder minLimit(int minLimit) {
+            this.minLimit = minLimit;
+            return this;
+        }
+
+        public Builder maxLimit(int maxLimit) {
+            this.maxLimit = maxLimit;
+            return this;
+        }
+
+        /**
+         * AIMD only: latency above this threshold counts as overload(0 disables the check)
+         */
+        public Builder latencyThresholdMillis(long latencyThresholdMillis) {
+            this.latencyThresholdMillis = latencyThresholdMillis;
+            return this;
+        }
+
+        /**
+         * AIMD only: factor applied to the limit on overload
+         */
+        public Builder backoffRatio(double backoffRatio) {
+            this.backoffRatio = backoffRatio;
+            return this;
+        }
+
+        /**
+         * Decides which exceptions thrown by {@link #execute} are overload drops, the rest are ignored
+         */
+        public Builder dropClassifier(Predicate<Throwable> dropClassifier) {
+            this.dropClassifier = dropClassifier;
+            return this;
+        }
+
+        public AdaptiveConcurrencyLimiter build() {
+            return new AdaptiveConcurrencyLimiter(this);
+        }
+    }
+}
@@ -3,42 +3,37 @@ package com.integrixs.adapters.resilience;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import io.github.resilience4j.bulkhead.Bulkhead;
-import io.github.resilience4j.bulkhead.BulkheadConfig;
-import io.github.resilience4j.bulkhead.BulkheadRegistry;
 import io.github.resilience4j.bulkhead.ThreadPoolBulkhead;
 import io.github.resilience4j.bulkhead.ThreadPoolBulkheadConfig;
 import io.github.resilience4j.bulkhead.ThreadPoolBulkheadRegistry;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 /**
- * Service for managing bulkheads for adapters to limit concurrent executions
+ * Service for managing bulkheads for adapters to limit concurrent executions.
+ * Synchronous calls are guarded by adaptive concurrency limiters per adapter(and optionally per endpoint)
+ * instead of fixed - size semaphores, async calls by thread pool bulkheads.
  */
 @Service
 public class BulkheadService {
     private static final Logger log = LoggerFactory.getLogger(BulkheadService.class);
 
 
-    private final BulkheadRegistry bulkheadRegistry;
+    private static final int DEFAULT_INITIAL_LIMIT = 25;
+    private static final int DEFAULT_MAX_LIMIT = 200;
+
     private final ThreadPoolBulkheadRegistry threadPoolBulkheadRegistry;
-    private final ConcurrentHashMap<String, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<String, ThreadPoolBulkhead> threadPoolBulkheads = new ConcurrentHashMap<>();
 
     public BulkheadService() {
-        // Semaphore bulkhead configuration
-        BulkheadConfig bulkheadConfig = BulkheadConfig.custom()
-            .maxConcurrentCalls(25)
-            .maxWaitDuration(Duration.ofMillis(500))
-            .build();
-
-        this.bulkheadRegistry = BulkheadRegistry.of(bulkheadConfig);
-
         // Thread pool bulkhead configuration
         ThreadPoolBulkheadConfig threadPoolConfig = ThreadPoolBulkheadConfig.custom()
             .maxThreadPoolSize(10)
@@ -51,14 +46,25 @@ public class BulkheadService {
     }
 
     /**
-     * Get or create a semaphore bulkhead
+     * Get or create the concurrency limiter for a name
      */
-    public Bulkhead getBulkhead(String name) {
-        return bulkheads.computeIfAbsent(name, key ->
-            bulkheadRegistry.bulkhead(name)
+    public AdaptiveConcurrencyLimiter getLimiter(String name) {
+        return limiters.computeIfAbsent(name, key ->
+            AdaptiveConcurrencyLimiter.builder(key)
+                .algorithm(AdaptiveConcurrencyLimiter.Algorithm.GRADIENT)
+                .initialLimit(DEFAULT_INITIAL_LIMIT)
+                .maxLimit(DEFAULT_MAX_LIMIT)
+                .build()
        );
     }
 
+    /**
+     * Get or create the concurrency limiter for one endpoint of an adapter
+     */
+    public AdaptiveConcurrencyLimiter getLimiter(String adapterName, String endpoint) {
+        return getLimiter(endpoint != null ? adapterName + "-" + endpoint : adapterName);
+    }
+
     /**
      * Get or create a thread pool bulkhead
      */
@@ -69,19 +75,25 @@ public class BulkheadService {
     }
 
     /**
-     * Execute with semaphore bulkhead
+     * Execute under the adaptive concurrency limit
      */
     public <T> T executeWithBulkhead(String bulkheadName, Callable<T> callable) throws Exception {
-        Bulkhead bulkhead = getBulkhead(bulkheadName);
-        return bulkhead.executeCallable(callable);
+        AdaptiveConcurrencyLimiter.Permit permit = acquire(getLimiter(bulkheadName));
+        try {
+            T result = callable.call();
+            permit.onSuccess();
+            return result;
+        } catch(Exception e) {
+            permit.onDropped();
+            throw e;
+        }
     }
 
     /**
-     * Execute with semaphore bulkhead using supplier
+     * Execute under the adaptive concurrency limit using supplier
      */
     public <T> T executeWithBulkhead(String bulkheadName, Supplier<T> supplier) {
-        Bulkhead bulkhead = getBulkhead(bulkheadName);
-        return bulkhead.executeSupplier(supplier);
+        return getLimiter(bulkheadName).execute(supplier);
     }
 
     /**
@@ -98,18 +110,24 @@ public class BulkheadService {
      * Get available concurrent calls
      */
     public int getAvailableConcurrentCalls(String bulkheadName) {
-        Bulkhead bulkhead = getBulkhead(bulkheadName);
-        return bulkhead.getMetrics().getAvailableConcurrentCalls();
+        return getLimiter(bulkheadName).getAvailable();
     }
 
     /**
-     * Execute with fallback
+     * Get all limiters by name
+     */
+    public Map<String, AdaptiveConcurrencyLimiter> getLimiters() {
+        return Collections.unmodifiableMap(limiters);
+    }
+
+    /**
+     * Execute with fallback. Adapter instances are short - lived, so the limit is kept per bulkhead name
      */
     public <T> T executeWithFallback(String bulkheadName, String instanceId,
                                      Supplier<T> supplier, Supplier<T> fallbackSupplier) {
         try {
             return executeWithBulkhead(bulkheadName, supplier);
-        } catch (io.github.resilience4j.bulkhead.BulkheadFullException e) {
+        } catch (AdaptiveConcurrencyLimiter.LimitExceededException e) {
             log.warn("Bulkhead {} is full for instance {}, executing fallback", bulkheadName, instanceId);
             return fallbackSupplier.get();
         } catch (Exception e) {
@@ -117,4 +135,12 @@ public class BulkheadService {
             throw e;
         }
     }
+
+    private static AdaptiveConcurrencyLimiter.Permit acquire(AdaptiveConcurrencyLimiter limiter) {
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire();
+        if(permit == null) {
+            throw new AdaptiveConcurrencyLimiter.LimitExceededException(limiter.getName(), limiter.getLimit());
+        }
+        return permit;
+    }
 }
@@ -6,6 +6,13 @@ import org.slf4j.LoggerFactory;
 import com.integrixs.adapters.core.AbstractInboundAdapter;
 import com.integrixs.adapters.domain.model.AdapterConfiguration;
 import com.integrixs.shared.dto.MessageDTO;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
 import java.util.List;
 import java.util.Map;
 
@@ -16,11 +23,57 @@ import java.util.Map;
 public abstract class AbstractSocialMediaInboundAdapter extends AbstractInboundAdapter {
     private static final Logger log = LoggerFactory.getLogger(AbstractSocialMediaInboundAdapter.class);
 
+    private final ConditionalRequestCache conditionalRequests = new ConditionalRequestCache();
+    private SocialPollingScheduler pollingScheduler;
 
     protected AbstractSocialMediaInboundAdapter() {
         super(AdapterConfiguration.AdapterTypeEnum.REST);
     }
 
+    @Autowired(required = false)
+    public void setPollingScheduler(SocialPollingScheduler pollingScheduler) {
+        this.pollingScheduler = pollingScheduler;
+    }
+
+    @PostConstruct
+    public void initializePolling() {
+        if(pollingScheduler != null) {
+            registerPollers();
+        }
+    }
+
+    @PreDestroy
+    public void cancelPolling() {
+        if(pollingScheduler != null) {
+            pollingScheduler.cancelAll(getClass().getSimpleName() + ".");
+        }
+    }
+
+    /**
+     * Register the polling cycles of this adapter with {@link #schedulePolling}
+     */
+    protected void registerPollers() {
+    }
+
+    /**
+     * Schedule a polling cycle on the shared adaptive polling scheduler
+     * @param name Poller name, unique within the adapter
+     * @param interval Base interval in milliseconds, may be a property placeholder
+     * @param rateLimiterName Provider rate limiter the cycle spends, null for none
+     * @param poll Polling cycle
+     */
+    protected void schedulePolling(String name, String interval, String rateLimiterName, Runnable poll) {
+        pollingScheduler.schedule(getClass().getSimpleName() + "." + name, interval, rateLimiterName, poll);
+    }
+
+    /**
+     * Execute an API request, conditionally for GET requests, and report the outcome to the polling scheduler
+     */
+    protected ResponseEntity<String> exchangeConditionally(RestTemplate restTemplate, String url, HttpMethod method,
+                                                           HttpEntity<?> entity) {
+        return conditionalRequests.exchange(restTemplate, url, method, entity);
+    }
+
     /**
      * Get the supported event types for this social media adapter
      */
@@ -5,10 +5,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import com.integrixs.adapters.core.AbstractOutboundAdapter;
 import com.integrixs.adapters.domain.model.AdapterConfiguration;
+import com.integrixs.adapters.infrastructure.service.OAuth2TokenManager;
 import com.integrixs.shared.dto.MessageDTO;
 import com.integrixs.shared.services.RateLimiterService;
 import com.integrixs.shared.services.CredentialEncryptionService;
 import com.integrixs.shared.enums.MessageStatus;
+import org.springframework.beans.factory.annotation.Autowired;
 import java.util.Map;
 import java.util.concurrent.Callable;
 
@@ -40,6 +42,20 @@ public abstract class AbstractSocialMediaOutboundAdapter extends AbstractOutboun
         this.credentialEncryptionService = credentialEncryptionService;
     }
 
+    private OAuth2TokenManager tokenManager;
+
+    @Autowired(required = false)
+    public void setTokenManager(OAuth2TokenManager tokenManager) {
+        this.tokenManager = tokenManager;
+    }
+
+    /**
+     * Get the shared OAuth2 token manager
+     */
+    protected OAuth2TokenManager getTokenManager() {
+        return tokenManager != null ? tokenManager : OAuth2TokenManager.shared();
+    }
+
     /**
      * Process a message to be sent to the social media platform
      */
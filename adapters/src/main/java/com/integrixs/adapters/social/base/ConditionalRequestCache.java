@@ -0,0 +1,128 @@
+package com.integrixs.adapters.social.base;
+
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Conditional GET support for polling requests.
+ * Remembers the ETag and Last - Modified validators per URL and sends them back as If - None - Match and
+ * If - Modified - Since, so unchanged resources cost a 304 instead of a full response. Each response is also
+ * fingerprinted per endpoint, which detects unchanged results from providers without validators.
+ * Outcomes are reported to the {@link SocialPollingScheduler} cycle running on the calling thread.
+ */
+public class ConditionalRequestCache {
+
+    private static final int MAX_ENTRIES = 512;
+
+    private final Map<String, Validators> validators = boundedMap();
+    private final Map<String, Long> fingerprints = boundedMap();
+
+    /**
+     * Execute a request, conditionally for GET requests
+     * @return Response, with status 304 and no body when the resource has not changed
+     */
+    public ResponseEntity<String> exchange(RestTemplate restTemplate, String url, HttpMethod method, HttpEntity<?> entity) {
+        HttpEntity<?> request = entity;
+        if(HttpMethod.GET.equals(method)) {
+            Validators known = validators.get(url);
+            if(known != null) {
+                HttpHeaders headers = new HttpHeaders();
+                headers.putAll(entity.getHeaders());
+                if(known.etag != null) {
+                    headers.set(HttpHeaders.IF_NONE_MATCH, known.etag);
+                }
+                if(known.lastModified != null) {
+                    headers.set(HttpHeaders.IF_MODIFIED_SINCE, known.lastModified);
+                }
+                request = new HttpEntity<>(entity.getBody(), headers);
+            }
+        }
+
+        ResponseEntity<String> response;
+        try {
+            response = restTemplate.exchange(url, method, request, String.class);
+        } catch(HttpStatusCodeException e) {
+            if(e.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+                SocialPollingScheduler.recordResponse(SocialPollingScheduler.PollOutcome.THROTTLED,
+                    retryAfterMillis(e.getResponseHeaders()));
+            } else {
+                SocialPollingScheduler.recordResponse(SocialPollingScheduler.PollOutcome.FAILED, 0);
+            }
+            throw e;
+        } catch(RuntimeException e) {
+            SocialPollingScheduler.recordResponse(SocialPollingScheduler.PollOutcome.FAILED, 0);
+            throw e;
+        }
+
+        if(response.getStatusCode().value() == HttpStatus.NOT_MODIFIED.value()) {
+            SocialPollingScheduler.recordResponse(SocialPollingScheduler.PollOutcome.UNCHANGED, 0);
+            return response;
+        }
+        if(response.getStatusCode().is2xxSuccessful()) {
+            if(HttpMethod.GET.equals(method)) {
+                String etag = response.getHeaders().getETag();
+                String lastModified = response.getHeaders().getFirst(HttpHeaders.LAST_MODIFIED);
+                if(etag != null || lastModified != null) {
+                    validators.put(url, new Validators(etag, lastModified));
+                }
+            }
+            boolean changed = recordFingerprint(method + " " + endpoint(url), response.getBody());
+            SocialPollingScheduler.recordResponse(changed
+                ? SocialPollingScheduler.PollOutcome.CHANGED
+                : SocialPollingScheduler.PollOutcome.UNCHANGED, 0);
+        }
+        return response;
+    }
+
+    private boolean recordFingerprint(String key, String body) {
+        long fingerprint = body == null ? 0 : ((long) body.length() << 32) ^ body.hashCode();
+        Long previous = fingerprints.put(key, fingerprint);
+        return !Objects.equals(previous, fingerprint);
+    }
+
+    private static String endpoint(String url) {
+        int query = url.indexOf('?');
+        return query >= 0 ? url.substring(0, query) : url;
+    }
+
+    private static long retryAfterMillis(HttpHeaders headers) {
+        String retryAfter = headers != null ? headers.getFirst(HttpHeaders.RETRY_AFTER) : null;
+        if(retryAfter != null) {
+            try {
+                return Long.parseLong(retryAfter.trim()) * 1000;
+            } catch(NumberFormatException e) {
+                // HTTP date form, fall back to the default backoff
+            }
+        }
+        return 0;
+    }
+
+    private static <V> Map<String, V> boundedMap() {
+        return Collections.synchronizedMap(new LinkedHashMap<String, V>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+                return size() > MAX_ENTRIES;
+            }
+        });
+    }
+
+    private static final class Validators {
+        private final String etag;
+        private final String lastModified;
+
+        Validators(String etag, String lastModified) {
+            this.etag = etag;
+            this.lastModified = lastModified;
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package com.integrixs.adapters.social.base;
+
+import com.integrixs.adapters.domain.service.PollerOwnershipService;
+import com.integrixs.shared.services.RateLimiterService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Shared polling scheduler for the social media inbound adapters.
+ *
+ * Every poller starts at its configured interval and adapts to what its cycles saw: a cycle that received new
+ * data halves the interval down to a floor, a cycle that only got 304 Not Modified or the same response as
+ * before backs off up to a ceiling, and 429 responses or failures back off further. Delays are jittered so
+ * pollers with the same interval do not fire together, and a cycle is deferred while the provider's rate
+ * limiter has no budget left.
+ */
+@Component
+public class SocialPollingScheduler implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(SocialPollingScheduler.class);
+
+    private static final ThreadLocal<CycleActivity> CURRENT_CYCLE = new ThreadLocal<>();
+
+    private final Environment environment;
+    private final RateLimiterService rateLimiterService;
+    private final ScheduledExecutorService executor;
+    private final Map<String, Poller> pollers = new ConcurrentHashMap<>();
+
+    private final double minFactor;
+    private final double maxFactor;
+    private final double backoffMultiplier;
+    private final double jitter;
+
+    private final LongAdder cycles = new LongAdder();
+    private final LongAdder deferredCycles = new LongAdder();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder changedCycles = new LongAdder();
+    private final LongAdder unchangedCycles = new LongAdder();
+    private final LongAdder throttledCycles = new LongAdder();
+
+    public SocialPollingScheduler(Environment environment,
+                                  ObjectProvider<RateLimiterService> rateLimiterService,
+                                  @Value("${integrixs.adapters.social.polling.threads:4}") int threads,
+                                  @Value("${integrixs.adapters.social.polling.min-factor:0.25}") double minFactor,
+                                  @Value("${integrixs.adapters.social.polling.max-factor:8}") double maxFactor,
+                                  @Value("${integrixs.adapters.social.polling.backoff-multiplier:1.5}") double backoffMultiplier,
+                                  @Value("${integrixs.adapters.social.polling.jitter:0.2}") double jitter) {
+        this.environment = environment;
+        this.rateLimiterService = rateLimiterService.getIfAvailable();
+        this.minFactor = minFactor;
+        this.maxFactor = maxFactor;
+        this.backoffMultiplier = backoffMultiplier;
+        this.jitter = jitter;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newScheduledThreadPool(threads, r -> {
+            Thread t = new Thread(r, "social - polling-" + threadNumber.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Schedule a poller, replacing an existing poller with the same ID
+     * @param pollerId Stable poller ID, also used for cluster ownership
+     * @param interval Base interval in milliseconds, may be a property placeholder
+     * @param rateLimiterName Provider rate limiter whose budget gates the cycles, null for none
+     * @param poll Polling cycle
+     */
+    public void schedule(String pollerId, String interval, String rateLimiterName, Runnable poll) {
+        long baseInterval = Long.parseLong(environment.resolvePlaceholders(interval).trim());
+        Poller poller = new Poller(pollerId, baseInterval, rateLimiterName, poll);
+        Poller previous = pollers.put(pollerId, poller);
+        if(previous != null) {
+            previous.cancel();
+        }
+        // Random first delay spreads pollers registered at the same time over one interval
+        poller.scheduleNext((long) (ThreadLocalRandom.current().nextDouble() * baseInterval));
+        log.debug("Scheduled social poller {} every {} ms", pollerId, baseInterval);
+    }
+
+    /**
+     * Cancel all pollers whose ID starts with a prefix
+     */
+    public void cancelAll(String pollerIdPrefix) {
+        pollers.entrySet().removeIf(entry -> {
+            if(entry.getKey().startsWith(pollerIdPrefix)) {
+                entry.getValue().cancel();
+                return true;
+            }
+            return false;
+        });
+    }
+
+    /**
+     * Get polling statistics
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("pollers", pollers.size());
+        stats.put("cycles", cycles.sum());
+        stats.put("deferredCycles", deferredCycles.sum());
+        stats.put("requests", requests.sum());
+        stats.put("changedCycles", changedCycles.sum());
+        stats.put("unchangedCycles", unchangedCycles.sum());
+        stats.put("throttledCycles", throttledCycles.sum());
+        Map<String, Long> intervals = new HashMap<>();
+        pollers.forEach((id, poller) -> intervals.put(id, poller.currentInterval));
+        stats.put("currentIntervals", intervals);
+        return stats;
+    }
+
+    @Override
+    public void destroy() {
+        pollers.values().forEach(Poller::cancel);
+        pollers.clear();
+        executor.shutdownNow();
+    }
+
+    /**
+     * Record the outcome of a request made by the polling cycle running on this thread
+     */
+    static void recordResponse(PollOutcome outcome, long retryAfterMillis) {
+        CycleActivity activity = CURRENT_CYCLE.get();
+        if(activity == null) {
+            return;
+        }
+        activity.requests++;
+        switch(outcome) {
+            case CHANGED:
+                activity.changed = true;
+                break;
+            case THROTTLED:
+                activity.retryAfterMillis = Math.max(activity.retryAfterMillis, Math.max(1, retryAfterMillis));
+                break;
+            case FAILED:
+                activity.failed = true;
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Outcome of a single request within a polling cycle
+     */
+    enum PollOutcome {
+        CHANGED,
+        UNCHANGED,
+        THROTTLED,
+        FAILED
+    }
+
+    private static final class CycleActivity {
+        private int requests;
+        private boolean changed;
+        private boolean failed;
+        private long retryAfterMillis;
+    }
+
+    private final class Poller implements Runnable {
+        private final String id;
+        private final long baseInterval;
+        private final long minInterval;
+        private final long maxInterval;
+        private final String rateLimiterName;
+        private final Runnable poll;
+
+        private volatile long currentInterval;
+        private volatile ScheduledFuture<?> future;
+        private volatile boolean cancelled;
+
+        Poller(String id, long baseInterval, String rateLimiterName, Runnable poll) {
+            this.id = id;
+            this.baseInterval = baseInterval;
+            this.minInterval = Math.max(1000, (long) (baseInterval * minFactor));
+            this.maxInterval = Math.max(baseInterval, (long) (baseInterval * maxFactor));
+            this.rateLimiterName = rateLimiterName;
+            this.poll = poll;
+            this.currentInterval = baseInterval;
+        }
+
+        @Override
+        public void run() {
+            if(cancelled) {
+                return;
+            }
+            long delay;
+            try {
+                delay = runCycle();
+            } catch(Exception e) {
+                log.error("Social poller {} failed", id, e);
+                currentInterval = Math.min(maxInterval, currentInterval * 2);
+                delay = currentInterval;
+            }
+            scheduleNext(jittered(delay));
+        }
+
+        private long runCycle() {
+            if(rateLimiterName != null && rateLimiterService != null) {
+                RateLimiterService.RateLimitResult budget = rateLimiterService.peekRateLimitStatus(rateLimiterName);
+                if(!budget.isAllowed()) {
+                    deferredCycles.increment();
+                    log.debug("Deferring social poller {}, rate limit {} exhausted", id, rateLimiterName);
+                    return Math.max(minInterval, budget.getWaitTimeMs());
+                }
+            }
+
+            CycleActivity activity = new CycleActivity();
+            CURRENT_CYCLE.set(activity);
+            try {
+                if(!PollerOwnershipService.current().runIfOwner(id, currentInterval, poll)) {
+                    return baseInterval;
+                }
+            } finally {
+                CURRENT_CYCLE.remove();
+            }
+            cycles.increment();
+            requests.add(activity.requests);
+
+            if(activity.retryAfterMillis > 0) {
+                throttledCycles.increment();
+                currentInterval = Math.min(maxInterval, Math.max(currentInterval * 2, activity.retryAfterMillis));
+                return Math.max(currentInterval, activity.retryAfterMillis);
+            }
+            if(activity.failed) {
+                currentInterval = Math.min(maxInterval, currentInterval * 2);
+            } else if(activity.changed) {
+                changedCycles.increment();
+                currentInterval = Math.max(minInterval, currentInterval / 2);
+            } else if(activity.requests > 0) {
+                unchangedCycles.increment();
+                currentInterval = Math.min(maxInterval, (long) (currentInterval * backoffMultiplier));
+            } else {
+                // Nothing was requested(adapter not listening or feature disabled)
+                currentInterval = baseInterval;
+            }
+            return currentInterval;
+        }
+
+        private long jittered(long delay) {
+            double spread = jitter * (2 * ThreadLocalRandom.current().nextDouble() - 1);
+            return Math.max(1, (long) (delay * (1 + spread)));
+        }
+
+        private void scheduleNext(long delay) {
+            if(!cancelled) {
+                future = executor.schedule(this, delay, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        private void cancel() {
+            cancelled = true;
+            ScheduledFuture<?> scheduled = future;
+            if(scheduled != null) {
+                scheduled.cancel(false);
+            }
+        }
+    }
+}
@@ -15,7 +15,6 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.*;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.client.HttpClientErrorException;
@@ -176,8 +175,17 @@ public class DiscordInboundAdapter extends AbstractSocialMediaInboundAdapter {
         }
     }
 
+    @Override
+    protected void registerPollers() {
+        schedulePolling("pollGuilds", "${integrixs.adapters.discord.polling.guilds:3600000}", null, this::pollGuilds);
+        schedulePolling("pollChannels", "${integrixs.adapters.discord.polling.channels:1800000}", null, this::pollChannels);
+        schedulePolling("pollMessages", "${integrixs.adapters.discord.polling.messages:300000}", null, this::pollMessages);
+        schedulePolling("pollMembers", "${integrixs.adapters.discord.polling.members:3600000}", null, this::pollMembers);
+        schedulePolling("pollScheduledEvents", "${integrixs.adapters.discord.polling.events:1800000}", null, this::pollScheduledEvents);
+        schedulePolling("pollVoiceStates", "${integrixs.adapters.discord.polling.voice:60000}", null, this::pollVoiceStates);
+    }
+
     // Guild polling
-    @Scheduled(fixedDelayString = "${integrixs.adapters.discord.polling.guilds:3600000}")
     public void pollGuilds() {
         // Check if guild polling is enabled
         if(config.getGuildId() == null) {
@@ -197,7 +205,6 @@ public class DiscordInboundAdapter extends AbstractSocialMediaInboundAdapter {
     }
 
     // Channel polling for specific guild
-    @Scheduled(fixedDelayString = "${integrixs.adapters.discord.polling.channels:1800000}")
     public void pollChannels() {
         // Check if channel polling is enabled
         if(config.getGuildId() == null) {
@@ -218,7 +225,6 @@ public class DiscordInboundAdapter extends AbstractSocialMediaInboundAdapter {
     }
 
     // MessageDTO polling for specific channels
-    @Scheduled(fixedDelayString = "${integrixs.adapters.discord.polling.messages:300000}")
     public void pollMessages() {
         // Check if message polling is enabled
         if(channelId == null || channelId.isEmpty()) {
@@ -245,7 +251,6 @@ public class DiscordInboundAdapter extends AbstractSocialMediaInboundAdapter {
     }
 
     // Member polling for specific guild
-    @Scheduled(fixedDelayString = "${integrixs.adapters.discord.polling.members:3600000}")
     public void pollMembers() {
         // Check if member polling is enabled
         if(config.getGuildId() == null) {
@@ -266,7 +271,6 @@ public class DiscordInboundAdapter extends AbstractSocialMediaInboundAdapter {
     }
 
     // Scheduled events polling
-    @Scheduled(fixedDelayString = "${integrixs.adapters.discord.polling.events:1800000}")
     public void pollScheduledEvents() {
         // Check if event polling is enabled
         if(config.getGuildId() == null) {
@@ -287,7 +291,6 @@ public class DiscordInboundAdapter extends AbstractSocialMediaInboundAdapter {
     }
 
     // Voice states polling
-    @Scheduled(fixedDelayString = "${integrixs.adapters.discord.polling.voice:60000}")
     public void pollVoiceStates() {
         if(!config.isEnableVoiceSupport()) {
             return;
@@ -3,13 +3,12 @@ package com.integrixs.adapters.social.facebook;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import com.integrixs.adapters.core.AbstractInboundAdapter;
+import com.integrixs.adapters.social.base.AbstractSocialMediaInboundAdapter;
 import com.integrixs.shared.dto.MessageDTO;
 import java.util.Map;
 import java.util.HashMap;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.client.RestTemplate;
@@ -34,7 +33,7 @@ import com.integrixs.adapters.core.AdapterResult;
  */
 @Component
 @ConditionalOnProperty(name = "integrixs.adapters.facebook.messenger.enabled", havingValue = "true", matchIfMissing = false)
-public class FacebookMessengerInboundAdapter extends AbstractInboundAdapter {
+public class FacebookMessengerInboundAdapter extends AbstractSocialMediaInboundAdapter {
     private static final Logger log = LoggerFactory.getLogger(FacebookMessengerInboundAdapter.class);
 
 
@@ -48,12 +47,27 @@ public class FacebookMessengerInboundAdapter extends AbstractInboundAdapter {
     @Autowired
     public FacebookMessengerInboundAdapter(RestTemplate restTemplate, ObjectMapper objectMapper,
                                          ApplicationEventPublisher eventPublisher) {
-        super(AdapterConfiguration.AdapterTypeEnum.REST);
+        super();
         this.restTemplate = restTemplate;
         this.objectMapper = objectMapper;
         this.eventPublisher = eventPublisher;
     }
 
+    @Override
+    protected List<String> getSupportedEventTypes() {
+        return Arrays.asList(
+                "messenger_message",
+                "messenger_postback",
+                "messenger_referral",
+                "messenger_optin",
+                "messenger_delivery",
+                "messenger_read",
+                "messenger_reaction",
+                "messenger_insight"
+       );
+    }
+
+    @Override
     protected Map<String, Object> getConfig() {
         return configuration;
     }
@@ -67,10 +81,15 @@ public class FacebookMessengerInboundAdapter extends AbstractInboundAdapter {
         return AdapterConfiguration.AdapterTypeEnum.REST;
     }
 
+    @Override
+    protected void registerPollers() {
+        schedulePolling("pollMessages", "${integrixs.adapters.facebook.messenger.polling.interval:60000}", null, this::pollMessages);
+        schedulePolling("pollInsights", "${integrixs.adapters.facebook.messenger.polling.insights - interval:3600000}", null, this::pollInsights);
+    }
+
     /**
      * Polls for recent conversations and messages
      */
-    @Scheduled(fixedDelayString = "${integrixs.adapters.facebook.messenger.polling.interval:60000}")
     public void pollMessages() {
         if(!Boolean.TRUE.equals(configuration.get("pollingEnabled"))) {
             return;
@@ -87,7 +106,6 @@ public class FacebookMessengerInboundAdapter extends AbstractInboundAdapter {
     /**
      * Polls for message insights and analytics
      */
-    @Scheduled(fixedDelayString = "${integrixs.adapters.facebook.messenger.polling.insights - interval:3600000}")
     public void pollInsights() {
         if(!Boolean.TRUE.equals(configuration.get("enableMessageInsights"))) {
             return;
@@ -21,7 +21,6 @@ import org.springframework.http.*;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.scheduling.annotation.Scheduled;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.Flux;
 import org.springframework.beans.factory.annotation.Value;
@@ -282,7 +281,14 @@ public class InstagramGraphInboundAdapter extends AbstractSocialMediaInboundAdap
         }
     }
 
-    @Scheduled(fixedDelayString = "${integrix.adapters.instagram.graph.insights-polling-interval:3600000}")
+    @Override
+    protected void registerPollers() {
+        schedulePolling("pollInsights", "${integrix.adapters.instagram.graph.insights-polling-interval:3600000}", "instagram_api", this::pollInsights);
+        schedulePolling("scheduledCommentPolling", "${integrix.adapters.instagram.graph.comment-polling-interval:300000}", "instagram_api", this::scheduledCommentPolling);
+        schedulePolling("scheduledMentionPolling", "${integrix.adapters.instagram.graph.mention-polling-interval:300000}", "instagram_api", this::scheduledMentionPolling);
+        schedulePolling("scheduledMediaPolling", "${integrix.adapters.instagram.graph.media-polling-interval:600000}", "instagram_api", this::scheduledMediaPolling);
+    }
+
     private void pollInsights() {
         if(!isListening || !config.isEnableInsights()) return;
 
@@ -524,7 +530,6 @@ public class InstagramGraphInboundAdapter extends AbstractSocialMediaInboundAdap
         return message;
     }
 
-    @Scheduled(fixedDelayString = "${integrix.adapters.instagram.graph.comment-polling-interval:300000}")
     private void scheduledCommentPolling() {
         if(!isListening || !config.isEnableCommentFiltering()) return;
         try {
@@ -534,7 +539,6 @@ public class InstagramGraphInboundAdapter extends AbstractSocialMediaInboundAdap
         }
     }
 
-    @Scheduled(fixedDelayString = "${integrix.adapters.instagram.graph.mention-polling-interval:300000}")
     private void scheduledMentionPolling() {
         if(!isListening) return;
         try {
@@ -544,7 +548,6 @@ public class InstagramGraphInboundAdapter extends AbstractSocialMediaInboundAdap
         }
     }
 
-    @Scheduled(fixedDelayString = "${integrix.adapters.instagram.graph.media-polling-interval:600000}")
     private void scheduledMediaPolling() {
         if(!isListening) return;
         try {
@@ -579,7 +582,7 @@ public class InstagramGraphInboundAdapter extends AbstractSocialMediaInboundAdap
         }
 
         HttpEntity<String> entity = new HttpEntity<>(headers);
-        return restTemplate.exchange(urlBuilder.toString(), method, entity, String.class);
+        return exchangeConditionally(restTemplate, urlBuilder.toString(), method, entity);
     }
 
     private String getAccessToken() {
@@ -22,7 +22,6 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
-import org.springframework.scheduling.annotation.Scheduled;
 
 import java.time.LocalDateTime;
 import java.time.Instant;
@@ -166,7 +165,17 @@ public class LinkedInAdsInboundAdapter extends AbstractSocialMediaInboundAdapter
     }
 
     // Scheduled polling methods
-    @Scheduled(fixedDelayString = "${integrixs.adapters.linkedin.ads.polling-intervals.campaign:300000}") // 5 minutes
+    @Override
+    protected void registerPollers() {
+        schedulePolling("pollCampaignPerformance", "${integrixs.adapters.linkedin.ads.polling-intervals.campaign:300000}", "linkedin_ads_api", this::pollCampaignPerformance); // 5 minutes
+        schedulePolling("pollAdGroupPerformance", "${integrixs.adapters.linkedin.ads.polling-intervals.ad-group:600000}", "linkedin_ads_api", this::pollAdGroupPerformance); // 10 minutes
+        schedulePolling("pollCreativePerformance", "${integrixs.adapters.linkedin.ads.polling-intervals.creative:900000}", "linkedin_ads_api", this::pollCreativePerformance); // 15 minutes
+        schedulePolling("pollAudienceInsights", "${integrixs.adapters.linkedin.ads.polling-intervals.audience:3600000}", "linkedin_ads_api", this::pollAudienceInsights); // 1 hour
+        schedulePolling("pollConversionEvents", "${integrixs.adapters.linkedin.ads.polling-intervals.conversion:1800000}", "linkedin_ads_api", this::pollConversionEvents); // 30 minutes
+        schedulePolling("checkBudgetAlerts", "${integrixs.adapters.linkedin.ads.polling-intervals.budget-check:600000}", "linkedin_ads_api", this::checkBudgetAlerts); // 10 minutes
+        schedulePolling("pollLeadGenForms", "${integrixs.adapters.linkedin.ads.polling-intervals.lead-gen:300000}", "linkedin_ads_api", this::pollLeadGenForms); // 5 minutes
+    }
+
     private void pollCampaignPerformance() {
         if(!isListening || !config.isEnableAnalytics()) return;
 
@@ -202,7 +211,6 @@ public class LinkedInAdsInboundAdapter extends AbstractSocialMediaInboundAdapter
         }
     }
 
-    @Scheduled(fixedDelayString = "${integrixs.adapters.linkedin.ads.polling-intervals.ad-group:600000}") // 10 minutes
     private void pollAdGroupPerformance() {
         if(!isListening || !config.isEnableAnalytics()) return;
 
@@ -232,7 +240,6 @@ public class LinkedInAdsInboundAdapter extends AbstractSocialMediaInboundAdapter
         }
     }
 
-    @Scheduled(fixedDelayString = "${integrixs.adapters.linkedin.ads.polling-intervals.creative:900000}") // 15 minutes
     private void pollCreativePerformance() {
         if(!isListening || !config.isEnableAnalytics()) return;
 
@@ -254,7 +261,6 @@ public class LinkedInAdsInboundAdapter extends AbstractSocialMediaInboundAdapter
         }
     }
 
-    @Scheduled(fixedDelayString = "${integrixs.adapters.linkedin.ads.polling-intervals.audience:3600000}") // 1 hour
     private void pollAudienceInsights() {
         if(!isListening || !config.isEnableAudienceTargeting()) return;
 
@@ -277,7 +283,6 @@ public class LinkedInAdsInboundAdapter extends AbstractSocialMediaInboundAdapter
         }
     }
 
-    @Scheduled(fixedDelayString = "${integrixs.adapters.linkedin.ads.polling-intervals.conversion:1800000}") // 30 minutes
     private void pollConversionEvents() {
         if(!isListening || !config.isEnableConversionTracking()) return;
 
@@ -302,7 +307,6 @@ public class LinkedInAdsInboundAdapter extends AbstractSocialMediaInboundAdapter
         }
     }
 
-    @Scheduled(fixedDelayString = "${integrixs.adapters.linkedin.ads.polling-intervals.budget-check:600000}") // 10 minutes
     private void checkBudgetAlerts() {
         if(!isListening || !config.isEnableBudgetManagement()) return;
 
@@ -327,7 +331,6 @@ public class LinkedInAdsInboundAdapter extends AbstractSocialMediaInboundAdapter
         }
     }
 
-    @Scheduled(fixedDelayString = "${integrixs.adapters.linkedin.ads.polling-intervals.lead-gen:300000}") // 5 minutes
     private void pollLeadGenForms() {
         if(!isListening || !config.isEnableLeadGenForms()) return;
 
@@ -547,7 +550,7 @@ public class LinkedInAdsInboundAdapter extends AbstractSocialMediaInboundAdapter
         }
 
         HttpEntity<String> entity = new HttpEntity<>(headers);
-        return restTemplate.exchange(urlBuilder.toString(), method, entity, String.class);
+        return exchangeConditionally(restTemplate, urlBuilder.toString(), method, entity);
     }
 
     private String getAccessToken() {
@@ -20,7 +20,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
-import org.springframework.scheduling.annotation.Scheduled;
 
 import java.time.LocalDateTime;
 import java.time.Instant;
@@ -178,7 +177,16 @@ public class LinkedInInboundAdapter extends AbstractSocialMediaInboundAdapter {
         }
     }
 
-    @Scheduled(fixedDelayString = "${integrixs.adapters.linkedin.feedPollingInterval:300000}") // 5 minutes
+    @Override
+    protected void registerPollers() {
+        schedulePolling("pollFeed", "${integrixs.adapters.linkedin.feedPollingInterval:300000}", "linkedin_api", this::pollFeed); // 5 minutes
+        schedulePolling("pollComments", "${integrixs.adapters.linkedin.commentPollingInterval:600000}", "linkedin_api", this::pollComments); // 10 minutes
+        schedulePolling("pollMessages", "${integrixs.adapters.linkedin.messagePollingInterval:120000}", "linkedin_api", this::pollMessages); // 2 minutes
+        schedulePolling("pollConnections", "${integrixs.adapters.linkedin.connectionPollingInterval:3600000}", "linkedin_api", this::pollConnections); // 1 hour
+        schedulePolling("pollAnalytics", "${integrixs.adapters.linkedin.analyticsPollingInterval:1800000}", "linkedin_api", this::pollAnalytics); // 30 minutes
+        schedulePolling("pollOrganizationActivity", "${integrixs.adapters.linkedin.organizationPollingInterval:600000}", "linkedin_api", this::pollOrganizationActivity); // 10 minutes
+    }
+
     private void pollFeed() {
         if(!isListening) return;
 
@@ -216,7 +224,6 @@ public class LinkedInInboundAdapter extends AbstractSocialMediaInboundAdapter {
         }
     }
 
-    @Scheduled(fixedDelayString = "${integrixs.adapters.linkedin.commentPollingInterval:600000}") // 10 minutes
     private void pollComments() {
         if(!isListening) return;
 
@@ -241,7 +248,6 @@ public class LinkedInInboundAdapter extends AbstractSocialMediaInboundAdapter {
         }
     }
 
-    @Scheduled(fixedDelayString = "${integrixs.adapters.linkedin.messagePollingInterval:120000}") // 2 minutes
     private void pollMessages() {
         if(!isListening) return;
 
@@ -269,7 +275,6 @@ public class LinkedInInboundAdapter extends AbstractSocialMediaInboundAdapter {
         }
     }
 
-    @Scheduled(fixedDelayString = "${integrixs.adapters.linkedin.connectionPollingInterval:3600000}") // 1 hour
     private void pollConnections() {
         if(!isListening) return;
 
@@ -292,7 +297,6 @@ public class LinkedInInboundAdapter extends AbstractSocialMediaInboundAdapter {
         }
     }
 
-    @Scheduled(fixedDelayString = "${integrixs.adapters.linkedin.analyticsPollingInterval:1800000}") // 30 minutes
     private void pollAnalytics() {
         if(!isListening) return;
 
@@ -323,7 +327,6 @@ public class LinkedInInboundAdapter extends AbstractSocialMediaInboundAdapter {
         }
     }
 
-    @Scheduled(fixedDelayString = "${integrixs.adapters.linkedin.organizationPollingInterval:600000}") // 10 minutes
     private void pollOrganizationActivity() {
         if(!isListening || config.getOrganizationId() == null) {
             return;
@@ -577,7 +580,7 @@ public class LinkedInInboundAdapter extends AbstractSocialMediaInboundAdapter {
         }
 
         HttpEntity<String> entity = new HttpEntity<>(headers);
-        return restTemplate.exchange(urlBuilder.toString(), method, entity, String.class);
+        return exchangeConditionally(restTemplate, urlBuilder.toString(), method, entity);
     }
 
     private String getAccessToken() {
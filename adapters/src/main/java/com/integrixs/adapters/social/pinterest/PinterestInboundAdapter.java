@@ -14,7 +14,6 @@ import com.integrixs.shared.services.RateLimiterService;
 import com.integrixs.shared.services.CredentialEncryptionService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
@@ -72,10 +71,17 @@ public class PinterestInboundAdapter extends AbstractSocialMediaInboundAdapter {
         return getConfig();
     }
 
+    @Override
+    protected void registerPollers() {
+        schedulePolling("pollPins", "${integrixs.adapters.pinterest.polling.pins - interval:300000}", null, this::pollPins);
+        schedulePolling("pollBoards", "${integrixs.adapters.pinterest.polling.boards - interval:600000}", null, this::pollBoards);
+        schedulePolling("pollAnalytics", "${integrixs.adapters.pinterest.polling.analytics - interval:3600000}", null, this::pollAnalytics);
+        schedulePolling("pollAds", "${integrixs.adapters.pinterest.polling.ads - interval:900000}", null, this::pollAds);
+    }
+
     /**
      * Polls for user's pins
      */
-    @Scheduled(fixedDelayString = "${integrixs.adapters.pinterest.polling.pins - interval:300000}")
     public void pollPins() {
         if(!config.isEnabled() || !config.getFeatures().isEnablePinManagement()) {
             return;
@@ -93,7 +99,6 @@ public class PinterestInboundAdapter extends AbstractSocialMediaInboundAdapter {
     /**
      * Polls for user's boards
      */
-    @Scheduled(fixedDelayString = "${integrixs.adapters.pinterest.polling.boards - interval:600000}")
     public void pollBoards() {
         if(!config.isEnabled() || !config.getFeatures().isEnableBoardManagement()) {
             return;
@@ -111,7 +116,6 @@ public class PinterestInboundAdapter extends AbstractSocialMediaInboundAdapter {
     /**
      * Polls for analytics data
      */
-    @Scheduled(fixedDelayString = "${integrixs.adapters.pinterest.polling.analytics - interval:3600000}")
     public void pollAnalytics() {
         if(!config.getFeatures().isEnableAnalytics()) {
             return;
@@ -128,7 +132,6 @@ public class PinterestInboundAdapter extends AbstractSocialMediaInboundAdapter {
     /**
      * Polls for ad account data(campaigns, ad groups, ads)
      */
-    @Scheduled(fixedDelayString = "${integrixs.adapters.pinterest.polling.ads - interval:900000}")
     public void pollAds() {
         if(!config.getFeatures().isEnableAds() || !StringUtils.hasText(config.getAdvertiserId())) {
             return;
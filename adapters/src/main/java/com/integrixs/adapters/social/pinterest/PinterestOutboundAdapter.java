@@ -11,6 +11,7 @@ import com.integrixs.adapters.social.base.SocialMediaAdapterConfig;
 import com.integrixs.shared.dto.MessageDTO;
 import com.integrixs.shared.services.RateLimiterService;
 import com.integrixs.shared.services.CredentialEncryptionService;
+import com.integrixs.shared.util.JsonCodec;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.*;
@@ -35,7 +36,7 @@ public class PinterestOutboundAdapter extends AbstractSocialMediaOutboundAdapter
 
     private final PinterestApiConfig config;
     private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectMapper objectMapper = JsonCodec.mapper();
 
     @Autowired
     public PinterestOutboundAdapter(
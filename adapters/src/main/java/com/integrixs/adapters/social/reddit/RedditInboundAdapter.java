@@ -13,7 +13,6 @@ import com.integrixs.shared.services.RateLimiterService;
 import com.integrixs.shared.services.CredentialEncryptionService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
@@ -72,10 +71,17 @@ public class RedditInboundAdapter extends AbstractSocialMediaInboundAdapter {
         return getConfig();
     }
 
+    @Override
+    protected void registerPollers() {
+        schedulePolling("pollSubredditPosts", "${integrixs.adapters.reddit.polling.posts - interval:300000}", null, this::pollSubredditPosts);
+        schedulePolling("pollComments", "${integrixs.adapters.reddit.polling.comments - interval:600000}", null, this::pollComments);
+        schedulePolling("pollMessages", "${integrixs.adapters.reddit.polling.messages - interval:300000}", null, this::pollMessages);
+        schedulePolling("pollModQueue", "${integrixs.adapters.reddit.polling.modqueue - interval:180000}", null, this::pollModQueue);
+    }
+
     /**
      * Polls for new posts in monitored subreddits
      */
-    @Scheduled(fixedDelayString = "${integrixs.adapters.reddit.polling.posts - interval:300000}")
     public void pollSubredditPosts() {
         if(!config.getPollingConfig().isEnabled() || !config.getFeatures().isEnableSubredditMonitoring()) {
             return;
@@ -105,7 +111,6 @@ public class RedditInboundAdapter extends AbstractSocialMediaInboundAdapter {
     /**
      * Polls for comments on tracked posts
      */
-    @Scheduled(fixedDelayString = "${integrixs.adapters.reddit.polling.comments - interval:600000}")
     public void pollComments() {
         if(!config.getPollingConfig().isEnabled() || !config.getFeatures().isEnableCommentManagement()) {
             return;
@@ -131,7 +136,6 @@ public class RedditInboundAdapter extends AbstractSocialMediaInboundAdapter {
     /**
      * Polls for private messages and notifications
      */
-    @Scheduled(fixedDelayString = "${integrixs.adapters.reddit.polling.messages - interval:300000}")
     public void pollMessages() {
         if(!config.getPollingConfig().isEnabled() || !config.getFeatures().isEnablePrivateMessages()) {
             return;
@@ -149,7 +153,6 @@ public class RedditInboundAdapter extends AbstractSocialMediaInboundAdapter {
     /**
      * Polls for moderation queue items
      */
-    @Scheduled(fixedDelayString = "${integrixs.adapters.reddit.polling.modqueue - interval:180000}")
     public void pollModQueue() {
         if(!config.getFeatures().isEnableModeration()) {
             return;
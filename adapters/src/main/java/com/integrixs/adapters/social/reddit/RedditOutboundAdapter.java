@@ -10,7 +10,9 @@ import com.integrixs.shared.dto.MessageDTO;
 import com.integrixs.shared.config.AdapterConfig;
 import com.integrixs.shared.services.RateLimiterService;
 import com.integrixs.shared.services.CredentialEncryptionService;
+import com.integrixs.shared.util.JsonCodec;
 import com.integrixs.adapters.core.AdapterResult;
+import com.integrixs.adapters.infrastructure.service.OAuth2Credential;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.*;
@@ -18,6 +20,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.util.StringUtils;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -37,8 +40,7 @@ public class RedditOutboundAdapter extends AbstractSocialMediaOutboundAdapter {
 
     private final RedditApiConfig config;
     private final RestTemplate restTemplate;
-    private String accessToken;
-    private long tokenExpiry;
+    private volatile OAuth2Credential credential;
 
     @Autowired
     public RedditOutboundAdapter(
@@ -211,44 +213,31 @@ public class RedditOutboundAdapter extends AbstractSocialMediaOutboundAdapter {
         }
     }
 
-    private void ensureAccessToken() throws Exception {
-        if(accessToken == null || System.currentTimeMillis() > tokenExpiry) {
-            refreshAccessToken();
-        }
+    private void ensureAccessToken() {
+        getTokenManager().getAccessToken(getCredential());
     }
 
-    private void refreshAccessToken() throws Exception {
-        String tokenUrl = "https://www.reddit.com/api/v1/access_token";
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
-        headers.setBasicAuth(config.getClientId(), getDecryptedCredential("clientSecret"));
-        headers.set("User - Agent", config.getUserAgent());
-
-        MultiValueMap<String, String> body = new LinkedMultiValueMap<>();
-
-        if(StringUtils.hasText(config.getRefreshToken())) {
-            // Use refresh token if available
-            body.add("grant_type", "refresh_token");
-            body.add("refresh_token", getDecryptedCredential("refreshToken"));
-        } else {
-            // Use password grant(script app)
-            body.add("grant_type", "password");
-            body.add("username", config.getUsername());
-            body.add("password", getDecryptedCredential("password"));
-        }
-
-        HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(body, headers);
-        ResponseEntity<Map> response = restTemplate.postForEntity(tokenUrl, request, Map.class);
-
-        if(response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-            Map<String, Object> tokenData = response.getBody();
-            accessToken = (String) tokenData.get("access_token");
-            int expiresIn = ((Number) tokenData.get("expires_in")).intValue();
-            tokenExpiry = System.currentTimeMillis() + (expiresIn * 1000L) - 60000; // Refresh 1 minute early
-        } else {
-            throw new RuntimeException("Failed to obtain Reddit access token");
+    private OAuth2Credential getCredential() {
+        OAuth2Credential current = credential;
+        if(current == null) {
+            OAuth2Credential.Builder builder = OAuth2Credential.builder()
+                    .tokenUrl("https://www.reddit.com/api/v1/access_token")
+                    .clientId(config.getClientId())
+                    .clientSecret(getDecryptedCredential("clientSecret"))
+                    .header("User - Agent", config.getUserAgent());
+            if(StringUtils.hasText(config.getRefreshToken())) {
+                // Use refresh token if available
+                builder.refreshToken(getDecryptedCredential("refreshToken"));
+            } else {
+                // Use password grant(script app)
+                builder.grantType("password")
+                        .username(config.getUsername())
+                        .password(getDecryptedCredential("password"));
+            }
+            current = builder.build();
+            credential = current;
         }
+        return current;
     }
 
     private MessageDTO submitPost(MessageDTO message) throws Exception {
@@ -953,7 +942,7 @@ public class RedditOutboundAdapter extends AbstractSocialMediaOutboundAdapter {
         headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
 
         HttpEntity<MultiValueMap<String, String>> entity = new HttpEntity<>(params, headers);
-        ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.POST, entity, String.class);
+        ResponseEntity<String> response = exchange(url, HttpMethod.POST, entity);
 
         return response.getBody();
     }
@@ -963,7 +952,7 @@ public class RedditOutboundAdapter extends AbstractSocialMediaOutboundAdapter {
         headers.setContentType(MediaType.APPLICATION_JSON);
 
         HttpEntity<Map<String, Object>> entity = new HttpEntity<>(data, headers);
-        ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.POST, entity, String.class);
+        ResponseEntity<String> response = exchange(url, HttpMethod.POST, entity);
 
         return response.getBody();
     }
@@ -973,7 +962,7 @@ public class RedditOutboundAdapter extends AbstractSocialMediaOutboundAdapter {
         headers.setContentType(MediaType.APPLICATION_JSON);
 
         HttpEntity<Map<String, Object>> entity = new HttpEntity<>(data, headers);
-        ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.PUT, entity, String.class);
+        ResponseEntity<String> response = exchange(url, HttpMethod.PUT, entity);
 
         return response.getBody();
     }
@@ -997,7 +986,7 @@ public class RedditOutboundAdapter extends AbstractSocialMediaOutboundAdapter {
         }
 
         HttpEntity<Void> entity = new HttpEntity<>(headers);
-        ResponseEntity<String> response = restTemplate.exchange(urlWithParams.toString(), HttpMethod.GET, entity, String.class);
+        ResponseEntity<String> response = exchange(urlWithParams.toString(), HttpMethod.GET, entity);
 
         return response.getBody();
     }
@@ -1005,18 +994,31 @@ public class RedditOutboundAdapter extends AbstractSocialMediaOutboundAdapter {
     private String makeDeleteRequest(String url) throws Exception {
         HttpHeaders headers = createHeaders();
         HttpEntity<Void> entity = new HttpEntity<>(headers);
-        ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.DELETE, entity, String.class);
+        ResponseEntity<String> response = exchange(url, HttpMethod.DELETE, entity);
 
         return response.getBody();
     }
 
     private HttpHeaders createHeaders() throws Exception {
         HttpHeaders headers = new HttpHeaders();
-        headers.setBearerAuth(accessToken);
+        headers.setBearerAuth(getTokenManager().getAccessToken(getCredential()));
         headers.set("User - Agent", config.getUserAgent());
         return headers;
     }
 
+    private <T> ResponseEntity<String> exchange(String url, HttpMethod method, HttpEntity<T> entity) {
+        try {
+            return restTemplate.exchange(url, method, entity, String.class);
+        } catch(HttpClientErrorException.Unauthorized e) {
+            // Re - fetch the rejected token once and retry
+            String rejectedToken = entity.getHeaders().getFirst(HttpHeaders.AUTHORIZATION).substring("Bearer ".length());
+            HttpHeaders headers = new HttpHeaders();
+            headers.putAll(entity.getHeaders());
+            headers.setBearerAuth(getTokenManager().onUnauthorized(getCredential(), rejectedToken));
+            return restTemplate.exchange(url, method, new HttpEntity<>(entity.getBody(), headers), String.class);
+        }
+    }
+
     @Override
     public AdapterConfiguration.AdapterTypeEnum getAdapterType() {
         return AdapterConfiguration.AdapterTypeEnum.REST;
@@ -1036,7 +1038,7 @@ public class RedditOutboundAdapter extends AbstractSocialMediaOutboundAdapter {
     private Map<String, Object> getPayloadAsMap(MessageDTO message) {
         try {
             if (message.getPayload() != null) {
-                return new ObjectMapper().readValue(message.getPayload(), Map.class);
+                return JsonCodec.mapper().readValue(message.getPayload(), Map.class);
             }
         } catch (Exception e) {
             log.error("Error parsing payload as map", e);
@@ -14,7 +14,6 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.JsonNode;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.*;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.client.HttpClientErrorException;
@@ -122,8 +121,17 @@ public class SnapchatAdsInboundAdapter extends AbstractSocialMediaInboundAdapter
         }
     }
 
+    @Override
+    protected void registerPollers() {
+        schedulePolling("pollCampaigns", "${integrixs.adapters.snapchat.ads.polling.campaigns:300000}", null, this::pollCampaigns);
+        schedulePolling("pollAdSquads", "${integrixs.adapters.snapchat.ads.polling.adsquads:300000}", null, this::pollAdSquads);
+        schedulePolling("pollCreatives", "${integrixs.adapters.snapchat.ads.polling.creatives:600000}", null, this::pollCreatives);
+        schedulePolling("pollAudiences", "${integrixs.adapters.snapchat.ads.polling.audiences:3600000}", null, this::pollAudiences);
+        schedulePolling("pollPixelEvents", "${integrixs.adapters.snapchat.ads.polling.pixels:900000}", null, this::pollPixelEvents);
+        schedulePolling("pollReports", "${integrixs.adapters.snapchat.ads.polling.reports:1800000}", null, this::pollReports);
+    }
+
     // Campaign Management Polling
-    @Scheduled(fixedDelayString = "${integrixs.adapters.snapchat.ads.polling.campaigns:300000}")
     public void pollCampaigns() {
         if(!config.getFeatures().isEnableCampaignManagement()) {
             return;
@@ -144,7 +152,6 @@ public class SnapchatAdsInboundAdapter extends AbstractSocialMediaInboundAdapter
     }
 
     // Ad Squad Polling
-    @Scheduled(fixedDelayString = "${integrixs.adapters.snapchat.ads.polling.adsquads:300000}")
     public void pollAdSquads() {
         if(!config.getFeatures().isEnableAdManagement()) {
             return;
@@ -165,7 +172,6 @@ public class SnapchatAdsInboundAdapter extends AbstractSocialMediaInboundAdapter
     }
 
     // Creative Polling
-    @Scheduled(fixedDelayString = "${integrixs.adapters.snapchat.ads.polling.creatives:600000}")
     public void pollCreatives() {
         if(!config.getFeatures().isEnableCreativeManagement()) {
             return;
@@ -186,7 +192,6 @@ public class SnapchatAdsInboundAdapter extends AbstractSocialMediaInboundAdapter
     }
 
     // Audience Polling
-    @Scheduled(fixedDelayString = "${integrixs.adapters.snapchat.ads.polling.audiences:3600000}")
     public void pollAudiences() {
         if(!config.getFeatures().isEnableAudienceManagement()) {
             return;
@@ -207,7 +212,6 @@ public class SnapchatAdsInboundAdapter extends AbstractSocialMediaInboundAdapter
     }
 
     // Pixel Events Polling
-    @Scheduled(fixedDelayString = "${integrixs.adapters.snapchat.ads.polling.pixels:900000}")
     public void pollPixelEvents() {
         if(!config.getFeatures().isEnablePixelTracking() || config.getPixelId() == null) {
             return;
@@ -233,7 +237,6 @@ public class SnapchatAdsInboundAdapter extends AbstractSocialMediaInboundAdapter
     }
 
     // Reporting and Analytics Polling
-    @Scheduled(fixedDelayString = "${integrixs.adapters.snapchat.ads.polling.reports:1800000}")
     public void pollReports() {
         if(!config.getFeatures().isEnableReporting()) {
             return;
@@ -634,9 +637,10 @@ public class SnapchatAdsInboundAdapter extends AbstractSocialMediaInboundAdapter
             HttpEntity<?> entity = body != null ?
                 new HttpEntity<>(body, headers) : new HttpEntity<>(headers);
 
-            ResponseEntity<String> response = restTemplate.exchange(
-                url, method, entity, String.class
-           );
+            ResponseEntity<String> response = exchangeConditionally(restTemplate, url, method, entity);
+            if(response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                return null;
+            }
 
             return objectMapper.readTree(response.getBody());
         } catch(HttpClientErrorException e) {
@@ -13,7 +13,6 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.JsonNode;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.*;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.client.HttpClientErrorException;
@@ -105,8 +104,16 @@ public class TelegramBotInboundAdapter extends AbstractSocialMediaInboundAdapter
         }
     }
 
+    @Override
+    protected void registerPollers() {
+        schedulePolling("pollUpdates", "${integrixs.adapters.telegram.bot.polling.interval:1000}", null, this::pollUpdates);
+        schedulePolling("pollBotInfo", "${integrixs.adapters.telegram.bot.polling.botInfo:3600000}", null, this::pollBotInfo);
+        schedulePolling("pollChats", "${integrixs.adapters.telegram.bot.polling.chats:1800000}", null, this::pollChats);
+        schedulePolling("pollCommands", "${integrixs.adapters.telegram.bot.polling.commands:3600000}", null, this::pollCommands);
+        schedulePolling("pollStickerSets", "${integrixs.adapters.telegram.bot.polling.stickers:7200000}", null, this::pollStickerSets);
+    }
+
     // Polling for updates(when webhooks are not used)
-    @Scheduled(fixedDelayString = "${integrixs.adapters.telegram.bot.polling.interval:1000}")
     public void pollUpdates() {
         if(!config.getFeatures().isEnablePolling() ||
             (config.getFeatures().isEnableWebhooks() && config.getWebhookUrl() != null)) {
@@ -258,7 +265,6 @@ public class TelegramBotInboundAdapter extends AbstractSocialMediaInboundAdapter
     }
 
     // Bot info polling
-    @Scheduled(fixedDelayString = "${integrixs.adapters.telegram.bot.polling.botInfo:3600000}")
     public void pollBotInfo() {
         try {
             log.debug("Polling Telegram bot info");
@@ -273,7 +279,6 @@ public class TelegramBotInboundAdapter extends AbstractSocialMediaInboundAdapter
     }
 
     // Chat info polling
-    @Scheduled(fixedDelayString = "${integrixs.adapters.telegram.bot.polling.chats:1800000}")
     public void pollChats() {
         if(!config.getFeatures().isEnableGroupManagement() || config.getDefaultChatId() == null) {
             return;
@@ -306,7 +311,6 @@ public class TelegramBotInboundAdapter extends AbstractSocialMediaInboundAdapter
     }
 
     // Commands polling
-    @Scheduled(fixedDelayString = "${integrixs.adapters.telegram.bot.polling.commands:3600000}")
     public void pollCommands() {
         if(!config.getFeatures().isEnableCommands()) {
             return;
@@ -325,7 +329,6 @@ public class TelegramBotInboundAdapter extends AbstractSocialMediaInboundAdapter
     }
 
     // Sticker sets polling
-    @Scheduled(fixedDelayString = "${integrixs.adapters.telegram.bot.polling.stickers:7200000}")
     public void pollStickerSets() {
         if(!config.getFeatures().isEnableStickers()) {
             return;
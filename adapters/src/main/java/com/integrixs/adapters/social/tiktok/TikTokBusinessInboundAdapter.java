@@ -22,7 +22,6 @@ import org.springframework.http.*;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
-import org.springframework.scheduling.annotation.Scheduled;
 
 import java.time.LocalDateTime;
 import java.time.LocalDate;
@@ -225,7 +224,15 @@ public class TikTokBusinessInboundAdapter extends AbstractSocialMediaInboundAdap
         }
     }
 
-    @Scheduled(fixedDelayString = "${integrixs.adapters.tiktok.business.campaignPollInterval:1800000}") // 30 minutes
+    @Override
+    protected void registerPollers() {
+        schedulePolling("pollCampaigns", "${integrixs.adapters.tiktok.business.campaignPollInterval:1800000}", "tiktok_business_api", this::pollCampaigns); // 30 minutes
+        schedulePolling("pollReports", "${integrixs.adapters.tiktok.business.reportPollInterval:7200000}", "tiktok_business_api", this::pollReports); // 2 hours
+        schedulePolling("pollCreatives", "${integrixs.adapters.tiktok.business.creativePollInterval:3600000}", "tiktok_business_api", this::pollCreatives); // 1 hour
+        schedulePolling("pollConversions", "${integrixs.adapters.tiktok.business.conversionPollInterval:1800000}", "tiktok_business_api", this::pollConversions); // 30 minutes
+        schedulePolling("pollPixelEvents", "${integrixs.adapters.tiktok.business.pixelPollInterval:900000}", "tiktok_business_api", this::pollPixelEvents); // 15 minutes
+    }
+
     private void pollCampaigns() {
         if(!isListening || !config.getFeatures().isEnableCampaignManagement()) return;
 
@@ -249,7 +256,6 @@ public class TikTokBusinessInboundAdapter extends AbstractSocialMediaInboundAdap
         }
     }
 
-    @Scheduled(fixedDelayString = "${integrixs.adapters.tiktok.business.reportPollInterval:7200000}") // 2 hours
     private void pollReports() {
         if(!isListening || !config.getFeatures().isEnableReporting()) return;
 
@@ -282,7 +288,6 @@ public class TikTokBusinessInboundAdapter extends AbstractSocialMediaInboundAdap
         }
     }
 
-    @Scheduled(fixedDelayString = "${integrixs.adapters.tiktok.business.creativePollInterval:3600000}") // 1 hour
     private void pollCreatives() {
         if(!isListening || !config.getFeatures().isEnableCreativeManagement()) return;
 
@@ -306,7 +311,6 @@ public class TikTokBusinessInboundAdapter extends AbstractSocialMediaInboundAdap
         }
     }
 
-    @Scheduled(fixedDelayString = "${integrixs.adapters.tiktok.business.conversionPollInterval:1800000}") // 30 minutes
     private void pollConversions() {
         if(!isListening || !config.getFeatures().isEnableConversionTracking()) return;
 
@@ -333,7 +337,6 @@ public class TikTokBusinessInboundAdapter extends AbstractSocialMediaInboundAdap
         }
     }
 
-    @Scheduled(fixedDelayString = "${integrixs.adapters.tiktok.business.pixelPollInterval:900000}") // 15 minutes
     private void pollPixelEvents() {
         if(!isListening || !config.getFeatures().isEnablePixelTracking()) return;
 
@@ -577,7 +580,7 @@ public class TikTokBusinessInboundAdapter extends AbstractSocialMediaInboundAdap
             entity = new HttpEntity<>(headers);
         }
 
-        return restTemplate.exchange(builder.toUriString(), method, entity, String.class);
+        return exchangeConditionally(restTemplate, builder.toUriString(), method, entity);
     }
 
     private boolean verifyWebhookSignature(Map<String, Object> webhookData) {
@@ -24,7 +24,6 @@ import org.springframework.http.*;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
-import org.springframework.scheduling.annotation.Scheduled;
 
 import java.time.LocalDateTime;
 import java.time.Instant;
@@ -280,7 +279,15 @@ public class TikTokContentInboundAdapter extends AbstractSocialMediaInboundAdapt
         }
     }
 
-    @Scheduled(fixedDelayString = "${integrixs.adapters.tiktok.content.commentPollInterval:1800000}") // 30 minutes
+    @Override
+    protected void registerPollers() {
+        schedulePolling("pollComments", "${integrixs.adapters.tiktok.content.commentPollInterval:1800000}", "tiktok_content_api", this::pollComments); // 30 minutes
+        schedulePolling("pollEngagement", "${integrixs.adapters.tiktok.content.engagementPollInterval:900000}", "tiktok_content_api", this::pollEngagement); // 15 minutes
+        schedulePolling("pollTrending", "${integrixs.adapters.tiktok.content.trendingPollInterval:7200000}", "tiktok_content_api", this::pollTrending); // 2 hours
+        schedulePolling("pollFollowers", "${integrixs.adapters.tiktok.content.followerPollInterval:21600000}", "tiktok_content_api", this::pollFollowers); // 6 hours
+        schedulePolling("pollHashtags", "${integrixs.adapters.tiktok.content.hashtagPollInterval:14400000}", "tiktok_content_api", this::pollHashtags); // 4 hours
+    }
+
     private void pollComments() {
         if(!isListening || !config.getFeatures().isEnableCommentManagement()) return;
 
@@ -307,7 +314,6 @@ public class TikTokContentInboundAdapter extends AbstractSocialMediaInboundAdapt
         }
     }
 
-    @Scheduled(fixedDelayString = "${integrixs.adapters.tiktok.content.engagementPollInterval:900000}") // 15 minutes
     private void pollEngagement() {
         if(!isListening || !config.getFeatures().isEnableEngagementMetrics()) return;
 
@@ -329,7 +335,6 @@ public class TikTokContentInboundAdapter extends AbstractSocialMediaInboundAdapt
         }
     }
 
-    @Scheduled(fixedDelayString = "${integrixs.adapters.tiktok.content.trendingPollInterval:7200000}") // 2 hours
     private void pollTrending() {
         if(!isListening || !config.getFeatures().isEnableTrendingContent()) return;
 
@@ -352,7 +357,6 @@ public class TikTokContentInboundAdapter extends AbstractSocialMediaInboundAdapt
         }
     }
 
-    @Scheduled(fixedDelayString = "${integrixs.adapters.tiktok.content.followerPollInterval:21600000}") // 6 hours
     private void pollFollowers() {
         if(!isListening || !config.getFeatures().isEnableFollowerAnalytics()) return;
 
@@ -376,7 +380,6 @@ public class TikTokContentInboundAdapter extends AbstractSocialMediaInboundAdapt
         }
     }
 
-    @Scheduled(fixedDelayString = "${integrixs.adapters.tiktok.content.hashtagPollInterval:14400000}") // 4 hours
     private void pollHashtags() {
         if(!isListening || !config.getFeatures().isEnableHashtagAnalytics()) return;
 
@@ -664,7 +667,7 @@ public class TikTokContentInboundAdapter extends AbstractSocialMediaInboundAdapt
             entity = new HttpEntity<>(headers);
         }
 
-        return restTemplate.exchange(builder.toUriString(), method, entity, String.class);
+        return exchangeConditionally(restTemplate, builder.toUriString(), method, entity);
     }
 
     private boolean verifyWebhookSignature(Map<String, Object> webhookData) {
@@ -22,7 +22,6 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.time.LocalDateTime;
@@ -146,7 +145,16 @@ public class TwitterAdsInboundAdapter extends AbstractSocialMediaInboundAdapter
     }
 
     // Scheduled polling methods
-    @Scheduled(fixedDelayString = "${integrixs.adapters.twitter.ads.campaignPollingInterval:300000}") // 5 minutes
+    @Override
+    protected void registerPollers() {
+        schedulePolling("pollCampaignPerformance", "${integrixs.adapters.twitter.ads.campaignPollingInterval:300000}", "twitter_ads_api", this::pollCampaignPerformance); // 5 minutes
+        schedulePolling("pollAdGroupPerformance", "${integrixs.adapters.twitter.ads.adGroupPollingInterval:600000}", "twitter_ads_api", this::pollAdGroupPerformance); // 10 minutes
+        schedulePolling("pollCreativePerformance", "${integrixs.adapters.twitter.ads.creativePollingInterval:900000}", "twitter_ads_api", this::pollCreativePerformance); // 15 minutes
+        schedulePolling("pollAudienceInsights", "${integrixs.adapters.twitter.ads.audiencePollingInterval:3600000}", "twitter_ads_api", this::pollAudienceInsights); // 1 hour
+        schedulePolling("pollConversionEvents", "${integrixs.adapters.twitter.ads.conversionPollingInterval:1800000}", "twitter_ads_api", this::pollConversionEvents); // 30 minutes
+        schedulePolling("checkBudgetAlerts", "${integrixs.adapters.twitter.ads.budgetCheckInterval:600000}", "twitter_ads_api", this::checkBudgetAlerts); // 10 minutes
+    }
+
     private void pollCampaignPerformance() {
         if(!isListening || !config.getFeatures().isEnableAnalytics()) return;
 
@@ -176,7 +184,6 @@ public class TwitterAdsInboundAdapter extends AbstractSocialMediaInboundAdapter
         }
     }
 
-    @Scheduled(fixedDelayString = "${integrixs.adapters.twitter.ads.adGroupPollingInterval:600000}") // 10 minutes
     private void pollAdGroupPerformance() {
         if(!isListening || !config.getFeatures().isEnableAnalytics()) return;
 
@@ -199,7 +206,6 @@ public class TwitterAdsInboundAdapter extends AbstractSocialMediaInboundAdapter
         }
     }
 
-    @Scheduled(fixedDelayString = "${integrixs.adapters.twitter.ads.creativePollingInterval:900000}") // 15 minutes
     private void pollCreativePerformance() {
         if(!isListening || !config.getFeatures().isEnableAnalytics()) return;
 
@@ -219,7 +225,6 @@ public class TwitterAdsInboundAdapter extends AbstractSocialMediaInboundAdapter
         }
     }
 
-    @Scheduled(fixedDelayString = "${integrixs.adapters.twitter.ads.audiencePollingInterval:3600000}") // 1 hour
     private void pollAudienceInsights() {
         if(!isListening || !config.getFeatures().isEnableAudienceTargeting()) return;
 
@@ -239,7 +244,6 @@ public class TwitterAdsInboundAdapter extends AbstractSocialMediaInboundAdapter
         }
     }
 
-    @Scheduled(fixedDelayString = "${integrixs.adapters.twitter.ads.conversionPollingInterval:1800000}") // 30 minutes
     private void pollConversionEvents() {
         if(!isListening || !config.getFeatures().isEnableConversionTracking()) return;
 
@@ -266,7 +270,6 @@ public class TwitterAdsInboundAdapter extends AbstractSocialMediaInboundAdapter
         }
     }
 
-    @Scheduled(fixedDelayString = "${integrixs.adapters.twitter.ads.budgetCheckInterval:600000}") // 10 minutes
     private void checkBudgetAlerts() {
         if(!isListening || !config.getFeatures().isEnableBudgetManagement()) return;
 
@@ -446,7 +449,7 @@ public class TwitterAdsInboundAdapter extends AbstractSocialMediaInboundAdapter
         }
 
         HttpEntity<String> entity = new HttpEntity<>(body, headers);
-        return restTemplate.exchange(builder.toUriString(), method, entity, String.class);
+        return exchangeConditionally(restTemplate, builder.toUriString(), method, entity);
     }
 
     private String generateOAuth1Header(String url, String method) {
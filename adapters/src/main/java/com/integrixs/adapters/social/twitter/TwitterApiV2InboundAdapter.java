@@ -22,7 +22,6 @@ import org.springframework.http.*;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.scheduling.annotation.Scheduled;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.Flux;
 
@@ -179,7 +178,14 @@ public class TwitterApiV2InboundAdapter extends AbstractSocialMediaInboundAdapte
         }
     }
 
-    @Scheduled(fixedDelayString = "${integrixs.adapters.twitter.mentionPollingInterval:60000}") // 1 minute
+    @Override
+    protected void registerPollers() {
+        schedulePolling("pollMentions", "${integrixs.adapters.twitter.mentionPollingInterval:60000}", "twitter_api", this::pollMentions); // 1 minute
+        schedulePolling("pollHomeTimeline", "${integrixs.adapters.twitter.timelinePollingInterval:300000}", "twitter_api", this::pollHomeTimeline); // 5 minutes
+        schedulePolling("pollDirectMessages", "${integrixs.adapters.twitter.dmPollingInterval:120000}", "twitter_api", this::pollDirectMessages); // 2 minutes
+        schedulePolling("pollSpaces", "${integrixs.adapters.twitter.spacesPollingInterval:300000}", "twitter_api", this::pollSpaces); // 5 minutes
+    }
+
     private void pollMentions() {
         if(!isListening || !config.getFeatures().isEnableMentionMonitoring()) return;
 
@@ -207,7 +213,6 @@ public class TwitterApiV2InboundAdapter extends AbstractSocialMediaInboundAdapte
         }
     }
 
-    @Scheduled(fixedDelayString = "${integrixs.adapters.twitter.timelinePollingInterval:300000}") // 5 minutes
     private void pollHomeTimeline() {
         if(!isListening || !config.getFeatures().isEnableTimelineRetrieval()) return;
 
@@ -242,7 +247,6 @@ public class TwitterApiV2InboundAdapter extends AbstractSocialMediaInboundAdapte
         }
     }
 
-    @Scheduled(fixedDelayString = "${integrixs.adapters.twitter.dmPollingInterval:120000}") // 2 minutes
     private void pollDirectMessages() {
         if(!isListening || !config.getFeatures().isEnableDirectMessages()) return;
 
@@ -267,7 +271,6 @@ public class TwitterApiV2InboundAdapter extends AbstractSocialMediaInboundAdapte
         }
     }
 
-    @Scheduled(fixedDelayString = "${integrixs.adapters.twitter.spacesPollingInterval:300000}") // 5 minutes
     private void pollSpaces() {
         if(!isListening || !config.getFeatures().isEnableSpacesIntegration()) return;
 
@@ -506,7 +509,7 @@ public class TwitterApiV2InboundAdapter extends AbstractSocialMediaInboundAdapte
         }
 
         HttpEntity<String> entity = new HttpEntity<>(headers);
-        return restTemplate.exchange(urlBuilder.toString(), method, entity, String.class);
+        return exchangeConditionally(restTemplate, urlBuilder.toString(), method, entity);
     }
 
     private String getAuthenticatedUserId() {
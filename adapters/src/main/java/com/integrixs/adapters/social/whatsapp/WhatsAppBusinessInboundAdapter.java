@@ -21,7 +21,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
-import org.springframework.scheduling.annotation.Scheduled;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.Flux;
 
@@ -462,7 +461,11 @@ public class WhatsAppBusinessInboundAdapter extends AbstractSocialMediaInboundAd
         }
     }
 
-    @Scheduled(fixedDelayString = "${integrixs.adapters.whatsapp.business.status-polling-interval:60000}")
+    @Override
+    protected void registerPollers() {
+        schedulePolling("pollMessageStatuses", "${integrixs.adapters.whatsapp.business.status-polling-interval:60000}", null, this::pollMessageStatuses);
+    }
+
     private void pollMessageStatuses() {
         if(!isListening) return;
 
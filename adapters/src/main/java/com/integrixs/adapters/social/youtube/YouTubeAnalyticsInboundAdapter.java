@@ -21,7 +21,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
-import org.springframework.scheduling.annotation.Scheduled;
 
 import java.time.LocalDateTime;
 import java.time.LocalDate;
@@ -149,7 +148,17 @@ public class YouTubeAnalyticsInboundAdapter extends AbstractSocialMediaInboundAd
     }
 
     // Scheduled report polling methods
-    @Scheduled(fixedDelayString = "${integrixs.adapters.youtube.analytics.channelReportInterval:3600000}") // 1 hour
+    @Override
+    protected void registerPollers() {
+        schedulePolling("pollChannelReports", "${integrixs.adapters.youtube.analytics.channelReportInterval:3600000}", "youtube_analytics_api", this::pollChannelReports); // 1 hour
+        schedulePolling("pollVideoReports", "${integrixs.adapters.youtube.analytics.videoReportInterval:3600000}", "youtube_analytics_api", this::pollVideoReports); // 1 hour
+        schedulePolling("pollRevenueReports", "${integrixs.adapters.youtube.analytics.revenueReportInterval:86400000}", "youtube_analytics_api", this::pollRevenueReports); // 24 hours
+        schedulePolling("pollEngagementReports", "${integrixs.adapters.youtube.analytics.engagementReportInterval:7200000}", "youtube_analytics_api", this::pollEngagementReports); // 2 hours
+        schedulePolling("pollAudienceReports", "${integrixs.adapters.youtube.analytics.audienceReportInterval:86400000}", "youtube_analytics_api", this::pollAudienceReports); // 24 hours
+        schedulePolling("pollTrafficSourceReports", "${integrixs.adapters.youtube.analytics.trafficSourceReportInterval:14400000}", "youtube_analytics_api", this::pollTrafficSourceReports); // 4 hours
+        schedulePolling("pollRealtimeReports", "${integrixs.adapters.youtube.analytics.realtimeReportInterval:300000}", "youtube_analytics_api", this::pollRealtimeReports); // 5 minutes
+    }
+
     private void pollChannelReports() {
         if(!isListening || !config.getFeatures().isEnableChannelReports()) return;
 
@@ -180,7 +189,6 @@ public class YouTubeAnalyticsInboundAdapter extends AbstractSocialMediaInboundAd
         }
     }
 
-    @Scheduled(fixedDelayString = "${integrixs.adapters.youtube.analytics.videoReportInterval:3600000}") // 1 hour
     private void pollVideoReports() {
         if(!isListening || !config.getFeatures().isEnableVideoReports()) return;
 
@@ -217,7 +225,6 @@ public class YouTubeAnalyticsInboundAdapter extends AbstractSocialMediaInboundAd
         }
     }
 
-    @Scheduled(fixedDelayString = "${integrixs.adapters.youtube.analytics.revenueReportInterval:86400000}") // 24 hours
     private void pollRevenueReports() {
         if(!isListening || !config.getFeatures().isEnableRevenueReports()) return;
 
@@ -248,7 +255,6 @@ public class YouTubeAnalyticsInboundAdapter extends AbstractSocialMediaInboundAd
         }
     }
 
-    @Scheduled(fixedDelayString = "${integrixs.adapters.youtube.analytics.engagementReportInterval:7200000}") // 2 hours
     private void pollEngagementReports() {
         if(!isListening || !config.getFeatures().isEnableEngagementReports()) return;
 
@@ -279,7 +285,6 @@ public class YouTubeAnalyticsInboundAdapter extends AbstractSocialMediaInboundAd
         }
     }
 
-    @Scheduled(fixedDelayString = "${integrixs.adapters.youtube.analytics.audienceReportInterval:86400000}") // 24 hours
     private void pollAudienceReports() {
         if(!isListening || !config.getFeatures().isEnableAudienceReports()) return;
 
@@ -325,7 +330,6 @@ public class YouTubeAnalyticsInboundAdapter extends AbstractSocialMediaInboundAd
         }
     }
 
-    @Scheduled(fixedDelayString = "${integrixs.adapters.youtube.analytics.trafficSourceReportInterval:14400000}") // 4 hours
     private void pollTrafficSourceReports() {
         if(!isListening || !config.getFeatures().isEnableTrafficSourceReports()) return;
 
@@ -354,7 +358,6 @@ public class YouTubeAnalyticsInboundAdapter extends AbstractSocialMediaInboundAd
         }
     }
 
-    @Scheduled(fixedDelayString = "${integrixs.adapters.youtube.analytics.realtimeReportInterval:300000}") // 5 minutes
     private void pollRealtimeReports() {
         if(!isListening || !config.getFeatures().isEnableRealtimeReports()) return;
 
@@ -652,7 +655,7 @@ public class YouTubeAnalyticsInboundAdapter extends AbstractSocialMediaInboundAd
         headers.setContentType(MediaType.APPLICATION_JSON);
 
         HttpEntity<String> entity = new HttpEntity<>(headers);
-        return restTemplate.exchange(url, method, entity, String.class);
+        return exchangeConditionally(restTemplate, url, method, entity);
     }
 
     private String getAccessToken() {
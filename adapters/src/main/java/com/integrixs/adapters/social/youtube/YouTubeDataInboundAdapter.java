@@ -21,7 +21,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
-import org.springframework.scheduling.annotation.Scheduled;
 
 import java.time.LocalDateTime;
 import java.time.Instant;
@@ -39,7 +38,6 @@ public class YouTubeDataInboundAdapter extends AbstractSocialMediaInboundAdapter
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
     private final Map<String, LocalDateTime> lastPollTime = new ConcurrentHashMap<>();
-    private final Map<String, String> lastEtag = new ConcurrentHashMap<>();
 
     @Autowired
     private YouTubeDataApiConfig config;
@@ -161,7 +159,16 @@ public class YouTubeDataInboundAdapter extends AbstractSocialMediaInboundAdapter
     }
 
     // Scheduled polling methods
-    @Scheduled(fixedDelayString = "${integrixs.adapters.youtube.data.activityPollingInterval:300000}") // 5 minutes
+    @Override
+    protected void registerPollers() {
+        schedulePolling("pollChannelActivity", "${integrixs.adapters.youtube.data.activityPollingInterval:300000}", "youtube_data_api", this::pollChannelActivity); // 5 minutes
+        schedulePolling("pollVideoComments", "${integrixs.adapters.youtube.data.commentsPollingInterval:600000}", "youtube_data_api", this::pollVideoComments); // 10 minutes
+        schedulePolling("pollSubscriberUpdates", "${integrixs.adapters.youtube.data.subscriberPollingInterval:3600000}", "youtube_data_api", this::pollSubscriberUpdates); // 1 hour
+        schedulePolling("pollLiveStreams", "${integrixs.adapters.youtube.data.liveStreamPollingInterval:60000}", "youtube_data_api", this::pollLiveStreams); // 1 minute
+        schedulePolling("pollCommunityPosts", "${integrixs.adapters.youtube.data.communityPollingInterval:1800000}", "youtube_data_api", this::pollCommunityPosts); // 30 minutes
+        schedulePolling("pollPlaylistUpdates", "${integrixs.adapters.youtube.data.playlistPollingInterval:1800000}", "youtube_data_api", this::pollPlaylistUpdates); // 30 minutes
+    }
+
     private void pollChannelActivity() {
         if(!isListening || !config.getFeatures().isEnableChannelManagement()) return;
 
@@ -189,7 +196,6 @@ public class YouTubeDataInboundAdapter extends AbstractSocialMediaInboundAdapter
         }
     }
 
-    @Scheduled(fixedDelayString = "${integrixs.adapters.youtube.data.commentsPollingInterval:600000}") // 10 minutes
     private void pollVideoComments() {
         if(!isListening || !config.getFeatures().isEnableCommentManagement()) return;
 
@@ -222,7 +228,6 @@ public class YouTubeDataInboundAdapter extends AbstractSocialMediaInboundAdapter
         }
     }
 
-    @Scheduled(fixedDelayString = "${integrixs.adapters.youtube.data.subscriberPollingInterval:3600000}") // 1 hour
     private void pollSubscriberUpdates() {
         if(!isListening || !config.getFeatures().isEnableSubscriberManagement()) return;
 
@@ -243,7 +248,6 @@ public class YouTubeDataInboundAdapter extends AbstractSocialMediaInboundAdapter
         }
     }
 
-    @Scheduled(fixedDelayString = "${integrixs.adapters.youtube.data.liveStreamPollingInterval:60000}") // 1 minute
     private void pollLiveStreams() {
         if(!isListening || !config.getFeatures().isEnableLiveStreaming()) return;
 
@@ -265,7 +269,6 @@ public class YouTubeDataInboundAdapter extends AbstractSocialMediaInboundAdapter
         }
     }
 
-    @Scheduled(fixedDelayString = "${integrixs.adapters.youtube.data.communityPollingInterval:1800000}") // 30 minutes
     private void pollCommunityPosts() {
         if(!isListening || !config.getFeatures().isEnableCommunityPosts()) return;
 
@@ -277,7 +280,6 @@ public class YouTubeDataInboundAdapter extends AbstractSocialMediaInboundAdapter
         }
     }
 
-    @Scheduled(fixedDelayString = "${integrixs.adapters.youtube.data.playlistPollingInterval:1800000}") // 30 minutes
     private void pollPlaylistUpdates() {
         if(!isListening || !config.getFeatures().isEnablePlaylistManagement()) return;
 
@@ -535,12 +537,6 @@ public class YouTubeDataInboundAdapter extends AbstractSocialMediaInboundAdapter
         headers.setBearerAuth(getAccessToken());
         headers.setContentType(MediaType.APPLICATION_JSON);
 
-        // Add If - None - Match header for etag support
-        String etagKey = url + params.toString();
-        if(lastEtag.containsKey(etagKey)) {
-            headers.set("If - None - Match", lastEtag.get(etagKey));
-        }
-
         StringBuilder urlBuilder = new StringBuilder(url);
         if(!params.isEmpty()) {
             urlBuilder.append("?");
@@ -550,14 +546,8 @@ public class YouTubeDataInboundAdapter extends AbstractSocialMediaInboundAdapter
         }
 
         HttpEntity<String> entity = new HttpEntity<>(headers);
-        ResponseEntity<String> response = restTemplate.exchange(urlBuilder.toString(), method, entity, String.class);
-
-        // Store etag for future requests
-        if(response.getHeaders().getETag() != null) {
-            lastEtag.put(etagKey, response.getHeaders().getETag());
-        }
-
-        return response;
+        // ETag validators are sent and stored by the conditional request cache
+        return exchangeConditionally(restTemplate, urlBuilder.toString(), method, entity);
     }
 
     private String getAccessToken() {
@@ -7,6 +7,7 @@ import com.integrixs.adapters.factory.AdapterFactoryManager;
 import com.integrixs.backend.service.ExternalAuthenticationService;
 import com.integrixs.data.model.CommunicationAdapter;
 import com.integrixs.data.model.ExternalAuthentication;
+import com.integrixs.shared.util.JsonCodec;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.JsonNode;
 import org.slf4j.Logger;
@@ -33,7 +34,7 @@ public class EnhancedHttpAdapterFactory {
     @Autowired
     private AdapterFactoryManager factoryManager;
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectMapper objectMapper = JsonCodec.mapper();
 
     /**
      * Create an adapter instance with external authentication configured
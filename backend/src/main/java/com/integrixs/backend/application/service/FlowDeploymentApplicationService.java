@@ -8,6 +8,7 @@ import com.integrixs.backend.domain.service.DeploymentOrchestrator;
 import com.integrixs.backend.domain.service.DeploymentValidator;
 import com.integrixs.backend.exception.ResourceNotFoundException;
 import com.integrixs.backend.service.AuditTrailService;
+import com.integrixs.backend.service.transformation.XsltTransformationService;
 import com.integrixs.data.model.CommunicationAdapter;
 import com.integrixs.data.model.IntegrationFlow;
 import com.integrixs.data.model.User;
@@ -34,6 +35,7 @@ public class FlowDeploymentApplicationService {
     private final DeploymentOrchestrator deploymentOrchestrator;
     private final DeploymentValidator deploymentValidator;
     private final AuditTrailService auditTrailService;
+    private final XsltTransformationService xsltTransformationService;
     private final ObjectMapper objectMapper;
 
     public FlowDeploymentApplicationService(IntegrationFlowSqlRepository flowRepository,
@@ -41,12 +43,14 @@ public class FlowDeploymentApplicationService {
                                           DeploymentOrchestrator deploymentOrchestrator,
                                           DeploymentValidator deploymentValidator,
                                           AuditTrailService auditTrailService,
+                                          XsltTransformationService xsltTransformationService,
                                           ObjectMapper objectMapper) {
         this.flowRepository = flowRepository;
         this.adapterRepository = adapterRepository;
         this.deploymentOrchestrator = deploymentOrchestrator;
         this.deploymentValidator = deploymentValidator;
         this.auditTrailService = auditTrailService;
+        this.xsltTransformationService = xsltTransformationService;
         this.objectMapper = objectMapper;
     }
 
@@ -93,6 +97,9 @@ public class FlowDeploymentApplicationService {
             flow = flowRepository.save(flow);
             // SQL repository saves are immediate, no flush needed
 
+            // Stylesheets of the previous deployment are recompiled on first use
+            xsltTransformationService.invalidateFlow(flow.getId());
+
             // Audit
             auditTrailService.logUserAction(
                 deployedBy,
@@ -152,6 +159,7 @@ public class FlowDeploymentApplicationService {
         // Undeploy flow
         deploymentOrchestrator.prepareFlowForUndeployment(flow);
         flowRepository.save(flow);
+        xsltTransformationService.invalidateFlow(flow.getId());
 
         // Audit
         auditTrailService.logUserAction(
@@ -1,12 +1,14 @@
 package com.integrixs.backend.application.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.integrixs.backend.cache.DefinitionCache;
 import com.integrixs.backend.domain.service.FlowExecutionService;
 import com.integrixs.backend.infrastructure.adapter.AdapterConfigurationService;
 import com.integrixs.backend.service.*;
 import com.integrixs.backend.service.MessageService;
 import com.integrixs.backend.service.transformation.EnrichmentTransformationService;
 import com.integrixs.backend.service.transformation.FilterTransformationService;
+import com.integrixs.backend.service.transformation.XsltTransformationService;
 import com.integrixs.backend.service.transformation.ValidationTransformationService;
 import com.integrixs.backend.util.FieldMapper;
 import com.integrixs.backend.service.JavaTransformationEngine;
@@ -20,7 +22,9 @@ import com.integrixs.shared.dto.transformation.CustomFunctionConfigDTO;
 import com.integrixs.shared.dto.transformation.EnrichmentTransformationConfigDTO;
 import com.integrixs.shared.dto.transformation.FilterTransformationConfigDTO;
 import com.integrixs.shared.dto.transformation.ValidationTransformationConfigDTO;
+import com.integrixs.shared.dto.transformation.XsltTransformationConfigDTO;
 import com.integrixs.shared.dto.RecentIntegrationFlowDTO;
+import com.integrixs.shared.util.JsonCodec;
 import com.integrixs.backend.logging.EnhancedFlowExecutionLogger;
 import com.integrixs.backend.logging.EnhancedFlowExecutionLogger.*;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -46,10 +50,8 @@ public class FlowExecutionApplicationService {
 
     private final FlowExecutionService flowExecutionService;
     private final AdapterConfigurationService adapterConfigurationService;
-    private final IntegrationFlowSqlRepository flowRepository;
-    private final CommunicationAdapterSqlRepository adapterRepository;
     private final FlowTransformationSqlRepository transformationRepository;
-    private final FieldMappingSqlRepository fieldMappingRepository;
+    private final DefinitionCache definitionCache;
     private final AdapterExecutor adapterExecutor;
     private final FormatConversionService formatConversionService;
     private final DirectFileTransferService directFileTransferService;
@@ -57,20 +59,19 @@ public class FlowExecutionApplicationService {
     private final FilterTransformationService filterTransformationService;
     private final EnrichmentTransformationService enrichmentTransformationService;
     private final ValidationTransformationService validationTransformationService;
+    private final XsltTransformationService xsltTransformationService;
     private final DevelopmentFunctionService developmentFunctionService;
     private final JavaTransformationEngine javaTransformationEngine;
     private final EnhancedFlowExecutionLogger flowLogger;
     private final JavaFunctionRunner javaFunctionRunner;
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectMapper objectMapper = JsonCodec.mapper();
 
     @Autowired
     public FlowExecutionApplicationService(
             FlowExecutionService flowExecutionService,
             AdapterConfigurationService adapterConfigurationService,
-            IntegrationFlowSqlRepository flowRepository,
-            CommunicationAdapterSqlRepository adapterRepository,
             FlowTransformationSqlRepository transformationRepository,
-            FieldMappingSqlRepository fieldMappingRepository,
+            DefinitionCache definitionCache,
             AdapterExecutor adapterExecutor,
             FormatConversionService formatConversionService,
             DirectFileTransferService directFileTransferService,
@@ -78,16 +79,15 @@ public class FlowExecutionApplicationService {
             FilterTransformationService filterTransformationService,
             EnrichmentTransformationService enrichmentTransformationService,
             ValidationTransformationService validationTransformationService,
+            XsltTransformationService xsltTransformationService,
             DevelopmentFunctionService developmentFunctionService,
             JavaTransformationEngine javaTransformationEngine,
             JavaFunctionRunner javaFunctionRunner,
             @Autowired(required = false) EnhancedFlowExecutionLogger flowLogger) {
         this.flowExecutionService = flowExecutionService;
         this.adapterConfigurationService = adapterConfigurationService;
-        this.flowRepository = flowRepository;
-        this.adapterRepository = adapterRepository;
         this.transformationRepository = transformationRepository;
-        this.fieldMappingRepository = fieldMappingRepository;
+        this.definitionCache = definitionCache;
         this.adapterExecutor = adapterExecutor;
         this.formatConversionService = formatConversionService;
         this.directFileTransferService = directFileTransferService;
@@ -95,6 +95,7 @@ public class FlowExecutionApplicationService {
         this.filterTransformationService = filterTransformationService;
         this.enrichmentTransformationService = enrichmentTransformationService;
         this.validationTransformationService = validationTransformationService;
+        this.xsltTransformationService = xsltTransformationService;
         this.developmentFunctionService = developmentFunctionService;
         this.javaTransformationEngine = javaTransformationEngine;
         this.javaFunctionRunner = javaFunctionRunner;
@@ -107,7 +108,7 @@ public class FlowExecutionApplicationService {
      */
     @Async
     public void executeFlow(String flowId) {
-        IntegrationFlow flow = flowRepository.findById(UUID.fromString(flowId))
+        IntegrationFlow flow = definitionCache.findFlow(UUID.fromString(flowId))
                 .orElseThrow(() -> new RuntimeException("Flow not found"));
 
         // Create correlation ID for this flow execution
@@ -120,9 +121,9 @@ public class FlowExecutionApplicationService {
 
         try {
             // Get adapters
-            CommunicationAdapter inboundAdapter = adapterRepository.findById(flow.getInboundAdapterId())
+            CommunicationAdapter inboundAdapter = definitionCache.findAdapter(flow.getInboundAdapterId())
                     .orElseThrow(() -> new RuntimeException("Source adapter not found"));
-            CommunicationAdapter outboundAdapter = adapterRepository.findById(flow.getOutboundAdapterId())
+            CommunicationAdapter outboundAdapter = definitionCache.findAdapter(flow.getOutboundAdapterId())
                     .orElseThrow(() -> new RuntimeException("Target adapter not found"));
 
             // Validate flow can be executed
@@ -287,7 +288,7 @@ public class FlowExecutionApplicationService {
                 flow,
                 outboundAdapter,
                 transformations,
-                transformationId -> fieldMappingRepository.findByTransformationId(transformationId)
+                definitionCache::findMappings
            );
 
             // Convert XML back to target format
@@ -336,7 +337,7 @@ public class FlowExecutionApplicationService {
     private String applyTransformation(FlowTransformation transformation, String currentData) throws Exception {
         switch(transformation.getType()) {
             case FIELD_MAPPING:
-                List<FieldMapping> mappings = fieldMappingRepository.findByTransformationId(transformation.getId());
+                List<FieldMapping> mappings = definitionCache.findMappings(transformation.getId());
                 return FieldMapper.apply(currentData, mappings, javaTransformationEngine);
 
             case CUSTOM_FUNCTION:
@@ -351,6 +352,9 @@ public class FlowExecutionApplicationService {
             case VALIDATION:
                 return applyValidationTransformation(transformation, currentData);
 
+            case XSLT:
+                return applyXsltTransformation(transformation, currentData);
+
             default:
                 log.warn("Transformation type not supported: {}. Returning original data.", transformation.getType());
                 return currentData;
@@ -425,6 +429,19 @@ public class FlowExecutionApplicationService {
         return validationTransformationService.applyValidation(currentData, validationConfig);
     }
 
+    private String applyXsltTransformation(FlowTransformation transformation, String currentData)
+            throws Exception {
+        if(transformation.getConfiguration() == null || transformation.getConfiguration().isBlank()) {
+            throw new RuntimeException("XSLT transformation configuration is missing");
+        }
+        XsltTransformationConfigDTO xsltConfig = objectMapper.readValue(
+            transformation.getConfiguration(),
+            XsltTransformationConfigDTO.class
+       );
+        UUID flowId = transformation.getFlow() != null ? transformation.getFlow().getId() : null;
+        return xsltTransformationService.applyXslt(currentData, xsltConfig, flowId);
+    }
+
     private String getConfigValue(String configJson, String key) {
         if (configJson == null || configJson.isBlank()) {
             return null;
@@ -0,0 +1,106 @@
+package com.integrixs.backend.aspect;
+
+import com.integrixs.backend.cache.DefinitionCache;
+import com.integrixs.data.model.CommunicationAdapter;
+import com.integrixs.data.model.FieldMapping;
+import com.integrixs.data.model.IntegrationFlow;
+import com.integrixs.data.sql.repository.FieldMappingSqlRepository;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Evicts near - cached definitions whenever the flow, adapter or field mapping repositories write, so every writer
+ * invalidates the {@link DefinitionCache} on all nodes without having to know about it.
+ * Flow execution statistics are not read from the cache and do not evict.
+ */
+@Aspect
+@Component
+public class DefinitionCacheInvalidationAspect {
+
+    private final DefinitionCache definitionCache;
+    private final FieldMappingSqlRepository fieldMappingRepository;
+
+    public DefinitionCacheInvalidationAspect(@Lazy DefinitionCache definitionCache,
+                                             @Lazy FieldMappingSqlRepository fieldMappingRepository) {
+        this.definitionCache = definitionCache;
+        this.fieldMappingRepository = fieldMappingRepository;
+    }
+
+    @AfterReturning("execution(* com.integrixs.data.sql.repository.IntegrationFlowSqlRepository.save(..)) || " +
+                    "execution(* com.integrixs.data.sql.repository.IntegrationFlowSqlRepository.update(..)) || " +
+                    "execution(* com.integrixs.data.sql.repository.IntegrationFlowSqlRepository.updateDeploymentInfo(..)) || " +
+                    "execution(* com.integrixs.data.sql.repository.IntegrationFlowSqlRepository.delete*(..))")
+    public void onFlowWrite(JoinPoint joinPoint) {
+        UUID flowId = idOf(joinPoint);
+        if(flowId != null) {
+            definitionCache.evictFlow(flowId);
+        }
+    }
+
+    @AfterReturning("execution(* com.integrixs.data.sql.repository.CommunicationAdapterSqlRepository.save(..)) || " +
+                    "execution(* com.integrixs.data.sql.repository.CommunicationAdapterSqlRepository.update*(..)) || " +
+                    "execution(* com.integrixs.data.sql.repository.CommunicationAdapterSqlRepository.delete*(..))")
+    public void onAdapterWrite(JoinPoint joinPoint) {
+        UUID adapterId = idOf(joinPoint);
+        if(adapterId != null) {
+            definitionCache.evictAdapter(adapterId);
+        }
+    }
+
+    @AfterReturning("execution(* com.integrixs.data.sql.repository.FieldMappingSqlRepository.save(..)) || " +
+                    "execution(* com.integrixs.data.sql.repository.FieldMappingSqlRepository.update(..))")
+    public void onMappingWrite(JoinPoint joinPoint) {
+        Object[] args = joinPoint.getArgs();
+        if(args.length > 0 && args[0] instanceof FieldMapping) {
+            FieldMapping mapping = (FieldMapping) args[0];
+            UUID transformationId = mapping.getTransformation() != null ? mapping.getTransformation().getId() : null;
+            if(transformationId == null && mapping.getId() != null) {
+                transformationId = fieldMappingRepository.findTransformationId(mapping.getId()).orElse(null);
+            }
+            if(transformationId != null) {
+                definitionCache.evictMappings(transformationId);
+            }
+        }
+    }
+
+    @AfterReturning("execution(* com.integrixs.data.sql.repository.FieldMappingSqlRepository.deleteByTransformationId(..)) && args(transformationId)")
+    public void onMappingsDelete(UUID transformationId) {
+        definitionCache.evictMappings(transformationId);
+    }
+
+    @Around("execution(* com.integrixs.data.sql.repository.FieldMappingSqlRepository.deleteById(..)) && args(mappingId)")
+    public Object onMappingDelete(ProceedingJoinPoint joinPoint, UUID mappingId) throws Throwable {
+        // The owning transformation is only known while the row still exists
+        UUID transformationId = fieldMappingRepository.findTransformationId(mappingId).orElse(null);
+        Object result = joinPoint.proceed();
+        if(transformationId != null) {
+            definitionCache.evictMappings(transformationId);
+        }
+        return result;
+    }
+
+    private static UUID idOf(JoinPoint joinPoint) {
+        Object[] args = joinPoint.getArgs();
+        if(args.length == 0) {
+            return null;
+        }
+        Object target = args[0];
+        if(target instanceof UUID) {
+            return (UUID) target;
+        }
+        if(target instanceof IntegrationFlow) {
+            return ((IntegrationFlow) target).getId();
+        }
+        if(target instanceof CommunicationAdapter) {
+            return ((CommunicationAdapter) target).getId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,74 @@
+package com.integrixs.backend.aspect;
+
+import com.integrixs.adapters.annotation.ClusterPoller;
+import com.integrixs.adapters.domain.service.PollerOwnershipService;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies cluster poller ownership to the scheduled pollers of Spring managed adapters
+ * (e.g. the collaboration adapters), which do not run through an adapter polling loop.
+ * Only methods marked {@link ClusterPoller} are affected, node - local scheduled housekeeping runs everywhere.
+ */
+@Aspect
+@Component
+public class PollerOwnershipAspect {
+
+    private static final Logger log = LoggerFactory.getLogger(PollerOwnershipAspect.class);
+
+    private final Environment environment;
+
+    public PollerOwnershipAspect(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Around("@annotation(com.integrixs.adapters.annotation.ClusterPoller)")
+    public Object runIfOwner(ProceedingJoinPoint joinPoint) throws Throwable {
+        Scheduled scheduled = ((MethodSignature) joinPoint.getSignature()).getMethod().getAnnotation(Scheduled.class);
+        String pollerId = joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName();
+        Throwable[] failure = new Throwable[1];
+        boolean ran = PollerOwnershipService.current().runIfOwner(pollerId, resolveInterval(scheduled), () -> {
+            try {
+                joinPoint.proceed();
+            } catch(Throwable t) {
+                failure[0] = t;
+            }
+        });
+        if(failure[0] != null) {
+            throw failure[0];
+        }
+        if(!ran) {
+            log.trace("Skipped scheduled poller {} owned by another member", pollerId);
+        }
+        return null;
+    }
+
+    private long resolveInterval(Scheduled scheduled) {
+        if(scheduled == null) {
+            return 0;
+        }
+        if(scheduled.fixedDelay() > 0) {
+            return scheduled.fixedDelay();
+        }
+        if(scheduled.fixedRate() > 0) {
+            return scheduled.fixedRate();
+        }
+        String interval = !scheduled.fixedDelayString().isEmpty() ? scheduled.fixedDelayString() : scheduled.fixedRateString();
+        if(interval.isEmpty()) {
+            // Cron schedules: only ownership and the cycle lock apply
+            return 0;
+        }
+        try {
+            return Long.parseLong(environment.resolvePlaceholders(interval).trim());
+        } catch(NumberFormatException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.integrixs.backend.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Broadcast channel for near - cache invalidations between nodes.
+ * Delivery is best effort, near - cache entries are additionally bounded by their TTL.
+ */
+public interface CacheInvalidationBus {
+
+    /**
+     * Publish an invalidation to all nodes, including the local one
+     */
+    void publish(Invalidation invalidation);
+
+    /**
+     * Register a handler for invalidations published by any node
+     */
+    void subscribe(Consumer<Invalidation> handler);
+
+    /**
+     * Invalidation of one key at a version. Entries loaded at an older version are stale.
+     */
+    final class Invalidation {
+        private final String key;
+        private final long version;
+        private final long publishedAt;
+        private final String origin;
+
+        public Invalidation(String key, long version, long publishedAt, String origin) {
+            this.key = key;
+            this.version = version;
+            this.publishedAt = publishedAt;
+            this.origin = origin;
+        }
+
+        /**
+         * Wire format: version|publishedAt|origin|key(the key is last so it may contain the separator)
+         */
+        public String encode() {
+            return version + "|" + publishedAt + "|" + origin + "|" + key;
+        }
+
+        public static Invalidation decode(String message) {
+            String[] parts = message.split("\\|", 4);
+            if(parts.length != 4) {
+                throw new IllegalArgumentException("Malformed cache invalidation: " + message);
+            }
+            return new Invalidation(parts[3], Long.parseLong(parts[0]), Long.parseLong(parts[1]), parts[2]);
+        }
+
+        public String getKey() { return key; }
+        public long getVersion() { return version; }
+        public long getPublishedAt() { return publishedAt; }
+        public String getOrigin() { return origin; }
+    }
+}
@@ -0,0 +1,75 @@
+package com.integrixs.backend.cache;
+
+import com.integrixs.data.model.CommunicationAdapter;
+import com.integrixs.data.model.FieldMapping;
+import com.integrixs.data.model.IntegrationFlow;
+import com.integrixs.data.sql.repository.CommunicationAdapterSqlRepository;
+import com.integrixs.data.sql.repository.FieldMappingSqlRepository;
+import com.integrixs.data.sql.repository.IntegrationFlowSqlRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Near - cached lookups of the definitions read on every message: flows, adapter configurations and field mappings.
+ * Only execution paths read through this cache; returned objects are shared and must not be modified.
+ * Entries are evicted on every node by {@link com.integrixs.backend.aspect.DefinitionCacheInvalidationAspect}
+ * whenever the underlying repositories write.
+ */
+@Service
+public class DefinitionCache {
+
+    private static final String FLOW_PREFIX = "definition:flow:";
+    private static final String ADAPTER_PREFIX = "definition:adapter:";
+    private static final String MAPPINGS_PREFIX = "definition:mappings:";
+
+    private final NearCacheService nearCache;
+    private final IntegrationFlowSqlRepository flowRepository;
+    private final CommunicationAdapterSqlRepository adapterRepository;
+    private final FieldMappingSqlRepository fieldMappingRepository;
+    private final Duration ttl;
+
+    public DefinitionCache(NearCacheService nearCache,
+                           IntegrationFlowSqlRepository flowRepository,
+                           CommunicationAdapterSqlRepository adapterRepository,
+                           FieldMappingSqlRepository fieldMappingRepository,
+                           @Value("${cache.near.definitions-ttl-seconds:600}") long ttlSeconds) {
+        this.nearCache = nearCache;
+        this.flowRepository = flowRepository;
+        this.adapterRepository = adapterRepository;
+        this.fieldMappingRepository = fieldMappingRepository;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    public Optional<IntegrationFlow> findFlow(UUID flowId) {
+        return Optional.ofNullable(nearCache.get(FLOW_PREFIX + flowId, IntegrationFlow.class, ttl,
+            () -> flowRepository.findById(flowId).orElse(null)));
+    }
+
+    public Optional<CommunicationAdapter> findAdapter(UUID adapterId) {
+        return Optional.ofNullable(nearCache.get(ADAPTER_PREFIX + adapterId, CommunicationAdapter.class, ttl,
+            () -> adapterRepository.findById(adapterId).orElse(null)));
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<FieldMapping> findMappings(UUID transformationId) {
+        return nearCache.get(MAPPINGS_PREFIX + transformationId, List.class, ttl,
+            () -> fieldMappingRepository.findByTransformationId(transformationId));
+    }
+
+    public void evictFlow(UUID flowId) {
+        nearCache.evict(FLOW_PREFIX + flowId);
+    }
+
+    public void evictAdapter(UUID adapterId) {
+        nearCache.evict(ADAPTER_PREFIX + adapterId);
+    }
+
+    public void evictMappings(UUID transformationId) {
+        nearCache.evict(MAPPINGS_PREFIX + transformationId);
+    }
+}
@@ -0,0 +1,44 @@
+package com.integrixs.backend.cache;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.topic.ITopic;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.function.Consumer;
+
+/**
+ * Invalidation bus over a Hazelcast topic
+ */
+public class HazelcastCacheInvalidationBus implements CacheInvalidationBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(HazelcastCacheInvalidationBus.class);
+
+    private final ITopic<String> topic;
+
+    public HazelcastCacheInvalidationBus(HazelcastInstance hazelcastInstance, String topicName) {
+        this.topic = hazelcastInstance.getTopic(topicName);
+    }
+
+    @Override
+    public void publish(Invalidation invalidation) {
+        try {
+            topic.publish(invalidation.encode());
+        } catch(Exception e) {
+            // Other nodes fall back to the near - cache TTL
+            logger.warn("Failed to publish cache invalidation for key {}: {}", invalidation.getKey(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<Invalidation> handler) {
+        topic.addMessageListener(message -> {
+            try {
+                handler.accept(Invalidation.decode(message.getMessageObject()));
+            } catch(Exception e) {
+                logger.error("Error handling cache invalidation on topic {}", topic.getName(), e);
+            }
+        });
+        logger.info("Subscribed to cache invalidations on Hazelcast topic: {}", topic.getName());
+    }
+}
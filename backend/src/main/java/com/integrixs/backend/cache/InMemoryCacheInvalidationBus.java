@@ -0,0 +1,35 @@
+package com.integrixs.backend.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * In - process invalidation bus for single nodes and tests.
+ * Several near caches sharing one instance behave like nodes of a cluster.
+ */
+public class InMemoryCacheInvalidationBus implements CacheInvalidationBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(InMemoryCacheInvalidationBus.class);
+
+    private final List<Consumer<Invalidation>> handlers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(Invalidation invalidation) {
+        for(Consumer<Invalidation> handler : handlers) {
+            try {
+                handler.accept(invalidation);
+            } catch(Exception e) {
+                logger.error("Error handling cache invalidation for key: {}", invalidation.getKey(), e);
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<Invalidation> handler) {
+        handlers.add(handler);
+    }
+}
@@ -0,0 +1,43 @@
+package com.integrixs.backend.cache;
+
+import com.hazelcast.core.HazelcastInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+/**
+ * Near - cache invalidation transport: the Hazelcast topic when the node is part of a Hazelcast cluster,
+ * otherwise Redis pub/sub when Redis is enabled, otherwise in - process only.
+ */
+@Configuration
+public class NearCacheConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(NearCacheConfig.class);
+
+    @Value("${cache.near.invalidation.channel:integrixs:near-cache:invalidation}")
+    private String invalidationChannel;
+
+    @Value("${spring.redis.enabled:false}")
+    private boolean redisEnabled;
+
+    @Bean
+    public CacheInvalidationBus cacheInvalidationBus(ObjectProvider<HazelcastInstance> hazelcastInstance,
+                                                     ObjectProvider<RedisConnectionFactory> redisConnectionFactory) {
+        HazelcastInstance hazelcast = hazelcastInstance.getIfAvailable();
+        if(hazelcast != null) {
+            logger.info("Near - cache invalidations use Hazelcast topic: {}", invalidationChannel);
+            return new HazelcastCacheInvalidationBus(hazelcast, invalidationChannel);
+        }
+        RedisConnectionFactory connectionFactory = redisEnabled ? redisConnectionFactory.getIfAvailable() : null;
+        if(connectionFactory != null) {
+            logger.info("Near - cache invalidations use Redis channel: {}", invalidationChannel);
+            return new RedisCacheInvalidationBus(connectionFactory, invalidationChannel);
+        }
+        logger.info("Near - cache invalidations are local to this node");
+        return new InMemoryCacheInvalidationBus();
+    }
+}
@@ -0,0 +1,296 @@
+package com.integrixs.backend.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.integrixs.backend.service.DistributedCacheService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Two - tier cache for rarely changing, frequently read values(flow definitions, adapter configurations, mappings).
+ *
+ * Reads are served from an in - process Caffeine tier and fall through to {@link DistributedCacheService}.
+ * Every write or eviction takes a new version for the key and broadcasts it through the
+ * {@link CacheInvalidationBus}; nodes drop entries loaded at an older version and refuse to cache values older
+ * than the newest invalidation they have seen, so a read racing with a write cannot resurrect the old value.
+ * A stale read is bounded by the invalidation lag, or by the near - cache TTL if a broadcast is lost.
+ *
+ * Without Redis the distributed tier is an embedded map, which keeps the service usable on a single node and
+ * in tests.
+ */
+@Service
+public class NearCacheService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NearCacheService.class);
+
+    private static final String VERSION_KEY_PREFIX = "nearcache:version:";
+
+    // Increments the version of a key and keeps it alive longer than any near - cache entry
+    private static final String NEXT_VERSION_SCRIPT =
+        "local version = redis.call('INCR', KEYS[1]) " +
+        "redis.call('PEXPIRE', KEYS[1], ARGV[1]) " +
+        "return {version}";
+
+    private static final long VERSION_RETENTION_MS = TimeUnit.DAYS.toMillis(1);
+
+    private final DistributedCacheService distributedCache;
+    private final CacheInvalidationBus invalidationBus;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Cache<String, NearEntry> nearCache;
+
+    // Newest invalidated version per key, rejects late inserts of values loaded before the invalidation
+    private final Cache<String, Long> invalidatedVersions;
+
+    // Embedded distributed tier when Redis is not available, values carry their own expiry
+    private final Cache<String, EmbeddedEntry> embeddedTier;
+    private final AtomicLong embeddedVersion = new AtomicLong();
+
+    private final LongAdder nearHits = new LongAdder();
+    private final LongAdder nearMisses = new LongAdder();
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder remoteMisses = new LongAdder();
+    private final LongAdder invalidationsReceived = new LongAdder();
+    private final Timer invalidationLag;
+
+    public NearCacheService(ObjectProvider<DistributedCacheService> distributedCache,
+                            CacheInvalidationBus invalidationBus,
+                            MeterRegistry meterRegistry,
+                            @Value("${cache.near.max-size:10000}") long maxSize,
+                            @Value("${cache.near.ttl-seconds:30}") long ttlSeconds) {
+        this.distributedCache = distributedCache.getIfAvailable();
+        this.invalidationBus = invalidationBus;
+        this.nearCache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+            .build();
+        this.invalidatedVersions = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+            .build();
+        this.embeddedTier = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .build();
+
+        for(Map.Entry<String, LongAdder> counter : Map.of(
+                "near:hit", nearHits, "near:miss", nearMisses,
+                "remote:hit", remoteHits, "remote:miss", remoteMisses).entrySet()) {
+            String[] tierResult = counter.getKey().split(":");
+            FunctionCounter.builder("cache.near.requests", counter.getValue(), LongAdder::sum)
+                .tag("tier", tierResult[0])
+                .tag("result", tierResult[1])
+                .register(meterRegistry);
+        }
+        FunctionCounter.builder("cache.near.invalidations", invalidationsReceived, LongAdder::sum)
+            .register(meterRegistry);
+        meterRegistry.gauge("cache.near.size", nearCache, Cache::estimatedSize);
+        this.invalidationLag = Timer.builder("cache.near.invalidation.lag")
+            .description("Time from publishing an invalidation to applying it on this node")
+            .register(meterRegistry);
+
+        invalidationBus.subscribe(this::onInvalidation);
+        logger.info("Near cache initialized(max size {}, TTL {}s, distributed tier {})",
+            maxSize, ttlSeconds, this.distributedCache != null ? "Redis" : "embedded");
+    }
+
+    /**
+     * Get a value
+     * @return Value or null when neither tier holds it
+     */
+    public <T> T get(String key, Class<T> type) {
+        NearEntry entry = nearCache.getIfPresent(key);
+        if(entry != null) {
+            nearHits.increment();
+            return cast(entry.value, type);
+        }
+        nearMisses.increment();
+
+        VersionedValue remote = readRemote(key);
+        if(remote == null || remote.getValue() == null) {
+            remoteMisses.increment();
+            return null;
+        }
+        remoteHits.increment();
+        cacheLocally(key, remote.getVersion(), remote.getValue());
+        return cast(remote.getValue(), type);
+    }
+
+    /**
+     * Get a value, loading and storing it in both tiers when missing
+     */
+    public <T> T get(String key, Class<T> type, Duration ttl, Supplier<T> loader) {
+        T value = get(key, type);
+        if(value == null) {
+            value = loader.get();
+            if(value != null) {
+                put(key, value, ttl);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Store a value in both tiers and invalidate it on the other nodes
+     */
+    public void put(String key, Object value, Duration ttl) {
+        long version = nextVersion(key);
+        if(version < 0) {
+            nearCache.invalidate(key);
+            return;
+        }
+        VersionedValue versioned = new VersionedValue(version, value);
+        if(distributedCache != null) {
+            distributedCache.set(key, versioned, ttl);
+        } else {
+            embeddedTier.put(key, new EmbeddedEntry(versioned, System.currentTimeMillis() + ttl.toMillis()));
+        }
+        nearCache.put(key, new NearEntry(version, value));
+        invalidationBus.publish(new CacheInvalidationBus.Invalidation(key, version, System.currentTimeMillis(), nodeId));
+    }
+
+    /**
+     * Remove a value from both tiers on all nodes
+     */
+    public void evict(String key) {
+        nearCache.invalidate(key);
+        long version = nextVersion(key);
+        if(distributedCache != null) {
+            distributedCache.delete(key);
+        } else {
+            embeddedTier.invalidate(key);
+        }
+        if(version >= 0) {
+            invalidatedVersions.asMap().merge(key, version, Math::max);
+            invalidationBus.publish(new CacheInvalidationBus.Invalidation(key, version, System.currentTimeMillis(), nodeId));
+        }
+    }
+
+    /**
+     * Get cache statistics
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new HashMap<>();
+        long nearRequests = nearHits.sum() + nearMisses.sum();
+        long remoteRequests = remoteHits.sum() + remoteMisses.sum();
+        stats.put("nearSize", nearCache.estimatedSize());
+        stats.put("nearHitRatio", nearRequests == 0 ? 0.0 : (double) nearHits.sum() / nearRequests);
+        stats.put("remoteHitRatio", remoteRequests == 0 ? 0.0 : (double) remoteHits.sum() / remoteRequests);
+        stats.put("invalidationsReceived", invalidationsReceived.sum());
+        stats.put("invalidationLagMeanMs", invalidationLag.mean(TimeUnit.MILLISECONDS));
+        stats.put("invalidationLagMaxMs", invalidationLag.max(TimeUnit.MILLISECONDS));
+        stats.put("distributedTier", distributedCache != null ? "redis" : "embedded");
+        return stats;
+    }
+
+    private void onInvalidation(CacheInvalidationBus.Invalidation invalidation) {
+        if(nodeId.equals(invalidation.getOrigin())) {
+            return;
+        }
+        invalidationsReceived.increment();
+        String key = invalidation.getKey();
+        long version = invalidation.getVersion();
+        invalidatedVersions.asMap().merge(key, version, Math::max);
+        nearCache.asMap().computeIfPresent(key, (k, entry) -> entry.version < version ? null : entry);
+        invalidationLag.record(Math.max(0, System.currentTimeMillis() - invalidation.getPublishedAt()), TimeUnit.MILLISECONDS);
+    }
+
+    private void cacheLocally(String key, long version, Object value) {
+        Long invalidated = invalidatedVersions.getIfPresent(key);
+        if(invalidated != null && invalidated > version) {
+            return;
+        }
+        nearCache.asMap().merge(key, new NearEntry(version, value),
+            (current, loaded) -> loaded.version >= current.version ? loaded : current);
+    }
+
+    private VersionedValue readRemote(String key) {
+        if(distributedCache == null) {
+            EmbeddedEntry entry = embeddedTier.getIfPresent(key);
+            if(entry != null && entry.expiresAt <= System.currentTimeMillis()) {
+                embeddedTier.asMap().remove(key, entry);
+                return null;
+            }
+            return entry != null ? entry.value : null;
+        }
+        return distributedCache.get(key, VersionedValue.class);
+    }
+
+    /**
+     * Next version of a key, -1 when the distributed tier cannot provide one
+     */
+    private long nextVersion(String key) {
+        if(distributedCache == null) {
+            return embeddedVersion.incrementAndGet();
+        }
+        try {
+            List<Long> result = distributedCache.executeScript(NEXT_VERSION_SCRIPT,
+                List.of(VERSION_KEY_PREFIX + key), String.valueOf(VERSION_RETENTION_MS));
+            return result.get(0);
+        } catch(Exception e) {
+            logger.warn("Could not version cache key {}, only evicting locally: {}", key, e.getMessage());
+            return -1;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(Object value, Class<T> type) {
+        return type.isInstance(value) ? (T) value : null;
+    }
+
+    private static final class NearEntry {
+        private final long version;
+        private final Object value;
+
+        NearEntry(long version, Object value) {
+            this.version = version;
+            this.value = value;
+        }
+    }
+
+    private static final class EmbeddedEntry {
+        private final VersionedValue value;
+        private final long expiresAt;
+
+        EmbeddedEntry(VersionedValue value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * Value with its version as stored in the distributed tier
+     */
+    public static class VersionedValue {
+        private long version;
+        private Object value;
+
+        public VersionedValue() {
+        }
+
+        public VersionedValue(long version, Object value) {
+            this.version = version;
+            this.value = value;
+        }
+
+        public long getVersion() { return version; }
+        public void setVersion(long version) { this.version = version; }
+        public Object getValue() { return value; }
+        public void setValue(Object value) { this.value = value; }
+    }
+}
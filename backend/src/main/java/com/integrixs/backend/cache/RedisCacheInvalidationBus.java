@@ -0,0 +1,60 @@
+package com.integrixs.backend.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Invalidation bus over Redis pub/sub
+ */
+public class RedisCacheInvalidationBus implements CacheInvalidationBus, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(RedisCacheInvalidationBus.class);
+
+    private final String channel;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    public RedisCacheInvalidationBus(RedisConnectionFactory connectionFactory, String channel) {
+        this.channel = channel;
+        this.redisTemplate = new StringRedisTemplate(connectionFactory);
+        this.listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+    }
+
+    @Override
+    public void publish(Invalidation invalidation) {
+        try {
+            redisTemplate.convertAndSend(channel, invalidation.encode());
+        } catch(Exception e) {
+            // Other nodes fall back to the near - cache TTL
+            logger.warn("Failed to publish cache invalidation for key {}: {}", invalidation.getKey(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<Invalidation> handler) {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            try {
+                handler.accept(Invalidation.decode(new String(message.getBody(), StandardCharsets.UTF_8)));
+            } catch(Exception e) {
+                logger.error("Error handling cache invalidation on channel {}", channel, e);
+            }
+        }, new ChannelTopic(channel));
+        logger.info("Subscribed to cache invalidations on Redis channel: {}", channel);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        listenerContainer.destroy();
+    }
+}
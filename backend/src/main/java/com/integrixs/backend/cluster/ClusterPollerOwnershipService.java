@@ -0,0 +1,153 @@
+package com.integrixs.backend.cluster;
+
+import com.hazelcast.cluster.Member;
+import com.hazelcast.cluster.MembershipEvent;
+import com.hazelcast.cluster.MembershipListener;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.integrixs.adapters.domain.repository.AdapterCheckpointRepository;
+import com.integrixs.adapters.domain.service.PollerOwnershipService;
+import com.integrixs.adapters.infrastructure.persistence.FileAdapterCheckpointRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Shards inbound pollers across the cluster.
+ *
+ * Every poller is assigned to one member through a consistent hash ring over the data members, so a membership
+ * change only moves the pollers of the ring segments that changed hands. A cycle runs under the poller's
+ * cluster lock and records when it ran; during a rebalance the old and new owner can briefly disagree, the lock
+ * keeps their cycles from overlapping and the recorded cycle time keeps the new owner from polling again within
+ * the same interval. Checkpoints live in a Hazelcast map so the new owner resumes where the old one stopped.
+ */
+@Service
+@ConditionalOnBean(HazelcastInstance.class)
+public class ClusterPollerOwnershipService implements PollerOwnershipService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClusterPollerOwnershipService.class);
+
+    private static final String LOCK_PREFIX = "poller:";
+
+    private final HazelcastInstance hazelcastInstance;
+    private final ClusterCoordinationService coordinationService;
+    private final int virtualNodes;
+    private final String localMember;
+
+    private final IMap<String, String> lastCycles;
+    private final AdapterCheckpointRepository checkpointRepository;
+
+    private volatile ConsistentHashRing ring;
+    private UUID membershipListenerId;
+
+    public ClusterPollerOwnershipService(HazelcastInstance hazelcastInstance,
+                                         ClusterCoordinationService coordinationService,
+                                         @Value("${cluster.pollers.virtual-nodes:64}") int virtualNodes,
+                                         @Value("${cluster.pollers.checkpoint-map:adapter-checkpoints}") String checkpointMap) {
+        this.hazelcastInstance = hazelcastInstance;
+        this.coordinationService = coordinationService;
+        this.virtualNodes = virtualNodes;
+        this.localMember = hazelcastInstance.getCluster().getLocalMember().getUuid().toString();
+        this.lastCycles = hazelcastInstance.getMap("poller-cycles");
+        this.checkpointRepository = new HazelcastAdapterCheckpointRepository(hazelcastInstance, checkpointMap,
+            FileAdapterCheckpointRepository.getDefault());
+    }
+
+    @PostConstruct
+    public void init() {
+        rebuildRing();
+        membershipListenerId = hazelcastInstance.getCluster().addMembershipListener(new MembershipListener() {
+            @Override
+            public void memberAdded(MembershipEvent membershipEvent) {
+                rebuildRing();
+            }
+
+            @Override
+            public void memberRemoved(MembershipEvent membershipEvent) {
+                rebuildRing();
+            }
+        });
+        PollerOwnershipService.install(this);
+        logger.info("Inbound pollers are sharded across the cluster");
+    }
+
+    @PreDestroy
+    public void cleanup() {
+        PollerOwnershipService.install(null);
+        if(membershipListenerId != null) {
+            try {
+                hazelcastInstance.getCluster().removeMembershipListener(membershipListenerId);
+            } catch(Exception e) {
+                logger.debug("Could not remove membership listener: {}", e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public boolean isOwner(String pollerId) {
+        String owner = ring.locate(pollerId);
+        // An empty ring means only lite members are left, every poller then runs locally
+        return owner == null || owner.equals(localMember);
+    }
+
+    @Override
+    public boolean runIfOwner(String pollerId, long intervalMillis, Runnable cycle) {
+        if(!isOwner(pollerId)) {
+            return false;
+        }
+
+        String lockName = LOCK_PREFIX + pollerId;
+        if(!coordinationService.tryLock(lockName, 0, TimeUnit.MILLISECONDS)) {
+            logger.debug("Poller {} is still running on another member", pollerId);
+            return false;
+        }
+        try {
+            long now = System.currentTimeMillis();
+            if(polledElsewhereWithin(pollerId, intervalMillis / 2, now)) {
+                logger.debug("Poller {} already ran on another member within this interval", pollerId);
+                return false;
+            }
+            lastCycles.set(pollerId, localMember + "|" + now);
+            cycle.run();
+            return true;
+        } finally {
+            coordinationService.unlock(lockName);
+        }
+    }
+
+    @Override
+    public AdapterCheckpointRepository getCheckpointRepository() {
+        return checkpointRepository;
+    }
+
+    private boolean polledElsewhereWithin(String pollerId, long windowMillis, long now) {
+        String lastCycle = lastCycles.get(pollerId);
+        if(lastCycle == null || windowMillis <= 0) {
+            return false;
+        }
+        int separator = lastCycle.lastIndexOf('|');
+        String member = lastCycle.substring(0, separator);
+        long ranAt = Long.parseLong(lastCycle.substring(separator + 1));
+        return !member.equals(localMember) && now - ranAt < windowMillis;
+    }
+
+    private synchronized void rebuildRing() {
+        List<String> members = hazelcastInstance.getCluster().getMembers().stream()
+            .filter(member -> !member.isLiteMember())
+            .map(Member::getUuid)
+            .map(UUID::toString)
+            .sorted()
+            .collect(Collectors.toList());
+        ring = new ConsistentHashRing(members, virtualNodes);
+        logger.info("Rebalanced inbound pollers over {} cluster members", members.size());
+    }
+}
@@ -0,0 +1,88 @@
+package com.integrixs.backend.cluster;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.integrixs.adapters.domain.repository.AdapterCheckpointRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Adapter checkpoints shared by all cluster members, so a poller resumes from the last committed checkpoint
+ * when it moves to another node. Writes go through to the local store, which also seeds the map after a
+ * full cluster restart.
+ */
+public class HazelcastAdapterCheckpointRepository implements AdapterCheckpointRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(HazelcastAdapterCheckpointRepository.class);
+
+    private final IMap<String, HashMap<String, String>> checkpoints;
+    private final AdapterCheckpointRepository localStore;
+
+    public HazelcastAdapterCheckpointRepository(HazelcastInstance hazelcastInstance, String mapName,
+                                                AdapterCheckpointRepository localStore) {
+        this.checkpoints = hazelcastInstance.getMap(mapName);
+        this.localStore = localStore;
+    }
+
+    @Override
+    public Optional<String> load(String adapterKey, String name) {
+        return Optional.ofNullable(loadAll(adapterKey).get(name));
+    }
+
+    @Override
+    public Map<String, String> loadAll(String adapterKey) {
+        HashMap<String, String> values = checkpoints.get(adapterKey);
+        if(values == null) {
+            Map<String, String> local = localStore.loadAll(adapterKey);
+            if(local.isEmpty()) {
+                return Collections.emptyMap();
+            }
+            values = new HashMap<>(local);
+            HashMap<String, String> existing = checkpoints.putIfAbsent(adapterKey, values);
+            if(existing != null) {
+                values = existing;
+            }
+        }
+        return Collections.unmodifiableMap(values);
+    }
+
+    @Override
+    public void save(String adapterKey, String name, String value) {
+        update(adapterKey, values -> values.put(name, value));
+        try {
+            localStore.save(adapterKey, name, value);
+        } catch(Exception e) {
+            logger.warn("Failed to write checkpoint {}/{} through to the local store: {}", adapterKey, name, e.getMessage());
+        }
+    }
+
+    @Override
+    public void delete(String adapterKey, String name) {
+        update(adapterKey, values -> values.remove(name));
+        localStore.delete(adapterKey, name);
+    }
+
+    @Override
+    public void deleteAll(String adapterKey) {
+        checkpoints.delete(adapterKey);
+        localStore.deleteAll(adapterKey);
+    }
+
+    private void update(String adapterKey, Consumer<HashMap<String, String>> change) {
+        checkpoints.lock(adapterKey);
+        try {
+            HashMap<String, String> values = checkpoints.get(adapterKey);
+            values = values != null ? new HashMap<>(values) : new HashMap<>(localStore.loadAll(adapterKey));
+            change.accept(values);
+            checkpoints.set(adapterKey, values);
+        } finally {
+            checkpoints.unlock(adapterKey);
+        }
+    }
+}
@@ -2,7 +2,7 @@ package com.integrixs.backend.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.integrixs.shared.util.JsonCodec;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -14,12 +14,10 @@ public class JacksonConfig {
 
     @Bean
     public ObjectMapper objectMapper() {
-        ObjectMapper mapper = new ObjectMapper();
+        // Own copy of the shared settings(java.time support), Spring may customize it
+        ObjectMapper mapper = JsonCodec.newMapper();
 
-        // Register Java time module
-        mapper.registerModule(new JavaTimeModule());
-
-        // Disable writing dates as timestamps
+        // The REST API writes dates as ISO strings
         mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
 
         return mapper;
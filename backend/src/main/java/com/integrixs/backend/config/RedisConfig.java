@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.integrixs.shared.util.JsonCodec;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -146,7 +147,7 @@ public class RedisConfig implements CachingConfigurer {
         template.setConnectionFactory(connectionFactory);
 
         // Configure Jackson serializer
-        ObjectMapper objectMapper = new ObjectMapper();
+        ObjectMapper objectMapper = JsonCodec.newMapper();
         objectMapper.registerModule(new JavaTimeModule());
         objectMapper.activateDefaultTyping(
             BasicPolymorphicTypeValidator.builder()
@@ -0,0 +1,105 @@
+package com.integrixs.backend.controller;
+
+import com.integrixs.backend.security.RequiresPermission;
+import com.integrixs.backend.security.ResourcePermission;
+import com.integrixs.backend.service.DeadLetterReplayService;
+import com.integrixs.backend.service.DeadLetterReplayService.ReplayCriteria;
+import com.integrixs.backend.service.DeadLetterReplayService.ReplayJob;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Controller for rate limited replay of dead letter messages
+ */
+@RestController
+@RequestMapping("/api/dead-letters/replays")
+@Tag(name = "Dead Letter Replay", description = "Dead letter replay management API")
+public class DeadLetterReplayController {
+
+    private static final Logger logger = LoggerFactory.getLogger(DeadLetterReplayController.class);
+
+    @Autowired
+    private DeadLetterReplayService replayService;
+
+    /**
+     * Start a replay
+     */
+    @PostMapping
+    @Operation(summary = "Start replay", description = "Replays the dead letters matching the criteria at a limited rate")
+    @RequiresPermission(ResourcePermission.FLOW_EXECUTE)
+    public ResponseEntity<ReplayJob> startReplay(@RequestBody ReplayCriteria criteria) {
+        ReplayJob job = replayService.startReplay(criteria);
+        logger.info("Dead letter replay {} started", job.getId());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+    /**
+     * List replays
+     */
+    @GetMapping
+    @Operation(summary = "List replays", description = "Lists dead letter replays and their progress")
+    @RequiresPermission(ResourcePermission.MONITOR_FLOWS)
+    public ResponseEntity<Collection<ReplayJob>> getReplays() {
+        return ResponseEntity.ok(replayService.getReplays());
+    }
+
+    /**
+     * Get replay by ID
+     */
+    @GetMapping("/{jobId}")
+    @Operation(summary = "Get replay", description = "Gets the progress of a dead letter replay")
+    @RequiresPermission(ResourcePermission.MONITOR_FLOWS)
+    public ResponseEntity<ReplayJob> getReplay(@PathVariable String jobId) {
+        ReplayJob job = replayService.getReplay(jobId);
+        return job != null ? ResponseEntity.ok(job) : ResponseEntity.notFound().build();
+    }
+
+    /**
+     * Pause a replay
+     */
+    @PostMapping("/{jobId}/pause")
+    @Operation(summary = "Pause replay", description = "Pauses a running replay after its current batch")
+    @RequiresPermission(ResourcePermission.FLOW_EXECUTE)
+    public ResponseEntity<?> pauseReplay(@PathVariable String jobId) {
+        return toResponse(jobId, replayService.pauseReplay(jobId), "Replay paused", "Replay is not running");
+    }
+
+    /**
+     * Resume a replay
+     */
+    @PostMapping("/{jobId}/resume")
+    @Operation(summary = "Resume replay", description = "Resumes a paused or interrupted replay from its last checkpoint")
+    @RequiresPermission(ResourcePermission.FLOW_EXECUTE)
+    public ResponseEntity<?> resumeReplay(@PathVariable String jobId) {
+        return toResponse(jobId, replayService.resumeReplay(jobId), "Replay resumed", "Replay cannot be resumed");
+    }
+
+    /**
+     * Cancel a replay
+     */
+    @PostMapping("/{jobId}/cancel")
+    @Operation(summary = "Cancel replay", description = "Cancels a replay, entries replayed so far stay replayed")
+    @RequiresPermission(ResourcePermission.FLOW_EXECUTE)
+    public ResponseEntity<?> cancelReplay(@PathVariable String jobId) {
+        return toResponse(jobId, replayService.cancelReplay(jobId), "Replay cancelled", "Replay is already finished");
+    }
+
+    private ResponseEntity<?> toResponse(String jobId, boolean changed, String message, String error) {
+        if(replayService.getReplay(jobId) == null) {
+            return ResponseEntity.notFound().build();
+        }
+        if(changed) {
+            return ResponseEntity.ok(Map.of("message", message));
+        }
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("error", error));
+    }
+}
@@ -5,6 +5,7 @@ import com.integrixs.backend.service.MessageStructureService;
 import com.integrixs.data.model.User;
 import com.integrixs.shared.dto.structure.MessageStructureCreateRequestDTO;
 import com.integrixs.shared.dto.structure.MessageStructureDTO;
+import com.integrixs.shared.util.JsonCodec;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -112,7 +113,7 @@ public class MessageStructureController {
         if(allFileNamesJson != null) {
             try {
                 allFileNames = new HashSet<>(Arrays.asList(
-                    new ObjectMapper().readValue(allFileNamesJson, String[].class)
+                    JsonCodec.mapper().readValue(allFileNamesJson, String[].class)
                ));
                 log.info("Received {} total file names for dependency checking", allFileNames.size());
             } catch(Exception e) {
@@ -3,6 +3,7 @@ package com.integrixs.backend.domain.service;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.integrixs.backend.security.CredentialEncryptionService;
+import com.integrixs.shared.util.JsonCodec;
 import org.springframework.stereotype.Service;
 
 import java.util.Arrays;
@@ -22,7 +23,7 @@ public class AdapterConfigurationService {
 
 
     private final CredentialEncryptionService encryptionService;
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectMapper objectMapper = JsonCodec.mapper();
 
     public AdapterConfigurationService(CredentialEncryptionService encryptionService) {
         this.encryptionService = encryptionService;
@@ -193,6 +193,7 @@ public class FlowExecutionService {
                type == FlowTransformation.TransformationType.CUSTOM_FUNCTION ||
                type == FlowTransformation.TransformationType.FILTER ||
                type == FlowTransformation.TransformationType.ENRICHMENT ||
-               type == FlowTransformation.TransformationType.VALIDATION;
+               type == FlowTransformation.TransformationType.VALIDATION ||
+               type == FlowTransformation.TransformationType.XSLT;
     }
 }
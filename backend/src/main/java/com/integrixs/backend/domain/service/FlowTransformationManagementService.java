@@ -83,6 +83,12 @@ public class FlowTransformationManagementService {
                 }
                 break;
 
+            case XSLT:
+                if(transformation.getConfiguration() == null || transformation.getConfiguration().trim().isEmpty()) {
+                    throw new IllegalArgumentException("Configuration is required for XSLT transformation");
+                }
+                break;
+
             default:
                 throw new IllegalArgumentException("Unsupported transformation type: " + transformation.getType());
         }
@@ -176,6 +182,8 @@ public class FlowTransformationManagementService {
                 return "Enrichment";
             case VALIDATION:
                 return "Validation";
+            case XSLT:
+                return "XSLT";
             default:
                 return type.name();
         }
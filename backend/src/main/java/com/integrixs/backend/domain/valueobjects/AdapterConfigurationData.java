@@ -3,6 +3,7 @@ package com.integrixs.backend.domain.valueobjects;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.integrixs.shared.exceptions.ValidationException;
+import com.integrixs.shared.util.JsonCodec;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -20,7 +21,7 @@ public class AdapterConfigurationData {
 
     private final Map<String, Object> properties;
 
-    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final ObjectMapper objectMapper = JsonCodec.mapper();
 
     /**
      * Creates a new AdapterConfiguration.
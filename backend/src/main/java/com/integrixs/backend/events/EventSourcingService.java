@@ -1,18 +1,29 @@
 package com.integrixs.backend.events;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.integrixs.data.model.AggregateSnapshot;
 import com.integrixs.data.model.EventStore;
+import com.integrixs.data.sql.repository.AggregateSnapshotSqlRepository;
 import com.integrixs.data.sql.repository.EventStoreSqlRepository;
 import com.integrixs.shared.events.DomainEvent;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,6 +31,10 @@ import org.slf4j.LoggerFactory;
 /**
  * Service for event sourcing - stores all domain events.
  *
+ * <p>Aggregates are rebuilt from their latest snapshot plus the events stored after it. A snapshot is taken
+ * when a rebuild replayed at least the configured number of events, or on demand, and old snapshots are
+ * compacted periodically.
+ *
  * @author Integration Team
  * @since 1.0.0
  */
@@ -28,19 +43,52 @@ public class EventSourcingService {
 
     private static final Logger log = LoggerFactory.getLogger(EventSourcingService.class);
 
+    // Attempts to append an event when concurrent writers race for the same version
+    private static final int MAX_APPEND_ATTEMPTS = 5;
 
     private final EventStoreSqlRepository eventStoreRepository;
+    private final AggregateSnapshotSqlRepository snapshotRepository;
     private final ObjectMapper objectMapper;
+    private final TransactionTemplate appendTemplate;
 
     private static final ThreadLocal<String> correlationId = new ThreadLocal<>();
 
-    public EventSourcingService(EventStoreSqlRepository eventStoreRepository, ObjectMapper objectMapper) {
+    @Value("${integrix.events.snapshot.enabled:true}")
+    private boolean snapshotsEnabled;
+
+    // Take a snapshot once a rebuild replays this many events
+    @Value("${integrix.events.snapshot.interval:100}")
+    private int snapshotInterval;
+
+    // Snapshots kept per aggregate by the compactor
+    @Value("${integrix.events.snapshot.keep:2}")
+    private int snapshotsKept;
+
+    /**
+     * Current schema version per snapshotted aggregate type, used by the compactor
+     */
+    private final Map<String, Integer> snapshotSchemaVersions = new ConcurrentHashMap<>();
+
+    /**
+     * Aggregate types that could not be serialized, they are always rebuilt from events
+     */
+    private final Set<Class<?>> unsnapshottableTypes = ConcurrentHashMap.newKeySet();
+
+    public EventSourcingService(EventStoreSqlRepository eventStoreRepository,
+                                AggregateSnapshotSqlRepository snapshotRepository,
+                                ObjectMapper objectMapper,
+                                PlatformTransactionManager transactionManager) {
         this.eventStoreRepository = eventStoreRepository;
+        this.snapshotRepository = snapshotRepository;
         this.objectMapper = objectMapper;
+        // Each append runs in a savepoint so a version conflict does not abort the caller's transaction
+        this.appendTemplate = new TransactionTemplate(transactionManager);
+        this.appendTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
     }
 
     /**
-     * Stores a domain event.
+     * Stores a domain event. The version is unique per aggregate, a writer that loses the race
+     * for a version retries with the next one.
      *
      * @param event the domain event
      */
@@ -53,15 +101,11 @@ public class EventSourcingService {
                 corrId = UUID.randomUUID().toString();
             }
 
-            // Get latest version for aggregate
-            Long latestVersion = eventStoreRepository.getLatestVersionForAggregate(UUID.fromString(event.getAggregateId()));
-
-            // Create event store entry
+            // Create event store entry, the version is assigned on append
             EventStore eventStore = EventStore.builder()
                 .eventId(UUID.fromString(event.getEventId()))
                 .aggregateType(getAggregateType(event))
                 .aggregateId(UUID.fromString(event.getAggregateId()))
-                .aggregateVersion(latestVersion + 1)
                 .eventType(event.getEventType())
                 .eventData(serializeEvent(event))
                 .eventMetadata(createMetadata(event))
@@ -70,7 +114,7 @@ public class EventSourcingService {
                 .correlationId(UUID.fromString(corrId))
                 .build();
 
-            eventStoreRepository.save(eventStore);
+            append(eventStore);
 
             log.debug("Stored event: {} for aggregate: {} version: {}",
                      event.getEventType(), event.getAggregateId(), eventStore.getAggregateVersion());
@@ -82,6 +126,29 @@ public class EventSourcingService {
         }
     }
 
+    /**
+     * Appends an event at the next version of its aggregate, retrying with a fresh version
+     * when a concurrent writer took it first.
+     */
+    private void append(EventStore eventStore) {
+        for(int attempt = 1; ; attempt++) {
+            try {
+                appendTemplate.executeWithoutResult(status -> {
+                    Long latestVersion = eventStoreRepository.getLatestVersionForAggregate(eventStore.getAggregateId());
+                    eventStore.setAggregateVersion(latestVersion + 1);
+                    eventStoreRepository.save(eventStore);
+                });
+                return;
+            } catch(DuplicateKeyException e) {
+                if(attempt >= MAX_APPEND_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("Version {} of aggregate {} already taken, retrying",
+                         eventStore.getAggregateVersion(), eventStore.getAggregateId());
+            }
+        }
+    }
+
     /**
      * Gets event history for an aggregate.
      *
@@ -105,59 +172,181 @@ public class EventSourcingService {
     }
 
     /**
-     * Rebuilds aggregate state from events.
+     * Rebuilds aggregate state from its latest snapshot and the events after it.
      *
      * @param aggregateId the aggregate ID
      * @param aggregateType the aggregate type
      * @param <T> the aggregate type
      * @return rebuilt aggregate or null
      */
-    @SuppressWarnings("unchecked")
     public <T> T rebuildAggregate(String aggregateId, Class<T> aggregateType) {
-        List<EventStore> events = getEventHistory(aggregateId, aggregateType.getSimpleName());
+        return rebuildAggregate(aggregateId, aggregateType, false);
+    }
 
-        if(events.isEmpty()) {
+    /**
+     * Takes a snapshot of an aggregate's current state.
+     *
+     * @param aggregateId the aggregate ID
+     * @param aggregateType the aggregate type
+     * @return true if a snapshot is stored for the aggregate's latest version
+     */
+    public boolean createSnapshot(String aggregateId, Class<?> aggregateType) {
+        if(!snapshotsEnabled || unsnapshottableTypes.contains(aggregateType)) {
+            return false;
+        }
+        return rebuildAggregate(aggregateId, aggregateType, true) != null && !unsnapshottableTypes.contains(aggregateType);
+    }
+
+    private <T> T rebuildAggregate(String aggregateId, Class<T> aggregateType, boolean forceSnapshot) {
+        UUID id = UUID.fromString(aggregateId);
+        String type = aggregateType.getSimpleName();
+        boolean snapshottable = snapshotsEnabled && !unsnapshottableTypes.contains(aggregateType);
+        int schemaVersion = getSnapshotSchemaVersion(aggregateType);
+
+        AggregateSnapshot snapshot = snapshottable ? findSnapshot(id, type, schemaVersion) : null;
+        T aggregate = snapshot != null ? readSnapshot(snapshot, aggregateType) : null;
+        long snapshotVersion = aggregate != null ? snapshot.getAggregateVersion() : 0;
+
+        List<EventStore> events = aggregate != null
+            ? eventStoreRepository.findByAggregateIdAndAggregateTypeAfterVersion(id, type, snapshotVersion)
+            : getEventHistory(aggregateId, type);
+
+        if(aggregate == null && events.isEmpty()) {
             return null;
         }
 
-        log.info("Rebuilding aggregate {} from {} events", aggregateId, events.size());
+        if(aggregate != null) {
+            log.debug("Rebuilding aggregate {} from snapshot version {} and {} events", aggregateId, snapshotVersion, events.size());
+        } else {
+            log.info("Rebuilding aggregate {} from {} events", aggregateId, events.size());
+        }
 
         try {
-            // Create a new instance of the aggregate
-            T aggregate = aggregateType.getDeclaredConstructor().newInstance();
+            if(aggregate == null) {
+                aggregate = aggregateType.getDeclaredConstructor().newInstance();
+            }
+            applyEvents(aggregate, events);
+        } catch(Exception e) {
+            log.error("Failed to rebuild aggregate {} of type {}", aggregateId, aggregateType.getName(), e);
+            return null;
+        }
 
-            // Apply each event to rebuild the state
-            for(EventStore eventStore : events) {
-                // Deserialize the event
-                String eventData = eventStore.getEventData();
-                String eventMetadata = eventStore.getEventMetadata();
+        long version = events.isEmpty() ? snapshotVersion : events.get(events.size() - 1).getAggregateVersion();
+        boolean snapshotDue = forceSnapshot ? version > snapshotVersion : events.size() >= snapshotInterval;
+        if(snapshottable && snapshotDue) {
+            storeSnapshot(id, type, aggregate, version, schemaVersion);
+        }
 
-                // Get the event class from metadata
-                Map<String, Object> metadata = objectMapper.readValue(eventMetadata, Map.class);
-                String eventClassName = (String) metadata.get("eventClass");
+        return aggregate;
+    }
 
-                if(eventClassName != null) {
-                    try {
-                        // Load the event class
-                        Class<?> eventClass = Class.forName(eventClassName);
+    private AggregateSnapshot findSnapshot(UUID aggregateId, String type, int schemaVersion) {
+        try {
+            return snapshotRepository.findLatest(aggregateId, type, schemaVersion).orElse(null);
+        } catch(Exception e) {
+            log.warn("Failed to load snapshot of aggregate {}: {}", aggregateId, e.getMessage());
+            return null;
+        }
+    }
 
-                        // Deserialize the event
-                        Object event = objectMapper.readValue(eventData, eventClass);
+    /**
+     * Restores an aggregate from a snapshot of the current schema version.
+     * Unknown properties are ignored so fields removed from the aggregate do not invalidate snapshots;
+     * a snapshot that cannot be read is skipped and the aggregate is rebuilt from all events.
+     */
+    private <T> T readSnapshot(AggregateSnapshot snapshot, Class<T> aggregateType) {
+        try {
+            return objectMapper.readerFor(aggregateType)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .readValue(snapshot.getSnapshotData());
+        } catch(Exception e) {
+            log.warn("Ignoring unreadable snapshot of aggregate {} of type {}: {}",
+                snapshot.getAggregateId(), snapshot.getAggregateType(), e.getMessage());
+            return null;
+        }
+    }
 
-                        // Apply the event to the aggregate
-                        applyEventToAggregate(aggregate, event);
+    private void storeSnapshot(UUID aggregateId, String type, Object aggregate, long version, int schemaVersion) {
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(aggregate);
+        } catch(Exception e) {
+            log.warn("Aggregate type {} cannot be snapshotted, it is always rebuilt from events: {}", type, e.getMessage());
+            unsnapshottableTypes.add(aggregate.getClass());
+            return;
+        }
+        try {
+            AggregateSnapshot snapshot = new AggregateSnapshot();
+            snapshot.setAggregateId(aggregateId);
+            snapshot.setAggregateType(type);
+            snapshot.setAggregateVersion(version);
+            snapshot.setSchemaVersion(schemaVersion);
+            snapshot.setSnapshotData(data);
+            snapshotRepository.save(snapshot);
+            snapshotSchemaVersions.put(type, schemaVersion);
+            log.debug("Stored snapshot of aggregate {} at version {}", aggregateId, version);
+        } catch(Exception e) {
+            // Snapshots are an optimization, the events stay the source of truth
+            log.warn("Failed to store snapshot of aggregate {}: {}", aggregateId, e.getMessage());
+        }
+    }
 
-                    } catch(ClassNotFoundException e) {
-                        log.warn("Event class not found: {}", eventClassName);
-                    }
-                }
+    private int getSnapshotSchemaVersion(Class<?> aggregateType) {
+        SnapshotVersion snapshotVersion = aggregateType.getAnnotation(SnapshotVersion.class);
+        return snapshotVersion != null ? snapshotVersion.value() : 1;
+    }
+
+    /**
+     * Deletes superseded snapshots and snapshots of outdated schema versions
+     */
+    @Scheduled(cron = "${integrix.events.snapshot.compaction-cron:0 30 3 * * ?}")
+    public void compactSnapshots() {
+        if(!snapshotsEnabled) {
+            return;
+        }
+        try {
+            int deleted = 0;
+            for(Map.Entry<String, Integer> entry : snapshotSchemaVersions.entrySet()) {
+                deleted += snapshotRepository.deleteOtherSchemaVersions(entry.getKey(), entry.getValue());
             }
+            deleted += snapshotRepository.deleteSuperseded(snapshotsKept);
+            if(deleted > 0) {
+                log.info("Compacted {} aggregate snapshots", deleted);
+            }
+        } catch(Exception e) {
+            log.error("Failed to compact aggregate snapshots", e);
+        }
+    }
+
+    /**
+     * Applies stored events in order to an aggregate
+     */
+    @SuppressWarnings("unchecked")
+    private void applyEvents(Object aggregate, List<EventStore> events) throws Exception {
+        for(EventStore eventStore : events) {
+            // Deserialize the event
+            String eventData = eventStore.getEventData();
+            String eventMetadata = eventStore.getEventMetadata();
 
-            return aggregate;
+            // Get the event class from metadata
+            Map<String, Object> metadata = objectMapper.readValue(eventMetadata, Map.class);
+            String eventClassName = (String) metadata.get("eventClass");
 
-        } catch(Exception e) {
-            log.error("Failed to rebuild aggregate {} of type {}", aggregateId, aggregateType.getName(), e);
-            return null;
+            if(eventClassName != null) {
+                try {
+                    // Load the event class
+                    Class<?> eventClass = Class.forName(eventClassName);
+
+                    // Deserialize the event
+                    Object event = objectMapper.readValue(eventData, eventClass);
+
+                    // Apply the event to the aggregate
+                    applyEventToAggregate(aggregate, event);
+
+                } catch(ClassNotFoundException e) {
+                    log.warn("Event class not found: {}", eventClassName);
+                }
+            }
         }
     }
 
@@ -0,0 +1,24 @@
+package com.integrixs.backend.events;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Schema version of an event sourced aggregate's snapshot form.
+ * Increase it when a change to the aggregate's fields makes older snapshots unreadable or wrong; snapshots of
+ * another version are then ignored, the aggregate is rebuilt from its events and snapshotted again.
+ * Aggregates without the annotation use version 1.
+ *
+ * @author Integration Team
+ * @since 1.0.0
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SnapshotVersion {
+
+    int value();
+}
@@ -6,6 +6,7 @@ import com.integrixs.data.model.CommunicationAdapter;
 import com.integrixs.data.model.FlowTransformation;
 import com.integrixs.data.model.IntegrationFlow;
 import com.integrixs.data.model.FieldMapping;
+import com.integrixs.shared.util.JsonCodec;
 import org.springframework.stereotype.Service;
 
 import java.util.HashMap;
@@ -24,7 +25,7 @@ public class AdapterConfigurationService {
     private static final Logger log = LoggerFactory.getLogger(AdapterConfigurationService.class);
 
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectMapper objectMapper = JsonCodec.mapper();
 
     /**
      * Parse adapter configuration JSON
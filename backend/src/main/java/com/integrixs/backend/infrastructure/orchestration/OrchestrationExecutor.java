@@ -5,8 +5,9 @@ import com.integrixs.backend.domain.model.OrchestrationExecution;
 import com.integrixs.backend.service.TransformationExecutionService;
 import com.integrixs.data.model.CommunicationAdapter;
 import com.integrixs.data.model.IntegrationFlow;
-import com.integrixs.data.sql.repository.CommunicationAdapterSqlRepository;
+import com.integrixs.backend.cache.DefinitionCache;
 import com.integrixs.engine.AdapterExecutor;
+import com.integrixs.shared.util.JsonCodec;
 import org.springframework.stereotype.Service;
 
 import java.util.HashMap;
@@ -25,15 +26,15 @@ public class OrchestrationExecutor {
 
 
     private final TransformationExecutionService transformationService;
-    private final CommunicationAdapterSqlRepository adapterRepository;
+    private final DefinitionCache definitionCache;
     private final AdapterExecutor adapterExecutor;
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectMapper objectMapper = JsonCodec.mapper();
 
     public OrchestrationExecutor(TransformationExecutionService transformationService,
-                               CommunicationAdapterSqlRepository adapterRepository,
+                               DefinitionCache definitionCache,
                                AdapterExecutor adapterExecutor) {
         this.transformationService = transformationService;
-        this.adapterRepository = adapterRepository;
+        this.definitionCache = definitionCache;
         this.adapterExecutor = adapterExecutor;
     }
 
@@ -48,7 +49,7 @@ public class OrchestrationExecutor {
             execution.addLog("Initializing communication adapters");
 
             // Validate source adapter
-            CommunicationAdapter inboundAdapter = adapterRepository.findById(flow.getInboundAdapterId())
+            CommunicationAdapter inboundAdapter = definitionCache.findAdapter(flow.getInboundAdapterId())
                 .orElseThrow(() -> new RuntimeException("Source adapter not found"));
 
             if(!inboundAdapter.isActive()) {
@@ -57,7 +58,7 @@ public class OrchestrationExecutor {
             }
 
             // Validate target adapter
-            CommunicationAdapter outboundAdapter = adapterRepository.findById(flow.getOutboundAdapterId())
+            CommunicationAdapter outboundAdapter = definitionCache.findAdapter(flow.getOutboundAdapterId())
                 .orElseThrow(() -> new RuntimeException("Target adapter not found"));
 
             if(!outboundAdapter.isActive()) {
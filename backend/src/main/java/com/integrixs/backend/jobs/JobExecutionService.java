@@ -5,8 +5,10 @@ import com.integrixs.backend.security.TenantContext;
 import com.integrixs.backend.websocket.JobProgressWebSocketHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
 import org.springframework.context.ApplicationContext;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -20,14 +22,25 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.integrixs.backend.jobs.BackgroundJob;
 import com.integrixs.data.model.User;
 import com.integrixs.backend.repository.BackgroundJobSqlRepository;
+import com.integrixs.shared.util.JsonCodec;
+import java.net.InetAddress;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 import java.util.Arrays;
 
 /**
- * Service for executing background jobs
+ * Service for executing background jobs.
+ *
+ * Workers claim due jobs in batches with FOR UPDATE SKIP LOCKED, so nodes never contend on the same rows, and run
+ * them under a lease that a heartbeat keeps extending. Jobs of a crashed node become claimable again once their
+ * lease expires. A PostgreSQL notification wakes the dispatcher when a job is enqueued; polling only covers
+ * missed notifications and jobs scheduled for later, and runs at a lower rate while notifications arrive.
  */
 @Service
 public class JobExecutionService {
@@ -37,7 +50,7 @@ public class JobExecutionService {
     @Autowired
     private BackgroundJobRepository jobRepository;
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectMapper objectMapper = JsonCodec.mapper();
 
     @Autowired
     private ApplicationContext applicationContext;
@@ -57,6 +70,41 @@ public class JobExecutionService {
     @Value("${jobs.executor.cleanup-age-days:30}")
     private int cleanupAgeDays;
 
+    @Value("${jobs.executor.claim-batch-size:10}")
+    private int claimBatchSize;
+
+    @Value("${jobs.executor.lease-duration:60000}")
+    private long leaseDuration;
+
+    @Value("${jobs.executor.poll-interval:5000}")
+    private long pollInterval;
+
+    @Value("${jobs.executor.notify-poll-interval:60000}")
+    private long notifyPollInterval;
+
+    @Value("${jobs.executor.notifications.enabled:true}")
+    private boolean notificationsEnabled;
+
+    @Value("${jobs.executor.node-id:}")
+    private String nodeId;
+
+    @Autowired
+    private ObjectProvider<DataSourceProperties> dataSourceProperties;
+
+    private JobNotificationListener notificationListener;
+    private ExecutorService dispatcher;
+    private final AtomicBoolean dispatchPending = new AtomicBoolean();
+    private volatile ScheduledFuture<?> scheduledWake;
+    private volatile LocalDateTime scheduledWakeAt;
+    private volatile long lastPollAt;
+
+    private final LongAdder claimedJobs = new LongAdder();
+    private final LongAdder completedJobs = new LongAdder();
+    private final LongAdder dispatches = new LongAdder();
+    private final LongAdder leasesLost = new LongAdder();
+    private final LongAdder pickupLatencyTotal = new LongAdder();
+    private final AtomicLong pickupLatencyMax = new AtomicLong();
+
     private ExecutorService executorService;
     private ScheduledExecutorService scheduledExecutor;
     private Map<String, JobExecutor> jobExecutors = new ConcurrentHashMap<>();
@@ -87,13 +135,35 @@ public class JobExecutionService {
         // Initialize scheduled executor for maintenance tasks
         this.scheduledExecutor = Executors.newScheduledThreadPool(2);
 
+        // Single dispatcher thread, dispatch requests arriving while one is pending are coalesced
+        this.dispatcher = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "job - dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        if(nodeId == null || nodeId.isBlank()) {
+            nodeId = resolveHostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+        }
+
         // Discover and register job executors
         discoverJobExecutors();
+
+        // Heartbeat: extend the leases of the jobs running on this node
+        long heartbeatInterval = Math.max(1000, leaseDuration / 3);
+        scheduledExecutor.scheduleWithFixedDelay(this::renewLeases, heartbeatInterval, heartbeatInterval,
+            TimeUnit.MILLISECONDS);
+
+        startNotificationListener();
     }
 
     @PreDestroy
     public void shutdown() {
         logger.info("Shutting down job execution service");
+        if(notificationListener != null) {
+            notificationListener.stop();
+        }
+        dispatcher.shutdownNow();
         executorService.shutdown();
         scheduledExecutor.shutdown();
         try {
@@ -140,8 +210,8 @@ public class JobExecutionService {
 
         logger.info("Submitted job {} of type {}", job.getId(), jobType);
 
-        // Trigger job processing
-        processNextJobs();
+        // Other nodes are woken by the insert notification, this node does not wait for it
+        requestDispatch();
 
         return job;
     }
@@ -199,30 +269,57 @@ public class JobExecutionService {
     }
 
     /**
-     * Process pending jobs
+     * Fallback polling for missed notifications, at a lower rate while notifications are received
+     */
+    @Scheduled(fixedDelayString = "${jobs.executor.poll-interval:5000}")
+    public void pollForJobs() {
+        long interval = notificationListener != null && notificationListener.isListening()
+            ? notifyPollInterval : pollInterval;
+        if(System.currentTimeMillis() - lastPollAt >= interval - 100) {
+            requestDispatch();
+        }
+    }
+
+    /**
+     * Claim and start due jobs on the dispatcher thread; requests made while a dispatch is pending are coalesced
      */
-    @Scheduled(fixedDelay = 5000) // Run every 5 seconds
-    public void processNextJobs() {
+    public void requestDispatch() {
+        if(dispatcher == null || dispatcher.isShutdown() || !dispatchPending.compareAndSet(false, true)) {
+            return;
+        }
         try {
-            // Find pending jobs
-            Page<BackgroundJob> pendingJobsPage = jobRepository.findPendingJobs(
-                LocalDateTime.now(),
-                PageRequest.of(0, executorThreads * 2)
-           );
-            List<BackgroundJob> pendingJobs = pendingJobsPage.getContent();
-
-            for(BackgroundJob job : pendingJobs) {
-                if(runningJobs.size() >= executorThreads) {
-                    break; // Thread pool is full
-                }
+            dispatcher.execute(() -> {
+                dispatchPending.set(false);
+                processNextJobs();
+            });
+        } catch(RejectedExecutionException e) {
+            dispatchPending.set(false);
+        }
+    }
 
-                // Try to claim the job
-                int updated = jobRepository.updateJobStatus(job.getId(), JobStatus.PENDING, JobStatus.RUNNING);
-                if(updated > 0) {
-                    // Successfully claimed the job
+    /**
+     * Claim due jobs in batches while this node has free executor threads
+     */
+    public synchronized void processNextJobs() {
+        lastPollAt = System.currentTimeMillis();
+        dispatches.increment();
+        try {
+            int capacity = executorThreads - runningJobs.size();
+            while(capacity > 0) {
+                int limit = Math.min(capacity, claimBatchSize);
+                LocalDateTime now = LocalDateTime.now();
+                List<BackgroundJob> claimed = jobRepository.claimJobs(nodeId, limit, now,
+                    now.plus(Duration.ofMillis(leaseDuration)));
+                for(BackgroundJob job : claimed) {
+                    recordPickup(job, now);
                     executeJob(job);
                 }
+                if(claimed.size() < limit) {
+                    break;
+                }
+                capacity = executorThreads - runningJobs.size();
             }
+            scheduleWakeForNextDueJob();
         } catch(Exception e) {
             logger.error("Error processing pending jobs", e);
         }
@@ -233,7 +330,7 @@ public class JobExecutionService {
      */
     @Async
     public void executeJob(BackgroundJob job) {
-        Future<?> future = executorService.submit(() -> {
+        FutureTask<Void> future = new FutureTask<>(() -> {
             try {
                 // Set tenant context
                 if(job.getTenantId() != null) {
@@ -245,7 +342,9 @@ public class JobExecutionService {
                 // Update job start time
                 job.setStartedAt(LocalDateTime.now());
                 job.setStatus(JobStatus.RUNNING);
-                jobRepository.save(job);
+                if(!updateUnderLease(job)) {
+                    return;
+                }
 
                 // Get executor
                 JobExecutor executor = jobExecutors.get(job.getJobType());
@@ -269,7 +368,9 @@ public class JobExecutionService {
                 job.setProgress(100);
                 job.setCompletedAt(LocalDateTime.now());
                 job.setResults(results);
-                jobRepository.save(job);
+                if(!updateUnderLease(job)) {
+                    return;
+                }
 
                 logger.info("Job {} completed successfully", job.getId());
 
@@ -279,12 +380,115 @@ public class JobExecutionService {
             } finally {
                 // Clean up
                 runningJobs.remove(job.getId());
+                completedJobs.increment();
                 TenantContext.clear();
                 notifyJobUpdate(job);
+                // A thread is free again, pick up waiting jobs
+                requestDispatch();
             }
-        });
+        }, null);
 
+        // Registered before it runs, so a job that finishes immediately is not left behind as running
         runningJobs.put(job.getId(), future);
+        executorService.execute(future);
+    }
+
+    /**
+     * Record how long a claimed job waited from being due to being picked up
+     */
+    private void recordPickup(BackgroundJob job, LocalDateTime claimedAt) {
+        claimedJobs.increment();
+        LocalDateTime dueAt = job.getScheduledAt() != null ? job.getScheduledAt() : job.getCreatedAt();
+        if(dueAt != null) {
+            long latency = Math.max(0, Duration.between(dueAt, claimedAt).toMillis());
+            pickupLatencyTotal.add(latency);
+            pickupLatencyMax.accumulateAndGet(latency, Math::max);
+        }
+    }
+
+    /**
+     * Wake the dispatcher when the next job scheduled for later becomes due, instead of polling for it
+     */
+    private void scheduleWakeForNextDueJob() {
+        Optional<LocalDateTime> next = jobRepository.findNextScheduledAt(LocalDateTime.now());
+        if(next.isEmpty()) {
+            return;
+        }
+        LocalDateTime dueAt = next.get();
+        ScheduledFuture<?> current = scheduledWake;
+        if(current != null && !current.isDone() && scheduledWakeAt != null && !dueAt.isBefore(scheduledWakeAt)) {
+            return;
+        }
+        if(current != null) {
+            current.cancel(false);
+        }
+        long delay = Math.max(0, Duration.between(LocalDateTime.now(), dueAt).toMillis());
+        scheduledWakeAt = dueAt;
+        scheduledWake = scheduledExecutor.schedule(this::requestDispatch, delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Heartbeat: extend the leases of the running jobs, and stop jobs whose lease this node lost
+     * (e.g. after a long pause another node may already have claimed them again)
+     */
+    private void renewLeases() {
+        if(runningJobs.isEmpty()) {
+            return;
+        }
+        try {
+            Set<UUID> running = new HashSet<>(runningJobs.keySet());
+            List<UUID> renewed = jobRepository.renewLeases(nodeId, running,
+                LocalDateTime.now().plus(Duration.ofMillis(leaseDuration)));
+            running.removeAll(renewed);
+            for(UUID jobId : running) {
+                Future<?> future = runningJobs.get(jobId);
+                if(future != null && !future.isDone()) {
+                    logger.warn("Lost the lease of job {}, stopping it", jobId);
+                    leasesLost.increment();
+                    future.cancel(true);
+                }
+            }
+        } catch(Exception e) {
+            logger.error("Error renewing job leases", e);
+        }
+    }
+
+    private void startNotificationListener() {
+        DataSourceProperties properties = dataSourceProperties.getIfAvailable();
+        if(!notificationsEnabled || properties == null) {
+            logger.info("Job notifications disabled, job workers poll every {} ms", pollInterval);
+            return;
+        }
+        try {
+            notificationListener = new JobNotificationListener(properties.determineUrl(),
+                properties.determineUsername(), properties.determinePassword(),
+                (int) Math.min(Integer.MAX_VALUE, Math.max(1000, pollInterval)), this::requestDispatch);
+            notificationListener.start();
+        } catch(Exception e) {
+            logger.warn("Could not start job notifications, job workers poll only: {}", e.getMessage());
+            notificationListener = null;
+        }
+    }
+
+    private static String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch(Exception e) {
+            return "node";
+        }
+    }
+
+    /**
+     * Write the state of a job this node runs, unless its lease was lost and the job may have been claimed again
+     * @return false if the update was discarded
+     */
+    private boolean updateUnderLease(BackgroundJob job) {
+        if(jobRepository.updateUnderLease(job, nodeId) > 0) {
+            return true;
+        }
+        logger.warn("Lost the lease of job {}, discarding its {} state", job.getId(), job.getStatus());
+        leasesLost.increment();
+        return false;
     }
 
     /**
@@ -312,7 +516,7 @@ public class JobExecutionService {
                 job.setCompletedAt(LocalDateTime.now());
             }
 
-            jobRepository.save(job);
+            updateUnderLease(job);
 
         } catch(Exception e) {
             logger.error("Error handling job failure", e);
@@ -325,19 +529,11 @@ public class JobExecutionService {
     @Scheduled(fixedDelay = 300000) // Run every 5 minutes
     public void cleanupStuckJobs() {
         try {
-            LocalDateTime cutoffTime = LocalDateTime.now().minusNanos(stuckJobTimeout * 1_000_000);
-            List<BackgroundJob> stuckJobs = jobRepository.findStuckJobs(cutoffTime);
-
-            for(BackgroundJob job : stuckJobs) {
-                logger.warn("Found stuck job: {}", job.getId());
-                job.setStatus(JobStatus.FAILED);
-                job.setErrorMessage("Job execution timed out");
-                job.setCompletedAt(LocalDateTime.now());
-                jobRepository.save(job);
-            }
-
-            if(!stuckJobs.isEmpty()) {
-                logger.info("Cleaned up {} stuck jobs", stuckJobs.size());
+            // Jobs of crashed nodes with retries left are claimed again, the rest fail here.
+            // Leased jobs are never failed by age, a long running job keeps renewing its lease
+            int expired = jobRepository.failExpiredLeases(LocalDateTime.now());
+            if(expired > 0) {
+                logger.warn("Failed {} jobs whose lease expired without retries left", expired);
             }
         } catch(Exception e) {
             logger.error("Error cleaning up stuck jobs", e);
@@ -411,6 +607,18 @@ public class JobExecutionService {
         stats.put("running_jobs", runningJobs.size());
         stats.put("executor_threads", executorThreads);
 
+        // Throughput and pickup latency of this node
+        long claimed = claimedJobs.sum();
+        stats.put("node_id", nodeId);
+        stats.put("claimed_jobs", claimed);
+        stats.put("finished_jobs", completedJobs.sum());
+        stats.put("dispatches", dispatches.sum());
+        stats.put("leases_lost", leasesLost.sum());
+        stats.put("avg_pickup_latency_ms", claimed > 0 ? pickupLatencyTotal.sum() / claimed : 0);
+        stats.put("max_pickup_latency_ms", pickupLatencyMax.get());
+        stats.put("notifications_listening", notificationListener != null && notificationListener.isListening());
+        stats.put("notifications_received", notificationListener != null ? notificationListener.getNotificationCount() : 0);
+
         return stats;
     }
 
@@ -436,10 +644,8 @@ public class JobExecutionService {
     public void checkStuckJobs() {
         try {
             LocalDateTime stuckThreshold = LocalDateTime.now().minus(stuckJobTimeout, java.time.temporal.ChronoUnit.MILLIS);
-            List<BackgroundJob> stuckJobs = jobRepository.findByStatusInAndStartedAtBefore(
-                Arrays.asList(JobStatus.RUNNING),
-                stuckThreshold
-            );
+            // Only jobs started without a lease, leased jobs are recovered by cleanupStuckJobs
+            List<BackgroundJob> stuckJobs = jobRepository.findStuckJobs(stuckThreshold);
 
             for (BackgroundJob job : stuckJobs) {
                 logger.warn("Marking job {} as failed due to timeout", job.getId());
@@ -0,0 +1,126 @@
+package com.integrixs.backend.jobs;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Wakes the job dispatcher as soon as a job becomes runnable.
+ * Listens on the PostgreSQL channel the background_jobs trigger notifies on. The listening connection is held
+ * for the lifetime of the listener, so it is opened outside the connection pool, and it is re - established with
+ * a backoff after failures. Notifications sent while reconnecting are lost; the dispatcher runs once after every
+ * reconnect and keeps polling at a low rate to cover that gap.
+ */
+public class JobNotificationListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobNotificationListener.class);
+
+    static final String CHANNEL = "background_jobs";
+
+    private static final long MAX_BACKOFF_MS = 30000;
+
+    private final String url;
+    private final String username;
+    private final String password;
+    private final int waitTimeoutMs;
+    private final Runnable onNotification;
+    private final LongAdder notifications = new LongAdder();
+
+    private volatile boolean running;
+    private volatile boolean listening;
+    private Thread thread;
+
+    public JobNotificationListener(String url, String username, String password, int waitTimeoutMs,
+                                   Runnable onNotification) {
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.waitTimeoutMs = waitTimeoutMs;
+        this.onNotification = onNotification;
+    }
+
+    public synchronized void start() {
+        if(running) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this::listen, "job - notifications");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public synchronized void stop() {
+        running = false;
+        if(thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    /**
+     * Whether notifications are currently being received
+     */
+    public boolean isListening() {
+        return listening;
+    }
+
+    public long getNotificationCount() {
+        return notifications.sum();
+    }
+
+    private void listen() {
+        long backoff = 1000;
+        while(running) {
+            try(Connection connection = DriverManager.getConnection(url, username, password)) {
+                if(!connection.isWrapperFor(PGConnection.class)) {
+                    logger.info("Job notifications need PostgreSQL, job workers poll only");
+                    running = false;
+                    return;
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                connection.setAutoCommit(true);
+                try(Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                listening = true;
+                backoff = 1000;
+                logger.info("Listening for job notifications on channel {}", CHANNEL);
+
+                // Jobs enqueued while not listening
+                onNotification.run();
+
+                while(running) {
+                    PGNotification[] received = pgConnection.getNotifications(waitTimeoutMs);
+                    if(received != null && received.length > 0) {
+                        notifications.add(received.length);
+                        onNotification.run();
+                    }
+                }
+            } catch(SQLException e) {
+                if(running) {
+                    logger.warn("Job notification connection failed, reconnecting in {} ms: {}", backoff, e.getMessage());
+                }
+            } catch(RuntimeException e) {
+                logger.error("Error handling job notification", e);
+            } finally {
+                listening = false;
+            }
+
+            if(running) {
+                try {
+                    Thread.sleep(backoff);
+                } catch(InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                backoff = Math.min(MAX_BACKOFF_MS, backoff * 2);
+            }
+        }
+    }
+}
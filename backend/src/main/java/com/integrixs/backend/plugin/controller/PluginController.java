@@ -272,10 +272,10 @@ public class PluginController {
 
         return ResponseEntity.ok(Map.of(
             "pluginId", pluginId,
-            "messagesProcessed", metrics.getMessagesProcessed().get(),
+            "messagesProcessed", metrics.getMessagesProcessed(),
             "successRate", metrics.getSuccessRate(),
             "averageProcessingTime", metrics.getAverageProcessingTime(),
-            "errors", metrics.getErrors().get(),
+            "errors", metrics.getErrors(),
             "errorSummary", metrics.getErrorCounts(),
             "trend", Map.of(
                 "messages", messagesTrend,
@@ -315,10 +315,10 @@ public class PluginController {
         for(Map.Entry<String, PluginPerformanceMonitor.PluginMetrics> entry : allMetrics.entrySet()) {
             var metrics = entry.getValue();
             summary.put(entry.getKey(), Map.of(
-                "messagesProcessed", metrics.getMessagesProcessed().get(),
+                "messagesProcessed", metrics.getMessagesProcessed(),
                 "successRate", metrics.getSuccessRate(),
                 "averageProcessingTime", metrics.getAverageProcessingTime(),
-                "errors", metrics.getErrors().get()
+                "errors", metrics.getErrors()
            ));
         }
 
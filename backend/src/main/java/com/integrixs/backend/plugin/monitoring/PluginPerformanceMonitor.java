@@ -1,5 +1,6 @@
 package com.integrixs.backend.plugin.monitoring;
 
+import com.integrixs.adapters.monitoring.SlidingWindowHistogram;
 import com.integrixs.backend.plugin.api.PluginMessage;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -11,8 +12,8 @@ import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -29,11 +30,6 @@ public class PluginPerformanceMonitor {
 
     // Performance metrics storage
     private final Map<String, PluginMetrics> pluginMetrics = new ConcurrentHashMap<>();
-    private final Map<String, List<PerformanceSample>> performanceHistory = new ConcurrentHashMap<>();
-
-    // Configuration
-    private static final int HISTORY_SIZE = 1000;
-    private static final Duration AGGREGATION_WINDOW = Duration.ofMinutes(5);
 
     // Constructor
     public PluginPerformanceMonitor(MeterRegistry meterRegistry) {
@@ -46,18 +42,7 @@ public class PluginPerformanceMonitor {
     public void recordMessageProcessed(String pluginId, String direction, long processingTimeMs, boolean success) {
         PluginMetrics metrics = getOrCreateMetrics(pluginId);
 
-        if(success) {
-            metrics.getMessagesProcessed().incrementAndGet();
-            metrics.getSuccessfulMessages().incrementAndGet();
-        } else {
-            metrics.getMessagesProcessed().incrementAndGet();
-            metrics.getFailedMessages().incrementAndGet();
-        }
-
-        metrics.getTotalProcessingTime().addAndGet(processingTimeMs);
-
-        // Update min/max processing time
-        metrics.updateMinMaxProcessingTime(processingTimeMs);
+        metrics.recordMessage(processingTimeMs, success);
 
         // Record in Micrometer
         Counter.builder("plugin.messages.processed")
@@ -72,14 +57,6 @@ public class PluginPerformanceMonitor {
                 .tag("direction", direction)
                 .register(meterRegistry)
                 .record(processingTimeMs, TimeUnit.MILLISECONDS);
-
-        // Add to performance history
-        addPerformanceSample(pluginId, new PerformanceSample(
-                Instant.now(),
-                processingTimeMs,
-                success,
-                direction
-       ));
     }
 
     /**
@@ -89,9 +66,9 @@ public class PluginPerformanceMonitor {
         PluginMetrics metrics = getOrCreateMetrics(pluginId);
 
         if(success) {
-            metrics.getSuccessfulConnectionTests().incrementAndGet();
+            metrics.successfulConnectionTests.increment();
         } else {
-            metrics.getFailedConnectionTests().incrementAndGet();
+            metrics.failedConnectionTests.increment();
         }
 
         Counter.builder("plugin.connection.tests")
@@ -115,7 +92,7 @@ public class PluginPerformanceMonitor {
      */
     public void recordError(String pluginId, String errorType, String errorMessage) {
         PluginMetrics metrics = getOrCreateMetrics(pluginId);
-        metrics.getErrors().incrementAndGet();
+        metrics.errors.increment();
 
         // Track error types
         metrics.getErrorCounts().compute(errorType, (k, v) -> v == null ? 1 : v + 1);
@@ -169,7 +146,8 @@ public class PluginPerformanceMonitor {
     }
 
     /**
-     * Get performance statistics
+     * Get performance statistics.
+     * Served from the smallest rollup covering the window, rounded up to whole rollup intervals.
      */
     public PerformanceStatistics getStatistics(String pluginId, Duration window) {
         PluginMetrics metrics = pluginMetrics.get(pluginId);
@@ -177,9 +155,7 @@ public class PluginPerformanceMonitor {
             return PerformanceStatistics.empty();
         }
 
-        List<PerformanceSample> samples = getRecentSamples(pluginId, window);
-
-        return calculateStatistics(metrics, samples);
+        return calculateStatistics(metrics.snapshot(window));
     }
 
     /**
@@ -195,6 +171,7 @@ public class PluginPerformanceMonitor {
         }
 
         // Calculate various time windows
+        PerformanceStatistics lastMinute = getStatistics(pluginId, Duration.ofMinutes(1));
         PerformanceStatistics last5Minutes = getStatistics(pluginId, Duration.ofMinutes(5));
         PerformanceStatistics lastHour = getStatistics(pluginId, Duration.ofHours(1));
         PerformanceStatistics last24Hours = getStatistics(pluginId, Duration.ofHours(24));
@@ -202,9 +179,10 @@ public class PluginPerformanceMonitor {
         return PerformanceReport.builder()
                 .pluginId(pluginId)
                 .reportTime(Instant.now())
-                .totalMessagesProcessed(metrics.getMessagesProcessed().get())
+                .totalMessagesProcessed(metrics.getMessagesProcessed())
                 .successRate(metrics.getSuccessRate())
                 .averageProcessingTime(metrics.getAverageProcessingTime())
+                .lastMinute(lastMinute)
                 .last5Minutes(last5Minutes)
                 .lastHour(lastHour)
                 .last24Hours(last24Hours)
@@ -223,7 +201,6 @@ public class PluginPerformanceMonitor {
      */
     public void resetMetrics(String pluginId) {
         pluginMetrics.remove(pluginId);
-        performanceHistory.remove(pluginId);
         log.info("Reset metrics for plugin: {}", pluginId);
     }
 
@@ -231,102 +208,48 @@ public class PluginPerformanceMonitor {
         return pluginMetrics.computeIfAbsent(pluginId, k -> new PluginMetrics(pluginId));
     }
 
-    private void addPerformanceSample(String pluginId, PerformanceSample sample) {
-        List<PerformanceSample> history = performanceHistory.computeIfAbsent(pluginId, k -> new ArrayList<>());
-
-        synchronized(history) {
-            history.add(sample);
-
-            // Trim history if too large
-            if(history.size() > HISTORY_SIZE) {
-                history.subList(0, history.size() - HISTORY_SIZE).clear();
-            }
-        }
-    }
-
-    private List<PerformanceSample> getRecentSamples(String pluginId, Duration window) {
-        List<PerformanceSample> history = performanceHistory.get(pluginId);
-        if(history == null) {
-            return Collections.emptyList();
-        }
-
-        Instant cutoff = Instant.now().minus(window);
-
-        synchronized(history) {
-            return history.stream()
-                    .filter(sample -> sample.getTimestamp().isAfter(cutoff))
-                    .collect(Collectors.toList());
-        }
-    }
-
-    private PerformanceStatistics calculateStatistics(PluginMetrics metrics, List<PerformanceSample> samples) {
-        if(samples.isEmpty()) {
+    private PerformanceStatistics calculateStatistics(SlidingWindowHistogram.Snapshot snapshot) {
+        if(snapshot.getCount() == 0) {
             return PerformanceStatistics.empty();
         }
 
-        long successCount = samples.stream().filter(PerformanceSample::isSuccess).count();
-        double avgProcessingTime = samples.stream()
-                .mapToLong(PerformanceSample::getProcessingTimeMs)
-                .average()
-                .orElse(0.0);
-
-        long minTime = samples.stream()
-                .mapToLong(PerformanceSample::getProcessingTimeMs)
-                .min()
-                .orElse(0);
-
-        long maxTime = samples.stream()
-                .mapToLong(PerformanceSample::getProcessingTimeMs)
-                .max()
-                .orElse(0);
-
-        // Calculate percentiles
-        List<Long> sortedTimes = samples.stream()
-                .map(PerformanceSample::getProcessingTimeMs)
-                .sorted()
-                .collect(Collectors.toList());
-
-        long p50 = getPercentile(sortedTimes, 50);
-        long p95 = getPercentile(sortedTimes, 95);
-        long p99 = getPercentile(sortedTimes, 99);
-
         return PerformanceStatistics.builder()
-                .sampleCount(samples.size())
-                .successCount(successCount)
-                .successRate((double) successCount / samples.size() * 100)
-                .averageProcessingTime(avgProcessingTime)
-                .minProcessingTime(minTime)
-                .maxProcessingTime(maxTime)
-                .p50ProcessingTime(p50)
-                .p95ProcessingTime(p95)
-                .p99ProcessingTime(p99)
+                .sampleCount(snapshot.getCount())
+                .successCount(snapshot.getCount() - snapshot.getFailures())
+                .successRate(snapshot.getSuccessRate())
+                .averageProcessingTime(snapshot.getMean())
+                .minProcessingTime(snapshot.getMin())
+                .maxProcessingTime(snapshot.getMax())
+                .p50ProcessingTime(snapshot.getValueAtPercentile(50))
+                .p95ProcessingTime(snapshot.getValueAtPercentile(95))
+                .p99ProcessingTime(snapshot.getValueAtPercentile(99))
                 .build();
     }
 
-    private long getPercentile(List<Long> sortedValues, int percentile) {
-        if(sortedValues.isEmpty()) {
-            return 0;
-        }
-
-        int index = (int) Math.ceil(sortedValues.size() * percentile / 100.0) - 1;
-        return sortedValues.get(Math.max(0, Math.min(index, sortedValues.size() - 1)));
-    }
-
     /**
      * Plugin performance metrics
      */
         public static class PluginMetrics {
+        // Rollups: 1 minute of 10 second, 5 minutes of 1 minute, 1 hour of 5 minute and 24 hours of 1 hour intervals
+        private static final int ROLLUP_STRIPES = 2;
+
         private final String pluginId;
-        private final AtomicLong messagesProcessed = new AtomicLong();
-        private final AtomicLong successfulMessages = new AtomicLong();
-        private final AtomicLong failedMessages = new AtomicLong();
-        private final AtomicLong totalProcessingTime = new AtomicLong();
-        private final AtomicLong errors = new AtomicLong();
-        private final AtomicLong successfulConnectionTests = new AtomicLong();
-        private final AtomicLong failedConnectionTests = new AtomicLong();
-
-        private volatile long minProcessingTime = Long.MAX_VALUE;
-        private volatile long maxProcessingTime = 0;
+        private final LongAdder messagesProcessed = new LongAdder();
+        private final LongAdder successfulMessages = new LongAdder();
+        private final LongAdder failedMessages = new LongAdder();
+        private final LongAdder totalProcessingTime = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder successfulConnectionTests = new LongAdder();
+        private final LongAdder failedConnectionTests = new LongAdder();
+        private final LongAccumulator minProcessingTime = new LongAccumulator(Math::min, Long.MAX_VALUE);
+        private final LongAccumulator maxProcessingTime = new LongAccumulator(Math::max, 0);
+
+        private final List<SlidingWindowHistogram> rollups = List.of(
+                new SlidingWindowHistogram(10_000, 6, ROLLUP_STRIPES),
+                new SlidingWindowHistogram(60_000, 5, ROLLUP_STRIPES),
+                new SlidingWindowHistogram(300_000, 12, ROLLUP_STRIPES),
+                new SlidingWindowHistogram(3_600_000, 24, ROLLUP_STRIPES));
+
         private volatile long lastMemoryUsage = 0;
         private volatile long peakMemoryUsage = 0;
         private volatile double lastCpuUsage = 0.0;
@@ -338,23 +261,40 @@ public class PluginPerformanceMonitor {
             this.pluginId = pluginId;
         }
 
-        public double getSuccessRate() {
-            long total = messagesProcessed.get();
-            return total > 0 ? (double) successfulMessages.get() / total * 100 : 0;
+        void recordMessage(long processingTimeMs, boolean success) {
+            messagesProcessed.increment();
+            if(success) {
+                successfulMessages.increment();
+            } else {
+                failedMessages.increment();
+            }
+            totalProcessingTime.add(processingTimeMs);
+            minProcessingTime.accumulate(processingTimeMs);
+            maxProcessingTime.accumulate(processingTimeMs);
+            for(SlidingWindowHistogram rollup : rollups) {
+                rollup.record(processingTimeMs, success, false);
+            }
         }
 
-        public double getAverageProcessingTime() {
-            long count = messagesProcessed.get();
-            return count > 0 ? (double) totalProcessingTime.get() / count : 0;
+        SlidingWindowHistogram.Snapshot snapshot(Duration window) {
+            long windowMs = window.toMillis();
+            for(SlidingWindowHistogram rollup : rollups) {
+                if(rollup.getWindowMillis() >= windowMs) {
+                    int intervals = (int) Math.max(1, (windowMs + rollup.getIntervalMillis() - 1) / rollup.getIntervalMillis());
+                    return rollup.snapshot(intervals);
+                }
+            }
+            return rollups.get(rollups.size() - 1).snapshot();
         }
 
-        public void updateMinMaxProcessingTime(long processingTime) {
-            if(processingTime < minProcessingTime) {
-                minProcessingTime = processingTime;
-            }
-            if(processingTime > maxProcessingTime) {
-                maxProcessingTime = processingTime;
-            }
+        public double getSuccessRate() {
+            long total = messagesProcessed.sum();
+            return total > 0 ? (double) successfulMessages.sum() / total * 100 : 0;
+        }
+
+        public double getAverageProcessingTime() {
+            long count = messagesProcessed.sum();
+            return count > 0 ? (double) totalProcessingTime.sum() / count : 0;
         }
 
         // Getters and Setters
@@ -362,48 +302,40 @@ public class PluginPerformanceMonitor {
             return pluginId;
         }
 
-        public AtomicLong getMessagesProcessed() {
-            return messagesProcessed;
+        public long getMessagesProcessed() {
+            return messagesProcessed.sum();
         }
 
-        public AtomicLong getSuccessfulMessages() {
-            return successfulMessages;
+        public long getSuccessfulMessages() {
+            return successfulMessages.sum();
         }
 
-        public AtomicLong getFailedMessages() {
-            return failedMessages;
+        public long getFailedMessages() {
+            return failedMessages.sum();
         }
 
-        public AtomicLong getTotalProcessingTime() {
-            return totalProcessingTime;
+        public long getTotalProcessingTime() {
+            return totalProcessingTime.sum();
         }
 
-        public AtomicLong getErrors() {
-            return errors;
+        public long getErrors() {
+            return errors.sum();
         }
 
-        public AtomicLong getSuccessfulConnectionTests() {
-            return successfulConnectionTests;
+        public long getSuccessfulConnectionTests() {
+            return successfulConnectionTests.sum();
         }
 
-        public AtomicLong getFailedConnectionTests() {
-            return failedConnectionTests;
+        public long getFailedConnectionTests() {
+            return failedConnectionTests.sum();
         }
 
         public long getMinProcessingTime() {
-            return minProcessingTime;
-        }
-
-        public void setMinProcessingTime(long minProcessingTime) {
-            this.minProcessingTime = minProcessingTime;
+            return minProcessingTime.get();
         }
 
         public long getMaxProcessingTime() {
-            return maxProcessingTime;
-        }
-
-        public void setMaxProcessingTime(long maxProcessingTime) {
-            this.maxProcessingTime = maxProcessingTime;
+            return maxProcessingTime.get();
         }
 
         public long getLastMemoryUsage() {
@@ -443,39 +375,6 @@ public class PluginPerformanceMonitor {
         }
     }
 
-    /**
-     * Performance sample
-     */
-        private static class PerformanceSample {
-        private final Instant timestamp;
-        private final long processingTimeMs;
-        private final boolean success;
-        private final String direction;
-
-        public PerformanceSample(Instant timestamp, long processingTimeMs, boolean success, String direction) {
-            this.timestamp = timestamp;
-            this.processingTimeMs = processingTimeMs;
-            this.success = success;
-            this.direction = direction;
-        }
-
-        public Instant getTimestamp() {
-            return timestamp;
-        }
-
-        public long getProcessingTimeMs() {
-            return processingTimeMs;
-        }
-
-        public boolean isSuccess() {
-            return success;
-        }
-
-        public String getDirection() {
-            return direction;
-        }
-    }
-
     /**
      * Performance statistics
      */
@@ -653,6 +552,7 @@ public class PluginPerformanceMonitor {
         private long totalMessagesProcessed;
         private double successRate;
         private double averageProcessingTime;
+        private PerformanceStatistics lastMinute;
         private PerformanceStatistics last5Minutes;
         private PerformanceStatistics lastHour;
         private PerformanceStatistics last24Hours;
@@ -700,6 +600,14 @@ public class PluginPerformanceMonitor {
             this.averageProcessingTime = averageProcessingTime;
         }
 
+        public PerformanceStatistics getLastMinute() {
+            return lastMinute;
+        }
+
+        public void setLastMinute(PerformanceStatistics lastMinute) {
+            this.lastMinute = lastMinute;
+        }
+
         public PerformanceStatistics getLast5Minutes() {
             return last5Minutes;
         }
@@ -751,6 +659,7 @@ public class PluginPerformanceMonitor {
             private long totalMessagesProcessed;
             private double successRate;
             private double averageProcessingTime;
+            private PerformanceStatistics lastMinute;
             private PerformanceStatistics last5Minutes;
             private PerformanceStatistics lastHour;
             private PerformanceStatistics last24Hours;
@@ -782,6 +691,11 @@ public class PluginPerformanceMonitor {
                 return this;
             }
 
+            public PerformanceReportBuilder lastMinute(PerformanceStatistics lastMinute) {
+                this.lastMinute = lastMinute;
+                return this;
+            }
+
             public PerformanceReportBuilder last5Minutes(PerformanceStatistics last5Minutes) {
                 this.last5Minutes = last5Minutes;
                 return this;
@@ -814,6 +728,7 @@ public class PluginPerformanceMonitor {
                 report.totalMessagesProcessed = this.totalMessagesProcessed;
                 report.successRate = this.successRate;
                 report.averageProcessingTime = this.averageProcessingTime;
+                report.lastMinute = this.lastMinute;
                 report.last5Minutes = this.last5Minutes;
                 report.lastHour = this.lastHour;
                 report.last24Hours = this.last24Hours;
@@ -0,0 +1,72 @@
+package com.integrixs.backend.ratelimit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In - process GCRA store. Each bucket is a single AtomicLong holding the theoretical arrival time, updated with a
+ * lock - free compare - and - set loop. Used when no distributed cache is configured and in tests.
+ */
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+    // Full buckets are dropped once there are more than this many keys, at most once per second
+    private static final int CLEANUP_THRESHOLD = 10_000;
+    private static final long CLEANUP_INTERVAL_MICROS = 1_000_000;
+
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong lastCleanup = new AtomicLong();
+
+    @Override
+    public Grant acquire(String key, long permits, long emissionIntervalMicros, long capacity) {
+        AtomicLong bucket = buckets.computeIfAbsent(key, k -> new AtomicLong());
+        long limit = capacity * emissionIntervalMicros;
+
+        while(true) {
+            long now = nowMicros();
+            long stored = bucket.get();
+            long tat = Math.max(stored, now);
+            long available = Math.max(0, (now + limit - tat) / emissionIntervalMicros);
+            long granted = Math.min(permits, available);
+            long newTat = tat + granted * emissionIntervalMicros;
+
+            if(granted == 0 || bucket.compareAndSet(stored, newTat)) {
+                long retryAfter = granted < permits ? Math.max(0, newTat + emissionIntervalMicros - limit - now) : 0;
+                if(buckets.size() > CLEANUP_THRESHOLD) {
+                    cleanup(now);
+                }
+                return new Grant(granted, available - granted, retryAfter, Math.max(0, newTat - now));
+            }
+        }
+    }
+
+    @Override
+    public long available(String key, long emissionIntervalMicros, long capacity) {
+        AtomicLong bucket = buckets.get(key);
+        if(bucket == null) {
+            return capacity;
+        }
+        long now = nowMicros();
+        long tat = Math.max(bucket.get(), now);
+        return Math.max(0, (now + capacity * emissionIntervalMicros - tat) / emissionIntervalMicros);
+    }
+
+    @Override
+    public void reset(String key) {
+        buckets.remove(key);
+    }
+
+    private void cleanup(long now) {
+        long last = lastCleanup.get();
+        if(now - last < CLEANUP_INTERVAL_MICROS || !lastCleanup.compareAndSet(last, now)) {
+            return;
+        }
+        // A TAT in the past means the bucket is full, dropping it does not change any decision
+        buckets.values().removeIf(bucket -> bucket.get() < now);
+    }
+
+    private static long nowMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(System.nanoTime());
+    }
+}
@@ -0,0 +1,68 @@
+package com.integrixs.backend.ratelimit;
+
+/**
+ * Atomic rate limit state store using the generic cell rate algorithm(GCRA).
+ * A bucket is represented by its theoretical arrival time(TAT): each granted permit moves the TAT forward by one
+ * emission interval and a request is admitted while the TAT stays within capacity * interval of now. This is
+ * equivalent to a token bucket that refills continuously, but the whole state is a single number, so it can be
+ * updated atomically by one compare - and - set or one server - side script.
+ */
+public interface RateLimitStore {
+
+    /**
+     * Acquire up to the requested number of permits, granting as many as are available
+     * @param key Bucket key
+     * @param permits Requested permits
+     * @param emissionIntervalMicros Time to refill one permit
+     * @param capacity Burst capacity
+     * @return Grant with the number of granted permits
+     */
+    Grant acquire(String key, long permits, long emissionIntervalMicros, long capacity);
+
+    /**
+     * Get the number of available permits without consuming any
+     */
+    long available(String key, long emissionIntervalMicros, long capacity);
+
+    /**
+     * Remove the state of a bucket(the bucket is full again)
+     */
+    void reset(String key);
+
+    /**
+     * Outcome of an acquire call
+     */
+    final class Grant {
+        private final long granted;
+        private final long remaining;
+        private final long retryAfterMicros;
+        private final long resetAfterMicros;
+
+        public Grant(long granted, long remaining, long retryAfterMicros, long resetAfterMicros) {
+            this.granted = granted;
+            this.remaining = remaining;
+            this.retryAfterMicros = retryAfterMicros;
+            this.resetAfterMicros = resetAfterMicros;
+        }
+
+        /** Number of granted permits, may be less than requested */
+        public long getGranted() {
+            return granted;
+        }
+
+        /** Permits still available after this grant */
+        public long getRemaining() {
+            return remaining;
+        }
+
+        /** Time until the next permit becomes available, 0 if all requested permits were granted */
+        public long getRetryAfterMicros() {
+            return retryAfterMicros;
+        }
+
+        /** Time until the bucket is full again */
+        public long getResetAfterMicros() {
+            return resetAfterMicros;
+        }
+    }
+}
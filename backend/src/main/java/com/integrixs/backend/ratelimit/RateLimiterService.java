@@ -7,16 +7,18 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.time.Duration;
-import java.time.Instant;
+import jakarta.annotation.PostConstruct;
+
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * Service for API rate limiting using token bucket algorithm
+ * Service for API rate limiting using token bucket algorithm.
+ * Buckets are kept as GCRA state(see {@link RateLimitStore}) in Redis when available, otherwise in process.
  */
 @Service
 public class RateLimiterService implements com.integrixs.shared.services.RateLimiterService {
@@ -35,8 +37,26 @@ public class RateLimiterService implements com.integrixs.shared.services.RateLim
     @Value("${api.ratelimit.default.refill-period:60}")
     private int defaultRefillPeriod;
 
-    // Local cache for when Redis is not available
-    private final Map<String, TokenBucket> localBuckets = new ConcurrentHashMap<>();
+    @Value("${api.ratelimit.lease.size:20}")
+    private int leaseSize;
+
+    @Value("${api.ratelimit.lease.ttl-ms:500}")
+    private long leaseTtlMs;
+
+    // Local store for when Redis is not available, also the fallback when Redis fails
+    private final InMemoryRateLimitStore localStore = new InMemoryRateLimitStore();
+
+    private RateLimitStore distributedStore;
+
+    // Tokens leased from the distributed store, spent locally without a round - trip
+    private final Map<String, TokenLease> leases = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        if(cacheService != null) {
+            distributedStore = new RedisRateLimitStore(cacheService);
+        }
+    }
 
     /**
      * Check if request is allowed based on rate limit
@@ -46,7 +66,7 @@ public class RateLimiterService implements com.integrixs.shared.services.RateLim
             config = getDefaultConfig();
         }
 
-        if(cacheService != null) {
+        if(distributedStore != null) {
             return checkDistributedRateLimit(key, config);
         } else {
             return checkLocalRateLimit(key, config);
@@ -84,10 +104,10 @@ public class RateLimiterService implements com.integrixs.shared.services.RateLim
      * Reset rate limit for a key
      */
     public void resetRateLimit(String key) {
-        if(cacheService != null) {
-            cacheService.delete(key);
-        } else {
-            localBuckets.remove(key);
+        leases.remove(key);
+        localStore.reset(key);
+        if(distributedStore != null) {
+            distributedStore.reset(key);
         }
         logger.info("Reset rate limit for key: {}", key);
     }
@@ -96,67 +116,70 @@ public class RateLimiterService implements com.integrixs.shared.services.RateLim
      * Get current token count for a key
      */
     public int getAvailableTokens(String key) {
-        if(cacheService != null) {
-            TokenBucket bucket = cacheService.get(key, TokenBucket.class);
-            if(bucket != null) {
-                bucket.refill();
-                return(int) bucket.getTokens();
-            }
-        } else {
-            TokenBucket bucket = localBuckets.get(key);
-            if(bucket != null) {
-                bucket.refill();
-                return(int) bucket.getTokens();
-            }
+        RateLimitConfig config = getDefaultConfig();
+        RateLimitStore store = distributedStore != null ? distributedStore : localStore;
+        try {
+            return (int) store.available(key, emissionIntervalMicros(config), config.getCapacity());
+        } catch(Exception e) {
+            logger.warn("Could not read rate limit state for key {}: {}", key, e.getMessage());
+            return (int) localStore.available(key, emissionIntervalMicros(config), config.getCapacity());
         }
-        return defaultCapacity;
     }
 
     /**
-     * Check distributed rate limit using Redis
+     * Check distributed rate limit using Redis.
+     * Tokens are taken from Redis in leases of several tokens and spent locally, so most requests do not
+     * touch Redis at all. Unused leased tokens expire, which under - admits by at most one lease per node.
      */
     private RateLimitResult checkDistributedRateLimit(String key, RateLimitConfig config) {
-        String lockKey = key + ":lock";
-
-        return cacheService.executeWithLock(lockKey, Duration.ofMillis(100), () -> {
-            TokenBucket bucket = cacheService.get(key, TokenBucket.class);
-
-            if(bucket == null) {
-                bucket = new TokenBucket(config);
-            }
+        TokenLease lease = leases.computeIfAbsent(key, k -> new TokenLease());
+        if(lease.tryTake()) {
+            return new RateLimitResult(true, lease.remaining(), config.getCapacity(),
+                System.currentTimeMillis() + emissionIntervalMicros(config) / 1000);
+        }
 
-            bucket.refill();
-            boolean allowed = bucket.tryConsume();
+        RateLimitStore.Grant grant;
+        try {
+            grant = distributedStore.acquire(key, leaseSize(config), emissionIntervalMicros(config), config.getCapacity());
+        } catch(Exception e) {
+            logger.warn("Distributed rate limit unavailable for key {}, using local limit: {}", key, e.getMessage());
+            return checkLocalRateLimit(key, config);
+        }
 
-            // Update bucket in cache
-            cacheService.set(key, bucket, Duration.ofMinutes(5));
+        if(grant.getGranted() == 0) {
+            return new RateLimitResult(false, 0, config.getCapacity(),
+                System.currentTimeMillis() + grant.getRetryAfterMicros() / 1000);
+        }
 
-            return new RateLimitResult(
-                allowed,
-                bucket.getTokens(),
-                config.getCapacity(),
-                bucket.getNextRefillTime()
-           );
-        });
+        // One token for this request, the rest is kept for the following requests on this node
+        lease.add(grant.getGranted() - 1, leaseTtlMs);
+        return new RateLimitResult(true, grant.getRemaining() + grant.getGranted() - 1, config.getCapacity(),
+            System.currentTimeMillis() + grant.getResetAfterMicros() / 1000);
     }
 
     /**
      * Check local rate limit
      */
     private RateLimitResult checkLocalRateLimit(String key, RateLimitConfig config) {
-        TokenBucket bucket = localBuckets.computeIfAbsent(key, k -> new TokenBucket(config));
-
-        synchronized(bucket) {
-            bucket.refill();
-            boolean allowed = bucket.tryConsume();
-
-            return new RateLimitResult(
-                allowed,
-                bucket.getTokens(),
-                config.getCapacity(),
-                bucket.getNextRefillTime()
-           );
-        }
+        RateLimitStore.Grant grant = localStore.acquire(key, 1, emissionIntervalMicros(config), config.getCapacity());
+        boolean allowed = grant.getGranted() > 0;
+
+        return new RateLimitResult(
+            allowed,
+            grant.getRemaining(),
+            config.getCapacity(),
+            System.currentTimeMillis() + (allowed ? grant.getResetAfterMicros() : grant.getRetryAfterMicros()) / 1000
+       );
+    }
+
+    private long leaseSize(RateLimitConfig config) {
+        // Small limits are not leased, a lease would take a large share of the bucket
+        return Math.max(1, Math.min(leaseSize, config.getCapacity() / 10));
+    }
+
+    private static long emissionIntervalMicros(RateLimitConfig config) {
+        long periodMicros = config.getRefillUnit().toMicros(config.getRefillPeriod());
+        return Math.max(1, periodMicros / Math.max(1, config.getRefillTokens()));
     }
 
     /**
@@ -216,58 +239,51 @@ public class RateLimiterService implements com.integrixs.shared.services.RateLim
     }
 
     /**
-     * Token bucket implementation for rate limiting
+     * Locally leased tokens of one key. Token count and lease expiry are packed into one long
+     * (upper 44 bits expiry in milliseconds, lower 20 bits tokens), so taking a token is a single CAS.
      */
-    public static class TokenBucket {
-        private double tokens;
-        private final int capacity;
-        private final int refillTokens;
-        private final long refillPeriodMillis;
-        private long lastRefillTimestamp;
-
-        public TokenBucket(RateLimitConfig config) {
-            this.capacity = config.getCapacity();
-            this.tokens = capacity;
-            this.refillTokens = config.getRefillTokens();
-            this.refillPeriodMillis = config.getRefillUnit().toMillis(config.getRefillPeriod());
-            this.lastRefillTimestamp = System.currentTimeMillis();
-        }
-
-        public synchronized void refill() {
-            long now = System.currentTimeMillis();
-            long timeSinceLastRefill = now-lastRefillTimestamp;
-
-            if(timeSinceLastRefill >= refillPeriodMillis) {
-                long periodsElapsed = timeSinceLastRefill / refillPeriodMillis;
-                double tokensToAdd = periodsElapsed * refillTokens;
-                tokens = Math.min(capacity, tokens + tokensToAdd);
-                lastRefillTimestamp = now-(timeSinceLastRefill % refillPeriodMillis);
+    static final class TokenLease {
+        private static final int TOKEN_BITS = 20;
+        private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+
+        private final AtomicLong state = new AtomicLong();
+
+        boolean tryTake() {
+            long now = nowMillis();
+            while(true) {
+                long current = state.get();
+                long tokens = current & TOKEN_MASK;
+                if(tokens == 0 || (current >>> TOKEN_BITS) <= now) {
+                    return false;
+                }
+                if(state.compareAndSet(current, current - 1)) {
+                    return true;
+                }
             }
         }
 
-        public synchronized boolean tryConsume() {
-            if(tokens >= 1) {
-                tokens--;
-                return true;
+        void add(long tokens, long ttlMillis) {
+            long expiry = nowMillis() + ttlMillis;
+            while(true) {
+                long current = state.get();
+                long remaining = (current >>> TOKEN_BITS) > nowMillis() ? current & TOKEN_MASK : 0;
+                long total = Math.min(TOKEN_MASK, remaining + tokens);
+                if(state.compareAndSet(current, (expiry << TOKEN_BITS) | total)) {
+                    return;
+                }
             }
-            return false;
         }
 
-        public synchronized boolean tryConsume(int count) {
-            if(tokens >= count) {
-                tokens -= count;
-                return true;
-            }
-            return false;
+        long remaining() {
+            long current = state.get();
+            return (current >>> TOKEN_BITS) > nowMillis() ? current & TOKEN_MASK : 0;
         }
 
-        public double getTokens() {
-            return tokens;
+        private static long nowMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - ORIGIN_NANOS);
         }
 
-        public long getNextRefillTime() {
-            return lastRefillTimestamp + refillPeriodMillis;
-        }
+        private static final long ORIGIN_NANOS = System.nanoTime();
     }
 
     /**
@@ -408,8 +424,24 @@ public class RateLimiterService implements com.integrixs.shared.services.RateLim
 
     @Override
     public boolean tryAcquirePermission(String rateLimiterName, long timeoutMs) {
-        // For simplicity, ignore timeout for now and just check current status
-        return tryAcquirePermission(rateLimiterName);
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        while(true) {
+            RateLimitResult result = checkRateLimit("api:" + rateLimiterName, null);
+            if(result.isAllowed()) {
+                return true;
+            }
+            // Sleep until the next token is due, not in fixed steps
+            long wait = Math.max(1, result.getResetTime() - System.currentTimeMillis());
+            if(System.currentTimeMillis() + wait > deadline) {
+                return false;
+            }
+            try {
+                Thread.sleep(wait);
+            } catch(InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
     }
 
     @Override
@@ -422,6 +454,14 @@ public class RateLimiterService implements com.integrixs.shared.services.RateLim
         );
     }
 
+    @Override
+    public com.integrixs.shared.services.RateLimiterService.RateLimitResult peekRateLimitStatus(String rateLimiterName) {
+        // Peek only, callers use this to budget work without spending a token
+        int available = getAvailableTokens("api:" + rateLimiterName);
+        long waitTimeMs = available > 0 ? 0 : Math.max(1, emissionIntervalMicros(getDefaultConfig()) / 1000);
+        return new com.integrixs.shared.services.RateLimiterService.RateLimitResult(available > 0, waitTimeMs, available);
+    }
+
     @Override
     public void acquire(String rateLimiterName, int permits) {
         // For simplicity, just check if allowed for the requested permits
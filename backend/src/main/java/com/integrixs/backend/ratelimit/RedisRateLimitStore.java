@@ -0,0 +1,67 @@
+package com.integrixs.backend.ratelimit;
+
+import com.integrixs.backend.service.DistributedCacheService;
+
+import java.util.List;
+
+/**
+ * Distributed GCRA store. The read - modify - write of a bucket runs as a single Lua script inside Redis, so
+ * concurrent nodes cannot over - admit, and the Redis server clock is used so node clock skew does not matter.
+ */
+public class RedisRateLimitStore implements RateLimitStore {
+
+    private static final String ACQUIRE_SCRIPT =
+        "local interval = tonumber(ARGV[1]) " +
+        "local limit = tonumber(ARGV[2]) " +
+        "local requested = tonumber(ARGV[3]) " +
+        "local t = redis.call('TIME') " +
+        "local now = tonumber(t[1]) * 1000000 + tonumber(t[2]) " +
+        "local tat = tonumber(redis.call('GET', KEYS[1]) or now) " +
+        "if tat < now then tat = now end " +
+        "local available = math.max(0, math.floor((now + limit - tat) / interval)) " +
+        "local granted = math.min(requested, available) " +
+        "if granted > 0 then " +
+        "  tat = tat + granted * interval " +
+        "  redis.call('SET', KEYS[1], string.format('%.0f', tat), 'PX', math.ceil((tat - now) / 1000) + 1000) " +
+        "end " +
+        "local retry = 0 " +
+        "if granted < requested then retry = math.max(0, tat + interval - limit - now) end " +
+        "return {granted, available - granted, retry, tat - now}";
+
+    private static final String AVAILABLE_SCRIPT =
+        "local interval = tonumber(ARGV[1]) " +
+        "local limit = tonumber(ARGV[2]) " +
+        "local t = redis.call('TIME') " +
+        "local now = tonumber(t[1]) * 1000000 + tonumber(t[2]) " +
+        "local tat = tonumber(redis.call('GET', KEYS[1]) or now) " +
+        "if tat < now then tat = now end " +
+        "return {math.max(0, math.floor((now + limit - tat) / interval))}";
+
+    private final DistributedCacheService cacheService;
+
+    public RedisRateLimitStore(DistributedCacheService cacheService) {
+        this.cacheService = cacheService;
+    }
+
+    @Override
+    public Grant acquire(String key, long permits, long emissionIntervalMicros, long capacity) {
+        List<Long> result = cacheService.executeScript(ACQUIRE_SCRIPT, List.of(key),
+            String.valueOf(emissionIntervalMicros),
+            String.valueOf(capacity * emissionIntervalMicros),
+            String.valueOf(permits));
+        return new Grant(result.get(0), result.get(1), result.get(2), result.get(3));
+    }
+
+    @Override
+    public long available(String key, long emissionIntervalMicros, long capacity) {
+        List<Long> result = cacheService.executeScript(AVAILABLE_SCRIPT, List.of(key),
+            String.valueOf(emissionIntervalMicros),
+            String.valueOf(capacity * emissionIntervalMicros));
+        return result.get(0);
+    }
+
+    @Override
+    public void reset(String key) {
+        cacheService.delete(key);
+    }
+}
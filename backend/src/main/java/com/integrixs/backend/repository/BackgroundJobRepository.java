@@ -7,6 +7,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -56,4 +57,38 @@ public interface BackgroundJobRepository {
     List<BackgroundJob> findStuckJobs(LocalDateTime stuckThreshold);
 
     int cleanupOldJobs(LocalDateTime cutoffDate);
+
+    /**
+     * Claim a batch of due jobs for a worker, skipping rows other workers are claiming.
+     * Running jobs whose lease expired and that have retries left are claimed again.
+     * @param owner Worker claiming the jobs
+     * @param limit Maximum number of jobs to claim
+     * @param now Current time
+     * @param leaseExpiresAt Lease expiry of the claimed jobs
+     * @return Claimed jobs, now RUNNING under the worker's lease
+     */
+    List<BackgroundJob> claimJobs(String owner, int limit, LocalDateTime now, LocalDateTime leaseExpiresAt);
+
+    /**
+     * Extend the leases a worker still holds
+     * @return IDs of the jobs whose lease was extended
+     */
+    List<UUID> renewLeases(String owner, Collection<UUID> jobIds, LocalDateTime leaseExpiresAt);
+
+    /**
+     * Write the execution state of a running job, only while the worker still holds its lease.
+     * A job leaving RUNNING releases the lease.
+     * @return Rows updated, 0 if the lease was lost(the job may run elsewhere by now)
+     */
+    int updateUnderLease(BackgroundJob job, String owner);
+
+    /**
+     * Fail running jobs whose lease expired and that have no retries left
+     */
+    int failExpiredLeases(LocalDateTime now);
+
+    /**
+     * Earliest scheduled time of the jobs that are not due yet
+     */
+    Optional<LocalDateTime> findNextScheduledAt(LocalDateTime now);
 }
\ No newline at end of file
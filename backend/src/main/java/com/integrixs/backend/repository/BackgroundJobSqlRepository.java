@@ -15,7 +15,10 @@ import org.springframework.stereotype.Repository;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -359,12 +362,14 @@ public class BackgroundJobSqlRepository extends BaseSqlRepository<BackgroundJob,
     }
 
     /**
-     * Find stuck jobs
+     * Find stuck jobs, only jobs started without a lease(by nodes predating leases); leased jobs are
+     * recovered through their lease expiry
      */
     @Override
     public List<BackgroundJob> findStuckJobs(LocalDateTime stuckThreshold) {
-        // This is the same as findByStatusInAndStartedAtBefore with RUNNING status
-        return findByStatusInAndStartedAtBefore(List.of(JobStatus.RUNNING), stuckThreshold);
+        String sql = "SELECT * FROM " + TABLE_NAME +
+                    " WHERE status = 'RUNNING' AND lease_expires_at IS NULL AND started_at < ? ORDER BY started_at ASC";
+        return sqlQueryExecutor.queryForList(sql, JOB_ROW_MAPPER, ResultSetMapper.toTimestamp(stuckThreshold));
     }
 
     /**
@@ -376,4 +381,85 @@ public class BackgroundJobSqlRepository extends BaseSqlRepository<BackgroundJob,
                     " WHERE status IN ('COMPLETED', 'FAILED', 'CANCELLED') AND completed_at < ?";
         return sqlQueryExecutor.update(sql, ResultSetMapper.toTimestamp(cutoffDate));
     }
-}
\ No newline at end of file
+
+    /**
+     * Claim due jobs with FOR UPDATE SKIP LOCKED, so concurrent workers claim disjoint batches without waiting
+     */
+    @Override
+    public List<BackgroundJob> claimJobs(String owner, int limit, LocalDateTime now, LocalDateTime leaseExpiresAt) {
+        Timestamp nowTs = ResultSetMapper.toTimestamp(now);
+        String sql = "UPDATE " + TABLE_NAME + " SET status = 'RUNNING', lease_owner = ?, lease_expires_at = ?, " +
+                    "retry_count = CASE WHEN status = 'RUNNING' THEN retry_count + 1 ELSE retry_count END, " +
+                    "updated_at = CURRENT_TIMESTAMP " +
+                    "WHERE id IN (SELECT id FROM " + TABLE_NAME +
+                    " WHERE (status IN ('PENDING', 'RETRYING') AND (scheduled_at IS NULL OR scheduled_at <= ?))" +
+                    " OR (status = 'RUNNING' AND lease_expires_at < ? AND retry_count < max_retries)" +
+                    " ORDER BY COALESCE(scheduled_at, created_at) ASC LIMIT ? FOR UPDATE SKIP LOCKED) " +
+                    "RETURNING *";
+        return sqlQueryExecutor.queryForList(sql, JOB_ROW_MAPPER,
+            owner, ResultSetMapper.toTimestamp(leaseExpiresAt), nowTs, nowTs, limit);
+    }
+
+    @Override
+    public List<UUID> renewLeases(String owner, Collection<UUID> jobIds, LocalDateTime leaseExpiresAt) {
+        if (jobIds.isEmpty()) {
+            return List.of();
+        }
+        StringBuilder sql = new StringBuilder("UPDATE " + TABLE_NAME + " SET lease_expires_at = ? " +
+                                              "WHERE lease_owner = ? AND status = 'RUNNING' AND id IN (");
+        List<Object> params = new ArrayList<>(jobIds.size() + 2);
+        params.add(ResultSetMapper.toTimestamp(leaseExpiresAt));
+        params.add(owner);
+        for (UUID jobId : jobIds) {
+            sql.append(params.size() > 2 ? ",?" : "?");
+            params.add(jobId);
+        }
+        sql.append(") RETURNING id");
+        return sqlQueryExecutor.queryForList(sql.toString(), (rs, rowNum) -> ResultSetMapper.getUUID(rs, "id"),
+            params.toArray());
+    }
+
+    @Override
+    public int updateUnderLease(BackgroundJob job, String owner) {
+        job.setUpdatedAt(LocalDateTime.now());
+        String status = job.getStatus() != null ? job.getStatus().name() : null;
+        String sql = "UPDATE " + TABLE_NAME + " SET status = ?, result = ?, error_message = ?, scheduled_at = ?, " +
+                    "started_at = ?, completed_at = ?, progress = ?, retry_count = ?, stack_trace = ?, updated_at = ?, " +
+                    "lease_owner = CASE WHEN ? = 'RUNNING' THEN lease_owner END, " +
+                    "lease_expires_at = CASE WHEN ? = 'RUNNING' THEN lease_expires_at END " +
+                    "WHERE id = ? AND lease_owner = ? AND status = 'RUNNING'";
+        return sqlQueryExecutor.update(sql,
+            status,
+            job.getResult(),
+            job.getErrorMessage(),
+            ResultSetMapper.toTimestamp(job.getScheduledAt()),
+            ResultSetMapper.toTimestamp(job.getStartedAt()),
+            ResultSetMapper.toTimestamp(job.getCompletedAt()),
+            job.getProgress(),
+            job.getRetryCount(),
+            job.getStackTrace(),
+            ResultSetMapper.toTimestamp(job.getUpdatedAt()),
+            status,
+            status,
+            job.getId(),
+            owner);
+    }
+
+    @Override
+    public int failExpiredLeases(LocalDateTime now) {
+        String sql = "UPDATE " + TABLE_NAME + " SET status = 'FAILED', error_message = 'Job lease expired', " +
+                    "completed_at = ?, updated_at = CURRENT_TIMESTAMP " +
+                    "WHERE status = 'RUNNING' AND lease_expires_at < ? AND retry_count >= max_retries";
+        Timestamp nowTs = ResultSetMapper.toTimestamp(now);
+        return sqlQueryExecutor.update(sql, nowTs, nowTs);
+    }
+
+    @Override
+    public Optional<LocalDateTime> findNextScheduledAt(LocalDateTime now) {
+        String sql = "SELECT scheduled_at FROM " + TABLE_NAME +
+                    " WHERE status IN ('PENDING', 'RETRYING') AND scheduled_at > ? ORDER BY scheduled_at ASC LIMIT 1";
+        return sqlQueryExecutor.queryForObject(sql,
+            (rs, rowNum) -> ResultSetMapper.getLocalDateTime(rs, "scheduled_at"),
+            ResultSetMapper.toTimestamp(now));
+    }
+}
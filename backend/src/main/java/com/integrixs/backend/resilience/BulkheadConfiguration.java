@@ -161,6 +161,15 @@ public class BulkheadConfiguration {
         return registry.bulkhead(bulkheadName, configName);
     }
 
+    /**
+     * Get the starting concurrency limit of an adapter's adaptive limiter(the configured bulkhead size).
+     */
+    public int getInitialLimit(BulkheadRegistry registry, String adapterType) {
+        return registry.getConfiguration(mapAdapterTypeToConfig(adapterType))
+            .map(BulkheadConfig::getMaxConcurrentCalls)
+            .orElse(defaultMaxConcurrentCalls);
+    }
+
     /**
      * Get thread pool bulkhead for async operations.
      */
@@ -1,15 +1,16 @@
 package com.integrixs.backend.resilience;
 
-import io.github.resilience4j.bulkhead.Bulkhead;
+import com.integrixs.adapters.resilience.AdaptiveConcurrencyLimiter;
 import io.github.resilience4j.bulkhead.BulkheadRegistry;
 import io.github.resilience4j.bulkhead.ThreadPoolBulkhead;
 import io.github.resilience4j.bulkhead.ThreadPoolBulkheadRegistry;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tags;
 import org.springframework.stereotype.Service;
 import org.springframework.beans.factory.annotation.Value;
 
-import jakarta.annotation.PostConstruct;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.Callable;
@@ -21,7 +22,9 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Service for managing bulkheads across adapters.
- * Provides resource isolation and concurrency control.
+ * Provides resource isolation and concurrency control. Synchronous calls run under adaptive concurrency limits
+ * per adapter(and optionally per endpoint) that start at the configured bulkhead size and then follow the
+ * observed latency and errors of the adapter's backend.
  */
 @Service("backendBulkheadService")
 public class BulkheadService {
@@ -34,8 +37,8 @@ public class BulkheadService {
     private final BulkheadConfiguration configuration;
     private final MeterRegistry meterRegistry;
 
-    // Cache of active bulkheads
-    private final Map<String, Bulkhead> bulkheadCache = new ConcurrentHashMap<>();
+    // Cache of active limiters
+    private final Map<String, AdaptiveConcurrencyLimiter> limiterCache = new ConcurrentHashMap<>();
     private final Map<String, ThreadPoolBulkhead> threadPoolBulkheadCache = new ConcurrentHashMap<>();
 
     // Configuration values
@@ -51,6 +54,18 @@ public class BulkheadService {
     @Value("${resilience.bulkhead.utilization.threshold:100}")
     private double utilizationThreshold;
 
+    @Value("${resilience.bulkhead.adaptive.algorithm:GRADIENT}")
+    private AdaptiveConcurrencyLimiter.Algorithm limitAlgorithm;
+
+    @Value("${resilience.bulkhead.adaptive.min-limit:1}")
+    private int minLimit;
+
+    @Value("${resilience.bulkhead.adaptive.max-limit:200}")
+    private int maxLimit;
+
+    @Value("${resilience.bulkhead.adaptive.latency-threshold-ms:0}")
+    private long latencyThresholdMs;
+
     public BulkheadService(BulkheadRegistry bulkheadRegistry,
                           ThreadPoolBulkheadRegistry threadPoolBulkheadRegistry,
                           BulkheadConfiguration configuration,
@@ -61,32 +76,24 @@ public class BulkheadService {
         this.meterRegistry = meterRegistry;
     }
 
-    @PostConstruct
-    public void init() {
-        // Register event listeners for bulkhead creation
-        bulkheadRegistry.getEventPublisher()
-            .onEntryAdded(event -> {
-                Bulkhead bulkhead = event.getAddedEntry();
-                bulkhead.getEventPublisher()
-                    .onCallPermitted(e -> recordMetric("permitted", bulkhead.getName()))
-                    .onCallRejected(e -> {
-                        log.warn("Bulkhead {} rejected call - max concurrent calls reached",
-                            bulkhead.getName());
-                        recordMetric("rejected", bulkhead.getName());
-                    })
-                    .onCallFinished(e -> recordMetric("finished", bulkhead.getName()));
-            });
-    }
-
     /**
      * Execute operation with bulkhead protection.
      */
     public <T> T executeWithBulkhead(String adapterType,
                                     String adapterId,
                                     Supplier<T> operation) {
-        Bulkhead bulkhead = getOrCreateBulkhead(adapterType, adapterId);
+        return getOrCreateLimiter(adapterType, adapterId).execute(operation);
+    }
 
-        return bulkhead.executeSupplier(operation);
+    /**
+     * Execute operation under the limit of one adapter endpoint.
+     */
+    public <T> T executeWithBulkhead(String adapterType,
+                                    String adapterId,
+                                    String endpoint,
+                                    Supplier<T> operation) {
+        return getOrCreateLimiter(adapterType, endpoint != null ? adapterId + "-" + endpoint : adapterId)
+            .execute(operation);
     }
 
     /**
@@ -96,14 +103,12 @@ public class BulkheadService {
                                     String adapterId,
                                     Supplier<T> operation,
                                     Supplier<T> fallback) {
-        Bulkhead bulkhead = getOrCreateBulkhead(adapterType, adapterId);
-
-        Supplier<T> decoratedSupplier = Bulkhead.decorateSupplier(bulkhead, operation);
+        AdaptiveConcurrencyLimiter limiter = getOrCreateLimiter(adapterType, adapterId);
 
         try {
-            return decoratedSupplier.get();
-        } catch(io.github.resilience4j.bulkhead.BulkheadFullException e) {
-            log.warn("Bulkhead {} full, executing fallback", bulkhead.getName());
+            return limiter.execute(operation);
+        } catch(AdaptiveConcurrencyLimiter.LimitExceededException e) {
+            log.warn("Bulkhead {} full at limit {}, executing fallback", limiter.getName(), limiter.getLimit());
             return fallback.get();
         }
     }
@@ -123,14 +128,15 @@ public class BulkheadService {
      * Get bulkhead metrics.
      */
     public BulkheadMetrics getMetrics(String adapterType, String adapterId) {
-        Bulkhead bulkhead = getOrCreateBulkhead(adapterType, adapterId);
-        Bulkhead.Metrics metrics = bulkhead.getMetrics();
+        AdaptiveConcurrencyLimiter limiter = getOrCreateLimiter(adapterType, adapterId);
 
         return BulkheadMetrics.builder()
             .adapterType(adapterType)
             .adapterId(adapterId)
-            .availableConcurrentCalls(metrics.getAvailableConcurrentCalls())
-            .maxAllowedConcurrentCalls(metrics.getMaxAllowedConcurrentCalls())
+            .availableConcurrentCalls(limiter.getAvailable())
+            .maxAllowedConcurrentCalls(limiter.getLimit())
+            .inFlightCalls(limiter.getInFlight())
+            .rejectedCalls(limiter.getRejected())
             .build();
     }
 
@@ -158,10 +164,10 @@ public class BulkheadService {
     public Map<String, BulkheadMetrics> getAllMetrics() {
         Map<String, BulkheadMetrics> allMetrics = new HashMap<>();
 
-        for(Bulkhead bulkhead : bulkheadRegistry.getAllBulkheads()) {
-            String[] parts = bulkhead.getName().split("-", 2);
+        for(String name : limiterCache.keySet()) {
+            String[] parts = name.split("-", 2);
             if(parts.length == 2) {
-                allMetrics.put(bulkhead.getName(), getMetrics(parts[0], parts[1]));
+                allMetrics.put(name, getMetrics(parts[0], parts[1]));
             }
         }
 
@@ -172,42 +178,52 @@ public class BulkheadService {
      * Check if adapter resources are available.
      */
     public boolean hasAvailableCapacity(String adapterType, String adapterId) {
-        Bulkhead bulkhead = getOrCreateBulkhead(adapterType, adapterId);
-        return bulkhead.getMetrics().getAvailableConcurrentCalls() > 0;
+        return getOrCreateLimiter(adapterType, adapterId).getAvailable() > 0;
     }
 
     /**
      * Get current utilization percentage.
      */
     public double getUtilizationPercentage(String adapterType, String adapterId) {
-        Bulkhead bulkhead = getOrCreateBulkhead(adapterType, adapterId);
-        Bulkhead.Metrics metrics = bulkhead.getMetrics();
+        AdaptiveConcurrencyLimiter limiter = getOrCreateLimiter(adapterType, adapterId);
 
-        int used = metrics.getMaxAllowedConcurrentCalls() - metrics.getAvailableConcurrentCalls();
-        return (double) used / metrics.getMaxAllowedConcurrentCalls() * utilizationThreshold;
+        return (double) limiter.getInFlight() / limiter.getLimit() * utilizationThreshold;
     }
 
-    private Bulkhead getOrCreateBulkhead(String adapterType, String adapterId) {
+    private AdaptiveConcurrencyLimiter getOrCreateLimiter(String adapterType, String adapterId) {
         String key = adapterType + "-" + adapterId;
 
-        return bulkheadCache.computeIfAbsent(key, k -> {
-            Bulkhead bulkhead = configuration.getBulkhead(
-                bulkheadRegistry, adapterType, adapterId);
+        return limiterCache.computeIfAbsent(key, k -> {
+            // The configured bulkhead size is the starting point, the limit adapts from there
+            AdaptiveConcurrencyLimiter limiter = AdaptiveConcurrencyLimiter.builder(k)
+                .algorithm(limitAlgorithm)
+                .initialLimit(configuration.getInitialLimit(bulkheadRegistry, adapterType))
+                .minLimit(minLimit)
+                .maxLimit(maxLimit)
+                .latencyThresholdMillis(latencyThresholdMs)
+                .build();
 
             // Register metrics
             Tags tags = Tags.of("adapter.type", adapterType, "adapter.id", adapterId);
-            bulkhead.getEventPublisher()
-                .onCallPermitted(event ->
-                    meterRegistry.counter("bulkhead.calls",
-                        tags.and("result", "permitted")).increment())
-                .onCallRejected(event ->
-                    meterRegistry.counter("bulkhead.calls",
-                        tags.and("result", "rejected")).increment())
-                .onCallFinished(event ->
-                    meterRegistry.counter("bulkhead.calls",
-                        tags.and("result", "finished")).increment());
-
-            return bulkhead;
+            Gauge.builder("bulkhead.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .tags(tags)
+                .register(meterRegistry);
+            Gauge.builder("bulkhead.inflight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .tags(tags)
+                .register(meterRegistry);
+            FunctionCounter.builder("bulkhead.calls", limiter, AdaptiveConcurrencyLimiter::getAccepted)
+                .tags(tags.and("result", "permitted"))
+                .register(meterRegistry);
+            FunctionCounter.builder("bulkhead.calls", limiter, AdaptiveConcurrencyLimiter::getRejected)
+                .tags(tags.and("result", "rejected"))
+                .register(meterRegistry);
+            FunctionCounter.builder("bulkhead.calls", limiter, AdaptiveConcurrencyLimiter::getDropped)
+                .tags(tags.and("result", "dropped"))
+                .register(meterRegistry);
+
+            log.debug("Created {} concurrency limiter {} with initial limit {}",
+                limitAlgorithm, k, limiter.getLimit());
+            return limiter;
         });
     }
 
@@ -232,17 +248,13 @@ public class BulkheadService {
         });
     }
 
-    private void recordMetric(String type, String bulkheadName) {
-        meterRegistry.counter("bulkhead.events",
-            "type", type,
-            "name", bulkheadName).increment();
-    }
-
     public static class BulkheadMetrics {
         private String adapterType;
         private String adapterId;
         private int availableConcurrentCalls;
         private int maxAllowedConcurrentCalls;
+        private int inFlightCalls;
+        private long rejectedCalls;
 
         // Getters and Setters
         public String getAdapterType() {
@@ -277,6 +289,22 @@ public class BulkheadService {
             this.maxAllowedConcurrentCalls = maxAllowedConcurrentCalls;
         }
 
+        public int getInFlightCalls() {
+            return inFlightCalls;
+        }
+
+        public void setInFlightCalls(int inFlightCalls) {
+            this.inFlightCalls = inFlightCalls;
+        }
+
+        public long getRejectedCalls() {
+            return rejectedCalls;
+        }
+
+        public void setRejectedCalls(long rejectedCalls) {
+            this.rejectedCalls = rejectedCalls;
+        }
+
         // Builder pattern
         public static BulkheadMetricsBuilder builder() {
             return new BulkheadMetricsBuilder();
@@ -287,6 +315,8 @@ public class BulkheadService {
             private String adapterId;
             private int availableConcurrentCalls;
             private int maxAllowedConcurrentCalls;
+            private int inFlightCalls;
+            private long rejectedCalls;
 
             public BulkheadMetricsBuilder adapterType(String adapterType) {
                 this.adapterType = adapterType;
@@ -308,12 +338,24 @@ public class BulkheadService {
                 return this;
             }
 
+            public BulkheadMetricsBuilder inFlightCalls(int inFlightCalls) {
+                this.inFlightCalls = inFlightCalls;
+                return this;
+            }
+
+            public BulkheadMetricsBuilder rejectedCalls(long rejectedCalls) {
+                this.rejectedCalls = rejectedCalls;
+                return this;
+            }
+
             public BulkheadMetrics build() {
                 BulkheadMetrics metrics = new BulkheadMetrics();
                 metrics.adapterType = this.adapterType;
                 metrics.adapterId = this.adapterId;
                 metrics.availableConcurrentCalls = this.availableConcurrentCalls;
                 metrics.maxAllowedConcurrentCalls = this.maxAllowedConcurrentCalls;
+                metrics.inFlightCalls = this.inFlightCalls;
+                metrics.rejectedCalls = this.rejectedCalls;
                 return metrics;
             }
         }
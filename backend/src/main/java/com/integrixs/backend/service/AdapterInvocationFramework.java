@@ -3,6 +3,7 @@ package com.integrixs.backend.service;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.integrixs.shared.util.JsonCodec;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.http.*;
@@ -24,7 +25,7 @@ import java.util.concurrent.ConcurrentHashMap;
 @Service
 public class AdapterInvocationFramework {
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectMapper objectMapper = JsonCodec.mapper();
     private final RestTemplate restTemplate = new RestTemplate();
     private final Map<String, AdapterConnection> activeConnections = new ConcurrentHashMap<>();
 
@@ -5,6 +5,7 @@ import com.integrixs.adapters.factory.AdapterFactoryManager;
 import com.integrixs.data.model.CommunicationAdapter;
 import com.integrixs.data.sql.repository.CommunicationAdapterSqlRepository;
 import com.integrixs.shared.enums.AdapterType;
+import com.integrixs.shared.util.JsonCodec;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -53,7 +54,7 @@ public class AdapterPoolManager {
     private final ScheduledExecutorService maintenanceExecutor = Executors.newScheduledThreadPool(2);
 
     // JSON ObjectMapper
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectMapper objectMapper = JsonCodec.mapper();
 
     @Autowired
     public void setHealthMonitor(AdapterHealthMonitor healthMonitor) {
@@ -1,6 +1,7 @@
 package com.integrixs.backend.service;
 
 import com.integrixs.shared.dto.GlobalRetrySettingsDTO;
+import com.integrixs.shared.util.JsonCodec;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -15,7 +16,7 @@ public class AdapterRetryService {
 
 
     private final SystemSettingService systemSettingService;
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectMapper objectMapper = JsonCodec.mapper();
 
     public AdapterRetryService(SystemSettingService systemSettingService) {
         this.systemSettingService = systemSettingService;
@@ -5,6 +5,7 @@ import com.integrixs.data.sql.repository.UserSqlRepository;
 import com.integrixs.data.model.AuditTrail;
 import com.integrixs.data.model.User;
 import com.integrixs.data.sql.repository.AuditTrailSqlRepository;
+import com.integrixs.shared.util.JsonCodec;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import jakarta.servlet.http.HttpServletRequest;
@@ -54,7 +55,7 @@ public class AuditTrailService {
     @Value("${audit.encryption.enabled:false}")
     private boolean encryptionEnabled;
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectMapper objectMapper = JsonCodec.mapper();
 
     /**
      * Log a CREATE operation
@@ -6,6 +6,8 @@ import com.integrixs.data.model.IntegrationFlow;
 import com.integrixs.data.model.SystemLog;
 import com.integrixs.data.sql.repository.IntegrationFlowSqlRepository;
 import com.integrixs.shared.enums.AdapterType;
+import com.integrixs.shared.util.JsonCodec;
+import com.integrixs.shared.util.XmlToolkit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -406,7 +408,7 @@ public class BackendAdapterExecutor {
         com.integrixs.adapters.factory.AdapterFactory factory = new com.integrixs.adapters.factory.DefaultAdapterFactory();
 
         // Parse configuration JSON
-        ObjectMapper mapper = new ObjectMapper();
+        ObjectMapper mapper = JsonCodec.mapper();
         Map<String, Object> configMap;
         try {
             configMap = mapper.readValue(adapter.getConfiguration(), Map.class);
@@ -523,8 +525,8 @@ public class BackendAdapterExecutor {
                         .build();
                 com.integrixs.adapters.domain.model.AdapterOperationResult result = senderAdapter.fetch(fetchRequest);
                 if(result.isSuccess()) {
-                    // Process the files received
-                    Object data = result.getData();
+                    // Process the files received, spooled content is embedded in the response
+                    Object data = com.integrixs.adapters.infrastructure.connection.SpooledContent.inline(result.getData());
                     if(data instanceof List) {
                         List<?> files = (List<?>) data;
                         logger.info("FTP poll successful, retrieved {} files", files.size());
@@ -550,9 +552,7 @@ public class BackendAdapterExecutor {
 
     private String extractSoapBody(String soapResponse) throws Exception {
         // Parse SOAP response and extract body content
-        javax.xml.parsers.DocumentBuilderFactory factory = javax.xml.parsers.DocumentBuilderFactory.newInstance();
-        factory.setNamespaceAware(true);
-        javax.xml.parsers.DocumentBuilder builder = factory.newDocumentBuilder();
+        javax.xml.parsers.DocumentBuilder builder = XmlToolkit.documentBuilder();
         org.w3c.dom.Document doc = builder.parse(new java.io.ByteArrayInputStream(soapResponse.getBytes()));
 
         // Find the Body element
@@ -573,8 +573,7 @@ public class BackendAdapterExecutor {
 
                 if(responseNode != null) {
                     // Convert to string
-                    javax.xml.transform.TransformerFactory tf = javax.xml.transform.TransformerFactory.newInstance();
-                    javax.xml.transform.Transformer transformer = tf.newTransformer();
+                    javax.xml.transform.Transformer transformer = XmlToolkit.transformer();
                     // Don't output XML declaration
                     transformer.setOutputProperty(javax.xml.transform.OutputKeys.OMIT_XML_DECLARATION, "yes");
                     java.io.StringWriter writer = new java.io.StringWriter();
@@ -6,15 +6,13 @@ import com.integrixs.backend.application.service.OrchestrationTargetService;
 import com.integrixs.backend.api.dto.response.OrchestrationTargetResponse;
 import com.integrixs.data.model.IntegrationFlow;
 import com.integrixs.data.model.OrchestrationTarget;
+import com.integrixs.shared.util.XmlToolkit;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import javax.xml.XMLConstants;
 import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
 import org.w3c.dom.Document;
@@ -98,11 +96,7 @@ public class BpmnConverterService {
         BpmnValidationResult result = new BpmnValidationResult();
 
         try {
-            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-            factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
-            factory.setNamespaceAware(true);
-
-            DocumentBuilder builder = factory.newDocumentBuilder();
+            DocumentBuilder builder = XmlToolkit.documentBuilder();
             Document doc = builder.parse(new java.io.ByteArrayInputStream(bpmnXml.getBytes()));
 
             // Validate structure
@@ -131,11 +125,7 @@ public class BpmnConverterService {
     }
 
     private Document createBpmnDocument() throws Exception {
-        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-        factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
-        factory.setNamespaceAware(true);
-
-        DocumentBuilder builder = factory.newDocumentBuilder();
+        DocumentBuilder builder = XmlToolkit.documentBuilder();
         Document doc = builder.newDocument();
 
         // Create root definitions element
@@ -419,10 +409,7 @@ public class BpmnConverterService {
     }
 
     private String documentToString(Document doc) throws Exception {
-        TransformerFactory tf = TransformerFactory.newInstance();
-        tf.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
-
-        Transformer transformer = tf.newTransformer();
+        Transformer transformer = XmlToolkit.transformer();
         transformer.setOutputProperty(OutputKeys.ENCODING, "UTF-8");
         transformer.setOutputProperty(OutputKeys.INDENT, "yes");
         transformer.setOutputProperty(" {http://xml.apache.org/xslt}indent - amount", "2");
@@ -4,6 +4,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.integrixs.backend.api.dto.response.TestConditionResponse;
 import com.integrixs.backend.exception.BusinessException;
 import com.integrixs.data.model.RouteCondition;
+import com.integrixs.shared.util.JsonCodec;
+import com.integrixs.shared.util.XmlToolkit;
 import com.jayway.jsonpath.JsonPath;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
@@ -15,11 +17,9 @@ import org.w3c.dom.Document;
 import org.xml.sax.InputSource;
 
 import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpression;
-import javax.xml.xpath.XPathFactory;
 import java.io.StringReader;
 import java.time.Instant;
 import java.util.*;
@@ -34,7 +34,7 @@ public class ConditionEvaluationService {
     private static final Logger log = LoggerFactory.getLogger(ConditionEvaluationService.class);
 
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectMapper objectMapper = JsonCodec.mapper();
     private final ExpressionParser parser = new SpelExpressionParser();
 
     /**
@@ -287,13 +287,10 @@ public class ConditionEvaluationService {
                 .result("XML conversion successful")
                 .build());
 
-            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-            DocumentBuilder builder = factory.newDocumentBuilder();
+            DocumentBuilder builder = XmlToolkit.documentBuilder(false);
             Document doc = builder.parse(new InputSource(new StringReader(xml)));
 
-            XPathFactory xPathfactory = XPathFactory.newInstance();
-            XPath xPath = xPathfactory.newXPath();
-            XPathExpression expr = xPath.compile(xpath);
+            XPathExpression expr = XmlToolkit.compile(xpath);
 
             Object result = expr.evaluate(doc, XPathConstants.BOOLEAN);
 
@@ -0,0 +1,643 @@
+package com.integrixs.backend.service;
+
+import com.integrixs.adapters.domain.repository.AdapterCheckpointRepository;
+import com.integrixs.adapters.domain.service.PollerOwnershipService;
+import com.integrixs.data.model.DeadLetterMessage;
+import com.integrixs.data.model.ErrorRecord;
+import com.integrixs.data.sql.repository.DeadLetterMessageSqlRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bulk, rate controlled replay of dead letters.
+ *
+ * A replay selects dead letters by flow, adapter, error type and time range and walks them oldest first in
+ * batches. Every batch is claimed in the database before it is re - injected, so concurrent replays and cluster
+ * members never replay an entry twice, and is paced to the replay's rate with at most its concurrency of
+ * messages being enqueued at once. When the failure rate of the re - injected messages or of the message queue
+ * spikes the replay pauses itself, resumes after a cool down at half its rate and ramps back up while healthy.
+ * Progress is checkpointed after every batch, a replay interrupted by a restart resumes where it stopped.
+ */
+@Service
+public class DeadLetterReplayService {
+
+    private static final Logger log = LoggerFactory.getLogger(DeadLetterReplayService.class);
+
+    private static final String CHECKPOINT_PREFIX = "dlq-replay-";
+    private static final String JOB_INDEX = "dlq-replay-jobs";
+
+    /**
+     * Replay state
+     */
+    public enum ReplayState {
+        RUNNING,
+        PAUSED,
+        AUTO_PAUSED,
+        INTERRUPTED,
+        COMPLETED,
+        CANCELLED,
+        FAILED
+    }
+
+    private final DeadLetterMessageSqlRepository deadLetterRepository;
+    private final MessageQueueService messageQueueService;
+    private final Map<String, ReplayJob> jobs = new ConcurrentHashMap<>();
+
+    @Value("${integrix.dlq.replay.max-concurrency:16}")
+    private int maxConcurrency;
+
+    @Value("${integrix.dlq.replay.rate:50}")
+    private double defaultRate;
+
+    @Value("${integrix.dlq.replay.concurrency:4}")
+    private int defaultConcurrency;
+
+    @Value("${integrix.dlq.replay.batch-size:200}")
+    private int defaultBatchSize;
+
+    @Value("${integrix.dlq.replay.failure-threshold:0.2}")
+    private double defaultFailureThreshold;
+
+    @Value("${integrix.dlq.replay.min-samples:20}")
+    private int minSamples;
+
+    @Value("${integrix.dlq.replay.cooldown-ms:60000}")
+    private long cooldownMs;
+
+    @Value("${integrix.dlq.replay.max-queue-depth:1000}")
+    private int maxQueueDepth;
+
+    @Value("${integrix.dlq.replay.claim-timeout-ms:600000}")
+    private long claimTimeoutMs;
+
+    @Value("${integrix.dlq.replay.priority:0}")
+    private int replayPriority;
+
+    private ExecutorService jobExecutor;
+    private ExecutorService enqueueExecutor;
+    private ScheduledExecutorService resumeScheduler;
+
+    public DeadLetterReplayService(DeadLetterMessageSqlRepository deadLetterRepository,
+                                   MessageQueueService messageQueueService) {
+        this.deadLetterRepository = deadLetterRepository;
+        this.messageQueueService = messageQueueService;
+    }
+
+    @PostConstruct
+    public void initialize() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        jobExecutor = Executors.newCachedThreadPool(r -> {
+            Thread t = new Thread(r, "dlq - replay-" + threadNumber.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        enqueueExecutor = Executors.newFixedThreadPool(Math.max(1, maxConcurrency), r -> {
+            Thread t = new Thread(r, "dlq - replay - enqueue-" + threadNumber.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        resumeScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "dlq - replay - resume");
+            t.setDaemon(true);
+            return t;
+        });
+        restoreInterruptedJobs();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // Running replays stay checkpointed as running and are restored as interrupted
+        jobs.values().forEach(job -> job.stopRequested = true);
+        resumeScheduler.shutdownNow();
+        jobExecutor.shutdownNow();
+        enqueueExecutor.shutdownNow();
+    }
+
+    /**
+     * Start a replay
+     * @param criteria Selection and pacing of the replay
+     * @return Replay job
+     */
+    public ReplayJob startReplay(ReplayCriteria criteria) {
+        ReplayJob job = new ReplayJob(UUID.randomUUID().toString(), normalize(criteria));
+        job.total = deadLetterRepository.countReplayCandidates(criteria.getFlowId(), criteria.getAdapter(),
+            errorTypeName(criteria), criteria.getFrom(), criteria.getTo(), claimedBefore());
+        jobs.put(job.getId(), job);
+        log.info("Starting dead letter replay {} of {} entries at {}/s", job.getId(), job.total, job.currentRate);
+        run(job);
+        return job;
+    }
+
+    /**
+     * Pause a running replay after its current batch
+     */
+    public boolean pauseReplay(String jobId) {
+        ReplayJob job = jobs.get(jobId);
+        if(job == null || !job.isActive()) {
+            return false;
+        }
+        job.state = ReplayState.PAUSED;
+        job.stopRequested = true;
+        return true;
+    }
+
+    /**
+     * Resume a paused or interrupted replay from its last checkpoint
+     */
+    public boolean resumeReplay(String jobId) {
+        ReplayJob job = jobs.get(jobId);
+        if(job == null || job.state == ReplayState.RUNNING || job.isFinished()) {
+            return false;
+        }
+        log.info("Resuming dead letter replay {} after {} replayed entries", jobId, job.replayed.get());
+        run(job);
+        return true;
+    }
+
+    /**
+     * Cancel a replay; entries replayed so far stay replayed
+     */
+    public boolean cancelReplay(String jobId) {
+        ReplayJob job = jobs.get(jobId);
+        if(job == null || job.isFinished()) {
+            return false;
+        }
+        job.stopRequested = true;
+        finish(job, ReplayState.CANCELLED, null);
+        return true;
+    }
+
+    public ReplayJob getReplay(String jobId) {
+        return jobs.get(jobId);
+    }
+
+    public Collection<ReplayJob> getReplays() {
+        return jobs.values();
+    }
+
+    private synchronized void run(ReplayJob job) {
+        if(job.worker != null && !job.worker.isDone()) {
+            // Paused and resumed before the worker finished its batch, the worker carries on
+            job.state = ReplayState.RUNNING;
+            job.stopRequested = false;
+            return;
+        }
+        job.state = ReplayState.RUNNING;
+        job.stopRequested = false;
+        MessageQueueService.QueueStatistics stats = messageQueueService.getStatistics();
+        job.lastProcessedCount = stats.getProcessedCount();
+        job.lastFailedCount = stats.getFailedCount();
+        job.resetWindow();
+        checkpoint(job);
+        submitWorker(job);
+    }
+
+    private void submitWorker(ReplayJob job) {
+        job.worker = jobExecutor.submit(() -> {
+            try {
+                replay(job);
+            } finally {
+                workerExited(job);
+            }
+        });
+    }
+
+    private synchronized void workerExited(ReplayJob job) {
+        if(job.state == ReplayState.RUNNING && !job.stopRequested && !Thread.currentThread().isInterrupted()) {
+            // Resumed while the worker was stopping
+            submitWorker(job);
+        }
+    }
+
+    private void replay(ReplayJob job) {
+        ReplayCriteria criteria = job.criteria;
+        try {
+            while(!job.stopRequested) {
+                awaitQueueCapacity(job);
+                if(job.stopRequested) {
+                    break;
+                }
+
+                List<DeadLetterMessage> batch = deadLetterRepository.findReplayCandidates(criteria.getFlowId(),
+                    criteria.getAdapter(), errorTypeName(criteria), criteria.getFrom(), criteria.getTo(),
+                    claimedBefore(), job.cursorQueuedAt, job.cursorId, criteria.getBatchSize());
+                if(batch.isEmpty()) {
+                    if(!job.stopRequested) {
+                        finish(job, ReplayState.COMPLETED, null);
+                    }
+                    return;
+                }
+
+                replayBatch(job, batch);
+
+                DeadLetterMessage last = batch.get(batch.size() - 1);
+                job.cursorQueuedAt = last.getQueuedAt();
+                job.cursorId = last.getId();
+                checkpoint(job);
+
+                if(!job.stopRequested && isFailureRateSpiking(job)) {
+                    autoPause(job);
+                    return;
+                }
+            }
+        } catch(Exception e) {
+            if(e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            log.error("Dead letter replay {} failed", job.getId(), e);
+            finish(job, ReplayState.FAILED, e.getMessage());
+        }
+    }
+
+    private void replayBatch(ReplayJob job, List<DeadLetterMessage> batch) throws InterruptedException {
+        List<UUID> ids = new ArrayList<>(batch.size());
+        batch.forEach(entry -> ids.add(entry.getId()));
+        int[] claimed = deadLetterRepository.claimForReplay(ids, claimedBefore());
+
+        Map<UUID, String> replayed = new ConcurrentHashMap<>();
+        List<UUID> failed = Collections.synchronizedList(new ArrayList<>());
+        List<UUID> unreplayable = new ArrayList<>();
+        List<Future<?>> pending = new ArrayList<>();
+        Semaphore inFlight = new Semaphore(job.criteria.getConcurrency());
+        long nextSlot = System.nanoTime();
+
+        for(int i = 0; i < batch.size() && !job.stopRequested; i++) {
+            DeadLetterMessage entry = batch.get(i);
+            if(claimed[i] <= 0) {
+                // Replayed or claimed by someone else since it was selected
+                job.skipped.incrementAndGet();
+                continue;
+            }
+            if(entry.getFlowId() == null || entry.getPayload() == null) {
+                unreplayable.add(entry.getId());
+                continue;
+            }
+
+            // Pace submissions to the replay's current rate
+            long wait = nextSlot - System.nanoTime();
+            if(wait > 0) {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            }
+            nextSlot = Math.max(nextSlot, System.nanoTime()) + (long) (1_000_000_000L / job.currentRate);
+
+            inFlight.acquire();
+            pending.add(enqueueExecutor.submit(() -> {
+                try {
+                    String messageId = messageQueueService.enqueueMessage(entry.getFlowId().toString(),
+                        entry.getPayload(), replayPriority);
+                    replayed.put(entry.getId(), messageId);
+                } catch(Exception e) {
+                    log.debug("Replay of dead letter {} failed: {}", entry.getId(), e.getMessage());
+                    failed.add(entry.getId());
+                } finally {
+                    inFlight.release();
+                }
+            }));
+        }
+        for(Future<?> future : pending) {
+            try {
+                future.get();
+            } catch(ExecutionException e) {
+                log.debug("Replay task failed: {}", e.getMessage());
+            }
+        }
+
+        // Failed, unreplayable and(when the replay stopped) unsubmitted claims go back to the pool
+        List<UUID> released = new ArrayList<>();
+        for(int i = 0; i < batch.size(); i++) {
+            UUID id = batch.get(i).getId();
+            if(claimed[i] > 0 && !replayed.containsKey(id)) {
+                released.add(id);
+            }
+        }
+        deadLetterRepository.markReplayed(replayed);
+        deadLetterRepository.markReplayFailed(released);
+
+        job.replayed.addAndGet(replayed.size());
+        job.failed.addAndGet(failed.size());
+        job.skipped.addAndGet(unreplayable.size());
+        job.windowAttempts += replayed.size() + failed.size();
+        job.windowFailures += failed.size();
+    }
+
+    /**
+     * Hold back while the message queue is saturated, so replayed messages do not crowd out live traffic
+     */
+    private void awaitQueueCapacity(ReplayJob job) throws InterruptedException {
+        while(!job.stopRequested && messageQueueService.getStatistics().getQueueSize() >= maxQueueDepth) {
+            TimeUnit.MILLISECONDS.sleep(200);
+        }
+    }
+
+    /**
+     * Failure rate of the last batches: enqueue failures of the replay, and processing failures of the message
+     * queue since the previous check(the recovering downstream system failing again)
+     */
+    private boolean isFailureRateSpiking(ReplayJob job) {
+        MessageQueueService.QueueStatistics stats = messageQueueService.getStatistics();
+        long processed = stats.getProcessedCount() - job.lastProcessedCount;
+        long processingFailures = stats.getFailedCount() - job.lastFailedCount;
+        job.lastProcessedCount = stats.getProcessedCount();
+        job.lastFailedCount = stats.getFailedCount();
+        job.windowProcessed += processed + processingFailures;
+        job.windowProcessingFailures += processingFailures;
+
+        double threshold = job.criteria.getFailureThreshold();
+        boolean spiking = rate(job.windowFailures, job.windowAttempts) >= threshold
+            || rate(job.windowProcessingFailures, job.windowProcessed) >= threshold;
+
+        if(spiking || job.windowAttempts >= minSamples * 4L) {
+            job.resetWindow();
+        }
+        if(!spiking) {
+            // Healthy batch: ramp back up to the configured rate
+            job.currentRate = Math.min(job.criteria.getRatePerSecond(),
+                job.currentRate + job.criteria.getRatePerSecond() / 10);
+        }
+        return spiking;
+    }
+
+    private double rate(long failures, long samples) {
+        return samples >= minSamples ? (double) failures / samples : 0;
+    }
+
+    private void autoPause(ReplayJob job) {
+        job.state = ReplayState.AUTO_PAUSED;
+        job.currentRate = Math.max(1, job.currentRate / 2);
+        job.autoPauses.incrementAndGet();
+        checkpoint(job);
+        log.warn("Dead letter replay {} paused for {} ms, failure rate above {}; resuming at {}/s",
+            job.getId(), cooldownMs, job.criteria.getFailureThreshold(), job.currentRate);
+        resumeScheduler.schedule(() -> {
+            if(job.state == ReplayState.AUTO_PAUSED) {
+                run(job);
+            }
+        }, cooldownMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void finish(ReplayJob job, ReplayState state, String error) {
+        job.state = state;
+        job.lastError = error;
+        job.finishedAt = LocalDateTime.now();
+        log.info("Dead letter replay {} {}: {} replayed, {} failed, {} skipped", job.getId(),
+            state.name().toLowerCase(), job.replayed.get(), job.failed.get(), job.skipped.get());
+        try {
+            AdapterCheckpointRepository repository = PollerOwnershipService.current().getCheckpointRepository();
+            repository.deleteAll(CHECKPOINT_PREFIX + job.getId());
+            repository.delete(JOB_INDEX, job.getId());
+        } catch(Exception e) {
+            log.debug("Could not remove replay checkpoint {}: {}", job.getId(), e.getMessage());
+        }
+    }
+
+    private LocalDateTime claimedBefore() {
+        return LocalDateTime.now().minus(Duration.ofMillis(claimTimeoutMs));
+    }
+
+    private ReplayCriteria normalize(ReplayCriteria criteria) {
+        if(criteria.getRatePerSecond() <= 0) {
+            criteria.setRatePerSecond(defaultRate);
+        }
+        if(criteria.getConcurrency() <= 0) {
+            criteria.setConcurrency(defaultConcurrency);
+        }
+        criteria.setConcurrency(Math.min(criteria.getConcurrency(), Math.max(1, maxConcurrency)));
+        if(criteria.getBatchSize() <= 0) {
+            criteria.setBatchSize(defaultBatchSize);
+        }
+        if(criteria.getFailureThreshold() <= 0) {
+            criteria.setFailureThreshold(defaultFailureThreshold);
+        }
+        return criteria;
+    }
+
+    private static String errorTypeName(ReplayCriteria criteria) {
+        return criteria.getErrorType() != null ? criteria.getErrorType().name() : null;
+    }
+
+    private void checkpoint(ReplayJob job) {
+        if(job.isFinished()) {
+            return;
+        }
+        try {
+            AdapterCheckpointRepository repository = PollerOwnershipService.current().getCheckpointRepository();
+            String key = CHECKPOINT_PREFIX + job.getId();
+            ReplayCriteria criteria = job.criteria;
+            Map<String, String> values = new HashMap<>();
+            values.put("flowId", criteria.getFlowId() != null ? criteria.getFlowId().toString() : null);
+            values.put("adapter", criteria.getAdapter());
+            values.put("errorType", errorTypeName(criteria));
+            values.put("from", criteria.getFrom() != null ? criteria.getFrom().toString() : null);
+            values.put("to", criteria.getTo() != null ? criteria.getTo().toString() : null);
+            values.put("ratePerSecond", String.valueOf(criteria.getRatePerSecond()));
+            values.put("concurrency", String.valueOf(criteria.getConcurrency()));
+            values.put("batchSize", String.valueOf(criteria.getBatchSize()));
+            values.put("failureThreshold", String.valueOf(criteria.getFailureThreshold()));
+            values.put("cursorQueuedAt", job.cursorQueuedAt != null ? job.cursorQueuedAt.toString() : null);
+            values.put("cursorId", job.cursorId != null ? job.cursorId.toString() : null);
+            values.put("total", String.valueOf(job.total));
+            values.put("replayed", String.valueOf(job.replayed.get()));
+            values.put("failed", String.valueOf(job.failed.get()));
+            values.put("skipped", String.valueOf(job.skipped.get()));
+            values.forEach((name, value) -> {
+                if(value != null) {
+                    repository.save(key, name, value);
+                }
+            });
+            repository.save(JOB_INDEX, job.getId(), job.state.name());
+        } catch(Exception e) {
+            log.warn("Could not checkpoint dead letter replay {}: {}", job.getId(), e.getMessage());
+        }
+    }
+
+    private void restoreInterruptedJobs() {
+        try {
+            AdapterCheckpointRepository repository = PollerOwnershipService.current().getCheckpointRepository();
+            repository.loadAll(JOB_INDEX).forEach((jobId, state) -> {
+                Map<String, String> values = repository.loadAll(CHECKPOINT_PREFIX + jobId);
+                if(values.isEmpty()) {
+                    repository.delete(JOB_INDEX, jobId);
+                    return;
+                }
+                ReplayCriteria criteria = new ReplayCriteria();
+                criteria.setFlowId(values.containsKey("flowId") ? UUID.fromString(values.get("flowId")) : null);
+                criteria.setAdapter(values.get("adapter"));
+                criteria.setErrorType(values.containsKey("errorType")
+                    ? ErrorRecord.ErrorType.valueOf(values.get("errorType")) : null);
+                criteria.setFrom(values.containsKey("from") ? LocalDateTime.parse(values.get("from")) : null);
+                criteria.setTo(values.containsKey("to") ? LocalDateTime.parse(values.get("to")) : null);
+                criteria.setRatePerSecond(Double.parseDouble(values.get("ratePerSecond")));
+                criteria.setConcurrency(Integer.parseInt(values.get("concurrency")));
+                criteria.setBatchSize(Integer.parseInt(values.get("batchSize")));
+                criteria.setFailureThreshold(Double.parseDouble(values.get("failureThreshold")));
+
+                ReplayJob job = new ReplayJob(jobId, normalize(criteria));
+                job.cursorQueuedAt = values.containsKey("cursorQueuedAt")
+                    ? LocalDateTime.parse(values.get("cursorQueuedAt")) : null;
+                job.cursorId = values.containsKey("cursorId") ? UUID.fromString(values.get("cursorId")) : null;
+                job.total = Long.parseLong(values.getOrDefault("total", "0"));
+                job.replayed.set(Long.parseLong(values.getOrDefault("replayed", "0")));
+                job.failed.set(Long.parseLong(values.getOrDefault("failed", "0")));
+                job.skipped.set(Long.parseLong(values.getOrDefault("skipped", "0")));
+                job.state = ReplayState.PAUSED.name().equals(state) ? ReplayState.PAUSED : ReplayState.INTERRUPTED;
+                jobs.put(jobId, job);
+                log.info("Restored dead letter replay {} ({} of {} replayed), resume it to continue",
+                    jobId, job.replayed.get(), job.total);
+            });
+        } catch(Exception e) {
+            log.warn("Could not restore dead letter replays: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Selection and pacing of a replay; unset filters match every dead letter, unset limits use the defaults
+     */
+    public static class ReplayCriteria {
+        private UUID flowId;
+        private String adapter;
+        private ErrorRecord.ErrorType errorType;
+        private LocalDateTime from;
+        private LocalDateTime to;
+        private double ratePerSecond;
+        private int concurrency;
+        private int batchSize;
+        private double failureThreshold;
+
+        public UUID getFlowId() { return flowId; }
+        public void setFlowId(UUID flowId) { this.flowId = flowId; }
+
+        /**
+         * Source or target system of the dead letters
+         */
+        public String getAdapter() { return adapter; }
+        public void setAdapter(String adapter) { this.adapter = adapter; }
+
+        public ErrorRecord.ErrorType getErrorType() { return errorType; }
+        public void setErrorType(ErrorRecord.ErrorType errorType) { this.errorType = errorType; }
+
+        /**
+         * Queued at or after, inclusive
+         */
+        public LocalDateTime getFrom() { return from; }
+        public void setFrom(LocalDateTime from) { this.from = from; }
+
+        /**
+         * Queued before, exclusive
+         */
+        public LocalDateTime getTo() { return to; }
+        public void setTo(LocalDateTime to) { this.to = to; }
+
+        public double getRatePerSecond() { return ratePerSecond; }
+        public void setRatePerSecond(double ratePerSecond) { this.ratePerSecond = ratePerSecond; }
+
+        public int getConcurrency() { return concurrency; }
+        public void setConcurrency(int concurrency) { this.concurrency = concurrency; }
+
+        public int getBatchSize() { return batchSize; }
+        public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+
+        /**
+         * Failure rate(0 - 1) that pauses the replay
+         */
+        public double getFailureThreshold() { return failureThreshold; }
+        public void setFailureThreshold(double failureThreshold) { this.failureThreshold = failureThreshold; }
+    }
+
+    /**
+     * Replay job and its progress
+     */
+    public static class ReplayJob {
+        private final String id;
+        private final ReplayCriteria criteria;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final AtomicLong replayed = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final AtomicLong skipped = new AtomicLong();
+        private final AtomicLong autoPauses = new AtomicLong();
+
+        private volatile ReplayState state;
+        private volatile boolean stopRequested;
+        private volatile double currentRate;
+        private volatile long total;
+        private volatile LocalDateTime cursorQueuedAt;
+        private volatile UUID cursorId;
+        private volatile LocalDateTime finishedAt;
+        private volatile String lastError;
+        private volatile Future<?> worker;
+
+        // Failure rate window, only touched by the replay thread
+        private long windowAttempts;
+        private long windowFailures;
+        private long windowProcessed;
+        private long windowProcessingFailures;
+        private long lastProcessedCount;
+        private long lastFailedCount;
+
+        ReplayJob(String id, ReplayCriteria criteria) {
+            this.id = id;
+            this.criteria = criteria;
+            this.currentRate = criteria.getRatePerSecond();
+        }
+
+        private boolean isActive() {
+            return state == ReplayState.RUNNING || state == ReplayState.AUTO_PAUSED;
+        }
+
+        private boolean isFinished() {
+            return state == ReplayState.COMPLETED || state == ReplayState.CANCELLED || state == ReplayState.FAILED;
+        }
+
+        private void resetWindow() {
+            windowAttempts = 0;
+            windowFailures = 0;
+            windowProcessed = 0;
+            windowProcessingFailures = 0;
+        }
+
+        public String getId() { return id; }
+        public ReplayCriteria getCriteria() { return criteria; }
+        public ReplayState getState() { return state; }
+        public long getTotal() { return total; }
+        public long getReplayed() { return replayed.get(); }
+        public long getFailed() { return failed.get(); }
+        public long getSkipped() { return skipped.get(); }
+        public long getAutoPauses() { return autoPauses.get(); }
+        public double getCurrentRate() { return currentRate; }
+        public LocalDateTime getStartedAt() { return startedAt; }
+        public LocalDateTime getFinishedAt() { return finishedAt; }
+        public String getLastError() { return lastError; }
+
+        /**
+         * Share of the selected entries handled so far, 0 - 100
+         */
+        public double getProgressPercent() {
+            long handled = replayed.get() + failed.get() + skipped.get();
+            return total > 0 ? Math.min(100.0, handled * 100.0 / total) : 100.0;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.integrixs.backend.service;
 
+import com.integrixs.adapters.infrastructure.connection.SpooledContent;
 import com.integrixs.data.model.CommunicationAdapter;
 import com.integrixs.data.model.IntegrationFlow;
 import com.integrixs.engine.AdapterExecutor;
@@ -16,6 +17,7 @@ import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -79,8 +81,8 @@ public class DirectFileTransferService {
                                         CommunicationAdapter outboundAdapter) throws Exception {
         logger.info("Using streaming transfer for flow: {}", flow.getName());
 
-        // Get source file info from adapter
-        Object sourceDataObj = adapterExecutor.fetchDataAsObject(inboundAdapter.getId().toString());
+        // Get source file info from adapter, large files stay spooled on local disk
+        Object sourceDataObj = adapterExecutor.fetchDataSpooled(inboundAdapter.getId().toString());
         Map<String, Object> sourceData = null;
 
         // Try to cast to Map if possible
@@ -88,25 +90,54 @@ public class DirectFileTransferService {
             sourceData = (Map<String, Object>) sourceDataObj;
         }
 
-        if(sourceData != null && sourceData.containsKey("filePath")) {
-            Path sourcePath = Path.of((String) sourceData.get("filePath"));
-            long fileSize = Files.size(sourcePath);
-
-            logger.info("Streaming file: {} (size: {} bytes)", sourcePath, fileSize);
-
-            // For very large files, use memory - mapped I/O
-            if(fileSize > LARGE_FILE_THRESHOLD) {
-                streamLargeFile(sourcePath, outboundAdapter);
+        try {
+            if(sourceData != null && sourceData.containsKey("filePath")) {
+                streamFile(Path.of((String) sourceData.get("filePath")), outboundAdapter);
+            } else if(sourceData != null && sourceData.containsKey("inputStream")) {
+                // Handle stream - based sources
+                streamFromInputStream((InputStream) sourceData.get("inputStream"), outboundAdapter);
+            } else if(hasSpooledContent(sourceDataObj)) {
+                // Remote file adapters hand over spooled downloads, stream them from the spool file
+                for(Object record : sourceDataObj instanceof List ? (List<?>) sourceDataObj : List.of(sourceDataObj)) {
+                    streamRecord((Map<?, ?>) record, outboundAdapter);
+                }
             } else {
-                streamSmallFile(sourcePath, outboundAdapter);
+                // Fallback to buffered transfer
+                executeBufferedTransfer(flow, inboundAdapter, outboundAdapter);
             }
-        } else if(sourceData != null && sourceData.containsKey("inputStream")) {
-            // Handle stream - based sources
-            streamFromInputStream((InputStream) sourceData.get("inputStream"), outboundAdapter);
+        } finally {
+            SpooledContent.release(sourceDataObj);
+        }
+    }
+
+    private void streamFile(Path sourcePath, CommunicationAdapter outboundAdapter) throws Exception {
+        long fileSize = Files.size(sourcePath);
+
+        logger.info("Streaming file: {} (size: {} bytes)", sourcePath, fileSize);
+
+        // For very large files, use memory - mapped I/O
+        if(fileSize > LARGE_FILE_THRESHOLD) {
+            streamLargeFile(sourcePath, outboundAdapter);
+        } else {
+            streamSmallFile(sourcePath, outboundAdapter);
+        }
+    }
+
+    private void streamRecord(Map<?, ?> record, CommunicationAdapter outboundAdapter) throws Exception {
+        if(SpooledContent.isSpooled(record)) {
+            streamFile(SpooledContent.spoolFile(record), outboundAdapter);
         } else {
-            // Fallback to buffered transfer
-            executeBufferedTransfer(flow, inboundAdapter, outboundAdapter);
+            adapterExecutor.sendData(outboundAdapter.getId().toString(), SpooledContent.readContent(record));
+        }
+    }
+
+    private boolean hasSpooledContent(Object data) {
+        if(data instanceof Map) {
+            return SpooledContent.isSpooled((Map<?, ?>) data);
         }
+        return data instanceof List && !((List<?>) data).isEmpty()
+                && ((List<?>) data).stream().allMatch(item -> item instanceof Map)
+                && ((List<?>) data).stream().anyMatch(item -> SpooledContent.isSpooled((Map<?, ?>) item));
     }
 
     /**
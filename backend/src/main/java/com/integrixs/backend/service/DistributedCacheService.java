@@ -9,6 +9,9 @@ import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.data.redis.core.HashOperations;
 import org.springframework.data.redis.core.SetOperations;
 import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
@@ -16,6 +19,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -35,6 +39,10 @@ public class DistributedCacheService {
     private final SetOperations<String, Object> setOps;
     private final ZSetOperations<String, Object> zSetOps;
 
+    // Scripts are loaded once and then called by SHA
+    @SuppressWarnings("rawtypes")
+    private final Map<String, RedisScript<List>> scripts = new ConcurrentHashMap<>();
+
     public DistributedCacheService(RedisTemplate<String, Object> redisTemplate) {
         this.redisTemplate = redisTemplate;
         this.valueOps = redisTemplate.opsForValue();
@@ -333,6 +341,22 @@ public class DistributedCacheService {
         }
     }
 
+    /**
+     * Execute a Lua script atomically. Keys and arguments are passed as plain strings,
+     * the script must return an array of integers. Failures are propagated so callers can fall back.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public List<Long> executeScript(String script, List<String> keys, String... args) {
+        RedisScript<List> redisScript = scripts.computeIfAbsent(script, s -> new DefaultRedisScript<>(s, List.class));
+        try {
+            return (List<Long>) redisTemplate.execute(redisScript, RedisSerializer.string(),
+                (RedisSerializer) RedisSerializer.string(), keys, (Object[]) args);
+        } catch(Exception e) {
+            logger.error("Error executing script for keys: {}", keys, e);
+            throw e;
+        }
+    }
+
     // ========== Pattern Operations ==========
 
     /**
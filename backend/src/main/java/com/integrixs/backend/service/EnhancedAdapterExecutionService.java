@@ -6,6 +6,8 @@ import com.integrixs.adapters.domain.port.OutboundAdapterPort;
 import com.integrixs.adapters.domain.model.SendRequest;
 import com.integrixs.adapters.domain.model.FetchRequest;
 import com.integrixs.adapters.domain.model.AdapterOperationResult;
+import com.integrixs.adapters.infrastructure.connection.SpooledContent;
+import com.integrixs.backend.cache.DefinitionCache;
 import com.integrixs.backend.service.AdapterPoolManager.PooledAdapter;
 import com.integrixs.backend.service.FlowAlertingService;
 // import com.integrixs.backend.service.deprecated.MessageService;
@@ -16,10 +18,10 @@ import com.integrixs.data.model.SystemLog;
 import com.integrixs.data.model.Alert;
 import com.integrixs.data.model.AlertRule;
 import com.integrixs.data.sql.repository.CommunicationAdapterSqlRepository;
-import com.integrixs.data.sql.repository.IntegrationFlowSqlRepository;
 import com.integrixs.engine.mapper.HierarchicalXmlFieldMapper;
 // import com.integrixs.engine.service.MessageProcessingEngine;
 import com.integrixs.engine.service.FormatConversionService;
+import com.integrixs.shared.util.JsonCodec;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -58,10 +60,10 @@ public class EnhancedAdapterExecutionService {
     private HierarchicalXmlFieldMapper xmlFieldMapper;
 
     @Autowired
-    private IntegrationFlowSqlRepository flowRepository;
+    private CommunicationAdapterSqlRepository adapterRepository;
 
     @Autowired
-    private CommunicationAdapterSqlRepository adapterRepository;
+    private DefinitionCache definitionCache;
 
     @Autowired
     @Qualifier("enhancedSagaTransactionService")
@@ -79,7 +81,7 @@ public class EnhancedAdapterExecutionService {
     @Autowired
     private FlowAlertingService alertingService;
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectMapper objectMapper = JsonCodec.mapper();
 
     /**
      * Execute a flow with message queue integration
@@ -90,7 +92,7 @@ public class EnhancedAdapterExecutionService {
 
             try {
                 // Load flow configuration
-                IntegrationFlow flow = flowRepository.findById(UUID.fromString(flowId))
+                IntegrationFlow flow = definitionCache.findFlow(UUID.fromString(flowId))
                     .orElseThrow(() -> new IllegalArgumentException("Flow not found: " + flowId));
 
                 // Start monitoring
@@ -222,7 +224,7 @@ public class EnhancedAdapterExecutionService {
                 InboundAdapterPort adapter = pooledAdapter.getAdapter();
 
                 // Log adapter request
-                adapterEntity = adapterRepository.findById(UUID.fromString(adapterId)).orElse(null);
+                adapterEntity = definitionCache.findAdapter(UUID.fromString(adapterId)).orElse(null);
                 if(adapterEntity != null) {
                     messageService.logAdapterActivity(adapterEntity, "Fetch data start", "Starting data fetch from adapter", SystemLog.LogLevel.INFO, correlationId);
                 }
@@ -238,12 +240,13 @@ public class EnhancedAdapterExecutionService {
                         .adapterId(adapterId)
                         .build();
                 AdapterOperationResult result = adapter.fetch(fetchRequest);
+                Object data = SpooledContent.inline(result.getData());
 
                 if(result.isSuccess()) {
                     // Log successful fetch
                     if(adapterEntity != null) {
                         messageService.logAdapterActivity(adapterEntity, "Fetch data success",
-                           "Fetched " + (result.getData() != null ? result.getData().toString().length() : 0) + " bytes",
+                           "Fetched " + (data != null ? data.toString().length() : 0) + " bytes",
                            SystemLog.LogLevel.INFO, correlationId);
                     }
 
@@ -251,7 +254,7 @@ public class EnhancedAdapterExecutionService {
                     monitoringService.updateExecutionProgress(correlationId, "FETCH_COMPLETE",
                        "Successfully fetched data from adapter");
 
-                    return result.getData();
+                    return data;
                 } else {
                     throw new RuntimeException("Fetch failed: " + result.getMessage());
                 }
@@ -292,7 +295,7 @@ public class EnhancedAdapterExecutionService {
                 OutboundAdapterPort adapter = pooledAdapter.getAdapter();
 
                 // Log adapter request
-                adapterEntity = adapterRepository.findById(UUID.fromString(adapterId)).orElse(null);
+                adapterEntity = definitionCache.findAdapter(UUID.fromString(adapterId)).orElse(null);
                 if(adapterEntity != null) {
                     messageService.logAdapterActivity(adapterEntity, "Send data start",
                        "Sending " + (data != null ? data.toString().length() : 0) + " bytes",
@@ -7,6 +7,7 @@ import com.integrixs.data.model.ExternalAuthentication.AuthType;
 import com.integrixs.data.model.User;
 import com.integrixs.data.model.BusinessComponent;
 import com.integrixs.shared.dto.ExternalAuthenticationDTO;
+import com.integrixs.shared.util.JsonCodec;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -44,7 +45,7 @@ public class ExternalAuthenticationService {
     @Autowired
     private AuditTrailService auditTrailService;
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectMapper objectMapper = JsonCodec.mapper();
 
     /**
      * Create a new external authentication configuration
@@ -6,6 +6,7 @@ import com.integrixs.data.model.*;
 import com.integrixs.data.sql.repository.*;
 import com.integrixs.shared.dto.flow.FlowTransformationDTO;
 import com.integrixs.shared.dto.FieldMappingDTO;
+import com.integrixs.shared.util.JsonCodec;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -56,7 +57,7 @@ public class FlowCompositionService {
     @Autowired
     private UserSqlRepository userRepository;
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectMapper objectMapper = JsonCodec.mapper();
 
     /**
      * Create a complete direct mapping flow with business components, adapters, and field mappings
@@ -189,7 +190,7 @@ public class FlowCompositionService {
 
                     // Store mapping type and WSDL operations in configuration
                     try {
-                        ObjectMapper mapper = new ObjectMapper();
+                        ObjectMapper mapper = JsonCodec.mapper();
                         Map<String, Object> configMap = new HashMap<>();
                         configMap.put("mappingType", messageType);
                         if(additionalMapping.getSourceWsdlOperation() != null) {
@@ -2,6 +2,8 @@ package com.integrixs.backend.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.integrixs.shared.util.JsonCodec;
+import com.integrixs.shared.util.XmlToolkit;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -11,13 +13,8 @@ import org.springframework.stereotype.Service;
 
 import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
-import javax.xml.xpath.XPathFactory;
 import org.w3c.dom.Document;
 import org.w3c.dom.NodeList;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import java.io.StringReader;
-import org.xml.sax.InputSource;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
@@ -35,7 +32,7 @@ public class FlowContextService {
 
     private static final Logger logger = LoggerFactory.getLogger(FlowContextService.class);
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectMapper objectMapper = JsonCodec.mapper();
 
     // In - memory context storage(can be replaced with Redis for distributed systems)
     private final Map<String, FlowContext> activeContexts = new ConcurrentHashMap<>();
@@ -164,13 +161,8 @@ public class FlowContextService {
      */
     public String extractValueFromXml(String xml, String xpath) {
         try {
-            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-            factory.setNamespaceAware(true);
-            DocumentBuilder builder = factory.newDocumentBuilder();
-            Document doc = builder.parse(new InputSource(new StringReader(xml)));
-
-            XPath xPath = XPathFactory.newInstance().newXPath();
-            NodeList nodes = (NodeList) xPath.compile(xpath).evaluate(doc, XPathConstants.NODESET);
+            Document doc = XmlToolkit.parse(xml);
+            NodeList nodes = (NodeList) XmlToolkit.compile(xpath).evaluate(doc, XPathConstants.NODESET);
 
             if(nodes.getLength() > 0) {
                 return nodes.item(0).getTextContent();
@@ -1,6 +1,10 @@
 package com.integrixs.backend.service;
 
 import com.integrixs.backend.service.FlowContextService.FlowContext;
+import com.integrixs.backend.service.aggregation.AggregatorService;
+import com.integrixs.backend.service.aggregation.CompletionStrategy;
+import com.integrixs.backend.streaming.StreamingSplitter;
+import com.integrixs.backend.streaming.StreamingSplitter.PartProcessor;
 import com.integrixs.data.model.RouteCondition.SourceType;
 import com.integrixs.data.model.IntegrationFlow;
 import com.integrixs.data.model.FlowRouter;
@@ -8,17 +12,22 @@ import com.integrixs.data.sql.repository.FlowRouterSqlRepository;
 import com.integrixs.data.sql.repository.IntegrationFlowSqlRepository;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.integrixs.shared.util.JsonCodec;
+import com.integrixs.shared.util.XmlToolkit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import jakarta.annotation.PostConstruct;
 import javax.xml.xpath.*;
 import org.w3c.dom.*;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import java.io.StringReader;
-import org.xml.sax.InputSource;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
@@ -47,11 +56,34 @@ public class FlowRouterService {
     @Autowired
     private EnhancedSagaTransactionService sagaService;
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    @Autowired
+    private AggregatorService aggregatorService;
+
+    @Autowired
+    private StreamingSplitter streamingSplitter;
+
+    @Autowired
+    private ErrorHandlingService errorHandlingService;
+
+    private final ObjectMapper objectMapper = JsonCodec.mapper();
 
     // Router registry
     private final Map<String, RouterInstance> activeRouters = new ConcurrentHashMap<>();
 
+    // Completion strategies registered in code, by router id
+    private final Map<String, CompletionStrategy> customCompletionStrategies = new ConcurrentHashMap<>();
+
+    // Receivers of the parts of streaming splitters, by router id
+    private final Map<String, PartProcessor> splitPartProcessors = new ConcurrentHashMap<>();
+
+    // Receivers of the aggregates of timed out groups, by router id
+    private final Map<String, AggregationTimeoutHandler> aggregationTimeoutHandlers = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        aggregatorService.setTimeoutHandler(this::handleAggregationTimeout);
+    }
+
     /**
      * Create a content - based router
      */
@@ -122,12 +154,24 @@ public class FlowRouterService {
     public FlowRouter createSplitterRouter(String flowId, String routerName,
                                          String splitExpression,
                                          SplitStrategy strategy) {
+        return createSplitterRouter(flowId, routerName, splitExpression, strategy, false, 0);
+    }
+
+    /**
+     * Create a splitter router that streams parts to a registered part processor while parsing,
+     * with at most maxInFlight parts being processed at a time
+     */
+    public FlowRouter createSplitterRouter(String flowId, String routerName,
+                                         String splitExpression,
+                                         SplitStrategy strategy,
+                                         boolean streaming,
+                                         int maxInFlight) {
 
         FlowRouter router = new FlowRouter();
         router.setFlowId(UUID.fromString(flowId));
         router.setName(routerName);
         router.setRouterType(FlowRouter.RouterType.SPLITTER);
-        router.setConfiguration(buildSplitterConfig(splitExpression, strategy));
+        router.setConfiguration(buildSplitterConfig(splitExpression, strategy, streaming, maxInFlight));
         router.setActive(true);
 
         router = routerRepository.save(router);
@@ -145,13 +189,29 @@ public class FlowRouterService {
                                            AggregationStrategy strategy,
                                            int completionSize,
                                            long timeoutMs) {
+        return createAggregatorRouter(flowId, routerName, correlationExpression, strategy,
+                                      completionSize, 0, null, timeoutMs);
+    }
+
+    /**
+     * Create an aggregator router that also completes on the aggregated size or a condition
+     * evaluated against each arriving message(0 / null to disable)
+     */
+    public FlowRouter createAggregatorRouter(String flowId, String routerName,
+                                           String correlationExpression,
+                                           AggregationStrategy strategy,
+                                           int completionSize,
+                                           long completionBytes,
+                                           String completionCondition,
+                                           long timeoutMs) {
 
         FlowRouter router = new FlowRouter();
         router.setFlowId(UUID.fromString(flowId));
         router.setName(routerName);
         router.setRouterType(FlowRouter.RouterType.AGGREGATOR);
         router.setConfiguration(buildAggregatorConfig(correlationExpression, strategy,
-                                                     completionSize, timeoutMs));
+                                                     completionSize, completionBytes,
+                                                     completionCondition, timeoutMs));
         router.setActive(true);
 
         router = routerRepository.save(router);
@@ -161,6 +221,40 @@ public class FlowRouterService {
         return router;
     }
 
+    /**
+     * Register an additional completion strategy for an aggregator router
+     */
+    public void setCompletionStrategy(String routerId, CompletionStrategy strategy) {
+        if(strategy == null) {
+            customCompletionStrategies.remove(routerId);
+        } else {
+            customCompletionStrategies.put(routerId, strategy);
+        }
+    }
+
+    /**
+     * Register the receiver of the parts of a streaming splitter router
+     */
+    public void setSplitPartProcessor(String routerId, PartProcessor processor) {
+        if(processor == null) {
+            splitPartProcessors.remove(routerId);
+        } else {
+            splitPartProcessors.put(routerId, processor);
+        }
+    }
+
+    /**
+     * Register the receiver of the aggregates of timed out groups of an aggregator router;
+     * without one, timed out groups are dead lettered
+     */
+    public void setAggregationTimeoutHandler(String routerId, AggregationTimeoutHandler handler) {
+        if(handler == null) {
+            aggregationTimeoutHandlers.remove(routerId);
+        } else {
+            aggregationTimeoutHandlers.put(routerId, handler);
+        }
+    }
+
     /**
      * Route a message through a router
      */
@@ -324,6 +418,10 @@ public class FlowRouterService {
             String splitExpression = (String) config.get("expression");
             SplitStrategy strategy = SplitStrategy.valueOf((String) config.get("strategy"));
 
+            if(Boolean.TRUE.equals(config.get("streaming"))) {
+                return executeStreamingSplit(instance, context, splitExpression, strategy, getInt(config, "maxInFlight"));
+            }
+
             List<Object> splitParts = new ArrayList<>();
 
             switch(strategy) {
@@ -368,6 +466,78 @@ public class FlowRouterService {
         }
     }
 
+    /**
+     * Split while parsing and hand each part to the router's part processor.
+     * Without a registered processor the parts are collected into targets like the non - streaming splitter,
+     * which still avoids building the document in memory.
+     */
+    private RoutingResult executeStreamingSplit(RouterInstance instance, FlowContext context, String splitExpression,
+                                                SplitStrategy strategy, int maxInFlight) throws Exception {
+        InputStream input = openPayload(context.getPayload());
+        if(input == null) {
+            return RoutingResult.error("Streaming splitter does not support payload type "
+                + (context.getPayload() != null ? context.getPayload().getClass().getSimpleName() : "null"));
+        }
+
+        StreamingSplitter.Format format;
+        switch(strategy) {
+            case XPATH:
+                format = StreamingSplitter.Format.XML;
+                break;
+            case JSONPATH:
+                format = StreamingSplitter.Format.JSON;
+                break;
+            case DELIMITER:
+                format = StreamingSplitter.Format.DELIMITED;
+                break;
+            default:
+                format = StreamingSplitter.Format.LINES;
+                break;
+        }
+
+        String routerId = instance.getRouter().getId().toString();
+        String correlationId = context.getExecutionId() != null ? context.getExecutionId() : context.getContextId();
+        PartProcessor processor = splitPartProcessors.get(routerId);
+        List<RouterTarget> collected = processor == null ? new ArrayList<>() : null;
+        if(processor == null) {
+            processor = part -> {
+                RouterTarget target = new RouterTarget("split_processor_" + part.getSequence(), TargetType.PROCESSOR);
+                target.getMetadata().putAll(part.toHeaders());
+                target.getMetadata().put("splitPart", part.getContent());
+                collected.add(target);
+                return CompletableFuture.completedFuture(null);
+            };
+        }
+
+        StreamingSplitter.SplitResult result = streamingSplitter.split(input, format, splitExpression, correlationId,
+            maxInFlight > 0 ? maxInFlight : 16, processor);
+        context.setVariable("splitCount", result.getPartCount());
+        context.setVariable("splitBytes", result.getTotalBytes());
+
+        if(collected != null) {
+            return RoutingResult.success(collected);
+        }
+        RouterTarget target = new RouterTarget("split_complete", TargetType.PROCESSOR);
+        target.getMetadata().put("splitCount", result.getPartCount());
+        target.getMetadata().put("splitCorrelationId", correlationId);
+        return RoutingResult.success(Collections.singletonList(target));
+    }
+
+    private InputStream openPayload(Object payload) throws Exception {
+        if(payload instanceof InputStream) {
+            return (InputStream) payload;
+        } else if(payload instanceof Path) {
+            return Files.newInputStream((Path) payload);
+        } else if(payload instanceof File) {
+            return Files.newInputStream(((File) payload).toPath());
+        } else if(payload instanceof byte[]) {
+            return new ByteArrayInputStream((byte[]) payload);
+        } else if(payload instanceof String) {
+            return new ByteArrayInputStream(((String) payload).getBytes(StandardCharsets.UTF_8));
+        }
+        return null;
+    }
+
     /**
      * Execute aggregator routing
      */
@@ -376,23 +546,19 @@ public class FlowRouterService {
             Map<String, Object> config = parseConfiguration(instance.getRouter().getConfiguration());
             String correlationExpression = (String) config.get("correlationExpression");
             AggregationStrategy strategy = AggregationStrategy.valueOf((String) config.get("strategy"));
-            int completionSize = (int) config.get("completionSize");
-            long timeoutMs = (long) config.get("timeoutMs");
 
             // Extract correlation ID
             String correlationId = contextService.evaluateExpression(context, correlationExpression);
 
-            // Get or create aggregation group
-            AggregationGroup group = instance.getAggregationGroup(correlationId);
-            group.addMessage(context.getPayload());
+            // Add to the aggregation group, returns the group's messages once complete
+            String routerId = instance.getRouter().getId().toString();
+            List<Object> messages = aggregatorService.add(routerId, correlationId, context.getPayload(),
+                buildCompletionStrategy(routerId, config, context));
 
-            // Check if aggregation is complete
-            if(group.isComplete(completionSize, timeoutMs)) {
-                Object aggregatedResult = aggregate(group.getMessages(), strategy);
+            if(messages != null) {
+                Object aggregatedResult = aggregate(messages, strategy);
                 context.setPayload(aggregatedResult);
-
-                // Clear the group
-                instance.removeAggregationGroup(correlationId);
+                context.setVariable("aggregatedCount", messages.size());
 
                 // Route to next step
                 RouterTarget target = new RouterTarget("aggregation_complete", TargetType.PROCESSOR);
@@ -408,6 +574,76 @@ public class FlowRouterService {
         }
     }
 
+    /**
+     * A group timed out before completing: hand its aggregate to the router's timeout handler or dead letter it
+     */
+    private void handleAggregationTimeout(String routerId, String correlationId, List<Object> messages) {
+        try {
+            RouterInstance instance = activeRouters.get(routerId);
+            FlowRouter router = instance != null ? instance.getRouter()
+                : routerRepository.findById(UUID.fromString(routerId)).orElse(null);
+
+            AggregationStrategy strategy = AggregationStrategy.LIST;
+            if(router != null) {
+                Object configured = parseConfiguration(router.getConfiguration()).get("strategy");
+                if(configured != null) {
+                    strategy = AggregationStrategy.valueOf((String) configured);
+                }
+            }
+            Object aggregatedResult = aggregate(messages, strategy);
+
+            AggregationTimeoutHandler handler = aggregationTimeoutHandlers.get(routerId);
+            if(handler != null) {
+                handler.onTimeout(correlationId, aggregatedResult, messages.size());
+                return;
+            }
+
+            String flowId = router != null && router.getFlow() != null && router.getFlow().getId() != null
+                ? router.getFlow().getId().toString() : null;
+            if(flowId == null) {
+                logger.error("Aggregation group {} of router {} timed out with {} messages, no flow to dead letter them to",
+                    correlationId, routerId, messages.size());
+                return;
+            }
+            String payload = aggregatedResult instanceof String
+                ? (String) aggregatedResult : objectMapper.writeValueAsString(aggregatedResult);
+            errorHandlingService.sendToDeadLetterQueue(flowId, correlationId, payload,
+                "Aggregation timed out with " + messages.size() + " messages");
+
+        } catch(Exception e) {
+            logger.error("Failed to handle timed out aggregation group {} of router {}", correlationId, routerId, e);
+        }
+    }
+
+    /**
+     * Completion of an aggregator: size, aggregated bytes, condition and timeout from the router configuration,
+     * plus a strategy registered in code
+     */
+    private CompletionStrategy buildCompletionStrategy(String routerId, Map<String, Object> config, FlowContext context) {
+        CompletionStrategy completion = CompletionStrategy.count(getInt(config, "completionSize"))
+            .or(CompletionStrategy.size(getLong(config, "completionBytes")))
+            .or(CompletionStrategy.timeout(getLong(config, "timeoutMs")));
+
+        String condition = (String) config.get("completionCondition");
+        if(condition != null && !condition.isBlank()) {
+            completion = completion.or(CompletionStrategy.predicate(
+                (group, message) -> contextService.evaluateCondition(context, condition)));
+        }
+
+        CompletionStrategy custom = customCompletionStrategies.get(routerId);
+        return custom != null ? completion.or(custom) : completion;
+    }
+
+    private static int getInt(Map<String, Object> config, String key) {
+        Object value = config.get(key);
+        return value instanceof Number ? ((Number) value).intValue() : 0;
+    }
+
+    private static long getLong(Map<String, Object> config, String key) {
+        Object value = config.get(key);
+        return value instanceof Number ? ((Number) value).longValue() : 0;
+    }
+
     /**
      * Execute choice routing(if - else)
      */
@@ -499,13 +735,8 @@ public class FlowRouterService {
     private List<Object> splitByXPath(Object payload, String xpath) throws Exception {
         if(!(payload instanceof String)) return Collections.emptyList();
 
-        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-        factory.setNamespaceAware(true);
-        DocumentBuilder builder = factory.newDocumentBuilder();
-        Document doc = builder.parse(new InputSource(new StringReader((String) payload)));
-
-        XPath xPath = XPathFactory.newInstance().newXPath();
-        NodeList nodes = (NodeList) xPath.compile(xpath).evaluate(doc, XPathConstants.NODESET);
+        Document doc = XmlToolkit.parse((String) payload);
+        NodeList nodes = (NodeList) XmlToolkit.compile(xpath).evaluate(doc, XPathConstants.NODESET);
 
         List<Object> parts = new ArrayList<>();
         for(int i = 0; i < nodes.getLength(); i++) {
@@ -565,8 +796,7 @@ public class FlowRouterService {
     }
 
     private String nodeToString(Node node) throws Exception {
-        javax.xml.transform.TransformerFactory tf = javax.xml.transform.TransformerFactory.newInstance();
-        javax.xml.transform.Transformer transformer = tf.newTransformer();
+        javax.xml.transform.Transformer transformer = XmlToolkit.transformer();
         transformer.setOutputProperty(javax.xml.transform.OutputKeys.OMIT_XML_DECLARATION, "yes");
         java.io.StringWriter writer = new java.io.StringWriter();
         transformer.transform(new javax.xml.transform.dom.DOMSource(node),
@@ -626,11 +856,15 @@ public class FlowRouterService {
         }
     }
 
-    private String buildSplitterConfig(String expression, SplitStrategy strategy) {
+    private String buildSplitterConfig(String expression, SplitStrategy strategy, boolean streaming, int maxInFlight) {
         try {
             Map<String, Object> config = new HashMap<>();
             config.put("expression", expression);
             config.put("strategy", strategy.name());
+            if(streaming) {
+                config.put("streaming", true);
+                config.put("maxInFlight", maxInFlight);
+            }
             return objectMapper.writeValueAsString(config);
         } catch(Exception e) {
             throw new RuntimeException("Failed to build config", e);
@@ -638,12 +872,17 @@ public class FlowRouterService {
     }
 
     private String buildAggregatorConfig(String correlationExpression, AggregationStrategy strategy,
-                                        int completionSize, long timeoutMs) {
+                                        int completionSize, long completionBytes,
+                                        String completionCondition, long timeoutMs) {
         try {
             Map<String, Object> config = new HashMap<>();
             config.put("correlationExpression", correlationExpression);
             config.put("strategy", strategy.name());
             config.put("completionSize", completionSize);
+            config.put("completionBytes", completionBytes);
+            if(completionCondition != null) {
+                config.put("completionCondition", completionCondition);
+            }
             config.put("timeoutMs", timeoutMs);
             return objectMapper.writeValueAsString(config);
         } catch(Exception e) {
@@ -658,7 +897,6 @@ public class FlowRouterService {
      */
     private static class RouterInstance {
         private final FlowRouter router;
-        private final Map<String, AggregationGroup> aggregationGroups = new ConcurrentHashMap<>();
 
         public RouterInstance(FlowRouter router) {
             this.router = router;
@@ -666,35 +904,14 @@ public class FlowRouterService {
 
         public FlowRouter getRouter() { return router; }
         public boolean isActive() { return router.isActive(); }
-
-        public AggregationGroup getAggregationGroup(String correlationId) {
-            return aggregationGroups.computeIfAbsent(correlationId, k -> new AggregationGroup());
-        }
-
-        public void removeAggregationGroup(String correlationId) {
-            aggregationGroups.remove(correlationId);
-        }
     }
 
     /**
-     * Aggregation group for collecting related messages
+     * Receiver of the aggregate of a timed out group
      */
-    private static class AggregationGroup {
-        private final List<Object> messages = Collections.synchronizedList(new ArrayList<>());
-        private final long createdAt = System.currentTimeMillis();
-
-        public void addMessage(Object message) {
-            messages.add(message);
-        }
-
-        public List<Object> getMessages() {
-            return new ArrayList<>(messages);
-        }
-
-        public boolean isComplete(int targetSize, long timeoutMs) {
-            if(messages.size() >= targetSize) return true;
-            return(System.currentTimeMillis() - createdAt) > timeoutMs;
-        }
+    @FunctionalInterface
+    public interface AggregationTimeoutHandler {
+        void onTimeout(String correlationId, Object aggregate, int messageCount);
     }
 
     /**
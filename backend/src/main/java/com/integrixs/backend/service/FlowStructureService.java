@@ -18,12 +18,13 @@ import com.integrixs.data.sql.repository.MessageStructureSqlRepository;
 import com.integrixs.shared.dto.structure.*;
 import com.integrixs.shared.dto.business.BusinessComponentDTO;
 import com.integrixs.shared.dto.user.UserDTO;
+import com.integrixs.shared.util.JsonCodec;
+import com.integrixs.shared.util.XmlToolkit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.w3c.dom.*;
 import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.transform.*;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
@@ -49,7 +50,7 @@ public class FlowStructureService {
     private final BusinessComponentSqlRepository businessComponentRepository;
     private final EnvironmentPermissionService environmentPermissionService;
     private final IntegrationFlowSqlRepository integrationFlowRepository;
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectMapper objectMapper = JsonCodec.mapper();
         public FlowStructureService(FlowStructureSqlRepository flowStructureRepository,
                               MessageStructureSqlRepository messageStructureRepository,
                               FlowStructureMessageSqlRepository flowStructureMessageRepository,
@@ -357,9 +358,7 @@ public class FlowStructureService {
                             log.info("XSD content preview: {}", xsdContent.substring(0, Math.min(200, xsdContent.length())));
 
                         // Parse the XSD to extract element definitions
-                        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-                        factory.setNamespaceAware(true);
-                        DocumentBuilder builder = factory.newDocumentBuilder();
+                        DocumentBuilder builder = XmlToolkit.documentBuilder();
                         Document xsdDoc = builder.parse(new ByteArrayInputStream(xsdContent.getBytes(StandardCharsets.UTF_8)));
 
                         // Get the schema element
@@ -787,8 +786,7 @@ public class FlowStructureService {
 
     private String serializeElement(Element element, String indent) {
         try {
-            TransformerFactory transformerFactory = TransformerFactory.newInstance();
-            Transformer transformer = transformerFactory.newTransformer();
+            Transformer transformer = XmlToolkit.transformer();
             transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
             transformer.setOutputProperty(OutputKeys.INDENT, "yes");
             transformer.setOutputProperty(" {http://xml.apache.org/xslt}indent - amount", "2");
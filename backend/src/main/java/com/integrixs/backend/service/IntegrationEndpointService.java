@@ -10,6 +10,7 @@ import com.integrixs.data.sql.repository.CommunicationAdapterSqlRepository;
 import com.integrixs.data.sql.repository.FlowStructureSqlRepository;
 import com.integrixs.data.sql.repository.FlowTransformationSqlRepository;
 import com.integrixs.data.sql.repository.IntegrationFlowSqlRepository;
+import com.integrixs.shared.util.XmlToolkit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,10 +19,8 @@ import org.w3c.dom.Document;
 import org.xml.sax.InputSource;
 
 import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
 import java.io.StringReader;
@@ -297,9 +296,7 @@ public class IntegrationEndpointService {
     }
 
     private String extractSoapBody(String soapRequest) throws Exception {
-        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-        factory.setNamespaceAware(true);
-        DocumentBuilder builder = factory.newDocumentBuilder();
+        DocumentBuilder builder = XmlToolkit.documentBuilder();
         Document doc = builder.parse(new InputSource(new StringReader(soapRequest)));
 
         // Find the Body element
@@ -320,8 +317,7 @@ public class IntegrationEndpointService {
 
                 if(requestNode != null) {
                     // Convert to string
-                    TransformerFactory tf = TransformerFactory.newInstance();
-                    Transformer transformer = tf.newTransformer();
+                    Transformer transformer = XmlToolkit.transformer();
                     // Don't output XML declaration
                     transformer.setOutputProperty(javax.xml.transform.OutputKeys.OMIT_XML_DECLARATION, "yes");
                     StringWriter writer = new StringWriter();
@@ -344,9 +340,7 @@ public class IntegrationEndpointService {
     }
 
     private String updateWsdlEndpoint(String wsdl, String newEndpoint) throws Exception {
-        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-        factory.setNamespaceAware(true);
-        DocumentBuilder builder = factory.newDocumentBuilder();
+        DocumentBuilder builder = XmlToolkit.documentBuilder();
         Document doc = builder.parse(new InputSource(new StringReader(wsdl)));
 
         // Update soap:address location
@@ -357,8 +351,7 @@ public class IntegrationEndpointService {
         }
 
         // Convert back to string
-        TransformerFactory tf = TransformerFactory.newInstance();
-        Transformer transformer = tf.newTransformer();
+        Transformer transformer = XmlToolkit.transformer();
         StringWriter writer = new StringWriter();
         transformer.transform(new DOMSource(doc), new StreamResult(writer));
         return writer.toString();
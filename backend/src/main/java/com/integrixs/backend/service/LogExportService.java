@@ -6,14 +6,13 @@ import com.integrixs.shared.dto.log.LogSearchCriteria;
 import com.integrixs.shared.dto.log.LogExportRequest;
 import com.integrixs.shared.dto.log.CorrelatedLogGroup;
 import com.integrixs.shared.dto.system.SystemLogDTO;
+import com.integrixs.shared.util.XmlToolkit;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.stereotype.Service;
 
 import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
 import org.w3c.dom.Document;
@@ -227,8 +226,7 @@ public class LogExportService {
      * Export to XML format.
      */
     private byte[] exportToXml(List<SystemLogDTO> logs, LogExportRequest request) throws Exception {
-        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-        DocumentBuilder builder = factory.newDocumentBuilder();
+        DocumentBuilder builder = XmlToolkit.documentBuilder(false);
         Document doc = builder.newDocument();
 
         // Root element
@@ -274,8 +272,7 @@ public class LogExportService {
         }
 
         // Transform to string
-        TransformerFactory transformerFactory = TransformerFactory.newInstance();
-        Transformer transformer = transformerFactory.newTransformer();
+        Transformer transformer = XmlToolkit.transformer();
         transformer.setOutputProperty("indent", request.isPrettyPrint() ? "yes" : "no");
 
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
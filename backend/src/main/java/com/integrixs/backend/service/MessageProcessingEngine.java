@@ -2,7 +2,8 @@ package com.integrixs.backend.service;
 
 // import com.integrixs.backend.service.deprecated.OrchestrationEngineService;
 import com.integrixs.data.model.IntegrationFlow;
-import com.integrixs.data.sql.repository.IntegrationFlowSqlRepository;
+import com.integrixs.backend.cache.DefinitionCache;
+import com.integrixs.shared.util.JsonCodec;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -21,7 +22,7 @@ import java.util.concurrent.Executors;
 public class MessageProcessingEngine {
 
     @Autowired
-    private IntegrationFlowSqlRepository integrationFlowRepository;
+    private DefinitionCache definitionCache;
 
     @Autowired
     private TransformationExecutionService transformationService;
@@ -29,7 +30,7 @@ public class MessageProcessingEngine {
     // @Autowired
     // private OrchestrationEngineService orchestrationEngine;
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectMapper objectMapper = JsonCodec.mapper();
     private final ExecutorService executorService = Executors.newFixedThreadPool(10);
     private final Map<String, ProcessingExecution> activeExecutions = new ConcurrentHashMap<>();
 
@@ -38,7 +39,7 @@ public class MessageProcessingEngine {
      */
     public ProcessingResult processMessage(String flowId, Object messageData) {
         try {
-            Optional<IntegrationFlow> flowOpt = integrationFlowRepository.findById(UUID.fromString(flowId));
+            Optional<IntegrationFlow> flowOpt = definitionCache.findFlow(UUID.fromString(flowId));
             if(!flowOpt.isPresent()) {
                 return ProcessingResult.error("Integration flow not found: " + flowId);
             }
@@ -65,7 +66,7 @@ public class MessageProcessingEngine {
      */
     public BatchProcessingResult processBatchMessages(String flowId, List<Object> messages) {
         try {
-            Optional<IntegrationFlow> flowOpt = integrationFlowRepository.findById(UUID.fromString(flowId));
+            Optional<IntegrationFlow> flowOpt = definitionCache.findFlow(UUID.fromString(flowId));
             if(!flowOpt.isPresent()) {
                 return BatchProcessingResult.error("Integration flow not found: " + flowId);
             }
@@ -173,7 +174,7 @@ public class MessageProcessingEngine {
         ValidationResult result = new ValidationResult();
 
         try {
-            Optional<IntegrationFlow> flowOpt = integrationFlowRepository.findById(UUID.fromString(flowId));
+            Optional<IntegrationFlow> flowOpt = definitionCache.findFlow(UUID.fromString(flowId));
             if(!flowOpt.isPresent()) {
                 result.addError("Integration flow not found: " + flowId);
                 return result;
@@ -3,6 +3,7 @@ package com.integrixs.backend.service;
 import com.integrixs.data.model.*;
 import com.integrixs.data.sql.repository.SystemLogSqlRepository;
 import com.integrixs.data.sql.repository.AdapterPayloadSqlRepository;
+import com.integrixs.data.sql.repository.PayloadBlobSqlRepository;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -22,11 +23,19 @@ public class MessageService {
 
     private final SystemLogSqlRepository systemLogRepository;
     private final AdapterPayloadSqlRepository adapterPayloadRepository;
+    private final PayloadBlobSqlRepository payloadBlobRepository;
+
+    /**
+     * Unreferenced payload blobs are kept this long, so a reader holding a reference can still load them
+     */
+    private static final long PAYLOAD_GC_GRACE_MINUTES = 60;
 
     public MessageService(SystemLogSqlRepository systemLogRepository,
-                         AdapterPayloadSqlRepository adapterPayloadRepository) {
+                         AdapterPayloadSqlRepository adapterPayloadRepository,
+                         PayloadBlobSqlRepository payloadBlobRepository) {
         this.systemLogRepository = systemLogRepository;
         this.adapterPayloadRepository = adapterPayloadRepository;
+        this.payloadBlobRepository = payloadBlobRepository;
     }
 
     /**
@@ -187,6 +196,11 @@ public class MessageService {
             int deletedLogs = systemLogRepository.deleteByTimestampBefore(cutoffDate);
             log.info("Deleted {} old system logs", deletedLogs);
 
+            // Correct reference count drift, then remove payload blobs no row refers to anymore
+            int reconciledBlobs = payloadBlobRepository.reconcileReferenceCounts();
+            int deletedBlobs = payloadBlobRepository.collectGarbage(LocalDateTime.now().minusMinutes(PAYLOAD_GC_GRACE_MINUTES));
+            log.info("Deleted {} unreferenced payload blobs ({} reference counts corrected)", deletedBlobs, reconciledBlobs);
+
         } catch(Exception e) {
             log.error("Error cleaning up old logs: {}", e.getMessage(), e);
         }
@@ -15,6 +15,7 @@ import com.integrixs.shared.dto.structure.MessageStructureCreateRequestDTO;
 import com.integrixs.shared.dto.structure.MessageStructureDTO;
 import com.integrixs.shared.dto.business.BusinessComponentDTO;
 import com.integrixs.shared.dto.user.UserDTO;
+import com.integrixs.shared.util.XmlToolkit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -23,7 +24,6 @@ import org.w3c.dom.Document;
 import org.w3c.dom.NodeList;
 
 import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
 import java.io.ByteArrayInputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
@@ -300,11 +300,7 @@ public class MessageStructureService {
                 log.info(" → Parsing XSD content( {} chars)", content.length());
 
                 // Parse XSD to check validity and extract dependencies
-                DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-                factory.setNamespaceAware(true);
-                factory.setValidating(false); // Don't validate against DTD
-                factory.setFeature("http://apache.org/xml/features/nonvalidating/load - external - dtd", false);
-                DocumentBuilder builder = factory.newDocumentBuilder();
+                DocumentBuilder builder = XmlToolkit.documentBuilder();
 
                 // Set custom error handler to capture parsing errors
                 builder.setErrorHandler(new org.xml.sax.ErrorHandler() {
@@ -806,9 +802,7 @@ public class MessageStructureService {
 
     private Map<String, Object> extractNamespaceInfo(String xsdContent) {
         try {
-            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-            factory.setNamespaceAware(true);
-            DocumentBuilder builder = factory.newDocumentBuilder();
+            DocumentBuilder builder = XmlToolkit.documentBuilder();
             Document doc = builder.parse(new ByteArrayInputStream(xsdContent.getBytes(StandardCharsets.UTF_8)));
 
             Map<String, Object> namespaceInfo = new HashMap<>();
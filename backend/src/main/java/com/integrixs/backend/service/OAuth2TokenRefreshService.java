@@ -3,6 +3,7 @@ package com.integrixs.backend.service;
 import com.integrixs.backend.security.CredentialEncryptionService;
 import com.integrixs.data.model.ExternalAuthentication;
 import com.integrixs.data.sql.repository.ExternalAuthenticationSqlRepository;
+import com.integrixs.shared.util.JsonCodec;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.JsonNode;
 import org.slf4j.Logger;
@@ -44,7 +45,7 @@ public class OAuth2TokenRefreshService implements com.integrixs.shared.services.
             .connectTimeout(Duration.ofSeconds(30))
             .build();
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectMapper objectMapper = JsonCodec.mapper();
 
     /**
      * Scheduled task to refresh expiring OAuth2 tokens
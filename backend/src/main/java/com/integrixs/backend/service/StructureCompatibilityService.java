@@ -5,15 +5,14 @@ import com.integrixs.backend.api.dto.response.StructureCompatibilityResponse;
 import com.integrixs.backend.api.dto.response.CompatibilityIssue;
 import com.integrixs.backend.api.dto.response.FieldMapping;
 import com.integrixs.backend.api.dto.response.StructureMetadata;
+import com.integrixs.shared.util.XmlToolkit;
 import org.springframework.stereotype.Service;
 import org.w3c.dom.Document;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
-import javax.xml.xpath.XPathFactory;
 import java.io.ByteArrayInputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
@@ -110,13 +109,10 @@ public class StructureCompatibilityService {
     }
 
     private StructureMetadata extractWsdlMetadata(String wsdl) throws Exception {
-        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-        factory.setNamespaceAware(true);
-        DocumentBuilder builder = factory.newDocumentBuilder();
+        DocumentBuilder builder = XmlToolkit.documentBuilder();
         Document doc = builder.parse(new ByteArrayInputStream(wsdl.getBytes(StandardCharsets.UTF_8)));
 
-        XPathFactory xPathFactory = XPathFactory.newInstance();
-        XPath xpath = xPathFactory.newXPath();
+        XPath xpath = XmlToolkit.xpath();
 
         List<StructureMetadata.Field> fields = new ArrayList<>();
         Map<String, String> namespaces = new HashMap<>();
@@ -219,13 +215,10 @@ public class StructureCompatibilityService {
 
     private StructureMetadata extractXsdMetadata(String xsd) throws Exception {
         // Similar to WSDL extraction but focusing on XSD elements
-        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-        factory.setNamespaceAware(true);
-        DocumentBuilder builder = factory.newDocumentBuilder();
+        DocumentBuilder builder = XmlToolkit.documentBuilder();
         Document doc = builder.parse(new ByteArrayInputStream(xsd.getBytes(StandardCharsets.UTF_8)));
 
-        XPathFactory xPathFactory = XPathFactory.newInstance();
-        XPath xpath = xPathFactory.newXPath();
+        XPath xpath = XmlToolkit.xpath();
 
         List<StructureMetadata.Field> fields = new ArrayList<>();
 
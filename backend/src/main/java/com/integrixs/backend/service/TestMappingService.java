@@ -9,9 +9,7 @@ import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 
 import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
 import java.io.ByteArrayInputStream;
@@ -21,6 +19,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.integrixs.shared.util.JsonCodec;
+import com.integrixs.shared.util.XmlToolkit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,7 +35,7 @@ public class TestMappingService {
 
     private final FieldMappingProcessor fieldMappingProcessor;
     private final DevelopmentFunctionService developmentFunctionService;
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectMapper objectMapper = JsonCodec.mapper();
 
     public TestMappingService(FieldMappingProcessor fieldMappingProcessor,
                              DevelopmentFunctionService developmentFunctionService) {
@@ -51,9 +51,7 @@ public class TestMappingService {
 
         try {
             // Parse input XML
-            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-            factory.setNamespaceAware(true);
-            DocumentBuilder builder = factory.newDocumentBuilder();
+            DocumentBuilder builder = XmlToolkit.documentBuilder();
             Document inputDoc = builder.parse(new ByteArrayInputStream(request.getInputXml().getBytes()));
 
             log.debug("Input XML parsed successfully, root element: {}", inputDoc.getDocumentElement().getNodeName());
@@ -601,8 +599,7 @@ public class TestMappingService {
     }
 
     private String documentToString(Document doc) throws Exception {
-        TransformerFactory tf = TransformerFactory.newInstance();
-        Transformer transformer = tf.newTransformer();
+        Transformer transformer = XmlToolkit.transformer();
         transformer.setOutputProperty(javax.xml.transform.OutputKeys.INDENT, "yes");
         transformer.setOutputProperty(" {http://xml.apache.org/xslt}indent - amount", "2");
 
@@ -621,7 +618,7 @@ public class TestMappingService {
 
         // Create a map to store node outputs
         Map<String, String> nodeOutputs = new HashMap<>();
-        ObjectMapper objectMapper = new ObjectMapper();
+        ObjectMapper objectMapper = JsonCodec.mapper();
 
         // First, process all source field nodes
         for(TestFieldMappingsRequestDTO.VisualFlowNode node : visualFlowData.getNodes()) {
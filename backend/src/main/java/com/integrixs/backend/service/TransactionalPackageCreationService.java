@@ -5,6 +5,7 @@ import com.integrixs.data.model.*;
 import java.util.List;
 import com.integrixs.data.sql.repository.*;
 import com.integrixs.shared.enums.AdapterType;
+import com.integrixs.shared.util.JsonCodec;
 import com.integrixs.backend.dto.PackageCreationRequest;
 import com.integrixs.backend.dto.PackageCreationResult;
 import com.integrixs.backend.dto.PackageCreationRequest.AdapterRequest;
@@ -352,7 +353,7 @@ public class TransactionalPackageCreationService {
         adapter.setType(AdapterType.valueOf(request.getType()));
         adapter.setDirection(direction);
         // Convert Map to JSON string
-        ObjectMapper mapper = new ObjectMapper();
+        ObjectMapper mapper = JsonCodec.mapper();
         try {
             adapter.setConfiguration(mapper.writeValueAsString(request.getConfiguration()));
         } catch(Exception e) {
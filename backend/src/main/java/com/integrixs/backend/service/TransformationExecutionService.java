@@ -1,10 +1,11 @@
 package com.integrixs.backend.service;
 
 import com.integrixs.data.model.FieldMapping;
-import com.integrixs.data.sql.repository.FieldMappingSqlRepository;
+import com.integrixs.backend.cache.DefinitionCache;
 import com.integrixs.backend.service.transformation.EnrichmentTransformationService;
 import com.integrixs.backend.service.transformation.FilterTransformationService;
 import com.integrixs.backend.service.transformation.ValidationTransformationService;
+import com.integrixs.shared.util.JsonCodec;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -22,7 +23,7 @@ import java.util.regex.Pattern;
 public class TransformationExecutionService {
 
     @Autowired
-    private FieldMappingSqlRepository fieldMappingRepository;
+    private DefinitionCache definitionCache;
 
     @Autowired
     private EnrichmentTransformationService enrichmentService;
@@ -33,7 +34,7 @@ public class TransformationExecutionService {
     @Autowired
     private ValidationTransformationService validationService;
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectMapper objectMapper = JsonCodec.mapper();
     private final ScriptEngine scriptEngine;
 
     public TransformationExecutionService() {
@@ -46,7 +47,7 @@ public class TransformationExecutionService {
      */
     public TransformationResult executeTransformation(String transformationId, Object inputData) {
         try {
-            List<FieldMapping> mappings = fieldMappingRepository.findByTransformationId(UUID.fromString(transformationId));
+            List<FieldMapping> mappings = definitionCache.findMappings(UUID.fromString(transformationId));
 
             if(mappings.isEmpty()) {
                 return TransformationResult.success(inputData, "No field mappings found");
@@ -220,7 +221,7 @@ public class TransformationExecutionService {
         ValidationResult result = new ValidationResult();
 
         try {
-            List<FieldMapping> mappings = fieldMappingRepository.findByTransformationId(UUID.fromString(transformationId));
+            List<FieldMapping> mappings = definitionCache.findMappings(UUID.fromString(transformationId));
 
             if(mappings.isEmpty()) {
                 result.addWarning("No field mappings defined for transformation");
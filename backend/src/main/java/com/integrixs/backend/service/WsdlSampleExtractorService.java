@@ -1,5 +1,6 @@
 package com.integrixs.backend.service;
 
+import com.integrixs.shared.util.XmlToolkit;
 import org.springframework.stereotype.Service;
 import org.w3c.dom.*;
 import org.xml.sax.InputSource;
@@ -12,7 +13,6 @@ import javax.wsdl.xml.WSDLReader;
 import javax.xml.XMLConstants;
 import javax.xml.namespace.QName;
 import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
 import java.io.StringReader;
 import java.io.StringWriter;
 import org.slf4j.Logger;
@@ -123,9 +123,7 @@ public class WsdlSampleExtractorService {
      */
     private String generateSampleXmlFromMessage(Definition definition, Message message) {
         try {
-            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-            factory.setNamespaceAware(true);
-            DocumentBuilder builder = factory.newDocumentBuilder();
+            DocumentBuilder builder = XmlToolkit.documentBuilder();
             Document doc = builder.newDocument();
 
             // Get message parts
@@ -383,8 +381,7 @@ public class WsdlSampleExtractorService {
      */
     private String documentToString(Document doc) {
         try {
-            javax.xml.transform.TransformerFactory tf = javax.xml.transform.TransformerFactory.newInstance();
-            javax.xml.transform.Transformer transformer = tf.newTransformer();
+            javax.xml.transform.Transformer transformer = XmlToolkit.transformer();
             transformer.setOutputProperty(javax.xml.transform.OutputKeys.OMIT_XML_DECLARATION, "no");
             transformer.setOutputProperty(javax.xml.transform.OutputKeys.INDENT, "yes");
             transformer.setOutputProperty(" {http://xml.apache.org/xslt}indent - amount", "2");
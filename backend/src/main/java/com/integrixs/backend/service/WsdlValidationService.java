@@ -1,6 +1,7 @@
 package com.integrixs.backend.service;
 
 import com.integrixs.backend.exception.BusinessException;
+import com.integrixs.shared.util.XmlToolkit;
 import org.springframework.stereotype.Service;
 import org.w3c.dom.Document;
 import org.xml.sax.ErrorHandler;
@@ -12,15 +13,12 @@ import javax.wsdl.Definition;
 import javax.wsdl.WSDLException;
 import javax.wsdl.factory.WSDLFactory;
 import javax.wsdl.xml.WSDLReader;
-import javax.xml.XMLConstants;
 import javax.xml.namespace.QName;
 import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.transform.Source;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamSource;
 import javax.xml.validation.Schema;
-import javax.xml.validation.SchemaFactory;
 import javax.xml.validation.Validator;
 import java.io.StringReader;
 import org.slf4j.Logger;
@@ -242,11 +240,7 @@ public class WsdlValidationService {
 
     private void validateXmlSyntax(String xmlContent, ValidationResult result) {
         try {
-            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-            factory.setNamespaceAware(true);
-            factory.setValidating(false);
-
-            DocumentBuilder builder = factory.newDocumentBuilder();
+            DocumentBuilder builder = XmlToolkit.documentBuilder();
             builder.setErrorHandler(new ErrorHandler() {
                 @Override
                 public void warning(SAXParseException e) {
@@ -281,15 +275,13 @@ public class WsdlValidationService {
     private void validateAgainstWsdlSchema(String wsdlContent, ValidationResult result) {
         try {
             // Load WSDL schema from classpath
-            SchemaFactory schemaFactory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-
             // WSDL 1.1 schema
             Source wsdlSchema = new StreamSource(
                 getClass().getResourceAsStream("/schemas/wsdl11.xsd")
            );
 
             if(wsdlSchema != null) {
-                Schema schema = schemaFactory.newSchema(wsdlSchema);
+                Schema schema = XmlToolkit.newSchema(wsdlSchema);
                 Validator validator = schema.newValidator();
 
                 validator.setErrorHandler(new ErrorHandler() {
@@ -316,9 +308,7 @@ public class WsdlValidationService {
                     }
                 });
 
-                DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-                factory.setNamespaceAware(true);
-                DocumentBuilder builder = factory.newDocumentBuilder();
+                DocumentBuilder builder = XmlToolkit.documentBuilder();
                 Document doc = builder.parse(new InputSource(new StringReader(wsdlContent)));
 
                 validator.validate(new DOMSource(doc));
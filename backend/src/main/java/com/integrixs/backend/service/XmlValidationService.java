@@ -2,6 +2,7 @@ package com.integrixs.backend.service;
 
 import com.integrixs.data.model.FlowStructure;
 import com.integrixs.data.model.MessageStructure;
+import com.integrixs.shared.util.XmlToolkit;
 import org.springframework.stereotype.Service;
 import org.w3c.dom.*;
 import org.xml.sax.ErrorHandler;
@@ -16,13 +17,8 @@ import javax.wsdl.extensions.ExtensibilityElement;
 import javax.wsdl.extensions.schema.Schema;
 import javax.wsdl.factory.WSDLFactory;
 import javax.wsdl.xml.WSDLReader;
-import javax.xml.XMLConstants;
 import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.transform.Source;
 import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamSource;
-import javax.xml.validation.SchemaFactory;
 import javax.xml.validation.Validator;
 import java.io.StringReader;
 import org.slf4j.Logger;
@@ -129,12 +125,8 @@ public class XmlValidationService {
         List<String> errors = new ArrayList<>();
 
         try {
-            // Create schema factory
-            SchemaFactory schemaFactory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-
-            // Create schema from XSD
-            Source schemaSource = new StreamSource(new StringReader(xsdContent));
-            javax.xml.validation.Schema schema = schemaFactory.newSchema(schemaSource);
+            // Compiled schema, cached by XSD content
+            javax.xml.validation.Schema schema = XmlToolkit.schema(xsdContent);
 
             // Create validator
             Validator validator = schema.newValidator();
@@ -166,9 +158,7 @@ public class XmlValidationService {
             });
 
             // Parse XML
-            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-            factory.setNamespaceAware(true);
-            DocumentBuilder builder = factory.newDocumentBuilder();
+            DocumentBuilder builder = XmlToolkit.documentBuilder();
             Document document = builder.parse(new InputSource(new StringReader(xmlContent)));
 
             // Validate
@@ -230,8 +220,7 @@ public class XmlValidationService {
      */
     private String elementToString(Element element) {
         try {
-            javax.xml.transform.TransformerFactory tf = javax.xml.transform.TransformerFactory.newInstance();
-            javax.xml.transform.Transformer transformer = tf.newTransformer();
+            javax.xml.transform.Transformer transformer = XmlToolkit.transformer();
             transformer.setOutputProperty(javax.xml.transform.OutputKeys.OMIT_XML_DECLARATION, "yes");
 
             java.io.StringWriter writer = new java.io.StringWriter();
@@ -0,0 +1,138 @@
+package com.integrixs.backend.service.aggregation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Partial aggregate of the messages of one correlation group.
+ * Every message is written to the group's store file; the in - memory copy is a cache that is dropped
+ * (spilled) when the aggregator exceeds its memory cap, the messages are then read back on completion.
+ */
+public class AggregationGroup {
+
+    private final String routerId;
+    private final String correlationId;
+    private final long createdAt;
+
+    /** Completion deadline in epoch millis, 0 if the group does not time out */
+    private final long deadline;
+
+    private List<Object> messages = new ArrayList<>();
+    private int messageCount;
+    private long sizeBytes;
+    private long memoryBytes;
+    private boolean stored;
+    private boolean closed;
+    private HashedTimingWheel.Timeout timeout;
+
+    AggregationGroup(String routerId, String correlationId, long createdAt, long deadline) {
+        this.routerId = routerId;
+        this.correlationId = correlationId;
+        this.createdAt = createdAt;
+        this.deadline = deadline;
+    }
+
+    public String getRouterId() {
+        return routerId;
+    }
+
+    public String getCorrelationId() {
+        return correlationId;
+    }
+
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    public long getDeadline() {
+        return deadline;
+    }
+
+    /**
+     * Number of messages in the group, including spilled ones
+     */
+    public int getMessageCount() {
+        return messageCount;
+    }
+
+    /**
+     * Serialized size of all messages in the group in bytes
+     */
+    public long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    public boolean isSpilled() {
+        return messages == null;
+    }
+
+    String getKey() {
+        return key(routerId, correlationId);
+    }
+
+    static String key(String routerId, String correlationId) {
+        return routerId + ":" + correlationId;
+    }
+
+    void add(Object message, long size) {
+        messageCount++;
+        sizeBytes += size;
+        if(messages != null) {
+            messages.add(message);
+            memoryBytes += size;
+        }
+    }
+
+    /**
+     * Restore counters of a recovered group, whose messages stay on disk
+     */
+    void recovered(int count, long size) {
+        stored = true;
+        messages = null;
+        messageCount = count;
+        sizeBytes = size;
+        memoryBytes = 0;
+    }
+
+    /**
+     * Drop the in - memory messages; returns the number of bytes released
+     */
+    long spill() {
+        long released = memoryBytes;
+        messages = null;
+        memoryBytes = 0;
+        return released;
+    }
+
+    List<Object> getMessages() {
+        return messages;
+    }
+
+    long getMemoryBytes() {
+        return memoryBytes;
+    }
+
+    boolean isStored() {
+        return stored;
+    }
+
+    void setStored(boolean stored) {
+        this.stored = stored;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    void setClosed(boolean closed) {
+        this.closed = closed;
+    }
+
+    HashedTimingWheel.Timeout getTimeout() {
+        return timeout;
+    }
+
+    void setTimeout(HashedTimingWheel.Timeout timeout) {
+        this.timeout = timeout;
+    }
+}
@@ -0,0 +1,195 @@
+package com.integrixs.backend.service.aggregation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * File store of aggregation groups.
+ * One file per group: a JSON header line(router, correlation id, creation time, deadline) followed by one JSON
+ * line per message, appended as messages arrive. A message line holds the payload class and value, so payloads
+ * are read back as the type they were added with. JSON escapes line breaks, so a line is always one record; a
+ * torn last line left by a crash is skipped on recovery.
+ */
+public class AggregationGroupStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(AggregationGroupStore.class);
+
+    private static final String SUFFIX = ".agg";
+
+    private final Path directory;
+    private final boolean syncWrites;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @param directory directory of the group files, created if missing
+     * @param syncWrites force every write to disk before returning
+     */
+    public AggregationGroupStore(Path directory, boolean syncWrites, ObjectMapper objectMapper) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.syncWrites = syncWrites;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Create the file of a new group
+     */
+    public void create(AggregationGroup group) throws IOException {
+        Map<String, Object> header = new HashMap<>();
+        header.put("routerId", group.getRouterId());
+        header.put("correlationId", group.getCorrelationId());
+        header.put("createdAt", group.getCreatedAt());
+        header.put("deadline", group.getDeadline());
+        write(fileOf(group), objectMapper.writeValueAsString(header), StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    /**
+     * Append a message to the group's file
+     *
+     * @return serialized size of the message in bytes
+     */
+    public long append(AggregationGroup group, Object message) throws IOException {
+        ObjectNode record = objectMapper.createObjectNode();
+        record.put("type", message != null ? message.getClass().getName() : null);
+        record.set("value", objectMapper.valueToTree(message));
+        return write(fileOf(group), objectMapper.writeValueAsString(record), StandardOpenOption.CREATE,
+            StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Read the messages of a group in arrival order
+     */
+    public List<Object> readMessages(AggregationGroup group) throws IOException {
+        List<Object> messages = new ArrayList<>();
+        try(BufferedReader reader = Files.newBufferedReader(fileOf(group), StandardCharsets.UTF_8)) {
+            reader.readLine();
+            String line;
+            while((line = reader.readLine()) != null) {
+                Object message = parse(line);
+                if(message != null) {
+                    messages.add(message);
+                }
+            }
+        }
+        return messages;
+    }
+
+    public void delete(AggregationGroup group) {
+        try {
+            Files.deleteIfExists(fileOf(group));
+        } catch(IOException e) {
+            logger.warn("Could not delete aggregation group file of {}: {}", group.getKey(), e.getMessage());
+        }
+    }
+
+    /**
+     * Load the groups left by a previous run; their messages stay on disk
+     */
+    @SuppressWarnings("unchecked")
+    public List<AggregationGroup> recover() throws IOException {
+        List<AggregationGroup> groups = new ArrayList<>();
+        try(DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+            for(Path file : files) {
+                try(BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                    String headerLine = reader.readLine();
+                    Map<String, Object> header = headerLine != null ? objectMapper.readValue(headerLine, Map.class) : null;
+                    if(header == null || header.get("routerId") == null) {
+                        logger.warn("Skipping aggregation group file without header: {}", file);
+                        continue;
+                    }
+                    AggregationGroup group = new AggregationGroup((String) header.get("routerId"),
+                        (String) header.get("correlationId"), ((Number) header.get("createdAt")).longValue(),
+                        ((Number) header.get("deadline")).longValue());
+                    int count = 0;
+                    long size = 0;
+                    String line;
+                    while((line = reader.readLine()) != null) {
+                        if(parse(line) != null) {
+                            count++;
+                            size += line.getBytes(StandardCharsets.UTF_8).length + 1;
+                        }
+                    }
+                    group.recovered(count, size);
+                    groups.add(group);
+                } catch(IOException | RuntimeException e) {
+                    logger.warn("Skipping unreadable aggregation group file {}: {}", file, e.getMessage());
+                }
+            }
+        }
+        return groups;
+    }
+
+    private Object parse(String line) {
+        if(line.isEmpty()) {
+            return null;
+        }
+        JsonNode record;
+        try {
+            record = objectMapper.readTree(line);
+        } catch(IOException e) {
+            logger.warn("Skipping incomplete aggregation record: {}", e.getMessage());
+            return null;
+        }
+        if(record == null || !record.has("value")) {
+            logger.warn("Skipping aggregation record without value");
+            return null;
+        }
+        try {
+            return objectMapper.treeToValue(record.get("value"), typeOf(record.path("type").asText(null)));
+        } catch(IOException e) {
+            logger.warn("Skipping unreadable aggregation record: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private Class<?> typeOf(String type) {
+        if(type == null) {
+            return Object.class;
+        }
+        try {
+            return Class.forName(type, false, getClass().getClassLoader());
+        } catch(ClassNotFoundException e) {
+            logger.warn("Unknown aggregation payload type {}, reading it as plain JSON", type);
+            return Object.class;
+        }
+    }
+
+    private long write(Path file, String record, StandardOpenOption... options) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap((record + "\n").getBytes(StandardCharsets.UTF_8));
+        int size = buffer.remaining();
+        List<StandardOpenOption> openOptions = new ArrayList<>(List.of(options));
+        openOptions.add(StandardOpenOption.WRITE);
+        try(FileChannel channel = FileChannel.open(file, openOptions.toArray(new StandardOpenOption[0]))) {
+            while(buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if(syncWrites) {
+                channel.force(false);
+            }
+        }
+        return size;
+    }
+
+    private Path fileOf(AggregationGroup group) {
+        String name = UUID.nameUUIDFromBytes(group.getKey().getBytes(StandardCharsets.UTF_8)).toString();
+        return directory.resolve(name + SUFFIX);
+    }
+}
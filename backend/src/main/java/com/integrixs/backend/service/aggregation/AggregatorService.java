@@ -0,0 +1,325 @@
+package com.integrixs.backend.service.aggregation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.integrixs.shared.util.JsonCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aggregator groups of the flow routers.
+ * Messages are written through to the group store, so partial groups survive a restart; the in - memory copies
+ * are capped and spilled when the cap is exceeded. At its deadline a group is closed by the hashed timing wheel
+ * instead of the groups being scanned, and handed to the timeout handler; a later message of the same correlation
+ * starts a new group.
+ */
+@Service
+public class AggregatorService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AggregatorService.class);
+
+    @Value("${integrix.router.aggregator.store-path:./data/aggregator}")
+    private String storePath;
+
+    @Value("${integrix.router.aggregator.max-memory-bytes:67108864}")
+    private long maxMemoryBytes;
+
+    @Value("${integrix.router.aggregator.sync-writes:false}")
+    private boolean syncWrites;
+
+    @Value("${integrix.router.aggregator.tick-ms:100}")
+    private long tickMs;
+
+    @Value("${integrix.router.aggregator.wheel-size:512}")
+    private int wheelSize;
+
+    private final ObjectMapper objectMapper = JsonCodec.mapper();
+    private final Map<String, AggregationGroup> groups = new ConcurrentHashMap<>();
+    private final AtomicLong memoryBytes = new AtomicLong();
+
+    private final LongAdder completedGroups = new LongAdder();
+    private final LongAdder timedOutGroups = new LongAdder();
+    private final LongAdder spilledGroups = new LongAdder();
+
+    private volatile TimeoutHandler timeoutHandler;
+
+    private AggregationGroupStore store;
+    private HashedTimingWheel timingWheel;
+    private ExecutorService timeoutExecutor;
+
+    @PostConstruct
+    public void init() throws IOException {
+        store = new AggregationGroupStore(Paths.get(storePath), syncWrites, objectMapper);
+        timingWheel = new HashedTimingWheel("aggregator - timeouts", tickMs, wheelSize);
+        AtomicInteger threadCounter = new AtomicInteger();
+        timeoutExecutor = Executors.newFixedThreadPool(2, r -> {
+            Thread thread = new Thread(r, "aggregator - expiry-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        timingWheel.start();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if(timingWheel != null) {
+            timingWheel.stop();
+        }
+        if(timeoutExecutor != null) {
+            timeoutExecutor.shutdown();
+        }
+    }
+
+    /**
+     * Reload the groups of the previous run once the application is ready
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverGroups() {
+        try {
+            int recovered = 0;
+            for(AggregationGroup group : store.recover()) {
+                if(groups.putIfAbsent(group.getKey(), group) == null) {
+                    scheduleTimeout(group);
+                    recovered++;
+                }
+            }
+            if(recovered > 0) {
+                logger.info("Recovered {} partial aggregation groups", recovered);
+            }
+        } catch(IOException e) {
+            logger.error("Failed to recover aggregation groups from {}", storePath, e);
+        }
+    }
+
+    /**
+     * Set the receiver of the groups that timed out before completing
+     */
+    public void setTimeoutHandler(TimeoutHandler handler) {
+        this.timeoutHandler = handler;
+    }
+
+    /**
+     * Add a message to its correlation group
+     *
+     * @return the messages of the group in arrival order if the message completed it, null otherwise
+     */
+    public List<Object> add(String routerId, String correlationId, Object message, CompletionStrategy strategy)
+            throws IOException {
+        String key = AggregationGroup.key(routerId, correlationId);
+        while(true) {
+            AggregationGroup group = groups.get(key);
+            if(group == null) {
+                long now = System.currentTimeMillis();
+                long timeoutMs = strategy.getTimeoutMs();
+                group = new AggregationGroup(routerId, correlationId, now, timeoutMs > 0 ? now + timeoutMs : 0);
+                AggregationGroup existing = groups.putIfAbsent(key, group);
+                if(existing != null) {
+                    group = existing;
+                } else {
+                    scheduleTimeout(group);
+                }
+            }
+
+            List<Object> completed = null;
+            List<Object> expired = null;
+            boolean timedOut;
+            synchronized(group) {
+                if(group.isClosed()) {
+                    // Completed concurrently, the message starts a new group
+                    continue;
+                }
+                timedOut = group.getDeadline() > 0 && System.currentTimeMillis() >= group.getDeadline();
+                if(timedOut) {
+                    // Not yet expired by the timing wheel, the message starts a new group
+                    expired = closeExpired(group);
+                } else {
+                    if(!group.isStored()) {
+                        store.create(group);
+                        group.setStored(true);
+                    }
+                    long size = store.append(group, message);
+                    group.add(message, size);
+                    if(!group.isSpilled()) {
+                        memoryBytes.addAndGet(size);
+                    }
+
+                    completed = strategy.isComplete(group, message) ? close(group) : null;
+                }
+            }
+            if(timedOut) {
+                dispatchTimeout(group, expired);
+                continue;
+            }
+            if(completed == null) {
+                enforceMemoryCap();
+            } else {
+                completedGroups.increment();
+            }
+            return completed;
+        }
+    }
+
+    /**
+     * Number of open groups
+     */
+    public int getGroupCount() {
+        return groups.size();
+    }
+
+    public Map<String, Object> getStatistics() {
+        int spilled = 0;
+        for(AggregationGroup group : groups.values()) {
+            if(group.isSpilled()) {
+                spilled++;
+            }
+        }
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("open_groups", groups.size());
+        stats.put("spilled_groups", spilled);
+        stats.put("memory_bytes", memoryBytes.get());
+        stats.put("max_memory_bytes", maxMemoryBytes);
+        stats.put("completed_groups", completedGroups.sum());
+        stats.put("timed_out_groups", timedOutGroups.sum());
+        stats.put("spills", spilledGroups.sum());
+        stats.put("pending_timeouts", timingWheel != null ? timingWheel.size() : 0);
+        return stats;
+    }
+
+    private void scheduleTimeout(AggregationGroup group) {
+        if(group.getDeadline() <= 0) {
+            return;
+        }
+        HashedTimingWheel.Timeout timeout = timingWheel.schedule(
+            () -> timeoutExecutor.execute(() -> expire(group)), group.getDeadline());
+        synchronized(group) {
+            if(group.isClosed()) {
+                timeout.cancel();
+            } else {
+                group.setTimeout(timeout);
+            }
+        }
+    }
+
+    /**
+     * Close a group at its deadline and hand its messages to the timeout handler
+     */
+    private void expire(AggregationGroup group) {
+        List<Object> messages;
+        synchronized(group) {
+            if(group.isClosed()) {
+                return;
+            }
+            messages = closeExpired(group);
+        }
+        dispatchTimeout(group, messages);
+    }
+
+    /**
+     * Close a timed out group; the caller holds the group's lock.
+     * A group whose stored messages cannot be read is dropped, so it never merges with later messages
+     */
+    private List<Object> closeExpired(AggregationGroup group) {
+        timedOutGroups.increment();
+        try {
+            return close(group);
+        } catch(IOException e) {
+            logger.error("Dropping timed out aggregation group {}, its {} messages could not be read",
+                group.getKey(), group.getMessageCount(), e);
+            release(group);
+            return null;
+        }
+    }
+
+    private void dispatchTimeout(AggregationGroup group, List<Object> messages) {
+        if(messages == null) {
+            return;
+        }
+        TimeoutHandler handler = timeoutHandler;
+        if(handler == null) {
+            logger.warn("Aggregation group {} timed out with {} messages and no timeout handler, messages dropped",
+                group.getKey(), messages.size());
+            return;
+        }
+        try {
+            handler.onTimeout(group.getRouterId(), group.getCorrelationId(), messages);
+        } catch(Exception e) {
+            logger.error("Timeout handler failed for aggregation group {}", group.getKey(), e);
+        }
+    }
+
+    /**
+     * Complete a group; the caller holds the group's lock
+     */
+    private List<Object> close(AggregationGroup group) throws IOException {
+        List<Object> messages = group.isSpilled() ? store.readMessages(group) : new ArrayList<>(group.getMessages());
+        release(group);
+        return messages;
+    }
+
+    /**
+     * Unregister a group and delete its store file; the caller holds the group's lock
+     */
+    private void release(AggregationGroup group) {
+        group.setClosed(true);
+        // The file is deleted before the group is unregistered, a new group of the same key reuses the file name
+        store.delete(group);
+        groups.remove(group.getKey(), group);
+        memoryBytes.addAndGet(-group.spill());
+        if(group.getTimeout() != null) {
+            group.getTimeout().cancel();
+        }
+    }
+
+    /**
+     * Receiver of timed out groups
+     */
+    @FunctionalInterface
+    public interface TimeoutHandler {
+
+        /**
+         * @param messages the messages of the group in arrival order
+         */
+        void onTimeout(String routerId, String correlationId, List<Object> messages);
+    }
+
+    /**
+     * Spill groups to disk until the in - memory messages are back under the cap
+     */
+    private void enforceMemoryCap() {
+        if(memoryBytes.get() <= maxMemoryBytes) {
+            return;
+        }
+        // Leave some headroom so the next messages do not immediately spill again
+        long target = maxMemoryBytes - maxMemoryBytes / 4;
+        for(AggregationGroup group : groups.values()) {
+            if(memoryBytes.get() <= target) {
+                break;
+            }
+            synchronized(group) {
+                if(!group.isClosed() && !group.isSpilled()) {
+                    memoryBytes.addAndGet(-group.spill());
+                    spilledGroups.increment();
+                }
+            }
+        }
+        logger.debug("Spilled aggregation groups, {} bytes left in memory", memoryBytes.get());
+    }
+}
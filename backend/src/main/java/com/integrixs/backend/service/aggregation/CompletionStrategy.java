@@ -0,0 +1,83 @@
+package com.integrixs.backend.service.aggregation;
+
+import java.util.function.BiPredicate;
+
+/**
+ * Decides when an aggregation group is complete.
+ * Evaluated after every message added to a group; strategies are combined with {@link #or}. A timeout is fixed
+ * when the group is created; at the deadline the group is closed and handed to the aggregator's timeout handler.
+ */
+@FunctionalInterface
+public interface CompletionStrategy {
+
+    /**
+     * @param group the group, already containing the message
+     * @param message the message just added
+     */
+    boolean isComplete(AggregationGroup group, Object message);
+
+    /**
+     * Time after group creation at which the group times out, 0 for none
+     */
+    default long getTimeoutMs() {
+        return 0;
+    }
+
+    /**
+     * Complete when either strategy completes; the shorter timeout applies
+     */
+    default CompletionStrategy or(CompletionStrategy other) {
+        CompletionStrategy self = this;
+        return new CompletionStrategy() {
+            @Override
+            public boolean isComplete(AggregationGroup group, Object message) {
+                return self.isComplete(group, message) || other.isComplete(group, message);
+            }
+
+            @Override
+            public long getTimeoutMs() {
+                long a = self.getTimeoutMs();
+                long b = other.getTimeoutMs();
+                return a <= 0 ? b : b <= 0 ? a : Math.min(a, b);
+            }
+        };
+    }
+
+    /**
+     * Complete once the group holds the given number of messages
+     */
+    static CompletionStrategy count(int messages) {
+        return (group, message) -> messages > 0 && group.getMessageCount() >= messages;
+    }
+
+    /**
+     * Complete once the serialized messages of the group reach the given size
+     */
+    static CompletionStrategy size(long bytes) {
+        return (group, message) -> bytes > 0 && group.getSizeBytes() >= bytes;
+    }
+
+    /**
+     * Complete when the predicate matches the group and the latest message
+     */
+    static CompletionStrategy predicate(BiPredicate<AggregationGroup, Object> predicate) {
+        return predicate::test;
+    }
+
+    /**
+     * Time the group out the given time after its first message
+     */
+    static CompletionStrategy timeout(long timeoutMs) {
+        return new CompletionStrategy() {
+            @Override
+            public boolean isComplete(AggregationGroup group, Object message) {
+                return false;
+            }
+
+            @Override
+            public long getTimeoutMs() {
+                return timeoutMs;
+            }
+        };
+    }
+}
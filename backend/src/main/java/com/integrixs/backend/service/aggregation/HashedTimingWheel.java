@@ -0,0 +1,193 @@
+package com.integrixs.backend.service.aggregation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hashed timing wheel for large numbers of timeouts.
+ * Scheduling and cancelling are O(1) and every tick only visits one bucket, instead of scanning all timeouts.
+ * Buckets are only touched by the tick thread; new and cancelled timeouts are handed over through queues.
+ * Timeouts fire on the tick thread with a resolution of one tick, so tasks should hand off longer work.
+ */
+public class HashedTimingWheel {
+
+    private static final Logger logger = LoggerFactory.getLogger(HashedTimingWheel.class);
+
+    private final long tickMs;
+    private final int mask;
+    private final List<Set<Timeout>> buckets;
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelled = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final ScheduledExecutorService ticker;
+    private final long startTime = System.currentTimeMillis();
+
+    // Next tick to process, only used by the tick thread
+    private long tick;
+
+    /**
+     * @param name name of the tick thread
+     * @param tickMs duration of one tick, the timeout resolution
+     * @param wheelSize number of buckets, rounded up to a power of two
+     */
+    public HashedTimingWheel(String name, long tickMs, int wheelSize) {
+        this.tickMs = Math.max(1, tickMs);
+        int bucketCount = Integer.highestOneBit(Math.max(1, wheelSize - 1)) << 1;
+        this.mask = bucketCount - 1;
+        this.buckets = new ArrayList<>(bucketCount);
+        for(int i = 0; i < bucketCount; i++) {
+            buckets.add(new HashSet<>());
+        }
+        this.ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, name);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void start() {
+        ticker.scheduleAtFixedRate(this::advance, tickMs, tickMs, TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        ticker.shutdownNow();
+    }
+
+    /**
+     * Schedule a task at an absolute time(epoch millis); a time in the past fires on the next tick
+     */
+    public Timeout schedule(Runnable task, long deadline) {
+        Timeout timeout = new Timeout(this, task, deadline);
+        size.incrementAndGet();
+        pending.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Number of scheduled, not yet fired or cancelled timeouts
+     */
+    public int size() {
+        return size.get();
+    }
+
+    private void advance() {
+        try {
+            long target = (System.currentTimeMillis() - startTime) / tickMs;
+            // Catch up when ticks were delayed, e.g. by a long GC pause
+            while(tick <= target) {
+                removeCancelled();
+                transferPending();
+                expire(buckets.get((int) (tick & mask)));
+                tick++;
+            }
+        } catch(Throwable e) {
+            logger.error("Timing wheel tick failed", e);
+        }
+    }
+
+    private void transferPending() {
+        Timeout timeout;
+        while((timeout = pending.poll()) != null) {
+            if(timeout.state.get() != Timeout.PENDING) {
+                continue;
+            }
+            long deadlineTick = Math.max(tick, (timeout.deadline - startTime) / tickMs);
+            timeout.remainingRounds = (deadlineTick - tick) / buckets.size();
+            timeout.bucket = buckets.get((int) (deadlineTick & mask));
+            timeout.bucket.add(timeout);
+        }
+    }
+
+    private void removeCancelled() {
+        Timeout timeout;
+        while((timeout = cancelled.poll()) != null) {
+            if(timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+                timeout.bucket = null;
+            }
+        }
+    }
+
+    private void expire(Set<Timeout> bucket) {
+        if(bucket.isEmpty()) {
+            return;
+        }
+        List<Timeout> expired = null;
+        for(Timeout timeout : bucket) {
+            if(timeout.remainingRounds <= 0) {
+                if(expired == null) {
+                    expired = new ArrayList<>();
+                }
+                expired.add(timeout);
+            } else {
+                timeout.remainingRounds--;
+            }
+        }
+        if(expired == null) {
+            return;
+        }
+        for(Timeout timeout : expired) {
+            bucket.remove(timeout);
+            timeout.bucket = null;
+            if(timeout.state.compareAndSet(Timeout.PENDING, Timeout.EXPIRED)) {
+                size.decrementAndGet();
+                try {
+                    timeout.task.run();
+                } catch(Throwable e) {
+                    logger.error("Timeout task failed", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Handle of a scheduled task
+     */
+    public static final class Timeout {
+        private static final int PENDING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final HashedTimingWheel wheel;
+        private final Runnable task;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+
+        // Only used by the tick thread
+        private long remainingRounds;
+        private Set<Timeout> bucket;
+
+        private Timeout(HashedTimingWheel wheel, Runnable task, long deadline) {
+            this.wheel = wheel;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        public long getDeadline() {
+            return deadline;
+        }
+
+        /**
+         * Cancel the task; returns false if it already fired or was cancelled
+         */
+        public boolean cancel() {
+            if(!state.compareAndSet(PENDING, CANCELLED)) {
+                return false;
+            }
+            wheel.size.decrementAndGet();
+            wheel.cancelled.add(this);
+            return true;
+        }
+    }
+}
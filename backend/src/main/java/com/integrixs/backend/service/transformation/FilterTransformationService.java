@@ -3,6 +3,7 @@ package com.integrixs.backend.service.transformation;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.integrixs.shared.dto.transformation.FilterTransformationConfigDTO;
+import com.integrixs.shared.util.JsonCodec;
 
 import org.springframework.stereotype.Service;
 
@@ -14,7 +15,7 @@ import java.util.Map;
 @Service
 public class FilterTransformationService {
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectMapper objectMapper = JsonCodec.mapper();
 
     /**
      * Applies a filter transformation on input JSON array string.
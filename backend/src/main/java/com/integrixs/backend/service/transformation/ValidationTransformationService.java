@@ -3,6 +3,7 @@ package com.integrixs.backend.service.transformation;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.integrixs.shared.dto.transformation.ValidationTransformationConfigDTO;
+import com.integrixs.shared.util.JsonCodec;
 import com.integrixs.backend.util.JavaFunctionRunner;
 import org.springframework.stereotype.Service;
 
@@ -13,7 +14,7 @@ import java.util.Map;
 @Service
 public class ValidationTransformationService {
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectMapper objectMapper = JsonCodec.mapper();
     private final JavaFunctionRunner javaFunctionRunner;
 
     public ValidationTransformationService(JavaFunctionRunner javaFunctionRunner) {
@@ -0,0 +1,204 @@
+package com.integrixs.backend.service.transformation;
+
+import com.integrixs.shared.dto.transformation.XsltTransformationConfigDTO;
+import com.integrixs.shared.util.XmlToolkit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.transform.Source;
+import javax.xml.transform.Templates;
+import javax.xml.transform.TransformerConfigurationException;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.stax.StAXSource;
+import javax.xml.transform.stream.StreamResult;
+import javax.xml.transform.stream.StreamSource;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * XSLT transformation stage.
+ * Stylesheets are compiled once into thread - safe {@link Templates} keyed by the SHA - 256 of their source, each
+ * message only creates a cheap {@link Transformer}. Input is read through StAX instead of building a DOM.
+ */
+@Service
+public class XsltTransformationService {
+
+    private static final Logger log = LoggerFactory.getLogger(XsltTransformationService.class);
+
+    private static final int MAX_CACHED_TEMPLATES = 256;
+
+    private final XMLInputFactory xmlInputFactory = XmlToolkit.inputFactory();
+
+    // Compiled stylesheets by content hash
+    private final ConcurrentHashMap<String, Templates> compiledTemplates = new ConcurrentHashMap<>();
+
+    // Stylesheets in use per flow, evicted when the flow is redeployed or undeployed
+    private final ConcurrentHashMap<UUID, Set<String>> flowStylesheets = new ConcurrentHashMap<>();
+
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong cacheMisses = new AtomicLong();
+
+    /**
+     * Apply an XSLT stylesheet to XML data
+     * @param xmlData The XML data to transform
+     * @param xsltTemplate The XSLT stylesheet
+     * @return The transformed data
+     */
+    public String applyXslt(String xmlData, String xsltTemplate) {
+        XsltTransformationConfigDTO config = new XsltTransformationConfigDTO();
+        config.setStylesheet(xsltTemplate);
+        return applyXslt(xmlData, config, null);
+    }
+
+    /**
+     * Apply a configured XSLT transformation of a flow
+     * @param xmlData The XML data to transform
+     * @param config Stylesheet and parameters
+     * @param flowId Owning flow, used to evict the stylesheet on redeploy(may be null)
+     * @return The transformed data
+     */
+    public String applyXslt(String xmlData, XsltTransformationConfigDTO config, UUID flowId) {
+        if(config.getStylesheet() == null || config.getStylesheet().isBlank()) {
+            throw new IllegalArgumentException("XSLT stylesheet is missing");
+        }
+        Templates templates = getTemplates(config.getStylesheet(), flowId);
+        StringWriter output = new StringWriter(Math.max(256, xmlData.length()));
+        try {
+            transform(templates, createSource(new StringReader(xmlData)), new StreamResult(output), config.getParameters());
+        } catch(TransformerException | XMLStreamException e) {
+            throw new RuntimeException("Failed to apply XSLT transformation", e);
+        }
+        return output.toString();
+    }
+
+    /**
+     * Stream a document through a stylesheet without holding either side in memory
+     * @param input XML input
+     * @param output Transformation result
+     * @param config Stylesheet and parameters
+     * @param flowId Owning flow(may be null)
+     */
+    public void applyXslt(InputStream input, OutputStream output, XsltTransformationConfigDTO config, UUID flowId) {
+        Templates templates = getTemplates(config.getStylesheet(), flowId);
+        try {
+            XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(input);
+            try {
+                transform(templates, new StAXSource(reader), new StreamResult(output), config.getParameters());
+            } finally {
+                reader.close();
+            }
+        } catch(TransformerException | XMLStreamException e) {
+            throw new RuntimeException("Failed to apply XSLT transformation", e);
+        }
+    }
+
+    /**
+     * Evict the stylesheets of a flow, called when the flow is deployed or undeployed
+     * @param flowId Flow ID
+     */
+    public void invalidateFlow(UUID flowId) {
+        Set<String> keys = flowStylesheets.remove(flowId);
+        if(keys == null) {
+            return;
+        }
+        for(String key : keys) {
+            // Identical stylesheets are shared, keep the compiled form while another flow uses it
+            boolean inUse = flowStylesheets.values().stream().anyMatch(other -> other.contains(key));
+            if(!inUse) {
+                compiledTemplates.remove(key);
+            }
+        }
+        log.debug("Evicted {} XSLT stylesheets of flow {}", keys.size(), flowId);
+    }
+
+    /**
+     * Get cache statistics
+     */
+    public Map<String, Object> getCacheStatistics() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("compiledTemplates", compiledTemplates.size());
+        stats.put("flows", flowStylesheets.size());
+        stats.put("hits", cacheHits.get());
+        stats.put("misses", cacheMisses.get());
+        return stats;
+    }
+
+    private Templates getTemplates(String stylesheet, UUID flowId) {
+        String key = hash(stylesheet);
+        if(flowId != null) {
+            flowStylesheets.computeIfAbsent(flowId, id -> ConcurrentHashMap.newKeySet()).add(key);
+        }
+
+        Templates templates = compiledTemplates.get(key);
+        if(templates != null) {
+            cacheHits.incrementAndGet();
+            return templates;
+        }
+
+        if(compiledTemplates.size() >= MAX_CACHED_TEMPLATES) {
+            evictUnowned();
+        }
+        return compiledTemplates.computeIfAbsent(key, k -> {
+            cacheMisses.incrementAndGet();
+            try {
+                log.debug("Compiling XSLT stylesheet {}", k);
+                // Stylesheets may not pull in external documents or DTDs, the shared factory is hardened
+                return XmlToolkit.newTemplates(new StreamSource(new StringReader(stylesheet)));
+            } catch(TransformerConfigurationException e) {
+                throw new IllegalArgumentException("Invalid XSLT stylesheet: " + e.getMessageAndLocation(), e);
+            }
+        });
+    }
+
+    private void evictUnowned() {
+        // Ad - hoc stylesheets(no owning flow) are the first to go
+        compiledTemplates.keySet().removeIf(key ->
+                flowStylesheets.values().stream().noneMatch(keys -> keys.contains(key)));
+        if(compiledTemplates.size() >= MAX_CACHED_TEMPLATES) {
+            compiledTemplates.clear();
+        }
+    }
+
+    private Source createSource(StringReader reader) throws XMLStreamException {
+        return new StAXSource(xmlInputFactory.createXMLStreamReader(reader));
+    }
+
+    private void transform(Templates templates, Source source, StreamResult result, Map<String, Object> parameters)
+            throws TransformerException {
+        Transformer transformer = templates.newTransformer();
+        if(parameters != null) {
+            parameters.forEach((name, value) -> {
+                if(value != null) {
+                    transformer.setParameter(name, value);
+                }
+            });
+        }
+        transformer.transform(source, result);
+    }
+
+    private static String hash(String stylesheet) {
+        try {
+            return HexFormat.of().formatHex(
+                    MessageDigest.getInstance("SHA-256").digest(stylesheet.getBytes(StandardCharsets.UTF_8)));
+        } catch(NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
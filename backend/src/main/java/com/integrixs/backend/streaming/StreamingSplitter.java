@@ -0,0 +1,440 @@
+package com.integrixs.backend.streaming;
+
+import com.integrixs.shared.util.XmlToolkit;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import javax.xml.stream.XMLEventFactory;
+import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLEventWriter;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.events.Namespace;
+import javax.xml.stream.events.StartElement;
+import javax.xml.stream.events.XMLEvent;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Scanner;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Streaming splitter for large batch messages.
+ * Parts are emitted while the input is parsed(XML by element path with StAX, JSON arrays from the token stream,
+ * lines or delimited records from a reader), so neither the document nor the list of parts is held in memory.
+ * At most maxInFlight parts are being processed at a time; parsing blocks until a part completes. Each part
+ * carries its sequence number, and the last part the total count, for re - aggregation.
+ */
+@Component
+public class StreamingSplitter {
+
+    private static final Logger logger = LoggerFactory.getLogger(StreamingSplitter.class);
+
+    public enum Format {
+        XML,
+        JSON,
+        LINES,
+        DELIMITED
+    }
+
+    /**
+     * Processes one part; the returned stage completes when the part's in - flight slot may be reused
+     */
+    @FunctionalInterface
+    public interface PartProcessor {
+        CompletionStage<?> process(SplitPart part) throws Exception;
+    }
+
+    private final XMLInputFactory xmlInputFactory;
+    private final XMLOutputFactory xmlOutputFactory;
+    private final XMLEventFactory xmlEventFactory;
+    private final JsonFactory jsonFactory;
+
+    public StreamingSplitter() {
+        this.xmlInputFactory = XmlToolkit.inputFactory();
+        this.xmlOutputFactory = XmlToolkit.outputFactory();
+        this.xmlEventFactory = XmlToolkit.eventFactory();
+        this.jsonFactory = new JsonFactory();
+    }
+
+    /**
+     * Whether an XPath expression is a plain element path the XML splitter can stream
+     */
+    public static boolean isElementPath(String expression) {
+        return expression != null && !expression.isBlank() && expression.matches("/{0,2}[\\w.:-]+(/[\\w.:-]+)*");
+    }
+
+    /**
+     * Split an input stream
+     *
+     * @param input the input, closed when done
+     * @param format the input format
+     * @param expression element path(XML), JSON pointer or "$.a.b" path to an array(JSON), regex(DELIMITED)
+     * @param correlationId correlation id put on every part
+     * @param maxInFlight parts processed concurrently at most
+     * @param processor receives the parts in order
+     */
+    public SplitResult split(InputStream input, Format format, String expression, String correlationId,
+                             int maxInFlight, PartProcessor processor) throws IOException {
+        Emitter emitter = new Emitter(correlationId, Math.max(1, maxInFlight), processor);
+        try(InputStream in = input) {
+            switch(format) {
+                case XML:
+                    splitXml(in, expression, emitter);
+                    break;
+                case JSON:
+                    splitJson(in, expression, emitter);
+                    break;
+                case LINES:
+                    splitLines(in, emitter);
+                    break;
+                case DELIMITED:
+                    splitDelimited(in, expression, emitter);
+                    break;
+                default:
+                    throw new IOException("Unsupported split format: " + format);
+            }
+            emitter.finish();
+        } finally {
+            emitter.awaitInFlight();
+        }
+        emitter.checkFailure();
+        logger.debug("Split {} parts ({} bytes) for {}", emitter.count, emitter.bytes, correlationId);
+        return new SplitResult(emitter.count, emitter.bytes);
+    }
+
+    private void splitXml(InputStream in, String expression, Emitter emitter) throws IOException {
+        if(!isElementPath(expression)) {
+            throw new IOException("Streaming XML split supports element paths only: " + expression);
+        }
+        boolean anyDepth = !expression.startsWith("/") || expression.startsWith("//");
+        String targetPath = "/" + expression.replaceFirst("^/+", "");
+
+        try {
+            XMLEventReader reader = xmlInputFactory.createXMLEventReader(in);
+            try {
+                StringBuilder path = new StringBuilder();
+                Deque<Integer> pathLengths = new ArrayDeque<>();
+                Deque<List<Namespace>> namespaces = new ArrayDeque<>();
+                StringWriter captured = null;
+                XMLEventWriter writer = null;
+                int depth = 0;
+
+                while(reader.hasNext()) {
+                    XMLEvent event = reader.nextEvent();
+                    if(event.isStartElement()) {
+                        StartElement start = event.asStartElement();
+                        pathLengths.push(path.length());
+                        path.append('/').append(localPath(start));
+                        List<Namespace> declared = new ArrayList<>();
+                        start.getNamespaces().forEachRemaining(ns -> declared.add((Namespace) ns));
+                        namespaces.push(declared);
+
+                        if(writer == null && matches(path, targetPath, anyDepth)) {
+                            captured = new StringWriter();
+                            writer = xmlOutputFactory.createXMLEventWriter(captured);
+                            // Declarations of the ancestors are needed for the part to stand on its own
+                            event = withInScopeNamespaces(start, namespaces);
+                        }
+                        if(writer != null) {
+                            writer.add(event);
+                            depth++;
+                        }
+                    } else if(event.isEndElement()) {
+                        if(writer != null) {
+                            writer.add(event);
+                            if(--depth == 0) {
+                                writer.close();
+                                emitter.emit(captured.toString());
+                                writer = null;
+                                captured = null;
+                            }
+                        }
+                        path.setLength(pathLengths.pop());
+                        namespaces.pop();
+                    } else if(writer != null) {
+                        writer.add(event);
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        } catch(XMLStreamException e) {
+            throw new IOException("Error splitting XML stream", e);
+        }
+    }
+
+    private static String localPath(StartElement start) {
+        String prefix = start.getName().getPrefix();
+        String local = start.getName().getLocalPart();
+        return prefix == null || prefix.isEmpty() ? local : prefix + ":" + local;
+    }
+
+    private static boolean matches(CharSequence path, String targetPath, boolean anyDepth) {
+        String current = path.toString();
+        if(anyDepth) {
+            return current.endsWith(targetPath) || stripPrefixes(current).endsWith(targetPath);
+        }
+        return current.equals(targetPath) || stripPrefixes(current).equals(targetPath);
+    }
+
+    private static String stripPrefixes(String path) {
+        return path.replaceAll("/[^/:]+:", "/");
+    }
+
+    private StartElement withInScopeNamespaces(StartElement start, Deque<List<Namespace>> namespaces) {
+        Map<String, Namespace> inScope = new LinkedHashMap<>();
+        Iterator<List<Namespace>> outerFirst = namespaces.descendingIterator();
+        while(outerFirst.hasNext()) {
+            for(Namespace namespace : outerFirst.next()) {
+                inScope.put(namespace.getPrefix(), namespace);
+            }
+        }
+        return xmlEventFactory.createStartElement(start.getName(), start.getAttributes(), inScope.values().iterator());
+    }
+
+    private void splitJson(InputStream in, String expression, Emitter emitter) throws IOException {
+        JsonPointer target = toPointer(expression);
+        String targetPath = target.toString();
+
+        try(JsonParser parser = jsonFactory.createParser(in)) {
+            JsonToken token;
+            while((token = parser.nextToken()) != null) {
+                if(token == JsonToken.FIELD_NAME || token.isStructEnd()) {
+                    continue;
+                }
+                String current = valuePointer(parser).toString();
+                if(current.equals(targetPath)) {
+                    if(token == JsonToken.START_ARRAY) {
+                        while(parser.nextToken() != JsonToken.END_ARRAY) {
+                            emitter.emit(copyValue(parser));
+                        }
+                    } else {
+                        emitter.emit(copyValue(parser));
+                    }
+                    return;
+                }
+                // Skip subtrees that cannot contain the target
+                if(token.isStructStart() && !targetPath.startsWith(current + "/")) {
+                    parser.skipChildren();
+                }
+            }
+        }
+    }
+
+    private static JsonPointer toPointer(String expression) {
+        if(expression == null || expression.isBlank() || expression.equals("$") || expression.equals("/")) {
+            return JsonPointer.empty();
+        }
+        if(expression.startsWith("$.")) {
+            return JsonPointer.compile("/" + expression.substring(2).replace('.', '/'));
+        }
+        return JsonPointer.compile(expression);
+    }
+
+    /**
+     * Pointer of the value at the parser's current token
+     */
+    private static JsonPointer valuePointer(JsonParser parser) {
+        JsonStreamContext context = parser.getParsingContext();
+        if(parser.currentToken().isStructStart() && context.getParent() != null) {
+            context = context.getParent();
+        }
+        return context.pathAsPointer();
+    }
+
+    private String copyValue(JsonParser parser) throws IOException {
+        StringWriter out = new StringWriter();
+        try(JsonGenerator generator = jsonFactory.createGenerator(out)) {
+            generator.copyCurrentStructure(parser);
+        }
+        return out.toString();
+    }
+
+    private void splitLines(InputStream in, Emitter emitter) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String line;
+        while((line = reader.readLine()) != null) {
+            emitter.emit(line);
+        }
+    }
+
+    private void splitDelimited(InputStream in, String delimiter, Emitter emitter) throws IOException {
+        Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8);
+        Scanner scanner = new Scanner(reader).useDelimiter(delimiter);
+        while(scanner.hasNext()) {
+            emitter.emit(scanner.next());
+        }
+        if(scanner.ioException() != null) {
+            throw scanner.ioException();
+        }
+    }
+
+    /**
+     * Hands parts to the processor with one part of lookahead, so the last part is known when it is emitted
+     */
+    private static final class Emitter {
+        private final String correlationId;
+        private final int maxInFlight;
+        private final Semaphore inFlight;
+        private final PartProcessor processor;
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        private String pending;
+        private int count;
+        private long bytes;
+
+        Emitter(String correlationId, int maxInFlight, PartProcessor processor) {
+            this.correlationId = correlationId;
+            this.maxInFlight = maxInFlight;
+            this.inFlight = new Semaphore(maxInFlight);
+            this.processor = processor;
+        }
+
+        void emit(String content) throws IOException {
+            if(pending != null) {
+                dispatch(pending, false);
+            }
+            pending = content;
+        }
+
+        void finish() throws IOException {
+            if(pending != null) {
+                dispatch(pending, true);
+                pending = null;
+            }
+        }
+
+        private void dispatch(String content, boolean last) throws IOException {
+            checkFailure();
+            try {
+                inFlight.acquire();
+            } catch(InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for in - flight parts");
+            }
+
+            long size = content.getBytes(StandardCharsets.UTF_8).length;
+            SplitPart part = new SplitPart(correlationId, count, last ? count + 1 : -1, size, content);
+            count++;
+            bytes += size;
+            try {
+                processor.process(part).whenComplete((result, error) -> {
+                    if(error != null) {
+                        failure.compareAndSet(null, error);
+                    }
+                    inFlight.release();
+                });
+            } catch(Exception e) {
+                inFlight.release();
+                failure.compareAndSet(null, e);
+                checkFailure();
+            }
+        }
+
+        void awaitInFlight() throws IOException {
+            try {
+                inFlight.acquire(maxInFlight);
+                inFlight.release(maxInFlight);
+            } catch(InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for in - flight parts");
+            }
+        }
+
+        void checkFailure() throws IOException {
+            Throwable error = failure.get();
+            if(error != null) {
+                throw new IOException("Processing split part failed: " + error.getMessage(), error);
+            }
+        }
+    }
+
+    /**
+     * One part of a split message
+     */
+    public static final class SplitPart {
+        private final String correlationId;
+        private final int sequence;
+        private final int sequenceSize;
+        private final long size;
+        private final String content;
+
+        SplitPart(String correlationId, int sequence, int sequenceSize, long size, String content) {
+            this.correlationId = correlationId;
+            this.sequence = sequence;
+            this.sequenceSize = sequenceSize;
+            this.size = size;
+            this.content = content;
+        }
+
+        public String getCorrelationId() { return correlationId; }
+
+        /** Zero based position of the part */
+        public int getSequence() { return sequence; }
+
+        /** Total number of parts, only known on the last part(-1 before) */
+        public int getSequenceSize() { return sequenceSize; }
+
+        public boolean isLast() { return sequenceSize > 0; }
+
+        /** Size of the part in bytes(UTF - 8) */
+        public long getSize() { return size; }
+
+        public String getContent() { return content; }
+
+        /**
+         * Headers for re - aggregation of the parts
+         */
+        public Map<String, Object> toHeaders() {
+            Map<String, Object> headers = new HashMap<>();
+            headers.put("splitCorrelationId", correlationId);
+            headers.put("splitIndex", sequence);
+            headers.put("splitComplete", isLast());
+            if(isLast()) {
+                headers.put("splitCount", sequenceSize);
+            }
+            headers.put("splitPartBytes", size);
+            return headers;
+        }
+    }
+
+    /**
+     * Outcome of a split
+     */
+    public static final class SplitResult {
+        private final int partCount;
+        private final long totalBytes;
+
+        SplitResult(int partCount, long totalBytes) {
+            this.partCount = partCount;
+            this.totalBytes = totalBytes;
+        }
+
+        public int getPartCount() { return partCount; }
+        public long getTotalBytes() { return totalBytes; }
+    }
+}
@@ -1,5 +1,6 @@
 package com.integrixs.backend.streaming;
 
+import com.integrixs.shared.util.XmlToolkit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -31,10 +32,10 @@ public class XmlStreamingParser implements StreamingParser<Map<String, Object>>
     private XMLOutputFactory xmlOutputFactory;
 
     public XmlStreamingParser() {
-        this.xmlInputFactory = XMLInputFactory.newInstance();
-        this.xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        // Own copy of the hardened factory, entity references are reported instead of replaced
+        this.xmlInputFactory = XmlToolkit.newInputFactory();
         this.xmlInputFactory.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, false);
-        this.xmlOutputFactory = XMLOutputFactory.newInstance();
+        this.xmlOutputFactory = XmlToolkit.outputFactory();
     }
 
     @Override
@@ -6,13 +6,14 @@ import com.integrixs.data.model.FieldMapping;
 import com.integrixs.data.model.TransformationCustomFunction;
 import com.integrixs.backend.service.DevelopmentFunctionService;
 import com.integrixs.backend.service.JavaTransformationEngine;
+import com.integrixs.shared.util.JsonCodec;
 
 import java.util.*;
 import java.util.stream.Collectors;
 
 public class FieldMapper {
 
-    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final ObjectMapper objectMapper = JsonCodec.mapper();
 
     /**
      * Applies field mappings to input JSON, supports Java functions
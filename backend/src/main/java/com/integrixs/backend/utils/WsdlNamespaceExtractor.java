@@ -1,5 +1,6 @@
 package com.integrixs.backend.utils;
 
+import com.integrixs.shared.util.XmlToolkit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.w3c.dom.Document;
@@ -9,7 +10,6 @@ import org.w3c.dom.Node;
 import org.xml.sax.InputSource;
 
 import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
 import java.io.StringReader;
 import java.util.HashMap;
 import java.util.Map;
@@ -35,9 +35,7 @@ public class WsdlNamespaceExtractor {
         }
 
         try {
-            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-            factory.setNamespaceAware(true);
-            DocumentBuilder builder = factory.newDocumentBuilder();
+            DocumentBuilder builder = XmlToolkit.documentBuilder();
             Document doc = builder.parse(new InputSource(new StringReader(wsdlContent)));
 
             Element root = doc.getDocumentElement();
@@ -96,9 +94,7 @@ public class WsdlNamespaceExtractor {
         }
 
         try {
-            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-            factory.setNamespaceAware(true);
-            DocumentBuilder builder = factory.newDocumentBuilder();
+            DocumentBuilder builder = XmlToolkit.documentBuilder();
             Document doc = builder.parse(new InputSource(new StringReader(wsdlContent)));
 
             Element root = doc.getDocumentElement();
@@ -1,5 +1,6 @@
 package com.integrixs.backend.utils;
 
+import com.integrixs.shared.util.XmlToolkit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.w3c.dom.*;
@@ -7,7 +8,6 @@ import org.xml.sax.InputSource;
 
 import javax.xml.namespace.NamespaceContext;
 import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.xpath.*;
 import java.io.StringReader;
 import java.util.*;
@@ -29,16 +29,14 @@ public class WsdlOperationExtractor {
         }
 
         try {
-            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-            factory.setNamespaceAware(true);
-            DocumentBuilder builder = factory.newDocumentBuilder();
+            DocumentBuilder builder = XmlToolkit.documentBuilder();
             Document doc = builder.parse(new InputSource(new StringReader(wsdlContent)));
 
             // Extract namespaces first
             Map<String, String> namespaces = WsdlNamespaceExtractor.extractNamespaces(wsdlContent);
 
             // Setup XPath with namespace context
-            XPath xpath = XPathFactory.newInstance().newXPath();
+            XPath xpath = XmlToolkit.xpath();
             xpath.setNamespaceContext(new MapNamespaceContext(namespaces));
 
             // Get target namespace
@@ -158,9 +156,7 @@ public class WsdlOperationExtractor {
      * Create a dynamic SOAP envelope based on WSDL operation info
      */
     public static Document createSoapEnvelope(OperationInfo operationInfo) throws Exception {
-        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-        factory.setNamespaceAware(true);
-        DocumentBuilder builder = factory.newDocumentBuilder();
+        DocumentBuilder builder = XmlToolkit.documentBuilder();
         Document doc = builder.newDocument();
 
         // Create SOAP envelope
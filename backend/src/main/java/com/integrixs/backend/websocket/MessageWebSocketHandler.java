@@ -5,6 +5,7 @@ import com.integrixs.backend.security.JwtUtil;
 import com.integrixs.backend.service.MessageStatsService;
 import com.integrixs.shared.dto.MessageDTO;
 import com.integrixs.shared.dto.MessageStatsDTO;
+import com.integrixs.shared.util.JsonCodec;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -28,7 +29,7 @@ public class MessageWebSocketHandler extends TextWebSocketHandler {
     private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
     private final Map<String, String> sessionToUser = new ConcurrentHashMap<>();
     private final Map<String, Map<String, String>> sessionFilters = new ConcurrentHashMap<>();
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectMapper objectMapper = JsonCodec.mapper();
 
     @Autowired
     private MessageStatsService messageStatsService;
@@ -55,8 +55,14 @@ public class SqlRepositoryConfig {
     }
 
     @Bean
-    public AdapterPayloadSqlRepository adapterPayloadSqlRepository(SqlQueryExecutor sqlQueryExecutor) {
-        return new AdapterPayloadSqlRepository(sqlQueryExecutor);
+    public PayloadBlobSqlRepository payloadBlobSqlRepository(SqlQueryExecutor sqlQueryExecutor) {
+        return new PayloadBlobSqlRepository(sqlQueryExecutor);
+    }
+
+    @Bean
+    public AdapterPayloadSqlRepository adapterPayloadSqlRepository(SqlQueryExecutor sqlQueryExecutor,
+                                                                   PayloadBlobSqlRepository payloadBlobSqlRepository) {
+        return new AdapterPayloadSqlRepository(sqlQueryExecutor, payloadBlobSqlRepository);
     }
 
     @Bean
@@ -103,8 +109,9 @@ public class SqlRepositoryConfig {
     }
 
     @Bean
-    public MessageSqlRepository messageSqlRepository(SqlQueryExecutor sqlQueryExecutor) {
-        return new MessageSqlRepository(sqlQueryExecutor);
+    public MessageSqlRepository messageSqlRepository(SqlQueryExecutor sqlQueryExecutor,
+                                                     PayloadBlobSqlRepository payloadBlobSqlRepository) {
+        return new MessageSqlRepository(sqlQueryExecutor, payloadBlobSqlRepository);
     }
 
     @Bean
@@ -1,6 +1,7 @@
 package com.integrixs.data.model;
 import java.time.LocalDateTime;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 /**
  * Entity for storing adapter payloads(requests and responses)
@@ -33,6 +34,12 @@ import java.util.UUID;
 
     private Integer payloadSize;
 
+    /** Digest of the payload in the payload store when the body is not stored inline */
+    private String payloadRef;
+
+    /** Loads a referenced payload on first access */
+    private transient Supplier<String> payloadLoader;
+
         private LocalDateTime createdAt;
 
     // Default constructor
@@ -104,11 +111,35 @@ import java.util.UUID;
     }
 
     public String getPayload() {
+        if(payload == null && payloadLoader != null) {
+            payload = payloadLoader.get();
+            payloadLoader = null;
+        }
         return payload;
     }
 
     public void setPayload(String payload) {
         this.payload = payload;
+        this.payloadLoader = null;
+    }
+
+    public String getPayloadRef() {
+        return payloadRef;
+    }
+
+    public void setPayloadRef(String payloadRef) {
+        this.payloadRef = payloadRef;
+    }
+
+    /**
+     * Whether the payload body is referenced and has not been read yet
+     */
+    public boolean hasLazyPayload() {
+        return payloadLoader != null;
+    }
+
+    public void setPayloadLoader(Supplier<String> payloadLoader) {
+        this.payloadLoader = payloadLoader;
     }
 
     public Integer getPayloadSize() {
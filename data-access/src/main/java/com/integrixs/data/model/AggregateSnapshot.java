@@ -0,0 +1,86 @@
+package com.integrixs.data.model;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Serialized state of an event sourced aggregate at a stream version.
+ * Rebuilds start from the latest snapshot and replay only the events after its version.
+ */
+public class AggregateSnapshot {
+
+    private UUID id;
+
+    private String aggregateType;
+
+    private UUID aggregateId;
+
+    /** Version of the last event contained in the snapshot */
+    private long aggregateVersion;
+
+    /** Version of the aggregate's serialized form, snapshots of another schema version are not used */
+    private int schemaVersion;
+
+    /** Aggregate state in JSON format */
+    private String snapshotData;
+
+    private LocalDateTime createdAt;
+
+    public AggregateSnapshot() {
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getAggregateType() {
+        return aggregateType;
+    }
+
+    public void setAggregateType(String aggregateType) {
+        this.aggregateType = aggregateType;
+    }
+
+    public UUID getAggregateId() {
+        return aggregateId;
+    }
+
+    public void setAggregateId(UUID aggregateId) {
+        this.aggregateId = aggregateId;
+    }
+
+    public long getAggregateVersion() {
+        return aggregateVersion;
+    }
+
+    public void setAggregateVersion(long aggregateVersion) {
+        this.aggregateVersion = aggregateVersion;
+    }
+
+    public int getSchemaVersion() {
+        return schemaVersion;
+    }
+
+    public void setSchemaVersion(int schemaVersion) {
+        this.schemaVersion = schemaVersion;
+    }
+
+    public String getSnapshotData() {
+        return snapshotData;
+    }
+
+    public void setSnapshotData(String snapshotData) {
+        this.snapshotData = snapshotData;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -1,6 +1,7 @@
 package com.integrixs.data.model;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.integrixs.shared.enums.AdapterType;
+import com.integrixs.shared.util.JsonCodec;
 import com.integrixs.adapters.domain.model.AdapterConfiguration;
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -175,7 +176,7 @@ public class CommunicationAdapter {
 
     public <T> T getConfig(Class<T> configClass) {
         try {
-            ObjectMapper mapper = new ObjectMapper();
+            ObjectMapper mapper = JsonCodec.mapper();
             return mapper.readValue(this.configuration, configClass);
         } catch(Exception e) {
             throw new RuntimeException("Failed to parse adapter configuration for " + this.name, e);
@@ -1,6 +1,7 @@
 package com.integrixs.data.model;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.integrixs.shared.util.JsonCodec;
 import jakarta.validation.constraints.*;
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -189,7 +190,7 @@ import java.util.UUID;
     public List<String> getSourceFieldsList() {
         if(parsedSourceFields == null && sourceFields != null) {
             try {
-                ObjectMapper mapper = new ObjectMapper();
+                ObjectMapper mapper = JsonCodec.mapper();
                 parsedSourceFields = mapper.readValue(sourceFields, new TypeReference<List<String>>() {});
             } catch(Exception e) {
                 parsedSourceFields = Collections.emptyList();
@@ -205,7 +206,7 @@ import java.util.UUID;
      */
     public void setSourceFieldsList(List<String> fields) {
         try {
-            ObjectMapper mapper = new ObjectMapper();
+            ObjectMapper mapper = JsonCodec.mapper();
             this.sourceFields = mapper.writeValueAsString(fields);
             this.parsedSourceFields = fields;
         } catch(Exception e) {
@@ -223,7 +224,7 @@ import java.util.UUID;
         if(targetFields != null && !targetFields.isEmpty()) {
             if(parsedTargetFields == null) {
                 try {
-                    ObjectMapper mapper = new ObjectMapper();
+                    ObjectMapper mapper = JsonCodec.mapper();
                     parsedTargetFields = mapper.readValue(targetFields, new TypeReference<List<String>>() {});
                 } catch(Exception e) {
                     parsedTargetFields = Collections.emptyList();
@@ -245,7 +246,7 @@ import java.util.UUID;
      */
     public void setTargetFieldsList(List<String> fields) {
         try {
-            ObjectMapper mapper = new ObjectMapper();
+            ObjectMapper mapper = JsonCodec.mapper();
             this.targetFields = mapper.writeValueAsString(fields);
             this.parsedTargetFields = fields;
             // Clear single targetField when using multiple
@@ -288,7 +289,7 @@ import java.util.UUID;
             return Collections.emptyList();
         }
         try {
-            return new ObjectMapper().readValue(inputTypes, new TypeReference<List<String>>() {});
+            return JsonCodec.mapper().readValue(inputTypes, new TypeReference<List<String>>() {});
         } catch(Exception e) {
             return Collections.emptyList();
         }
@@ -301,7 +302,7 @@ import java.util.UUID;
      */
     public void setParsedInputTypes(List<String> types) {
         try {
-            this.inputTypes = new ObjectMapper().writeValueAsString(types);
+            this.inputTypes = JsonCodec.mapper().writeValueAsString(types);
         } catch(Exception e) {
             this.inputTypes = "[]";
         }
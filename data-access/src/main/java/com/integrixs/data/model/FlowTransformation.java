@@ -102,6 +102,7 @@ public class FlowTransformation {
         FILTER,
         ENRICHMENT,
         VALIDATION,
+        XSLT,
         AGGREGATION,
         ROUTING
     }
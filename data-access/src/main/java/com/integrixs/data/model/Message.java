@@ -1,6 +1,7 @@
 package com.integrixs.data.model;
 import java.time.LocalDateTime;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 /**
  * Entity representing a message in the system
@@ -25,6 +26,12 @@ public class Message extends BaseEntity {
 
     private String messageContent;
 
+    /** Digest of the content in the payload store when the body is not stored inline */
+    private String payloadRef;
+
+    /** Loads referenced content on first access */
+    private transient Supplier<String> payloadLoader;
+
     private String headers;
 
     private String properties;
@@ -127,11 +134,35 @@ public class Message extends BaseEntity {
     }
 
     public String getMessageContent() {
+        if(messageContent == null && payloadLoader != null) {
+            messageContent = payloadLoader.get();
+            payloadLoader = null;
+        }
         return messageContent;
     }
 
     public void setMessageContent(String messageContent) {
         this.messageContent = messageContent;
+        this.payloadLoader = null;
+    }
+
+    public String getPayloadRef() {
+        return payloadRef;
+    }
+
+    public void setPayloadRef(String payloadRef) {
+        this.payloadRef = payloadRef;
+    }
+
+    /**
+     * Whether the content is referenced and has not been read yet
+     */
+    public boolean hasLazyPayload() {
+        return payloadLoader != null;
+    }
+
+    public void setPayloadLoader(Supplier<String> payloadLoader) {
+        this.payloadLoader = payloadLoader;
     }
 
     public String getHeaders() {
@@ -200,11 +231,11 @@ public class Message extends BaseEntity {
 
     // Additional helper methods
     public String getPayload() {
-        return messageContent;
+        return getMessageContent();
     }
 
     public void setPayload(String payload) {
-        this.messageContent = payload;
+        setMessageContent(payload);
     }
 
     public void setFlowId(UUID flowId) {
@@ -0,0 +1,88 @@
+package com.integrixs.data.model;
+import java.time.LocalDateTime;
+
+/**
+ * Content - addressed payload body referenced by message and adapter payload rows(claim - check).
+ * The content itself is not part of the entity, it is read on demand.
+ */
+public class PayloadBlob {
+
+    /** SHA - 256 of the uncompressed payload, also the primary key */
+    private String digest;
+
+    /** Compression codec of the stored content(NONE, DEFLATE) */
+    private String compression;
+
+    /** Size of the uncompressed payload in bytes */
+    private long originalSize;
+
+    /** Size of the stored content in bytes */
+    private long storedSize;
+
+    /** Number of rows referencing this blob */
+    private int refCount;
+
+    private LocalDateTime createdAt;
+
+    /** Time the reference count last dropped, used as grace period for garbage collection */
+    private LocalDateTime lastReleasedAt;
+
+    public PayloadBlob() {
+    }
+
+    public String getDigest() {
+        return digest;
+    }
+
+    public void setDigest(String digest) {
+        this.digest = digest;
+    }
+
+    public String getCompression() {
+        return compression;
+    }
+
+    public void setCompression(String compression) {
+        this.compression = compression;
+    }
+
+    public long getOriginalSize() {
+        return originalSize;
+    }
+
+    public void setOriginalSize(long originalSize) {
+        this.originalSize = originalSize;
+    }
+
+    public long getStoredSize() {
+        return storedSize;
+    }
+
+    public void setStoredSize(long storedSize) {
+        this.storedSize = storedSize;
+    }
+
+    public int getRefCount() {
+        return refCount;
+    }
+
+    public void setRefCount(int refCount) {
+        this.refCount = refCount;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getLastReleasedAt() {
+        return lastReleasedAt;
+    }
+
+    public void setLastReleasedAt(LocalDateTime lastReleasedAt) {
+        this.lastReleasedAt = lastReleasedAt;
+    }
+}
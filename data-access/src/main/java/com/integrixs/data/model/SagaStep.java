@@ -4,6 +4,7 @@ import java.util.Map;
 import java.util.HashMap;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.integrixs.shared.util.JsonCodec;
 
 /**
  * Entity representing a step in a saga transaction
@@ -198,7 +199,7 @@ public class SagaStep extends BaseEntity {
         }
 
         try {
-            ObjectMapper mapper = new ObjectMapper();
+            ObjectMapper mapper = JsonCodec.mapper();
             return mapper.readValue(actionData, new TypeReference<Map<String, Object>>() {});
         } catch (Exception e) {
             // If parsing fails, return empty map
@@ -214,7 +215,7 @@ public class SagaStep extends BaseEntity {
         }
 
         try {
-            ObjectMapper mapper = new ObjectMapper();
+            ObjectMapper mapper = JsonCodec.mapper();
             this.actionData = mapper.writeValueAsString(parameters);
         } catch (Exception e) {
             // If serialization fails, set to null
@@ -1,6 +1,8 @@
 package com.integrixs.data.sql.mapper;
 
 import com.integrixs.data.model.DeadLetterMessage;
+import com.integrixs.data.model.ErrorRecord;
+import com.integrixs.data.sql.core.ResultSetMapper;
 import org.springframework.jdbc.core.RowMapper;
 
 import java.sql.ResultSet;
@@ -18,8 +20,33 @@ public class DeadLetterMessageRowMapper implements RowMapper<DeadLetterMessage>
 
         // Basic fields
         entity.setId((UUID) rs.getObject("id"));
+        entity.setMessageId(rs.getString("message_id"));
+        UUID flowId = ResultSetMapper.getUUID(rs, "flow_id");
+        if (flowId != null) {
+            entity.setFlowId(flowId);
+        }
+        entity.setPayload(rs.getString("payload"));
+        entity.setErrorMessage(rs.getString("error_message"));
+        entity.setCorrelationId(rs.getString("correlation_id"));
+        entity.setSourceSystem(rs.getString("source_system"));
+        entity.setTargetSystem(rs.getString("target_system"));
+        entity.setRetryMessageId(rs.getString("retry_message_id"));
+
+        String status = rs.getString("status");
+        if (status != null) {
+            entity.setStatus(DeadLetterMessage.Status.valueOf(status));
+        }
+        String errorType = rs.getString("error_type");
+        if (errorType != null) {
+            entity.setErrorType(ErrorRecord.ErrorType.valueOf(errorType));
+        }
+        Integer retryCount = ResultSetMapper.getInteger(rs, "retry_count");
+        entity.setRetryCount(retryCount != null ? retryCount : 0);
 
         // Timestamps
+        entity.setQueuedAt(ResultSetMapper.getLocalDateTime(rs, "queued_at"));
+        entity.setLastRetryAt(ResultSetMapper.getLocalDateTime(rs, "last_retry_at"));
+        entity.setFailedAt(ResultSetMapper.getLocalDateTime(rs, "failed_at"));
         if (rs.getTimestamp("created_at") != null) {
             entity.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
         }
@@ -22,55 +22,75 @@ public class AdapterPayloadSqlRepository extends BaseSqlRepository<AdapterPayloa
     private static final String TABLE_NAME = "adapter_payloads";
     private static final String ID_COLUMN = "id";
 
+    private final PayloadBlobSqlRepository payloadStore;
+
     /**
-     * Row mapper for AdapterPayload entity
+     * Create the row mapper for AdapterPayload entity, payloads held in the payload store are loaded on first access
      */
-    private static final RowMapper<AdapterPayload> ADAPTER_PAYLOAD_ROW_MAPPER = new RowMapper<AdapterPayload>() {
-        @Override
-        public AdapterPayload mapRow(ResultSet rs, int rowNum) throws SQLException {
-            return AdapterPayload.builder()
-                    .id(ResultSetMapper.getUUID(rs, "id"))
-                    .correlationId(ResultSetMapper.getString(rs, "correlation_id"))
-                    .adapterId(ResultSetMapper.getUUID(rs, "adapter_id"))
-                    .adapterName(ResultSetMapper.getString(rs, "adapter_name"))
-                    .adapterType(ResultSetMapper.getString(rs, "adapter_type"))
-                    .direction(ResultSetMapper.getString(rs, "direction"))
-                    .payloadType(ResultSetMapper.getString(rs, "payload_type"))
-                    .messageStructureId(ResultSetMapper.getUUID(rs, "message_structure_id"))
-                    .payload(ResultSetMapper.getString(rs, "payload"))
-                    .payloadSize(ResultSetMapper.getInteger(rs, "payload_size"))
-                    .createdAt(ResultSetMapper.getLocalDateTime(rs, "created_at"))
-                    .build();
-        }
-    };
+    private static RowMapper<AdapterPayload> createRowMapper(PayloadBlobSqlRepository payloadStore) {
+        return new RowMapper<AdapterPayload>() {
+            @Override
+            public AdapterPayload mapRow(ResultSet rs, int rowNum) throws SQLException {
+                AdapterPayload payload = AdapterPayload.builder()
+                        .id(ResultSetMapper.getUUID(rs, "id"))
+                        .correlationId(ResultSetMapper.getString(rs, "correlation_id"))
+                        .adapterId(ResultSetMapper.getUUID(rs, "adapter_id"))
+                        .adapterName(ResultSetMapper.getString(rs, "adapter_name"))
+                        .adapterType(ResultSetMapper.getString(rs, "adapter_type"))
+                        .direction(ResultSetMapper.getString(rs, "direction"))
+                        .payloadType(ResultSetMapper.getString(rs, "payload_type"))
+                        .messageStructureId(ResultSetMapper.getUUID(rs, "message_structure_id"))
+                        .payload(ResultSetMapper.getString(rs, "payload"))
+                        .payloadSize(ResultSetMapper.getInteger(rs, "payload_size"))
+                        .createdAt(ResultSetMapper.getLocalDateTime(rs, "created_at"))
+                        .build();
+                payload.setPayloadRef(ResultSetMapper.getString(rs, "payload_ref"));
+                if (payload.getPayloadRef() != null) {
+                    payload.setPayloadLoader(payloadStore.loader(payload.getPayloadRef()));
+                }
+                return payload;
+            }
+        };
+    }
 
-    public AdapterPayloadSqlRepository(SqlQueryExecutor sqlQueryExecutor) {
-        super(sqlQueryExecutor, TABLE_NAME, ID_COLUMN, ADAPTER_PAYLOAD_ROW_MAPPER);
+    public AdapterPayloadSqlRepository(SqlQueryExecutor sqlQueryExecutor, PayloadBlobSqlRepository payloadStore) {
+        super(sqlQueryExecutor, TABLE_NAME, ID_COLUMN, createRowMapper(payloadStore));
+        this.payloadStore = payloadStore;
     }
 
     public List<AdapterPayload> findByCorrelationIdOrderByCreatedAtAsc(String correlationId) {
         String sql = "SELECT * FROM adapter_payloads WHERE correlation_id = ? ORDER BY created_at ASC";
-        return sqlQueryExecutor.queryForList(sql, ADAPTER_PAYLOAD_ROW_MAPPER, correlationId);
+        return sqlQueryExecutor.queryForList(sql, rowMapper, correlationId);
     }
 
     public List<AdapterPayload> findByCorrelationIdOrderByCreatedAt(String correlationId) {
         String sql = "SELECT * FROM adapter_payloads WHERE correlation_id = ? ORDER BY created_at";
-        return sqlQueryExecutor.queryForList(sql, ADAPTER_PAYLOAD_ROW_MAPPER, correlationId);
+        return sqlQueryExecutor.queryForList(sql, rowMapper, correlationId);
     }
 
     public List<AdapterPayload> findByAdapterIdOrderByCreatedAtDesc(UUID adapterId) {
         String sql = "SELECT * FROM adapter_payloads WHERE adapter_id = ? ORDER BY created_at DESC";
-        return sqlQueryExecutor.queryForList(sql, ADAPTER_PAYLOAD_ROW_MAPPER, adapterId);
+        return sqlQueryExecutor.queryForList(sql, rowMapper, adapterId);
     }
 
     public void deleteByCorrelationId(String correlationId) {
-        String sql = "DELETE FROM adapter_payloads WHERE correlation_id = ?";
-        sqlQueryExecutor.update(sql, correlationId);
+        String sql = "DELETE FROM adapter_payloads WHERE correlation_id = ? RETURNING payload_ref";
+        payloadStore.deleteAndRelease(sql, correlationId);
     }
 
     public int deleteByCreatedAtBefore(LocalDateTime cutoffDate) {
-        String sql = "DELETE FROM adapter_payloads WHERE created_at < ?";
-        return sqlQueryExecutor.update(sql, ResultSetMapper.toTimestamp(cutoffDate));
+        String sql = "DELETE FROM adapter_payloads WHERE created_at < ? RETURNING payload_ref";
+        return payloadStore.deleteAndRelease(sql, ResultSetMapper.toTimestamp(cutoffDate));
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        payloadStore.deleteAndRelease("DELETE FROM adapter_payloads WHERE id = ? RETURNING payload_ref", id);
+    }
+
+    @Override
+    public void deleteAll() {
+        payloadStore.deleteAndRelease("DELETE FROM adapter_payloads RETURNING payload_ref");
     }
 
     public List<AdapterPayload> findByCorrelationId(String correlationId) {
@@ -92,10 +112,18 @@ public class AdapterPayloadSqlRepository extends BaseSqlRepository<AdapterPayloa
             payload.setPayloadSize(payload.getPayload().length());
         }
 
+        // Large payloads go to the payload store, the row keeps the reference
+        String content = payload.getPayload();
+        payload.setPayloadRef(null);
+        if (payloadStore.shouldOffload(content)) {
+            payload.setPayloadRef(payloadStore.store(content));
+            content = null;
+        }
+
         String sql = buildInsertSql(
             "id", "correlation_id", "adapter_id", "adapter_name", "adapter_type",
             "direction", "payload_type", "message_structure_id", "payload",
-            "payload_size", "created_at"
+            "payload_size", "created_at", "payload_ref"
         );
 
         sqlQueryExecutor.update(sql,
@@ -107,9 +135,10 @@ public class AdapterPayloadSqlRepository extends BaseSqlRepository<AdapterPayloa
             payload.getDirection(),
             payload.getPayloadType(),
             payload.getMessageStructureId(),
-            payload.getPayload(),
+            content,
             payload.getPayloadSize(),
-            ResultSetMapper.toTimestamp(payload.getCreatedAt())
+            ResultSetMapper.toTimestamp(payload.getCreatedAt()),
+            payload.getPayloadRef()
         );
 
         return payload;
@@ -119,15 +148,29 @@ public class AdapterPayloadSqlRepository extends BaseSqlRepository<AdapterPayloa
     public AdapterPayload update(AdapterPayload payload) {
         // AdapterPayload is typically immutable (audit trail), but providing update for completeness
 
-        // Recalculate payload size if payload changed
-        if (payload.getPayload() != null && payload.getPayloadSize() == null) {
-            payload.setPayloadSize(payload.getPayload().length());
+        // Unread referenced payloads are unchanged and keep their reference
+        String content = null;
+        String previousRef = payload.getPayloadRef();
+        boolean payloadChanged = !payload.hasLazyPayload();
+        if (payloadChanged) {
+            content = payload.getPayload();
+
+            // Recalculate payload size if payload changed
+            if (content != null && payload.getPayloadSize() == null) {
+                payload.setPayloadSize(content.length());
+            }
+
+            payload.setPayloadRef(null);
+            if (payloadStore.shouldOffload(content)) {
+                payload.setPayloadRef(payloadStore.store(content));
+                content = null;
+            }
         }
 
         String sql = buildUpdateSql(
             "correlation_id", "adapter_id", "adapter_name", "adapter_type",
             "direction", "payload_type", "message_structure_id", "payload",
-            "payload_size"
+            "payload_size", "payload_ref"
         );
 
         sqlQueryExecutor.update(sql,
@@ -138,11 +181,16 @@ public class AdapterPayloadSqlRepository extends BaseSqlRepository<AdapterPayloa
             payload.getDirection(),
             payload.getPayloadType(),
             payload.getMessageStructureId(),
-            payload.getPayload(),
+            content,
             payload.getPayloadSize(),
+            payload.getPayloadRef(),
             payload.getId()
         );
 
+        if (payloadChanged && previousRef != null) {
+            payloadStore.release(previousRef);
+        }
+
         return payload;
     }
 }
\ No newline at end of file
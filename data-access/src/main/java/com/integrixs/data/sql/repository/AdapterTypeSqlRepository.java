@@ -7,6 +7,7 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.integrixs.data.sql.core.BaseSqlRepository;
 import com.integrixs.data.sql.core.ResultSetMapper;
 import com.integrixs.data.sql.core.SqlQueryExecutor;
+import com.integrixs.shared.util.JsonCodec;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
 
@@ -30,7 +31,7 @@ public class AdapterTypeSqlRepository extends BaseSqlRepository<AdapterType, UUI
     /**
      * Row mapper for AdapterType entity
      */
-    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final ObjectMapper objectMapper = JsonCodec.mapper();
 
     private static final RowMapper<AdapterType> ADAPTER_TYPE_ROW_MAPPER = new RowMapper<AdapterType>() {
         @Override
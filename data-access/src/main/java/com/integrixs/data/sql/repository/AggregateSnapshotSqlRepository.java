@@ -0,0 +1,126 @@
+package com.integrixs.data.sql.repository;
+
+import com.integrixs.data.model.AggregateSnapshot;
+import com.integrixs.data.sql.core.BaseSqlRepository;
+import com.integrixs.data.sql.core.ResultSetMapper;
+import com.integrixs.data.sql.core.SqlQueryExecutor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * SQL repository for aggregate snapshots of the event store.
+ */
+@Repository("aggregateSnapshotSqlRepository")
+public class AggregateSnapshotSqlRepository extends BaseSqlRepository<AggregateSnapshot, UUID> {
+
+    private static final Logger log = LoggerFactory.getLogger(AggregateSnapshotSqlRepository.class);
+
+    private static final String TABLE_NAME = "aggregate_snapshots";
+    private static final String ID_COLUMN = "id";
+
+    /**
+     * Row mapper for AggregateSnapshot entity
+     */
+    private static final RowMapper<AggregateSnapshot> AGGREGATE_SNAPSHOT_ROW_MAPPER = new RowMapper<AggregateSnapshot>() {
+        @Override
+        public AggregateSnapshot mapRow(ResultSet rs, int rowNum) throws SQLException {
+            AggregateSnapshot snapshot = new AggregateSnapshot();
+            snapshot.setId(ResultSetMapper.getUUID(rs, "id"));
+            snapshot.setAggregateType(ResultSetMapper.getString(rs, "aggregate_type"));
+            snapshot.setAggregateId(ResultSetMapper.getUUID(rs, "aggregate_id"));
+            snapshot.setAggregateVersion(rs.getLong("aggregate_version"));
+            snapshot.setSchemaVersion(rs.getInt("schema_version"));
+            snapshot.setSnapshotData(ResultSetMapper.getString(rs, "snapshot_data"));
+            snapshot.setCreatedAt(ResultSetMapper.getLocalDateTime(rs, "created_at"));
+            return snapshot;
+        }
+    };
+
+    public AggregateSnapshotSqlRepository(SqlQueryExecutor sqlQueryExecutor) {
+        super(sqlQueryExecutor, TABLE_NAME, ID_COLUMN, AGGREGATE_SNAPSHOT_ROW_MAPPER);
+    }
+
+    /**
+     * Finds the snapshot with the highest version of an aggregate in the given schema version
+     */
+    public Optional<AggregateSnapshot> findLatest(UUID aggregateId, String aggregateType, int schemaVersion) {
+        String sql = "SELECT * FROM aggregate_snapshots WHERE aggregate_id = ? AND aggregate_type = ? " +
+                     "AND schema_version = ? ORDER BY aggregate_version DESC LIMIT 1";
+        List<AggregateSnapshot> results = sqlQueryExecutor.queryForList(sql, AGGREGATE_SNAPSHOT_ROW_MAPPER,
+                aggregateId, aggregateType, schemaVersion);
+        return results.isEmpty() ? Optional.empty() : Optional.of(results.get(0));
+    }
+
+    /**
+     * Deletes all but the newest snapshots of each aggregate
+     *
+     * @param keep number of snapshots kept per aggregate
+     * @return number of deleted snapshots
+     */
+    public int deleteSuperseded(int keep) {
+        String sql = "DELETE FROM aggregate_snapshots WHERE id IN (" +
+                     "SELECT id FROM (SELECT id, ROW_NUMBER() OVER (PARTITION BY aggregate_id, aggregate_type " +
+                     "ORDER BY aggregate_version DESC) AS rn FROM aggregate_snapshots) ranked WHERE rn > ?)";
+        return sqlQueryExecutor.update(sql, Math.max(1, keep));
+    }
+
+    /**
+     * Deletes snapshots of an aggregate type written with another schema version
+     */
+    public int deleteOtherSchemaVersions(String aggregateType, int schemaVersion) {
+        String sql = "DELETE FROM aggregate_snapshots WHERE aggregate_type = ? AND schema_version <> ?";
+        return sqlQueryExecutor.update(sql, aggregateType, schemaVersion);
+    }
+
+    /**
+     * Deletes the snapshots of an aggregate
+     */
+    public int deleteByAggregate(UUID aggregateId, String aggregateType) {
+        String sql = "DELETE FROM aggregate_snapshots WHERE aggregate_id = ? AND aggregate_type = ?";
+        return sqlQueryExecutor.update(sql, aggregateId, aggregateType);
+    }
+
+    @Override
+    public AggregateSnapshot save(AggregateSnapshot snapshot) {
+        if (snapshot.getId() == null) {
+            snapshot.setId(generateId());
+        }
+
+        if (snapshot.getCreatedAt() == null) {
+            snapshot.setCreatedAt(LocalDateTime.now());
+        }
+
+        // A snapshot of the same version holds the same state, concurrent writers keep the first one
+        String sql = "INSERT INTO aggregate_snapshots (id, aggregate_type, aggregate_id, aggregate_version, " +
+                     "schema_version, snapshot_data, created_at) VALUES (?, ?, ?, ?, ?, ?, ?) " +
+                     "ON CONFLICT (aggregate_id, aggregate_type, aggregate_version) DO NOTHING";
+
+        sqlQueryExecutor.update(sql,
+            snapshot.getId(),
+            snapshot.getAggregateType(),
+            snapshot.getAggregateId(),
+            snapshot.getAggregateVersion(),
+            snapshot.getSchemaVersion(),
+            snapshot.getSnapshotData(),
+            ResultSetMapper.toTimestamp(snapshot.getCreatedAt())
+        );
+
+        return snapshot;
+    }
+
+    @Override
+    public AggregateSnapshot update(AggregateSnapshot snapshot) {
+        // Snapshots are immutable, a newer state is stored as a new snapshot
+        log.error("Attempted to update immutable aggregate snapshot with ID: {}", snapshot.getId());
+        return snapshot;
+    }
+}
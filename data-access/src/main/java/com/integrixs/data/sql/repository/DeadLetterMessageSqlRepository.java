@@ -2,13 +2,17 @@ package com.integrixs.data.sql.repository;
 
 import com.integrixs.data.model.DeadLetterMessage;
 import com.integrixs.data.sql.mapper.DeadLetterMessageRowMapper;
+import com.integrixs.data.sql.core.ResultSetMapper;
 import com.integrixs.data.sql.core.SqlQueryExecutor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -21,6 +25,10 @@ public class DeadLetterMessageSqlRepository {
 
     private static final String TABLE_NAME = "dead_letter_messages";
 
+    // Pending and failed entries, and entries claimed by a replay that did not finish before the claim timeout
+    private static final String REPLAYABLE =
+        "(status IN ('PENDING', 'FAILED') OR (status = 'PROCESSING' AND updated_at < ?))";
+
     private final SqlQueryExecutor sqlQueryExecutor;
     private final DeadLetterMessageRowMapper rowMapper = new DeadLetterMessageRowMapper();
 
@@ -127,4 +135,106 @@ public class DeadLetterMessageSqlRepository {
                                       com.integrixs.data.sql.core.ResultSetMapper.toTimestamp(cutoff),
                                       status.toString());
     }
+
+    /**
+     * Find dead letters eligible for replay after a keyset cursor, oldest first.
+     * Null filters match every entry.
+     */
+    public List<DeadLetterMessage> findReplayCandidates(UUID flowId, String adapter, String errorType,
+                                                        LocalDateTime from, LocalDateTime to,
+                                                        LocalDateTime claimedBefore,
+                                                        LocalDateTime afterQueuedAt, UUID afterId, int limit) {
+        List<Object> params = new ArrayList<>();
+        StringBuilder sql = new StringBuilder("SELECT * FROM ").append(TABLE_NAME)
+            .append(replayFilter(flowId, adapter, errorType, from, to, claimedBefore, params));
+        if (afterQueuedAt != null) {
+            sql.append(" AND (queued_at, id) > (?, ?)");
+            params.add(ResultSetMapper.toTimestamp(afterQueuedAt));
+            params.add(afterId);
+        }
+        sql.append(" ORDER BY queued_at ASC, id ASC LIMIT ?");
+        params.add(limit);
+        return sqlQueryExecutor.queryForList(sql.toString(), rowMapper, params.toArray());
+    }
+
+    public long countReplayCandidates(UUID flowId, String adapter, String errorType,
+                                      LocalDateTime from, LocalDateTime to, LocalDateTime claimedBefore) {
+        List<Object> params = new ArrayList<>();
+        String sql = "SELECT COUNT(*) FROM " + TABLE_NAME +
+                     replayFilter(flowId, adapter, errorType, from, to, claimedBefore, params);
+        return sqlQueryExecutor.count(sql, params.toArray());
+    }
+
+    /**
+     * Claim entries for replay, so concurrent replays and cluster members never replay an entry twice
+     * @return Per entry 1 when claimed, 0 when it was already claimed or is no longer eligible
+     */
+    public int[] claimForReplay(List<UUID> ids, LocalDateTime claimedBefore) {
+        String sql = "UPDATE " + TABLE_NAME + " SET status = 'PROCESSING' WHERE id = ? AND " + REPLAYABLE;
+        List<Object[]> batchArgs = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            batchArgs.add(new Object[] {id, ResultSetMapper.toTimestamp(claimedBefore)});
+        }
+        return sqlQueryExecutor.batchUpdate(sql, batchArgs);
+    }
+
+    /**
+     * Mark claimed entries as replayed
+     * @param retryMessageIds Message ID of the replayed message by entry ID
+     */
+    public void markReplayed(Map<UUID, String> retryMessageIds) {
+        if (retryMessageIds.isEmpty()) {
+            return;
+        }
+        String sql = "UPDATE " + TABLE_NAME + " SET status = 'RETRIED', retry_count = COALESCE(retry_count, 0) + 1, " +
+                     "last_retry_at = CURRENT_TIMESTAMP, retry_message_id = ? WHERE id = ?";
+        List<Object[]> batchArgs = new ArrayList<>(retryMessageIds.size());
+        retryMessageIds.forEach((id, retryMessageId) -> batchArgs.add(new Object[] {retryMessageId, id}));
+        sqlQueryExecutor.batchUpdate(sql, batchArgs);
+    }
+
+    /**
+     * Release claimed entries whose replay failed, they stay eligible for a later replay
+     */
+    public void markReplayFailed(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        String sql = "UPDATE " + TABLE_NAME + " SET status = 'FAILED', retry_count = COALESCE(retry_count, 0) + 1, " +
+                     "last_retry_at = CURRENT_TIMESTAMP, failed_at = CURRENT_TIMESTAMP WHERE id = ?";
+        List<Object[]> batchArgs = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            batchArgs.add(new Object[] {id});
+        }
+        sqlQueryExecutor.batchUpdate(sql, batchArgs);
+    }
+
+    private static String replayFilter(UUID flowId, String adapter, String errorType,
+                                       LocalDateTime from, LocalDateTime to, LocalDateTime claimedBefore,
+                                       List<Object> params) {
+        StringBuilder where = new StringBuilder(" WHERE ").append(REPLAYABLE);
+        params.add(ResultSetMapper.toTimestamp(claimedBefore));
+        if (flowId != null) {
+            where.append(" AND flow_id = ?");
+            params.add(flowId);
+        }
+        if (adapter != null) {
+            where.append(" AND (source_system = ? OR target_system = ?)");
+            params.add(adapter);
+            params.add(adapter);
+        }
+        if (errorType != null) {
+            where.append(" AND error_type = ?");
+            params.add(errorType);
+        }
+        if (from != null) {
+            where.append(" AND queued_at >= ?");
+            params.add(ResultSetMapper.toTimestamp(from));
+        }
+        if (to != null) {
+            where.append(" AND queued_at < ?");
+            params.add(ResultSetMapper.toTimestamp(to));
+        }
+        return where.toString();
+    }
 }
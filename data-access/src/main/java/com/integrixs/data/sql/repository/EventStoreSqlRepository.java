@@ -73,6 +73,16 @@ public class EventStoreSqlRepository extends BaseSqlRepository<EventStore, UUID>
         return sqlQueryExecutor.queryForList(sql, EVENT_STORE_ROW_MAPPER, aggregateId, aggregateType);
     }
 
+    /**
+     * Finds the events of an aggregate stored after the given version, used to replay on top of a snapshot
+     */
+    public List<EventStore> findByAggregateIdAndAggregateTypeAfterVersion(
+            UUID aggregateId, String aggregateType, long afterVersion) {
+        String sql = "SELECT * FROM event_store WHERE aggregate_id = ? AND aggregate_type = ? AND aggregate_version > ? " +
+                     "ORDER BY aggregate_version ASC";
+        return sqlQueryExecutor.queryForList(sql, EVENT_STORE_ROW_MAPPER, aggregateId, aggregateType, afterVersion);
+    }
+
     /**
      * Finds events by type within a time range
      */
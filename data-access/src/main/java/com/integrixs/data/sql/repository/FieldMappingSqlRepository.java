@@ -90,6 +90,11 @@ public class FieldMappingSqlRepository {
         return sqlQueryExecutor.queryForList(sql, rowMapper, transformationId);
     }
 
+    public Optional<UUID> findTransformationId(UUID id) {
+        String sql = "SELECT transformation_id FROM " + TABLE_NAME + " WHERE id = ? AND transformation_id IS NOT NULL";
+        return sqlQueryExecutor.queryForObject(sql, (rs, rowNum) -> rs.getObject("transformation_id", UUID.class), id);
+    }
+
     public long countByTransformationId(UUID transformationId) {
         String sql = "SELECT COUNT(*) FROM " + TABLE_NAME + " WHERE transformation_id = ?";
         return sqlQueryExecutor.count(sql, transformationId);
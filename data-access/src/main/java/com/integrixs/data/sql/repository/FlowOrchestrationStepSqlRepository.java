@@ -5,6 +5,7 @@ import com.integrixs.data.model.IntegrationFlow;
 import com.integrixs.data.sql.core.BaseSqlRepository;
 import com.integrixs.data.sql.core.ResultSetMapper;
 import com.integrixs.data.sql.core.SqlQueryExecutor;
+import com.integrixs.shared.util.JsonCodec;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.core.type.TypeReference;
 import org.springframework.jdbc.core.RowMapper;
@@ -25,7 +26,7 @@ public class FlowOrchestrationStepSqlRepository extends BaseSqlRepository<FlowOr
 
     private static final String TABLE_NAME = "flow_orchestration_steps";
     private static final String ID_COLUMN = "id";
-    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final ObjectMapper objectMapper = JsonCodec.mapper();
 
     /**
      * Row mapper for FlowOrchestrationStep entity
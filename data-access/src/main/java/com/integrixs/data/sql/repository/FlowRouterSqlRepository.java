@@ -6,6 +6,7 @@ import com.integrixs.data.model.User;
 import com.integrixs.data.sql.core.BaseSqlRepository;
 import com.integrixs.data.sql.core.ResultSetMapper;
 import com.integrixs.data.sql.core.SqlQueryExecutor;
+import com.integrixs.shared.util.JsonCodec;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.core.type.TypeReference;
 import org.springframework.jdbc.core.RowMapper;
@@ -27,7 +28,7 @@ public class FlowRouterSqlRepository extends BaseSqlRepository<FlowRouter, UUID>
 
     private static final String TABLE_NAME = "flow_routers";
     private static final String ID_COLUMN = "id";
-    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final ObjectMapper objectMapper = JsonCodec.mapper();
 
     /**
      * Row mapper for FlowRouter entity
@@ -29,109 +29,132 @@ public class MessageSqlRepository extends BaseSqlRepository<Message, UUID> {
     private static final String TABLE_NAME = "messages";
     private static final String ID_COLUMN = "id";
 
+    private final PayloadBlobSqlRepository payloadStore;
+
     /**
      * Row mapper for Message entity (without relationships)
      */
-    private static final RowMapper<Message> MESSAGE_ROW_MAPPER = new RowMapper<Message>() {
-        @Override
-        public Message mapRow(ResultSet rs, int rowNum) throws SQLException {
-            Message message = new Message();
-            message.setId(ResultSetMapper.getUUID(rs, "id"));
-            message.setMessageId(ResultSetMapper.getString(rs, "message_id"));
-
-            String statusStr = ResultSetMapper.getString(rs, "status");
-            if (statusStr != null) {
-                message.setStatus(Message.MessageStatus.valueOf(statusStr));
-            }
-
-            message.setSourceSystem(ResultSetMapper.getString(rs, "source_system"));
-            message.setTargetSystem(ResultSetMapper.getString(rs, "target_system"));
-            message.setMessageType(ResultSetMapper.getString(rs, "message_type"));
-            message.setContentType(ResultSetMapper.getString(rs, "content_type"));
-            message.setMessageContent(ResultSetMapper.getString(rs, "message_content"));
-            message.setHeaders(ResultSetMapper.getString(rs, "headers"));
-            message.setProperties(ResultSetMapper.getString(rs, "properties"));
-            message.setReceivedAt(ResultSetMapper.getLocalDateTime(rs, "received_at"));
-            message.setProcessedAt(ResultSetMapper.getLocalDateTime(rs, "processed_at"));
-            message.setCompletedAt(ResultSetMapper.getLocalDateTime(rs, "completed_at"));
-            message.setErrorMessage(ResultSetMapper.getString(rs, "error_message"));
-            message.setRetryCount(ResultSetMapper.getInteger(rs, "retry_count"));
-            message.setCorrelationId(ResultSetMapper.getString(rs, "correlation_id"));
-            message.setPriority(ResultSetMapper.getInteger(rs, "priority"));
-            message.setCreatedAt(ResultSetMapper.getLocalDateTime(rs, "created_at"));
-            message.setUpdatedAt(ResultSetMapper.getLocalDateTime(rs, "updated_at"));
-
-            return message;
-        }
-    };
+    private final RowMapper<Message> messageRowMapper;
 
     /**
      * Row mapper for Message with relationships
      */
-    private static final RowMapper<Message> MESSAGE_WITH_RELATIONSHIPS_ROW_MAPPER = new RowMapper<Message>() {
-        @Override
-        public Message mapRow(ResultSet rs, int rowNum) throws SQLException {
-            Message message = MESSAGE_ROW_MAPPER.mapRow(rs, rowNum);
-
-            // Map flow (minimal fields)
-            UUID flowId = ResultSetMapper.getUUID(rs, "flow_id");
-            if (flowId != null) {
-                IntegrationFlow flow = new IntegrationFlow();
-                flow.setId(flowId);
-                flow.setName(ResultSetMapper.getString(rs, "flow_name"));
-                message.setFlow(flow);
-            }
-
-            // Map flow execution (minimal fields)
-            UUID flowExecutionId = ResultSetMapper.getUUID(rs, "flow_execution_id");
-            if (flowExecutionId != null) {
-                FlowExecution flowExecution = new FlowExecution();
-                flowExecution.setId(flowExecutionId);
-                // Note: execution_id field doesn't exist in database schema
-                // Using the flow_execution_id as identifier instead
-                message.setFlowExecution(flowExecution);
-            }
+    private final RowMapper<Message> messageWithRelationshipsRowMapper;
 
-            // Map created by user
-            UUID createdById = ResultSetMapper.getUUID(rs, "created_by");
-            if (createdById != null) {
-                User createdBy = new User();
-                createdBy.setId(createdById);
-                createdBy.setUsername(ResultSetMapper.getString(rs, "created_by_username"));
-                createdBy.setEmail(ResultSetMapper.getString(rs, "created_by_email"));
-                message.setCreatedBy(createdBy);
+    /**
+     * Create the row mapper for Message entity, content held in the payload store is loaded on first access
+     */
+    private static RowMapper<Message> createMessageRowMapper(PayloadBlobSqlRepository payloadStore) {
+        return new RowMapper<Message>() {
+            @Override
+            public Message mapRow(ResultSet rs, int rowNum) throws SQLException {
+                Message message = new Message();
+                message.setId(ResultSetMapper.getUUID(rs, "id"));
+                message.setMessageId(ResultSetMapper.getString(rs, "message_id"));
+
+                String statusStr = ResultSetMapper.getString(rs, "status");
+                if (statusStr != null) {
+                    message.setStatus(Message.MessageStatus.valueOf(statusStr));
+                }
+
+                message.setSourceSystem(ResultSetMapper.getString(rs, "source_system"));
+                message.setTargetSystem(ResultSetMapper.getString(rs, "target_system"));
+                message.setMessageType(ResultSetMapper.getString(rs, "message_type"));
+                message.setContentType(ResultSetMapper.getString(rs, "content_type"));
+                message.setMessageContent(ResultSetMapper.getString(rs, "message_content"));
+                message.setPayloadRef(ResultSetMapper.getString(rs, "payload_ref"));
+                if (message.getPayloadRef() != null) {
+                    message.setPayloadLoader(payloadStore.loader(message.getPayloadRef()));
+                }
+                message.setHeaders(ResultSetMapper.getString(rs, "headers"));
+                message.setProperties(ResultSetMapper.getString(rs, "properties"));
+                message.setReceivedAt(ResultSetMapper.getLocalDateTime(rs, "received_at"));
+                message.setProcessedAt(ResultSetMapper.getLocalDateTime(rs, "processed_at"));
+                message.setCompletedAt(ResultSetMapper.getLocalDateTime(rs, "completed_at"));
+                message.setErrorMessage(ResultSetMapper.getString(rs, "error_message"));
+                message.setRetryCount(ResultSetMapper.getInteger(rs, "retry_count"));
+                message.setCorrelationId(ResultSetMapper.getString(rs, "correlation_id"));
+                message.setPriority(ResultSetMapper.getInteger(rs, "priority"));
+                message.setCreatedAt(ResultSetMapper.getLocalDateTime(rs, "created_at"));
+                message.setUpdatedAt(ResultSetMapper.getLocalDateTime(rs, "updated_at"));
+
+                return message;
             }
+        };
+    }
 
-            // Map updated by user
-            UUID updatedById = ResultSetMapper.getUUID(rs, "updated_by");
-            if (updatedById != null) {
-                User updatedBy = new User();
-                updatedBy.setId(updatedById);
-                updatedBy.setUsername(ResultSetMapper.getString(rs, "updated_by_username"));
-                updatedBy.setEmail(ResultSetMapper.getString(rs, "updated_by_email"));
-                message.setUpdatedBy(updatedBy);
+    /**
+     * Create the row mapper for Message with relationships
+     */
+    private static RowMapper<Message> createMessageWithRelationshipsRowMapper(RowMapper<Message> messageRowMapper) {
+        return new RowMapper<Message>() {
+            @Override
+            public Message mapRow(ResultSet rs, int rowNum) throws SQLException {
+                Message message = messageRowMapper.mapRow(rs, rowNum);
+
+                // Map flow (minimal fields)
+                UUID flowId = ResultSetMapper.getUUID(rs, "flow_id");
+                if (flowId != null) {
+                    IntegrationFlow flow = new IntegrationFlow();
+                    flow.setId(flowId);
+                    flow.setName(ResultSetMapper.getString(rs, "flow_name"));
+                    message.setFlow(flow);
+                }
+
+                // Map flow execution (minimal fields)
+                UUID flowExecutionId = ResultSetMapper.getUUID(rs, "flow_execution_id");
+                if (flowExecutionId != null) {
+                    FlowExecution flowExecution = new FlowExecution();
+                    flowExecution.setId(flowExecutionId);
+                    // Note: execution_id field doesn't exist in database schema
+                    // Using the flow_execution_id as identifier instead
+                    message.setFlowExecution(flowExecution);
+                }
+
+                // Map created by user
+                UUID createdById = ResultSetMapper.getUUID(rs, "created_by");
+                if (createdById != null) {
+                    User createdBy = new User();
+                    createdBy.setId(createdById);
+                    createdBy.setUsername(ResultSetMapper.getString(rs, "created_by_username"));
+                    createdBy.setEmail(ResultSetMapper.getString(rs, "created_by_email"));
+                    message.setCreatedBy(createdBy);
+                }
+
+                // Map updated by user
+                UUID updatedById = ResultSetMapper.getUUID(rs, "updated_by");
+                if (updatedById != null) {
+                    User updatedBy = new User();
+                    updatedBy.setId(updatedById);
+                    updatedBy.setUsername(ResultSetMapper.getString(rs, "updated_by_username"));
+                    updatedBy.setEmail(ResultSetMapper.getString(rs, "updated_by_email"));
+                    message.setUpdatedBy(updatedBy);
+                }
+
+                return message;
             }
+        };
+    }
 
-            return message;
-        }
-    };
-
-    public MessageSqlRepository(SqlQueryExecutor sqlQueryExecutor) {
-        super(sqlQueryExecutor, TABLE_NAME, ID_COLUMN, MESSAGE_ROW_MAPPER);
+    public MessageSqlRepository(SqlQueryExecutor sqlQueryExecutor, PayloadBlobSqlRepository payloadStore) {
+        super(sqlQueryExecutor, TABLE_NAME, ID_COLUMN, createMessageRowMapper(payloadStore));
+        this.payloadStore = payloadStore;
+        this.messageRowMapper = rowMapper;
+        this.messageWithRelationshipsRowMapper = createMessageWithRelationshipsRowMapper(rowMapper);
     }
 
     @Override
     public Optional<Message> findById(UUID id) {
         String sql = buildSelectWithJoins() + " WHERE m.id = ?";
 
-        List<Message> results = sqlQueryExecutor.queryForList(sql, MESSAGE_WITH_RELATIONSHIPS_ROW_MAPPER, id);
+        List<Message> results = sqlQueryExecutor.queryForList(sql, messageWithRelationshipsRowMapper, id);
         return results.isEmpty() ? Optional.empty() : Optional.of(results.get(0));
     }
 
     @Override
     public List<Message> findAll() {
         String sql = buildSelectWithJoins() + " ORDER BY m.received_at DESC";
-        return sqlQueryExecutor.queryForList(sql, MESSAGE_WITH_RELATIONSHIPS_ROW_MAPPER);
+        return sqlQueryExecutor.queryForList(sql, messageWithRelationshipsRowMapper);
     }
 
     public Page<Message> findAll(Pageable pageable) {
@@ -140,7 +163,7 @@ public class MessageSqlRepository extends BaseSqlRepository<Message, UUID> {
 
         long total = sqlQueryExecutor.count(countQuery);
         String paginatedQuery = baseQuery + SqlPaginationHelper.buildOrderByClause(pageable.getSort()) + SqlPaginationHelper.buildPaginationClause(pageable);
-        List<Message> messages = sqlQueryExecutor.queryForList(paginatedQuery, MESSAGE_WITH_RELATIONSHIPS_ROW_MAPPER);
+        List<Message> messages = sqlQueryExecutor.queryForList(paginatedQuery, messageWithRelationshipsRowMapper);
 
         return new PageImpl<>(messages, pageable, total);
     }
@@ -148,53 +171,53 @@ public class MessageSqlRepository extends BaseSqlRepository<Message, UUID> {
     public Optional<Message> findByMessageId(String messageId) {
         String sql = buildSelectWithJoins() + " WHERE m.message_id = ?";
 
-        List<Message> results = sqlQueryExecutor.queryForList(sql, MESSAGE_WITH_RELATIONSHIPS_ROW_MAPPER, messageId);
+        List<Message> results = sqlQueryExecutor.queryForList(sql, messageWithRelationshipsRowMapper, messageId);
         return results.isEmpty() ? Optional.empty() : Optional.of(results.get(0));
     }
 
     public List<Message> findByStatus(Message.MessageStatus status) {
         String sql = buildSelectWithJoins() + " WHERE m.status = ? ORDER BY m.priority DESC, m.received_at ASC";
-        return sqlQueryExecutor.queryForList(sql, MESSAGE_WITH_RELATIONSHIPS_ROW_MAPPER, status.toString());
+        return sqlQueryExecutor.queryForList(sql, messageWithRelationshipsRowMapper, status.toString());
     }
 
     public List<Message> findByFlowId(UUID flowId) {
         String sql = buildSelectWithJoins() + " WHERE m.flow_id = ? ORDER BY m.received_at DESC";
-        return sqlQueryExecutor.queryForList(sql, MESSAGE_WITH_RELATIONSHIPS_ROW_MAPPER, flowId);
+        return sqlQueryExecutor.queryForList(sql, messageWithRelationshipsRowMapper, flowId);
     }
 
     public List<Message> findByFlowExecutionId(UUID flowExecutionId) {
         String sql = buildSelectWithJoins() + " WHERE m.flow_execution_id = ? ORDER BY m.received_at ASC";
-        return sqlQueryExecutor.queryForList(sql, MESSAGE_WITH_RELATIONSHIPS_ROW_MAPPER, flowExecutionId);
+        return sqlQueryExecutor.queryForList(sql, messageWithRelationshipsRowMapper, flowExecutionId);
     }
 
     public List<Message> findByCorrelationId(String correlationId) {
         String sql = buildSelectWithJoins() + " WHERE m.correlation_id = ? ORDER BY m.received_at ASC";
-        return sqlQueryExecutor.queryForList(sql, MESSAGE_WITH_RELATIONSHIPS_ROW_MAPPER, correlationId);
+        return sqlQueryExecutor.queryForList(sql, messageWithRelationshipsRowMapper, correlationId);
     }
 
     public List<Message> findPendingMessagesByPriority(int limit) {
         String sql = buildSelectWithJoins() +
                      " WHERE m.status IN ('PENDING', 'QUEUED', 'RETRY') " +
                      "ORDER BY m.priority DESC, m.received_at ASC LIMIT ?";
-        return sqlQueryExecutor.queryForList(sql, MESSAGE_WITH_RELATIONSHIPS_ROW_MAPPER, limit);
+        return sqlQueryExecutor.queryForList(sql, messageWithRelationshipsRowMapper, limit);
     }
 
     public List<Message> findFailedMessages(LocalDateTime since) {
         String sql = buildSelectWithJoins() +
                      " WHERE m.status = 'FAILED' AND m.updated_at >= ? " +
                      "ORDER BY m.updated_at DESC";
-        return sqlQueryExecutor.queryForList(sql, MESSAGE_WITH_RELATIONSHIPS_ROW_MAPPER,
+        return sqlQueryExecutor.queryForList(sql, messageWithRelationshipsRowMapper,
                                            ResultSetMapper.toTimestamp(since));
     }
 
     public List<Message> findBySourceSystem(String sourceSystem) {
         String sql = buildSelectWithJoins() + " WHERE m.source_system = ? ORDER BY m.received_at DESC";
-        return sqlQueryExecutor.queryForList(sql, MESSAGE_WITH_RELATIONSHIPS_ROW_MAPPER, sourceSystem);
+        return sqlQueryExecutor.queryForList(sql, messageWithRelationshipsRowMapper, sourceSystem);
     }
 
     public List<Message> findByTargetSystem(String targetSystem) {
         String sql = buildSelectWithJoins() + " WHERE m.target_system = ? ORDER BY m.received_at DESC";
-        return sqlQueryExecutor.queryForList(sql, MESSAGE_WITH_RELATIONSHIPS_ROW_MAPPER, targetSystem);
+        return sqlQueryExecutor.queryForList(sql, messageWithRelationshipsRowMapper, targetSystem);
     }
 
     @Override
@@ -218,8 +241,8 @@ public class MessageSqlRepository extends BaseSqlRepository<Message, UUID> {
                      "source_system, target_system, message_type, content_type, " +
                      "message_content, headers, properties, received_at, processed_at, " +
                      "completed_at, error_message, retry_count, correlation_id, priority, " +
-                     "created_at, updated_at, created_by, updated_by" +
-                     ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+                     "created_at, updated_at, created_by, updated_by, payload_ref" +
+                     ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
 
         LocalDateTime now = LocalDateTime.now();
         if (message.getCreatedAt() == null) {
@@ -232,6 +255,14 @@ public class MessageSqlRepository extends BaseSqlRepository<Message, UUID> {
             message.setReceivedAt(now);
         }
 
+        // Large content goes to the payload store, the row keeps the reference
+        String content = message.getMessageContent();
+        message.setPayloadRef(null);
+        if (payloadStore.shouldOffload(content)) {
+            message.setPayloadRef(payloadStore.store(content));
+            content = null;
+        }
+
         sqlQueryExecutor.update(sql,
             message.getId(),
             message.getMessageId(),
@@ -242,7 +273,7 @@ public class MessageSqlRepository extends BaseSqlRepository<Message, UUID> {
             message.getTargetSystem(),
             message.getMessageType(),
             message.getContentType(),
-            message.getMessageContent(),
+            content,
             message.getHeaders(),
             message.getProperties(),
             ResultSetMapper.toTimestamp(message.getReceivedAt()),
@@ -255,7 +286,8 @@ public class MessageSqlRepository extends BaseSqlRepository<Message, UUID> {
             ResultSetMapper.toTimestamp(message.getCreatedAt()),
             ResultSetMapper.toTimestamp(message.getUpdatedAt()),
             message.getCreatedBy() != null ? message.getCreatedBy().getId() : null,
-            message.getUpdatedBy() != null ? message.getUpdatedBy().getId() : null
+            message.getUpdatedBy() != null ? message.getUpdatedBy().getId() : null,
+            message.getPayloadRef()
         );
 
         return message;
@@ -268,11 +300,24 @@ public class MessageSqlRepository extends BaseSqlRepository<Message, UUID> {
                      "source_system = ?, target_system = ?, message_type = ?, content_type = ?, " +
                      "message_content = ?, headers = ?, properties = ?, processed_at = ?, " +
                      "completed_at = ?, error_message = ?, retry_count = ?, correlation_id = ?, " +
-                     "priority = ?, updated_at = ?, updated_by = ? " +
+                     "priority = ?, updated_at = ?, updated_by = ?, payload_ref = ? " +
                      "WHERE id = ?";
 
         message.setUpdatedAt(LocalDateTime.now());
 
+        // Unread referenced content is unchanged and keeps its reference
+        String content = null;
+        String previousRef = message.getPayloadRef();
+        boolean contentChanged = !message.hasLazyPayload();
+        if (contentChanged) {
+            content = message.getMessageContent();
+            message.setPayloadRef(null);
+            if (payloadStore.shouldOffload(content)) {
+                message.setPayloadRef(payloadStore.store(content));
+                content = null;
+            }
+        }
+
         sqlQueryExecutor.update(sql,
             message.getMessageId(),
             message.getFlow() != null ? message.getFlow().getId() : null,
@@ -282,7 +327,7 @@ public class MessageSqlRepository extends BaseSqlRepository<Message, UUID> {
             message.getTargetSystem(),
             message.getMessageType(),
             message.getContentType(),
-            message.getMessageContent(),
+            content,
             message.getHeaders(),
             message.getProperties(),
             ResultSetMapper.toTimestamp(message.getProcessedAt()),
@@ -293,9 +338,14 @@ public class MessageSqlRepository extends BaseSqlRepository<Message, UUID> {
             message.getPriority(),
             ResultSetMapper.toTimestamp(message.getUpdatedAt()),
             message.getUpdatedBy() != null ? message.getUpdatedBy().getId() : null,
+            message.getPayloadRef(),
             message.getId()
         );
 
+        if (contentChanged && previousRef != null) {
+            payloadStore.release(previousRef);
+        }
+
         return message;
     }
 
@@ -360,11 +410,21 @@ public class MessageSqlRepository extends BaseSqlRepository<Message, UUID> {
      * Delete old messages
      */
     public int deleteOldMessages(LocalDateTime before) {
-        String sql = "DELETE FROM " + TABLE_NAME + " WHERE completed_at < ? AND status = ?";
-        return sqlQueryExecutor.update(sql, ResultSetMapper.toTimestamp(before),
+        String sql = "DELETE FROM " + TABLE_NAME + " WHERE completed_at < ? AND status = ? RETURNING payload_ref";
+        return payloadStore.deleteAndRelease(sql, ResultSetMapper.toTimestamp(before),
                                      Message.MessageStatus.COMPLETED.toString());
     }
 
+    @Override
+    public void deleteById(UUID id) {
+        payloadStore.deleteAndRelease("DELETE FROM " + TABLE_NAME + " WHERE id = ? RETURNING payload_ref", id);
+    }
+
+    @Override
+    public void deleteAll() {
+        payloadStore.deleteAndRelease("DELETE FROM " + TABLE_NAME + " RETURNING payload_ref");
+    }
+
     /**
      * Find messages for retry
      */
@@ -372,7 +432,7 @@ public class MessageSqlRepository extends BaseSqlRepository<Message, UUID> {
         String sql = buildSelectWithJoins() +
                      " WHERE m.status = 'RETRY' AND m.retry_count < ? " +
                      "ORDER BY m.priority DESC, m.retry_count ASC, m.received_at ASC";
-        return sqlQueryExecutor.queryForList(sql, MESSAGE_WITH_RELATIONSHIPS_ROW_MAPPER, maxRetryCount);
+        return sqlQueryExecutor.queryForList(sql, messageWithRelationshipsRowMapper, maxRetryCount);
     }
 
     /**
@@ -406,7 +466,7 @@ public class MessageSqlRepository extends BaseSqlRepository<Message, UUID> {
     public List<Message> findByStatusOrderByPriorityAndReceivedAt(Message.MessageStatus status) {
         String sql = buildSelectWithJoins() +
                      " WHERE m.status = ? ORDER BY m.priority DESC, m.received_at ASC";
-        return sqlQueryExecutor.queryForList(sql, MESSAGE_WITH_RELATIONSHIPS_ROW_MAPPER, status.toString());
+        return sqlQueryExecutor.queryForList(sql, messageWithRelationshipsRowMapper, status.toString());
     }
 
     /**
@@ -416,7 +476,7 @@ public class MessageSqlRepository extends BaseSqlRepository<Message, UUID> {
         String sql = buildSelectWithJoins() +
                      " WHERE m.received_at >= ? AND m.received_at <= ? " +
                      "ORDER BY m.received_at DESC";
-        return sqlQueryExecutor.queryForList(sql, MESSAGE_WITH_RELATIONSHIPS_ROW_MAPPER,
+        return sqlQueryExecutor.queryForList(sql, messageWithRelationshipsRowMapper,
                                            ResultSetMapper.toTimestamp(start),
                                            ResultSetMapper.toTimestamp(end));
     }
@@ -438,7 +498,7 @@ public class MessageSqlRepository extends BaseSqlRepository<Message, UUID> {
         String sql = baseSql + SqlPaginationHelper.buildOrderByClause(pageable.getSort()) +
                     SqlPaginationHelper.buildPaginationClause(pageable);
 
-        List<Message> messages = sqlQueryExecutor.queryForList(sql, MESSAGE_WITH_RELATIONSHIPS_ROW_MAPPER,
+        List<Message> messages = sqlQueryExecutor.queryForList(sql, messageWithRelationshipsRowMapper,
                                                              ResultSetMapper.toTimestamp(start),
                                                              ResultSetMapper.toTimestamp(end));
 
@@ -489,7 +549,7 @@ public class MessageSqlRepository extends BaseSqlRepository<Message, UUID> {
         String sql = "SELECT * FROM " + TABLE_NAME + " WHERE status IN (" + statusList + ") " +
                     "ORDER BY priority DESC, created_at ASC";
 
-        return sqlQueryExecutor.queryForList(sql, MESSAGE_ROW_MAPPER);
+        return sqlQueryExecutor.queryForList(sql, messageRowMapper);
     }
 
     /**
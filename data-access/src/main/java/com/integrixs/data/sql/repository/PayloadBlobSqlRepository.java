@@ -0,0 +1,290 @@
+package com.integrixs.data.sql.repository;
+
+import com.integrixs.data.model.PayloadBlob;
+import com.integrixs.data.sql.core.ResultSetMapper;
+import com.integrixs.data.sql.core.SqlQueryExecutor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.zip.Deflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Content - addressed, compressed payload store(claim - check).
+ * Payload bodies are stored once per SHA - 256 digest in payload_blobs, rows in messages and adapter_payloads
+ * only keep the digest as payload_ref. Each stored reference increments the blob's reference count and deleting
+ * a referencing row releases it; unreferenced blobs are removed by {@link #collectGarbage} after a grace period.
+ * Blobs are only created through {@link #store} and removed through reference counting, so the generic CRUD
+ * operations are deliberately not offered.
+ */
+@Repository("payloadBlobSqlRepository")
+public class PayloadBlobSqlRepository {
+
+    public static final String COMPRESSION_NONE = "NONE";
+    public static final String COMPRESSION_DEFLATE = "DEFLATE";
+
+    /**
+     * Payloads up to this many characters stay inline in the referencing row
+     */
+    public static final int INLINE_THRESHOLD = 4096;
+
+    /**
+     * Payloads smaller than this are stored uncompressed
+     */
+    private static final int MIN_COMPRESSION_SIZE = 512;
+
+    /**
+     * Row mapper for PayloadBlob entity(without content)
+     */
+    private static final RowMapper<PayloadBlob> PAYLOAD_BLOB_ROW_MAPPER = new RowMapper<PayloadBlob>() {
+        @Override
+        public PayloadBlob mapRow(ResultSet rs, int rowNum) throws SQLException {
+            PayloadBlob blob = new PayloadBlob();
+            blob.setDigest(ResultSetMapper.getString(rs, "digest"));
+            blob.setCompression(ResultSetMapper.getString(rs, "compression"));
+            blob.setOriginalSize(rs.getLong("original_size"));
+            blob.setStoredSize(rs.getLong("stored_size"));
+            blob.setRefCount(rs.getInt("ref_count"));
+            blob.setCreatedAt(ResultSetMapper.getLocalDateTime(rs, "created_at"));
+            blob.setLastReleasedAt(ResultSetMapper.getLocalDateTime(rs, "last_released_at"));
+            return blob;
+        }
+    };
+
+    /**
+     * Reads a payload stream, the stream is only valid while the reader runs
+     */
+    @FunctionalInterface
+    public interface PayloadReader<R> {
+        R read(InputStream content) throws IOException;
+    }
+
+    private final SqlQueryExecutor sqlQueryExecutor;
+
+    public PayloadBlobSqlRepository(SqlQueryExecutor sqlQueryExecutor) {
+        this.sqlQueryExecutor = sqlQueryExecutor;
+    }
+
+    public Optional<PayloadBlob> findById(String digest) {
+        String sql = "SELECT digest, compression, original_size, stored_size, ref_count, created_at, last_released_at " +
+                     "FROM payload_blobs WHERE digest = ?";
+        return sqlQueryExecutor.queryForObject(sql, PAYLOAD_BLOB_ROW_MAPPER, digest);
+    }
+
+    /**
+     * Whether a payload is large enough to be moved out of the referencing row
+     */
+    public boolean shouldOffload(String payload) {
+        return payload != null && payload.length() > INLINE_THRESHOLD;
+    }
+
+    /**
+     * Store a payload and take a reference on it
+     * @param payload Payload body
+     * @return Digest to keep as payload_ref
+     */
+    public String store(String payload) {
+        byte[] content = payload.getBytes(StandardCharsets.UTF_8);
+        String digest = digest(content);
+
+        // Known body: only take a reference, no compression work
+        String referenceSql = "UPDATE payload_blobs SET ref_count = ref_count + 1, last_released_at = NULL WHERE digest = ?";
+        if (sqlQueryExecutor.update(referenceSql, digest) > 0) {
+            return digest;
+        }
+
+        byte[] compressed = content.length >= MIN_COMPRESSION_SIZE ? deflate(content) : null;
+        boolean useCompression = compressed != null && compressed.length < content.length * 0.9;
+        byte[] stored = useCompression ? compressed : content;
+
+        // A concurrent writer may have inserted the same body in the meantime
+        String insertSql = "INSERT INTO payload_blobs (digest, compression, original_size, stored_size, content, ref_count, created_at) " +
+                           "VALUES (?, ?, ?, ?, ?, 1, ?) " +
+                           "ON CONFLICT (digest) DO UPDATE SET ref_count = payload_blobs.ref_count + 1, last_released_at = NULL";
+        sqlQueryExecutor.update(insertSql,
+            digest,
+            useCompression ? COMPRESSION_DEFLATE : COMPRESSION_NONE,
+            (long) content.length,
+            (long) stored.length,
+            stored,
+            ResultSetMapper.toTimestamp(LocalDateTime.now())
+        );
+        return digest;
+    }
+
+    /**
+     * Read a payload
+     * @param digest Payload reference
+     * @return Payload body, empty when the blob does not exist
+     */
+    public Optional<String> load(String digest) {
+        return read(digest, in -> new String(in.readAllBytes(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Lazy loader for a referenced payload, the body is only read when it is accessed
+     */
+    public Supplier<String> loader(String digest) {
+        return () -> load(digest).orElse(null);
+    }
+
+    /**
+     * Stream a payload to a reader. The content is read from the driver's binary stream and decompressed while it is
+     * read, on the connection of the query, so the stored bytes are never copied into an intermediate array.
+     * @param digest Payload reference
+     * @param reader Consumes the payload stream before the connection is released
+     * @return Reader result, empty when the blob does not exist
+     */
+    public <R> Optional<R> read(String digest, PayloadReader<R> reader) {
+        String sql = "SELECT compression, content FROM payload_blobs WHERE digest = ?";
+        return sqlQueryExecutor.getJdbcTemplate().query(sql, rs -> {
+            if (!rs.next()) {
+                return Optional.<R>empty();
+            }
+            boolean deflated = COMPRESSION_DEFLATE.equals(ResultSetMapper.getString(rs, "compression"));
+            InputStream content = rs.getBinaryStream("content");
+            if (content == null) {
+                return Optional.<R>empty();
+            }
+            try (InputStream in = deflated ? new InflaterInputStream(content) : content) {
+                return Optional.ofNullable(reader.read(in));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read payload " + digest, e);
+            }
+        }, digest);
+    }
+
+    /**
+     * Release one reference
+     * @param digest Payload reference
+     */
+    public void release(String digest) {
+        if (digest != null) {
+            release(Map.of(digest, 1L));
+        }
+    }
+
+    /**
+     * Release references in bulk
+     * @param counts Number of released references per digest
+     */
+    public void release(Map<String, Long> counts) {
+        if (counts.isEmpty()) {
+            return;
+        }
+        String sql = "UPDATE payload_blobs SET ref_count = GREATEST(ref_count - ?, 0), last_released_at = ? WHERE digest = ?";
+        java.sql.Timestamp now = ResultSetMapper.toTimestamp(LocalDateTime.now());
+        List<Object[]> batch = new ArrayList<>();
+        counts.forEach((digest, count) -> batch.add(new Object[] {count, now, digest}));
+        sqlQueryExecutor.batchUpdate(sql, batch);
+    }
+
+    /**
+     * Delete rows and release the payload references they held.
+     * @param deleteSql DELETE statement ending in RETURNING payload_ref
+     * @param params Statement parameters
+     * @return Number of deleted rows
+     */
+    public int deleteAndRelease(String deleteSql, Object... params) {
+        String sql = "WITH deleted AS (" + deleteSql + ") " +
+                     "SELECT payload_ref, COUNT(*) AS row_count FROM deleted GROUP BY payload_ref";
+        Map<String, Long> released = new HashMap<>();
+        long deleted = 0;
+        for (Object[] row : sqlQueryExecutor.queryForList(sql,
+                (rs, rowNum) -> new Object[] {rs.getString("payload_ref"), rs.getLong("row_count")}, params)) {
+            deleted += (Long) row[1];
+            if (row[0] != null) {
+                released.put((String) row[0], (Long) row[1]);
+            }
+        }
+        release(released);
+        return (int) deleted;
+    }
+
+    /**
+     * Remove blobs that have been unreferenced since before the given time.
+     * Blobs still referenced by a row are kept even when their reference count drifted to zero.
+     * @param releasedBefore End of the grace period
+     * @return Number of removed blobs
+     */
+    public int collectGarbage(LocalDateTime releasedBefore) {
+        String sql = "DELETE FROM payload_blobs b WHERE b.ref_count <= 0 AND b.last_released_at < ? " +
+                     "AND NOT EXISTS (SELECT 1 FROM messages m WHERE m.payload_ref = b.digest) " +
+                     "AND NOT EXISTS (SELECT 1 FROM adapter_payloads a WHERE a.payload_ref = b.digest)";
+        return sqlQueryExecutor.update(sql, ResultSetMapper.toTimestamp(releasedBefore));
+    }
+
+    /**
+     * Recompute reference counts from the referencing tables, e.g. after rows were deleted outside the repositories
+     * @return Number of corrected blobs
+     */
+    public int reconcileReferenceCounts() {
+        String sql = "UPDATE payload_blobs b SET ref_count = r.actual, " +
+                     "last_released_at = CASE WHEN r.actual = 0 THEN COALESCE(b.last_released_at, CURRENT_TIMESTAMP) ELSE b.last_released_at END " +
+                     "FROM (SELECT p.digest, " +
+                     "(SELECT COUNT(*) FROM messages m WHERE m.payload_ref = p.digest) + " +
+                     "(SELECT COUNT(*) FROM adapter_payloads a WHERE a.payload_ref = p.digest) AS actual " +
+                     "FROM payload_blobs p) r " +
+                     "WHERE b.digest = r.digest AND b.ref_count <> r.actual";
+        return sqlQueryExecutor.update(sql);
+    }
+
+    /**
+     * Store size statistics
+     */
+    public Map<String, Object> getStatistics() {
+        String sql = "SELECT COUNT(*) AS blob_count, COALESCE(SUM(original_size), 0) AS original_bytes, " +
+                     "COALESCE(SUM(stored_size), 0) AS stored_bytes, COALESCE(SUM(ref_count), 0) AS references " +
+                     "FROM payload_blobs";
+        return sqlQueryExecutor.queryForObject(sql, (rs, rowNum) -> {
+            Map<String, Object> statistics = new HashMap<>();
+            statistics.put("blobCount", rs.getLong("blob_count"));
+            statistics.put("originalBytes", rs.getLong("original_bytes"));
+            statistics.put("storedBytes", rs.getLong("stored_bytes"));
+            statistics.put("references", rs.getLong("references"));
+            return statistics;
+        }).orElseGet(HashMap::new);
+    }
+
+    private static String digest(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static byte[] deflate(byte[] content) {
+        // Fastest level: the goal is smaller rows and WAL, not maximum ratio
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(content);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, content.length / 2));
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+}
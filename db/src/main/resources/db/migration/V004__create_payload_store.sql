@@ -0,0 +1,25 @@
+-- Content-addressed payload store (claim-check)
+-- Message and adapter payload rows keep a digest reference, the body is stored once per digest
+
+CREATE TABLE IF NOT EXISTS payload_blobs (
+    digest VARCHAR(64) PRIMARY KEY,
+    compression VARCHAR(20) NOT NULL DEFAULT 'NONE',
+    original_size BIGINT NOT NULL,
+    stored_size BIGINT NOT NULL,
+    content BYTEA NOT NULL,
+    ref_count INTEGER NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_released_at TIMESTAMP
+);
+
+-- Content is already compressed, skip TOAST compression but keep it out of line
+ALTER TABLE payload_blobs ALTER COLUMN content SET STORAGE EXTERNAL;
+
+-- Garbage collection only looks at unreferenced blobs
+CREATE INDEX IF NOT EXISTS idx_payload_blobs_unreferenced ON payload_blobs(last_released_at) WHERE ref_count <= 0;
+
+ALTER TABLE adapter_payloads ADD COLUMN IF NOT EXISTS payload_ref VARCHAR(64);
+ALTER TABLE messages ADD COLUMN IF NOT EXISTS payload_ref VARCHAR(64);
+
+CREATE INDEX IF NOT EXISTS idx_adapter_payloads_payload_ref ON adapter_payloads(payload_ref) WHERE payload_ref IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_messages_payload_ref ON messages(payload_ref) WHERE payload_ref IS NOT NULL;
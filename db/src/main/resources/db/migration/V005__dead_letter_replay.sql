@@ -0,0 +1,21 @@
+-- Dead letter replay
+-- Columns the dead letter queue service reads and writes, and keyset indexes for bulk replay scans
+
+ALTER TABLE dead_letter_messages ADD COLUMN IF NOT EXISTS message_id VARCHAR(255);
+ALTER TABLE dead_letter_messages ADD COLUMN IF NOT EXISTS error_type VARCHAR(50);
+ALTER TABLE dead_letter_messages ADD COLUMN IF NOT EXISTS source_system VARCHAR(255);
+ALTER TABLE dead_letter_messages ADD COLUMN IF NOT EXISTS target_system VARCHAR(255);
+ALTER TABLE dead_letter_messages ADD COLUMN IF NOT EXISTS queued_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP;
+ALTER TABLE dead_letter_messages ADD COLUMN IF NOT EXISTS retry_count INTEGER DEFAULT 0;
+ALTER TABLE dead_letter_messages ADD COLUMN IF NOT EXISTS last_retry_at TIMESTAMP;
+ALTER TABLE dead_letter_messages ADD COLUMN IF NOT EXISTS retry_message_id VARCHAR(255);
+ALTER TABLE dead_letter_messages ADD COLUMN IF NOT EXISTS failed_at TIMESTAMP;
+
+UPDATE dead_letter_messages SET queued_at = created_at WHERE queued_at IS NULL;
+
+-- Replay walks eligible entries in (queued_at, id) order, optionally per flow
+CREATE INDEX IF NOT EXISTS idx_dead_letter_messages_replay ON dead_letter_messages(queued_at, id)
+    WHERE status IN ('PENDING', 'FAILED', 'PROCESSING');
+CREATE INDEX IF NOT EXISTS idx_dead_letter_messages_flow_replay ON dead_letter_messages(flow_id, queued_at, id)
+    WHERE status IN ('PENDING', 'FAILED', 'PROCESSING');
+CREATE INDEX IF NOT EXISTS idx_dead_letter_messages_message_id ON dead_letter_messages(message_id);
@@ -0,0 +1,60 @@
+-- Background job claiming with leases
+-- Workers claim jobs with FOR UPDATE SKIP LOCKED, hold them under a renewable lease and are woken by NOTIFY
+
+CREATE TABLE IF NOT EXISTS background_jobs (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    name VARCHAR(255),
+    description TEXT,
+    job_type VARCHAR(100) NOT NULL,
+    status VARCHAR(50) NOT NULL DEFAULT 'PENDING',
+    parameters TEXT,
+    result TEXT,
+    error_message TEXT,
+    scheduled_at TIMESTAMP,
+    started_at TIMESTAMP,
+    completed_at TIMESTAMP,
+    progress INTEGER DEFAULT 0,
+    current_step VARCHAR(255),
+    created_by VARCHAR(255),
+    recurring BOOLEAN DEFAULT FALSE,
+    cron_expression VARCHAR(100),
+    retry_count INTEGER DEFAULT 0,
+    max_retries INTEGER DEFAULT 3,
+    stack_trace TEXT,
+    tenant_id UUID,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    created_by_username VARCHAR(255),
+    updated_by_username VARCHAR(255)
+);
+
+ALTER TABLE background_jobs ADD COLUMN IF NOT EXISTS current_step VARCHAR(255);
+ALTER TABLE background_jobs ADD COLUMN IF NOT EXISTS lease_owner VARCHAR(255);
+ALTER TABLE background_jobs ADD COLUMN IF NOT EXISTS lease_expires_at TIMESTAMP;
+
+-- Claim scan: runnable jobs in due order
+CREATE INDEX IF NOT EXISTS idx_background_jobs_claim ON background_jobs(COALESCE(scheduled_at, created_at))
+    WHERE status IN ('PENDING', 'RETRYING');
+-- Crash recovery: running jobs whose lease expired
+CREATE INDEX IF NOT EXISTS idx_background_jobs_lease ON background_jobs(lease_expires_at)
+    WHERE status = 'RUNNING';
+
+-- Wake workers when a job becomes runnable; notifications are delivered on commit and identical
+-- notifications of one transaction are collapsed, so a bulk insert wakes the workers once
+CREATE OR REPLACE FUNCTION notify_background_job() RETURNS TRIGGER AS $$
+BEGIN
+    IF NEW.status IN ('PENDING', 'RETRYING') THEN
+        PERFORM pg_notify('background_jobs', '');
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS background_jobs_notify ON background_jobs;
+CREATE TRIGGER background_jobs_notify AFTER INSERT OR UPDATE OF status, scheduled_at ON background_jobs
+    FOR EACH ROW EXECUTE FUNCTION notify_background_job();
+
+-- Jobs left RUNNING before leases existed have no lease and would never be claimed again;
+-- expire them so the next claim picks them up, or failExpiredLeases fails them without retries left
+UPDATE background_jobs SET lease_expires_at = CURRENT_TIMESTAMP
+    WHERE status = 'RUNNING' AND lease_expires_at IS NULL;
@@ -0,0 +1,59 @@
+-- Aggregate snapshots for event sourcing
+-- Rebuilds start from the latest snapshot and only replay the events stored after it
+
+CREATE TABLE IF NOT EXISTS event_store (
+    event_id UUID PRIMARY KEY,
+    aggregate_type VARCHAR(100) NOT NULL,
+    aggregate_id UUID NOT NULL,
+    aggregate_version BIGINT NOT NULL,
+    event_type VARCHAR(255) NOT NULL,
+    event_data TEXT NOT NULL,
+    event_metadata TEXT,
+    occurred_at TIMESTAMP NOT NULL,
+    triggered_by UUID,
+    stored_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    correlation_id UUID,
+    causation_id UUID
+);
+
+-- Tail replay after a snapshot is a range scan on the stream version
+CREATE INDEX IF NOT EXISTS idx_event_store_aggregate_version ON event_store(aggregate_id, aggregate_type, aggregate_version);
+
+-- Concurrent appends could store two events under the same version, renumber those streams in storage order
+UPDATE event_store e
+SET aggregate_version = r.new_version
+FROM (
+    SELECT event_id,
+           ROW_NUMBER() OVER (PARTITION BY aggregate_id ORDER BY aggregate_version, stored_at, event_id) AS new_version
+    FROM event_store
+    WHERE aggregate_id IN (
+        SELECT aggregate_id FROM event_store
+        GROUP BY aggregate_id, aggregate_version
+        HAVING COUNT(*) > 1
+    )
+) r
+WHERE e.event_id = r.event_id
+  AND e.aggregate_version <> r.new_version;
+
+-- One event per stream version, a losing writer retries with the next version
+DO $$
+BEGIN
+    IF NOT EXISTS (
+        SELECT 1 FROM pg_constraint WHERE conname = 'uq_event_store_aggregate_version'
+    ) THEN
+        ALTER TABLE event_store
+            ADD CONSTRAINT uq_event_store_aggregate_version UNIQUE (aggregate_id, aggregate_version);
+    END IF;
+END $$;
+
+CREATE TABLE IF NOT EXISTS aggregate_snapshots (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    aggregate_type VARCHAR(100) NOT NULL,
+    aggregate_id UUID NOT NULL,
+    aggregate_version BIGINT NOT NULL,
+    schema_version INTEGER NOT NULL DEFAULT 1,
+    snapshot_data TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    -- Also serves the latest snapshot lookup
+    CONSTRAINT uq_aggregate_snapshots_version UNIQUE (aggregate_id, aggregate_type, aggregate_version)
+);
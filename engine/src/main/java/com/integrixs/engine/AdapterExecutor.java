@@ -20,6 +20,12 @@ public interface AdapterExecutor {
      */
     Object fetchDataAsObject(String adapterId);
 
+    /**
+     * Fetch data from an adapter keeping large file content spooled on local disk(records carry contentPath
+     * instead of content). The caller owns the spool files and must release them with SpooledContent.release
+     */
+    Object fetchDataSpooled(String adapterId);
+
     /**
      * Send string data to an adapter
      */
@@ -9,6 +9,7 @@ import com.integrixs.adapters.domain.port.OutboundAdapterPort;
 import com.integrixs.adapters.domain.port.InboundAdapterPort;
 import com.integrixs.adapters.domain.port.StreamingAdapterPort;
 import com.integrixs.adapters.factory.AdapterFactoryManager;
+import com.integrixs.adapters.infrastructure.connection.SpooledContent;
 import com.integrixs.data.model.CommunicationAdapter;
 import com.integrixs.data.sql.repository.CommunicationAdapterSqlRepository;
 import com.integrixs.engine.AdapterExecutor;
@@ -50,6 +51,12 @@ public class AdapterExecutorImpl implements AdapterExecutor {
 
     @Override
     public Object fetchDataAsObject(String adapterId) {
+        // Callers expect the content in memory, spooled files are read back and deleted
+        return SpooledContent.inline(fetchDataSpooled(adapterId));
+    }
+
+    @Override
+    public Object fetchDataSpooled(String adapterId) {
         try {
             CommunicationAdapter adapter = getAdapter(adapterId);
             validateInboundAdapter(adapter);
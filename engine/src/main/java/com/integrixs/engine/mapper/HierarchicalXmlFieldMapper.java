@@ -4,6 +4,7 @@ import com.integrixs.data.model.FieldMapping;
 import com.integrixs.data.model.TransformationCustomFunction;
 import com.integrixs.data.sql.repository.TransformationCustomFunctionSqlRepository;
 import com.integrixs.engine.transformation.TransformationFunctionExecutor;
+import com.integrixs.shared.util.XmlToolkit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,12 +12,9 @@ import org.springframework.stereotype.Service;
 import org.w3c.dom.*;
 import org.xml.sax.InputSource;
 
-import javax.xml.namespace.NamespaceContext;
 import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
 import javax.xml.xpath.*;
@@ -58,9 +56,7 @@ public class HierarchicalXmlFieldMapper {
         logger.debug("Target template: {}", targetXmlTemplate);
 
         // Parse source XML
-        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-        factory.setNamespaceAware(true);
-        DocumentBuilder builder = factory.newDocumentBuilder();
+        DocumentBuilder builder = XmlToolkit.documentBuilder();
         Document sourceDoc = builder.parse(new InputSource(new StringReader(sourceXml)));
 
         // Create or parse target document
@@ -166,7 +162,7 @@ public class HierarchicalXmlFieldMapper {
         }
 
         // Create XPath with namespace support
-        XPath xpath = XPathFactory.newInstance().newXPath();
+        XPath xpath = XmlToolkit.xpath();
 
         // Use provided namespaces or defaults
         Map<String, String> effectiveNamespaces = new HashMap<>();
@@ -182,7 +178,8 @@ public class HierarchicalXmlFieldMapper {
             logger.warn("No namespaces provided, no defaults will be added");
         }
 
-        xpath.setNamespaceContext(new MapNamespaceContext(effectiveNamespaces));
+        // Value - equal context, so compiled expressions are reused across messages
+        xpath.setNamespaceContext(XmlToolkit.namespaces(effectiveNamespaces));
 
         // Process each field mapping
         for(int i = 0; i < fieldMappings.size(); i++) {
@@ -223,7 +220,7 @@ public class HierarchicalXmlFieldMapper {
         }
 
         // Evaluate source XPath - try with namespace prefix if direct path fails
-        XPathExpression sourceExpr = xpath.compile(sourceXPath);
+        XPathExpression sourceExpr = XmlToolkit.compile(sourceXPath, xpath.getNamespaceContext());
         Object sourceResult = sourceExpr.evaluate(sourceDoc, XPathConstants.NODESET);
         NodeList sourceNodes = (NodeList) sourceResult;
 
@@ -237,7 +234,7 @@ public class HierarchicalXmlFieldMapper {
             wildcardXPath = wildcardXPath.replaceAll("(?<!\\*\\[local - name\\(\\) = '[^']*'\\])/([^/\\[\\*] + )", "/*[local - name() = '$1']");
 
             logger.debug("No nodes found for ' {}', trying wildcard XPath: ' {}'", sourceXPath, wildcardXPath);
-            sourceExpr = xpath.compile(wildcardXPath);
+            sourceExpr = XmlToolkit.compile(wildcardXPath, xpath.getNamespaceContext());
             sourceResult = sourceExpr.evaluate(sourceDoc, XPathConstants.NODESET);
             sourceNodes = (NodeList) sourceResult;
         }
@@ -268,7 +265,7 @@ public class HierarchicalXmlFieldMapper {
         }
 
         // Get all items in the array
-        XPathExpression arrayExpr = xpath.compile(arrayContextPath);
+        XPathExpression arrayExpr = XmlToolkit.compile(arrayContextPath, xpath.getNamespaceContext());
         NodeList arrayNodes = (NodeList) arrayExpr.evaluate(sourceDoc, XPathConstants.NODESET);
 
         // Process each array item
@@ -276,7 +273,7 @@ public class HierarchicalXmlFieldMapper {
             Node arrayNode = arrayNodes.item(i);
 
             // Evaluate source XPath relative to array item
-            XPathExpression sourceExpr = xpath.compile(sourceXPath);
+            XPathExpression sourceExpr = XmlToolkit.compile(sourceXPath, xpath.getNamespaceContext());
             Object sourceResult = sourceExpr.evaluate(arrayNode, XPathConstants.NODESET);
             NodeList sourceNodes = (NodeList) sourceResult;
 
@@ -332,7 +329,7 @@ public class HierarchicalXmlFieldMapper {
         if(sourceField != null && (sourceField.startsWith("//") || sourceField.contains("/"))) {
             // It's an XPath expression
             logger.debug("Source is XPath expression: {}", sourceField);
-            XPathExpression sourceExpr = xpath.compile(sourceField);
+            XPathExpression sourceExpr = XmlToolkit.compile(sourceField, xpath.getNamespaceContext());
             NodeList sourceNodes = (NodeList) sourceExpr.evaluate(sourceDoc, XPathConstants.NODESET);
 
             if(sourceNodes.getLength() > 0) {
@@ -346,7 +343,7 @@ public class HierarchicalXmlFieldMapper {
         } else {
             // Try as element name
             logger.debug("Trying to extract value from element: {}", sourceField);
-            XPathExpression sourceExpr = xpath.compile("//" + sourceField);
+            XPathExpression sourceExpr = XmlToolkit.compile("//" + sourceField, xpath.getNamespaceContext());
             NodeList sourceNodes = (NodeList) sourceExpr.evaluate(sourceDoc, XPathConstants.NODESET);
 
             if(sourceNodes.getLength() > 0) {
@@ -356,7 +353,7 @@ public class HierarchicalXmlFieldMapper {
                 // Try with wildcard namespace if no prefix
                 String wildcardXPath = "//*[local - name() = '" + sourceField + "']";
                 logger.debug("No nodes found for ' {}', trying wildcard XPath: ' {}'", sourceField, wildcardXPath);
-                sourceExpr = xpath.compile(wildcardXPath);
+                sourceExpr = XmlToolkit.compile(wildcardXPath, xpath.getNamespaceContext());
                 sourceNodes = (NodeList) sourceExpr.evaluate(sourceDoc, XPathConstants.NODESET);
 
                 if(sourceNodes.getLength() > 0) {
@@ -457,7 +454,7 @@ public class HierarchicalXmlFieldMapper {
         logger.debug("Setting value ' {}' at XPath ' {}'", value, xpath);
 
         // First try to find existing node
-        XPathExpression expr = xpathEval.compile(xpath);
+        XPathExpression expr = XmlToolkit.compile(xpath, xpathEval.getNamespaceContext());
         NodeList nodes = (NodeList) expr.evaluate(doc, XPathConstants.NODESET);
 
         logger.debug("Found {} existing nodes for XPath ' {}'", nodes.getLength(), xpath);
@@ -487,7 +484,7 @@ public class HierarchicalXmlFieldMapper {
             String parentPath = xpath.substring(0, lastSlash);
 
             // Check if parent exists
-            XPathExpression expr = xpathEval.compile(parentPath);
+            XPathExpression expr = XmlToolkit.compile(parentPath, xpathEval.getNamespaceContext());
             NodeList nodes = (NodeList) expr.evaluate(doc, XPathConstants.NODESET);
 
             if(nodes.getLength() == 0) {
@@ -607,8 +604,7 @@ public class HierarchicalXmlFieldMapper {
     }
 
     private String documentToString(Document doc) throws Exception {
-        TransformerFactory transformerFactory = TransformerFactory.newInstance();
-        Transformer transformer = transformerFactory.newTransformer();
+        Transformer transformer = XmlToolkit.transformer();
         transformer.setOutputProperty(OutputKeys.INDENT, "yes");
         transformer.setOutputProperty(" {http://xml.apache.org/xslt}indent - amount", "2");
 
@@ -617,39 +613,4 @@ public class HierarchicalXmlFieldMapper {
 
         return writer.toString();
     }
-
-    /**
-     * Simple namespace context implementation using a map
-     */
-    private static class MapNamespaceContext implements NamespaceContext {
-        private final Map<String, String> prefixToUri;
-        private final Map<String, String> uriToPrefix;
-
-        public MapNamespaceContext(Map<String, String> namespaces) {
-            this.prefixToUri = new HashMap<>(namespaces);
-            this.uriToPrefix = new HashMap<>();
-            for(Map.Entry<String, String> entry : namespaces.entrySet()) {
-                uriToPrefix.put(entry.getValue(), entry.getKey());
-            }
-        }
-
-        @Override
-        public String getNamespaceURI(String prefix) {
-            return prefixToUri.get(prefix);
-        }
-
-        @Override
-        public String getPrefix(String namespaceURI) {
-            return uriToPrefix.get(namespaceURI);
-        }
-
-        @Override
-        public Iterator<String> getPrefixes(String namespaceURI) {
-            String prefix = getPrefix(namespaceURI);
-            if(prefix == null) {
-                return Collections.emptyIterator();
-            }
-            return Collections.singletonList(prefix).iterator();
-        }
-    }
 }
@@ -2,6 +2,7 @@ package com.integrixs.engine.service;
 
 import com.integrixs.data.model.CommunicationAdapter;
 import com.integrixs.engine.xml.*;
+import com.integrixs.shared.util.JsonCodec;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -17,7 +18,7 @@ import java.util.Map;
 @Service
 public class FormatConversionService {
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectMapper objectMapper = JsonCodec.mapper();
 
     @Autowired
     private JsonToXmlConverter jsonToXmlConverter;
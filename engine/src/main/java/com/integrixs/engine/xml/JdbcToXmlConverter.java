@@ -1,13 +1,12 @@
 package com.integrixs.engine.xml;
 
 import com.integrixs.shared.dto.adapter.XmlMappingConfig;
+import com.integrixs.shared.util.XmlToolkit;
 import org.springframework.stereotype.Service;
 
 import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
 import org.w3c.dom.Document;
@@ -74,9 +73,7 @@ public class JdbcToXmlConverter implements XmlConversionService {
 
     private String createXmlDocument(List<Map<String, Object>> rows, XmlMappingConfig config)
             throws Exception {
-        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-        factory.setNamespaceAware(true);
-        DocumentBuilder builder = factory.newDocumentBuilder();
+        DocumentBuilder builder = XmlToolkit.documentBuilder();
         Document doc = builder.newDocument();
 
         // Create root element
@@ -196,8 +193,7 @@ public class JdbcToXmlConverter implements XmlConversionService {
 
     private String transformDocumentToString(Document doc, XmlMappingConfig config)
             throws Exception {
-        TransformerFactory transformerFactory = TransformerFactory.newInstance();
-        Transformer transformer = transformerFactory.newTransformer();
+        Transformer transformer = XmlToolkit.transformer();
 
         // Set output properties
         if(config.isIncludeXmlDeclaration()) {
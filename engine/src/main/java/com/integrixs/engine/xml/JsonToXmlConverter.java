@@ -5,13 +5,13 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.integrixs.shared.dto.adapter.JsonXmlWrapperConfig;
+import com.integrixs.shared.util.JsonCodec;
+import com.integrixs.shared.util.XmlToolkit;
 import org.springframework.stereotype.Service;
 
 import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
 import org.w3c.dom.Document;
@@ -27,7 +27,7 @@ import java.util.Map;
 @Service
 public class JsonToXmlConverter implements XmlConversionService {
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectMapper objectMapper = JsonCodec.mapper();
 
     private String ensureValidXmlElementName(String name) {
         // Handle null or empty names
@@ -79,16 +79,12 @@ public class JsonToXmlConverter implements XmlConversionService {
             } else if(data instanceof JsonNode) {
                 jsonNode = (JsonNode) data;
             } else {
-                // Configure ObjectMapper to preserve order if data is LinkedHashMap
-                ObjectMapper orderPreservingMapper = new ObjectMapper();
-                orderPreservingMapper.configure(com.fasterxml.jackson.databind.MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, false);
-                jsonNode = orderPreservingMapper.valueToTree(data);
+                // The shared mapper does not sort properties, so LinkedHashMap order is preserved
+                jsonNode = objectMapper.valueToTree(data);
             }
 
             // Create XML document
-            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-            factory.setNamespaceAware(true);
-            DocumentBuilder builder = factory.newDocumentBuilder();
+            DocumentBuilder builder = XmlToolkit.documentBuilder();
             Document doc = builder.newDocument();
 
             // Create root element with namespace
@@ -251,8 +247,7 @@ public class JsonToXmlConverter implements XmlConversionService {
 
     private String transformDocumentToString(Document doc, JsonXmlWrapperConfig config)
             throws Exception {
-        TransformerFactory transformerFactory = TransformerFactory.newInstance();
-        Transformer transformer = transformerFactory.newTransformer();
+        Transformer transformer = XmlToolkit.transformer();
 
         // Set output properties
         if(config.isIncludeXmlDeclaration()) {
@@ -1,5 +1,6 @@
 package com.integrixs.engine.xml;
 
+import com.integrixs.shared.util.XmlToolkit;
 import org.springframework.stereotype.Service;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -8,7 +9,6 @@ import org.w3c.dom.NodeList;
 import org.xml.sax.InputSource;
 
 import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.text.DecimalFormat;
@@ -132,9 +132,7 @@ public class XmlToCsvConverter {
     public String convertToCsv(String xmlContent, CsvGenerationConfig config) throws XmlConversionException {
         try {
             // Parse XML
-            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-            factory.setNamespaceAware(true);
-            DocumentBuilder builder = factory.newDocumentBuilder();
+            DocumentBuilder builder = XmlToolkit.documentBuilder();
             Document doc = builder.parse(new InputSource(new StringReader(xmlContent)));
 
             Element rootElement = doc.getDocumentElement();
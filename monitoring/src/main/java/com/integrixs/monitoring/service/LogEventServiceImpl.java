@@ -6,6 +6,7 @@ import com.integrixs.data.model.SystemLog;
 import com.integrixs.monitoring.model.LogLevel;
 import com.integrixs.monitoring.model.LogSource;
 import com.integrixs.data.sql.repository.SystemLogSqlRepository;
+import com.integrixs.shared.util.JsonCodec;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -22,7 +23,7 @@ public class LogEventServiceImpl implements LogEventService {
     @Autowired
     private SystemLogSqlRepository systemLogRepository;
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectMapper objectMapper = JsonCodec.mapper();
 
     @Override
     public void logEvent(
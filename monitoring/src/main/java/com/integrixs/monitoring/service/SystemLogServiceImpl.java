@@ -14,6 +14,7 @@ import com.integrixs.data.model.SystemLog;
 import com.integrixs.monitoring.model.UserManagementError;
 import com.integrixs.monitoring.repository.UserManagementErrorRepository;
 import com.integrixs.data.sql.repository.SystemLogSqlRepository;
+import com.integrixs.shared.util.JsonCodec;
 
 @Service
 /**
@@ -23,7 +24,7 @@ public class SystemLogServiceImpl implements SystemLogService {
 
     private final SystemLogSqlRepository systemLogRepository;
     private final UserManagementErrorRepository userManagementErrorRepository;
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectMapper objectMapper = JsonCodec.mapper();
 
     @Autowired
     public SystemLogServiceImpl(SystemLogSqlRepository systemLogRepository,
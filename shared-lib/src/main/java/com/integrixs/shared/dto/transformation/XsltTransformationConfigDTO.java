@@ -0,0 +1,36 @@
+package com.integrixs.shared.dto.transformation;
+
+import java.util.Map;
+
+/**
+ * DTO for XsltTransformationConfigDTO.
+ * Encapsulates data for transport between layers.
+ */
+public class XsltTransformationConfigDTO {
+
+    /**
+     * The XSLT stylesheet source.
+     */
+    private String stylesheet;
+
+    /**
+     * Stylesheet parameters(xsl:param) passed to each transformation.
+     */
+    private Map<String, Object> parameters;
+
+    public String getStylesheet() {
+        return stylesheet;
+    }
+
+    public void setStylesheet(String stylesheet) {
+        this.stylesheet = stylesheet;
+    }
+
+    public Map<String, Object> getParameters() {
+        return parameters;
+    }
+
+    public void setParameters(Map<String, Object> parameters) {
+        this.parameters = parameters;
+    }
+}
@@ -47,6 +47,13 @@ public interface RateLimiterService {
      */
     RateLimitResult getRateLimitStatus(String rateLimiterName);
 
+    /**
+     * Get the current rate limit status without consuming a permit
+     * @param rateLimiterName The name of the rate limiter
+     * @return RateLimitResult with current status
+     */
+    RateLimitResult peekRateLimitStatus(String rateLimiterName);
+
     /**
      * Acquire a permit from the rate limiter, blocking if necessary
      * @param rateLimiterName The name of the rate limiter
@@ -0,0 +1,200 @@
+package com.integrixs.shared.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared JSON codec of all modules.
+ * One pre - configured ObjectMapper, so serializer and deserializer caches stay warm and settings are the same
+ * everywhere, plus cached immutable readers and writers per type. Use {@link #mapper()} instead of creating
+ * mappers; it must not be reconfigured, code that needs different settings takes a copy from {@link #newMapper()}.
+ *
+ * <p>Settings: java.time and Optional support(when the modules are on the classpath). Dates keep Jackson's
+ * default timestamp format, the wire format of the plain ObjectMappers this replaces; code that writes ISO
+ * dates disables WRITE_DATES_AS_TIMESTAMPS on a {@link #newMapper()} copy.
+ * The Blackbird bytecode module, or Afterburner as fallback, is registered when present on the classpath.
+ */
+public final class JsonCodec {
+
+    private static final String[] OPTIONAL_MODULES = {
+        "com.fasterxml.jackson.datatype.jsr310.JavaTimeModule",
+        "com.fasterxml.jackson.datatype.jdk8.Jdk8Module"
+    };
+
+    private static final String[] ACCELERATION_MODULES = {
+        "com.fasterxml.jackson.module.blackbird.BlackbirdModule",
+        "com.fasterxml.jackson.module.afterburner.AfterburnerModule"
+    };
+
+    private static final ObjectMapper MAPPER = configure(new ObjectMapper());
+
+    private static final Map<JavaType, ObjectReader> READERS = new ConcurrentHashMap<>();
+    private static final Map<JavaType, ObjectWriter> WRITERS = new ConcurrentHashMap<>();
+    private static final ObjectWriter WRITER = MAPPER.writer();
+    private static final ObjectWriter PRETTY_WRITER = MAPPER.writerWithDefaultPrettyPrinter();
+
+    private JsonCodec() {
+    }
+
+    /**
+     * Apply the shared settings to a mapper
+     */
+    public static ObjectMapper configure(ObjectMapper mapper) {
+        for(String module : OPTIONAL_MODULES) {
+            registerIfPresent(mapper, module);
+        }
+        for(String module : ACCELERATION_MODULES) {
+            if(registerIfPresent(mapper, module)) {
+                break;
+            }
+        }
+        return mapper;
+    }
+
+    private static boolean registerIfPresent(ObjectMapper mapper, String className) {
+        try {
+            Class<?> moduleClass = Class.forName(className, true, JsonCodec.class.getClassLoader());
+            mapper.registerModule((Module) moduleClass.getDeclaredConstructor().newInstance());
+            return true;
+        } catch(ReflectiveOperationException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * The shared mapper; do not reconfigure it
+     */
+    public static ObjectMapper mapper() {
+        return MAPPER;
+    }
+
+    /**
+     * A new mapper with the shared settings, for code that needs to change them
+     */
+    public static ObjectMapper newMapper() {
+        return MAPPER.copy();
+    }
+
+    public static JsonFactory factory() {
+        return MAPPER.getFactory();
+    }
+
+    /**
+     * Cached reader for a type
+     */
+    public static ObjectReader reader(Class<?> type) {
+        return reader(MAPPER.constructType(type));
+    }
+
+    /**
+     * Cached reader for a generic type; keep the TypeReference in a constant on hot paths
+     */
+    public static ObjectReader reader(TypeReference<?> type) {
+        return reader(MAPPER.getTypeFactory().constructType(type));
+    }
+
+    public static ObjectReader reader(JavaType type) {
+        return READERS.computeIfAbsent(type, MAPPER::readerFor);
+    }
+
+    public static ObjectWriter writer() {
+        return WRITER;
+    }
+
+    /**
+     * Cached writer for a declared type, skips the per - call type lookup of the untyped writer
+     */
+    public static ObjectWriter writer(Class<?> type) {
+        return WRITERS.computeIfAbsent(MAPPER.constructType(type), MAPPER::writerFor);
+    }
+
+    public static ObjectWriter prettyWriter() {
+        return PRETTY_WRITER;
+    }
+
+    public static String toJson(Object value) {
+        try {
+            return WRITER.writeValueAsString(value);
+        } catch(IOException e) {
+            throw new RuntimeException("Failed to convert object to JSON", e);
+        }
+    }
+
+    public static byte[] toBytes(Object value) {
+        try {
+            return WRITER.writeValueAsBytes(value);
+        } catch(IOException e) {
+            throw new RuntimeException("Failed to convert object to JSON", e);
+        }
+    }
+
+    public static <T> T fromJson(String json, Class<T> type) {
+        try {
+            return reader(type).readValue(json);
+        } catch(IOException e) {
+            throw new RuntimeException("Failed to parse JSON", e);
+        }
+    }
+
+    public static <T> T fromJson(String json, TypeReference<T> type) {
+        try {
+            return reader(type).readValue(json);
+        } catch(IOException e) {
+            throw new RuntimeException("Failed to parse JSON", e);
+        }
+    }
+
+    public static JsonNode readTree(String json) {
+        try {
+            return MAPPER.readTree(json);
+        } catch(IOException e) {
+            throw new RuntimeException("Failed to parse JSON", e);
+        }
+    }
+
+    // Streaming helpers for large payloads, nothing is buffered as a whole
+
+    /**
+     * Serialize directly to a stream; the stream is not closed
+     */
+    public static void writeTo(OutputStream out, Object value) throws IOException {
+        try(JsonGenerator generator = createGenerator(out)) {
+            WRITER.writeValue(generator, value);
+        }
+    }
+
+    /**
+     * Read a stream of values, either concatenated / line - delimited or the elements of a top - level array
+     */
+    public static <T> MappingIterator<T> readValues(InputStream in, Class<T> type) throws IOException {
+        return reader(type).readValues(in);
+    }
+
+    public static JsonParser createParser(InputStream in) throws IOException {
+        return MAPPER.getFactory().createParser(in);
+    }
+
+    /**
+     * Generator that leaves the target stream open when closed
+     */
+    public static JsonGenerator createGenerator(OutputStream out) throws IOException {
+        JsonGenerator generator = MAPPER.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        return generator;
+    }
+}
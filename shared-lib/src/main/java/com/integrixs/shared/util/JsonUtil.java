@@ -1,33 +1,22 @@
 package com.integrixs.shared.util;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 /**
  * Class JsonUtil - auto - generated documentation.
+ * Delegates to the shared {@link JsonCodec}.
  */
 public class JsonUtil {
-    private static final ObjectMapper objectMapper = new ObjectMapper();
 
     /**
      * Method: {()
      */
     public static String toJson(Object obj) {
-        try {
-            return objectMapper.writeValueAsString(obj);
-        } catch(JsonProcessingException e) {
-            throw new RuntimeException("Failed to convert object to JSON", e);
-        }
+        return JsonCodec.toJson(obj);
     }
 
     /**
      * Method: {()
      */
     public static <T> T fromJson(String json, Class<T> clazz) {
-        try {
-            return objectMapper.readValue(json, clazz);
-        } catch(Exception e) {
-            throw new RuntimeException("Failed to parse JSON", e);
-        }
+        return JsonCodec.fromJson(json, clazz);
     }
 }
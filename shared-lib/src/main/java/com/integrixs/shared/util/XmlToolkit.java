@@ -0,0 +1,413 @@
+package com.integrixs.shared.util;
+
+import org.w3c.dom.Document;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+
+import javax.xml.XMLConstants;
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLEventFactory;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.transform.Source;
+import javax.xml.transform.Templates;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerConfigurationException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import javax.xml.xpath.XPathFactoryConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Shared XML toolkit of all modules.
+ * JAXP factories are looked up and hardened against XXE once: no external entities, DTDs, schemas or
+ * stylesheets and secure processing(entity expansion limits) on. Document builders, transformers and XPath
+ * objects are not thread - safe, so they are kept per thread and reset on every hand - out; use them right
+ * away and do not hold them across calls. Compiled XPath expressions are cached per thread in a bounded LRU map
+ * keyed by expression and namespace context, compiled schemas in a shared bounded map keyed by their source.
+ */
+public final class XmlToolkit {
+
+    private static final int MAX_CACHED_EXPRESSIONS = 512;
+    private static final int MAX_CACHED_SCHEMAS = 64;
+
+    private static final DocumentBuilderFactory NAMESPACE_AWARE_FACTORY = createDocumentBuilderFactory(true);
+    private static final DocumentBuilderFactory PLAIN_FACTORY = createDocumentBuilderFactory(false);
+    private static final TransformerFactory TRANSFORMER_FACTORY = createTransformerFactory();
+    private static final XPathFactory XPATH_FACTORY = createXPathFactory();
+    private static final SchemaFactory SCHEMA_FACTORY = createSchemaFactory();
+    private static final XMLInputFactory INPUT_FACTORY = newInputFactory();
+    private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newInstance();
+    private static final XMLEventFactory EVENT_FACTORY = XMLEventFactory.newInstance();
+
+    private static final ThreadLocal<DocumentBuilder> NAMESPACE_AWARE_BUILDER = new ThreadLocal<>();
+    private static final ThreadLocal<DocumentBuilder> PLAIN_BUILDER = new ThreadLocal<>();
+    private static final ThreadLocal<Transformer> TRANSFORMER = new ThreadLocal<>();
+    private static final ThreadLocal<XPath> XPATH = new ThreadLocal<>();
+    // Separate instance, so compiling never changes the context of an XPath object handed out by xpath()
+    private static final ThreadLocal<XPath> XPATH_COMPILER = new ThreadLocal<>();
+    private static final ThreadLocal<Map<ExpressionKey, XPathExpression>> EXPRESSIONS =
+        ThreadLocal.withInitial(() -> new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ExpressionKey, XPathExpression> eldest) {
+                return size() > MAX_CACHED_EXPRESSIONS;
+            }
+        });
+
+    private static final Map<String, Schema> SCHEMAS = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Schema> eldest) {
+            return size() > MAX_CACHED_SCHEMAS;
+        }
+    };
+
+    private static final LongAdder expressionHits = new LongAdder();
+    private static final LongAdder expressionMisses = new LongAdder();
+    private static final LongAdder schemaHits = new LongAdder();
+    private static final LongAdder schemaMisses = new LongAdder();
+
+    private XmlToolkit() {
+    }
+
+    // DOM
+
+    /**
+     * Namespace aware document builder of the current thread
+     */
+    public static DocumentBuilder documentBuilder() throws ParserConfigurationException {
+        return documentBuilder(true);
+    }
+
+    /**
+     * Document builder of the current thread; without namespace awareness elements only have qualified names
+     */
+    public static DocumentBuilder documentBuilder(boolean namespaceAware) throws ParserConfigurationException {
+        ThreadLocal<DocumentBuilder> holder = namespaceAware ? NAMESPACE_AWARE_BUILDER : PLAIN_BUILDER;
+        DocumentBuilder builder = holder.get();
+        if(builder == null) {
+            DocumentBuilderFactory factory = namespaceAware ? NAMESPACE_AWARE_FACTORY : PLAIN_FACTORY;
+            // Factories are not thread - safe, this only runs once per thread
+            synchronized(factory) {
+                builder = factory.newDocumentBuilder();
+            }
+            holder.set(builder);
+        } else {
+            // Drops error handlers and entity resolvers set by the previous user
+            builder.reset();
+        }
+        return builder;
+    }
+
+    /**
+     * Parse a namespace aware document
+     */
+    public static Document parse(String xml) throws ParserConfigurationException, SAXException, IOException {
+        return documentBuilder().parse(new InputSource(new StringReader(xml)));
+    }
+
+    public static Document parse(InputStream in) throws ParserConfigurationException, SAXException, IOException {
+        return documentBuilder().parse(in);
+    }
+
+    /**
+     * New empty namespace aware document
+     */
+    public static Document newDocument() throws ParserConfigurationException {
+        return documentBuilder().newDocument();
+    }
+
+    // Transformation
+
+    /**
+     * Identity transformer of the current thread, with its output properties reset
+     */
+    public static Transformer transformer() throws TransformerConfigurationException {
+        Transformer transformer = TRANSFORMER.get();
+        if(transformer == null) {
+            synchronized(TRANSFORMER_FACTORY) {
+                transformer = TRANSFORMER_FACTORY.newTransformer();
+            }
+            TRANSFORMER.set(transformer);
+        } else {
+            transformer.reset();
+        }
+        return transformer;
+    }
+
+    /**
+     * Compile a stylesheet; the returned templates are thread - safe and should be cached by the caller
+     */
+    public static Templates newTemplates(Source stylesheet) throws TransformerConfigurationException {
+        synchronized(TRANSFORMER_FACTORY) {
+            return TRANSFORMER_FACTORY.newTemplates(stylesheet);
+        }
+    }
+
+    // XPath
+
+    /**
+     * XPath object of the current thread, without namespace context
+     */
+    public static XPath xpath() {
+        return xpath(null);
+    }
+
+    /**
+     * XPath object of the current thread bound to a namespace context
+     */
+    public static XPath xpath(NamespaceContext namespaceContext) {
+        return xpath(XPATH, namespaceContext);
+    }
+
+    private static XPath xpath(ThreadLocal<XPath> holder, NamespaceContext namespaceContext) {
+        XPath xpath = holder.get();
+        if(xpath == null) {
+            synchronized(XPATH_FACTORY) {
+                xpath = XPATH_FACTORY.newXPath();
+            }
+            holder.set(xpath);
+        } else {
+            xpath.reset();
+        }
+        if(namespaceContext != null) {
+            xpath.setNamespaceContext(namespaceContext);
+        }
+        return xpath;
+    }
+
+    /**
+     * Compiled expression from the cache of the current thread
+     */
+    public static XPathExpression compile(String expression) throws XPathExpressionException {
+        return compile(expression, null);
+    }
+
+    /**
+     * Compiled expression from the cache of the current thread.
+     * The namespace context is part of the key, pass contexts with value equality such as {@link #namespaces(Map)}
+     * or reuse the same instance, otherwise every call compiles again.
+     */
+    public static XPathExpression compile(String expression, NamespaceContext namespaceContext)
+            throws XPathExpressionException {
+        Map<ExpressionKey, XPathExpression> cache = EXPRESSIONS.get();
+        ExpressionKey key = new ExpressionKey(expression, namespaceContext);
+        XPathExpression compiled = cache.get(key);
+        if(compiled != null) {
+            expressionHits.increment();
+            return compiled;
+        }
+        expressionMisses.increment();
+        compiled = xpath(XPATH_COMPILER, namespaceContext).compile(expression);
+        cache.put(key, compiled);
+        return compiled;
+    }
+
+    /**
+     * Namespace context of prefix to URI mappings, equal to any other context of the same mappings
+     */
+    public static NamespaceContext namespaces(Map<String, String> prefixToUri) {
+        return new MapNamespaceContext(prefixToUri);
+    }
+
+    // Schema validation
+
+    /**
+     * Compiled schema of an XSD, cached by its content; schemas are thread - safe, validators are not
+     */
+    public static Schema schema(String xsdContent) throws SAXException {
+        synchronized(SCHEMAS) {
+            Schema schema = SCHEMAS.get(xsdContent);
+            if(schema != null) {
+                schemaHits.increment();
+                return schema;
+            }
+        }
+        schemaMisses.increment();
+        Schema schema = newSchema(new StreamSource(new StringReader(xsdContent)));
+        synchronized(SCHEMAS) {
+            SCHEMAS.put(xsdContent, schema);
+        }
+        return schema;
+    }
+
+    /**
+     * Compile a schema without caching it
+     */
+    public static Schema newSchema(Source source) throws SAXException {
+        synchronized(SCHEMA_FACTORY) {
+            return SCHEMA_FACTORY.newSchema(source);
+        }
+    }
+
+    // StAX
+
+    /**
+     * Shared hardened StAX input factory; do not change its properties
+     */
+    public static XMLInputFactory inputFactory() {
+        return INPUT_FACTORY;
+    }
+
+    /**
+     * New hardened StAX input factory, for code that needs different properties
+     */
+    public static XMLInputFactory newInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    public static XMLOutputFactory outputFactory() {
+        return OUTPUT_FACTORY;
+    }
+
+    public static XMLEventFactory eventFactory() {
+        return EVENT_FACTORY;
+    }
+
+    public static Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("xpath_cache_hits", expressionHits.sum());
+        stats.put("xpath_cache_misses", expressionMisses.sum());
+        stats.put("schema_cache_hits", schemaHits.sum());
+        stats.put("schema_cache_misses", schemaMisses.sum());
+        synchronized(SCHEMAS) {
+            stats.put("cached_schemas", SCHEMAS.size());
+        }
+        return stats;
+    }
+
+    // Factory setup
+
+    private static DocumentBuilderFactory createDocumentBuilderFactory(boolean namespaceAware) {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(namespaceAware);
+        factory.setXIncludeAware(false);
+        setFeature(factory, XMLConstants.FEATURE_SECURE_PROCESSING, true);
+        setFeature(factory, "http://xml.org/sax/features/external-general-entities", false);
+        setFeature(factory, "http://xml.org/sax/features/external-parameter-entities", false);
+        setFeature(factory, "http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
+        setAttribute(factory, XMLConstants.ACCESS_EXTERNAL_DTD);
+        setAttribute(factory, XMLConstants.ACCESS_EXTERNAL_SCHEMA);
+        return factory;
+    }
+
+    private static void setFeature(DocumentBuilderFactory factory, String feature, boolean value) {
+        try {
+            factory.setFeature(feature, value);
+        } catch(ParserConfigurationException e) {
+            // Not supported by this parser implementation, the other settings still apply
+        }
+    }
+
+    private static void setAttribute(DocumentBuilderFactory factory, String attribute) {
+        try {
+            factory.setAttribute(attribute, "");
+        } catch(IllegalArgumentException e) {
+            // Not supported by this parser implementation
+        }
+    }
+
+    private static TransformerFactory createTransformerFactory() {
+        TransformerFactory factory = TransformerFactory.newInstance();
+        try {
+            factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+        } catch(TransformerConfigurationException e) {
+            // Not supported by this transformer implementation
+        }
+        try {
+            factory.setAttribute(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+            factory.setAttribute(XMLConstants.ACCESS_EXTERNAL_STYLESHEET, "");
+        } catch(IllegalArgumentException e) {
+            // Not supported by this transformer implementation
+        }
+        return factory;
+    }
+
+    private static XPathFactory createXPathFactory() {
+        XPathFactory factory = XPathFactory.newInstance();
+        try {
+            factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+        } catch(XPathFactoryConfigurationException e) {
+            // Not supported by this XPath implementation
+        }
+        return factory;
+    }
+
+    private static SchemaFactory createSchemaFactory() {
+        SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+        try {
+            factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            factory.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+            factory.setProperty(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
+        } catch(SAXException e) {
+            // Not supported by this schema implementation
+        }
+        return factory;
+    }
+
+    private record ExpressionKey(String expression, NamespaceContext namespaceContext) {
+    }
+
+    /**
+     * Namespace context backed by a map, with value equality so it can be part of cache keys
+     */
+    private static final class MapNamespaceContext implements NamespaceContext {
+        private final Map<String, String> prefixToUri;
+
+        private MapNamespaceContext(Map<String, String> prefixToUri) {
+            this.prefixToUri = new HashMap<>(prefixToUri);
+        }
+
+        @Override
+        public String getNamespaceURI(String prefix) {
+            return prefixToUri.get(prefix);
+        }
+
+        @Override
+        public String getPrefix(String namespaceURI) {
+            for(Map.Entry<String, String> entry : prefixToUri.entrySet()) {
+                if(Objects.equals(entry.getValue(), namespaceURI)) {
+                    return entry.getKey();
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public Iterator<String> getPrefixes(String namespaceURI) {
+            String prefix = getPrefix(namespaceURI);
+            return prefix != null ? Collections.singletonList(prefix).iterator() : Collections.emptyIterator();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof MapNamespaceContext
+                && prefixToUri.equals(((MapNamespaceContext) other).prefixToUri);
+        }
+
+        @Override
+        public int hashCode() {
+            return prefixToUri.hashCode();
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.integrixs.adapters.factory.AdapterFactoryManager;
 import com.integrixs.adapters.config.SoapOutboundAdapterConfig;
 import com.integrixs.adapters.domain.model.SendRequest;
 import com.integrixs.adapters.domain.model.AdapterConfiguration;
+import com.integrixs.shared.util.XmlToolkit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.ws.server.endpoint.annotation.Endpoint;
@@ -16,7 +17,6 @@ import org.springframework.ws.server.endpoint.annotation.ResponsePayload;
 import javax.xml.transform.Source;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import java.util.UUID;
@@ -108,9 +108,7 @@ public class InboundSoapEndpoint {
      */
     private Source createSuccessResponse(String message) {
         try {
-            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-            factory.setNamespaceAware(true);
-            DocumentBuilder builder = factory.newDocumentBuilder();
+            DocumentBuilder builder = XmlToolkit.documentBuilder();
             Document document = builder.newDocument();
 
             Element responseElement = document.createElementNS(NAMESPACE_URI, "InboundSoapResponse");
@@ -135,9 +133,7 @@ public class InboundSoapEndpoint {
      */
     private Source createErrorResponse(String errorMessage) {
         try {
-            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-            factory.setNamespaceAware(true);
-            DocumentBuilder builder = factory.newDocumentBuilder();
+            DocumentBuilder builder = XmlToolkit.documentBuilder();
             Document document = builder.newDocument();
 
             Element responseElement = document.createElementNS(NAMESPACE_URI, "InboundSoapResponse");
@@ -2,6 +2,7 @@ package com.integrixs.webclient.infrastructure.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import com.integrixs.shared.util.JsonCodec;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -18,7 +19,7 @@ public class MessageTransformer {
     private final XmlMapper xmlMapper;
 
     public MessageTransformer() {
-        this.jsonMapper = new ObjectMapper();
+        this.jsonMapper = JsonCodec.mapper();
         this.xmlMapper = new XmlMapper();
     }
 
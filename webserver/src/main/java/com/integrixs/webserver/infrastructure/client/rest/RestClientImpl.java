@@ -1,6 +1,7 @@
 package com.integrixs.webserver.infrastructure.client.rest;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.integrixs.shared.util.JsonCodec;
 import com.integrixs.webserver.domain.model.OutboundRequest;
 import com.integrixs.webserver.domain.model.OutboundResponse;
 import org.slf4j.Logger;
@@ -32,7 +33,7 @@ public class RestClientImpl {
 
     public RestClientImpl() {
         this.restTemplate = createRestTemplate();
-        this.objectMapper = new ObjectMapper();
+        this.objectMapper = JsonCodec.mapper();
     }
 
     /**